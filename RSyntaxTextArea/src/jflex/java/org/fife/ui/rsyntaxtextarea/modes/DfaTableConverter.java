@@ -0,0 +1,516 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.modes;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+
+/**
+ * Moves the DFA tables of a JFlex-generated token maker into a
+ * <code>.dfa</code> resource read by <code>DfaTables</code>.  This is run by
+ * the build's <code>convertJFlexTables</code> task before the token makers
+ * are compiled, so a scanner regenerated by JFlex is converted again
+ * automatically.<p>
+ *
+ * The generated source is converted as text: the packed table strings are
+ * unpacked here the same way JFlex's generated code would at runtime, and
+ * the table constants and their unpacking methods are replaced with a
+ * <code>Tables</code> holder class that loads the resource.  Scanners that
+ * have already been converted are left alone.<p>
+ *
+ * This class is part of the build, not the library.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class DfaTableConverter {
+
+	/**
+	 * The first four bytes of a <code>.dfa</code> resource, "DFA1".  This
+	 * must match <code>DfaTables</code>.
+	 */
+	private static final int MAGIC = 0x44464131;
+
+	/**
+	 * The size of JFlex's character translation table.
+	 */
+	private static final int CMAP_SIZE = 0x10000;
+
+	private static final Pattern PACKED_STRING = Pattern.compile(
+			"private static final String (ZZ_\\w+_PACKED(?:_\\d+)?) =");
+
+	private static final Pattern TABLE_SIZE = Pattern.compile(
+			"private static int \\[\\] zzUnpack(\\w+)\\(\\) \\{\\s*" +
+			"int \\[\\] result = new int\\[(\\d+)\\];");
+
+	private static final Pattern TABLE_REFERENCE = Pattern.compile(
+			"\\bZZ_(CMAP|ACTION|ROWMAP|TRANS|ATTRIBUTE)\\b");
+
+
+	private DfaTableConverter() {
+		// Do nothing
+	}
+
+
+	/**
+	 * Converts the source of a JFlex-generated token maker.
+	 *
+	 * @param className The simple name of the token maker.
+	 * @param source The generated source.
+	 * @param dfa Receives the <code>.dfa</code> resource.  This is not
+	 *        closed.
+	 * @return The converted source.
+	 * @throws IOException If the source doesn't look like JFlex's output,
+	 *         or an IO error occurs writing the resource.
+	 * @see #isConverted(String)
+	 */
+	static String convert(String className, String source, OutputStream dfa)
+			throws IOException {
+
+		Map<String, String> packed = new HashMap<>();
+		Matcher m = PACKED_STRING.matcher(source);
+		while (m.find()) {
+			packed.put(m.group(1), readStringConstant(source, m.end()));
+		}
+		int[] sizes = new int[4];
+		List<String> sizeNames = Arrays.asList("Action", "RowMap", "Trans", "Attribute");
+		m = TABLE_SIZE.matcher(source);
+		while (m.find()) {
+			int index = sizeNames.indexOf(m.group(1));
+			if (index>-1) {
+				sizes[index] = Integer.parseInt(m.group(2));
+			}
+		}
+
+		char[] cmap = unpackCMap(getPacked(packed, "ZZ_CMAP_PACKED"));
+		int[] action = unpackRunLengths(getPackedParts(packed, "ZZ_ACTION_PACKED_"),
+				sizes[0], 0);
+		int[] rowMap = unpackRowMap(getPackedParts(packed, "ZZ_ROWMAP_PACKED_"),
+				sizes[1]);
+		int[] trans = unpackRunLengths(getPackedParts(packed, "ZZ_TRANS_PACKED_"),
+				sizes[2], -1);
+		int[] attribute = unpackRunLengths(
+				getPackedParts(packed, "ZZ_ATTRIBUTE_PACKED_"), sizes[3], 0);
+		write(dfa, cmap, action, rowMap, toShorts(trans), attribute);
+
+		String newline = source.contains("\r\n") ? "\r\n" : "\n";
+		List<String> lines = new ArrayList<>(Arrays.asList(source.split("\r?\n", -1)));
+
+		// Remove the unpacking code, then replace the tables with the holder
+		removeMember(lines, "private static char [] zzUnpackCMap(", "");
+		removeMember(lines, "private static final int [] ZZ_ATTRIBUTE =",
+				"private static int zzUnpackAttribute(");
+		int start = removeMember(lines, "private static final String ZZ_CMAP_PACKED =",
+				"private static int zzUnpackTrans(");
+		while (start<lines.size() && lines.get(start).trim().isEmpty()) {
+			lines.remove(start);
+		}
+		for (int i=0; i<lines.size(); i++) {
+			String line = lines.get(i).replace("int [] zzTransL", "short [] zzTransL");
+			lines.set(i, TABLE_REFERENCE.matcher(line).replaceAll("Tables.ZZ_$1"));
+		}
+		lines.addAll(start, createTablesClass(className));
+
+		return String.join(newline, lines);
+
+	}
+
+
+	/**
+	 * Returns the source of the <code>Tables</code> holder class.
+	 *
+	 * @param className The simple name of the token maker.
+	 * @return The lines of the class, followed by a blank line.
+	 */
+	private static List<String> createTablesClass(String className) {
+		return Arrays.asList(
+			"  /**",
+			"   * The DFA tables, loaded from <code>" + className + ".dfa</code> the first time a",
+			"   * line is scanned rather than when this class is loaded.",
+			"   *",
+			"   * @see DfaTables",
+			"   */",
+			"  private static final class Tables {",
+			"",
+			"    private static final DfaTables TABLES = DfaTables.load(" + className + ".class);",
+			"",
+			"    /** Translates characters to character classes */",
+			"    static final char [] ZZ_CMAP = TABLES.getCMap();",
+			"",
+			"    /** Translates DFA states to action switch labels. */",
+			"    static final int [] ZZ_ACTION = TABLES.getAction();",
+			"",
+			"    /** Translates a state to a row index in the transition table */",
+			"    static final int [] ZZ_ROWMAP = TABLES.getRowMap();",
+			"",
+			"    /** The transition table of the DFA */",
+			"    static final short [] ZZ_TRANS = TABLES.getTrans();",
+			"",
+			"    /** ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code> */",
+			"    static final int [] ZZ_ATTRIBUTE = TABLES.getAttribute();",
+			"",
+			"  }",
+			"");
+	}
+
+
+	private static int findLine(List<String> lines, String text, int from)
+			throws IOException {
+		for (int i=from; i<lines.size(); i++) {
+			if (lines.get(i).contains(text)) {
+				return i;
+			}
+		}
+		throw new IOException("Not found in generated scanner: " + text);
+	}
+
+
+	private static String getPacked(Map<String, String> packed, String name)
+			throws IOException {
+		String value = packed.get(name);
+		if (value==null) {
+			throw new IOException("Not found in generated scanner: " + name);
+		}
+		return value;
+	}
+
+
+	/**
+	 * Returns the parts of a packed table, in order.
+	 *
+	 * @param packed All packed strings in the scanner.
+	 * @param prefix The prefix of the table's parts' names.
+	 * @return The parts.
+	 * @throws IOException If the table isn't found.
+	 */
+	private static List<String> getPackedParts(Map<String, String> packed,
+			String prefix) throws IOException {
+		List<String> parts = new ArrayList<>();
+		for (int i=0; packed.containsKey(prefix + i); i++) {
+			parts.add(packed.get(prefix + i));
+		}
+		if (parts.isEmpty()) {
+			throw new IOException("Not found in generated scanner: " + prefix + 0);
+		}
+		return parts;
+	}
+
+
+	/**
+	 * Returns whether a token maker's source has already been converted.
+	 *
+	 * @param source The source.
+	 * @return Whether it loads its tables from a <code>.dfa</code> resource.
+	 */
+	static boolean isConverted(String source) {
+		return !source.contains("ZZ_TRANS_PACKED_0") &&
+				source.contains("DfaTables.load(");
+	}
+
+
+	/**
+	 * Converts JFlex-generated token makers whose tables haven't been moved
+	 * into <code>.dfa</code> resources yet.
+	 *
+	 * @param args The source directory, the resource directory, and the
+	 *        simple names of the token makers.
+	 * @throws IOException If an error occurs.
+	 */
+	public static void main(String[] args) throws IOException {
+
+		if (args.length<3) {
+			throw new IllegalArgumentException(
+				"Usage: DfaTableConverter sourceDir resourceDir TokenMaker...");
+		}
+
+		Path sourceDir = Paths.get(args[0]);
+		Path resourceDir = Paths.get(args[1]);
+		for (int i=2; i<args.length; i++) {
+
+			Path file = sourceDir.resolve(args[i] + ".java");
+			String source = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+			if (isConverted(source)) {
+				continue;
+			}
+
+			ByteArrayOutputStream dfa = new ByteArrayOutputStream();
+			String converted = convert(args[i], source, dfa);
+			Files.createDirectories(resourceDir);
+			Files.write(resourceDir.resolve(args[i] + ".dfa"), dfa.toByteArray());
+			Files.write(file, converted.getBytes(StandardCharsets.UTF_8));
+			System.out.println("Moved the DFA tables of " + args[i] + " into " +
+					args[i] + ".dfa");
+
+		}
+
+	}
+
+
+	/**
+	 * Reads a string constant, which may be a concatenation of literals.
+	 *
+	 * @param source The source.
+	 * @param offs The offset just after the constant's <code>=</code>.
+	 * @return The value of the constant.
+	 * @throws IOException If the constant can't be parsed.
+	 */
+	private static String readStringConstant(String source, int offs)
+			throws IOException {
+
+		StringBuilder sb = new StringBuilder();
+		while (offs<source.length()) {
+
+			char ch = source.charAt(offs++);
+			if (ch==';') {
+				return sb.toString();
+			}
+			else if (ch!='"') {
+				continue;
+			}
+
+			while ((ch = source.charAt(offs++))!='"') {
+				if (ch!='\\') {
+					sb.append(ch);
+					continue;
+				}
+				ch = source.charAt(offs++);
+				switch (ch) {
+					case 'b': sb.append('\b'); break;
+					case 't': sb.append('\t'); break;
+					case 'n': sb.append('\n'); break;
+					case 'f': sb.append('\f'); break;
+					case 'r': sb.append('\r'); break;
+					case 'u':
+						while (source.charAt(offs)=='u') {
+							offs++;
+						}
+						sb.append((char)Integer.parseInt(source.substring(offs, offs + 4), 16));
+						offs += 4;
+						break;
+					default:
+						if (ch>='0' && ch<='7') {
+							int value = ch - '0';
+							int maxDigits = ch<='3' ? 2 : 1;
+							for (int i=0; i<maxDigits; i++) {
+								ch = source.charAt(offs);
+								if (ch<'0' || ch>'7') {
+									break;
+								}
+								value = value * 8 + ch - '0';
+								offs++;
+							}
+							sb.append((char)value);
+						}
+						else {
+							sb.append(ch); // '"', '\'' or '\\'
+						}
+						break;
+				}
+			}
+
+		}
+
+		throw new IOException("Unterminated string constant");
+
+	}
+
+
+	/**
+	 * Removes a range of members, along with the doc comment before the
+	 * first one and a blank line after the last one.
+	 *
+	 * @param lines The lines of the source.
+	 * @param first Text in the first line of the first member.
+	 * @param last Text in the first line of the last member, or the empty
+	 *        string to remove only the first member.
+	 * @return The line the members started on.
+	 * @throws IOException If the members aren't found.
+	 */
+	private static int removeMember(List<String> lines, String first, String last)
+			throws IOException {
+
+		int start = findLine(lines, first, 0);
+		int end = last.isEmpty() ? start : findLine(lines, last, start);
+
+		// Find the end of the last member
+		int depth = 0;
+		boolean method = lines.get(end).trim().endsWith("{");
+		while (true) {
+			String line = lines.get(end++);
+			for (int i=0; i<line.length(); i++) {
+				if (line.charAt(i)=='{') {
+					depth++;
+				}
+				else if (line.charAt(i)=='}') {
+					depth--;
+				}
+			}
+			if (method ? depth==0 : line.trim().endsWith(";")) {
+				break;
+			}
+		}
+		if (end<lines.size() && lines.get(end).trim().isEmpty()) {
+			end++;
+		}
+
+		// Include the doc comment
+		if (start>0 && lines.get(start-1).trim().endsWith("*/")) {
+			while (!lines.get(start-1).trim().startsWith("/**")) {
+				start--;
+			}
+			start--;
+		}
+
+		lines.subList(start, end).clear();
+		return start;
+
+	}
+
+
+	private static short[] toShorts(int[] table) throws IOException {
+		short[] shorts = new short[table.length];
+		for (int i=0; i<table.length; i++) {
+			if (table[i]<Short.MIN_VALUE || table[i]>Short.MAX_VALUE) {
+				throw new IOException("Transition out of range: " + table[i]);
+			}
+			shorts[i] = (short)table[i];
+		}
+		return shorts;
+	}
+
+
+	/**
+	 * Unpacks the character translation table, as JFlex's
+	 * <code>zzUnpackCMap</code> does.
+	 *
+	 * @param packed The packed table.
+	 * @return The table.
+	 */
+	private static char[] unpackCMap(String packed) {
+		char[] map = new char[CMAP_SIZE];
+		int j = 0;
+		for (int i=0; i<packed.length(); i+=2) {
+			int count = packed.charAt(i);
+			Arrays.fill(map, j, j + count, packed.charAt(i + 1));
+			j += count;
+		}
+		return map;
+	}
+
+
+	/**
+	 * Unpacks the table of row indices, as JFlex's
+	 * <code>zzUnpackRowMap</code> does.
+	 *
+	 * @param parts The parts of the packed table.
+	 * @param size The size of the table.
+	 * @return The table.
+	 */
+	private static int[] unpackRowMap(List<String> parts, int size) {
+		int[] result = new int[size];
+		int j = 0;
+		for (String packed : parts) {
+			for (int i=0; i<packed.length(); i+=2) {
+				result[j++] = (packed.charAt(i) << 16) | packed.charAt(i + 1);
+			}
+		}
+		return result;
+	}
+
+
+	/**
+	 * Unpacks a run-length encoded table, as JFlex's
+	 * <code>zzUnpackAction</code>, <code>zzUnpackTrans</code> and
+	 * <code>zzUnpackAttribute</code> do.
+	 *
+	 * @param parts The parts of the packed table.
+	 * @param size The size of the table.
+	 * @param bias The amount added to each value.
+	 * @return The table.
+	 */
+	private static int[] unpackRunLengths(List<String> parts, int size, int bias) {
+		int[] result = new int[size];
+		int j = 0;
+		for (String packed : parts) {
+			for (int i=0; i<packed.length(); i+=2) {
+				int count = packed.charAt(i);
+				Arrays.fill(result, j, j + count, packed.charAt(i + 1) + bias);
+				j += count;
+			}
+		}
+		return result;
+	}
+
+
+	/**
+	 * Writes a <code>.dfa</code> resource.  Each table is written as its
+	 * length followed by its elements, and the whole is deflated.
+	 *
+	 * @param out The stream to write to.  This is not closed.
+	 * @param cmap The character translation table.
+	 * @param action The table of action switch labels.
+	 * @param rowMap The table of row indices in the transition table.
+	 * @param trans The transition table.
+	 * @param attribute The attributes of each state.
+	 * @throws IOException If an IO error occurs.
+	 */
+	static void write(OutputStream out, char[] cmap, int[] action, int[] rowMap,
+			short[] trans, int[] attribute) throws IOException {
+
+		Deflater def = new Deflater(Deflater.BEST_COMPRESSION);
+		try {
+
+			DeflaterOutputStream deflater = new DeflaterOutputStream(out, def);
+			DataOutputStream dout = new DataOutputStream(deflater);
+			dout.writeInt(MAGIC);
+
+			dout.writeInt(cmap.length);
+			for (char ch : cmap) {
+				dout.writeChar(ch);
+			}
+			writeTable(dout, action);
+			writeTable(dout, rowMap);
+			dout.writeInt(trans.length);
+			for (short value : trans) {
+				dout.writeShort(value);
+			}
+			writeTable(dout, attribute);
+
+			dout.flush();
+			deflater.finish();
+
+		} finally {
+			def.end();
+		}
+
+	}
+
+
+	private static void writeTable(DataOutputStream out, int[] table)
+			throws IOException {
+		out.writeInt(table.length);
+		for (int value : table) {
+			out.writeInt(value);
+		}
+	}
+
+
+}
@@ -6,6 +6,8 @@ package org.fife.io;
 
 import java.io.Reader;
 
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Document;
 import javax.swing.text.Segment;
@@ -13,6 +15,15 @@ import javax.swing.text.Segment;
 
 /**
  * A <code>Reader</code> for <code>javax.swing.text.Document</code> objects.
+ * Text is copied straight from the document's content into the caller's
+ * array, via a <code>Segment</code> using partial returns, so no
+ * intermediate copy of the text is made.<p>
+ *
+ * Characters read one at a time via {@link #read()} are read from a small
+ * buffer, which is refilled if the document is modified.  As with any
+ * <code>Reader</code>, the document should not be modified while it is
+ * being read, and the reader should be closed when it is no longer needed,
+ * since it listens for changes to the document.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -39,6 +50,39 @@ public class DocumentReader extends Reader {
 	 */
 	private Segment segment;
 
+	/**
+	 * Characters buffered for {@link #read()}.
+	 */
+	private char[] buffer;
+
+	/**
+	 * The offset in the document of <code>buffer[0]</code>.
+	 */
+	private long bufferStart;
+
+	/**
+	 * The number of characters in <code>buffer</code>.
+	 */
+	private int bufferCount;
+
+	/**
+	 * Whether <code>buffer</code> still matches the document's text.  This
+	 * is cleared by <code>bufferListener</code> when the document changes.
+	 */
+	private volatile boolean bufferValid;
+
+	/**
+	 * Invalidates <code>buffer</code> when the document is modified.  This
+	 * is only added to the document once <code>buffer</code> is first
+	 * filled.
+	 */
+	private DocumentListener bufferListener;
+
+	/**
+	 * The size of <code>buffer</code>.
+	 */
+	private static final int BUFFER_SIZE = 1024;
+
 
 	/**
 	 * Constructor.
@@ -50,14 +94,45 @@ public class DocumentReader extends Reader {
 		mark = -1;
 		this.document = document;
 		this.segment = new Segment();
+		segment.setPartialReturn(true);
 	}
 
 
 	/**
-	 * This currently does nothing...
+	 * Stops listening for changes to the document.
 	 */
 	@Override
 	public void close() {
+		if (bufferListener!=null) {
+			document.removeDocumentListener(bufferListener);
+			bufferListener = null;
+		}
+		bufferValid = false;
+	}
+
+
+	/**
+	 * Copies characters from the document into an array.
+	 *
+	 * @param pos The offset in the document to copy from.
+	 * @param dest The array to copy into.
+	 * @param off The offset in the array at which to store characters.
+	 * @param len The number of characters to copy.  These must all be in
+	 *        the document.
+	 * @throws BadLocationException If the characters are not in the
+	 *         document.
+	 */
+	private void copy(int pos, char[] dest, int off, int len)
+			throws BadLocationException {
+		// Each partial return is a single contiguous run of the content's
+		// array, so nothing is copied except into dest
+		int copied = 0;
+		while (copied<len) {
+			document.getText(pos + copied, len - copied, segment);
+			System.arraycopy(segment.array, segment.offset, dest, off + copied,
+					segment.count);
+			copied += segment.count;
+		}
 	}
 
 
@@ -88,18 +163,38 @@ public class DocumentReader extends Reader {
 	 */
 	@Override
 	public int read() {
-		if (position>=document.getLength()) {
+
+		int length = document.getLength();
+		if (position>=length) {
 			return -1;      // Read past end of document.
 		}
-		try {
-			document.getText((int)position,1, segment);
-			position++;
-			return segment.array[segment.offset];
-		} catch (BadLocationException ble) {
-			/* Should never happen?? */
-			ble.printStackTrace();
-			return -1;
+
+		if (!bufferValid || position<bufferStart ||
+				position>=bufferStart+bufferCount) {
+			if (buffer==null) {
+				buffer = new char[BUFFER_SIZE];
+			}
+			if (bufferListener==null) {
+				bufferListener = new BufferListener();
+				document.addDocumentListener(bufferListener);
+			}
+			// Set before copying, so an edit made meanwhile invalidates it
+			bufferValid = true;
+			int count = (int)Math.min(BUFFER_SIZE, length - position);
+			try {
+				copy((int)position, buffer, 0, count);
+			} catch (BadLocationException ble) {
+				/* Should never happen?? */
+				ble.printStackTrace();
+				bufferCount = 0;
+				return -1;
+			}
+			bufferStart = position;
+			bufferCount = count;
 		}
+
+		return buffer[(int)(position++ - bufferStart)];
+
 	}
 
 
@@ -139,11 +234,8 @@ public class DocumentReader extends Reader {
 			k = cbuf.length - off;
 		}
 		try {
-			document.getText((int)position, k, segment);
+			copy((int)position, cbuf, off, k);
 			position += k;
-			System.arraycopy(segment.array,segment.offset,
-							cbuf,off,
-							k);
 			return k;
 		} catch (BadLocationException ble) {
 			/* Should never happen ? */
@@ -213,4 +305,28 @@ public class DocumentReader extends Reader {
 	}
 
 
+	/**
+	 * Invalidates the buffer used by {@link #read()} when the document's
+	 * text changes.
+	 */
+	private final class BufferListener implements DocumentListener {
+
+		@Override
+		public void changedUpdate(DocumentEvent e) {
+			// Attribute changes don't affect the text
+		}
+
+		@Override
+		public void insertUpdate(DocumentEvent e) {
+			bufferValid = false;
+		}
+
+		@Override
+		public void removeUpdate(DocumentEvent e) {
+			bufferValid = false;
+		}
+
+	}
+
+
 }
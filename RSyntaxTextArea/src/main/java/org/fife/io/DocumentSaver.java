@@ -0,0 +1,398 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadLocalRandom;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultEditorKit;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+
+/**
+ * Saves a document to a local file quickly and safely.  This does the work
+ * of a {@link UnicodeWriter} and <code>DefaultEditorKit.write()</code>, but:
+ * <ul>
+ *    <li>Text is encoded straight from the document's content, via
+ *        <code>Segment</code>s using partial returns, into a direct byte
+ *        buffer that is written to a <code>FileChannel</code>.  No copy of
+ *        the document's text is ever made, unless newlines have to be
+ *        converted into another line separator, in which case only small
+ *        blocks are copied at a time.
+ *    <li>The file is synced to disk before this method returns.
+ * </ul>
+ * By default, the file is overwritten in place, so its owner, permissions,
+ * ACLs and hard links are all kept.  Callers may instead ask for an atomic
+ * replace (see {@link #save(Document, File, String, boolean)}), where the
+ * text is written to a temporary file in the same directory, which is then
+ * atomically moved into place, so the original file is untouched if
+ * anything goes wrong.  The new file only gets the permissions of the old
+ * one, so the file is still overwritten in place if it has more than one
+ * hard link, or the directory is not writable.<p>
+ *
+ * Just like <code>UnicodeWriter</code>, a BOM is written for Unicode
+ * encodings, and unmappable characters are replaced.  Symbolic links are
+ * followed.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class DocumentSaver {
+
+	/**
+	 * The size of the byte buffer, and the block of chars copied when
+	 * converting line separators.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final FileChannel channel;
+	private final CharsetEncoder encoder;
+	private final ByteBuffer out;
+
+	/**
+	 * A char left over from the previous segment, i.e. the first half of a
+	 * surrogate pair.
+	 */
+	private final char[] carry;
+	private int carryCount;
+
+
+	/**
+	 * Private constructor; use {@link #save(Document, File, String)}.
+	 *
+	 * @param channel The channel to write to.
+	 * @param encoder The encoder to use.
+	 */
+	private DocumentSaver(FileChannel channel, CharsetEncoder encoder) {
+		this.channel = channel;
+		this.encoder = encoder;
+		out = ByteBuffer.allocateDirect(BUFFER_SIZE);
+		carry = new char[2];
+	}
+
+
+	/**
+	 * Encodes chars, writing out the byte buffer whenever it fills up.
+	 *
+	 * @param in The chars to encode.  When this method returns, this may
+	 *        still contain an incomplete surrogate pair.
+	 * @param endOfInput Whether these are the last chars.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void encode(CharBuffer in, boolean endOfInput) throws IOException {
+		while (encoder.encode(in, out, endOfInput)==CoderResult.OVERFLOW) {
+			flushBuffer();
+		}
+	}
+
+
+	/**
+	 * Encodes the last chars, and writes out all remaining bytes.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void finish() throws IOException {
+		encode(CharBuffer.wrap(carry, 0, carryCount), true);
+		while (encoder.flush(out)==CoderResult.OVERFLOW) {
+			flushBuffer();
+		}
+		flushBuffer();
+	}
+
+
+	/**
+	 * Writes the bytes in the byte buffer to the file.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void flushBuffer() throws IOException {
+		out.flip();
+		while (out.hasRemaining()) {
+			channel.write(out);
+		}
+		out.clear();
+	}
+
+
+	/**
+	 * Returns the line separator to write for a document's newlines.  Like
+	 * <code>DefaultEditorKit.write()</code>, this is the document's
+	 * <code>EndOfLineStringProperty</code>, or the system line separator if
+	 * it isn't set.
+	 *
+	 * @param doc The document.
+	 * @return The line separator.
+	 */
+	private static String getLineSeparator(Document doc) {
+		Object separator = doc.getProperty(
+				DefaultEditorKit.EndOfLineStringProperty);
+		if (separator instanceof String) {
+			return (String)separator;
+		}
+		return System.lineSeparator();
+	}
+
+
+	/**
+	 * Returns whether a file has more than one hard link.
+	 *
+	 * @param file The file.
+	 * @return Whether the file has more than one hard link.  This is
+	 *         <code>false</code> if the file system doesn't say.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private static boolean hasMultipleLinks(Path file) throws IOException {
+		try {
+			Object count = Files.getAttribute(file, "unix:nlink");
+			return count instanceof Integer && (Integer)count>1;
+		} catch (UnsupportedOperationException | IllegalArgumentException e) {
+			return false; // Not a Unix file system
+		}
+	}
+
+
+	/**
+	 * Saves a document to a file, overwriting it in place.
+	 *
+	 * @param doc The document to save.
+	 * @param file The file to save to.  If it exists, it must be
+	 *        writable.
+	 * @param encoding The encoding to use.
+	 * @throws IOException If an IO error occurs, or the encoding is not
+	 *         supported.
+	 * @see #save(Document, File, String, boolean)
+	 */
+	public static void save(Document doc, File file, String encoding)
+			throws IOException {
+		save(doc, file, encoding, false);
+	}
+
+
+	/**
+	 * Saves a document to a file.<p>
+	 *
+	 * An atomic replace should not be requested for a file that is
+	 * memory-mapped, since on some platforms, such as Windows, a mapped file
+	 * cannot be replaced.
+	 *
+	 * @param doc The document to save.
+	 * @param file The file to save to.  If it exists, it must be
+	 *        writable.
+	 * @param encoding The encoding to use.
+	 * @param atomic Whether to write to a temporary file that atomically
+	 *        replaces <code>file</code>, rather than overwriting it in
+	 *        place.  This is ignored if the file has more than one hard
+	 *        link, or the directory is not writable.
+	 * @throws IOException If an IO error occurs, or the encoding is not
+	 *         supported.
+	 * @see #save(Document, File, String)
+	 */
+	public static void save(Document doc, File file, String encoding,
+			boolean atomic) throws IOException {
+
+		CharsetEncoder encoder;
+		try {
+			encoder = Charset.forName(encoding).newEncoder();
+		} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+			throw new UnsupportedEncodingException(encoding);
+		}
+		encoder.onMalformedInput(CodingErrorAction.REPLACE).
+				onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		Path target = file.toPath().toAbsolutePath();
+		boolean exists = Files.exists(target);
+		if (exists) {
+			target = target.toRealPath();
+			if (!Files.isWritable(target)) {
+				throw new AccessDeniedException(target.toString());
+			}
+		}
+
+		if (!atomic || (exists && hasMultipleLinks(target))) {
+			saveInPlace(doc, target, encoding, encoder);
+			return;
+		}
+
+		Path temp = target.resolveSibling("." + target.getFileName() + "." +
+				Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+		FileChannel channel;
+		try {
+			channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW,
+					StandardOpenOption.WRITE);
+		} catch (AccessDeniedException e) {
+			// We can't create files in the directory
+			saveInPlace(doc, target, encoding, encoder);
+			return;
+		}
+
+		boolean success = false;
+		try {
+
+			try {
+				new DocumentSaver(channel, encoder).write(doc, encoding);
+			} finally {
+				channel.close();
+			}
+
+			if (exists) {
+				try {
+					Files.setPosixFilePermissions(temp,
+							Files.getPosixFilePermissions(target));
+				} catch (UnsupportedOperationException e) {
+					// Not a POSIX file system
+				}
+			}
+
+			try {
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+			} catch (AtomicMoveNotSupportedException e) {
+				Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+			}
+			success = true;
+
+		} finally {
+			if (!success) {
+				Files.deleteIfExists(temp);
+			}
+		}
+
+	}
+
+
+	/**
+	 * Overwrites a file in place.  The file is only truncated after the new
+	 * text is written, so it is never empty if the new text isn't.
+	 *
+	 * @param doc The document to save.
+	 * @param target The file to save to.
+	 * @param encoding The encoding to use.
+	 * @param encoder The encoder to use.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private static void saveInPlace(Document doc, Path target,
+			String encoding, CharsetEncoder encoder) throws IOException {
+		try (FileChannel channel = FileChannel.open(target,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			new DocumentSaver(channel, encoder).write(doc, encoding);
+		}
+	}
+
+
+	/**
+	 * Encodes chars that are not the last ones.
+	 *
+	 * @param in The chars to encode.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void write(CharBuffer in) throws IOException {
+
+		// Complete a surrogate pair split between segments
+		while (carryCount>0 && in.hasRemaining()) {
+			carry[carryCount++] = in.get();
+			CharBuffer pair = CharBuffer.wrap(carry, 0, carryCount);
+			encode(pair, false);
+			carryCount = pair.remaining();
+			pair.get(carry, 0, carryCount);
+		}
+
+		encode(in, false);
+		if (in.hasRemaining()) {
+			carryCount = in.remaining();
+			in.get(carry, 0, carryCount);
+		}
+
+	}
+
+
+	/**
+	 * Encodes and writes a document's text at the start of the file,
+	 * truncates the file after it, and syncs it to disk.
+	 *
+	 * @param doc The document.
+	 * @param encoding The encoding, used to determine the BOM to write.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void write(Document doc, String encoding) throws IOException {
+
+		byte[] bom = UnicodeWriter.getBom(encoding);
+		if (bom!=null) {
+			out.put(bom);
+		}
+
+		String separator = getLineSeparator(doc);
+		boolean convert = !"\n".equals(separator);
+		CharBuffer block = convert ? CharBuffer.allocate(BUFFER_SIZE) : null;
+
+		Segment s = new Segment();
+		s.setPartialReturn(true);
+		int offs = 0;
+		int length = doc.getLength();
+
+		try {
+
+			while (offs<length) {
+
+				doc.getText(offs, length - offs, s);
+				offs += s.count;
+
+				if (!convert) {
+					write(CharBuffer.wrap(s.array, s.offset, s.count));
+					continue;
+				}
+
+				// Convert newlines, a block at a time
+				int end = s.offset + s.count;
+				for (int i=s.offset; i<end; i++) {
+					if (block.remaining()<separator.length()) {
+						block.flip();
+						write(block);
+						block.clear();
+					}
+					char ch = s.array[i];
+					if (ch=='\n') {
+						block.put(separator);
+					}
+					else {
+						block.put(ch);
+					}
+				}
+
+			}
+
+		} catch (BadLocationException ble) { // Never happens
+			throw new IOException(ble);
+		}
+
+		if (convert) {
+			block.flip();
+			write(block);
+		}
+		finish();
+		channel.truncate(channel.position()); // Drop any old, longer text
+		channel.force(true);
+
+	}
+
+
+}
@@ -0,0 +1,365 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Arrays;
+
+
+/**
+ * Reads a text stream into memory in a single pass.  This does the work of
+ * a {@link UnicodeReader} and <code>DefaultEditorKit.read()</code>, but
+ * much more quickly, for loading files into text components:
+ * <ul>
+ *    <li>The encoding is identified by the stream's BOM, if any, just as
+ *        <code>UnicodeReader</code> does.
+ *    <li>Bytes are decoded in large blocks with a
+ *        <code>CharsetDecoder</code>.
+ *    <li><code>"\r\n"</code> and <code>"\r"</code> line endings are
+ *        converted into <code>"\n"</code> as the text is decoded, and the
+ *        line separator originally used is remembered.
+ *    <li>Each line is passed to a {@link LineHandler} as soon as it has been
+ *        read, so callers can process lines (e.g. compute syntax
+ *        highlighting state) while the text is still in the CPU cache.
+ *    <li>When the stream knows how many bytes it has, such as a file's
+ *        stream, the text is read into an array big enough to hold all of
+ *        it, rather than one that keeps growing.  Callers can use that
+ *        array directly (see {@link #getTextArray()}), rather than copying
+ *        the text into a <code>String</code>.
+ * </ul>
+ * Malformed input is replaced, just as it is by
+ * <code>InputStreamReader</code>.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class TextLoader {
+
+	/**
+	 * The number of bytes, and chars, decoded at a time.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * The largest array that can be allocated.
+	 */
+	private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+	private final LineHandler handler;
+	private final long expectedSize;
+	private String encoding;
+	private char[] text;
+	private int length;
+	private int lineStart;
+	private int lineCount;
+
+	private boolean lastWasCR;
+	private boolean isCRLF;
+	private boolean isCR;
+
+
+	/**
+	 * Private constructor; use {@link #load(InputStream, String, LineHandler)}.
+	 *
+	 * @param handler Receives each line read.  This may be <code>null</code>.
+	 * @param expectedSize The number of bytes the stream is expected to
+	 *        have, or <code>0</code> if unknown.
+	 */
+	private TextLoader(LineHandler handler, long expectedSize) {
+		this.handler = handler;
+		this.expectedSize = expectedSize;
+	}
+
+
+	/**
+	 * Appends decoded text, converting line endings and ending lines.
+	 *
+	 * @param chars The text to append.
+	 */
+	private void append(CharBuffer chars) {
+
+		int count = chars.remaining();
+		if (length + count + 1>text.length) {
+			text = Arrays.copyOf(text, (int)Math.min(MAX_ARRAY_SIZE,
+					Math.max(text.length * 2L, length + count + 1L)));
+		}
+
+		char[] array = chars.array();
+		int end = chars.arrayOffset() + chars.limit();
+		for (int i=chars.arrayOffset()+chars.position(); i<end; i++) {
+			char ch = array[i];
+			if (lastWasCR) {
+				lastWasCR = false;
+				if (ch=='\n') {
+					isCRLF = true;
+					endLine();
+					continue;
+				}
+				isCR = true;
+				endLine();
+			}
+			switch (ch) {
+				case '\r':
+					lastWasCR = true;
+					break;
+				case '\n':
+					endLine();
+					break;
+				default:
+					text[length++] = ch;
+					break;
+			}
+		}
+
+	}
+
+
+	/**
+	 * Appends a newline, ending the current line.
+	 */
+	private void endLine() {
+		text[length++] = '\n';
+		if (handler!=null) {
+			handler.lineRead(text, lineStart, length - 1);
+		}
+		lineStart = length;
+		lineCount++;
+	}
+
+
+	/**
+	 * Reads bytes into a buffer until it is full or the stream ends.
+	 *
+	 * @param channel The stream to read from.
+	 * @param bytes The buffer to read into.  This should be in "write" mode.
+	 * @return Whether the stream ended.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private static boolean fill(ReadableByteChannel channel, ByteBuffer bytes)
+			throws IOException {
+		while (bytes.hasRemaining()) {
+			if (channel.read(bytes)==-1) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+
+	/**
+	 * Returns the encoding the text was read with.  If a BOM was found,
+	 * this is the encoding it specified; otherwise, it is the default
+	 * encoding passed to
+	 * {@link #load(InputStream, String, LineHandler)}.
+	 *
+	 * @return The encoding.
+	 */
+	public String getEncoding() {
+		return encoding;
+	}
+
+
+	/**
+	 * Returns the length of the text, in chars.
+	 *
+	 * @return The length of the text.
+	 */
+	public int getLength() {
+		return length;
+	}
+
+
+	/**
+	 * Returns the number of lines in the text.  Like lines in a Swing
+	 * document, this is one more than the number of newlines.
+	 *
+	 * @return The number of lines.
+	 */
+	public int getLineCount() {
+		return lineCount;
+	}
+
+
+	/**
+	 * Returns the line separator used in the text.  Like
+	 * <code>DefaultEditorKit.read()</code>, this is <code>"\r\n"</code> if
+	 * any such line endings were found, otherwise <code>"\r"</code> if any
+	 * of those were found, and <code>"\n"</code> otherwise.
+	 *
+	 * @return The line separator.
+	 */
+	public String getLineSeparator() {
+		if (isCRLF) {
+			return "\r\n";
+		}
+		return isCR ? "\r" : "\n";
+	}
+
+
+	/**
+	 * Returns the text read.
+	 *
+	 * @return The text, with all line endings converted to
+	 *         <code>"\n"</code>.
+	 * @see #getTextArray()
+	 */
+	public String getText() {
+		return new String(text, 0, length);
+	}
+
+
+	/**
+	 * Returns the array holding the text read, without copying it.  This
+	 * is useful for handing a large amount of text to a document without
+	 * needing memory for a second copy of it.
+	 *
+	 * @return The array.  Only the first {@link #getLength()} chars of it
+	 *         are text.  This is not a copy, so it should not be modified.
+	 * @see #getText()
+	 */
+	public char[] getTextArray() {
+		return text;
+	}
+
+
+	/**
+	 * Reads all text from a stream.  The stream is closed when this method
+	 * returns.
+	 *
+	 * @param in The stream to read from.
+	 * @param defaultEncoding The encoding to use if the stream does not
+	 *        start with a recognized BOM.  If this is <code>null</code>, the
+	 *        encoding is chosen as {@link UnicodeReader} does: UTF-8 if the
+	 *        start of the stream is valid, non-ASCII UTF-8, otherwise the
+	 *        system default.
+	 * @param handler If non-<code>null</code>, this is called for each line
+	 *        as it is read, including the last one.
+	 * @return The text that was read.
+	 * @throws IOException If an IO error occurs, or the encoding is not
+	 *         supported.
+	 */
+	public static TextLoader load(InputStream in, String defaultEncoding,
+			LineHandler handler) throws IOException {
+		TextLoader loader = new TextLoader(handler, Math.max(0, in.available()));
+		try (ReadableByteChannel channel = Channels.newChannel(in)) {
+			loader.read(channel, defaultEncoding);
+		}
+		return loader;
+	}
+
+
+	/**
+	 * Reads, decodes and converts all text in a stream.
+	 *
+	 * @param channel The stream to read from.
+	 * @param defaultEncoding The encoding to use if there is no BOM.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void read(ReadableByteChannel channel, String defaultEncoding)
+			throws IOException {
+
+		ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE);
+		boolean eof = fill(channel, bytes);
+		bytes.flip();
+
+		byte[] bom = new byte[4];
+		int n = Math.min(bom.length, bytes.remaining());
+		bytes.get(bom, 0, n);
+		bytes.rewind();
+		encoding = UnicodeReader.getBomEncoding(bom, n==0 ? -1 : n);
+		if (encoding!=null) {
+			bytes.position(UnicodeReader.getBomLength(encoding));
+		}
+		else if (defaultEncoding!=null) {
+			encoding = defaultEncoding;
+		}
+		else {
+			encoding = UnicodeReader.getDefaultEncoding(bytes, eof);
+		}
+
+		CharsetDecoder decoder;
+		try {
+			decoder = Charset.forName(encoding).newDecoder();
+		} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+			throw new UnsupportedEncodingException(encoding);
+		}
+		decoder.onMalformedInput(CodingErrorAction.REPLACE).
+				onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		// Make room for all the text up front, if we know how much there is.
+		// In the rare case that this isn't enough, the array is grown.
+		long capacity = (long)Math.ceil(Math.max(expectedSize, bytes.remaining()) *
+				(double)decoder.averageCharsPerByte()) + 1;
+		text = new char[(int)Math.min(MAX_ARRAY_SIZE,
+				Math.max(capacity, eof ? 1 : BUFFER_SIZE))];
+
+		CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+		while (true) {
+			CoderResult result = decoder.decode(bytes, chars, eof);
+			chars.flip();
+			append(chars);
+			chars.clear();
+			if (result.isUnderflow()) {
+				if (eof) {
+					break;
+				}
+				bytes.compact();
+				eof = fill(channel, bytes);
+				bytes.flip();
+			}
+		}
+		while (decoder.flush(chars).isOverflow()) {
+			chars.flip();
+			append(chars);
+			chars.clear();
+		}
+		chars.flip();
+		append(chars);
+
+		// A trailing '\r' and the last line
+		if (lastWasCR) {
+			isCR = true;
+			endLine();
+		}
+		if (handler!=null) {
+			handler.lineRead(text, lineStart, length);
+		}
+		lineCount++;
+
+	}
+
+
+	/**
+	 * Receives each line of text as it is read.
+	 */
+	public interface LineHandler {
+
+		/**
+		 * Called when a line has been read.
+		 *
+		 * @param text The text read so far.  This array may be replaced
+		 *        as more text is read, so it should not be kept.
+		 * @param start The offset of the start of the line.
+		 * @param end The offset of the end of the line, excluding its
+		 *        newline.
+		 */
+		void lineRead(char[] text, int start, int end);
+
+	}
+
+
+}
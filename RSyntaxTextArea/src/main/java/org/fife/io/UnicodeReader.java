@@ -9,9 +9,17 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
-import java.io.PushbackInputStream;
 import java.io.Reader;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.IllegalCharsetNameException;
+import java.nio.charset.UnsupportedCharsetException;
+import java.util.Objects;
 
 
 /**
@@ -25,11 +33,14 @@ import java.nio.charset.Charset;
  *   <li>UTF-32BE
  * </ul>
  * If the stream is not found to be any of the above, then a default encoding
- * is used for reading.  The user can specify this default encoding, or a system
- * default will be used.<p>
+ * is used for reading.  The user can specify this default encoding.  If they
+ * don't, and the start of the stream is valid UTF-8 containing non-ASCII
+ * characters, UTF-8 is used; otherwise, a system default will be used.<p>
  *
- * For optimum performance, it is recommended that you wrap all instances of
- * <code>UnicodeReader</code> with a <code>java.io.BufferedReader</code>.<p>
+ * Bytes are read in large blocks and decoded directly into the caller's
+ * buffer by a <code>CharsetDecoder</code>, so wrapping instances of this
+ * class in a <code>java.io.BufferedReader</code> is only needed for its
+ * line-reading methods.<p>
  *
  * This class is mostly ripped off from the workaround in the description of
  * Java Bug 4508058.
@@ -43,7 +54,34 @@ public class UnicodeReader extends Reader {
 	/**
 	 * The input stream from which we're really reading.
 	 */
-	private InputStreamReader internalIn;
+	private InputStream internalIn;
+
+	/**
+	 * Bytes read but not yet decoded.  This is kept in "read" mode.
+	 */
+	private ByteBuffer bytes;
+
+	private CharsetDecoder decoder;
+
+	/**
+	 * Whether the end of the input stream has been reached.
+	 */
+	private boolean eof;
+
+	/**
+	 * Whether all bytes have been decoded and the decoder flushed.
+	 */
+	private boolean done;
+
+	/**
+	 * Space for a surrogate pair, when reading one char at a time.
+	 */
+	private char[] pair;
+
+	/**
+	 * The second char of a surrogate pair, if only the first was returned.
+	 */
+	private int leftover = -1;
 
 	/**
 	 * The encoding being used.  We keep our own instead of using the string
@@ -57,6 +95,11 @@ public class UnicodeReader extends Reader {
 	 */
 	private static final int BOM_SIZE = 4;
 
+	/**
+	 * The number of bytes read from the stream at a time.
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
 
 	/**
 	 * This utility constructor is here because you will usually use a
@@ -190,88 +233,254 @@ public class UnicodeReader extends Reader {
 
 
 	/**
-	 * Returns the encoding being used to read this input stream (i.e., the
-	 * encoding of the file).  If a BOM was recognized, then the specific
-	 * Unicode type is returned; otherwise, either the default encoding passed
-	 * into the constructor or the system default is returned.
+	 * Decodes chars into an array, reading bytes as necessary.  This blocks
+	 * until at least one char is decoded, or the end of the stream is
+	 * reached.
 	 *
-	 * @return The encoding of the stream.
+	 * @param cbuf The array.
+	 * @param off The offset at which to store chars.
+	 * @param len The maximum number of chars to decode.  This must be at
+	 *        least <code>2</code>, so a surrogate pair always fits.
+	 * @return The number of chars decoded, or <code>-1</code> if the end
+	 *         of the stream has been reached.
+	 * @throws IOException If an IO error occurs.
 	 */
-	public String getEncoding() {
-		return encoding;
+	private int decode(char[] cbuf, int off, int len) throws IOException {
+
+		CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+
+		while (out.position()==off && !done) {
+			CoderResult result = decoder.decode(bytes, out, eof);
+			if (result.isOverflow()) {
+				break;
+			}
+			if (eof) {
+				done = decoder.flush(out).isUnderflow();
+			}
+			else if (out.position()==off) {
+				readBytes();
+			}
+		}
+
+		int count = out.position() - off;
+		return count==0 ? -1 : count;
+
 	}
 
 
 	/**
-	 * Read-ahead four bytes and check for BOM marks. Extra bytes are
-	 * unread back to the stream, only BOM bytes are skipped.
+	 * Returns the Unicode encoding specified by a BOM.
 	 *
-	 * @param defaultEncoding The encoding to use if no BOM was recognized.  If
-	 *        this value is <code>null</code>, then a system default is used.
-	 * @throws IOException If an error occurs when trying to read a BOM.
+	 * @param bom The first bytes of a stream.  This array must have a length
+	 *        of at least 4; if the stream is shorter than that, the bytes
+	 *        after its end must be <code>0</code>.
+	 * @param n The number of bytes read from the stream, or <code>-1</code>
+	 *        if it is empty.
+	 * @return The encoding, or <code>null</code> if the bytes do not start
+	 *         with a recognized BOM.
+	 * @see #getBomLength(String)
 	 */
-	protected void init(InputStream in, String defaultEncoding)
-											throws IOException {
-
-		PushbackInputStream tempIn = new PushbackInputStream(in, BOM_SIZE);
-
-		byte[] bom = new byte[BOM_SIZE];
-		int n;
-		int unread;
-		n = tempIn.read(bom, 0, bom.length);
+	static String getBomEncoding(byte[] bom, int n) {
 
 		if ((bom[0]==(byte)0x00) && (bom[1]==(byte)0x00) &&
 				(bom[2]==(byte)0xFE) && (bom[3]==(byte)0xFF)) {
-			encoding = "UTF-32BE";
-			unread = n - 4;
+			return "UTF-32BE";
 		}
 
 		else if (n==BOM_SIZE && // Last 2 bytes are 0; could be an empty UTF-16
 				(bom[0]==(byte)0xFF) && (bom[1]==(byte)0xFE) &&
 				(bom[2]==(byte)0x00) && (bom[3]==(byte)0x00)) {
-			encoding = "UTF-32LE";
-			unread = n - 4;
+			return "UTF-32LE";
 		}
 
 		else if ((bom[0]==(byte)0xEF) &&
 			(bom[1]==(byte)0xBB) &&
 			(bom[2]==(byte)0xBF)) {
-			encoding = "UTF-8";
-			unread = n - 3;
+			return "UTF-8";
 		}
 
 		else if ((bom[0]==(byte)0xFE) && (bom[1] == (byte)0xFF)) {
-			encoding = "UTF-16BE";
-			unread = n - 2;
+			return "UTF-16BE";
 		}
 
 		else if ((bom[0]==(byte)0xFF) && (bom[1]== (byte)0xFE)) {
-			encoding = "UTF-16LE";
-			unread = n - 2;
+			return "UTF-16LE";
 		}
 
-		else {
-			// Unicode BOM mark not found, unread all bytes
-			encoding = defaultEncoding;
-			unread = n;
+		return null;
+
+	}
+
+
+	/**
+	 * Returns the length of the BOM for an encoding returned by
+	 * {@link #getBomEncoding(byte[], int)}.
+	 *
+	 * @param bomEncoding The encoding.
+	 * @return The length of its BOM, in bytes.
+	 */
+	static int getBomLength(String bomEncoding) {
+		switch (bomEncoding) {
+			case "UTF-32BE":
+			case "UTF-32LE":
+				return 4;
+			case "UTF-8":
+				return 3;
+			default:
+				return 2;
 		}
+	}
 
-		if (unread > 0) {
-			tempIn.unread(bom, (n - unread), unread);
+
+	/**
+	 * Returns the encoding to use for a stream without a BOM, when the
+	 * caller did not specify one.  This is UTF-8 if the first bytes of the
+	 * stream contain non-ASCII characters, and are valid UTF-8; otherwise,
+	 * it is the system default.
+	 *
+	 * @param block The first bytes of the stream, after any BOM.  Its
+	 *        position is not modified.
+	 * @param eof Whether <code>block</code> holds the entire stream.  If it
+	 *        doesn't, it may end with a partial UTF-8 sequence.
+	 * @return The encoding.
+	 */
+	static String getDefaultEncoding(ByteBuffer block, boolean eof) {
+		if (!isAscii(block) && isUtf8(block, eof)) {
+			return "UTF-8";
 		}
-		else if (unread < -1) {
-			tempIn.unread(bom, 0, 0);
+		// Same name as InputStreamReader would use
+		return new InputStreamReader(InputStream.nullInputStream()).getEncoding();
+	}
+
+
+	/**
+	 * Returns the encoding being used to read this input stream (i.e., the
+	 * encoding of the file).  If a BOM was recognized, then the specific
+	 * Unicode type is returned; otherwise, either the default encoding passed
+	 * into the constructor or the system default is returned.
+	 *
+	 * @return The encoding of the stream.
+	 */
+	public String getEncoding() {
+		return encoding;
+	}
+
+
+	/**
+	 * Reads the first block of bytes and checks for a BOM.  Only BOM bytes
+	 * are skipped.
+	 *
+	 * @param defaultEncoding The encoding to use if no BOM was recognized.  If
+	 *        this value is <code>null</code>, then the encoding is guessed
+	 *        from the first block of bytes, or a system default is used.
+	 * @throws IOException If an error occurs when trying to read a BOM, or
+	 *         the encoding is not supported.
+	 */
+	protected void init(InputStream in, String defaultEncoding)
+											throws IOException {
+
+		internalIn = in;
+		bytes = ByteBuffer.allocate(BUFFER_SIZE);
+		bytes.flip();
+		while (bytes.remaining()<BOM_SIZE && !eof) {
+			readBytes();
 		}
 
-		// Use given encoding
-		if (encoding == null) {
-			internalIn = new InputStreamReader(tempIn);
-			encoding = internalIn.getEncoding(); // Get the default.
+		byte[] bom = new byte[BOM_SIZE];
+		int n = Math.min(BOM_SIZE, bytes.remaining());
+		bytes.get(bom, 0, n);
+		bytes.rewind();
+
+		String bomEncoding = getBomEncoding(bom, n==0 ? -1 : n);
+		if (bomEncoding!=null) {
+			encoding = bomEncoding;
+			bytes.position(getBomLength(bomEncoding));
+		}
+		else if (defaultEncoding!=null) {
+			encoding = defaultEncoding;
 		}
 		else {
-			internalIn = new InputStreamReader(tempIn, encoding);
+			encoding = getDefaultEncoding(bytes, eof);
+		}
+
+		try {
+			decoder = Charset.forName(encoding).newDecoder();
+		} catch (IllegalCharsetNameException | UnsupportedCharsetException e) {
+			throw new UnsupportedEncodingException(encoding);
+		}
+		// Same as InputStreamReader
+		decoder.onMalformedInput(CodingErrorAction.REPLACE).
+				onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+	}
+
+
+	/**
+	 * Returns whether a block of bytes is pure ASCII.
+	 *
+	 * @param block The bytes.  Its position is not modified.
+	 * @return Whether all bytes are ASCII.
+	 */
+	private static boolean isAscii(ByteBuffer block) {
+		// A simple loop over the array that the JIT can vectorize
+		byte[] array = block.array();
+		int end = block.arrayOffset() + block.limit();
+		int bits = 0;
+		for (int i=block.arrayOffset()+block.position(); i<end; i++) {
+			bits |= array[i];
+		}
+		return bits>=0;
+	}
+
+
+	/**
+	 * Returns whether a block of bytes is valid UTF-8.  Overlong encodings
+	 * and surrogates are not checked for.
+	 *
+	 * @param block The bytes.  Its position is not modified.
+	 * @param eof Whether a partial sequence at the end of the block is
+	 *        invalid.
+	 * @return Whether the bytes are valid UTF-8.
+	 */
+	private static boolean isUtf8(ByteBuffer block, boolean eof) {
+
+		byte[] array = block.array();
+		int end = block.arrayOffset() + block.limit();
+
+		int i = block.arrayOffset() + block.position();
+		while (i<end) {
+
+			int b = array[i++];
+			int count;
+			if (b>=0) {
+				continue;
+			}
+			else if ((b & 0xe0)==0xc0) {
+				count = 1;
+			}
+			else if ((b & 0xf0)==0xe0) {
+				count = 2;
+			}
+			else if ((b & 0xf8)==0xf0) {
+				count = 3;
+			}
+			else {
+				return false;
+			}
+
+			for (int j=0; j<count; j++, i++) {
+				if (i==end) {
+					return !eof;
+				}
+				if ((array[i] & 0xc0)!=0x80) {
+					return false;
+				}
+			}
+
 		}
 
+		return true;
+
 	}
 
 
@@ -289,7 +498,55 @@ public class UnicodeReader extends Reader {
 	 */
 	@Override
 	public int read(char[] cbuf, int off, int len) throws IOException {
-		return internalIn.read(cbuf, off, len);
+
+		Objects.checkFromIndexSize(off, len, cbuf.length);
+		if (len==0) {
+			return 0;
+		}
+
+		if (leftover!=-1) {
+			cbuf[off] = (char)leftover;
+			leftover = -1;
+			return 1;
+		}
+
+		if (len==1) { // Decode into a bigger array, in case of a surrogate pair
+			if (pair==null) {
+				pair = new char[2];
+			}
+			int count = decode(pair, 0, 2);
+			if (count==-1) {
+				return -1;
+			}
+			cbuf[off] = pair[0];
+			if (count==2) {
+				leftover = pair[1];
+			}
+			return 1;
+		}
+
+		return decode(cbuf, off, len);
+
+	}
+
+
+	/**
+	 * Reads more bytes from the input stream, appending them to the byte
+	 * buffer.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void readBytes() throws IOException {
+		bytes.compact();
+		int count = internalIn.read(bytes.array(), bytes.arrayOffset() +
+				bytes.position(), bytes.remaining());
+		if (count==-1) {
+			eof = true;
+		}
+		else {
+			bytes.position(bytes.position() + count);
+		}
+		bytes.flip();
 	}
 
 
@@ -177,6 +177,37 @@ public class UnicodeWriter extends Writer {
 	}
 
 
+	/**
+	 * Returns the BOM to write before text in an encoding.
+	 *
+	 * @param encoding The encoding.
+	 * @return The BOM, or <code>null</code> if none should be written.
+	 */
+	static byte[] getBom(String encoding) {
+
+		// NOTE: Creating an OutputStreamWriter with encoding "UTF-16" DOES
+		// write out the BOM; "UTF-16LE", "UTF-16BE", "UTF-32", "UTF-32LE"
+		// and "UTF-32BE" don't.
+		switch (encoding) {
+			case "UTF-8":
+				return getWriteUtf8BOM() ? UTF8_BOM : null;
+			case "UTF-16LE":
+				return UTF16LE_BOM;
+			//case "UTF-16": // Already writes the BOM, so we don't
+			case "UTF-16BE":
+				return UTF16BE_BOM;
+			case "UTF-32LE":
+				return UTF32LE_BOM;
+			case "UTF-32":
+			case "UTF-32BE":
+				return UTF32BE_BOM;
+			default:
+				return null;
+		}
+
+	}
+
+
 	/**
 	 * Returns the encoding being used to write this output stream (i.e., the
 	 * encoding of the file).
@@ -213,29 +244,9 @@ public class UnicodeWriter extends Writer {
 		internalOut = new OutputStreamWriter(out, encoding);
 
 		// Write the proper BOM if they specified a Unicode encoding.
-		// NOTE: Creating an OutputStreamWriter with encoding "UTF-16" DOES
-		// write out the BOM; "UTF-16LE", "UTF-16BE", "UTF-32", "UTF-32LE"
-		// and "UTF-32BE" don't.
-		switch (encoding) {
-			case "UTF-8":
-				if (getWriteUtf8BOM()) {
-					out.write(UTF8_BOM, 0, UTF8_BOM.length);
-				}
-				break;
-			case "UTF-16LE":
-				out.write(UTF16LE_BOM, 0, UTF16LE_BOM.length);
-				break;
-			//case "UTF-16": // Already writes the BOM, so we don't
-			case "UTF-16BE":
-				out.write(UTF16BE_BOM, 0, UTF16BE_BOM.length);
-				break;
-			case "UTF-32LE":
-				out.write(UTF32LE_BOM, 0, UTF32LE_BOM.length);
-				break;
-			case "UTF-32":
-			case "UTF-32BE":
-				out.write(UTF32BE_BOM, 0, UTF32BE_BOM.length);
-				break;
+		byte[] bom = getBom(encoding);
+		if (bom!=null) {
+			out.write(bom, 0, bom.length);
 		}
 
 	}
@@ -24,11 +24,166 @@ import java.io.IOException;
  */
 public abstract class AbstractJFlexTokenMaker extends TokenMakerBase {
 
+	/**
+	 * Lexed by {@link #releaseText()} so the scanner no longer references
+	 * the text it last lexed.
+	 */
+	private static final Segment EMPTY_LINE = new Segment(new char[0], 0, 0);
+
 	protected Segment s;
 
 	protected int start;		// Just for states.
 	protected int offsetShift;	// As parser always starts at 0, but our line doesn't.
 
+	/**
+	 * Whether we're only determining the state at the end of a line, rather
+	 * than creating its token list.
+	 */
+	private boolean stateOnly;
+
+	/**
+	 * The tokens reused for every token identified while
+	 * <code>stateOnly</code> is <code>true</code>.
+	 */
+	private TokenImpl[] stateTokens;
+
+
+	@Override
+	public void addNullToken() {
+		if (stateOnly) {
+			TokenImpl t = nextStateToken();
+			t.text = null;
+			t.setType(TokenTypes.NULL);
+			t.setOffset(-1);
+			t.setLanguageIndex(getLanguageIndex());
+			t.setHyperlink(false);
+		}
+		else {
+			super.addNullToken();
+		}
+	}
+
+
+	@Override
+	public void addToken(char[] array, int start, int end, int tokenType,
+						int startOffset, boolean hyperlink) {
+		if (stateOnly) {
+			TokenImpl t = nextStateToken();
+			t.set(array, start, end, startOffset, tokenType);
+			t.setLanguageIndex(getLanguageIndex());
+			t.setHyperlink(hyperlink);
+		}
+		else {
+			super.addToken(array, start, end, tokenType, startOffset,
+						hyperlink);
+		}
+	}
+
+
+	/**
+	 * {@inheritDoc}<p>
+	 *
+	 * If {@link #getSupportsStateOnlyScanning()} returns <code>true</code>,
+	 * this runs the lexer without building a token list.  Every token
+	 * identified on the line is written into one of a few reusable tokens
+	 * rather than being taken from the token factory and linked to the
+	 * tokens before it.  Only the type of the last one is needed.  This is
+	 * called for every line in the document when it is loaded or its syntax
+	 * style changes, and for lines below an edit whose state may have
+	 * changed, so this saves quite a bit of work.
+	 */
+	@Override
+	public int getLastTokenTypeOnLine(Segment text, int initialTokenType) {
+
+		if (!getSupportsStateOnlyScanning()) {
+			return super.getLastTokenTypeOnLine(text, initialTokenType);
+		}
+
+		if (stateTokens==null) {
+			stateTokens = new TokenImpl[] {
+				new TokenImpl(), new TokenImpl(), new TokenImpl()
+			};
+		}
+
+		stateOnly = true;
+		try {
+			Token t = getTokenList(text, initialTokenType, 0);
+			if (t==stateTokens[0]) {
+				return currentToken.getType();
+			}
+			// e.g. an IOException was caught, and a new token returned
+			while (t.getNextToken()!=null) {
+				t = t.getNextToken();
+			}
+			return t.getType();
+		} finally {
+			stateOnly = false;
+		}
+
+	}
+
+
+	/**
+	 * Returns whether {@link #getLastTokenTypeOnLine(Segment, int)} can be
+	 * computed without building a linked list of tokens.  While it is, the
+	 * <code>firstToken</code>, <code>previousToken</code> and
+	 * <code>currentToken</code> fields still hold the first, second-to-last
+	 * and last tokens identified so far, but they are not linked together.
+	 * Subclasses whose lexer actions walk the list of tokens identified so
+	 * far, e.g. via {@link Token#getNextToken()} or
+	 * {@link Token#getLastNonCommentNonWhitespaceToken()}, must override
+	 * this method to return <code>false</code>.<p>
+	 *
+	 * The default implementation returns <code>true</code>.
+	 *
+	 * @return Whether the state at the end of a line can be determined
+	 *         without a token list.
+	 */
+	protected boolean getSupportsStateOnlyScanning() {
+		return true;
+	}
+
+
+	/**
+	 * Returns the token to use for the next token identified while only
+	 * determining the state at the end of a line, and makes it the current
+	 * token.  The first token on the line is never reused.
+	 *
+	 * @return The token to populate.
+	 */
+	private TokenImpl nextStateToken() {
+		TokenImpl t;
+		if (firstToken==null) {
+			t = stateTokens[0];
+			firstToken = t;
+		}
+		else {
+			t = currentToken==stateTokens[1] ? stateTokens[2] : stateTokens[1];
+			previousToken = currentToken;
+		}
+		currentToken = t;
+		return t;
+	}
+
+
+	/**
+	 * {@inheritDoc}<p>
+	 *
+	 * The scanner's buffer, and the segment <code>s</code>, refer to the
+	 * text last lexed.  Subclasses generated by JFlex keep their buffer
+	 * private, so an empty line is lexed to point both at an empty array.
+	 */
+	@Override
+	protected void releaseText() {
+		getTokenList(EMPTY_LINE, TokenTypes.NULL, 0);
+		super.releaseText();
+		if (stateTokens!=null) {
+			for (TokenImpl t : stateTokens) {
+				t.text = null;
+			}
+		}
+	}
+
 
 	/**
 	 * Declared here so we can define overloads that refer to this method.
@@ -32,10 +32,14 @@ public abstract class AbstractTokenMaker extends TokenMakerBase {
 
 
 	/**
-	 * Constructor.
+	 * Constructor.  The words to highlight are {@link TokenMap#freeze()
+	 * frozen} for quick lookup.
 	 */
 	public AbstractTokenMaker() {
 		wordsToHighlight = getWordsToHighlight();
+		if (wordsToHighlight!=null) {
+			wordsToHighlight.freeze();
+		}
 	}
 
 
@@ -4,6 +4,9 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
+import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -11,7 +14,18 @@ import java.util.Set;
 
 /**
  * Base class for {@link TokenMakerFactory} implementations.  A mapping from
- * language keys to the names of {@link TokenMaker} classes is stored.
+ * language keys to the names of {@link TokenMaker} classes is stored.<p>
+ *
+ * Optionally, token makers can be pooled and reused.  With pooling enabled,
+ * token makers returned via {@link #releaseTokenMaker(String, TokenMaker)}
+ * are handed out again by later calls to {@link #getTokenMaker(String)},
+ * rather than new ones being created.  {@link RSyntaxDocument}s release their
+ * token maker when their syntax style changes, so an application can recycle
+ * the token maker of a document it is done with (for example, when closing an
+ * editor tab) by setting its style to
+ * {@link SyntaxConstants#SYNTAX_STYLE_NONE}.  Languages can also be
+ * {@link #preloadTokenMakers(String...) preloaded} at startup, so the first
+ * documents using them open quickly.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -26,6 +40,17 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 	 */
 	private Map<String, Object> tokenMakerMap;
 
+	/**
+	 * Released token makers available for reuse, by key.  This is
+	 * <code>null</code> if pooling is disabled.
+	 */
+	private Map<String, Deque<TokenMaker>> pools;
+
+	/**
+	 * The maximum number of released token makers kept for each key.
+	 */
+	private static final int MAX_POOLED_TOKEN_MAKERS = 8;
+
 
 	/**
 	 * Constructor.
@@ -47,6 +72,15 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 	protected TokenMaker getTokenMakerImpl(String key) {
 		TokenMakerCreator tmc = (TokenMakerCreator)tokenMakerMap.get(key);
 		if (tmc!=null) {
+			Map<String, Deque<TokenMaker>> pools = this.pools;
+			if (pools!=null) {
+				synchronized (pools) {
+					Deque<TokenMaker> pool = pools.get(key);
+					if (pool!=null && !pool.isEmpty()) {
+						return pool.pop();
+					}
+				}
+			}
 			try {
 				return tmc.create();
 			} catch (RuntimeException re) { // FindBugs
@@ -71,12 +105,47 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 	protected abstract void initTokenMakerMap();
 
 
+	/**
+	 * Returns whether token makers are pooled and reused.
+	 *
+	 * @return Whether token makers are pooled.
+	 * @see #setTokenMakerPoolingEnabled(boolean)
+	 */
+	public boolean isTokenMakerPoolingEnabled() {
+		return pools!=null;
+	}
+
+
 	@Override
 	public Set<String> keySet() {
 		return tokenMakerMap.keySet();
 	}
 
 
+	/**
+	 * Loads the token makers for a set of keys, so that documents using
+	 * them can be created quickly later.  This can be called at application
+	 * startup (perhaps on a background thread) for commonly used languages.
+	 * If pooling is enabled, one token maker for each key is added to its
+	 * pool.
+	 *
+	 * @param keys The keys, such as
+	 *        {@link SyntaxConstants#SYNTAX_STYLE_JAVA}.  Unknown keys are
+	 *        ignored.
+	 * @see #setTokenMakerPoolingEnabled(boolean)
+	 */
+	public void preloadTokenMakers(String... keys) {
+		for (String key : keys) {
+			if (tokenMakerMap.get(key)!=null) {
+				TokenMaker tm = getTokenMakerImpl(key);
+				if (tm!=null) {
+					releaseTokenMaker(key, tm);
+				}
+			}
+		}
+	}
+
+
 	/**
 	 * Adds a mapping from a key to a <code>TokenMaker</code> implementation
 	 * class name.
@@ -101,6 +170,62 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 	 */
 	public void putMapping(String key, String className, ClassLoader cl) {
 		tokenMakerMap.put(key, new TokenMakerCreator(className, cl));
+		Map<String, Deque<TokenMaker>> pools = this.pools;
+		if (pools!=null) {
+			synchronized (pools) {
+				pools.remove(key);
+			}
+		}
+	}
+
+
+	/**
+	 * {@inheritDoc}<p>
+	 *
+	 * If pooling is enabled, and the token maker is of the type this factory
+	 * creates for the key, it is kept for reuse.  Token makers extending
+	 * {@link TokenMakerBase} first release their references to the text they
+	 * last lexed (see {@link TokenMakerBase#releaseText()}), so pooled token
+	 * makers don't keep closed documents' text from being garbage collected.
+	 *
+	 * @see #setTokenMakerPoolingEnabled(boolean)
+	 */
+	@Override
+	public void releaseTokenMaker(String key, TokenMaker tokenMaker) {
+
+		Map<String, Deque<TokenMaker>> pools = this.pools;
+		TokenMakerCreator tmc = (TokenMakerCreator)tokenMakerMap.get(key);
+		if (pools==null || tmc==null || !tmc.isCreatorOf(tokenMaker)) {
+			return;
+		}
+
+		// Don't hold onto the last document's text while pooled
+		if (tokenMaker instanceof TokenMakerBase) {
+			((TokenMakerBase)tokenMaker).releaseText();
+		}
+
+		synchronized (pools) {
+			Deque<TokenMaker> pool = pools.computeIfAbsent(key, k -> new ArrayDeque<>());
+			if (pool.size()<MAX_POOLED_TOKEN_MAKERS && !pool.contains(tokenMaker)) {
+				pool.push(tokenMaker);
+			}
+		}
+
+	}
+
+
+	/**
+	 * Toggles whether token makers are pooled and reused.  This is disabled
+	 * by default.  Disabling pooling discards all pooled token makers.
+	 *
+	 * @param enabled Whether to pool token makers.
+	 * @see #isTokenMakerPoolingEnabled()
+	 * @see #preloadTokenMakers(String...)
+	 */
+	public void setTokenMakerPoolingEnabled(boolean enabled) {
+		if (enabled!=isTokenMakerPoolingEnabled()) {
+			pools = enabled ? new HashMap<>() : null;
+		}
 	}
 
 
@@ -112,13 +237,34 @@ public abstract class AbstractTokenMakerFactory extends TokenMakerFactory {
 		private String className;
 		private ClassLoader cl;
 
+		/**
+		 * The token maker's constructor, cached so that only the first
+		 * token maker created pays for the class lookup.
+		 */
+		private volatile Constructor<?> constructor;
+
 		 TokenMakerCreator(String className, ClassLoader cl) {
 			this.className = className;
 			this.cl = cl!=null ? cl : getClass().getClassLoader();
 		}
 
 		public TokenMaker create() throws Exception {
-			return (TokenMaker)Class.forName(className, true, cl).getDeclaredConstructor().newInstance();
+			Constructor<?> constructor = this.constructor;
+			if (constructor==null) {
+				constructor = Class.forName(className, true, cl).getDeclaredConstructor();
+				this.constructor = constructor;
+			}
+			return (TokenMaker)constructor.newInstance();
+		}
+
+		/**
+		 * Returns whether a token maker is of the type this creator creates.
+		 *
+		 * @param tm The token maker.
+		 * @return Whether it is of this creator's type.
+		 */
+		public boolean isCreatorOf(TokenMaker tm) {
+			return tm!=null && tm.getClass().getName().equals(className);
 		}
 
 	}
@@ -0,0 +1,317 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.File;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import javax.swing.SwingWorker;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+import org.fife.io.UnicodeReader;
+
+
+/**
+ * Loads a file into a {@link TextEditorPane} in the background.  Instances
+ * of this class are returned by
+ * {@link TextEditorPane#loadAsync(FileLocation, String)}.<p>
+ *
+ * The file is decoded on a worker thread, and the text read is appended to
+ * the editor's document in batches on the EDT, so the user can scroll
+ * through and search the part of the file that has been loaded so far.
+ * Since this is a <code>SwingWorker</code>, callers can:
+ * <ul>
+ *    <li>Wait for the load to complete with <code>get()</code>.  This
+ *        rethrows any <code>IOException</code> that occurred, wrapped in an
+ *        <code>ExecutionException</code>.
+ *    <li>Cancel the load with <code>cancel()</code>.
+ *    <li>Listen for <code>"progress"</code> property changes to track
+ *        progress.  Progress is only reported as the file is read for local
+ *        files; for other files, it jumps to 100 when loading completes.
+ *    <li>Listen for the <code>"state"</code> property changing to
+ *        <code>DONE</code>, which happens after the editor has been updated.
+ * </ul>
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see TextEditorPane#loadAsync(FileLocation, String)
+ */
+public final class AsyncFileLoader extends SwingWorker<Void, String> {
+
+	/**
+	 * The number of chars read at a time.
+	 */
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	private final TextEditorPane textArea;
+	private final Document doc;
+	private final FileLocation loc;
+	private final String defaultEnc;
+	private final boolean editable;
+
+	/**
+	 * Set on the worker thread, and only read once it's done.
+	 */
+	private String encoding;
+	private String lineSeparator;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param textArea The text area to load into.
+	 * @param loc The location of the file to load.
+	 * @param defaultEnc The encoding to use if the file does not start with
+	 *        a BOM, or <code>null</code> for the system default.
+	 */
+	AsyncFileLoader(TextEditorPane textArea, FileLocation loc,
+			String defaultEnc) {
+		this.textArea = textArea;
+		this.doc = textArea.getDocument();
+		this.loc = loc;
+		this.defaultEnc = defaultEnc;
+		this.editable = textArea.isEditable();
+	}
+
+
+	@Override
+	protected Void doInBackground() throws IOException {
+
+		// New local files are simply empty
+		if (loc.isLocal() && !loc.isLocalAndExists()) {
+			encoding = defaultEnc!=null ? defaultEnc :
+					TextEditorPane.getDefaultEncoding();
+			lineSeparator = System.lineSeparator();
+			setProgress(100);
+			return null;
+		}
+
+		long size = loc.isLocal() ? new File(loc.getFileFullPath()).length() : -1;
+		boolean lastWasCR = false;
+		boolean isCRLF = false;
+		boolean isCR = false;
+
+		try (ByteCounter in = new ByteCounter(loc.getInputStream());
+				UnicodeReader r = new UnicodeReader(in, defaultEnc)) {
+
+			encoding = r.getEncoding();
+			char[] buf = new char[BUFFER_SIZE];
+			int count;
+
+			// Convert "\r\n" and "\r" into "\n", just like a synchronous load
+			while (!isCancelled() && (count = r.read(buf)) != -1) {
+				StringBuilder sb = new StringBuilder(count + 1);
+				for (int i=0; i<count; i++) {
+					char ch = buf[i];
+					switch (ch) {
+						case '\r':
+							if (lastWasCR) {
+								sb.append('\n');
+								isCR = true;
+							}
+							lastWasCR = true;
+							break;
+						case '\n':
+							isCRLF |= lastWasCR;
+							lastWasCR = false;
+							sb.append('\n');
+							break;
+						default:
+							if (lastWasCR) {
+								sb.append('\n');
+								isCR = true;
+								lastWasCR = false;
+							}
+							sb.append(ch);
+							break;
+					}
+				}
+				publish(sb.toString());
+				if (size>0) {
+					setProgress((int)Math.min(99, in.count * 100 / size));
+				}
+			}
+
+		}
+
+		if (lastWasCR) {
+			publish("\n");
+			isCR = true;
+		}
+		if (isCRLF) {
+			lineSeparator = "\r\n";
+		}
+		else if (isCR) {
+			lineSeparator = "\r";
+		}
+		else {
+			lineSeparator = "\n";
+		}
+
+		setProgress(100);
+		return null;
+
+	}
+
+
+	@Override
+	protected void done() {
+
+		boolean completed = !isCancelled();
+		if (completed) {
+			try {
+				get();
+			} catch (ExecutionException e) {
+				completed = false;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				completed = false;
+			}
+		}
+
+		textArea.asyncLoadDone(this, completed);
+
+	}
+
+
+	/**
+	 * Returns the document being loaded into.
+	 *
+	 * @return The document.
+	 */
+	Document getDocument() {
+		return doc;
+	}
+
+
+	/**
+	 * Returns the encoding of the file.
+	 *
+	 * @return The encoding, or <code>null</code> if it isn't known yet.
+	 */
+	String getEncoding() {
+		return encoding;
+	}
+
+
+	/**
+	 * Returns the location of the file being loaded.
+	 *
+	 * @return The file's location.
+	 */
+	public FileLocation getFileLocation() {
+		return loc;
+	}
+
+
+	/**
+	 * Returns the line separator found in the file.
+	 *
+	 * @return The line separator, or <code>null</code> if loading did not
+	 *         complete.
+	 */
+	String getLineSeparator() {
+		return lineSeparator;
+	}
+
+
+	/**
+	 * Returns whether the text area was editable before loading started.
+	 *
+	 * @return Whether the text area was editable.
+	 */
+	boolean isEditable() {
+		return editable;
+	}
+
+
+	@Override
+	protected void process(List<String> chunks) {
+
+		if (isCancelled()) {
+			return;
+		}
+		if (textArea.getDocument()!=doc) {
+			// The application replaced the document
+			cancel(true);
+			return;
+		}
+
+		String text;
+		if (chunks.size()==1) {
+			text = chunks.get(0);
+		}
+		else {
+			StringBuilder sb = new StringBuilder();
+			for (String chunk : chunks) {
+				sb.append(chunk);
+			}
+			text = sb.toString();
+		}
+
+		// Don't let loading make the editor dirty
+		int offs = doc.getLength();
+		doc.removeDocumentListener(textArea);
+		try {
+			doc.insertString(offs, text, null);
+		} catch (BadLocationException ble) { // Never happens
+			ble.printStackTrace();
+		} finally {
+			doc.addDocumentListener(textArea);
+		}
+
+		// Keep the caret at the top, and don't let the user undo the load
+		if (offs==0) {
+			textArea.setCaretPosition(0);
+		}
+		textArea.discardAllEdits();
+
+	}
+
+
+	/**
+	 * Counts the bytes read from a stream.
+	 */
+	private static final class ByteCounter extends FilterInputStream {
+
+		private long count;
+
+		ByteCounter(InputStream in) {
+			super(in);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b!=-1) {
+				count++;
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int n = super.read(b, off, len);
+			if (n>0) {
+				count += n;
+			}
+			return n;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
+
+	}
+
+
+}
@@ -116,6 +116,16 @@ class DefaultTokenFactory implements TokenFactory {
 	}
 
 
+	@Override
+	public void releaseAllTokens() {
+		currentFreeToken = 0;
+		for (TokenImpl token : tokenList) {
+			token.text = null;
+			token.setNextToken(null);
+		}
+	}
+
+
 	/**
 	 * Resets the state of this token maker.  This method should be called
 	 * by the <code>TokenMaker</code> every time a token list is generated for
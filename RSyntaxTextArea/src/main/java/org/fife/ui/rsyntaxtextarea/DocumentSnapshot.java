@@ -0,0 +1,350 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import javax.swing.text.Segment;
+
+
+/**
+ * An immutable view of the text, lines and line states of an
+ * {@link RSyntaxDocument} at a single point in time.  Snapshots are returned
+ * by {@link RSyntaxDocument#getSnapshot()}.<p>
+ *
+ * Unlike the document itself, a snapshot can be used from any thread without
+ * holding the document's lock, and is unaffected by later edits.  This lets
+ * parsers, searches and other analysis run in the background while the user
+ * keeps typing.  Whether the results are still relevant can be checked by
+ * comparing the snapshot's {@link #getVersion() version} to the document's
+ * {@link RSyntaxDocument#getVersion() current version}.<p>
+ *
+ * Offsets and line indices work just as they do in the document, and lines
+ * are separated by <code>'\n'</code>.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see RSyntaxDocument#getSnapshot()
+ */
+public final class DocumentSnapshot {
+
+	private final long version;
+	private final String syntaxStyle;
+
+	/**
+	 * The text.  This shares all unchanged text with other snapshots of the
+	 * same document, and knows where its lines start.
+	 */
+	private final SnapshotText text;
+
+	/**
+	 * The last token type on each line.  This shares the states of all
+	 * unchanged lines with other snapshots of the same document.
+	 */
+	private final SnapshotStates lastTokenTypes;
+
+	/**
+	 * The first line whose state wasn't known when this snapshot was taken.
+	 */
+	private final int firstUnknownStateLine;
+
+	/**
+	 * The document's long line policy when this snapshot was taken.
+	 */
+	private final LongLinePolicy longLinePolicy;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param version The document's version.
+	 * @param syntaxStyle The document's syntax style.
+	 * @param text The document's text.
+	 * @param lastTokenTypes The last token type on each line.
+	 * @param firstUnknownStateLine The first line whose state isn't known,
+	 *        or <code>Integer.MAX_VALUE</code> if all are known.
+	 * @param longLinePolicy The document's long line policy.
+	 */
+	DocumentSnapshot(long version, String syntaxStyle, SnapshotText text,
+			SnapshotStates lastTokenTypes, int firstUnknownStateLine,
+			LongLinePolicy longLinePolicy) {
+		this.version = version;
+		this.syntaxStyle = syntaxStyle;
+		this.text = text;
+		this.lastTokenTypes = lastTokenTypes;
+		this.firstUnknownStateLine = firstUnknownStateLine;
+		this.longLinePolicy = longLinePolicy;
+	}
+
+
+	/**
+	 * Verifies a line index is valid.
+	 *
+	 * @param line The line index.
+	 * @throws IndexOutOfBoundsException If the line is not valid.
+	 */
+	private void checkLine(int line) {
+		if (line<0 || line>=lastTokenTypes.getSize()) {
+			throw new IndexOutOfBoundsException("Line " + line +
+					" not in range [0-" + (lastTokenTypes.getSize()-1) + "]");
+		}
+	}
+
+
+	/**
+	 * Returns the first line whose state wasn't known when this snapshot
+	 * was taken.
+	 *
+	 * @return The line, or <code>Integer.MAX_VALUE</code> if all lines'
+	 *         states were known.
+	 * @see #isLineStateKnown(int)
+	 */
+	int getFirstUnknownStateLine() {
+		return firstUnknownStateLine;
+	}
+
+
+	/**
+	 * Returns the type of the last token on a line.  This is
+	 * {@link TokenTypes#NULL} unless the line ends in a construct that
+	 * continues onto the next line, such as a multi-line comment.
+	 *
+	 * @param line The line.
+	 * @return The last token type on the line.
+	 * @throws IndexOutOfBoundsException If <code>line</code> is invalid.
+	 * @see #isLineStateKnown(int)
+	 * @see RSyntaxDocument#getLastTokenTypeOnLine(int)
+	 */
+	public int getLastTokenTypeOnLine(int line) {
+		checkLine(line);
+		return lastTokenTypes.get(line);
+	}
+
+
+	/**
+	 * Returns the length of the text.
+	 *
+	 * @return The length of the text.
+	 */
+	public int getLength() {
+		return text.getLength();
+	}
+
+
+	/**
+	 * Returns the text of a line, not including its terminating newline.
+	 *
+	 * @param line The line.
+	 * @return The text of the line.
+	 * @throws IndexOutOfBoundsException If <code>line</code> is invalid.
+	 */
+	public CharSequence getLine(int line) {
+		int start = getLineStartOffset(line);
+		int end = getLineEndOffset(line) - 1;
+		return new Text(text, start, end - start);
+	}
+
+
+	/**
+	 * Returns the number of lines.  This is always at least <code>1</code>.
+	 *
+	 * @return The number of lines.
+	 */
+	public int getLineCount() {
+		return lastTokenTypes.getSize();
+	}
+
+
+	/**
+	 * Returns the end offset of a line.  Just like with the document's line
+	 * elements, this is the offset after the line's terminating newline; the
+	 * last line is treated as if it ends with a newline as well.
+	 *
+	 * @param line The line.
+	 * @return The end offset of the line.
+	 * @throws IndexOutOfBoundsException If <code>line</code> is invalid.
+	 */
+	public int getLineEndOffset(int line) {
+		checkLine(line);
+		return line<lastTokenTypes.getSize()-1 ? text.getLineStartOffset(line+1) :
+				text.getLength()+1;
+	}
+
+
+	/**
+	 * Returns the line containing an offset.
+	 *
+	 * @param offs The offset.
+	 * @return The line.
+	 * @throws IndexOutOfBoundsException If <code>offs</code> is less than
+	 *         <code>0</code> or greater than the length of the text.
+	 */
+	public int getLineOfOffset(int offs) {
+		if (offs<0 || offs>text.getLength()) {
+			throw new IndexOutOfBoundsException("Offset " + offs +
+					" not in range [0-" + text.getLength() + "]");
+		}
+		return text.getLineOfOffset(offs);
+	}
+
+
+	/**
+	 * Returns the start offset of a line.
+	 *
+	 * @param line The line.
+	 * @return The start offset of the line.
+	 * @throws IndexOutOfBoundsException If <code>line</code> is invalid.
+	 */
+	public int getLineStartOffset(int line) {
+		checkLine(line);
+		return text.getLineStartOffset(line);
+	}
+
+
+	/**
+	 * Returns the syntax style of the document when this snapshot was taken.
+	 *
+	 * @return The syntax style.
+	 * @see RSyntaxDocument#getSyntaxStyle()
+	 */
+	public String getSyntaxStyle() {
+		return syntaxStyle;
+	}
+
+
+	/**
+	 * Returns the text.  The returned sequence is immutable and may be used
+	 * from any thread.
+	 *
+	 * @return The text.
+	 */
+	public CharSequence getText() {
+		return new Text(text, 0, text.getLength());
+	}
+
+
+	/**
+	 * Returns a range of the text.
+	 *
+	 * @param offs The start offset of the range.
+	 * @param len The length of the range.
+	 * @return The text.
+	 * @throws IndexOutOfBoundsException If the range is invalid.
+	 */
+	public String getText(int offs, int len) {
+		if (offs<0 || len<0 || offs+len>text.getLength()) {
+			throw new IndexOutOfBoundsException("Range [" + offs + ", " +
+					(offs+len) + ") not in range [0-" + text.getLength() + "]");
+		}
+		return text.getString(offs, len);
+	}
+
+
+	/**
+	 * Returns a token list for a line, lexed by a token maker.  This allows
+	 * the lines in a snapshot to be lexed on a background thread.<p>
+	 *
+	 * Just like with {@link TokenMaker#getTokenList(Segment, int, int)}, the
+	 * returned tokens are only valid until the next time
+	 * <code>tokenMaker</code> is used.  Since token makers aren't thread-safe,
+	 * each thread should use its own token maker for the snapshot's syntax
+	 * style, e.g. one created by a {@link TokenMakerFactory}.<p>
+	 *
+	 * Long lines are lexed in chunks, or returned as plain text, according
+	 * to the document's {@link LongLinePolicy} when the snapshot was taken,
+	 * so the tokens match those the document highlights.  The tokens of such
+	 * lines aren't reused.
+	 *
+	 * @param line The line.
+	 * @param tokenMaker The token maker to use.
+	 * @return The token list for the line.
+	 * @throws IndexOutOfBoundsException If <code>line</code> is invalid.
+	 */
+	public Token getTokenListForLine(int line, TokenMaker tokenMaker) {
+		int start = getLineStartOffset(line);
+		int end = getLineEndOffset(line) - 1;
+		Segment s = new Segment();
+		text.getSegment(start, end - start, s);
+		int initialTokenType = line==0 ? TokenTypes.NULL :
+				lastTokenTypes.get(line-1);
+		if (longLinePolicy.isLongLine(s.count)) {
+			return new LongLineLexer(tokenMaker, longLinePolicy).getTokenList(
+					s, initialTokenType, start, start, end);
+		}
+		return tokenMaker.getTokenList(s, initialTokenType, start);
+	}
+
+
+	/**
+	 * Returns the version of the document when this snapshot was taken.
+	 *
+	 * @return The version.
+	 * @see RSyntaxDocument#getVersion()
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+
+	/**
+	 * Returns whether the state of a line was known when this snapshot was
+	 * taken.  This is only ever <code>false</code> if the document lexes
+	 * progressively; in that case, the last token types of this line and all
+	 * lines after it are provisional.
+	 *
+	 * @param line The line.
+	 * @return Whether the line's state was known.
+	 * @see RSyntaxDocument#isLineStateKnown(int)
+	 */
+	public boolean isLineStateKnown(int line) {
+		return line<firstUnknownStateLine;
+	}
+
+
+	/**
+	 * An immutable range of a snapshot's text.
+	 */
+	private static final class Text implements CharSequence {
+
+		private final SnapshotText text;
+		private final int offset;
+		private final int length;
+
+		Text(SnapshotText text, int offset, int length) {
+			this.text = text;
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public char charAt(int index) {
+			if (index<0 || index>=length) {
+				throw new IndexOutOfBoundsException("Index " + index +
+						" is not in range [0-" + length + ")");
+			}
+			return text.charAt(offset + index);
+		}
+
+		@Override
+		public int length() {
+			return length;
+		}
+
+		@Override
+		public CharSequence subSequence(int start, int end) {
+			if (start<0 || end>length || start>end) {
+				throw new IndexOutOfBoundsException("Range [" + start + ", " +
+						end + ") not in range [0-" + length + "]");
+			}
+			return new Text(text, offset + start, end - start);
+		}
+
+		@Override
+		public String toString() {
+			return text.getString(offset, length);
+		}
+
+	}
+
+
+}
@@ -0,0 +1,650 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+
+
+/**
+ * Records every edit made to a document in an append-only journal file, so
+ * unsaved work can be recovered if the application dies.  Periodically
+ * saving the entire document would be too expensive for large documents;
+ * instead, each insertion and removal is appended to the journal.<p>
+ *
+ * Edits are queued by a document listener, which takes microseconds, and
+ * written to the journal through a buffered <code>FileChannel</code> on a
+ * background thread, so the EDT never waits on IO.  When the journal grows
+ * large compared to the document, it is compacted into a checkpoint
+ * holding the document's entire text, followed by any later edits.<p>
+ *
+ * Usage is typically as follows:
+ * <ol>
+ *    <li>When a file is opened, if a journal for it exists from a previous
+ *        session, call {@link #recover(File, Document)} to replay it over
+ *        the file's text as loaded from disk.
+ *    <li>Create an <code>EditJournal</code> to start journaling the
+ *        document.
+ *    <li>Whenever the document is saved, call {@link #markSaved()}, since
+ *        the edits so far are no longer needed.
+ *    <li>When the document is closed, call {@link #close()}, which deletes
+ *        the journal on the background thread.  An application that is
+ *        exiting should then call {@link #awaitClose(long, TimeUnit)} so
+ *        the journal isn't left behind to be recovered later.
+ * </ol>
+ * The journal protects against the JVM dying, not against the operating
+ * system crashing, since only checkpoints are synced to disk.  Only the
+ * document's text is journaled, not its properties, such as its line
+ * separator.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class EditJournal implements Closeable {
+
+	/**
+	 * The default journal size, in bytes, below which the journal is never
+	 * compacted.
+	 */
+	public static final long DEFAULT_MIN_COMPACTION_SIZE = 4 * 1024 * 1024;
+
+	/**
+	 * The number of bytes buffered before being written.
+	 */
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	/**
+	 * Identifies journal files.
+	 */
+	private static final int MAGIC = 0x52535441;
+
+	/**
+	 * The size of the journal's header.
+	 */
+	private static final int HEADER_SIZE = 4;
+
+	/**
+	 * The size of a record's type, offset and length.
+	 */
+	private static final int RECORD_HEADER_SIZE = 9;
+
+	private static final byte INSERT = 'I';
+	private static final byte REMOVE = 'R';
+	private static final byte CHECKPOINT = 'C';
+
+	/**
+	 * Record types that are commands to the background thread, not edits.
+	 */
+	private static final byte RESET = 0;
+	private static final byte FLUSH = 1;
+	private static final byte CLOSE = 2;
+
+	private final Document doc;
+	private final Path journal;
+	private final long minCompactionSize;
+	private final Listener listener;
+	private final BlockingQueue<Record> queue;
+
+	/**
+	 * Counted down once the journal has been closed and deleted.
+	 */
+	private final CountDownLatch closedLatch;
+
+	/**
+	 * The number of records queued so far.  This is only modified on the
+	 * thread editing the document.
+	 */
+	private volatile long queuedCount;
+
+	private volatile IOException error;
+
+	/**
+	 * Whether {@link #close()} has been called.
+	 */
+	private volatile boolean closed;
+
+	// These are only accessed on the background thread.
+	private FileChannel channel;
+	private final ByteBuffer buffer;
+	private long journalSize;
+	private long checkpointSeq;
+
+
+	/**
+	 * Constructor.  The journal is compacted once it is at least
+	 * {@link #DEFAULT_MIN_COMPACTION_SIZE} bytes.
+	 *
+	 * @param doc The document to journal.
+	 * @param journalFile The journal file.  If it exists, it is
+	 *        overwritten.
+	 * @throws IOException If the journal can't be created.
+	 */
+	public EditJournal(Document doc, File journalFile) throws IOException {
+		this(doc, journalFile, DEFAULT_MIN_COMPACTION_SIZE);
+	}
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param doc The document to journal.
+	 * @param journalFile The journal file.  If it exists, it is
+	 *        overwritten.
+	 * @param minCompactionSize The journal size, in bytes, below which
+	 *        the journal is never compacted.  Above this size, it is
+	 *        compacted when it is larger than twice the size of the
+	 *        document's text.
+	 * @throws IOException If the journal can't be created.
+	 */
+	public EditJournal(Document doc, File journalFile, long minCompactionSize)
+			throws IOException {
+
+		this.doc = doc;
+		this.journal = journalFile.toPath();
+		this.minCompactionSize = minCompactionSize;
+		buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		queue = new LinkedBlockingQueue<>();
+		closedLatch = new CountDownLatch(1);
+
+		channel = openJournal(journal);
+		journalSize = HEADER_SIZE;
+
+		listener = new Listener();
+		doc.addDocumentListener(listener);
+		Thread thread = new Thread(this::writeRecords, "EditJournal");
+		thread.setDaemon(true);
+		thread.start();
+
+	}
+
+
+	/**
+	 * Waits for the journal to be closed and deleted after a call to
+	 * {@link #close()}.  Since this waits on IO, it shouldn't be called on
+	 * the EDT unless the application is exiting.
+	 *
+	 * @param timeout The maximum time to wait.
+	 * @param unit The unit of <code>timeout</code>.
+	 * @return Whether the journal was closed before the timeout elapsed.
+	 * @throws IOException If an IO error occurred writing or deleting the
+	 *         journal.
+	 * @throws IllegalStateException If {@link #close()} hasn't been called.
+	 */
+	public boolean awaitClose(long timeout, TimeUnit unit) throws IOException {
+		if (!closed) {
+			throw new IllegalStateException("Journal is not closed");
+		}
+		boolean done;
+		try {
+			done = closedLatch.await(timeout, unit);
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			throw new IOException(ie);
+		}
+		if (error!=null) {
+			throw error;
+		}
+		return done;
+	}
+
+
+	/**
+	 * Stops journaling the document, and deletes the journal once the edits
+	 * already queued are written.  This should be called when the document
+	 * is closed.  This method doesn't wait for the journal to be deleted;
+	 * use {@link #awaitClose(long, TimeUnit)} for that.  Calling this method
+	 * again has no effect.
+	 *
+	 * @throws IOException If an IO error has already stopped journaling.
+	 */
+	@Override
+	public synchronized void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			doc.removeDocumentListener(listener);
+			queue.add(new Record(CLOSE, 0, null, 0, 0, closedLatch));
+		}
+		if (error!=null) {
+			throw error;
+		}
+	}
+
+
+	/**
+	 * Closes and deletes the journal.  This is called on the background
+	 * thread.
+	 */
+	private void closeJournal() {
+		try {
+			channel.close();
+			Files.deleteIfExists(journal);
+		} catch (IOException ioe) {
+			if (error==null) {
+				error = ioe;
+			}
+		}
+	}
+
+
+	/**
+	 * Compacts the journal into a checkpoint of the document's current
+	 * text.  Edits made after the checkpoint is taken, but not yet
+	 * written, are written after it.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void compact() throws IOException {
+
+		// Edits are made under the document's write lock, so no edits can
+		// be queued while we hold its read lock
+		String[] text = new String[1];
+		long[] seq = new long[1];
+		doc.render(() -> {
+			try {
+				text[0] = doc.getText(0, doc.getLength());
+			} catch (BadLocationException ble) { // Never happens
+				ble.printStackTrace();
+			}
+			seq[0] = queuedCount;
+		});
+
+		Path temp = journal.resolveSibling(journal.getFileName() + ".tmp");
+		buffer.clear();
+		FileChannel old = channel;
+		try (FileChannel tempChannel = openJournal(temp)) {
+			channel = tempChannel;
+			journalSize = HEADER_SIZE;
+			writeRecord(new Record(CHECKPOINT, 0, text[0], 0, seq[0]));
+			flushBuffer();
+			tempChannel.force(true);
+		} finally {
+			channel = old;
+		}
+
+		channel.close();
+		try {
+			Files.move(temp, journal, StandardCopyOption.ATOMIC_MOVE,
+					StandardCopyOption.REPLACE_EXISTING);
+		} catch (AtomicMoveNotSupportedException e) {
+			Files.move(temp, journal, StandardCopyOption.REPLACE_EXISTING);
+		}
+		channel = FileChannel.open(journal, StandardOpenOption.WRITE,
+				StandardOpenOption.APPEND);
+		checkpointSeq = seq[0];
+
+	}
+
+
+	/**
+	 * Blocks until all edits made so far have been written to the journal.
+	 * This does not sync them to disk.  Since this waits on IO, it
+	 * shouldn't be called on the EDT.
+	 *
+	 * @throws IOException If an IO error occurred writing the journal.
+	 * @throws IllegalStateException If this journal has been closed.
+	 */
+	public synchronized void flush() throws IOException {
+		if (closed) {
+			throw new IllegalStateException("Journal is closed");
+		}
+		waitFor(FLUSH);
+	}
+
+
+	/**
+	 * Writes the buffered bytes to the journal.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void flushBuffer() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+		buffer.clear();
+	}
+
+
+	/**
+	 * Returns the error that stopped journaling, if any.  Once an error
+	 * occurs, no further edits are journaled.
+	 *
+	 * @return The error, or <code>null</code> if none has occurred.
+	 */
+	public IOException getError() {
+		return error;
+	}
+
+
+	/**
+	 * Marks the document as saved.  Since the file on disk now has the
+	 * document's text, the journal is emptied.
+	 *
+	 * @throws IllegalStateException If this journal has been closed.
+	 */
+	public void markSaved() {
+		if (closed) {
+			throw new IllegalStateException("Journal is closed");
+		}
+		queue.add(new Record(RESET, 0, null, 0, ++queuedCount));
+	}
+
+
+	/**
+	 * Creates a journal file containing only a header.
+	 *
+	 * @param file The file to create or overwrite.
+	 * @return A channel for appending to the file.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private static FileChannel openJournal(Path file) throws IOException {
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+				StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+		ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+		header.putInt(MAGIC).flip();
+		while (header.hasRemaining()) {
+			channel.write(header);
+		}
+		return channel;
+	}
+
+
+	/**
+	 * Processes a record on the background thread.
+	 *
+	 * @param record The record.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void process(Record record) throws IOException {
+		switch (record.type) {
+			case RESET:
+				buffer.clear();
+				channel.truncate(HEADER_SIZE);
+				journalSize = HEADER_SIZE;
+				// A checkpoint taken after this was queued was just removed,
+				// so the edits it covered must be written again
+				checkpointSeq = record.seq;
+				break;
+			case FLUSH:
+				flushBuffer();
+				break;
+			case CLOSE:
+				flushBuffer();
+				break;
+			default: // An edit
+				if (record.seq>checkpointSeq) {
+					writeRecord(record);
+				}
+				break;
+		}
+	}
+
+
+	/**
+	 * Replays a journal over a document.  The document should contain the
+	 * text that was journaled when the journal was created or last
+	 * marked as saved, usually the file as it is on disk.  An edit only
+	 * partially written, e.g. because the application died while writing
+	 * it, is ignored.
+	 *
+	 * @param journalFile The journal.
+	 * @param doc The document to modify.
+	 * @return Whether any edits were replayed.
+	 * @throws IOException If an IO error occurs, <code>journalFile</code>
+	 *         is not a journal, or the journal's edits don't fit the
+	 *         document.
+	 */
+	public static boolean recover(File journalFile, Document doc)
+			throws IOException {
+
+		boolean modified = false;
+
+		try (InputStream fin = Files.newInputStream(journalFile.toPath());
+				DataInputStream in = new DataInputStream(
+					new BufferedInputStream(fin, BUFFER_SIZE))) {
+
+			if (in.readInt()!=MAGIC) {
+				throw new IOException("Not an edit journal: " + journalFile);
+			}
+
+			while (true) {
+
+				byte type;
+				int offs;
+				int len;
+				char[] text = null;
+				try {
+					type = in.readByte();
+					offs = in.readInt();
+					len = in.readInt();
+					if (type!=REMOVE) {
+						text = new char[len];
+						for (int i=0; i<len; i++) {
+							text[i] = in.readChar();
+						}
+					}
+				} catch (EOFException eofe) {
+					break; // End of journal, or a partially written edit
+				}
+
+				try {
+					switch (type) {
+						case INSERT:
+							doc.insertString(offs, new String(text), null);
+							break;
+						case REMOVE:
+							doc.remove(offs, len);
+							break;
+						case CHECKPOINT:
+							doc.remove(0, doc.getLength());
+							doc.insertString(0, new String(text), null);
+							break;
+						default:
+							throw new IOException("Corrupt edit journal: " +
+									journalFile);
+					}
+				} catch (BadLocationException ble) {
+					throw new IOException(
+							"Edit journal does not match the document", ble);
+				}
+				modified = true;
+
+			}
+
+		}
+
+		return modified;
+
+	}
+
+
+	/**
+	 * Queues a command for the background thread and waits for it to be
+	 * processed.
+	 *
+	 * @param type The command.
+	 * @throws IOException If an IO error has occurred.
+	 */
+	private void waitFor(byte type) throws IOException {
+		CountDownLatch latch = new CountDownLatch(1);
+		queue.add(new Record(type, 0, null, 0, 0, latch));
+		try {
+			latch.await();
+		} catch (InterruptedException ie) {
+			Thread.currentThread().interrupt();
+			throw new IOException(ie);
+		}
+		if (error!=null) {
+			throw error;
+		}
+	}
+
+
+	/**
+	 * Appends an edit to the buffer, writing the buffer out as it fills up.
+	 *
+	 * @param record The edit.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void writeRecord(Record record) throws IOException {
+
+		if (buffer.remaining()<RECORD_HEADER_SIZE) {
+			flushBuffer();
+		}
+		buffer.put(record.type);
+		buffer.putInt(record.offs);
+		buffer.putInt(record.text!=null ? record.text.length() : record.len);
+
+		if (record.text!=null) {
+			String text = record.text;
+			for (int i=0; i<text.length(); i++) {
+				if (buffer.remaining()<2) {
+					flushBuffer();
+				}
+				buffer.putChar(text.charAt(i));
+			}
+			journalSize += text.length() * 2L;
+		}
+		journalSize += RECORD_HEADER_SIZE;
+
+	}
+
+
+	/**
+	 * Run on the background thread.  Writes queued edits to the journal,
+	 * and compacts it when it gets too large.
+	 */
+	private void writeRecords() {
+
+		while (true) {
+
+			Record record;
+			try {
+				record = queue.take();
+			} catch (InterruptedException ie) {
+				return;
+			}
+
+			// Write everything queued before writing out the buffer
+			do {
+				if (error==null) {
+					try {
+						process(record);
+					} catch (IOException ioe) {
+						error = ioe;
+					}
+				}
+				if (record.type==CLOSE) {
+					closeJournal();
+					record.latch.countDown();
+					return;
+				}
+				if (record.latch!=null) {
+					record.latch.countDown();
+				}
+				record = queue.poll();
+			} while (record!=null);
+
+			if (error==null) {
+				try {
+					flushBuffer();
+					if (journalSize>Math.max(minCompactionSize,
+							4L * doc.getLength())) {
+						compact();
+					}
+				} catch (IOException ioe) {
+					error = ioe;
+				}
+			}
+
+		}
+
+	}
+
+
+	/**
+	 * Queues edits made to the document.  This is called on the thread
+	 * making the edits, while it holds the document's write lock.
+	 */
+	private final class Listener implements DocumentListener {
+
+		@Override
+		public void changedUpdate(DocumentEvent e) {
+		}
+
+		@Override
+		public void insertUpdate(DocumentEvent e) {
+			if (error==null) {
+				try {
+					String text = doc.getText(e.getOffset(), e.getLength());
+					queue.add(new Record(INSERT, e.getOffset(), text, 0,
+							++queuedCount));
+				} catch (BadLocationException ble) { // Never happens
+					ble.printStackTrace();
+				}
+			}
+		}
+
+		@Override
+		public void removeUpdate(DocumentEvent e) {
+			if (error==null) {
+				queue.add(new Record(REMOVE, e.getOffset(), null, e.getLength(),
+						++queuedCount));
+			}
+		}
+
+	}
+
+
+	/**
+	 * An edit, or a command for the background thread.
+	 */
+	private static final class Record {
+
+		private final byte type;
+		private final int offs;
+		private final String text;
+		private final int len;
+		private final long seq;
+		private final CountDownLatch latch;
+
+		Record(byte type, int offs, String text, int len, long seq) {
+			this(type, offs, text, len, seq, null);
+		}
+
+		Record(byte type, int offs, String text, int len, long seq,
+				CountDownLatch latch) {
+			this.type = type;
+			this.offs = offs;
+			this.text = text;
+			this.len = len;
+			this.seq = seq;
+			this.latch = latch;
+		}
+
+	}
+
+
+}
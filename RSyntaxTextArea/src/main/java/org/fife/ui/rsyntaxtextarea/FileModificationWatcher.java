@@ -0,0 +1,351 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.beans.PropertyChangeListener;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+
+
+/**
+ * Notifies {@link TextEditorPane}s when their files are modified outside of
+ * the editor.  Rather than polling
+ * {@link TextEditorPane#isModifiedOutsideEditor()} for every open editor,
+ * applications can add their editors to a single instance of this class.
+ * The directories containing their files are registered with a shared
+ * <code>WatchService</code>, serviced by a single daemon thread.<p>
+ *
+ * When a watched file changes, and
+ * {@link TextEditorPane#isModifiedOutsideEditor()} returns
+ * <code>true</code>, a property change event of type
+ * {@link TextEditorPane#MODIFIED_OUTSIDE_EDITOR_PROPERTY} is fired by the
+ * editor on the EDT.  Bursts of changes, such as a file being written in
+ * several chunks, are reported as a single event, though a file that
+ * changes continuously is still reported periodically.  Since the editor's
+ * last save or load time is checked, saves made by the editor itself are
+ * not reported.  Symbolic links are resolved, so the file they point to is
+ * what is watched.<p>
+ *
+ * Editors whose file changes, e.g. via
+ * {@link TextEditorPane#saveAs(FileLocation)}, are watched at their new
+ * location automatically.  Remote files are not watched.  This class
+ * should only be accessed on the EDT.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see TextEditorPane#isModifiedOutsideEditor()
+ */
+public final class FileModificationWatcher implements Closeable {
+
+	/**
+	 * The default time to wait for changes to stop before reporting them,
+	 * in milliseconds.
+	 */
+	public static final long DEFAULT_DEBOUNCE_MILLIS = 300;
+
+	/**
+	 * The default maximum time to wait before reporting changes, in
+	 * milliseconds, even if changes are still occurring.
+	 */
+	public static final long DEFAULT_MAX_DELAY_MILLIS = 2000;
+
+	private final WatchService watchService;
+	private final long debounceMillis;
+	private final long maxDelayMillis;
+	private final PropertyChangeListener pathListener;
+
+	/**
+	 * The file each editor is editing.  The value is <code>null</code> for
+	 * editors whose file can't be watched.
+	 */
+	private final Map<TextEditorPane, Path> files;
+
+	/**
+	 * The watch key for each directory containing a watched file.
+	 */
+	private final Map<Path, WatchKey> keys;
+
+
+	/**
+	 * Constructor.  Changes are reported after
+	 * {@link #DEFAULT_DEBOUNCE_MILLIS} milliseconds without further
+	 * changes, or at most {@link #DEFAULT_MAX_DELAY_MILLIS} milliseconds
+	 * after the first one.
+	 *
+	 * @throws IOException If the watch service can't be created.
+	 */
+	public FileModificationWatcher() throws IOException {
+		this(DEFAULT_DEBOUNCE_MILLIS);
+	}
+
+
+	/**
+	 * Constructor.  Changes are reported at most
+	 * {@link #DEFAULT_MAX_DELAY_MILLIS} milliseconds after the first one,
+	 * or <code>debounceMillis</code> if that is longer.
+	 *
+	 * @param debounceMillis The time to wait for changes to stop before
+	 *        reporting them, in milliseconds.
+	 * @throws IOException If the watch service can't be created.
+	 */
+	public FileModificationWatcher(long debounceMillis) throws IOException {
+		this(debounceMillis, Math.max(debounceMillis, DEFAULT_MAX_DELAY_MILLIS));
+	}
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param debounceMillis The time to wait for changes to stop before
+	 *        reporting them, in milliseconds.
+	 * @param maxDelayMillis The maximum time to wait before reporting
+	 *        changes, measured from the first one, in milliseconds.  This
+	 *        keeps a file that changes continuously from never being
+	 *        reported.
+	 * @throws IllegalArgumentException If <code>maxDelayMillis</code> is
+	 *         less than <code>debounceMillis</code>.
+	 * @throws IOException If the watch service can't be created.
+	 */
+	public FileModificationWatcher(long debounceMillis, long maxDelayMillis)
+			throws IOException {
+		if (maxDelayMillis<debounceMillis) {
+			throw new IllegalArgumentException("maxDelayMillis must be >= " +
+					"debounceMillis");
+		}
+		this.debounceMillis = debounceMillis;
+		this.maxDelayMillis = maxDelayMillis;
+		watchService = FileSystems.getDefault().newWatchService();
+		pathListener = e -> register((TextEditorPane)e.getSource());
+		files = new HashMap<>();
+		keys = new HashMap<>();
+		Thread thread = new Thread(this::watch, "FileModificationWatcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+
+	/**
+	 * Starts watching an editor's file.
+	 *
+	 * @param textArea The editor.  If it is already being watched, this
+	 *        method does nothing.
+	 * @see #removeTextEditorPane(TextEditorPane)
+	 */
+	public void addTextEditorPane(TextEditorPane textArea) {
+		if (!files.containsKey(textArea)) {
+			textArea.addPropertyChangeListener(
+					TextEditorPane.FULL_PATH_PROPERTY, pathListener);
+			register(textArea);
+		}
+	}
+
+
+	/**
+	 * Stops watching all files and stops the background thread.  This
+	 * watcher can't be used after this method is called.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	@Override
+	public void close() throws IOException {
+		for (TextEditorPane textArea : new ArrayList<>(files.keySet())) {
+			removeTextEditorPane(textArea);
+		}
+		watchService.close();
+	}
+
+
+	/**
+	 * Adds the files changed, according to a watch key's events.
+	 *
+	 * @param key The watch key.
+	 * @param changed The set to add to.  If events were lost, the key's
+	 *        directory is added, meaning any file in it may have changed.
+	 */
+	private static void collectChanges(WatchKey key, Set<Path> changed) {
+		Path dir = (Path)key.watchable();
+		for (WatchEvent<?> event : key.pollEvents()) {
+			if (event.kind()==StandardWatchEventKinds.OVERFLOW) {
+				changed.add(dir);
+			}
+			else {
+				changed.add(dir.resolve((Path)event.context()));
+			}
+		}
+		key.reset();
+	}
+
+
+	/**
+	 * Fires an event from each editor whose file changed and was modified
+	 * outside the editor.  This is called on the EDT.
+	 *
+	 * @param changed The changed files and directories.
+	 */
+	private void fireChanges(Set<Path> changed) {
+		for (Map.Entry<TextEditorPane, Path> entry : files.entrySet()) {
+			Path file = entry.getValue();
+			if (file!=null && (changed.contains(file) ||
+					changed.contains(file.getParent()))) {
+				TextEditorPane textArea = entry.getKey();
+				if (textArea.isModifiedOutsideEditor()) {
+					textArea.firePropertyChange(
+						TextEditorPane.MODIFIED_OUTSIDE_EDITOR_PROPERTY,
+						false, true);
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Returns whether an editor's file is being watched.
+	 *
+	 * @param textArea The editor.
+	 * @return Whether its file is being watched.  This is
+	 *         <code>false</code> if the editor hasn't been added to this
+	 *         watcher, or if its file is remote or in a directory that
+	 *         does not exist.
+	 */
+	public boolean isWatching(TextEditorPane textArea) {
+		return files.get(textArea)!=null;
+	}
+
+
+	/**
+	 * Watches an editor's current file, and stops watching its previous
+	 * one.
+	 *
+	 * @param textArea The editor.
+	 */
+	private void register(TextEditorPane textArea) {
+
+		unregister(textArea);
+
+		Path file = null;
+		if (textArea.isLocal()) {
+			file = toRealPath(Paths.get(textArea.getFileFullPath()));
+			Path dir = file.getParent();
+			if (!keys.containsKey(dir)) {
+				try {
+					keys.put(dir, dir.register(watchService,
+							StandardWatchEventKinds.ENTRY_CREATE,
+							StandardWatchEventKinds.ENTRY_MODIFY));
+				} catch (IOException ioe) {
+					// The directory doesn't exist, so can't be watched
+					file = null;
+				}
+			}
+		}
+
+		files.put(textArea, file);
+
+	}
+
+
+	/**
+	 * Stops watching an editor's file.
+	 *
+	 * @param textArea The editor.  If it isn't being watched, this method
+	 *        does nothing.
+	 * @see #addTextEditorPane(TextEditorPane)
+	 */
+	public void removeTextEditorPane(TextEditorPane textArea) {
+		if (files.containsKey(textArea)) {
+			textArea.removePropertyChangeListener(
+					TextEditorPane.FULL_PATH_PROPERTY, pathListener);
+			unregister(textArea);
+		}
+	}
+
+
+	/**
+	 * Resolves symbolic links in a file's path, so the directory actually
+	 * containing the file is watched.
+	 *
+	 * @param file The file.
+	 * @return The file's real path.  If it doesn't exist, its parent
+	 *         directory's real path is used.  If that doesn't exist
+	 *         either, <code>file</code> is returned.
+	 */
+	private static Path toRealPath(Path file) {
+		try {
+			return file.toRealPath();
+		} catch (IOException ioe) { // The file doesn't exist (yet)
+			try {
+				return file.getParent().toRealPath().resolve(file.getFileName());
+			} catch (IOException ioe2) {
+				return file;
+			}
+		}
+	}
+
+
+	/**
+	 * Stops watching an editor's file, and its directory if no other
+	 * watched files are in it.
+	 *
+	 * @param textArea The editor.
+	 */
+	private void unregister(TextEditorPane textArea) {
+		Path file = files.remove(textArea);
+		if (file!=null) {
+			Path dir = file.getParent();
+			for (Path other : files.values()) {
+				if (other!=null && dir.equals(other.getParent())) {
+					return;
+				}
+			}
+			keys.remove(dir).cancel();
+		}
+	}
+
+
+	/**
+	 * Run on the background thread.  Waits for changes, then reports them
+	 * on the EDT once no more changes have occurred for the debounce
+	 * period, or the maximum delay has passed since the first one.
+	 */
+	private void watch() {
+		long debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+		long maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+		try {
+			while (true) {
+				Set<Path> changed = new HashSet<>();
+				WatchKey key = watchService.take();
+				long deadline = System.nanoTime() + maxDelayNanos;
+				while (key!=null) {
+					collectChanges(key, changed);
+					long remaining = deadline - System.nanoTime();
+					if (remaining<=0) {
+						break;
+					}
+					key = watchService.poll(Math.min(debounceNanos, remaining),
+							TimeUnit.NANOSECONDS);
+				}
+				SwingUtilities.invokeLater(() -> fireChanges(changed));
+			}
+		} catch (ClosedWatchServiceException | InterruptedException e) {
+			// close() was called
+		}
+	}
+
+
+}
@@ -0,0 +1,475 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Arrays;
+import javax.swing.text.Segment;
+
+
+/**
+ * Lexes a line too long to be lexed all at once, in chunks, as described by
+ * {@link LongLinePolicy}.<p>
+ *
+ * Each chunk is usually at most {@link #CHUNK_SIZE} characters long.  To
+ * keep from splitting tokens, a chunk ends where the last token starting in
+ * it begins, unless that is the start of the chunk.  The state at the end of
+ * a chunk is the last token type of the chunk lexed as if the line ended
+ * there, just like the state at the end of a line.  The next chunk is lexed
+ * starting in that state.<p>
+ *
+ * An instance remembers the start offset and starting state of each chunk
+ * it has found in the line it last lexed, so that any chunk can be tokenized
+ * without lexing everything before it again.  Token lists only contain real
+ * tokens for the chunks in a requested range of the line; the rest of the
+ * line is split into plain {@link TokenTypes#IDENTIFIER} tokens.<p>
+ *
+ * If the document changes, {@link #textChanged(int, int)} must be called so
+ * the chunks can be updated.  Chunks after an edit are kept, and lexing the
+ * line again tries to end chunks where they start (allowing chunks up to
+ * twice as long as usual to reach them).  Once a kept chunk is reached in
+ * the same state it started in before, it and every chunk after it are
+ * reused, so editing a long line doesn't require lexing all of it again.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class LongLineLexer {
+
+	/**
+	 * The maximum length of a chunk, and of the plain tokens for the parts of
+	 * a line that aren't tokenized.
+	 */
+	static final int CHUNK_SIZE = 4096;
+
+	private final TokenMaker tokenMaker;
+	private final LongLinePolicy policy;
+	private final Segment chunk;
+
+	/**
+	 * The line the chunks found so far are in.
+	 */
+	private int lineStartOffset;
+	private int lineLength;
+	private int lineInitialTokenType;
+
+	/**
+	 * The offset into the line of the start of each chunk found so far, and
+	 * the state each one starts in.  Once all chunks are found, the state at
+	 * the end of the line is known as well.
+	 */
+	private int[] chunkStarts;
+	private int[] chunkStates;
+	private int chunkCount;
+	private boolean allChunksFound;
+	private int lineEndState;
+
+	/**
+	 * Chunks found before the line was last edited that start after the
+	 * edit.  If the line is lexed up to one of them in the same state, it
+	 * and every chunk after it are still valid.
+	 */
+	private int[] resumeStarts;
+	private int[] resumeStates;
+	private int resumeCount;
+	private int resumeIndex;
+	private boolean resumeAllChunksFound;
+	private int resumeLineEndState;
+
+	/**
+	 * Where the chunk last lexed by {@link #lexChunk(Segment, int, int)}
+	 * ends, and the state at its end.
+	 */
+	private int chunkEnd;
+	private int chunkEndState;
+
+	/**
+	 * The token list last created, and the range of chunks tokenized in it.
+	 */
+	private Token tokenList;
+	private int firstTokenizedChunk;
+	private int lastTokenizedChunk;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param tokenMaker The token maker to lex with.
+	 * @param policy The policy that determines which lines are lexed in
+	 *        chunks.
+	 */
+	LongLineLexer(TokenMaker tokenMaker, LongLinePolicy policy) {
+		this.tokenMaker = tokenMaker;
+		this.policy = policy;
+		chunk = new Segment();
+		lineStartOffset = -1;
+	}
+
+
+	/**
+	 * Adds a chunk to the chunks found so far.
+	 *
+	 * @param start The offset into the line of the chunk.
+	 * @param state The state the chunk starts in.
+	 */
+	private void addChunk(int start, int state) {
+		if (chunkCount==chunkStarts.length) {
+			chunkStarts = Arrays.copyOf(chunkStarts, chunkCount*2);
+			chunkStates = Arrays.copyOf(chunkStates, chunkCount*2);
+		}
+		chunkStarts[chunkCount] = start;
+		chunkStates[chunkCount] = state;
+		chunkCount++;
+	}
+
+
+	/**
+	 * Appends plain tokens for part of the line to a token list.
+	 *
+	 * @param tail The last token in the list.
+	 * @param line The text of the line.
+	 * @param start The offset into the line to start at.
+	 * @param end The offset into the line to end at, exclusive.
+	 * @return The new last token in the list.
+	 */
+	private TokenImpl addPlainTokens(TokenImpl tail, Segment line, int start,
+			int end) {
+		for (int i=start; i<end; i+=CHUNK_SIZE) {
+			int tokenEnd = Math.min(i + CHUNK_SIZE, end);
+			TokenImpl t = new TokenImpl(line.array, line.offset + i,
+					line.offset + tokenEnd - 1, lineStartOffset + i,
+					TokenTypes.IDENTIFIER, 0);
+			tail.setNextToken(t);
+			tail = t;
+		}
+		return tail;
+	}
+
+
+	/**
+	 * Returns the index of the chunk containing an offset, finding chunks
+	 * up to it if they haven't been found yet.
+	 *
+	 * @param line The text of the line.
+	 * @param offs The offset into the line.
+	 * @return The index of the chunk.
+	 */
+	private int getChunkIndex(Segment line, int offs) {
+
+		while (!allChunksFound && chunkStarts[chunkCount-1]<=offs) {
+			lexChunk(line, chunkStarts[chunkCount-1], chunkStates[chunkCount-1]);
+			if (chunkEnd==line.count) {
+				allChunksFound = true;
+				lineEndState = chunkEndState;
+				resumeCount = 0;
+			}
+			else if (!resume()) {
+				addChunk(chunkEnd, chunkEndState);
+			}
+		}
+
+		int index = Arrays.binarySearch(chunkStarts, 0, chunkCount, offs);
+		return index>=0 ? index : -index - 2;
+
+	}
+
+
+	/**
+	 * Returns the token type of the last token on a line, lexing it one
+	 * chunk at a time.  This doesn't remember the chunks found.
+	 *
+	 * @param line The text of the line.
+	 * @param initialTokenType The last token type of the line before it.
+	 * @return The last token type on the line.
+	 */
+	int getLastTokenTypeOnLine(Segment line, int initialTokenType) {
+		int start = 0;
+		int state = initialTokenType;
+		do {
+			lexChunk(line, start, state);
+			start = chunkEnd;
+			state = chunkEndState;
+		} while (start<line.count);
+		return state;
+	}
+
+
+	/**
+	 * Returns the token type of the last token on a line, remembering the
+	 * chunks found so that creating a token list for it afterward is fast.
+	 * If the line was edited since its chunks were found, lexing resumes
+	 * from the last chunk before the edit.
+	 *
+	 * @param line The text of the line.
+	 * @param initialTokenType The last token type of the line before it.
+	 * @param startOffset The offset of the line in the document.
+	 * @return The last token type on the line.
+	 * @see #textChanged(int, int)
+	 */
+	int getLastTokenTypeOnLine(Segment line, int initialTokenType,
+			int startOffset) {
+		if (!isSameLine(line, initialTokenType, startOffset)) {
+			reset(line, initialTokenType, startOffset);
+		}
+		getChunkIndex(line, line.count);
+		return lineEndState;
+	}
+
+
+	/**
+	 * Returns a token list for a line, tokenizing the same chunks as the
+	 * last time one was created for it.  If none has been, only the first
+	 * chunk is tokenized.
+	 *
+	 * @param line The text of the line.
+	 * @param initialTokenType The last token type of the line before it.
+	 * @param startOffset The offset of the line in the document.
+	 * @return The token list.
+	 * @see #getTokenList(Segment, int, int, int, int)
+	 */
+	Token getTokenList(Segment line, int initialTokenType, int startOffset) {
+		if (tokenList!=null && isSameLine(line, initialTokenType, startOffset)) {
+			return tokenList;
+		}
+		return getTokenList(line, initialTokenType, startOffset,
+				startOffset, startOffset);
+	}
+
+
+	/**
+	 * Returns a token list for a line, only tokenizing the chunks containing
+	 * a range of it.  If the line is too long to be lexed at all, every
+	 * token in the list is plain text.
+	 *
+	 * @param line The text of the line.
+	 * @param initialTokenType The last token type of the line before it.
+	 * @param startOffset The offset of the line in the document.
+	 * @param windowStart The offset in the document of the start of the
+	 *        range to tokenize.
+	 * @param windowEnd The offset in the document of the end of the range
+	 *        to tokenize, inclusive.
+	 * @return The token list.  Its tokens reference <code>line</code>'s
+	 *         array, and remain valid until it is modified.
+	 */
+	Token getTokenList(Segment line, int initialTokenType, int startOffset,
+			int windowStart, int windowEnd) {
+
+		if (!isSameLine(line, initialTokenType, startOffset)) {
+			reset(line, initialTokenType, startOffset);
+		}
+
+		TokenImpl head = new TokenImpl();
+		if (policy.isPlain(line.count)) {
+			if (tokenList==null) {
+				addPlainTokens(head, line, 0, line.count);
+				tokenList = head.getNextToken();
+			}
+			return tokenList;
+		}
+
+		int max = line.count - 1;
+		int start0 = Math.min(windowStart, windowEnd) - startOffset;
+		int end0 = Math.max(windowStart, windowEnd) - startOffset;
+		int first = getChunkIndex(line, Math.max(0, Math.min(start0, max)));
+		int last = getChunkIndex(line, Math.max(0, Math.min(end0, max)));
+		if (tokenList!=null && first==firstTokenizedChunk && last==lastTokenizedChunk) {
+			return tokenList;
+		}
+
+		TokenImpl tail = addPlainTokens(head, line, 0, chunkStarts[first]);
+		for (int i=first; i<=last; i++) {
+			int start = chunkStarts[i];
+			int end = i+1<chunkCount ? chunkStarts[i+1] : line.count;
+			chunk.array = line.array;
+			chunk.offset = line.offset + start;
+			chunk.count = end - start;
+			Token t = tokenMaker.getTokenList(chunk, chunkStates[i],
+					startOffset + start);
+			// Only the last chunk's list ends with its state, if any
+			boolean lastChunk = end==line.count;
+			for (; t!=null && (lastChunk || t.isPaintable()); t=t.getNextToken()) {
+				TokenImpl copy = new TokenImpl(t);
+				tail.setNextToken(copy);
+				tail = copy;
+			}
+		}
+		int end = last+1<chunkCount ? chunkStarts[last+1] : line.count;
+		tail = addPlainTokens(tail, line, end, line.count);
+		tail.setNextToken(null);
+
+		tokenList = head.getNextToken();
+		firstTokenizedChunk = first;
+		lastTokenizedChunk = last;
+		return tokenList;
+
+	}
+
+
+	/**
+	 * Returns whether the chunks found so far are for a line.
+	 *
+	 * @param line The text of the line.
+	 * @param initialTokenType The last token type of the line before it.
+	 * @param startOffset The offset of the line in the document.
+	 * @return Whether the chunks found are for the line.
+	 */
+	private boolean isSameLine(Segment line, int initialTokenType,
+			int startOffset) {
+		return startOffset==lineStartOffset && line.count==lineLength &&
+				initialTokenType==lineInitialTokenType;
+	}
+
+
+	/**
+	 * Lexes the chunk starting at an offset into a line, setting
+	 * <code>chunkEnd</code> and <code>chunkEndState</code>.
+	 *
+	 * @param line The text of the line.
+	 * @param start The offset into the line of the chunk.
+	 * @param initialTokenType The state the chunk starts in.
+	 */
+	private void lexChunk(Segment line, int start, int initialTokenType) {
+
+		// After an edit, try to end the chunk where a chunk found before the
+		// edit starts, so that chunk can be resumed.  The chunk may be up to
+		// twice as long as usual to reach it
+		while (resumeIndex<resumeCount && resumeStarts[resumeIndex]<=start) {
+			resumeIndex++;
+		}
+		int resumeStart = -1;
+		int end = start + CHUNK_SIZE;
+		if (resumeIndex<resumeCount &&
+				resumeStarts[resumeIndex]<start + 2*CHUNK_SIZE) {
+			resumeStart = resumeStarts[resumeIndex];
+			end = Math.max(end, resumeStart + 1);
+		}
+		end = Math.min(end, line.count);
+		chunk.array = line.array;
+		chunk.offset = line.offset + start;
+		chunk.count = end - start;
+
+		// End the chunk where its last token starts, so no token is split
+		if (end<line.count) {
+			Token t = tokenMaker.getTokenList(chunk, initialTokenType, start);
+			int lastTokenStart = start;
+			for (; t!=null && t.isPaintable(); t=t.getNextToken()) {
+				lastTokenStart = t.getOffset();
+				if (lastTokenStart==resumeStart) {
+					break;
+				}
+			}
+			if (lastTokenStart>start) {
+				end = lastTokenStart;
+				chunk.count = end - start;
+			}
+		}
+
+		chunkEnd = end;
+		chunkEndState = tokenMaker.getLastTokenTypeOnLine(chunk, initialTokenType);
+
+	}
+
+
+	/**
+	 * Starts finding the chunks of a new line.
+	 *
+	 * @param line The text of the line.
+	 * @param initialTokenType The last token type of the line before it.
+	 * @param startOffset The offset of the line in the document.
+	 */
+	private void reset(Segment line, int initialTokenType, int startOffset) {
+		lineStartOffset = startOffset;
+		lineLength = line.count;
+		lineInitialTokenType = initialTokenType;
+		chunkStarts = new int[16];
+		chunkStates = new int[16];
+		chunkStates[0] = initialTokenType;
+		chunkCount = 1;
+		allChunksFound = false;
+		resumeCount = 0;
+		tokenList = null;
+	}
+
+
+	/**
+	 * Called when a chunk is found after the line was edited.  If a chunk
+	 * found before the edit starts at the same place in the same state, it
+	 * and all chunks after it are restored.
+	 *
+	 * @return Whether the chunks were restored.
+	 */
+	private boolean resume() {
+
+		while (resumeIndex<resumeCount && resumeStarts[resumeIndex]<chunkEnd) {
+			resumeIndex++;
+		}
+		if (resumeIndex==resumeCount || resumeStarts[resumeIndex]!=chunkEnd ||
+				resumeStates[resumeIndex]!=chunkEndState) {
+			return false;
+		}
+
+		for (int i=resumeIndex; i<resumeCount; i++) {
+			addChunk(resumeStarts[i], resumeStates[i]);
+		}
+		allChunksFound = resumeAllChunksFound;
+		lineEndState = resumeLineEndState;
+		resumeCount = 0;
+		return true;
+
+	}
+
+
+	/**
+	 * Updates the chunks found for text inserted into or removed from the
+	 * document.  This should only be called for edits that don't add or
+	 * remove lines.  Chunks lexed entirely before an edit in the line are
+	 * kept, and chunks after it are kept until lexing reaches them again.
+	 *
+	 * @param offs The offset of the edit in the document.
+	 * @param lengthDelta The number of characters inserted, or the negative
+	 *        of the number of characters removed.
+	 */
+	void textChanged(int offs, int lengthDelta) {
+
+		tokenList = null;
+		int lineOffs = offs - lineStartOffset;
+		if (lineStartOffset==-1 || lineOffs>lineLength) {
+			return;
+		}
+		if (lineOffs<0) {
+			lineStartOffset += lengthDelta;
+			return;
+		}
+
+		// A chunk is still valid if all of the text lexed to find it, which
+		// may be up to twice the usual chunk size, is before the edit
+		int valid = 1;
+		while (valid<chunkCount &&
+				chunkStarts[valid-1] + 2*CHUNK_SIZE<lineOffs) {
+			valid++;
+		}
+		int first = valid;
+		int removedEnd = lineOffs + Math.max(0, -lengthDelta);
+		while (first<chunkCount && chunkStarts[first]<removedEnd) {
+			first++;
+		}
+
+		resumeCount = chunkCount - first;
+		resumeStarts = new int[resumeCount];
+		resumeStates = Arrays.copyOfRange(chunkStates, first, chunkCount);
+		for (int i=0; i<resumeCount; i++) {
+			resumeStarts[i] = chunkStarts[first + i] + lengthDelta;
+		}
+		resumeIndex = 0;
+		resumeAllChunksFound = allChunksFound;
+		resumeLineEndState = lineEndState;
+
+		lineLength += lengthDelta;
+		chunkCount = valid;
+		allChunksFound = false;
+
+	}
+
+
+}
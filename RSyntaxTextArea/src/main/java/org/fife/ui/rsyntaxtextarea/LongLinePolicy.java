@@ -0,0 +1,181 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.Serializable;
+import javax.swing.text.Segment;
+
+
+/**
+ * Determines how an {@link RSyntaxDocument} highlights very long lines,
+ * such as those in minified JavaScript or JSON files.  Lexing such a line
+ * creates a token for every word and symbol in it, and it is lexed again
+ * every time it is painted or the caret moves on it, so a single line
+ * several megabytes long can make the editor unusable.<p>
+ *
+ * Lines longer than the <em>chunked line length</em> are lexed in chunks of
+ * a few thousand characters, each starting in the state the chunk before it
+ * ended in.  Only the chunks being painted, or containing the caret, are
+ * actually split into tokens; the rest of the line is returned as plain
+ * text.  Chunks end on token boundaries, so highlighting is the same as
+ * if the line were lexed all at once, except for tokens longer than a chunk
+ * that can't span lines, such as strings thousands of characters long,
+ * which may be highlighted as errors.<p>
+ *
+ * Lines longer than the <em>plain line length</em> aren't lexed at all, and
+ * are rendered as plain text.  The state at the end of such a line is always
+ * {@link TokenTypes#NULL}.<p>
+ *
+ * Instances of this class are immutable.  For example, the following lexes
+ * lines longer than 10,000 characters in chunks, and doesn't highlight
+ * lines longer than 5,000,000 characters:
+ * <pre>
+ * doc.setLongLinePolicy(new LongLinePolicy(10000, 5000000));
+ * </pre>
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see RSyntaxDocument#setLongLinePolicy(LongLinePolicy)
+ */
+public final class LongLinePolicy implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * A policy that lexes every line in its entirety, no matter how long.
+	 * This is the default.
+	 */
+	public static final LongLinePolicy NONE = new LongLinePolicy(
+			Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+	private final int chunkedLineLength;
+	private final int plainLineLength;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param chunkedLineLength Lines longer than this are lexed in chunks.
+	 * @param plainLineLength Lines longer than this aren't lexed at all.
+	 * @throws IllegalArgumentException If either length is less than
+	 *         <code>1</code>.
+	 */
+	public LongLinePolicy(int chunkedLineLength, int plainLineLength) {
+		if (chunkedLineLength<1 || plainLineLength<1) {
+			throw new IllegalArgumentException("Line lengths must be >= 1: " +
+					chunkedLineLength + ", " + plainLineLength);
+		}
+		this.chunkedLineLength = chunkedLineLength;
+		this.plainLineLength = plainLineLength;
+	}
+
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof LongLinePolicy) {
+			LongLinePolicy other = (LongLinePolicy)obj;
+			return chunkedLineLength==other.chunkedLineLength &&
+					plainLineLength==other.plainLineLength;
+		}
+		return false;
+	}
+
+
+	/**
+	 * Returns the length above which lines are lexed in chunks.
+	 *
+	 * @return The length.
+	 * @see #isLexedInChunks(int)
+	 */
+	public int getChunkedLineLength() {
+		return chunkedLineLength;
+	}
+
+
+	/**
+	 * Returns the token type of the last token on a line, honoring this
+	 * policy.
+	 *
+	 * @param tokenMaker The token maker to lex with.
+	 * @param line The text of the line.
+	 * @param initialTokenType The last token type of the line before it.
+	 * @return The last token type on the line.
+	 * @see TokenMaker#getLastTokenTypeOnLine(Segment, int)
+	 */
+	int getLastTokenTypeOnLine(TokenMaker tokenMaker, Segment line,
+			int initialTokenType) {
+		if (isPlain(line.count)) {
+			return TokenTypes.NULL;
+		}
+		if (isLexedInChunks(line.count)) {
+			return new LongLineLexer(tokenMaker, this).
+					getLastTokenTypeOnLine(line, initialTokenType);
+		}
+		return tokenMaker.getLastTokenTypeOnLine(line, initialTokenType);
+	}
+
+
+	/**
+	 * Returns the length above which lines are rendered as plain text.
+	 *
+	 * @return The length.
+	 * @see #isPlain(int)
+	 */
+	public int getPlainLineLength() {
+		return plainLineLength;
+	}
+
+
+	@Override
+	public int hashCode() {
+		return 31*chunkedLineLength + plainLineLength;
+	}
+
+
+	/**
+	 * Returns whether a line is lexed in chunks.
+	 *
+	 * @param lineLength The length of the line.
+	 * @return Whether the line is lexed in chunks.  This is
+	 *         <code>false</code> for lines that aren't lexed at all.
+	 * @see #getChunkedLineLength()
+	 */
+	public boolean isLexedInChunks(int lineLength) {
+		return lineLength>chunkedLineLength && lineLength<=plainLineLength;
+	}
+
+
+	/**
+	 * Returns whether a line is long enough that this policy applies to it,
+	 * i.e. whether it's either lexed in chunks or not lexed at all.
+	 *
+	 * @param lineLength The length of the line.
+	 * @return Whether the line is a long line.
+	 */
+	public boolean isLongLine(int lineLength) {
+		return lineLength>chunkedLineLength || lineLength>plainLineLength;
+	}
+
+
+	/**
+	 * Returns whether a line is rendered as plain text.
+	 *
+	 * @param lineLength The length of the line.
+	 * @return Whether the line is too long to be lexed.
+	 * @see #getPlainLineLength()
+	 */
+	public boolean isPlain(int lineLength) {
+		return lineLength>plainLineLength;
+	}
+
+
+	@Override
+	public String toString() {
+		return "[LongLinePolicy: chunkedLineLength=" + chunkedLineLength +
+				", plainLineLength=" + plainLineLength + "]";
+	}
+
+
+}
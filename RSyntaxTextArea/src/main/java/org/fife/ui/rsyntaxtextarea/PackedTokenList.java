@@ -0,0 +1,326 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import javax.swing.text.Segment;
+
+
+/**
+ * A compact, read-only representation of the token list for a single line.
+ * Rather than a linked list of {@link TokenImpl} objects, each carrying its
+ * own references, offsets and flags, the tokens are stored as runs of three
+ * <code>int</code>s in a single array:
+ *
+ * <ol>
+ *    <li>The token's offset, relative to the start of the line.</li>
+ *    <li>The token's length.</li>
+ *    <li>The token's type, language index and flags, packed together.</li>
+ * </ol>
+ *
+ * along with a private copy of the line's text.  This takes a fraction of
+ * the memory of the equivalent <code>Token</code> list, and lets bulk
+ * consumers walk plain arrays instead of chasing pointers:
+ *
+ * <pre>
+ * PackedTokenList tokens = doc.getPackedTokenListForLine(line);
+ * for (int i=0; i&lt;tokens.getTokenCount(); i++) {
+ *    if (tokens.getType(i)==TokenTypes.IDENTIFIER) {
+ *       int offs = tokens.getOffset(i);
+ *       ...
+ *    }
+ * }
+ * </pre>
+ *
+ * Since token offsets are stored relative to the start of the line, a packed
+ * list remains valid when text is inserted or removed above its line; only
+ * its start offset needs to be updated.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see RSyntaxDocument#getPackedTokenListForLine(int)
+ */
+public final class PackedTokenList {
+
+	private final char[] text;
+	private final int lineLength;
+	private final int[] data;
+	private int startOffset;
+
+	private static final int FLAG_HYPERLINK		= 1;
+	private static final int FLAG_NO_TEXT		= 2;
+
+	private static final int LANGUAGE_INDEX_SHIFT = 2;
+	private static final int MAX_LANGUAGE_INDEX = 0x3f;
+	private static final int TYPE_SHIFT			= 8;
+	private static final int MIN_TYPE			= -(1<<23);
+	private static final int MAX_TYPE			= (1<<23) - 1;
+
+
+	private PackedTokenList(char[] text, int lineLength, int[] data,
+							int startOffset) {
+		this.text = text;
+		this.lineLength = lineLength;
+		this.data = data;
+		this.startOffset = startOffset;
+	}
+
+
+	/**
+	 * Creates a packed copy of a token list.
+	 *
+	 * @param line The text that was lexed to create the token list.
+	 * @param startOffset The offset of the line in the document.
+	 * @param tokens The token list.
+	 * @return The packed token list, or <code>null</code> if
+	 *         <code>tokens</code> cannot be represented in packed form (e.g.
+	 *         it contains tokens that do not refer to <code>line</code>, or
+	 *         types or language indices that are out of range).
+	 */
+	public static PackedTokenList create(Segment line, int startOffset,
+										Token tokens) {
+
+		int tokenCount = 0;
+		for (Token t=tokens; t!=null; t=t.getNextToken()) {
+			tokenCount++;
+		}
+
+		int[] data = new int[tokenCount * 3];
+		int textEnd = line.count;
+		int i = 0;
+		for (Token t=tokens; t!=null; t=t.getNextToken()) {
+
+			int type = t.getType();
+			int languageIndex = t.getLanguageIndex();
+			if (type<MIN_TYPE || type>MAX_TYPE ||
+					languageIndex<0 || languageIndex>MAX_LANGUAGE_INDEX) {
+				return null;
+			}
+			int flags = t.isHyperlink() ? FLAG_HYPERLINK : 0;
+
+			if (t.getTextArray()==null) {
+				data[i] = t.getOffset();
+				data[i+1] = 0;
+				flags |= FLAG_NO_TEXT;
+			}
+			else {
+				int offs = t.getOffset() - startOffset;
+				if (t.getTextArray()!=line.array ||
+						t.getTextOffset()-line.offset!=offs) {
+					return null;
+				}
+				data[i] = offs;
+				data[i+1] = t.length();
+				// Some token makers end a line with a token including the
+				// newline that follows it
+				textEnd = Math.max(textEnd, offs + t.length());
+			}
+
+			data[i+2] = (type<<TYPE_SHIFT) |
+					(languageIndex<<LANGUAGE_INDEX_SHIFT) | flags;
+			i += 3;
+
+		}
+
+		if (line.offset+textEnd>line.array.length) {
+			return null;
+		}
+		char[] text = new char[textEnd];
+		System.arraycopy(line.array,line.offset, text,0, textEnd);
+		return new PackedTokenList(text, line.count, data, startOffset);
+
+	}
+
+
+	/**
+	 * Returns the estimated amount of memory used by this token list.
+	 *
+	 * @return The estimated memory used, in bytes.
+	 */
+	public int getByteCount() {
+		// Object headers, plus the two arrays and their headers
+		return 48 + 2*text.length + 4*data.length;
+	}
+
+
+	/**
+	 * Returns the length of a token.
+	 *
+	 * @param index The index of the token.
+	 * @return The token's length.
+	 */
+	public int getLength(int index) {
+		return data[index*3 + 1];
+	}
+
+
+	/**
+	 * Returns the language index of a token.
+	 *
+	 * @param index The index of the token.
+	 * @return The token's language index.
+	 * @see Token#getLanguageIndex()
+	 */
+	public int getLanguageIndex(int index) {
+		return (data[index*3 + 2]>>LANGUAGE_INDEX_SHIFT) & MAX_LANGUAGE_INDEX;
+	}
+
+
+	/**
+	 * Returns the length of the line this token list is for, not including
+	 * its terminating newline.
+	 *
+	 * @return The length of the line.
+	 */
+	public int getLineLength() {
+		return lineLength;
+	}
+
+
+	/**
+	 * Returns the document offset of a token.
+	 *
+	 * @param index The index of the token.
+	 * @return The token's offset in the document.  This will be
+	 *         <code>-1</code> for "null" tokens.
+	 * @see #getStartOffset()
+	 */
+	public int getOffset(int index) {
+		int i = index * 3;
+		if ((data[i+2]&FLAG_NO_TEXT)!=0) {
+			return data[i];
+		}
+		return startOffset + data[i];
+	}
+
+
+	/**
+	 * Returns the offset in the document of the line this token list is
+	 * for.
+	 *
+	 * @return The line's start offset.
+	 * @see #setStartOffset(int)
+	 */
+	public int getStartOffset() {
+		return startOffset;
+	}
+
+
+	/**
+	 * Returns the text of the line this token list is for.  This array
+	 * should not be modified.
+	 *
+	 * @return The line's text.
+	 * @see #getTextOffset(int)
+	 */
+	public char[] getTextArray() {
+		return text;
+	}
+
+
+	/**
+	 * Returns the offset into {@link #getTextArray()} at which a token's
+	 * text begins.
+	 *
+	 * @param index The index of the token.
+	 * @return The offset of the token's text.
+	 */
+	public int getTextOffset(int index) {
+		return data[index*3];
+	}
+
+
+	/**
+	 * Returns the number of tokens in this list.
+	 *
+	 * @return The number of tokens.
+	 */
+	public int getTokenCount() {
+		return data.length / 3;
+	}
+
+
+	/**
+	 * Returns the type of a token.
+	 *
+	 * @param index The index of the token.
+	 * @return The token's type.
+	 * @see Token#getType()
+	 */
+	public int getType(int index) {
+		return data[index*3 + 2] >> TYPE_SHIFT;
+	}
+
+
+	/**
+	 * Returns whether a token is a hyperlink.
+	 *
+	 * @param index The index of the token.
+	 * @return Whether the token is a hyperlink.
+	 * @see Token#isHyperlink()
+	 */
+	public boolean isHyperlink(int index) {
+		return (data[index*3 + 2]&FLAG_HYPERLINK)!=0;
+	}
+
+
+	/**
+	 * Updates the offset in the document of the line this token list is for.
+	 * This should be called when text is inserted or removed before the
+	 * line.
+	 *
+	 * @param startOffset The new start offset of the line.
+	 * @see #getStartOffset()
+	 */
+	void setStartOffset(int startOffset) {
+		this.startOffset = startOffset;
+	}
+
+
+	/**
+	 * Expands this packed list into a linked list of tokens.  The tokens
+	 * refer to this object's private copy of the line's text.
+	 *
+	 * @param factory The factory to create tokens with.
+	 * @return The first token in the list, or <code>null</code> if this
+	 *         list is empty.
+	 */
+	Token toTokenList(TokenFactory factory) {
+
+		TokenImpl first = null;
+		TokenImpl last = null;
+
+		for (int i=0; i<data.length; i+=3) {
+
+			int packed = data[i+2];
+			TokenImpl t;
+			if ((packed&FLAG_NO_TEXT)!=0) {
+				t = factory.createToken();
+				t.setOffset(data[i]);
+				t.setType(packed>>TYPE_SHIFT);
+			}
+			else {
+				int offs = data[i];
+				t = factory.createToken(text, offs, offs+data[i+1]-1,
+						startOffset+offs, packed>>TYPE_SHIFT);
+			}
+			t.setLanguageIndex((packed>>LANGUAGE_INDEX_SHIFT) & MAX_LANGUAGE_INDEX);
+			t.setHyperlink((packed&FLAG_HYPERLINK)!=0);
+
+			if (first==null) {
+				first = t;
+			}
+			else {
+				last.setNextToken(t);
+			}
+			last = t;
+
+		}
+
+		return first;
+
+	}
+
+
+}
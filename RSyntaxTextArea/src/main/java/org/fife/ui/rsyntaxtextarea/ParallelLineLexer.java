@@ -0,0 +1,193 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import javax.swing.text.Segment;
+
+
+/**
+ * Computes the last token types of many lines at once, using all available
+ * processors.  This is used by {@link RSyntaxDocument} when a large file is
+ * loaded or its syntax style changes.<p>
+ *
+ * The state at the end of a line depends on the state at the end of the line
+ * before it, so lines can't simply be lexed independently.  Instead, the
+ * lines are split into chunks, and every chunk but the first is lexed
+ * speculatively on a <code>ForkJoinPool</code>, assuming it starts in the
+ * {@link TokenTypes#NULL} state.  That is almost always the case, since
+ * constructs spanning lines, such as multi-line comments, are rare compared
+ * to the size of a chunk.  A sequential fix-up pass then re-lexes any chunk
+ * whose actual starting state differs, stopping as soon as its line states
+ * agree with the speculative ones, since every line after that point was
+ * lexed from the correct state.  The result is identical to lexing every
+ * line in order.<p>
+ *
+ * Token makers aren't thread-safe, so each chunk is lexed with its own
+ * token maker instance.  All lexing works on a single copy of the text, so
+ * the document isn't accessed from any other thread.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class ParallelLineLexer {
+
+	/**
+	 * The minimum number of lines in a chunk.  Smaller chunks would be
+	 * more likely to start in the middle of a construct spanning lines,
+	 * and don't amortize the cost of creating a token maker.
+	 */
+	static final int MIN_LINES_PER_CHUNK = 1024;
+
+
+	private ParallelLineLexer() {
+		// Private constructor to prevent instantiation.
+	}
+
+
+	/**
+	 * Returns the offset of the start of each line in some text.
+	 *
+	 * @param text The text.  Lines are separated by <code>'\n'</code>.
+	 * @param lineCount The number of lines in <code>text</code>.
+	 * @return The offsets into <code>text.array</code> of the start of each
+	 *         line, plus one more element that is one past the end of
+	 *         <code>text</code>.  Thus, the length of line <code>i</code> is
+	 *         always <code>lineStarts[i+1] - lineStarts[i] - 1</code>.
+	 * @throws IllegalArgumentException If <code>text</code> does not contain
+	 *         <code>lineCount</code> lines.
+	 */
+	private static int[] getLineStarts(Segment text, int lineCount) {
+
+		int[] lineStarts = new int[lineCount + 1];
+		char[] array = text.array;
+		int end = text.offset + text.count;
+		int line = 0;
+		lineStarts[0] = text.offset;
+
+		for (int i=text.offset; i<end; i++) {
+			if (array[i]=='\n') {
+				if (++line==lineCount) {
+					break;
+				}
+				lineStarts[line] = i + 1;
+			}
+		}
+
+		if (line!=lineCount-1) {
+			throw new IllegalArgumentException("Expected " + lineCount +
+				" lines, found " + (line + 1));
+		}
+		lineStarts[lineCount] = end + 1;
+		return lineStarts;
+
+	}
+
+
+	/**
+	 * Computes the last token types of a range of lines.
+	 *
+	 * @param text The text of the lines.  Lines are separated by
+	 *        <code>'\n'</code>, and the last line should not end with one.
+	 * @param tokenTypes Receives the last token type of each line.  Its
+	 *        length is the number of lines in <code>text</code>.
+	 * @param initialTokenType The last token type of the line before the
+	 *        first line in <code>text</code>.
+	 * @param tokenMaker The token maker to use on the calling thread.
+	 * @param policy The policy for lexing long lines.
+	 * @param tokenMakerSupplier Creates the token makers used for each
+	 *        chunk.  These must lex identically to <code>tokenMaker</code>.
+	 *        This is only called on the calling thread.
+	 * @return The last token type of the last line.
+	 */
+	static int lex(Segment text, int[] tokenTypes, int initialTokenType,
+			TokenMaker tokenMaker, LongLinePolicy policy,
+			Supplier<TokenMaker> tokenMakerSupplier) {
+
+		int lineCount = tokenTypes.length;
+		if (lineCount==0) {
+			return initialTokenType;
+		}
+
+		int[] lineStarts = getLineStarts(text, lineCount);
+
+		int parallelism = Runtime.getRuntime().availableProcessors();
+		int chunkSize = Math.max(MIN_LINES_PER_CHUNK,
+				(lineCount + 4*parallelism - 1) / (4*parallelism));
+		int chunkCount = (lineCount + chunkSize - 1) / chunkSize;
+
+		TokenMaker[] tokenMakers = new TokenMaker[chunkCount];
+		tokenMakers[0] = tokenMaker;
+		for (int i=1; i<chunkCount; i++) {
+			tokenMakers[i] = tokenMakerSupplier.get();
+		}
+
+		// Lex each chunk, assuming all but the first start in the NULL state
+		IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+			int start = chunk * chunkSize;
+			int end = Math.min(start + chunkSize, lineCount);
+			int startTokenType = chunk==0 ? initialTokenType : TokenTypes.NULL;
+			lexLines(text.array, lineStarts, start, end, startTokenType,
+					tokenMakers[chunk], policy, tokenTypes);
+		});
+
+		// Fix up chunks whose actual starting state was different
+		Segment s = new Segment();
+		s.array = text.array;
+		for (int chunk=1; chunk<chunkCount; chunk++) {
+			int line = chunk * chunkSize;
+			int previousTokenType = tokenTypes[line - 1];
+			if (previousTokenType==TokenTypes.NULL) {
+				continue; // Our guess was right
+			}
+			int end = Math.min(line + chunkSize, lineCount);
+			for (; line<end; line++) {
+				s.offset = lineStarts[line];
+				s.count = lineStarts[line+1] - s.offset - 1;
+				int tokenType = policy.getLastTokenTypeOnLine(tokenMaker, s,
+											previousTokenType);
+				if (tokenType==tokenTypes[line]) {
+					break; // Every line after this one is already correct
+				}
+				tokenTypes[line] = tokenType;
+				previousTokenType = tokenType;
+			}
+		}
+
+		return tokenTypes[lineCount - 1];
+
+	}
+
+
+	/**
+	 * Computes the last token types for a range of lines, in order.
+	 *
+	 * @param array The text.
+	 * @param lineStarts The start offset of each line.
+	 * @param start The first line to lex.
+	 * @param end The line to stop at, exclusive.
+	 * @param previousTokenType The last token type of the line before
+	 *        <code>start</code>.
+	 * @param tokenMaker The token maker to use.
+	 * @param policy The policy for lexing long lines.
+	 * @param tokenTypes Receives the last token type of each line.
+	 */
+	private static void lexLines(char[] array, int[] lineStarts, int start,
+			int end, int previousTokenType, TokenMaker tokenMaker,
+			LongLinePolicy policy, int[] tokenTypes) {
+		Segment s = new Segment();
+		s.array = array;
+		for (int line=start; line<end; line++) {
+			s.offset = lineStarts[line];
+			s.count = lineStarts[line+1] - s.offset - 1;
+			previousTokenType = policy.getLastTokenTypeOnLine(tokenMaker, s,
+											previousTokenType);
+			tokenTypes[line] = previousTokenType;
+		}
+	}
+
+
+}
@@ -6,17 +6,28 @@ package org.fife.ui.rsyntaxtextarea;
 
 import java.awt.event.ActionEvent;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectInputStream;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.swing.Action;
+import javax.swing.Timer;
 import javax.swing.event.DocumentEvent;
 import javax.swing.text.BadLocationException;
 import javax.swing.text.Element;
 import javax.swing.text.Segment;
 
+import org.fife.io.TextLoader;
 import org.fife.ui.rsyntaxtextarea.modes.AbstractMarkupTokenMaker;
 import org.fife.ui.rtextarea.RDocument;
+import org.fife.ui.rtextarea.RDocumentContent;
+import org.fife.ui.rtextarea.RTextAreaEditorKit;
 import org.fife.util.DynamicIntArray;
 
 
@@ -46,6 +57,46 @@ import org.fife.util.DynamicIntArray;
 public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 		SyntaxConstants {
 
+	/**
+	 * The default maximum number of bytes used to cache token lists for
+	 * lines, per document.
+	 *
+	 * @see #setTokenListCacheMaxBytes(int)
+	 */
+	public static final int DEFAULT_TOKEN_LIST_CACHE_MAX_BYTES = 2 * 1024 * 1024;
+
+	/**
+	 * The minimum number of lines that must be lexed at once for them to be
+	 * lexed in parallel, if parallel lexing is enabled.
+	 *
+	 * @see #setParallelLexingEnabled(boolean)
+	 */
+	static final int PARALLEL_LEXING_MIN_LINES = 10000;
+
+	/**
+	 * If progressive lexing is enabled, the minimum number of lines that must
+	 * be added at once for their states to be computed in the background.
+	 * This is also the maximum number of lines whose states are updated
+	 * synchronously after an edit.
+	 *
+	 * @see #setProgressiveLexingEnabled(boolean)
+	 */
+	static final int PROGRESSIVE_LEXING_MIN_LINES = 256;
+
+	/**
+	 * The maximum time, in nanoseconds, spent computing line states on the
+	 * EDT each time the progressive lexing timer fires.
+	 */
+	private static final long PROGRESSIVE_LEXING_SLICE_NANOS = 10L * 1000 * 1000;
+
+	/**
+	 * When provisionally lexing the lines being painted beyond the first
+	 * line whose state is unknown, the number of lines above them to start
+	 * lexing at, and the total number of lines to lex.
+	 */
+	private static final int PROVISIONAL_CONTEXT_LINES = 100;
+	private static final int PROVISIONAL_WINDOW_LINES = 300;
+
 	/**
 	 * Creates a {@link TokenMaker} appropriate for a given programming
 	 * language.
@@ -53,15 +104,66 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	private transient TokenMakerFactory tokenMakerFactory;
 
 	/**
-	 * Splits text into tokens for the current programming language.
+	 * Splits text into tokens for the current programming language.  This
+	 * and <code>syntaxStyle</code> are only changed while holding
+	 * <code>stateLock</code>, along with the line states they produced.
 	 */
 	private transient TokenMaker tokenMaker;
 
+	/**
+	 * The class of the token maker <code>tokenMakerFactory</code> creates for
+	 * each syntax style, so we know whether worker token makers can be
+	 * created without creating one each time.
+	 */
+	private transient Map<String, Class<?>> tokenMakerClasses;
+
 	/**
 	 * The current syntax style.  Only cached to keep this class serializable.
 	 */
 	private String syntaxStyle;
 
+	/**
+	 * How lines too long to lex all at once are highlighted.
+	 */
+	private LongLinePolicy longLinePolicy;
+
+	/**
+	 * Whether the states of many lines may be computed in parallel.
+	 */
+	private boolean parallelLexingEnabled;
+
+	/**
+	 * Whether the states of many lines may be computed in the background.
+	 */
+	private boolean progressiveLexingEnabled;
+
+	/**
+	 * The first line whose state isn't known yet, or
+	 * <code>Integer.MAX_VALUE</code> if all lines' states are known.  The
+	 * values in <code>lastTokensOnLines</code> for this line and all lines
+	 * after it are only provisional.
+	 */
+	private transient int firstUnknownStateLine;
+
+	/**
+	 * The first line with an unknown state that was painted since the
+	 * progressive lexing timer last fired, or <code>-1</code> for none.
+	 */
+	private transient int priorityLine;
+
+	/**
+	 * The range of lines last lexed provisionally, so the lines being
+	 * painted aren't lexed more than once.
+	 */
+	private transient int provisionalStart;
+	private transient int provisionalEnd;
+
+	/**
+	 * Computes line states in the background when progressive lexing is
+	 * enabled.
+	 */
+	private transient Timer progressiveLexingTimer;
+
 	/**
 	 * Array of values representing the "last token type" on each line.  This
 	 * is used in cases such as multi-line comments:  if the previous line
@@ -74,8 +176,62 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	private transient int lastLine = -1;
 	private transient Token cachedTokenList;
 
+	/**
+	 * Lexes the long line whose state or token list was last requested,
+	 * remembering where its chunks are.  Edits within a single line update
+	 * it; it's discarded when lines are added or removed, or the syntax
+	 * style or long line policy changes.
+	 */
+	private transient LongLineLexer longLineLexer;
+
+	/**
+	 * Token lists for recently requested lines.
+	 */
+	private transient TokenListCache tokenListCache;
+
 	private transient Segment s;
 
+	/**
+	 * The last token types of the lines being inserted by
+	 * {@link #load(InputStream, String)}, computed as they were read.
+	 */
+	private transient int[] loadedTokenTypes;
+
+	/**
+	 * Incremented whenever the text or syntax style changes.
+	 */
+	private transient volatile long version;
+
+	/**
+	 * Guards the syntax highlighting state copied into snapshots, since it
+	 * can change on the EDT without the document's write lock being held.
+	 * Nothing may wait on the document's lock while holding this one.
+	 */
+	private transient Object stateLock;
+
+	/**
+	 * The most recently created snapshot, returned again if nothing has
+	 * changed since.  This is only weakly referenced, so we can tell when
+	 * no snapshots are in use any longer.  Guarded by
+	 * <code>stateLock</code>.
+	 */
+	private transient WeakReference<DocumentSnapshot> snapshot;
+
+	/**
+	 * A copy of the text that snapshots share, created when a snapshot is
+	 * taken and then kept up to date as the text changes, until the last
+	 * snapshot is no longer used.
+	 */
+	private transient volatile SnapshotTextBuffer snapshotText;
+
+	/**
+	 * Tracks the line states that changed since the last snapshot, so the
+	 * states of other lines are shared with it.  This is created and
+	 * released along with <code>snapshotText</code>, and only used while
+	 * holding the write lock or <code>stateLock</code>.
+	 */
+	private transient SnapshotStateBuffer snapshotStates;
+
 
 	/**
 	 * Constructs a plain text document.  A default root element is created,
@@ -97,15 +253,92 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	 * @param syntaxStyle The syntax highlighting scheme to use.
 	 */
 	public RSyntaxDocument(TokenMakerFactory tmf, String syntaxStyle) {
+		this(tmf, syntaxStyle, null);
+	}
+
+
+	/**
+	 * Constructs a plain text document.  A default root element is created,
+	 * and the tab size set to 5.
+	 *
+	 * @param tmf The <code>TokenMakerFactory</code> for this document.  If
+	 *        this is <code>null</code>, a default factory is used.
+	 * @param syntaxStyle The syntax highlighting scheme to use.
+	 * @param content The storage for the document's text.  This must be
+	 *        empty.  If this is <code>null</code>, the text is stored in a
+	 *        gap buffer.
+	 * @see org.fife.ui.rtextarea.PieceTableContent
+	 */
+	public RSyntaxDocument(TokenMakerFactory tmf, String syntaxStyle,
+						RDocumentContent content) {
+		this(tmf, syntaxStyle, content, false);
+	}
+
+
+	/**
+	 * Constructs a plain text document.  A default root element is created,
+	 * and the tab size set to 5.
+	 *
+	 * @param tmf The <code>TokenMakerFactory</code> for this document.  If
+	 *        this is <code>null</code>, a default factory is used.
+	 * @param syntaxStyle The syntax highlighting scheme to use.
+	 * @param content The storage for the document's text.  This must be
+	 *        empty.  If this is <code>null</code>, the text is stored in a
+	 *        gap buffer.
+	 * @param compactLineIndex Whether to track lines with a compact index
+	 *        of their start offsets, which saves memory for files with many
+	 *        lines.
+	 * @see org.fife.ui.rtextarea.RDocument#RDocument(RDocumentContent, boolean)
+	 */
+	public RSyntaxDocument(TokenMakerFactory tmf, String syntaxStyle,
+						RDocumentContent content, boolean compactLineIndex) {
+		super(content, compactLineIndex);
 		putProperty(tabSizeAttribute, 5);
 		lastTokensOnLines = new DynamicIntArray(400);
 		lastTokensOnLines.add(TokenTypes.NULL); // Initial (empty) line.
+		tokenListCache = new TokenListCache(DEFAULT_TOKEN_LIST_CACHE_MAX_BYTES);
+		firstUnknownStateLine = Integer.MAX_VALUE;
+		priorityLine = provisionalStart = provisionalEnd = -1;
 		s = new Segment();
+		stateLock = new Object();
+		longLinePolicy = LongLinePolicy.NONE;
 		setTokenMakerFactory(tmf);
 		setSyntaxStyle(syntaxStyle);
 	}
 
 
+	/**
+	 * Computes the states of all lines whose states aren't known yet.  This
+	 * only does anything if progressive lexing is enabled, and can be called
+	 * when the exact highlighting of the entire document is needed
+	 * immediately, e.g. before exporting it.  Like the rest of this class's
+	 * syntax highlighting state, this should be called on the EDT.
+	 *
+	 * @see #setProgressiveLexingEnabled(boolean)
+	 * @see #isLineStateKnown(int)
+	 */
+	public void completePendingLexing() {
+		lexPendingLines(Long.MAX_VALUE);
+	}
+
+
+	/**
+	 * Creates a token maker for lexing lines in parallel with another one.
+	 *
+	 * @param tokenMaker The token maker.
+	 * @param syntaxStyle The syntax style <code>tokenMaker</code> is for.
+	 * @return The token maker, or <code>null</code> if one that lexes
+	 *         identically to <code>tokenMaker</code> cannot be created,
+	 *         e.g. if a custom token maker was installed via
+	 *         {@link #setSyntaxStyle(TokenMaker)}.
+	 */
+	private TokenMaker createWorkerTokenMaker(TokenMaker tokenMaker,
+											String syntaxStyle) {
+		TokenMaker tm = tokenMakerFactory.getTokenMaker(syntaxStyle);
+		return tm.getClass()==tokenMaker.getClass() ? tm : null;
+	}
+
+
 	/**
 	 * Alerts all listeners to this document of an insertion.  This is
 	 * overridden so we can update our syntax highlighting stuff.<p>
@@ -118,7 +351,16 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	@Override
 	protected void fireInsertUpdate(DocumentEvent e) {
 
+		version++;
 		cachedTokenList = null;
+		releaseUnusedSnapshotBuffers();
+		if (snapshotText!=null) {
+			try {
+				snapshotText.inserted(this, e.getOffset(), e.getLength());
+			} catch (BadLocationException ble) { // Never happens
+				throw new InternalError("Error copying document text", ble);
+			}
+		}
 
 		/*
 		 * Now that the text is actually inserted into the content and
@@ -128,7 +370,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 
 		Element lineMap = getDefaultRootElement();
 		DocumentEvent.ElementChange change = e.getChange(lineMap);
-		Element[] added = change==null ? null : change.getChildrenAdded();
+		int numAdded = change==null ? 0 : getChildrenAddedCount(change);
 
 		int numLines = lineMap.getElementCount();
 		int line = lineMap.getElementIndex(e.getOffset());
@@ -137,34 +379,69 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 					lastTokensOnLines.get(previousLine) : TokenTypes.NULL);
 
 		// If entire lines were added...
-		if (added!=null && added.length>0) {
+		if (numAdded>0) {
 
-			Element[] removed = change.getChildrenRemoved();
-			int numRemoved = removed!=null ? removed.length : 0;
+			longLineLexer = null;
+			int numRemoved = getChildrenRemovedCount(change);
+			tokenListCache.replaceLines(change.getIndex(), numRemoved, numAdded);
+			linesReplaced(change.getIndex(), numRemoved, numAdded);
 
-			int endBefore = line + added.length - numRemoved;
+			int endBefore = line + numAdded - numRemoved;
 			//System.err.println("... adding lines: " + line + " - " + (endBefore-1));
-			//System.err.println("... ... added: " + added.length + ", removed:" + numRemoved);
-			for (int i=line; i<endBefore; i++) {
+			//System.err.println("... ... added: " + numAdded + ", removed:" + numRemoved);
+
+			// Text being loaded had its states computed as it was read
+			if (loadedTokenTypes!=null && loadedTokenTypes.length==numLines) {
+				lastTokensOnLines.removeRange(0, lastTokensOnLines.getSize());
+				lastTokensOnLines.insertRange(0, loadedTokenTypes);
+				firstUnknownStateLine = Integer.MAX_VALUE;
+				if (snapshotStates!=null) {
+					snapshotStates.changedFrom(0);
+				}
+			}
 
-				setSharedSegment(i); // Loads line i's text into s.
+			// When progressively lexing, compute the states of many new
+			// lines, or of lines below any whose state isn't known yet,
+			// in the background.
+			else if (progressiveLexingEnabled &&
+					(endBefore-line>=PROGRESSIVE_LEXING_MIN_LINES ||
+					line>=firstUnknownStateLine)) {
+				lastTokensOnLines.insertRange(line, endBefore-line,
+											TokenTypes.NULL);
+				if (snapshotStates!=null) {
+					snapshotStates.linesInserted(line, endBefore-line);
+				}
+				markStatesUnknown(line);
+			}
 
-				int tokenType = tokenMaker.getLastTokenTypeOnLine(s, previousTokenType);
-				lastTokensOnLines.add(i, tokenType);
-				//System.err.println("--------- lastTokensOnLines.size() == " + lastTokensOnLines.getSize());
+			else {
 
-				previousTokenType = tokenType;
+				// Compute the new lines' values in a single pass, then
+				// splice them in all at once, so pasting many lines doesn't
+				// shift everything below them once per line.
+				int[] tokenTypes = new int[endBefore - line];
+				previousTokenType = getLastTokenTypes(tokenMaker, syntaxStyle,
+									line, tokenTypes, previousTokenType);
+				lastTokensOnLines.insertRange(line, tokenTypes);
+				if (snapshotStates!=null) {
+					snapshotStates.linesInserted(line, tokenTypes.length);
+				}
 
-			} // End of for (int i=line; i<endBefore; i++).
+				// Update last tokens for lines below until they stop changing.
+				updateLastTokensBelow(endBefore, numLines, previousTokenType);
 
-			// Update last tokens for lines below until they stop changing.
-			updateLastTokensBelow(endBefore, numLines, previousTokenType);
+			}
 
-		} // End of if (added!=null && added.length>0).
+		} // End of if (numAdded>0).
 
 		// Otherwise, text was inserted on a single line...
 		else {
 
+			tokenListCache.invalidate(line, line);
+			if (longLineLexer!=null) {
+				longLineLexer.textChanged(e.getOffset(), e.getLength());
+			}
+
 			// Update last tokens for lines below until they stop changing.
 			updateLastTokensBelow(line, numLines, previousTokenType);
 
@@ -193,41 +470,55 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	@Override
 	protected void fireRemoveUpdate(DocumentEvent chng) {
 
+		version++;
 		cachedTokenList = null;
+		releaseUnusedSnapshotBuffers();
+		if (snapshotText!=null) {
+			snapshotText.removed(chng.getOffset(), chng.getLength());
+		}
 		Element lineMap = getDefaultRootElement();
 		int numLines = lineMap.getElementCount();
 
 		DocumentEvent.ElementChange change = chng.getChange(lineMap);
-		Element[] removed = change==null ? null : change.getChildrenRemoved();
+		int numRemoved = change==null ? 0 : getChildrenRemovedCount(change);
 
 		// If entire lines were removed...
-		if (removed!=null && removed.length>0) {
+		if (numRemoved>0) {
 
+			longLineLexer = null;
 			int line = change.getIndex();	// First line entirely removed.
 			int previousLine = line - 1;	// Line before that.
 			int previousTokenType = (previousLine>-1 ?
 					lastTokensOnLines.get(previousLine) : TokenTypes.NULL);
 
-			Element[] added = change.getChildrenAdded();
-			int numAdded = added==null ? 0 : added.length;
+			int numAdded = getChildrenAddedCount(change);
+			tokenListCache.replaceLines(line, numRemoved, numAdded);
+			linesReplaced(line, numRemoved, numAdded);
 
 			// Remove the cached last-token values for the removed lines.
-			int endBefore = line + removed.length - numAdded;
+			int endBefore = line + numRemoved - numAdded;
 			//System.err.println("... removing lines: " + line + " - " + (endBefore-1));
-			//System.err.println("... added: " + numAdded + ", removed: " + removed.length);
+			//System.err.println("... added: " + numAdded + ", removed: " + numRemoved);
 
 			lastTokensOnLines.removeRange(line, endBefore); // Removing values for lines [line-(endBefore-1)].
+			if (snapshotStates!=null) {
+				snapshotStates.linesRemoved(line, endBefore - line);
+			}
 			//System.err.println("--------- lastTokensOnLines.size() == " + lastTokensOnLines.getSize());
 
 			// Update last tokens for lines below until they've stopped changing.
 			updateLastTokensBelow(line, numLines, previousTokenType);
 
-		} // End of if (removed!=null && removed.size()>0).
+		} // End of if (numRemoved>0).
 
 		// Otherwise, text was removed from just one line...
 		else {
 
 			int line = lineMap.getElementIndex(chng.getOffset());
+			tokenListCache.invalidate(line, line);
+			if (longLineLexer!=null) {
+				longLineLexer.textChanged(chng.getOffset(), -chng.getLength());
+			}
 			if (line>=lastTokensOnLines.getSize()) {
 				return;	// If we're editing the last line in a document...
 			}
@@ -324,6 +615,110 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Computes the last token types for a range of lines, without updating
+	 * <code>lastTokensOnLines</code>.  The token maker to use is passed in,
+	 * so the states for a new syntax style can be computed before it's
+	 * installed.  This is used when many lines are
+	 * inserted at once, e.g. when pasting a large block of text or calling
+	 * <code>setText()</code>, and when the syntax style changes.<p>
+	 *
+	 * Rather than looking up each line's element and fetching its text
+	 * separately, the text of all lines is fetched at once and split on
+	 * newlines.  Usually nearly all of it is contiguous in the document's
+	 * content and no copy is made; any lines after the first break in the
+	 * content are loaded one at a time.  If parallel lexing is enabled and
+	 * there are enough lines, all of the text is fetched and lexed by a
+	 * {@link ParallelLineLexer} instead.
+	 *
+	 * @param tokenMaker The token maker to lex with.
+	 * @param syntaxStyle The syntax style <code>tokenMaker</code> is for.
+	 * @param firstLine The first line to compute.
+	 * @param tokenTypes Receives the last token types of lines
+	 *        <code>firstLine</code> through
+	 *        <code>firstLine + tokenTypes.length - 1</code>.
+	 * @param previousTokenType The last token type of the line before
+	 *        <code>firstLine</code>.
+	 * @return The last token type of the last line computed.
+	 */
+	private int getLastTokenTypes(TokenMaker tokenMaker, String syntaxStyle,
+						int firstLine, int[] tokenTypes, int previousTokenType) {
+
+		if (tokenTypes.length==0) {
+			return previousTokenType;
+		}
+
+		Element map = getDefaultRootElement();
+		int start = map.getElement(firstLine).getStartOffset();
+		int end = map.getElement(firstLine + tokenTypes.length - 1).
+				getEndOffset() - 1;
+
+		boolean parallel = parallelLexingEnabled &&
+				tokenTypes.length>=PARALLEL_LEXING_MIN_LINES &&
+				isWorkerTokenMakerSupported(tokenMaker, syntaxStyle);
+
+		Segment text = new Segment();
+		text.setPartialReturn(!parallel);
+		try {
+			getText(start, end-start, text);
+		} catch (BadLocationException ble) { // Never happens
+			throw new InternalError("Text range not in document: " +
+								start + "-" + end);
+		}
+
+		if (parallel) {
+			List<TokenMaker> workers = new ArrayList<>();
+			try {
+				return ParallelLineLexer.lex(text, tokenTypes, previousTokenType,
+						tokenMaker, longLinePolicy, () -> {
+							TokenMaker worker = createWorkerTokenMaker(
+									tokenMaker, syntaxStyle);
+							workers.add(worker);
+							return worker;
+						});
+			} finally {
+				for (TokenMaker worker : workers) {
+					tokenMakerFactory.releaseTokenMaker(syntaxStyle, worker);
+				}
+			}
+		}
+
+		boolean complete = text.count==end-start;
+
+		int i = 0;
+		char[] array = text.array;
+		int lineStart = text.offset;
+		int textEnd = text.offset + text.count;
+		while (i<tokenTypes.length) {
+			int lineEnd = lineStart;
+			while (lineEnd<textEnd && array[lineEnd]!='\n') {
+				lineEnd++;
+			}
+			if (lineEnd==textEnd && !complete) {
+				break; // This line continues past the returned text
+			}
+			s.array = array;
+			s.offset = lineStart;
+			s.count = lineEnd - lineStart;
+			previousTokenType = longLinePolicy.getLastTokenTypeOnLine(tokenMaker, s,
+												previousTokenType);
+			tokenTypes[i++] = previousTokenType;
+			lineStart = lineEnd + 1;
+		}
+
+		// Lines the partial return didn't cover
+		for (; i<tokenTypes.length; i++) {
+			setSharedSegment(firstLine + i); // Loads the line's text into s.
+			previousTokenType = longLinePolicy.getLastTokenTypeOnLine(tokenMaker, s,
+												previousTokenType);
+			tokenTypes[i] = previousTokenType;
+		}
+
+		return previousTokenType;
+
+	}
+
+
 	/**
 	 * Returns the text to place at the beginning and end of a
 	 * line to "comment" it in this programming language.
@@ -341,6 +736,30 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Returns the lexer for long lines, creating it if necessary.
+	 *
+	 * @return The lexer.
+	 */
+	private LongLineLexer getLongLineLexer() {
+		if (longLineLexer==null) {
+			longLineLexer = new LongLineLexer(tokenMaker, longLinePolicy);
+		}
+		return longLineLexer;
+	}
+
+
+	/**
+	 * Returns how lines too long to lex all at once are highlighted.
+	 *
+	 * @return The long line policy.  This will never be <code>null</code>.
+	 * @see #setLongLinePolicy(LongLinePolicy)
+	 */
+	public LongLinePolicy getLongLinePolicy() {
+		return longLinePolicy;
+	}
+
+
 	/**
 	 * Returns whether tokens of the specified type should have "mark
 	 * occurrences" enabled for the current programming language.
@@ -364,6 +783,52 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Returns a compact, read-only copy of the token list for a line.  Unlike
+	 * {@link #getTokenListForLine(int)}, the returned object remains valid
+	 * after subsequent calls to either method, until the document is
+	 * modified.  Bulk consumers can use this to walk a line's tokens as plain
+	 * arrays.
+	 *
+	 * @param line The line number, &gt;= 0.
+	 * @return The packed token list for the line, or <code>null</code> if
+	 *         the current language's tokens cannot be represented in packed
+	 *         form, or the line is a long line according to this
+	 *         document's {@link LongLinePolicy}.
+	 * @see #getTokenListForLine(int)
+	 */
+	public PackedTokenList getPackedTokenListForLine(int line) {
+
+		Element elem = getDefaultRootElement().getElement(line);
+		int startOffset = elem.getStartOffset();
+		int endOffset = elem.getEndOffset() - 1;
+		try {
+			getText(startOffset, endOffset-startOffset, s);
+		} catch (BadLocationException ble) { // Never happens
+			ble.printStackTrace();
+			return null;
+		}
+		if (longLinePolicy.isLongLine(s.count)) {
+			return null;
+		}
+
+		PackedTokenList packed = tokenListCache.getPacked(line, startOffset, s.count);
+		if (packed==null) {
+			int initialTokenType = line==0 ? TokenTypes.NULL :
+									getLastTokenTypeOnLine(line-1);
+			lastLine = -1; // Token maker's tokens are about to be reused
+			cachedTokenList = null;
+			Token t = tokenMaker.getTokenList(s, initialTokenType, startOffset);
+			packed = PackedTokenList.create(s, startOffset, t);
+			if (packed!=null) {
+				tokenListCache.put(line, packed);
+			}
+		}
+		return packed;
+
+	}
+
+
 	/**
 	 * This method returns whether auto indentation should be done if Enter
 	 * is pressed at the end of the specified line.
@@ -378,6 +843,83 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Returns an immutable snapshot of this document's text, lines and line
+	 * states.  Unlike this document, the snapshot can be used from any
+	 * thread without holding the document's lock, so parsers and other
+	 * analysis can run in the background while the document is edited.<p>
+	 *
+	 * This method may be called from any thread, and holds the document's
+	 * read lock.  Snapshots share all text and line states that haven't
+	 * changed between them, so only the first one copies everything.  If
+	 * the document hasn't changed since the last snapshot was created, that
+	 * snapshot is simply returned again.<p>
+	 *
+	 * The copy snapshots share is only kept up to date while the most
+	 * recent snapshot is still referenced.  Callers that take snapshots
+	 * repeatedly, e.g. to parse the document after each edit, should keep
+	 * the last one until they take the next.
+	 *
+	 * @return The snapshot.
+	 * @see #getVersion()
+	 */
+	public DocumentSnapshot getSnapshot() {
+
+		readLock();
+		try {
+
+			synchronized (stateLock) {
+				DocumentSnapshot last = snapshot!=null ? snapshot.get() : null;
+				if (last!=null && last.getVersion()==version &&
+						last.getFirstUnknownStateLine()==firstUnknownStateLine) {
+					return last;
+				}
+			}
+
+			// The text can only change while holding the write lock, so it
+			// doesn't need stateLock.  Two readers may both copy the text
+			// the first time; only one copy is kept.
+			SnapshotTextBuffer buffer = snapshotText;
+			if (buffer==null) {
+				buffer = new SnapshotTextBuffer(this);
+				synchronized (stateLock) {
+					if (snapshotText==null) {
+						snapshotText = buffer;
+					}
+					else {
+						buffer = snapshotText;
+					}
+				}
+			}
+			SnapshotText text = buffer.createSnapshot();
+
+			synchronized (stateLock) {
+				if (snapshotStates==null) {
+					snapshotStates = new SnapshotStateBuffer();
+				}
+				SnapshotStates states = snapshotStates.createSnapshot(
+						lastTokensOnLines);
+				// Unknown states change on the EDT while only holding the
+				// read lock, so they're always copied again
+				if (firstUnknownStateLine!=Integer.MAX_VALUE) {
+					snapshotStates.changedFrom(firstUnknownStateLine);
+				}
+				DocumentSnapshot result = new DocumentSnapshot(version,
+						syntaxStyle, text, states, firstUnknownStateLine,
+						longLinePolicy);
+				snapshot = new WeakReference<>(result);
+				return result;
+			}
+
+		} catch (BadLocationException ble) { // Never happens
+			throw new InternalError("Error copying document text", ble);
+		} finally {
+			readUnlock();
+		}
+
+	}
+
+
 	/**
 	 * Returns the syntax style being used.
 	 *
@@ -389,11 +931,28 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Returns the maximum number of bytes used to cache token lists for
+	 * lines in this document.
+	 *
+	 * @return The maximum number of bytes.
+	 * @see #setTokenListCacheMaxBytes(int)
+	 */
+	public int getTokenListCacheMaxBytes() {
+		return tokenListCache.getMaxBytes();
+	}
+
+
 	/**
 	 * Returns a token list for the specified segment of text representing
 	 * the specified line number.  This method is basically a wrapper for
 	 * <code>tokenMaker.getTokenList</code> that takes into account the last
-	 * token on the previous line to assure token accuracy.
+	 * token on the previous line to assure token accuracy.<p>
+	 *
+	 * Token lists for recently requested lines are cached, but the tokens
+	 * returned are reused, so the list is only valid until the next call to
+	 * this method.  Use {@link #getPackedTokenListForLine(int)} if you need
+	 * to hold on to the tokens for several lines at once.
 	 *
 	 * @param line The line number of <code>text</code> in the document,
 	 *        &gt;= 0.
@@ -418,16 +977,103 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 			ble.printStackTrace();
 			return new TokenImpl();
 		}
+
+		if (line>firstUnknownStateLine &&
+				(priorityLine==-1 || line<priorityLine)) {
+			priorityLine = line; // Lex the lines being painted first
+		}
+
+		if (longLinePolicy.isLongLine(s.count)) {
+			int initialTokenType = line==0 ? TokenTypes.NULL :
+									getLastTokenTypeOnLine(line-1);
+			cachedTokenList = getLongLineLexer().getTokenList(s,
+					initialTokenType, startOffset);
+			return cachedTokenList;
+		}
+
+		cachedTokenList = tokenListCache.get(line, startOffset, s.count);
+		if (cachedTokenList==null) {
+			int initialTokenType = line==0 ? TokenTypes.NULL :
+									getLastTokenTypeOnLine(line-1);
+			cachedTokenList = tokenMaker.getTokenList(s, initialTokenType, startOffset);
+			tokenListCache.put(line, s, startOffset, cachedTokenList);
+		}
+		return cachedTokenList;
+
+	}
+
+
+	/**
+	 * Returns a token list for a line, making sure a range of it is
+	 * tokenized.  This only differs from {@link #getTokenListForLine(int)}
+	 * for lines that are long lines according to this document's
+	 * {@link LongLinePolicy}.  Only the chunks of such a line containing the
+	 * range are split into tokens; the rest of the line is returned as plain
+	 * text.  Subsequent calls to {@link #getTokenListForLine(int)} for the
+	 * same line return the same tokens, until a different range is
+	 * requested.<p>
+	 *
+	 * As with {@link #getTokenListForLine(int)}, the returned list is only
+	 * valid until the next call to either method.
+	 *
+	 * @param line The line number, &gt;= 0.
+	 * @param startOffs The offset in the document of the start of the range.
+	 * @param endOffs The offset in the document of the end of the range.
+	 * @return A token list representing the specified line.
+	 * @see #setLongLinePolicy(LongLinePolicy)
+	 */
+	public Token getTokenListForLine(int line, int startOffs, int endOffs) {
+
+		Element elem = getDefaultRootElement().getElement(line);
+		int startOffset = elem.getStartOffset();
+		int endOffset = elem.getEndOffset() - 1;
+		if (!longLinePolicy.isLongLine(endOffset - startOffset)) {
+			return getTokenListForLine(line);
+		}
+
+		try {
+			getText(startOffset, endOffset-startOffset, s);
+		} catch (BadLocationException ble) { // Never happens
+			ble.printStackTrace();
+			return new TokenImpl();
+		}
+
 		int initialTokenType = line==0 ? TokenTypes.NULL :
 								getLastTokenTypeOnLine(line-1);
-
-		//return tokenMaker.getTokenList(s, initialTokenType, startOffset);
-		cachedTokenList = tokenMaker.getTokenList(s, initialTokenType, startOffset);
+		lastLine = line;
+		cachedTokenList = getLongLineLexer().getTokenList(s, initialTokenType,
+				startOffset, startOffs, endOffs);
 		return cachedTokenList;
 
 	}
 
 
+	/**
+	 * Returns the version of this document.  This is incremented whenever
+	 * text is inserted or removed, or the syntax style changes.  This method
+	 * may be called from any thread, e.g. to check whether the results of
+	 * analyzing a snapshot are stale.
+	 *
+	 * @return The version.
+	 * @see #getSnapshot()
+	 */
+	public long getVersion() {
+		return version;
+	}
+
+
+	/**
+	 * Returns whether copies of the text and line states are being kept up
+	 * to date for snapshots to share.  This is mainly useful for testing.
+	 *
+	 * @return Whether the copies are kept.
+	 * @see #getSnapshot()
+	 */
+	boolean hasSnapshotBuffers() {
+		return snapshotText!=null;
+	}
+
+
 	boolean insertBreakSpecialHandling(ActionEvent e) {
 		Action a = tokenMaker.getInsertBreakAction();
 		if (a!=null) {
@@ -452,6 +1098,66 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Returns whether the state of a line is known.  This is always
+	 * <code>true</code> unless progressive lexing is enabled, in which case
+	 * the states of lines not yet reached by the background lexing are only
+	 * provisional.  The highlighting of the line after such a line may not
+	 * be accurate.
+	 *
+	 * @param line The line.
+	 * @return Whether the line's state is known.
+	 * @see #getLastTokenTypeOnLine(int)
+	 * @see #setProgressiveLexingEnabled(boolean)
+	 */
+	public boolean isLineStateKnown(int line) {
+		return line<firstUnknownStateLine;
+	}
+
+
+	/**
+	 * Returns whether the states of many lines may be computed in parallel.
+	 *
+	 * @return Whether parallel lexing is enabled.
+	 * @see #setParallelLexingEnabled(boolean)
+	 */
+	public boolean isParallelLexingEnabled() {
+		return parallelLexingEnabled;
+	}
+
+
+	/**
+	 * Returns whether the states of many lines are computed in the
+	 * background.
+	 *
+	 * @return Whether progressive lexing is enabled.
+	 * @see #setProgressiveLexingEnabled(boolean)
+	 */
+	public boolean isProgressiveLexingEnabled() {
+		return progressiveLexingEnabled;
+	}
+
+
+	/**
+	 * Returns whether token makers for lexing lines in parallel with another
+	 * one can be created.
+	 *
+	 * @param tokenMaker The token maker.
+	 * @param syntaxStyle The syntax style <code>tokenMaker</code> is for.
+	 * @return Whether worker token makers can be created.
+	 * @see #createWorkerTokenMaker(TokenMaker, String)
+	 */
+	private boolean isWorkerTokenMakerSupported(TokenMaker tokenMaker,
+												String syntaxStyle) {
+		Class<?> c = tokenMakerClasses.computeIfAbsent(syntaxStyle, style -> {
+			TokenMaker tm = tokenMakerFactory.getTokenMaker(style);
+			tokenMakerFactory.releaseTokenMaker(style, tm);
+			return tm.getClass();
+		});
+		return c==tokenMaker.getClass();
+	}
+
+
 	/**
 	 * Returns an iterator over the paintable tokens in this document.  Results
 	 * are undefined if this document is modified while the iterator is being
@@ -468,6 +1174,194 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Computes the states of lines whose states aren't known yet.  The
+	 * provisional states of the lines most recently painted are computed
+	 * first, so they are more likely to be highlighted correctly.  Then, the
+	 * actual states of lines are computed in order, starting with the first
+	 * line whose state is unknown.  A change event is fired for the range of
+	 * lines whose highlighting changed.
+	 *
+	 * @param maxNanos The maximum time to spend, in nanoseconds.
+	 * @return Whether there are still lines whose states are unknown.
+	 */
+	boolean lexPendingLines(long maxNanos) {
+
+		int firstDamaged = Integer.MAX_VALUE;
+		int lastDamaged = -1;
+
+		readLock();
+		try {
+
+			if (firstUnknownStateLine==Integer.MAX_VALUE) {
+				return false;
+			}
+			long start = System.nanoTime();
+			int numLines = getDefaultRootElement().getElementCount();
+
+			// Only the states of lines whose states are unknown change here.
+			// Snapshots always recopy those, so snapshotStates isn't told.
+
+			// Provisionally lex the lines being painted
+			if (priorityLine>firstUnknownStateLine && priorityLine<numLines &&
+					(priorityLine<provisionalStart || priorityLine>=provisionalEnd)) {
+				provisionalStart = Math.max(firstUnknownStateLine,
+							priorityLine - PROVISIONAL_CONTEXT_LINES);
+				provisionalEnd = Math.min(numLines,
+							provisionalStart + PROVISIONAL_WINDOW_LINES);
+				int previousTokenType = provisionalStart==firstUnknownStateLine &&
+						provisionalStart>0 ?
+						lastTokensOnLines.get(provisionalStart - 1) : TokenTypes.NULL;
+				for (int line=provisionalStart; line<provisionalEnd; line++) {
+					setSharedSegment(line);
+					int tokenType = longLinePolicy.getLastTokenTypeOnLine(tokenMaker, s, previousTokenType);
+					if (tokenType!=lastTokensOnLines.get(line)) {
+						lastTokensOnLines.setUnsafe(line, tokenType);
+						firstDamaged = Math.min(firstDamaged, line + 1);
+						lastDamaged = Math.max(lastDamaged, line + 1);
+					}
+					previousTokenType = tokenType;
+				}
+			}
+			priorityLine = -1;
+
+			// Compute actual states, in order
+			int line = firstUnknownStateLine;
+			int previousTokenType = line>0 ? lastTokensOnLines.get(line - 1) :
+									TokenTypes.NULL;
+			while (line<numLines) {
+				setSharedSegment(line);
+				int tokenType = longLinePolicy.getLastTokenTypeOnLine(tokenMaker, s, previousTokenType);
+				if (tokenType!=lastTokensOnLines.get(line)) {
+					lastTokensOnLines.setUnsafe(line, tokenType);
+					firstDamaged = Math.min(firstDamaged, line + 1);
+					lastDamaged = Math.max(lastDamaged, line + 1);
+				}
+				previousTokenType = tokenType;
+				line++;
+				if ((line&0x3f)==0 && System.nanoTime()-start>=maxNanos) {
+					break;
+				}
+			}
+			synchronized (stateLock) {
+				firstUnknownStateLine = line<numLines ? line : Integer.MAX_VALUE;
+			}
+
+			// The last line's state doesn't affect any painting
+			lastDamaged = Math.min(lastDamaged, numLines - 1);
+
+		} finally {
+			readUnlock();
+		}
+
+		if (firstDamaged<=lastDamaged) {
+			lastLine = -1;
+			cachedTokenList = null;
+			tokenListCache.invalidate(firstDamaged, lastDamaged);
+			fireChangedUpdate(new DefaultDocumentEvent(firstDamaged, lastDamaged,
+								DocumentEvent.EventType.CHANGE));
+		}
+
+		return firstUnknownStateLine!=Integer.MAX_VALUE;
+
+	}
+
+
+	/**
+	 * Updates the progressive lexing state for lines being replaced in the
+	 * document.
+	 *
+	 * @param line The index of the first line replaced.
+	 * @param removedCount The number of lines removed, starting at
+	 *        <code>line</code>.
+	 * @param addedCount The number of lines added in their place.
+	 */
+	private void linesReplaced(int line, int removedCount, int addedCount) {
+		provisionalStart = provisionalEnd = -1;
+		if (firstUnknownStateLine!=Integer.MAX_VALUE && firstUnknownStateLine>line) {
+			firstUnknownStateLine = firstUnknownStateLine>=line+removedCount ?
+					firstUnknownStateLine + addedCount - removedCount : line;
+		}
+	}
+
+
+	/**
+	 * Replaces the text of this document with text read from a stream.
+	 * The stream is read by a {@link TextLoader}, and its text is inserted
+	 * into the document in a single edit with
+	 * {@link #insertChars(int, char[], int)}, so a content that can use the
+	 * loader's buffer doesn't copy it.  The document's line separator property is set to the
+	 * separator used in the stream.  Callers showing this document should
+	 * detach it while it's loaded, so their listeners don't process the
+	 * edit, as <code>TextEditorPane</code> does.<p>
+	 *
+	 * If progressive or parallel lexing is enabled, the lines' states are
+	 * computed that way once the text is inserted.  Otherwise, the loader
+	 * computes the last token type of each line as it's read, so the text
+	 * is only scanned once.
+	 *
+	 * @param in The stream to read from.  This is closed when this method
+	 *        returns.
+	 * @param defaultEnc The encoding to use if the stream does not start
+	 *        with a BOM.  If this is <code>null</code>, UTF-8 is used if the
+	 *        start of the stream is valid, non-ASCII UTF-8, and the system
+	 *        default encoding otherwise.
+	 * @return The loader used, which knows the stream's encoding.
+	 * @throws IOException If an IO error occurs.  If this happens, the
+	 *         document is not modified.
+	 */
+	TextLoader load(InputStream in, String defaultEnc) throws IOException {
+
+		boolean record = !progressiveLexingEnabled &&
+				!(parallelLexingEnabled &&
+				isWorkerTokenMakerSupported(tokenMaker, syntaxStyle));
+		LineStateRecorder recorder = record ?
+				new LineStateRecorder(tokenMaker, longLinePolicy) : null;
+		TextLoader loader = TextLoader.load(in, defaultEnc, recorder);
+
+		try {
+			// Snapshots taken afterward copy the new text once, rather than
+			// it being copied into the buffer as it's inserted
+			releaseSnapshotBuffers();
+			remove(0, getLength());
+			loadedTokenTypes = recorder!=null ? recorder.getTokenTypes() : null;
+			insertChars(0, loader.getTextArray(), loader.getLength());
+		} catch (BadLocationException ble) { // Never happens
+			throw new InternalError("Error loading text", ble);
+		} finally {
+			loadedTokenTypes = null;
+		}
+
+		putProperty(RTextAreaEditorKit.EndOfLineStringProperty,
+				loader.getLineSeparator());
+		return loader;
+
+	}
+
+
+	/**
+	 * Marks the states of a line and all lines after it as unknown, and
+	 * starts computing them in the background.
+	 *
+	 * @param line The first line whose state is unknown.
+	 */
+	private void markStatesUnknown(int line) {
+		firstUnknownStateLine = Math.min(firstUnknownStateLine, line);
+		if (snapshotStates!=null) {
+			snapshotStates.changedFrom(line);
+		}
+		provisionalStart = provisionalEnd = -1;
+		if (progressiveLexingTimer==null) {
+			progressiveLexingTimer = new Timer(1, e -> {
+				if (!lexPendingLines(PROGRESSIVE_LEXING_SLICE_NANOS)) {
+					((Timer)e.getSource()).stop();
+				}
+			});
+		}
+		progressiveLexingTimer.start();
+	}
+
+
 	/**
 	 * Deserializes a document.
 	 *
@@ -487,13 +1381,126 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 
 		// Handle other transient stuff
 		this.s = new Segment();
+		tokenListCache = new TokenListCache(DEFAULT_TOKEN_LIST_CACHE_MAX_BYTES);
 		int lineCount = getDefaultRootElement().getElementCount();
 		lastTokensOnLines = new DynamicIntArray(lineCount);
+		lastTokensOnLines.insertRange(0, lineCount, TokenTypes.NULL);
+		firstUnknownStateLine = Integer.MAX_VALUE;
+		priorityLine = provisionalStart = provisionalEnd = -1;
+		stateLock = new Object();
+		if (longLinePolicy==null) { // Serialized by an older version
+			longLinePolicy = LongLinePolicy.NONE;
+		}
 		setSyntaxStyle(syntaxStyle); // Actually install (transient) TokenMaker
 
 	}
 
 
+	/**
+	 * Releases the copies of the text and line states that snapshots
+	 * share.  The next snapshot copies everything again.
+	 */
+	private void releaseSnapshotBuffers() {
+		synchronized (stateLock) {
+			snapshotText = null;
+			snapshotStates = null;
+		}
+	}
+
+
+	/**
+	 * Releases the copies of the text and line states that snapshots share
+	 * if the most recent snapshot is no longer referenced, rather than
+	 * keeping them up to date.  This is called while holding the write
+	 * lock.
+	 */
+	private void releaseUnusedSnapshotBuffers() {
+		if (snapshotText!=null && (snapshot==null || snapshot.get()==null)) {
+			releaseSnapshotBuffers();
+		}
+	}
+
+
+	/**
+	 * Sets how lines too long to lex all at once are highlighted.  Lines
+	 * longer than a few thousand characters, such as those in minified
+	 * files, can be slow to lex and paint in their entirety; the policy
+	 * can have such lines lexed in chunks, only tokenizing the parts being
+	 * painted or containing the caret, or not highlighted at all.  The
+	 * default is {@link LongLinePolicy#NONE}.<p>
+	 *
+	 * Changing the policy recomputes the states of all lines.
+	 *
+	 * @param policy The new policy.
+	 * @throws IllegalArgumentException If <code>policy</code> is
+	 *         <code>null</code>.
+	 * @see #getLongLinePolicy()
+	 */
+	public void setLongLinePolicy(LongLinePolicy policy) {
+		if (policy==null) {
+			throw new IllegalArgumentException("policy cannot be null");
+		}
+		if (!policy.equals(longLinePolicy)) {
+			synchronized (stateLock) {
+				longLinePolicy = policy;
+			}
+			updateSyntaxHighlightingInformation(tokenMaker, syntaxStyle);
+		}
+	}
+
+
+	/**
+	 * Sets whether the states of many lines may be computed in parallel.
+	 * If this is enabled, when a large file is loaded or the syntax style
+	 * changes, the lines are split into chunks that are lexed on a
+	 * <code>ForkJoinPool</code>, followed by a quick sequential pass to fix
+	 * up any chunks that didn't start in the state they were assumed to.
+	 * This can greatly reduce the time spent blocking the EDT for files with
+	 * many lines.  The resulting highlighting is always identical to that
+	 * computed sequentially.<p>
+	 *
+	 * Parallel lexing is only done for the syntax styles created by this
+	 * document's <code>TokenMakerFactory</code>, since each chunk needs its
+	 * own token maker.  It is disabled by default.
+	 *
+	 * @param enabled Whether parallel lexing is enabled.
+	 * @see #isParallelLexingEnabled()
+	 */
+	public void setParallelLexingEnabled(boolean enabled) {
+		parallelLexingEnabled = enabled;
+	}
+
+
+	/**
+	 * Sets whether the states of many lines are computed in the background.
+	 * If this is enabled, when many lines are added to the document at once
+	 * (e.g. when loading a large file), or when the syntax style changes,
+	 * the lines' states are marked as unknown and computed a little at a
+	 * time on the EDT.  Until then, lines are highlighted provisionally,
+	 * assuming the lines before them end in the {@link TokenTypes#NULL}
+	 * state.  Change events are fired as the highlighting of lines is
+	 * corrected.  Lines being painted are lexed provisionally first, so
+	 * the visible part of the document is usually highlighted correctly
+	 * right away.  Edits only update the states of a limited number of
+	 * lines synchronously.<p>
+	 *
+	 * This takes precedence over parallel lexing.  It is disabled by
+	 * default.  Disabling it computes the states of all lines whose states
+	 * are unknown immediately.
+	 *
+	 * @param enabled Whether progressive lexing is enabled.
+	 * @see #isProgressiveLexingEnabled()
+	 * @see #isLineStateKnown(int)
+	 * @see #completePendingLexing()
+	 */
+	public void setProgressiveLexingEnabled(boolean enabled) {
+		progressiveLexingEnabled = enabled;
+		if (!enabled) {
+			completePendingLexing();
+		}
+	}
+
+
 	/**
 	 * Makes our private <code>Segment s</code> point to the text in our
 	 * document referenced by the specified element.  Note that
@@ -538,9 +1545,8 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	 * @see #getSyntaxStyle()
 	 */
 	public void setSyntaxStyle(String styleKey) {
-		tokenMaker = tokenMakerFactory.getTokenMaker(styleKey);
-		updateSyntaxHighlightingInformation();
-		this.syntaxStyle = styleKey;
+		updateSyntaxHighlightingInformation(
+				tokenMakerFactory.getTokenMaker(styleKey), styleKey);
 	}
 
 
@@ -554,9 +1560,27 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	 * @see #setSyntaxStyle(String)
 	 */
 	public void setSyntaxStyle(TokenMaker tokenMaker) {
-		this.tokenMaker = tokenMaker;
-		updateSyntaxHighlightingInformation();
-		this.syntaxStyle = "text/unknown"; // TODO: Make me public?
+		// TODO: Make "text/unknown" public?
+		updateSyntaxHighlightingInformation(tokenMaker, "text/unknown");
+	}
+
+
+	/**
+	 * Sets the maximum number of bytes used to cache token lists for lines in
+	 * this document.  Caching token lists for the lines recently painted or
+	 * otherwise inspected greatly reduces the amount of re-lexing done when
+	 * scrolling or moving the caret, at the cost of some memory.
+	 *
+	 * @param maxBytes The maximum number of bytes.  A value of
+	 *        <code>0</code> disables caching.
+	 * @throws IllegalArgumentException If <code>maxBytes</code> is negative.
+	 * @see #getTokenListCacheMaxBytes()
+	 * @see #DEFAULT_TOKEN_LIST_CACHE_MAX_BYTES
+	 */
+	public void setTokenListCacheMaxBytes(int maxBytes) {
+		tokenListCache.setMaxBytes(maxBytes);
+		lastLine = -1;
+		cachedTokenList = null;
 	}
 
 
@@ -569,6 +1593,19 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	public void setTokenMakerFactory(TokenMakerFactory tmf) {
 		tokenMakerFactory = tmf!=null ? tmf :
 			TokenMakerFactory.getDefaultInstance();
+		tokenMakerClasses = new ConcurrentHashMap<>();
+	}
+
+
+	/**
+	 * Stops computing the states of lines in the background, leaving them
+	 * unknown.  This is called when this document's content is about to be
+	 * closed.
+	 */
+	void stopProgressiveLexing() {
+		if (progressiveLexingTimer!=null) {
+			progressiveLexingTimer.stop();
+		}
 	}
 
 
@@ -593,13 +1630,28 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 		// on it changing for them to be changed, as its state may be used
 		// elsewhere in the library.
 		int end = numLines;
+		if (progressiveLexingEnabled) {
+			// Let the rest of the lines be updated in the background
+			end = Math.min(end, line + PROGRESSIVE_LEXING_MIN_LINES);
+		}
 		//System.err.println("--- end==" + end + " (numLines==" + numLines + ")");
 		while (line<end) {
 
 			setSharedSegment(line); // Sets s's text to that of line 'line' in the document.
 
 			int oldTokenType = lastTokensOnLines.get(line);
-			int newTokenType = tokenMaker.getLastTokenTypeOnLine(s, previousTokenType);
+			int newTokenType;
+			if (longLinePolicy.isLexedInChunks(s.count)) {
+				// Lexes only from the last edit, and speeds up painting
+				int startOffset = getDefaultRootElement().getElement(line).
+						getStartOffset();
+				newTokenType = getLongLineLexer().getLastTokenTypeOnLine(s,
+						previousTokenType, startOffset);
+			}
+			else {
+				newTokenType = longLinePolicy.getLastTokenTypeOnLine(tokenMaker,
+						s, previousTokenType);
+			}
 			//System.err.println("---------------- line " + line + "; oldTokenType==" +
 			//		oldTokenType + ", newTokenType==" + newTokenType + ", s=='" + s + "'");
 
@@ -609,6 +1661,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 			// end didn't.
 			if (oldTokenType==newTokenType) {
 				//System.err.println("... ... ... repainting lines " + firstLine + "-" + line);
+				tokenListCache.invalidate(firstLine, line);
 				fireChangedUpdate(new DefaultDocumentEvent(firstLine, line, DocumentEvent.EventType.CHANGE));
 				return line;
 			}
@@ -618,11 +1671,18 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 			// NOTE: "setUnsafe" is okay here as the bounds checking was
 			// already done in lastTokensOnLines.get(line) above.
 			lastTokensOnLines.setUnsafe(line, newTokenType);
+			if (snapshotStates!=null) {
+				snapshotStates.changed(line);
+			}
 			previousTokenType = newTokenType;
 			line++;
 
 		} // End of while (line<numLines).
 
+		if (line<numLines) {
+			markStatesUnknown(line);
+		}
+
 		// If any lines had their token types changed, fire a changed update
 		// for them.  The view will repaint the area covered by the lines.
 		// FIXME:  We currently cheat and send the line range that needs to be
@@ -631,6 +1691,7 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 		// length.
 		if (line>firstLine) {
 			//System.err.println("... ... ... repainting lines " + firstLine + "-" + line);
+			tokenListCache.invalidate(firstLine, line);
 			fireChangedUpdate(new DefaultDocumentEvent(firstLine, line,
 								DocumentEvent.EventType.CHANGE));
 		}
@@ -646,24 +1707,59 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	 * the document's structure has changed.<p>
 	 *
 	 * This is called internally whenever the syntax style changes.
+	 *
+	 * @param tokenMaker The new token maker.
+	 * @param syntaxStyle The new syntax style.
 	 */
-	private void updateSyntaxHighlightingInformation() {
-
-		// Reinitialize the "last token on each line" array.  Note that since
-		// the actual text in the document isn't changing, the number of lines
-		// is the same.
+	private void updateSyntaxHighlightingInformation(TokenMaker tokenMaker,
+											String syntaxStyle) {
+
+		// Snapshots may be taken on another thread while we're lexing, so
+		// compute the new "last token on each line" array off to the side
+		// with the new token maker, then install them both at once.  Note
+		// that since the actual text in the document isn't changing, the
+		// number of lines is the same.
+		TokenMaker oldTokenMaker = this.tokenMaker;
+		String oldSyntaxStyle = this.syntaxStyle;
 		Element map = getDefaultRootElement();
 		int numLines = map.getElementCount();
-		int lastTokenType = TokenTypes.NULL;
-		for (int i=0; i<numLines; i++) {
-			setSharedSegment(i);
-			lastTokenType = tokenMaker.getLastTokenTypeOnLine(s, lastTokenType);
-			lastTokensOnLines.set(i, lastTokenType);
+		DynamicIntArray newLastTokensOnLines = new DynamicIntArray(numLines);
+		boolean progressive = progressiveLexingEnabled &&
+				numLines>=PROGRESSIVE_LEXING_MIN_LINES;
+		if (progressive) {
+			newLastTokensOnLines.insertRange(0, numLines, TokenTypes.NULL);
+		}
+		else {
+			int[] tokenTypes = new int[numLines];
+			getLastTokenTypes(tokenMaker, syntaxStyle, 0, tokenTypes,
+							TokenTypes.NULL);
+			newLastTokensOnLines.insertRange(0, tokenTypes);
 		}
 
-		// Clear our token cache to force re-painting
+		synchronized (stateLock) {
+			this.tokenMaker = tokenMaker;
+			this.syntaxStyle = syntaxStyle;
+			lastTokensOnLines = newLastTokensOnLines;
+			firstUnknownStateLine = Integer.MAX_VALUE;
+			if (snapshotStates!=null) {
+				snapshotStates.changedFrom(0);
+			}
+			if (progressive) {
+				markStatesUnknown(0);
+			}
+			version++;
+		}
+
+		// Clear our token caches to force re-painting
 		lastLine = -1;
 		cachedTokenList = null;
+		longLineLexer = null;
+		tokenListCache.clear();
+
+		// Nothing references the old token maker's tokens any longer
+		if (oldTokenMaker!=null && oldTokenMaker!=tokenMaker) {
+			tokenMakerFactory.releaseTokenMaker(oldSyntaxStyle, oldTokenMaker);
+		}
 
 		// Let everybody know that syntax styles have (probably) changed.
 		fireChangedUpdate(new DefaultDocumentEvent(
@@ -672,4 +1768,44 @@ public class RSyntaxDocument extends RDocument implements Iterable<Token>,
 	}
 
 
+	/**
+	 * Computes the last token type of each line read by a
+	 * <code>TextLoader</code>.
+	 */
+	private static final class LineStateRecorder
+			implements TextLoader.LineHandler {
+
+		private final TokenMaker tokenMaker;
+		private final LongLinePolicy longLinePolicy;
+		private final Segment line;
+		private int[] tokenTypes;
+		private int count;
+
+		LineStateRecorder(TokenMaker tokenMaker, LongLinePolicy longLinePolicy) {
+			this.tokenMaker = tokenMaker;
+			this.longLinePolicy = longLinePolicy;
+			line = new Segment();
+			tokenTypes = new int[1024];
+		}
+
+		int[] getTokenTypes() {
+			return Arrays.copyOf(tokenTypes, count);
+		}
+
+		@Override
+		public void lineRead(char[] text, int start, int end) {
+			if (count==tokenTypes.length) {
+				tokenTypes = Arrays.copyOf(tokenTypes, count * 2);
+			}
+			line.array = text;
+			line.offset = start;
+			line.count = end - start;
+			int previous = count>0 ? tokenTypes[count - 1] : TokenTypes.NULL;
+			tokenTypes[count++] = longLinePolicy.getLastTokenTypeOnLine(tokenMaker,
+					line, previous);
+		}
+
+	}
+
+
 }
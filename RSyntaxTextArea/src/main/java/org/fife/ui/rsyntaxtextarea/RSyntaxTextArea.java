@@ -22,6 +22,7 @@ import javax.swing.event.CaretEvent;
 import javax.swing.event.HyperlinkEvent;
 import javax.swing.event.HyperlinkListener;
 import javax.swing.text.BadLocationException;
+import javax.swing.text.Caret;
 import javax.swing.text.Document;
 import javax.swing.text.Element;
 import javax.swing.text.Highlighter;
@@ -1834,13 +1835,24 @@ public class RSyntaxTextArea extends RTextArea implements SyntaxConstants {
 
 
 	/**
-	 * Returns a list of tokens representing the given line.
+	 * Returns a list of tokens representing the given line.  If the line is
+	 * a long line lexed in chunks and contains the caret, the text around
+	 * the caret is tokenized.
 	 *
 	 * @param line The line number to get tokens for.
 	 * @return A linked list of tokens representing the line's text.
+	 * @see RSyntaxDocument#setLongLinePolicy(LongLinePolicy)
 	 */
 	public Token getTokenListForLine(int line) {
-		return ((RSyntaxDocument)getDocument()).getTokenListForLine(line);
+		RSyntaxDocument doc = (RSyntaxDocument)getDocument();
+		Caret c = getCaret();
+		if (c!=null) {
+			int dot = c.getDot();
+			if (doc.getDefaultRootElement().getElementIndex(dot)==line) {
+				return doc.getTokenListForLine(line, dot, dot);
+			}
+		}
+		return doc.getTokenListForLine(line);
 	}
 
 
@@ -0,0 +1,142 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import org.fife.util.DynamicIntArray;
+
+
+/**
+ * Creates the {@link SnapshotStates} of a document's snapshots.  This
+ * remembers the states of the last snapshot, and which lines' states have
+ * changed since, so each new snapshot only copies the chunks of lines that
+ * changed.<p>
+ *
+ * The document must report every change to its line states, while holding
+ * its write lock or the lock it creates snapshots under.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class SnapshotStateBuffer {
+
+	/**
+	 * The states of the last snapshot, or <code>null</code> if none has
+	 * been created yet.
+	 */
+	private SnapshotStates last;
+
+	/**
+	 * The range of lines whose states may have changed since the last
+	 * snapshot.  Lines after the range have the states of the lines the
+	 * same distance from the end in the last snapshot.
+	 */
+	private boolean dirty;
+	private int dirtyStart;
+	private int dirtyEnd;
+
+
+	/**
+	 * Called when the state of a line changes.
+	 *
+	 * @param line The line.
+	 */
+	void changed(int line) {
+		if (!dirty) {
+			setDirty(line, line + 1);
+		}
+		else {
+			dirtyStart = Math.min(dirtyStart, line);
+			dirtyEnd = Math.max(dirtyEnd, line + 1);
+		}
+	}
+
+
+	/**
+	 * Called when the states of a line and all lines after it may have
+	 * changed.
+	 *
+	 * @param line The line.
+	 */
+	void changedFrom(int line) {
+		if (!dirty) {
+			setDirty(line, Integer.MAX_VALUE);
+		}
+		else {
+			dirtyStart = Math.min(dirtyStart, line);
+			dirtyEnd = Integer.MAX_VALUE;
+		}
+	}
+
+
+	/**
+	 * Returns the states for a new snapshot.
+	 *
+	 * @param states The document's line states.
+	 * @return The states for the snapshot.
+	 */
+	SnapshotStates createSnapshot(DynamicIntArray states) {
+		if (last==null) {
+			last = SnapshotStates.create(states);
+		}
+		else if (dirty) {
+			last = last.update(states, dirtyStart, dirtyEnd);
+		}
+		dirty = false;
+		return last;
+	}
+
+
+	/**
+	 * Called when lines are inserted.
+	 *
+	 * @param line The first line inserted.
+	 * @param count The number of lines inserted.
+	 */
+	void linesInserted(int line, int count) {
+		if (!dirty) {
+			setDirty(line, line + count);
+		}
+		else {
+			dirtyStart = Math.min(dirtyStart, line);
+			if (dirtyEnd!=Integer.MAX_VALUE) {
+				dirtyEnd = line<=dirtyEnd ? dirtyEnd + count : line + count;
+			}
+		}
+	}
+
+
+	/**
+	 * Called when lines are removed.
+	 *
+	 * @param line The first line removed.
+	 * @param count The number of lines removed.
+	 */
+	void linesRemoved(int line, int count) {
+		if (!dirty) {
+			setDirty(line, line);
+		}
+		else {
+			dirtyStart = Math.min(dirtyStart, line);
+			if (dirtyEnd!=Integer.MAX_VALUE) {
+				dirtyEnd = dirtyEnd>=line+count ? dirtyEnd - count : line;
+			}
+		}
+	}
+
+
+	/**
+	 * Marks a range of lines as changed when none were before.
+	 *
+	 * @param start The first line.
+	 * @param end The line after the last one.
+	 */
+	private void setDirty(int start, int end) {
+		dirty = true;
+		dirtyStart = start;
+		dirtyEnd = end;
+	}
+
+
+}
@@ -0,0 +1,214 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.fife.util.DynamicIntArray;
+
+
+/**
+ * The immutable line states of a {@link DocumentSnapshot}.  The states are
+ * kept in chunks of lines that are never modified, so snapshots taken at
+ * different times share the chunks of all lines whose states didn't change
+ * in between.<p>
+ *
+ * Instances are created by a {@link SnapshotStateBuffer}, and may be used
+ * from any thread.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class SnapshotStates {
+
+	/**
+	 * The chunks, and the line each one starts at.
+	 */
+	private final int[][] chunks;
+	private final int[] starts;
+
+	private final int size;
+
+	/**
+	 * The maximum number of lines in a chunk.
+	 */
+	static final int CHUNK_SIZE = 4096;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param chunks The chunks.
+	 * @param size The total number of lines in the chunks.
+	 */
+	private SnapshotStates(List<int[]> chunks, int size) {
+		this.chunks = chunks.toArray(new int[0][]);
+		this.size = size;
+		starts = new int[this.chunks.length];
+		int start = 0;
+		for (int i=0; i<starts.length; i++) {
+			starts[i] = start;
+			start += this.chunks[i].length;
+		}
+	}
+
+
+	/**
+	 * Copies a range of line states into new chunks.  The chunks are all
+	 * about the same size, so copying a few more lines than a chunk holds
+	 * doesn't leave a tiny chunk behind.
+	 *
+	 * @param states The line states.
+	 * @param start The first line to copy.
+	 * @param end The line after the last one to copy.
+	 * @param newChunks Receives the new chunks.
+	 */
+	private static void copy(DynamicIntArray states, int start, int end,
+			List<int[]> newChunks) {
+		int chunkCount = (end - start + CHUNK_SIZE - 1) / CHUNK_SIZE;
+		for (int i=0; i<chunkCount; i++) {
+			int chunkEnd = start + (end - start) / (chunkCount - i);
+			int[] chunk = new int[chunkEnd - start];
+			for (int j=0; j<chunk.length; j++) {
+				chunk[j] = states.getUnsafe(start + j);
+			}
+			newChunks.add(chunk);
+			start = chunkEnd;
+		}
+	}
+
+
+	/**
+	 * Returns a copy of line states.
+	 *
+	 * @param states The line states.
+	 * @return The copy.
+	 */
+	static SnapshotStates create(DynamicIntArray states) {
+		List<int[]> newChunks = new ArrayList<>();
+		copy(states, 0, states.getSize(), newChunks);
+		return new SnapshotStates(newChunks, states.getSize());
+	}
+
+
+	/**
+	 * Returns the state of a line.
+	 *
+	 * @param line The line.
+	 * @return The state.
+	 */
+	int get(int line) {
+		int i = indexOfChunk(line);
+		return chunks[i][line - starts[i]];
+	}
+
+
+	/**
+	 * Returns the chunk containing a line's state.  This is mainly useful
+	 * for testing.
+	 *
+	 * @param line The line.
+	 * @return The chunk.
+	 */
+	int[] getChunk(int line) {
+		return chunks[indexOfChunk(line)];
+	}
+
+
+	/**
+	 * Returns the number of chunks.  This is mainly useful for testing.
+	 *
+	 * @return The number of chunks.
+	 */
+	int getChunkCount() {
+		return chunks.length;
+	}
+
+
+	/**
+	 * Returns the number of lines.
+	 *
+	 * @return The number of lines.
+	 */
+	int getSize() {
+		return size;
+	}
+
+
+	/**
+	 * Returns the index of the chunk containing a line's state.
+	 *
+	 * @param line The line.
+	 * @return The index of the chunk.
+	 */
+	private int indexOfChunk(int line) {
+		int low = 0;
+		int high = chunks.length - 1;
+		while (low<high) {
+			int mid = (low + high + 1) >>> 1;
+			if (starts[mid]<=line) {
+				low = mid;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * Returns a copy of line states that shares the chunks of this copy
+	 * for all lines outside a range.  Lines before the range must have the
+	 * same states as in this copy, and lines after it the same states as
+	 * the lines the same distance from the end of this copy.
+	 *
+	 * @param states The line states.
+	 * @param dirtyStart The first line whose state may have changed.
+	 * @param dirtyEnd The line after the last one whose state may have
+	 *        changed.  This may be larger than the number of lines.
+	 * @return The copy.
+	 */
+	SnapshotStates update(DynamicIntArray states, int dirtyStart,
+			int dirtyEnd) {
+
+		int newSize = states.getSize();
+		int delta = newSize - size;
+		dirtyEnd = Math.min(dirtyEnd, newSize);
+
+		// Chunks entirely before or after the changed lines are shared
+		int first = 0;
+		while (first<chunks.length &&
+				starts[first]+chunks[first].length<=dirtyStart) {
+			first++;
+		}
+		int last = chunks.length;
+		while (last>first && starts[last-1]+delta>=dirtyEnd) {
+			last--;
+		}
+
+		// Don't leave a tiny chunk behind each edit
+		int copyStart = first<chunks.length ? starts[first] : size;
+		int copyEnd = last<chunks.length ? starts[last] + delta : newSize;
+		while (first>0 && copyEnd>copyStart &&
+				copyEnd-copyStart<CHUNK_SIZE/2) {
+			copyStart = starts[--first];
+		}
+
+		List<int[]> newChunks = new ArrayList<>();
+		for (int i=0; i<first; i++) {
+			newChunks.add(chunks[i]);
+		}
+		copy(states, copyStart, copyEnd, newChunks);
+		for (int i=last; i<chunks.length; i++) {
+			newChunks.add(chunks[i]);
+		}
+		return new SnapshotStates(newChunks, newSize);
+
+	}
+
+
+}
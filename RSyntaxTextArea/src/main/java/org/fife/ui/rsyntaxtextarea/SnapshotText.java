@@ -0,0 +1,345 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Arrays;
+import javax.swing.text.Segment;
+
+
+/**
+ * The immutable text of a {@link DocumentSnapshot}.  The text is a list of
+ * pieces of {@link Chunk}s, which are never modified, so snapshots taken at
+ * different times share all of the text that didn't change in between.
+ * Each chunk knows where its newlines are, so line starts don't have to be
+ * copied into each snapshot either.<p>
+ *
+ * Instances are created by a {@link SnapshotTextBuffer}, and may be used
+ * from any thread.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class SnapshotText {
+
+	/**
+	 * The pieces, as parallel arrays.  Piece <code>i</code> is
+	 * <code>lengths[i]</code> chars of <code>chunks[i]</code> starting at
+	 * <code>offsets[i]</code>, and starts at offset <code>starts[i]</code>
+	 * in the text.
+	 */
+	private final Chunk[] chunks;
+	private final int[] offsets;
+	private final int[] lengths;
+	private final int[] starts;
+	private final int count;
+
+	/**
+	 * The number of newlines before each piece, plus the total number of
+	 * newlines, and the index in each piece's chunk of its first newline.
+	 */
+	private final int[] newlinesBefore;
+	private final int[] firstNewlines;
+
+	private final int length;
+
+	/**
+	 * The piece most recently looked up.  This is only a hint, so it's okay
+	 * if concurrent readers race on it.
+	 */
+	private int lastPiece;
+
+
+	/**
+	 * Constructor.  The arrays are copied.
+	 *
+	 * @param chunks The chunk of each piece.
+	 * @param offsets The offset into its chunk of each piece.
+	 * @param lengths The length of each piece.
+	 * @param count The number of pieces.
+	 */
+	SnapshotText(Chunk[] chunks, int[] offsets, int[] lengths, int count) {
+
+		this.chunks = Arrays.copyOf(chunks, count);
+		this.offsets = Arrays.copyOf(offsets, count);
+		this.lengths = Arrays.copyOf(lengths, count);
+		this.count = count;
+		starts = new int[count];
+		newlinesBefore = new int[count + 1];
+		firstNewlines = new int[count];
+
+		int start = 0;
+		int newlines = 0;
+		for (int i=0; i<count; i++) {
+			starts[i] = start;
+			newlinesBefore[i] = newlines;
+			int[] chunkNewlines = chunks[i].newlines;
+			firstNewlines[i] = lowerBound(chunkNewlines, offsets[i]);
+			newlines += lowerBound(chunkNewlines, offsets[i] + lengths[i]) -
+					firstNewlines[i];
+			start += lengths[i];
+		}
+		newlinesBefore[count] = newlines;
+		length = start;
+
+	}
+
+
+	/**
+	 * Returns the character at an offset.
+	 *
+	 * @param offs The offset.  This must be valid.
+	 * @return The character.
+	 */
+	char charAt(int offs) {
+		int i = findPiece(offs);
+		return chunks[i].text[offsets[i] + offs - starts[i]];
+	}
+
+
+	/**
+	 * Returns the piece containing an offset.
+	 *
+	 * @param offs The offset.  This must be valid and less than the length
+	 *        of the text.
+	 * @return The index of the piece.
+	 */
+	private int findPiece(int offs) {
+
+		int i = lastPiece;
+		if (i<count && offs>=starts[i] && offs-starts[i]<lengths[i]) {
+			return i;
+		}
+
+		int low = 0;
+		int high = count - 1;
+		while (low<high) {
+			int mid = (low + high + 1) >>> 1;
+			if (starts[mid]<=offs) {
+				low = mid;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+
+		lastPiece = low;
+		return low;
+
+	}
+
+
+	/**
+	 * Returns the array holding the text at an offset.  This is mainly
+	 * useful for testing.
+	 *
+	 * @param offs The offset.  This must be valid.
+	 * @return The array.
+	 */
+	char[] getArray(int offs) {
+		return chunks[findPiece(offs)].text;
+	}
+
+
+	/**
+	 * Copies text into an array.
+	 *
+	 * @param offs The offset of the text.  The range must be valid.
+	 * @param len The length of the text.
+	 * @param dest The array to copy into.
+	 * @param destOffs The offset into <code>dest</code> to copy to.
+	 */
+	void getChars(int offs, int len, char[] dest, int destOffs) {
+		int i = len>0 ? findPiece(offs) : count;
+		while (len>0) {
+			int inPiece = offs - starts[i];
+			int n = Math.min(len, lengths[i] - inPiece);
+			System.arraycopy(chunks[i].text,offsets[i]+inPiece, dest,destOffs, n);
+			offs += n;
+			destOffs += n;
+			len -= n;
+			i++;
+		}
+	}
+
+
+	/**
+	 * Returns the length of the text.
+	 *
+	 * @return The length of the text.
+	 */
+	int getLength() {
+		return length;
+	}
+
+
+	/**
+	 * Returns the number of lines.  This is one more than the number of
+	 * newlines.
+	 *
+	 * @return The number of lines.
+	 */
+	int getLineCount() {
+		return newlinesBefore[count] + 1;
+	}
+
+
+	/**
+	 * Returns the line containing an offset.
+	 *
+	 * @param offs The offset.  This may be the length of the text.
+	 * @return The line.
+	 */
+	int getLineOfOffset(int offs) {
+		if (offs==length) {
+			return newlinesBefore[count];
+		}
+		int i = findPiece(offs);
+		int inChunk = offsets[i] + offs - starts[i];
+		return newlinesBefore[i] +
+				lowerBound(chunks[i].newlines, inChunk) - firstNewlines[i];
+	}
+
+
+	/**
+	 * Returns the start offset of a line.
+	 *
+	 * @param line The line.  This must be valid.
+	 * @return The start offset of the line.
+	 */
+	int getLineStartOffset(int line) {
+
+		if (line==0) {
+			return 0;
+		}
+
+		// Find the piece containing the newline ending the previous line
+		int newline = line - 1;
+		int low = 0;
+		int high = count - 1;
+		while (low<high) {
+			int mid = (low + high) >>> 1;
+			if (newlinesBefore[mid+1]>newline) {
+				high = mid;
+			}
+			else {
+				low = mid + 1;
+			}
+		}
+
+		int index = firstNewlines[low] + newline - newlinesBefore[low];
+		return starts[low] + chunks[low].newlines[index] - offsets[low] + 1;
+
+	}
+
+
+	/**
+	 * Makes a segment point to a range of the text.  The text is only
+	 * copied if it spans more than one piece.
+	 *
+	 * @param offs The offset of the text.  The range must be valid.
+	 * @param len The length of the text.
+	 * @param s The segment.
+	 */
+	void getSegment(int offs, int len, Segment s) {
+		if (len>0) {
+			int i = findPiece(offs);
+			int inPiece = offs - starts[i];
+			if (len<=lengths[i] - inPiece) {
+				s.array = chunks[i].text;
+				s.offset = offsets[i] + inPiece;
+				s.count = len;
+				return;
+			}
+		}
+		s.array = new char[len];
+		s.offset = 0;
+		s.count = len;
+		getChars(offs, len, s.array, 0);
+	}
+
+
+	/**
+	 * Returns a range of the text.
+	 *
+	 * @param offs The offset of the text.  The range must be valid.
+	 * @param len The length of the text.
+	 * @return The text.
+	 */
+	String getString(int offs, int len) {
+		char[] chars = new char[len];
+		getChars(offs, len, chars, 0);
+		return new String(chars);
+	}
+
+
+	/**
+	 * Returns the index of the first value in a sorted array that is not
+	 * less than a key.
+	 *
+	 * @param array The array.
+	 * @param key The key.
+	 * @return The index, which is the length of the array if all values
+	 *         are less than the key.
+	 */
+	private static int lowerBound(int[] array, int key) {
+		int low = 0;
+		int high = array.length;
+		while (low<high) {
+			int mid = (low + high) >>> 1;
+			if (array[mid]<key) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * An immutable array of text, and where its newlines are.
+	 */
+	static final class Chunk {
+
+		private final char[] text;
+		private final int[] newlines;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param text The text.  This is used directly, not copied, and
+		 *        must not be modified afterward.
+		 */
+		Chunk(char[] text) {
+			this.text = text;
+			int n = 0;
+			for (char ch : text) {
+				if (ch=='\n') {
+					n++;
+				}
+			}
+			newlines = new int[n];
+			n = 0;
+			for (int i=0; i<text.length; i++) {
+				if (text[i]=='\n') {
+					newlines[n++] = i;
+				}
+			}
+		}
+
+		/**
+		 * Returns the text.
+		 *
+		 * @return The text.  This must not be modified.
+		 */
+		char[] getText() {
+			return text;
+		}
+
+	}
+
+
+}
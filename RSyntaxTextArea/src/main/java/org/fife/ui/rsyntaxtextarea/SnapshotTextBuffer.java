@@ -0,0 +1,349 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Document;
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.SnapshotText.Chunk;
+
+
+/**
+ * A copy of a document's text that {@link SnapshotText}s can be created
+ * from cheaply.  The text is kept as pieces of immutable chunks, like a
+ * piece table.  Edits copy only the inserted text, and replace the pieces
+ * they touch, so creating a snapshot only has to copy the list of pieces.<p>
+ *
+ * The document must call {@link #inserted(Document, int, int)} and
+ * {@link #removed(int, int)} for every change to its text, while holding
+ * its write lock.  Snapshots may be created while holding its read lock.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class SnapshotTextBuffer {
+
+	/**
+	 * The pieces, as parallel arrays.
+	 */
+	private Chunk[] chunks;
+	private int[] offsets;
+	private int[] lengths;
+	private int[] starts;
+	private int count;
+
+	private int length;
+
+	/**
+	 * The size of the chunks the text is copied into when it's loaded or
+	 * compacted.
+	 */
+	static final int CHUNK_SIZE = 64 * 1024;
+
+	/**
+	 * Adjacent pieces are merged into a single new chunk when their total
+	 * length is at most this.  This keeps typing from creating a piece per
+	 * keystroke.
+	 */
+	static final int MERGE_SIZE = 1024;
+
+	/**
+	 * The pieces are compacted once there are more than this many of them,
+	 * and more than one per {@link #MERGE_SIZE}<code>/4</code> chars.
+	 */
+	private static final int MIN_COMPACT_COUNT = 256;
+
+
+	/**
+	 * Constructor.  The caller should hold the document's read lock.
+	 *
+	 * @param doc The document whose text to copy.
+	 * @throws BadLocationException If the document's text can't be read.
+	 */
+	SnapshotTextBuffer(Document doc) throws BadLocationException {
+		chunks = new Chunk[16];
+		offsets = new int[16];
+		lengths = new int[16];
+		starts = new int[16];
+		List<Chunk> newChunks = copy(doc, 0, doc.getLength(), CHUNK_SIZE);
+		replacePieces(0, 0, newChunks);
+	}
+
+
+	/**
+	 * Copies text from a document into new chunks.
+	 *
+	 * @param doc The document.
+	 * @param offs The offset of the text.
+	 * @param len The length of the text.
+	 * @param chunkSize The maximum size of each chunk.
+	 * @return The chunks.
+	 * @throws BadLocationException If the range is invalid.
+	 */
+	private static List<Chunk> copy(Document doc, int offs, int len,
+			int chunkSize) throws BadLocationException {
+		List<Chunk> newChunks = new ArrayList<>();
+		Segment s = new Segment();
+		s.setPartialReturn(true);
+		while (len>0) {
+			char[] text = new char[Math.min(len, chunkSize)];
+			int filled = 0;
+			while (filled<text.length) {
+				doc.getText(offs, text.length - filled, s);
+				System.arraycopy(s.array,s.offset, text,filled, s.count);
+				offs += s.count;
+				filled += s.count;
+			}
+			newChunks.add(new Chunk(text));
+			len -= text.length;
+		}
+		return newChunks;
+	}
+
+
+	/**
+	 * Returns a snapshot of the text.  This only copies the list of pieces.
+	 *
+	 * @return The snapshot.
+	 */
+	SnapshotText createSnapshot() {
+		return new SnapshotText(chunks, offsets, lengths, count);
+	}
+
+
+	/**
+	 * Returns the piece starting at an offset, splitting the piece
+	 * containing it if necessary.
+	 *
+	 * @param offs The offset.  This may be the length of the text.
+	 * @return The index of the piece starting at the offset, which is the
+	 *         piece count if it's the length of the text.
+	 */
+	private int split(int offs) {
+
+		if (offs==length) {
+			return count;
+		}
+
+		int low = 0;
+		int high = count - 1;
+		while (low<high) {
+			int mid = (low + high + 1) >>> 1;
+			if (starts[mid]<=offs) {
+				low = mid;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+
+		int inPiece = offs - starts[low];
+		if (inPiece==0) {
+			return low;
+		}
+		ensureCapacity(count + 1);
+		System.arraycopy(chunks, low+1, chunks, low+2, count-low-1);
+		System.arraycopy(offsets, low+1, offsets, low+2, count-low-1);
+		System.arraycopy(lengths, low+1, lengths, low+2, count-low-1);
+		System.arraycopy(starts, low+1, starts, low+2, count-low-1);
+		count++;
+		chunks[low+1] = chunks[low];
+		offsets[low+1] = offsets[low] + inPiece;
+		lengths[low+1] = lengths[low] - inPiece;
+		starts[low+1] = offs;
+		lengths[low] = inPiece;
+		return low + 1;
+
+	}
+
+
+	/**
+	 * Compacts the pieces into new chunks, if there are enough of them to
+	 * make creating snapshots slow.  This is amortized over the edits
+	 * that created the pieces.
+	 */
+	private void compactIfNecessary() {
+		if (count>MIN_COMPACT_COUNT && count>length/(MERGE_SIZE/4)) {
+			SnapshotText text = createSnapshot();
+			List<Chunk> newChunks = new ArrayList<>();
+			for (int offs=0; offs<length; offs+=CHUNK_SIZE) {
+				char[] chars = new char[Math.min(CHUNK_SIZE, length - offs)];
+				text.getChars(offs, chars.length, chars, 0);
+				newChunks.add(new Chunk(chars));
+			}
+			count = 0;
+			length = 0;
+			replacePieces(0, 0, newChunks);
+		}
+	}
+
+
+	/**
+	 * Ensures the piece arrays can hold a number of pieces.
+	 *
+	 * @param capacity The number of pieces.
+	 */
+	private void ensureCapacity(int capacity) {
+		if (capacity>chunks.length) {
+			int newCapacity = Math.max(capacity, chunks.length * 2);
+			chunks = Arrays.copyOf(chunks, newCapacity);
+			offsets = Arrays.copyOf(offsets, newCapacity);
+			lengths = Arrays.copyOf(lengths, newCapacity);
+			starts = Arrays.copyOf(starts, newCapacity);
+		}
+	}
+
+
+	/**
+	 * Returns the number of pieces.  This is mainly useful for testing.
+	 *
+	 * @return The number of pieces.
+	 */
+	int getPieceCount() {
+		return count;
+	}
+
+
+	/**
+	 * Called when text is inserted into the document.  Only the inserted
+	 * text is copied.
+	 *
+	 * @param doc The document, which already contains the text.
+	 * @param offs The offset of the inserted text.
+	 * @param len The length of the inserted text.
+	 * @throws BadLocationException If the text can't be read.
+	 */
+	void inserted(Document doc, int offs, int len)
+			throws BadLocationException {
+
+		if (len==0) {
+			return;
+		}
+
+		int i = split(offs);
+		if (len<=MERGE_SIZE) {
+
+			// Merge with small neighbors so typing doesn't create a
+			// piece per keystroke
+			int start = i;
+			int end = i;
+			int mergedLen = len;
+			if (start>0 && mergedLen+lengths[start-1]<=MERGE_SIZE) {
+				mergedLen += lengths[--start];
+			}
+			if (end<count && mergedLen+lengths[end]<=MERGE_SIZE) {
+				mergedLen += lengths[end++];
+			}
+			int before = i>start ? lengths[start] : 0;
+			int after = mergedLen - before - len;
+
+			char[] text = new char[mergedLen];
+			if (before>0) {
+				System.arraycopy(chunks[start].getText(), offsets[start],
+						text, 0, before);
+			}
+			Segment s = new Segment();
+			s.setPartialReturn(true);
+			for (int filled=0; filled<len; filled+=s.count) {
+				doc.getText(offs + filled, len - filled, s);
+				System.arraycopy(s.array,s.offset, text,before+filled, s.count);
+			}
+			if (after>0) {
+				System.arraycopy(chunks[end-1].getText(), offsets[end-1],
+						text, before + len, after);
+			}
+
+			replacePieces(start, end, Arrays.asList(new Chunk(text)));
+
+		}
+		else {
+			List<Chunk> newChunks = copy(doc, offs, len, CHUNK_SIZE);
+			replacePieces(i, i, newChunks);
+		}
+
+		compactIfNecessary();
+
+	}
+
+
+	/**
+	 * Called when text is removed from the document.
+	 *
+	 * @param offs The offset of the removed text.
+	 * @param len The length of the removed text.
+	 */
+	void removed(int offs, int len) {
+
+		if (len==0) {
+			return;
+		}
+
+		int start = split(offs);
+		int end = split(offs + len);
+		replacePieces(start, end, new ArrayList<>());
+
+		// Merge the pieces on either side if they're both small
+		if (start>0 && start<count &&
+				lengths[start-1]+lengths[start]<=MERGE_SIZE) {
+			char[] text = new char[lengths[start-1] + lengths[start]];
+			System.arraycopy(chunks[start-1].getText(), offsets[start-1],
+					text, 0, lengths[start-1]);
+			System.arraycopy(chunks[start].getText(), offsets[start],
+					text, lengths[start-1], lengths[start]);
+			replacePieces(start - 1, start + 1, Arrays.asList(new Chunk(text)));
+		}
+
+		compactIfNecessary();
+
+	}
+
+
+	/**
+	 * Replaces a range of pieces with pieces for entire chunks, and updates
+	 * the length of the text and the start of each piece.
+	 *
+	 * @param start The first piece to replace.
+	 * @param end The piece after the last one to replace.
+	 * @param newChunks The chunks for the new pieces.
+	 */
+	private void replacePieces(int start, int end, List<Chunk> newChunks) {
+
+		for (int i=start; i<end; i++) {
+			length -= lengths[i];
+		}
+
+		int n = newChunks.size();
+		int delta = n - (end - start);
+		ensureCapacity(count + delta);
+		System.arraycopy(chunks, end, chunks, end + delta, count - end);
+		System.arraycopy(offsets, end, offsets, end + delta, count - end);
+		System.arraycopy(lengths, end, lengths, end + delta, count - end);
+		count += delta;
+		for (int i=count; i<chunks.length && chunks[i]!=null; i++) {
+			chunks[i] = null; // Let removed chunks be garbage collected
+		}
+
+		for (int i=0; i<n; i++) {
+			Chunk chunk = newChunks.get(i);
+			chunks[start + i] = chunk;
+			offsets[start + i] = 0;
+			lengths[start + i] = chunk.getText().length;
+			length += lengths[start + i];
+		}
+
+		int offs = start>0 ? starts[start-1] + lengths[start-1] : 0;
+		for (int i=start; i<count; i++) {
+			starts[i] = offs;
+			offs += lengths[i];
+		}
+
+	}
+
+
+}
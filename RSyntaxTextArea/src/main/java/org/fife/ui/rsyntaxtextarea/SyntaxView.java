@@ -443,6 +443,54 @@ public class SyntaxView extends View implements TabExpander,
 	}
 
 
+	/**
+	 * Returns the token list for a line being painted.  For a line lexed in
+	 * chunks, the line's current token list is used to estimate the range of
+	 * it intersecting the clip, and only the chunks around that range are
+	 * tokenized.
+	 *
+	 * @param doc The document.
+	 * @param line The line.
+	 * @param startOffset The start offset of the line.
+	 * @param endOffset The end offset of the line.
+	 * @param x The x-coordinate at which the line is painted.
+	 * @return The token list.
+	 * @see LongLinePolicy
+	 */
+	private Token getTokenListForPaintedLine(RSyntaxDocument doc, int line,
+			int startOffset, int endOffset, float x) {
+
+		if (!doc.getLongLinePolicy().isLexedInChunks(endOffset - startOffset)) {
+			return doc.getTokenListForLine(line);
+		}
+
+		// Measuring whole tokens keeps this fast, since the parts of the
+		// line that aren't tokenized are a few long tokens
+		int p0 = startOffset;
+		int p1 = endOffset;
+		float nextX = x;
+		Token t = doc.getTokenListForLine(line);
+		for (; t!=null && t.isPaintable(); t=t.getNextToken()) {
+			float currX = nextX;
+			nextX = t.getWidth(host, this, currX) + currX;
+			if (nextX<=clipStart) {
+				p0 = t.getEndOffset();
+			}
+			else if (currX>=clipEnd) {
+				p1 = t.getOffset();
+				break;
+			}
+		}
+
+		// Widths change slightly when the tokens around the clip are
+		// styled, so tokenize a little beyond it
+		int padding = LongLineLexer.CHUNK_SIZE;
+		return doc.getTokenListForLine(line, Math.max(startOffset, p0 - padding),
+				Math.min(endOffset, p1 + padding));
+
+	}
+
+
 	/**
 	 * Returns a token list for the <i>physical</i> line above the physical
 	 * line containing the specified offset into the document.  Note that for
@@ -767,7 +815,8 @@ public class SyntaxView extends View implements TabExpander,
 								a, host, this);
 
 			// Paint a line of text.
-			token = document.getTokenListForLine(line);
+			token = getTokenListForPaintedLine(document, line, startOffset,
+					endOffset, x);
 			if (selStart==selEnd || startOffset>=selEnd ||
 					endOffset<selStart) {
 				drawLine(painter, token, g2d, x,y, line);
@@ -4,7 +4,6 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
@@ -16,8 +15,10 @@ import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
 import javax.swing.text.Document;
 
-import org.fife.io.UnicodeReader;
+import org.fife.io.DocumentSaver;
+import org.fife.io.TextLoader;
 import org.fife.io.UnicodeWriter;
+import org.fife.ui.rtextarea.MappedFileContent;
 import org.fife.ui.rtextarea.RTextAreaEditorKit;
 import org.fife.ui.rtextarea.TextMode;
 
@@ -42,7 +43,10 @@ import org.fife.ui.rtextarea.TextMode;
  * for UTF-8 files.<p>
  *
  * Both local and remote files (e.g. ftp) are supported.  See the
- * {@link FileLocation} class for more information.
+ * {@link FileLocation} class for more information.<p>
+ *
+ * Local files too large to load into memory can be opened in a read-only
+ * view instead; see {@link #loadReadOnlyView(FileLocation, String)}.
  *
  * @author Robert Futrell
  * @version 1.0
@@ -84,6 +88,16 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	 */
 	public static final String ENCODING_PROPERTY = "TextEditorPane.encoding";
 
+	/**
+	 * Property change event fired when the file being edited is modified
+	 * outside the editor.  This is only fired for editors being watched by a
+	 * {@link FileModificationWatcher}.
+	 *
+	 * @see #isModifiedOutsideEditor()
+	 */
+	public static final String MODIFIED_OUTSIDE_EDITOR_PROPERTY =
+			"TextEditorPane.modifiedOutsideEditor";
+
 	/**
 	 * The location of the file being edited. This is never <code>null</code>,
 	 * even if the file does not (yet) exist (i.e. represents a new, unsaved file).
@@ -100,11 +114,32 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	 */
 	private boolean readOnly;
 
+	/**
+	 * Whether local files are saved by atomically replacing them.
+	 */
+	private boolean atomicSave;
+
 	/**
 	 * Whether the file is dirty.
 	 */
 	private boolean dirty;
 
+	/**
+	 * Whether the file is being viewed in a memory-mapped, read-only view.
+	 */
+	private boolean readOnlyView;
+
+	/**
+	 * The content of the read-only view, if any.  This is closed when the
+	 * view is replaced, so the file is unmapped.
+	 */
+	private transient MappedFileContent mappedContent;
+
+	/**
+	 * The file being loaded in the background, if any.
+	 */
+	private transient AsyncFileLoader asyncLoader;
+
 	/**
 	 * The last time this file was modified on disk, for local files.
 	 * For remote files, this value should always be
@@ -201,6 +236,64 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	}
 
 
+	/**
+	 * Called on the EDT when a background load completes, fails or is
+	 * cancelled.
+	 *
+	 * @param loader The loader.
+	 * @param completed Whether the entire file was loaded.
+	 */
+	void asyncLoadDone(AsyncFileLoader loader, boolean completed) {
+
+		if (loader!=asyncLoader) { // Already cancelled by another load
+			return;
+		}
+		asyncLoader = null;
+		setEditable(loader.isEditable());
+
+		if (getDocument()==loader.getDocument()) {
+			if (completed) {
+				charSet = loader.getEncoding();
+				getDocument().putProperty(
+						RTextAreaEditorKit.EndOfLineStringProperty,
+						loader.getLineSeparator());
+			}
+			// Only part of the file was loaded, so it can't be saved as-is
+			setDirty(!completed);
+			discardAllEdits();
+		}
+
+	}
+
+
+	/**
+	 * Closes the content of the read-only view, if any.
+	 *
+	 * @param doc The document showing the content.  This must no longer be
+	 *        this editor's document.
+	 */
+	private void closeMappedContent(Document doc) {
+		if (mappedContent!=null) {
+			((RSyntaxDocument)doc).stopProgressiveLexing();
+			mappedContent.close();
+			mappedContent = null;
+		}
+	}
+
+
+	/**
+	 * If a file is being loaded in the background, cancels it.
+	 */
+	private void cancelAsyncLoad() {
+		if (asyncLoader!=null) {
+			AsyncFileLoader loader = asyncLoader;
+			asyncLoader = null;
+			loader.cancel(true);
+			setEditable(loader.isEditable());
+		}
+	}
+
+
 	/**
 	 * Callback for when styles in the current document change.
 	 * This method is never called.
@@ -212,13 +305,30 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	}
 
 
+	/**
+	 * If a file is being shown in a read-only view, replaces it with an
+	 * empty, editable document in the same language.
+	 */
+	private void exitReadOnlyView() {
+		if (readOnlyView) {
+			readOnlyView = false;
+			Document old = getDocument();
+			String style = getSyntaxEditingStyle();
+			setDocument(createDefaultModel());
+			setSyntaxEditingStyle(style);
+			closeMappedContent(old);
+			setEditable(true);
+			setReadOnly(false);
+		}
+	}
+
 
 	/**
 	 * Returns the default encoding for this operating system.
 	 *
 	 * @return The default encoding.
 	 */
-	private static String getDefaultEncoding() {
+	static String getDefaultEncoding() {
 		// NOTE:  The "file.encoding" system property is not guaranteed to be
 		// set by the spec, so we cannot rely on it.
 		return Charset.defaultCharset().name();
@@ -357,6 +467,18 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	}
 
 
+	/**
+	 * Returns whether local files are saved by atomically replacing them,
+	 * rather than overwriting them in place.
+	 *
+	 * @return Whether local files are saved atomically.
+	 * @see #setAtomicSave(boolean)
+	 */
+	public boolean isAtomicSave() {
+		return atomicSave;
+	}
+
+
 	/**
 	 * Returns whether the text in this editor has unsaved changes.
 	 *
@@ -395,11 +517,14 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	 *
 	 * This method may be used by applications to implement a reloading
 	 * feature, where the user is prompted to reload a file if it has been
-	 * modified since their last open or save.
+	 * modified since their last open or save.  To be notified of such
+	 * changes rather than polling this method, see
+	 * {@link FileModificationWatcher}.
 	 *
 	 * @return Whether the text file has been modified outside this
 	 *         editor.
 	 * @see #getLastSaveOrLoadTime()
+	 * @see #MODIFIED_OUTSIDE_EDITOR_PROPERTY
 	 */
 	public boolean isModifiedOutsideEditor() {
 		return loc.getActualLastModified()>getLastSaveOrLoadTime();
@@ -417,12 +542,24 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	}
 
 
+	/**
+	 * Returns whether a file is being shown in a read-only view.
+	 *
+	 * @return Whether a read-only view is being shown.
+	 * @see #loadReadOnlyView(FileLocation, String)
+	 */
+	public boolean isReadOnlyView() {
+		return readOnlyView;
+	}
+
+
 	/**
 	 * Loads the specified file in this editor.  This method fires a property
 	 * change event of type {@link #FULL_PATH_PROPERTY}.<p>
 	 * The file will be checked for a BOM; if one is found, the proper Unicode
-	 * flavor is used to load the file.  If not, the system default encoding
-	 * is assumed.
+	 * flavor is used to load the file.  If not, UTF-8 is used if the start
+	 * of the file is valid, non-ASCII UTF-8, and the system default encoding
+	 * otherwise.
 	 *
 	 * @param loc The location of the file to load.  This cannot be
 	 *        <code>null</code>.
@@ -445,8 +582,9 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	 *        <code>null</code>.
 	 * @param defaultEnc The encoding to use when loading/saving the file.
 	 *        This encoding will only be used if the file is not Unicode.
-	 *        If this value is <code>null</code>, the system default encoding
-	 *        is used.
+	 *        If this value is <code>null</code>, UTF-8 is used if the start
+	 *        of the file is valid, non-ASCII UTF-8, and the system default
+	 *        encoding otherwise.
 	 * @throws IOException If an IO error occurs.
 	 * @see #load(FileLocation)
 	 * @see #load(FileLocation, String)
@@ -466,8 +604,9 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	 *        <code>null</code>.
 	 * @param defaultEnc The encoding to use when loading/saving the file.
 	 *        This encoding will only be used if the file is not Unicode.
-	 *        If this value is <code>null</code>, the system default encoding
-	 *        is used.
+	 *        If this value is <code>null</code>, UTF-8 is used if the start
+	 *        of the file is valid, non-ASCII UTF-8, and the system default
+	 *        encoding otherwise.
 	 * @throws IOException If an IO error occurs.
 	 * @see #load(FileLocation)
 	 * @see #load(FileLocation, Charset)
@@ -476,7 +615,9 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	 */
 	public void load(FileLocation loc, String defaultEnc) throws IOException {
 
+		cancelAsyncLoad();
 		lastSaveOrLoadTime = loc.getActualLastModified();
+		exitReadOnlyView();
 
 		// For new local files, just go with it.
 		if (loc.isLocal() && !loc.isLocalAndExists()) {
@@ -488,22 +629,177 @@ public class TextEditorPane extends RSyntaxTextArea implements
 			return;
 		}
 
-		// Old local files and remote files, load 'em up.  UnicodeReader will
-		// check for BOMs and handle them correctly in all cases, then pass
-		// rest of stream down to InputStreamReader.
-		UnicodeReader ur = new UnicodeReader(loc.getInputStream(), defaultEnc);
+		// Old local files and remote files, load 'em up.  TextLoader will
+		// check for BOMs and handle them correctly in all cases, and lex the
+		// text as it's read.
+		TextLoader loader = loadDocument(loc, defaultEnc);
 
-		// Remove listener so dirty flag doesn't get set when loading a file.
-		Document doc = getDocument();
-		doc.removeDocumentListener(this);
-		try (BufferedReader r = new BufferedReader(ur)) {
-			read(r, null);
+		// No IOException thrown, so we can finally change the location.
+		charSet = loader.getEncoding();
+		String old = getFileFullPath();
+		this.loc = loc;
+		setDirty(false);
+		setCaretPosition(0);
+		discardAllEdits();
+		firePropertyChange(FULL_PATH_PROPERTY, old, getFileFullPath());
+
+	}
+
+
+	/**
+	 * Loads the specified file in this editor in the background.  This
+	 * method returns immediately; the file is read and decoded on a worker
+	 * thread, and its text is appended to the editor as it arrives, so the
+	 * user can scroll through and search it while it loads.  This is
+	 * especially useful for large files and files on slow network
+	 * connections.  This method must be called on the EDT.<p>
+	 *
+	 * The editor is given a new, empty document, and the file location is
+	 * updated immediately, firing a property change event of type
+	 * {@link #FULL_PATH_PROPERTY}.  The editor is not editable while the
+	 * file is loading.  Once the file has loaded, its encoding and line
+	 * separator are set, the editor is not dirty, and there is nothing to
+	 * undo, just as with {@link #load(FileLocation, String)}.  If loading
+	 * fails or is cancelled, the text loaded so far stays in the editor,
+	 * and the editor is marked dirty since the text does not match the
+	 * file.<p>
+	 *
+	 * Calling any of the <code>load()</code> methods or
+	 * {@link #reload()} cancels a background load in progress.
+	 *
+	 * @param loc The location of the file to load.  This cannot be
+	 *        <code>null</code>.
+	 * @param defaultEnc The encoding to use when loading/saving the file.
+	 *        This encoding will only be used if the file is not Unicode.
+	 *        If this value is <code>null</code>, UTF-8 is used if the start
+	 *        of the file is valid, non-ASCII UTF-8, and the system default
+	 *        encoding otherwise.
+	 * @return The loader, which can be used to wait for loading to complete,
+	 *         cancel it, or track its progress.
+	 * @see #load(FileLocation, String)
+	 */
+	public AsyncFileLoader loadAsync(FileLocation loc, String defaultEnc) {
+
+		cancelAsyncLoad();
+		lastSaveOrLoadTime = loc.getActualLastModified();
+		exitReadOnlyView();
+
+		// Keep the current language, so text is highlighted as it arrives
+		String style = getSyntaxEditingStyle();
+		setDocument(createDefaultModel());
+		setSyntaxEditingStyle(style);
+		asyncLoader = new AsyncFileLoader(this, loc, defaultEnc);
+		setEditable(false);
+
+		String old = getFileFullPath();
+		this.loc = loc;
+		setDirty(false);
+		discardAllEdits();
+		firePropertyChange(FULL_PATH_PROPERTY, old, getFileFullPath());
+
+		asyncLoader.execute();
+		return asyncLoader;
+
+	}
+
+
+	/**
+	 * Replaces the text of this editor's document with the contents of a
+	 * file.  As in {@link #read(java.io.Reader, Object)}, the document is
+	 * detached from this editor while it's loaded, so the views, folding,
+	 * parsers and other listeners installed by this editor only see the
+	 * new text once it's all there rather than the edits loading it.  This
+	 * also keeps the dirty flag from being set.
+	 *
+	 * @param loc The location of the file.
+	 * @param defaultEnc The encoding to use if the file does not start with
+	 *        a BOM, or <code>null</code> to guess.
+	 * @return The loader used, which knows the file's encoding.
+	 * @throws IOException If an IO error occurs.  If this happens, the
+	 *         document is not modified.
+	 */
+	private TextLoader loadDocument(FileLocation loc, String defaultEnc)
+			throws IOException {
+
+		RSyntaxDocument doc = (RSyntaxDocument)getDocument();
+
+		// Use a placeholder in the same language, so listeners aren't told
+		// the language changed twice
+		RSyntaxDocument placeholder = (RSyntaxDocument)createDefaultModel();
+		placeholder.setSyntaxStyle(doc.getSyntaxStyle());
+		setDocument(placeholder);
+
+		try {
+			return doc.load(loc.getInputStream(), defaultEnc);
 		} finally {
-			doc.addDocumentListener(this);
+			setDocument(doc);
 		}
 
-		// No IOException thrown, so we can finally change the location.
-		charSet = ur.getEncoding();
+	}
+
+
+	/**
+	 * Shows a local file in a read-only view, without loading it into
+	 * memory.  This allows viewing files of any size up to about 2 billion
+	 * chars, such as huge log files.  This method fires a property change
+	 * event of type {@link #FULL_PATH_PROPERTY}.<p>
+	 *
+	 * The file is memory-mapped, and only the parts of it being displayed,
+	 * searched or lexed are decoded at any time (see
+	 * {@link MappedFileContent}).  Lines are tracked by a compact index and
+	 * syntax highlighting is computed progressively, so memory use only
+	 * grows by a few bytes per line.  Line numbers, folding and searching
+	 * work as usual.<p>
+	 *
+	 * The editor is made non-editable and read-only.  Loading a file with
+	 * one of the <code>load()</code> methods makes it editable again.  The
+	 * file should not be modified by other processes while it is viewed;
+	 * if it is, call {@link #reload()}.
+	 *
+	 * @param loc The location of the file.  This must be a local file that
+	 *        exists.
+	 * @param defaultEnc The encoding of the file, if it doesn't start with a
+	 *        BOM.  If this is <code>null</code>, UTF-8 is used if the start
+	 *        of the file is valid, non-ASCII UTF-8, and the system default
+	 *        encoding otherwise.
+	 * @throws IOException If the file is not a local file that exists, or
+	 *         an IO error occurs.
+	 * @see #isReadOnlyView()
+	 * @see #load(FileLocation, String)
+	 */
+	public void loadReadOnlyView(FileLocation loc, String defaultEnc)
+			throws IOException {
+
+		if (!loc.isLocalAndExists()) {
+			throw new IOException("Not an existing local file: " +
+					loc.getFileFullPath());
+		}
+
+		cancelAsyncLoad();
+		MappedFileContent content = new MappedFileContent(
+				new File(loc.getFileFullPath()), defaultEnc);
+
+		// Lex lazily, so opening a huge file doesn't lex all of it first
+		RSyntaxDocument doc = new RSyntaxDocument(null,
+				SYNTAX_STYLE_NONE, content, true);
+		doc.setProgressiveLexingEnabled(true);
+		doc.setSyntaxStyle(getSyntaxEditingStyle());
+		String separator = content.getLineSeparator();
+		if (separator!=null) {
+			doc.putProperty(RTextAreaEditorKit.EndOfLineStringProperty,
+					separator);
+		}
+
+		lastSaveOrLoadTime = loc.getActualLastModified();
+		Document oldDoc = getDocument();
+		setDocument(doc);
+		closeMappedContent(oldDoc);
+		mappedContent = content;
+		readOnlyView = true;
+		setEditable(false);
+		setReadOnly(true);
+
+		charSet = content.getEncoding();
 		String old = getFileFullPath();
 		this.loc = loc;
 		setDirty(false);
@@ -539,13 +835,15 @@ public class TextEditorPane extends RSyntaxTextArea implements
 			return;
 		}
 
+		cancelAsyncLoad();
 		String oldEncoding = getEncoding();
-		UnicodeReader ur = new UnicodeReader(loc.getInputStream(), oldEncoding);
-		String encoding = ur.getEncoding();
-		try (BufferedReader r = new BufferedReader(ur)) {
-			read(r, null); // Dumps old contents.
+		if (readOnlyView) {
+			loadReadOnlyView(loc, oldEncoding);
+			return;
 		}
-		setEncoding(encoding);
+		TextLoader loader = loadDocument(loc, oldEncoding); // Dumps old contents.
+		setEncoding(loader.getEncoding());
+		setCaretPosition(0);
 		setDirty(false);
 		syncLastSaveOrLoadTimeToActualFile();
 		discardAllEdits(); // Prevent user from being able to undo the reload
@@ -609,11 +907,40 @@ public class TextEditorPane extends RSyntaxTextArea implements
 	 * @throws IOException If an IO error occurs.
 	 */
 	private void saveImpl(FileLocation loc) throws IOException {
+
+		// Local files are written straight from the document.  A mapped file
+		// can't be replaced on all platforms, so it's overwritten in place
+		if (loc instanceof FileFileLocation) {
+			File file = new File(loc.getFileFullPath());
+			boolean atomic = atomicSave && !MappedFileContent.isMapped(file);
+			DocumentSaver.save(getDocument(), file, getEncoding(), atomic);
+			return;
+		}
+
 		OutputStream out = loc.getOutputStream();
 		try (BufferedWriter w = new BufferedWriter(
 			new UnicodeWriter(out, getEncoding()))) {
 			write(w);
 		}
+
+	}
+
+
+	/**
+	 * Sets whether local files are saved by atomically replacing them.  If
+	 * this is <code>true</code>, the text is written to a temporary file
+	 * that replaces the file once it's written, so the file is untouched if
+	 * the save fails, but the file's owner, ACLs and other attributes
+	 * besides its permissions are not kept.  Files that have more than one
+	 * hard link, or are memory-mapped (e.g. by a read-only view), are still
+	 * overwritten in place.  The default value is <code>false</code>.
+	 *
+	 * @param atomicSave Whether to save local files atomically.
+	 * @see #isAtomicSave()
+	 * @see DocumentSaver#save(Document, File, String, boolean)
+	 */
+	public void setAtomicSave(boolean atomicSave) {
+		this.atomicSave = atomicSave;
 	}
 
 
@@ -50,6 +50,14 @@ interface TokenFactory {
 	TokenImpl createToken(char[] line, int beg, int end, int startOffset, int type);
 
 
+	/**
+	 * Releases the text of all tokens created by this factory, so the
+	 * arrays they reference can be garbage collected.  The tokens can
+	 * still be reused afterward.
+	 */
+	void releaseAllTokens();
+
+
 	/**
 	 * Resets the state of this token maker.  This method should be called
 	 * by the <code>TokenMaker</code> every time a token list is generated for
@@ -0,0 +1,486 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+import javax.swing.text.Segment;
+
+
+/**
+ * A bounded cache of token lists for the lines of an
+ * {@link RSyntaxDocument}.  Painting, the gutter, bracket matching and mark
+ * occurrences all ask for the token lists of the same visible lines over and
+ * over, so keeping them around saves a lot of redundant lexing.<p>
+ *
+ * Token lists handed out by a {@link TokenMaker} are reused the next time it
+ * is called, and refer to the document's internal character array, so this
+ * class keeps its own copies of both the tokens and the text they refer to,
+ * as {@link PackedTokenList}s.  On a cache hit, the packed list is expanded
+ * into tokens from a private {@link TokenFactory}, so just like the lists
+ * returned by a <code>TokenMaker</code>, a list returned by this class is
+ * only valid until the next call to {@link #get(int, int, int)}.  Entries
+ * are evicted in least-recently-used order once the estimated memory used
+ * by all cached lines exceeds the configured limit.<p>
+ *
+ * The document is responsible for telling this cache when lines are added,
+ * removed or re-lexed.  Entries are keyed like the elements of a gap
+ * buffer: lines before a "gap" line are keyed by their index, and lines
+ * after it by their index plus the size of the gap.  When lines are added or
+ * removed, the gap is moved to the edit and resized, so only the entries of
+ * the lines between the old and new gap positions are re-keyed, which is
+ * usually none of them.  Lines whose start offset merely moved because of an
+ * edit above them are fixed up lazily, the next time they are requested.<p>
+ *
+ * This class is not thread-safe; like the rest of the document's syntax
+ * highlighting state, it should only be accessed on the EDT or while holding
+ * the document's lock.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class TokenListCache {
+
+	/**
+	 * Estimated overhead of a single cache entry, in bytes.  This accounts
+	 * for its map node, its boxed key, and the entry itself.
+	 */
+	static final int ENTRY_OVERHEAD = 96;
+
+	/**
+	 * The size the gap is reset to when lines are added.  This is much
+	 * larger than the number of lines a document can have, so the keys of
+	 * lines before and after the gap never overlap.
+	 */
+	private static final long INITIAL_GAP_SIZE = 1L << 40;
+
+	/**
+	 * The cached entries, by key.
+	 */
+	private NavigableMap<Long, Entry> entries;
+
+	/**
+	 * The head of the list of entries in least-recently-accessed order.
+	 * This entry itself is never cached.
+	 */
+	private Entry lru;
+
+	/**
+	 * The first line keyed after the gap, and the size of the gap.
+	 */
+	private int gapLine;
+	private long gapSize;
+
+	/**
+	 * Creates the tokens returned on a cache hit.
+	 */
+	private TokenFactory tokenFactory;
+
+	/**
+	 * The maximum number of bytes all entries may use.
+	 */
+	private int maxBytes;
+
+	/**
+	 * The estimated number of bytes currently used by all entries.
+	 */
+	private long byteCount;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxBytes The maximum number of bytes all cached token lists
+	 *        may use.  If this is <code>0</code>, nothing is cached.
+	 */
+	TokenListCache(int maxBytes) {
+		entries = new TreeMap<>();
+		lru = new Entry(0, null);
+		lru.prev = lru.next = lru;
+		gapSize = INITIAL_GAP_SIZE;
+		tokenFactory = new DefaultTokenFactory();
+		setMaxBytes(maxBytes);
+	}
+
+
+	/**
+	 * Removes all cached token lists.
+	 */
+	void clear() {
+		entries.clear();
+		lru.prev = lru.next = lru;
+		byteCount = 0;
+	}
+
+
+	/**
+	 * Evicts least-recently-used entries until we are within our memory
+	 * budget.
+	 */
+	private void evict() {
+		while (byteCount>maxBytes && lru.next!=lru) {
+			Entry entry = lru.next;
+			entries.remove(entry.key);
+			entry.unlink();
+			byteCount -= getEntryByteCount(entry.tokens);
+		}
+	}
+
+
+	/**
+	 * Returns the cached token list for a line, if any.
+	 *
+	 * @param line The line.
+	 * @param startOffset The current offset of the line's start in the
+	 *        document.
+	 * @param length The current length of the line, not including its
+	 *        terminating newline.
+	 * @return The cached token list, or <code>null</code> if there is no
+	 *         valid entry for the line.
+	 */
+	Token get(int line, int startOffset, int length) {
+		PackedTokenList tokens = getPacked(line, startOffset, length);
+		if (tokens==null) {
+			return null;
+		}
+		tokenFactory.resetAllTokens();
+		return tokens.toTokenList(tokenFactory);
+	}
+
+
+	/**
+	 * Returns the estimated number of bytes used by this cache.
+	 *
+	 * @return The estimated number of bytes used.
+	 * @see #getMaxBytes()
+	 */
+	long getByteCount() {
+		return byteCount;
+	}
+
+
+	/**
+	 * Returns the estimated number of bytes used by a cache entry.
+	 *
+	 * @param tokens The entry's token list.
+	 * @return The estimated number of bytes used.
+	 */
+	private static int getEntryByteCount(PackedTokenList tokens) {
+		return ENTRY_OVERHEAD + tokens.getByteCount();
+	}
+
+
+	/**
+	 * Returns the key of a line's entry.
+	 *
+	 * @param line The line.
+	 * @return The key.
+	 */
+	private long getKey(int line) {
+		return line<gapLine ? line : line + gapSize;
+	}
+
+
+	/**
+	 * Returns the maximum number of bytes this cache will use.
+	 *
+	 * @return The maximum number of bytes.
+	 * @see #setMaxBytes(int)
+	 */
+	int getMaxBytes() {
+		return maxBytes;
+	}
+
+
+	/**
+	 * Returns the cached packed token list for a line, if any.
+	 *
+	 * @param line The line.
+	 * @param startOffset The current offset of the line's start in the
+	 *        document.
+	 * @param length The current length of the line, not including its
+	 *        terminating newline.
+	 * @return The cached token list, or <code>null</code> if there is no
+	 *         valid entry for the line.
+	 */
+	PackedTokenList getPacked(int line, int startOffset, int length) {
+
+		Entry entry = entries.get(getKey(line));
+		if (entry==null) {
+			return null;
+		}
+
+		// Should never happen, but be defensive
+		PackedTokenList tokens = entry.tokens;
+		if (tokens.getLineLength()!=length) {
+			remove(line);
+			return null;
+		}
+
+		entry.unlink();
+		entry.linkBefore(lru);
+
+		// Text was inserted or removed on a line above this one
+		tokens.setStartOffset(startOffset);
+		return tokens;
+
+	}
+
+
+	/**
+	 * Returns the number of lines currently cached.
+	 *
+	 * @return The number of lines cached.
+	 */
+	int getSize() {
+		return entries.size();
+	}
+
+
+	/**
+	 * Removes the entries for a range of lines.  This should be called when
+	 * those lines have been re-lexed with a different starting state.
+	 *
+	 * @param fromLine The first line to remove, inclusive.
+	 * @param toLine The last line to remove, inclusive.
+	 */
+	void invalidate(int fromLine, int toLine) {
+		if (entries.isEmpty() || toLine<fromLine) {
+			return;
+		}
+		if (fromLine<gapLine) {
+			removeKeys(fromLine, Math.min(toLine, gapLine - 1));
+		}
+		if (toLine>=gapLine) {
+			removeKeys(Math.max(fromLine, gapLine) + gapSize, toLine + gapSize);
+		}
+	}
+
+
+	/**
+	 * Moves the gap, re-keying the entries of the lines between its old and
+	 * new positions.
+	 *
+	 * @param line The new first line after the gap.
+	 */
+	private void moveGap(int line) {
+		if (line<gapLine) {
+			rekey(entries.subMap((long)line, true, (long)gapLine, false), gapSize);
+		}
+		else if (line>gapLine) {
+			rekey(entries.subMap(gapLine + gapSize, true, line + gapSize, false),
+					-gapSize);
+		}
+		gapLine = line;
+	}
+
+
+	/**
+	 * Caches a packed token list for a line.
+	 *
+	 * @param line The line.
+	 * @param packed The token list.
+	 * @return Whether the line was cached.  This may be <code>false</code>
+	 *         if the line is too large.
+	 */
+	boolean put(int line, PackedTokenList packed) {
+
+		int bytes = getEntryByteCount(packed);
+		if (bytes>maxBytes) {
+			remove(line);
+			return false;
+		}
+
+		long key = getKey(line);
+		Entry entry = entries.get(key);
+		if (entry!=null) {
+			byteCount -= getEntryByteCount(entry.tokens);
+			entry.tokens = packed;
+			entry.unlink();
+		}
+		else {
+			entry = new Entry(key, packed);
+			entries.put(key, entry);
+		}
+		entry.linkBefore(lru);
+		byteCount += bytes;
+		evict();
+		return true;
+
+	}
+
+
+	/**
+	 * Caches a copy of a token list for a line.
+	 *
+	 * @param line The line.
+	 * @param text The text of the line that was lexed.
+	 * @param startOffset The offset of the line's start in the document.
+	 * @param tokens The token list to copy.
+	 * @return Whether the line was cached.  This may be <code>false</code>
+	 *         if the line is too large, or its tokens cannot be packed.
+	 */
+	boolean put(int line, Segment text, int startOffset, Token tokens) {
+
+		// Don't bother creating a copy that will be evicted immediately
+		if (ENTRY_OVERHEAD + 2*text.count>maxBytes) {
+			remove(line);
+			return false;
+		}
+
+		PackedTokenList packed = PackedTokenList.create(text, startOffset, tokens);
+		if (packed==null) {
+			remove(line);
+			return false;
+		}
+		return put(line, packed);
+
+	}
+
+
+	/**
+	 * Adds an amount to the keys of entries.
+	 *
+	 * @param range The entries to re-key.  These are removed from this map.
+	 * @param amount The amount to add to their keys.
+	 */
+	private void rekey(NavigableMap<Long, Entry> range, long amount) {
+		if (!range.isEmpty()) {
+			List<Entry> moved = new ArrayList<>(range.values());
+			range.clear();
+			for (Entry entry : moved) {
+				entry.key += amount;
+				entries.put(entry.key, entry);
+			}
+		}
+	}
+
+
+	/**
+	 * Removes the entry for a single line, if any.
+	 *
+	 * @param line The line.
+	 */
+	private void remove(int line) {
+		Entry entry = entries.remove(getKey(line));
+		if (entry!=null) {
+			entry.unlink();
+			byteCount -= getEntryByteCount(entry.tokens);
+		}
+	}
+
+
+	/**
+	 * Removes the entries with keys in a range.
+	 *
+	 * @param fromKey The first key to remove, inclusive.
+	 * @param toKey The last key to remove, inclusive.
+	 */
+	private void removeKeys(long fromKey, long toKey) {
+		NavigableMap<Long, Entry> range = entries.subMap(fromKey, true, toKey, true);
+		for (Entry entry : range.values()) {
+			entry.unlink();
+			byteCount -= getEntryByteCount(entry.tokens);
+		}
+		range.clear();
+	}
+
+
+	/**
+	 * Updates this cache for lines being replaced in the document.  Entries
+	 * for the replaced lines are dropped, and entries for lines after them
+	 * are shifted to their new line indices by moving and resizing the gap.
+	 *
+	 * @param line The index of the first line replaced.
+	 * @param removedCount The number of lines removed, starting at
+	 *        <code>line</code>.
+	 * @param addedCount The number of lines added in their place.
+	 */
+	void replaceLines(int line, int removedCount, int addedCount) {
+
+		if (entries.isEmpty()) {
+			return;
+		}
+
+		int end = line + removedCount;
+		invalidate(line, end - 1);
+		int delta = addedCount - removedCount;
+		if (delta==0) {
+			return;
+		}
+
+		// Lines from "end" on keep their keys, which now refer to lines
+		// "delta" further down
+		moveGap(end);
+		if (gapSize<delta) {
+			rekey(entries.tailMap(gapLine + gapSize, true), INITIAL_GAP_SIZE);
+			gapSize += INITIAL_GAP_SIZE;
+		}
+		gapSize -= delta;
+		gapLine = line + addedCount;
+
+	}
+
+
+	/**
+	 * Sets the maximum number of bytes this cache will use.  If this is
+	 * less than the memory currently used, entries are evicted.
+	 *
+	 * @param maxBytes The maximum number of bytes.  If this is
+	 *        <code>0</code>, nothing is cached.
+	 * @throws IllegalArgumentException If <code>maxBytes</code> is negative.
+	 * @see #getMaxBytes()
+	 */
+	void setMaxBytes(int maxBytes) {
+		if (maxBytes<0) {
+			throw new IllegalArgumentException("maxBytes must be >= 0");
+		}
+		this.maxBytes = maxBytes;
+		evict();
+	}
+
+
+	/**
+	 * A cached token list, and its place in the least-recently-used list.
+	 */
+	private static final class Entry {
+
+		private long key;
+		private PackedTokenList tokens;
+		private Entry prev;
+		private Entry next;
+
+		Entry(long key, PackedTokenList tokens) {
+			this.key = key;
+			this.tokens = tokens;
+		}
+
+		/**
+		 * Adds this entry to a list, before another entry.
+		 *
+		 * @param entry The entry to add this one before.
+		 */
+		void linkBefore(Entry entry) {
+			prev = entry.prev;
+			next = entry;
+			prev.next = this;
+			entry.prev = this;
+		}
+
+		/**
+		 * Removes this entry from its list.
+		 */
+		void unlink() {
+			prev.next = next;
+			next.prev = prev;
+		}
+
+	}
+
+
+}
@@ -176,6 +176,22 @@ public abstract class TokenMakerBase implements TokenMaker {
 	}
 
 
+	/**
+	 * Releases all references to the text last lexed, so it can be garbage
+	 * collected while this token maker isn't being used, for example while
+	 * it's pooled by a {@link TokenMakerFactory}.  The default implementation
+	 * deletes the linked list of tokens and clears the tokens' text.
+	 * Subclasses that hold onto the text in other ways should override this
+	 * method, and call the super implementation.
+	 *
+	 * @see TokenMakerFactory#releaseTokenMaker(String, TokenMaker)
+	 */
+	protected void releaseText() {
+		firstToken = currentToken = previousToken = null;
+		tokenFactory.releaseAllTokens();
+	}
+
+
 	/**
 	 * Deletes the linked list of tokens so we can begin anew.  This should
 	 * never have to be called by the programmer, as it is automatically
@@ -93,6 +93,21 @@ public abstract class TokenMakerFactory {
 	public abstract Set<String> keySet();
 
 
+	/**
+	 * Called when a token maker returned by {@link #getTokenMaker(String)}
+	 * is no longer used by its caller, so this factory may reuse it.  The
+	 * caller must not use the token maker afterward.  The default
+	 * implementation does nothing.
+	 *
+	 * @param key The key the token maker was created for.
+	 * @param tokenMaker The token maker.
+	 * @see AbstractTokenMakerFactory#setTokenMakerPoolingEnabled(boolean)
+	 */
+	public void releaseTokenMaker(String key, TokenMaker tokenMaker) {
+		// Do nothing
+	}
+
+
 	/**
 	 * Sets the default <code>TokenMakerFactory</code> instance.  This is
 	 * the factory used by all future {@link RSyntaxDocument}s by default.
@@ -4,6 +4,11 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import javax.swing.text.Segment;
 
 
@@ -18,7 +23,13 @@ import javax.swing.text.Segment;
  * containing all reserved words, data types, and all other words that need to
  * be syntax-highlighted for that particular language.  When the token maker
  * parses a line and identifies an individual token, it is looked up in the
- * <code>TokenMap</code> to see if it should be syntax-highlighted.
+ * <code>TokenMap</code> to see if it should be syntax-highlighted.<p>
+ *
+ * Once all words have been added, a token map can be {@link #freeze() frozen}
+ * into a perfect hash table, so that each lookup is a single probe and a
+ * single comparison, rather than a walk through a chain of words with the same
+ * hash code.  {@link AbstractTokenMaker} does this for the token map returned
+ * by its {@code getWordsToHighlight()} method.
  *
  * @author Robert Futrell
  * @version 0.6
@@ -29,8 +40,37 @@ public class TokenMap {
 	private TokenMapToken[] tokenMap;
 	private boolean ignoreCase;
 
+	/**
+	 * When frozen, the seed used to hash the words in each bucket into
+	 * {@link #frozenText}.  This is {@code null} if this map isn't frozen.
+	 */
+	private int[] frozenSeeds;
+
+	/**
+	 * When frozen, the word hashed to each slot, or {@code null} if no word
+	 * hashes to it.
+	 */
+	private char[][] frozenText;
+
+	/**
+	 * When frozen, the token type of the word in each slot.
+	 */
+	private int[] frozenTypes;
+
 	private static final int DEFAULT_TOKEN_MAP_SIZE = 52;
 
+	/**
+	 * The number of seeds to try for a bucket before giving up on a table
+	 * size when freezing.
+	 */
+	private static final int MAX_SEED_ATTEMPTS = 1 << 16;
+
+	/**
+	 * The number of times to double the table size before giving up on
+	 * freezing a token map.
+	 */
+	private static final int MAX_FREEZE_ATTEMPTS = 4;
+
 
 	/**
 	 * Constructs a new token map that is case-sensitive.
@@ -88,6 +128,124 @@ public class TokenMap {
 	}
 
 
+	/**
+	 * Freezes this token map into a perfect hash table, making lookups
+	 * faster.  This should be called after all words have been added.  If
+	 * more words are added later, this token map reverts to being unfrozen
+	 * (but still works properly) until this method is called again.<p>
+	 *
+	 * Words are hashed into buckets, and each bucket is assigned a seed that
+	 * hashes all of its words into otherwise unused slots of the table
+	 * ("hash and displace").  In the very unlikely event that no such seeds
+	 * can be found, this token map is left unfrozen.
+	 *
+	 * @see #isFrozen()
+	 */
+	public void freeze() {
+
+		// Collect the words, skipping any that were replaced by a later
+		// put() (earlier in their chain)
+		List<TokenMapToken> tokens = new ArrayList<>();
+		Set<String> words = new HashSet<>();
+		for (TokenMapToken bucket : tokenMap) {
+			TokenMapToken token = bucket;
+			while (token!=null) {
+				if (words.add(new String(token.text, token.offset, token.length))) {
+					tokens.add(token);
+				}
+				token = token.nextToken;
+			}
+		}
+
+		int count = tokens.size();
+		int[] hashes = new int[count];
+		for (int i = 0; i < count; i++) {
+			TokenMapToken token = tokens.get(i);
+			hashes[i] = getFrozenHashCode(token.text, token.offset, token.length);
+		}
+
+		// No seed can separate two words with the same hash code
+		int[] sortedHashes = hashes.clone();
+		Arrays.sort(sortedHashes);
+		for (int i = 1; i < count; i++) {
+			if (sortedHashes[i]==sortedHashes[i-1]) {
+				return;
+			}
+		}
+
+		int slotCount = Integer.highestOneBit(Math.max(1, count)) << 2;
+		for (int i = 0; i < MAX_FREEZE_ATTEMPTS; i++, slotCount <<= 1) {
+			if (freeze(tokens, hashes, slotCount)) {
+				return;
+			}
+		}
+
+	}
+
+
+	/**
+	 * Tries to freeze this token map into a perfect hash table of a specific
+	 * size.
+	 *
+	 * @param tokens The words in this token map.
+	 * @param hashes The hash code of each word.
+	 * @param slotCount The size of the table.  This must be a power of two.
+	 * @return Whether this token map was successfully frozen.
+	 */
+	private boolean freeze(List<TokenMapToken> tokens, int[] hashes, int slotCount) {
+
+		int bucketCount = Math.max(1, slotCount >> 3);
+		int[] bucketSizes = new int[bucketCount];
+		for (int hash : hashes) {
+			bucketSizes[hash & (bucketCount-1)]++;
+		}
+		int[][] buckets = new int[bucketCount][];
+		for (int i = 0; i < bucketCount; i++) {
+			buckets[i] = new int[bucketSizes[i]];
+			bucketSizes[i] = 0;
+		}
+		for (int i = 0; i < hashes.length; i++) {
+			int bucket = hashes[i] & (bucketCount-1);
+			buckets[bucket][bucketSizes[bucket]++] = i;
+		}
+
+		// Place the largest buckets first, while the table is emptiest
+		Arrays.sort(buckets, (b1, b2) -> b2.length - b1.length);
+
+		int[] seeds = new int[bucketCount];
+		char[][] text = new char[slotCount][];
+		int[] types = new int[slotCount];
+		int[] slots = new int[buckets[0].length];
+
+		for (int[] bucket : buckets) {
+
+			if (bucket.length==0) {
+				break;
+			}
+
+			int seed = 0;
+			while (!place(bucket, hashes, seed, text, slots)) {
+				if (++seed==MAX_SEED_ATTEMPTS) {
+					return false;
+				}
+			}
+			for (int i = 0; i < bucket.length; i++) {
+				TokenMapToken token = tokens.get(bucket[i]);
+				text[slots[i]] = token.text;
+				types[slots[i]] = token.tokenType;
+			}
+			seeds[hashes[bucket[0]] & (bucketCount-1)] = seed;
+
+		}
+
+		frozenSeeds = seeds;
+		frozenText = text;
+		frozenTypes = types;
+		return true;
+
+	}
+
+
 	/**
 	 * Returns the token type associated with the given text, if the given
 	 * text is in this token map.  If it isn't, <code>-1</code> is returned.
@@ -116,6 +274,9 @@ public class TokenMap {
 	public int get(char[] array1, int start, int end) {
 
 		int length1 = end - start + 1;
+		if (frozenSeeds!=null) {
+			return getFrozen(array1, start, length1);
+		}
 
 		int hash = getHashCode(array1, start, length1);
 		TokenMapToken token = tokenMap[hash];
@@ -185,6 +346,77 @@ public class TokenMap {
 	}
 
 
+	/**
+	 * Returns the token type associated with the given text, if the given
+	 * text is in this frozen token map.
+	 *
+	 * @param array1 An array of characters containing the text.
+	 * @param start The starting index in the array of the text.
+	 * @param length1 The length of the text.
+	 * @return The token type associated with the given text, or
+	 *         <code>-1</code> if this token was not specified in this map.
+	 */
+	private int getFrozen(char[] array1, int start, int length1) {
+
+		int hash = getFrozenHashCode(array1, start, length1);
+		int seed = frozenSeeds[hash & (frozenSeeds.length-1)];
+		int slot = getSlot(hash, seed, frozenText.length);
+
+		char[] array2 = frozenText[slot];
+		if (array2==null || array2.length!=length1) {
+			return -1;
+		}
+
+		if (!ignoreCase) {
+			for (int i = 0; i < length1; i++) {
+				if (array1[start + i]!=array2[i]) {
+					return -1;
+				}
+			}
+		}
+		else {
+			for (int i = 0; i < length1; i++) {
+				char ch = array1[start + i];
+				if (ch!=array2[i] && RSyntaxUtilities.toLowerCase(ch)!=array2[i]) {
+					return -1;
+				}
+			}
+		}
+
+		return frozenTypes[slot];
+
+	}
+
+
+	/**
+	 * Returns the hash code for a given string, as used by a frozen token
+	 * map.  Unlike {@link #getHashCode(char[], int, int)}, all characters
+	 * are hashed, so few words share a hash code.
+	 *
+	 * @param text The text to hash.
+	 * @param offset The offset into the text at which to start hashing.
+	 * @param length The length of the text to hash.
+	 * @return The hash code.
+	 */
+	private int getFrozenHashCode(char[] text, int offset, int length) {
+		int hash = length;
+		int end = offset + length;
+		if (ignoreCase) {
+			// Setting this bit lower-cases letters without a branch.  Other
+			// chars may then share a hash code, which only costs a compare
+			for (int i = offset; i < end; i++) {
+				hash = 31*hash + (text[i] | 0x20);
+			}
+		}
+		else {
+			for (int i = offset; i < end; i++) {
+				hash = 31*hash + text[i];
+			}
+		}
+		return mix(hash);
+	}
+
+
 	/**
 	 * Returns the hash code for a given string.
 	 *
@@ -199,6 +431,31 @@ public class TokenMap {
 	}
 
 
+	/**
+	 * Returns the slot in a frozen table for a word.
+	 *
+	 * @param hash The word's hash code.
+	 * @param seed The seed for the word's bucket.
+	 * @param slotCount The size of the table.  This must be a power of two.
+	 * @return The slot.
+	 */
+	private static int getSlot(int hash, int seed, int slotCount) {
+		return mix(hash + seed * 0x9e3779b9) & (slotCount-1);
+	}
+
+
+	/**
+	 * Returns whether this token map has been frozen into a perfect hash
+	 * table.
+	 *
+	 * @return Whether this token map is frozen.
+	 * @see #freeze()
+	 */
+	public boolean isFrozen() {
+		return frozenSeeds!=null;
+	}
+
+
 	/**
 	 * Returns whether this token map ignores case when checking for tokens.
 	 * This property is set in the constructor and cannot be changed, as this
@@ -212,10 +469,57 @@ public class TokenMap {
 
 
 	/**
-	 * Adds a string to this token map.
+	 * Scrambles the bits of a hash code, so that both its low and high
+	 * bits depend on all of its input.
+	 *
+	 * @param hash The hash code.
+	 * @return The scrambled hash code.
+	 */
+	private static int mix(int hash) {
+		hash ^= hash >>> 16;
+		hash *= 0x85ebca6b;
+		hash ^= hash >>> 13;
+		hash *= 0xc2b2ae35;
+		return hash ^ (hash >>> 16);
+	}
+
+
+	/**
+	 * Computes the slots a bucket's words hash to with a given seed, and
+	 * returns whether they are all free and distinct.
+	 *
+	 * @param bucket The indices of the words in the bucket.
+	 * @param hashes The hash code of each word.
+	 * @param seed The seed to try.
+	 * @param text The slots filled so far.
+	 * @param slots On return, the slot of each word in the bucket.
+	 * @return Whether the bucket's words can be placed with this seed.
+	 */
+	private static boolean place(int[] bucket, int[] hashes, int seed,
+			char[][] text, int[] slots) {
+		for (int i = 0; i < bucket.length; i++) {
+			int slot = getSlot(hashes[bucket[i]], seed, text.length);
+			if (text[slot]!=null) {
+				return false;
+			}
+			for (int j = 0; j < i; j++) {
+				if (slots[j]==slot) {
+					return false;
+				}
+			}
+			slots[i] = slot;
+		}
+		return true;
+	}
+
+
+	/**
+	 * Adds a string to this token map.  If this token map is frozen, it
+	 * is unfrozen.
 	 *
 	 * @param string The string to add.
 	 * @param tokenType The type of token the string is.
+	 * @see #freeze()
 	 */
 	public void put(final String string, final int tokenType) {
 		if (isIgnoringCase()) {
@@ -240,6 +544,9 @@ public class TokenMap {
 	private void put(char[] string, int tokenType) {
 		int hashCode = getHashCode(string, 0, string.length);
 		addTokenToBucket(hashCode, new TokenMapToken(string, tokenType));
+		frozenSeeds = null;
+		frozenText = null;
+		frozenTypes = null;
 	}
 
 
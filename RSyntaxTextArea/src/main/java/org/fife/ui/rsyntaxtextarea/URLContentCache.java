@@ -0,0 +1,504 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+
+/**
+ * A size-bounded disk cache of files downloaded over HTTP.  When a cached
+ * file is opened again, it is revalidated with a conditional GET, using the
+ * <code>ETag</code> and <code>Last-Modified</code> headers of the cached
+ * copy.  If the file has not changed, this costs a single
+ * <code>304 Not Modified</code> round trip, and the cached copy is read
+ * instead of downloading the file again.<p>
+ *
+ * Downloaded files are streamed to the caller as bytes arrive, and copied
+ * into the cache as they are read.  A file is only added to the cache once
+ * it has been read completely.  When the cache grows larger than its
+ * maximum size, the least recently used files are evicted.  The cache is
+ * kept on disk, so it is reused by later instances using the same
+ * directory.<p>
+ *
+ * {@link FileLocation}s for URLs use the default cache, if one has been set
+ * via {@link #setDefault(URLContentCache)}.  By default, there is no cache,
+ * and remote files are downloaded every time they are loaded.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public final class URLContentCache {
+
+	private static final String DATA_SUFFIX = ".data";
+	private static final String META_SUFFIX = ".meta";
+	private static final String TEMP_PREFIX = "download";
+
+	private static URLContentCache defaultCache;
+
+	private final File dir;
+	private final long maxSize;
+
+	/**
+	 * The cached files, keyed by URL, least recently used first.
+	 */
+	private final Map<String, Entry> entries;
+
+	/**
+	 * The total size of the cached files, in bytes.
+	 */
+	private long size;
+
+
+	/**
+	 * Constructor.  Files cached in the directory by previous instances are
+	 * reused.
+	 *
+	 * @param dir The directory to store cached files in.  This is created
+	 *        if it doesn't exist.
+	 * @param maxSize The maximum total size of the cached files, in bytes.
+	 * @throws IOException If the directory can't be created or read.
+	 */
+	public URLContentCache(File dir, long maxSize) throws IOException {
+
+		this.dir = dir;
+		this.maxSize = maxSize;
+		entries = new LinkedHashMap<>(16, 0.75f, true);
+		Files.createDirectories(dir.toPath());
+
+		// The data files' modification times record when they were last used
+		List<Entry> existing = new ArrayList<>();
+		Set<File> entryFiles = new HashSet<>();
+		File[] files = dir.listFiles();
+		if (files==null) {
+			throw new IOException("Can't read cache directory: " + dir);
+		}
+		for (File file : files) {
+			if (file.getName().endsWith(META_SUFFIX)) {
+				Entry entry = Entry.read(dir, file);
+				if (entry!=null) {
+					existing.add(entry);
+					entryFiles.add(entry.getMetaFile());
+					entryFiles.add(entry.getDataFile());
+				}
+			}
+		}
+
+		// Delete interrupted downloads, and files left without a matching
+		// meta or data file by a crash while adding or removing an entry
+		for (File file : files) {
+			String name = file.getName();
+			if (name.startsWith(TEMP_PREFIX) || ((name.endsWith(DATA_SUFFIX) ||
+					name.endsWith(META_SUFFIX)) && !entryFiles.contains(file))) {
+				file.delete();
+			}
+		}
+		existing.sort(Comparator.comparingLong(e -> e.getDataFile().lastModified()));
+		for (Entry entry : existing) {
+			entries.put(entry.url, entry);
+			size += entry.getDataFile().length();
+		}
+		evict();
+
+	}
+
+
+	/**
+	 * Adds a completely downloaded file to the cache.
+	 *
+	 * @param entry The entry for the file.
+	 * @param temp The downloaded file.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private synchronized void add(Entry entry, File temp) throws IOException {
+		remove(entry.url);
+		// Written first so a crash can't leave a data file with no meta file
+		entry.write();
+		Files.move(temp.toPath(), entry.getDataFile().toPath(),
+				StandardCopyOption.REPLACE_EXISTING);
+		entries.put(entry.url, entry);
+		size += entry.getDataFile().length();
+		evict();
+	}
+
+
+	/**
+	 * Returns whether a URL's content is cached.
+	 *
+	 * @param url The URL.
+	 * @return Whether its content is cached.
+	 */
+	public synchronized boolean contains(URL url) {
+		return entries.containsKey(url.toExternalForm());
+	}
+
+
+	/**
+	 * Removes the least recently used files until the cache is no larger
+	 * than its maximum size.
+	 */
+	private void evict() {
+		Iterator<Entry> i = entries.values().iterator();
+		while (size>maxSize && i.hasNext()) {
+			Entry entry = i.next();
+			size -= entry.getDataFile().length();
+			entry.delete();
+			i.remove();
+		}
+	}
+
+
+	/**
+	 * Returns the cache used by remote {@link FileLocation}s.
+	 *
+	 * @return The cache, or <code>null</code> if none is used.
+	 * @see #setDefault(URLContentCache)
+	 */
+	public static synchronized URLContentCache getDefault() {
+		return defaultCache;
+	}
+
+
+	/**
+	 * Returns the maximum total size of the cached files.
+	 *
+	 * @return The maximum size, in bytes.
+	 * @see #getSize()
+	 */
+	public long getMaxSize() {
+		return maxSize;
+	}
+
+
+	/**
+	 * Returns the total size of the cached files.
+	 *
+	 * @return The size, in bytes.
+	 * @see #getMaxSize()
+	 */
+	public synchronized long getSize() {
+		return size;
+	}
+
+
+	/**
+	 * Returns whether a response may be cached.
+	 *
+	 * @param conn The connection.
+	 * @return Whether its response can be cached and revalidated.
+	 */
+	private static boolean isCacheable(HttpURLConnection conn) {
+		String cacheControl = conn.getHeaderField("Cache-Control");
+		if (cacheControl!=null &&
+				cacheControl.toLowerCase(Locale.ROOT).contains("no-store")) {
+			return false;
+		}
+		return conn.getHeaderField("ETag")!=null ||
+				conn.getHeaderField("Last-Modified")!=null;
+	}
+
+
+	/**
+	 * Opens a stream for reading a URL's content.  For HTTP URLs, the
+	 * content is read from the cache if it is cached and hasn't changed,
+	 * and added to the cache otherwise.  Other URLs are simply opened.
+	 *
+	 * @param url The URL.
+	 * @return A stream for reading the URL's content.
+	 * @throws IOException If an IO error occurs.
+	 */
+	public InputStream openStream(URL url) throws IOException {
+
+		URLConnection conn = url.openConnection();
+		if (!(conn instanceof HttpURLConnection)) {
+			return conn.getInputStream();
+		}
+		HttpURLConnection http = (HttpURLConnection)conn;
+
+		String key = url.toExternalForm();
+		Entry entry;
+		synchronized (this) {
+			entry = entries.get(key);
+		}
+		if (entry!=null) {
+			if (entry.etag!=null) {
+				http.setRequestProperty("If-None-Match", entry.etag);
+			}
+			if (entry.lastModified!=null) {
+				http.setRequestProperty("If-Modified-Since", entry.lastModified);
+			}
+		}
+
+		if (http.getResponseCode()==HttpURLConnection.HTTP_NOT_MODIFIED &&
+				entry!=null) {
+			synchronized (this) {
+				if (entries.get(key)==entry) { // Not evicted meanwhile
+					File data = entry.getDataFile();
+					data.setLastModified(System.currentTimeMillis());
+					return new FileInputStream(data);
+				}
+			}
+			http.disconnect();
+			return url.openStream();
+		}
+
+		InputStream in = http.getInputStream();
+		if (!isCacheable(http)) {
+			return in;
+		}
+		Entry newEntry = new Entry(dir, key, http.getHeaderField("ETag"),
+				http.getHeaderField("Last-Modified"));
+		return new CachingInputStream(in, newEntry);
+
+	}
+
+
+	/**
+	 * Removes a URL's content from the cache, if it is cached.
+	 *
+	 * @param url The URL.
+	 */
+	public synchronized void remove(URL url) {
+		remove(url.toExternalForm());
+	}
+
+
+	/**
+	 * Removes a URL's content from the cache, if it is cached.
+	 *
+	 * @param url The URL.
+	 */
+	private void remove(String url) {
+		Entry entry = entries.remove(url);
+		if (entry!=null) {
+			size -= entry.getDataFile().length();
+			entry.delete();
+		}
+	}
+
+
+	/**
+	 * Sets the cache used by remote {@link FileLocation}s.
+	 *
+	 * @param cache The cache, or <code>null</code> for none.
+	 * @see #getDefault()
+	 */
+	public static synchronized void setDefault(URLContentCache cache) {
+		defaultCache = cache;
+	}
+
+
+	/**
+	 * Copies bytes into a temporary file as they are read, and adds the file
+	 * to the cache if the stream was read completely.
+	 */
+	private final class CachingInputStream extends FilterInputStream {
+
+		private final Entry entry;
+		private File temp;
+		private OutputStream out;
+		private boolean eof;
+
+		CachingInputStream(InputStream in, Entry entry) {
+			super(in);
+			this.entry = entry;
+			try {
+				temp = File.createTempFile(TEMP_PREFIX, ".tmp", dir);
+				out = new FileOutputStream(temp);
+			} catch (IOException ioe) {
+				stopCaching();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			super.close();
+			if (out!=null) {
+				try {
+					out.close();
+					if (eof) {
+						add(entry, temp);
+					}
+				} catch (IOException ioe) {
+					// The file just isn't cached
+				}
+				stopCaching();
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			int b = super.read();
+			if (b==-1) {
+				eof = true;
+			}
+			else if (out!=null) {
+				try {
+					out.write(b);
+				} catch (IOException ioe) {
+					stopCaching();
+				}
+			}
+			return b;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int count = super.read(b, off, len);
+			if (count==-1) {
+				eof = true;
+			}
+			else if (out!=null) {
+				try {
+					out.write(b, off, count);
+				} catch (IOException ioe) {
+					stopCaching();
+				}
+			}
+			return count;
+		}
+
+		@Override
+		public boolean markSupported() {
+			return false;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			// Skipped bytes must still be cached
+			byte[] buf = new byte[(int)Math.min(Math.max(n, 0), 8192)];
+			return Math.max(read(buf, 0, buf.length), 0);
+		}
+
+		private void stopCaching() {
+			if (out!=null) {
+				try {
+					out.close();
+				} catch (IOException ioe) {
+					// Ignore
+				}
+				out = null;
+			}
+			if (temp!=null) {
+				temp.delete();
+				temp = null;
+			}
+		}
+
+	}
+
+
+	/**
+	 * A cached file.  Each is stored as a data file and a properties file
+	 * holding its URL and validators, named after a hash of the URL.
+	 */
+	private static final class Entry {
+
+		private final File dir;
+		private final String url;
+		private final String etag;
+		private final String lastModified;
+		private final String baseName;
+
+		Entry(File dir, String url, String etag, String lastModified) {
+			this.dir = dir;
+			this.url = url;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			baseName = hash(url);
+		}
+
+		void delete() {
+			getMetaFile().delete();
+			getDataFile().delete();
+		}
+
+		File getDataFile() {
+			return new File(dir, baseName + DATA_SUFFIX);
+		}
+
+		File getMetaFile() {
+			return new File(dir, baseName + META_SUFFIX);
+		}
+
+		private static String hash(String url) {
+			try {
+				MessageDigest digest = MessageDigest.getInstance("SHA-256");
+				StringBuilder sb = new StringBuilder();
+				for (byte b : digest.digest(url.getBytes(StandardCharsets.UTF_8))) {
+					sb.append(String.format("%02x", b));
+				}
+				return sb.toString();
+			} catch (NoSuchAlgorithmException nsae) { // Never happens
+				throw new IllegalStateException(nsae);
+			}
+		}
+
+		/**
+		 * Reads an entry from its properties file.
+		 *
+		 * @return The entry, or <code>null</code> if it's incomplete.
+		 */
+		static Entry read(File dir, File metaFile) {
+			Properties props = new Properties();
+			try (InputStream in = new FileInputStream(metaFile)) {
+				props.load(in);
+			} catch (IOException ioe) {
+				return null;
+			}
+			String url = props.getProperty("url");
+			if (url==null) {
+				return null;
+			}
+			Entry entry = new Entry(dir, url, props.getProperty("etag"),
+					props.getProperty("lastModified"));
+			if (!entry.getMetaFile().equals(metaFile) ||
+					!entry.getDataFile().isFile()) {
+				return null;
+			}
+			return entry;
+		}
+
+		void write() throws IOException {
+			Properties props = new Properties();
+			props.setProperty("url", url);
+			if (etag!=null) {
+				props.setProperty("etag", etag);
+			}
+			if (lastModified!=null) {
+				props.setProperty("lastModified", lastModified);
+			}
+			try (OutputStream out = new FileOutputStream(getMetaFile())) {
+				props.store(out, null);
+			}
+		}
+
+	}
+
+
+}
@@ -103,14 +103,27 @@ class URLFileLocation extends FileLocation {
 	}
 
 
+	/**
+	 * Opens a stream for reading the file.  If a default
+	 * {@link URLContentCache} has been set, it is used, so unchanged files
+	 * are not downloaded again.
+	 *
+	 * @return The input stream.
+	 * @throws IOException If an IO error occurs.
+	 */
 	@Override
 	protected InputStream getInputStream() throws IOException {
-		return url.openStream();
+		URLContentCache cache = URLContentCache.getDefault();
+		return cache!=null ? cache.openStream(url) : url.openStream();
 	}
 
 
 	@Override
 	protected OutputStream getOutputStream() throws IOException {
+		URLContentCache cache = URLContentCache.getDefault();
+		if (cache!=null) {
+			cache.remove(url);
+		}
 		return url.openConnection().getOutputStream();
 	}
 
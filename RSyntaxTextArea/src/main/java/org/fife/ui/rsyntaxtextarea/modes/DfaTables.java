@@ -0,0 +1,208 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.modes;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.zip.InflaterInputStream;
+
+
+/**
+ * The DFA tables of a JFlex-generated token maker, loaded from a compact
+ * binary resource.<p>
+ *
+ * JFlex stores its tables as run-length encoded string constants that are
+ * unpacked when the scanner class is loaded.  For the largest scanners this
+ * makes for huge class files and noticeable class initialization time, and
+ * the transition table is kept in an <code>int</code> array even though
+ * its values are small.  Scanners using this class instead load their tables
+ * from a deflated <code>.dfa</code> resource next to the class, from a holder
+ * class that isn't initialized until the first line is scanned, and keep
+ * their transition table in a <code>short</code> array.<p>
+ *
+ * The resources are written, and the generated tables replaced with the
+ * holder class, by the build's <code>convertJFlexTables</code> task, which
+ * converts these scanners whenever they're regenerated.  That code lives in
+ * the build's <code>jflex</code> source set rather than in the library.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class DfaTables {
+
+	/**
+	 * The first four bytes of a <code>.dfa</code> resource, "DFA1".
+	 */
+	private static final int MAGIC = 0x44464131;
+
+	/**
+	 * The size of JFlex's character translation table.
+	 */
+	private static final int CMAP_SIZE = 0x10000;
+
+	private final char[] cmap;
+	private final int[] action;
+	private final int[] rowMap;
+	private final short[] trans;
+	private final int[] attribute;
+
+
+	private DfaTables(char[] cmap, int[] action, int[] rowMap, short[] trans,
+			int[] attribute) {
+		this.cmap = cmap;
+		this.action = action;
+		this.rowMap = rowMap;
+		this.trans = trans;
+		this.attribute = attribute;
+	}
+
+
+	/**
+	 * Returns the table translating DFA states to action switch labels
+	 * (JFlex's <code>ZZ_ACTION</code>).
+	 *
+	 * @return The table.
+	 */
+	int[] getAction() {
+		return action;
+	}
+
+
+	/**
+	 * Returns the attributes of each DFA state (JFlex's
+	 * <code>ZZ_ATTRIBUTE</code>).
+	 *
+	 * @return The table.
+	 */
+	int[] getAttribute() {
+		return attribute;
+	}
+
+
+	/**
+	 * Returns the table translating characters to character classes (JFlex's
+	 * <code>ZZ_CMAP</code>).
+	 *
+	 * @return The table.
+	 */
+	char[] getCMap() {
+		return cmap;
+	}
+
+
+	/**
+	 * Returns the table translating states to row indices in the
+	 * transition table (JFlex's <code>ZZ_ROWMAP</code>).
+	 *
+	 * @return The table.
+	 */
+	int[] getRowMap() {
+		return rowMap;
+	}
+
+
+	/**
+	 * Returns the transition table of the DFA (JFlex's
+	 * <code>ZZ_TRANS</code>).
+	 *
+	 * @return The table.
+	 */
+	short[] getTrans() {
+		return trans;
+	}
+
+
+	/**
+	 * Loads the DFA tables of a token maker from its <code>.dfa</code>
+	 * resource.
+	 *
+	 * @param tokenMaker The token maker's class.
+	 * @return The tables.
+	 * @throws InternalError If the resource can't be read.
+	 */
+	static DfaTables load(Class<?> tokenMaker) {
+		String resource = tokenMaker.getSimpleName() + ".dfa";
+		try (InputStream in = tokenMaker.getResourceAsStream(resource)) {
+			if (in==null) {
+				throw new IOException("Resource not found");
+			}
+			return read(in);
+		} catch (IOException ioe) {
+			throw new InternalError("Cannot load DFA tables: " + resource, ioe);
+		}
+	}
+
+
+	/**
+	 * Reads DFA tables.
+	 *
+	 * @param in The stream to read from.  This is not closed.
+	 * @return The tables.
+	 * @throws IOException If an IO error occurs, or the stream isn't a
+	 *         valid <code>.dfa</code> resource.
+	 */
+	static DfaTables read(InputStream in) throws IOException {
+
+		// The tables are stored as plain arrays so they can be copied out
+		// in bulk, since this code typically only ever runs interpreted
+		ByteBuffer buf = ByteBuffer.wrap(new InflaterInputStream(in).readAllBytes());
+		try {
+
+			if (buf.getInt()!=MAGIC) {
+				throw new IOException("Not a DFA table resource");
+			}
+
+			char[] cmap = new char[readLength(buf, Character.BYTES)];
+			if (cmap.length!=CMAP_SIZE) {
+				throw new IOException("Invalid character map size: " + cmap.length);
+			}
+			buf.asCharBuffer().get(cmap);
+			buf.position(buf.position() + cmap.length * Character.BYTES);
+
+			int[] action = readTable(buf);
+			int[] rowMap = readTable(buf);
+			short[] trans = new short[readLength(buf, Short.BYTES)];
+			buf.asShortBuffer().get(trans);
+			buf.position(buf.position() + trans.length * Short.BYTES);
+			int[] attribute = readTable(buf);
+			return new DfaTables(cmap, action, rowMap, trans, attribute);
+
+		} catch (BufferUnderflowException bue) {
+			throw new IOException("Truncated DFA table resource", bue);
+		}
+
+	}
+
+
+	/**
+	 * Reads the length of a table and verifies that the buffer holds that
+	 * many elements.
+	 *
+	 * @param in The buffer to read from.
+	 * @param elementSize The size of an element of the table, in bytes.
+	 * @return The length of the table.
+	 * @throws IOException If the length is invalid.
+	 */
+	private static int readLength(ByteBuffer in, int elementSize)
+			throws IOException {
+		int length = in.getInt();
+		if (length<0 || length>in.remaining()/elementSize) {
+			throw new IOException("Invalid table length: " + length);
+		}
+		return length;
+	}
+
+
+	private static int[] readTable(ByteBuffer in) throws IOException {
+		int[] table = new int[readLength(in, Integer.BYTES)];
+		in.asIntBuffer().get(table);
+		in.position(in.position() + table.length * Integer.BYTES);
+		return table;
+	}
+
+
+}
@@ -2375,6 +2375,18 @@ public class HandlebarsTokenMaker extends AbstractMarkupTokenMaker {
 	}
 
 
+	/**
+	 * Overridden to return <code>false</code>, since identifying regular
+	 * expressions requires examining the tokens already found on the line.
+	 *
+	 * @return <code>false</code> always.
+	 */
+	@Override
+	protected boolean getSupportsStateOnlyScanning() {
+		return false;
+	}
+
+
 	/**
 	 * Returns the first token in the linked list of tokens generated
 	 * from <code>text</code>.  This method must be implemented by
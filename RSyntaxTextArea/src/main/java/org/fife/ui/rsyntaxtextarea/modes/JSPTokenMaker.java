@@ -45,6 +45,12 @@ import org.fife.ui.rsyntaxtextarea.*;
  *   <li>You should NOT call <code>yylex()</code> on the generated scanner
  *       directly; rather, you should use <code>getTokenList</code> as you would
  *       with any other <code>TokenMaker</code> instance.</li>
+ *   <li>This class's DFA tables are loaded lazily from
+ *       <code>JSPTokenMaker.dfa</code> by its <code>Tables</code> holder class.
+ *       The build's <code>convertJFlexTables</code> task rewrites that
+ *       resource and replaces the generated tables with the
+ *       <code>Tables</code> class whenever the scanner is regenerated, so
+ *       the generated source doesn't need to be edited for this.</li>
  * </ul>
  *
  * @author Robert Futrell
@@ -91,6370 +97,32 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
   public static final int INTAG_STYLE = 11;
 
   /**
-   * Translates characters to character classes
-   */
-  private static final String ZZ_CMAP_PACKED =
-    "\11\0\1\4\1\2\1\0\1\1\1\46\22\0\1\4\1\26\1\10"+
-    "\1\47\1\50\1\25\1\5\1\11\1\116\1\114\1\51\1\56\1\65"+
-    "\1\36\1\57\1\12\1\31\1\32\2\45\1\137\1\130\1\136\1\34"+
-    "\2\30\1\70\1\6\1\3\1\7\1\21\1\67\1\74\1\33\1\52"+
-    "\1\14\1\107\1\24\1\55\1\123\1\127\1\16\1\131\1\124\1\23"+
-    "\1\121\1\120\1\117\1\17\1\125\1\15\1\13\1\20\1\122\1\126"+
-    "\1\135\1\54\1\22\1\27\1\113\1\37\1\113\1\66\1\35\1\73"+
-    "\1\61\1\53\1\77\1\101\1\60\1\44\1\103\1\100\1\102\1\134"+
-    "\1\112\1\62\1\106\1\43\1\75\1\104\1\133\1\41\1\63\1\42"+
-    "\1\40\1\111\1\110\1\105\1\76\1\132\1\115\1\72\1\64\1\71"+
-    "\uff81\0";
-
-  /**
-   * Translates characters to character classes
+   * The DFA tables, loaded from <code>JSPTokenMaker.dfa</code> the first time a
+   * line is scanned rather than when this class is loaded.
+   *
+   * @see DfaTables
    */
-  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
+  private static final class Tables {
 
-  /**
-   * Translates DFA states to action switch labels.
-   */
-  private static final int [] ZZ_ACTION = zzUnpackAction();
-
-  private static final String ZZ_ACTION_PACKED_0 =
-    "\6\0\2\1\1\0\2\1\1\0\2\1\14\0\1\2"+
-    "\5\0\2\2\1\3\1\4\1\5\1\6\1\1\1\7"+
-    "\5\1\1\10\2\1\1\11\1\12\2\13\1\5\1\14"+
-    "\1\15\1\16\1\17\1\20\1\21\1\22\1\23\2\21"+
-    "\2\23\3\21\2\23\2\21\1\23\6\21\1\23\1\1"+
-    "\1\24\1\25\1\1\1\13\1\26\1\27\1\17\1\30"+
-    "\1\31\1\32\1\33\1\34\1\1\1\35\1\1\1\36"+
-    "\1\37\2\14\1\2\1\14\1\40\1\41\1\14\2\2"+
-    "\1\14\2\42\1\14\5\2\1\36\1\2\1\14\5\2"+
-    "\1\43\1\14\1\44\10\2\1\1\1\45\1\46\1\47"+
-    "\1\1\1\50\1\51\1\52\1\1\1\53\6\1\1\54"+
-    "\4\1\1\55\5\1\1\56\7\1\1\36\1\57\1\14"+
-    "\1\60\1\61\1\14\11\2\1\14\2\42\14\2\1\62"+
-    "\21\2\1\1\1\63\1\1\2\2\1\64\1\65\1\66"+
-    "\1\67\4\2\1\70\1\71\1\70\1\72\1\73\1\70"+
-    "\1\74\1\70\1\75\1\70\1\76\1\77\1\100\2\77"+
-    "\1\66\1\77\1\101\1\102\1\103\1\104\1\105\1\104"+
-    "\1\106\2\2\1\104\1\42\1\2\1\104\1\107\1\110"+
-    "\1\111\1\112\1\113\1\114\1\115\1\116\2\1\1\117"+
-    "\1\120\1\121\1\122\1\1\1\123\1\1\1\124\1\4"+
-    "\2\125\1\126\1\127\1\130\1\6\5\0\1\131\1\126"+
-    "\32\21\2\23\2\21\1\23\44\21\1\132\1\133\2\0"+
-    "\1\126\1\0\1\14\1\134\1\0\1\135\1\36\1\2"+
-    "\1\14\1\136\1\42\2\136\2\137\1\136\1\140\2\136"+
-    "\43\2\3\66\12\2\1\141\1\142\1\143\3\0\1\144"+
-    "\16\0\1\145\2\0\1\146\16\0\1\60\1\147\1\60"+
-    "\1\61\1\0\1\65\1\61\1\150\1\151\1\36\46\2"+
-    "\1\152\1\136\1\42\2\136\1\137\1\136\1\140\3\136"+
-    "\45\2\1\62\5\2\1\66\1\2\1\66\40\2\1\153"+
-    "\1\154\3\2\1\0\1\155\1\156\15\0\1\157\1\0"+
-    "\1\42\5\0\1\42\1\113\1\160\1\161\1\162\1\163"+
-    "\2\125\1\126\1\0\1\164\1\0\1\165\4\0\1\126"+
-    "\14\21\1\23\63\21\1\132\1\0\1\166\1\0\1\36"+
-    "\1\2\1\137\1\0\1\42\3\140\30\2\1\167\16\2"+
-    "\1\74\16\2\50\0\1\64\1\60\1\0\2\60\1\61"+
-    "\1\0\1\65\3\61\1\170\1\36\3\2\1\171\65\2"+
-    "\1\137\1\42\2\140\1\42\1\140\50\2\1\36\6\2"+
-    "\1\74\33\2\1\171\21\2\25\0\2\125\1\172\1\173"+
-    "\2\0\1\174\31\21\1\23\2\21\1\23\6\21\1\0"+
-    "\1\175\1\36\1\2\1\136\1\2\1\176\11\2\1\74"+
-    "\1\177\3\2\1\171\23\2\1\0\1\1\3\0\1\200"+
-    "\3\0\1\201\1\202\2\0\1\203\11\0\1\204\11\0"+
-    "\1\205\5\0\3\60\1\61\1\36\70\2\1\171\3\2"+
-    "\1\171\1\2\1\171\5\2\2\136\7\2\1\176\11\2"+
-    "\1\171\3\2\1\74\3\2\1\171\6\2\1\36\36\2"+
-    "\1\0\16\2\1\66\23\0\2\125\2\0\12\21\1\23"+
-    "\11\21\1\0\1\36\4\2\1\66\1\2\1\66\20\2"+
-    "\41\0\3\60\1\61\1\36\3\2\1\171\14\2\1\171"+
-    "\47\2\1\171\24\2\2\66\26\2\1\36\32\2\1\0"+
-    "\15\2\16\0\1\125\1\206\12\21\1\0\1\36\1\2"+
-    "\1\207\16\2\24\0\2\60\1\61\1\36\1\2\1\171"+
-    "\3\2\1\171\25\2\1\171\27\2\1\171\2\2\1\171"+
-    "\24\2\1\207\2\2\1\171\21\2\1\36\13\2\1\171"+
-    "\2\2\1\171\6\2\1\0\13\2\12\0\1\210\3\21"+
-    "\1\0\10\2\4\0\1\204\6\0\1\60\33\2\1\171"+
-    "\21\2\1\171\7\2\1\0\3\2\1\0\22\2\1\0"+
-    "\15\2\1\36\27\2\1\0\13\2\6\0\1\21\1\0"+
-    "\3\2\13\0\1\60\16\2\1\171\50\2\2\0\2\2"+
-    "\4\0\16\2\2\0\25\2\1\171\11\2\1\0\12\2"+
-    "\1\211\4\0\1\21\1\212\1\2\1\213\1\214\5\0"+
-    "\14\2\1\0\10\2\1\171\34\2\2\0\1\2\4\0"+
-    "\5\2\1\171\7\2\1\0\2\2\1\171\11\2\1\171"+
-    "\20\2\1\171\11\2\10\0\16\2\1\171\2\2\1\0"+
-    "\31\2\6\0\10\2\1\0\2\2\1\0\35\2\3\0"+
-    "\1\215\2\0\10\2\1\171\4\2\2\0\10\2\1\171"+
-    "\14\2\6\0\7\2\1\171\1\2\1\0\1\171\4\2"+
-    "\1\171\17\2\1\171\2\2\1\171\3\2\1\0\1\171"+
-    "\3\2\2\0\1\2\1\171\17\2\5\0\6\2\1\0"+
-    "\1\2\1\0\3\2\1\171\4\2\1\171\17\2\2\0"+
-    "\3\2\2\0\16\2\4\0\2\2\1\171\3\2\2\0"+
-    "\26\2\2\0\2\2\2\0\1\171\11\2\1\171\2\2"+
-    "\3\0\4\2\2\0\23\2\5\0\1\2\3\0\10\2"+
-    "\1\0\1\2\3\0\4\2\2\0\16\2\4\0\1\2"+
-    "\2\0\10\2\1\0\1\2\3\0\3\2\2\0\10\2"+
-    "\6\0\5\2\1\0\1\171\3\0\2\2\2\0\2\2"+
-    "\2\171\3\2\6\0\3\2\5\0\2\2\2\0\2\2"+
-    "\2\0\1\171\2\2\5\0\2\2\3\0\1\2\2\0"+
-    "\2\2\4\0\1\2\5\0\1\2\3\0\1\2\2\0"+
-    "\1\2\13\0\1\2\2\0\1\2\22\0\1\171\50\0";
-
-  private static int [] zzUnpackAction() {
-    int [] result = new int[2748];
-    int offset = 0;
-    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
-    return result;
-  }
+    private static final DfaTables TABLES = DfaTables.load(JSPTokenMaker.class);
 
-  private static int zzUnpackAction(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
+    /** Translates characters to character classes */
+    static final char [] ZZ_CMAP = TABLES.getCMap();
 
+    /** Translates DFA states to action switch labels. */
+    static final int [] ZZ_ACTION = TABLES.getAction();
 
-  /**
-   * Translates a state to a row index in the transition table
-   */
-  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
-
-  private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\140\0\300\0\u0120\0\u0180\0\u01e0\0\u0240\0\u02a0"+
-    "\0\u0300\0\u0360\0\u03c0\0\u0420\0\u0480\0\u04e0\0\u0540\0\u05a0"+
-    "\0\u0600\0\u0660\0\u06c0\0\u0720\0\u0780\0\u07e0\0\u0840\0\u08a0"+
-    "\0\u0900\0\u0960\0\u09c0\0\u0a20\0\u0a80\0\u0ae0\0\u0b40\0\u0ba0"+
-    "\0\u0c00\0\u0c60\0\u0cc0\0\u0d20\0\u0d80\0\u0de0\0\u0e40\0\u0cc0"+
-    "\0\u0ea0\0\u0f00\0\u0f60\0\u0fc0\0\u1020\0\u0cc0\0\u1080\0\u10e0"+
-    "\0\u0cc0\0\u0cc0\0\u1140\0\u11a0\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0"+
-    "\0\u1200\0\u0cc0\0\u1260\0\u0cc0\0\u12c0\0\u1320\0\u1380\0\u13e0"+
-    "\0\u1440\0\u14a0\0\u1500\0\u1560\0\u15c0\0\u1620\0\u1680\0\u16e0"+
-    "\0\u1740\0\u17a0\0\u1800\0\u1860\0\u18c0\0\u1920\0\u1980\0\u1260"+
-    "\0\u19e0\0\u1a40\0\u0cc0\0\u1aa0\0\u1b00\0\u0cc0\0\u0cc0\0\u1b60"+
-    "\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0\0\u1bc0\0\u0cc0\0\u1c20"+
-    "\0\u1c80\0\u0cc0\0\u1ce0\0\u1d40\0\u0cc0\0\u1da0\0\u0cc0\0\u0cc0"+
-    "\0\u1e00\0\u1e60\0\u1ec0\0\u1f20\0\u1f80\0\u1fe0\0\u2040\0\u20a0"+
-    "\0\u2100\0\u2160\0\u21c0\0\u2220\0\u0cc0\0\u2280\0\u22e0\0\u2340"+
-    "\0\u23a0\0\u2400\0\u2460\0\u24c0\0\u0cc0\0\u2520\0\u0cc0\0\u2580"+
-    "\0\u25e0\0\u2640\0\u26a0\0\u2700\0\u2760\0\u27c0\0\u2820\0\u2880"+
-    "\0\u0cc0\0\u0cc0\0\u28e0\0\u2940\0\u0cc0\0\u0cc0\0\u28e0\0\u29a0"+
-    "\0\u0cc0\0\u2a00\0\u2a60\0\u2ac0\0\u2b20\0\u2b80\0\u2be0\0\u0cc0"+
-    "\0\u2c40\0\u2ca0\0\u2d00\0\u2d60\0\u0cc0\0\u2dc0\0\u2e20\0\u2e80"+
-    "\0\u2ee0\0\u2f40\0\u0cc0\0\u2fa0\0\u3000\0\u3060\0\u30c0\0\u3120"+
-    "\0\u3180\0\u31e0\0\u3240\0\u0cc0\0\u32a0\0\u3300\0\u3360\0\u33c0"+
-    "\0\u3420\0\u3480\0\u34e0\0\u3540\0\u35a0\0\u3600\0\u3660\0\u36c0"+
-    "\0\u3720\0\u3780\0\u37e0\0\u3840\0\u38a0\0\u3900\0\u3960\0\u39c0"+
-    "\0\u3a20\0\u3a80\0\u3ae0\0\u3b40\0\u3ba0\0\u3c00\0\u3c60\0\u3cc0"+
-    "\0\u3d20\0\u3d80\0\u3de0\0\u3e40\0\u3ea0\0\u3f00\0\u3f60\0\u3fc0"+
-    "\0\u4020\0\u4080\0\u40e0\0\u4140\0\u41a0\0\u4200\0\u4260\0\u42c0"+
-    "\0\u4320\0\u4380\0\u43e0\0\u0cc0\0\u4440\0\u44a0\0\u4500\0\u4560"+
-    "\0\u45c0\0\u0cc0\0\u0cc0\0\u4620\0\u4680\0\u46e0\0\u4740\0\u0cc0"+
-    "\0\u0cc0\0\u47a0\0\u0cc0\0\u0cc0\0\u4800\0\u4860\0\u48c0\0\u4920"+
-    "\0\u4980\0\u0cc0\0\u0cc0\0\u0cc0\0\u47a0\0\u4800\0\u49e0\0\u4a40"+
-    "\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0\0\u0cc0\0\u47a0\0\u0cc0\0\u4aa0"+
-    "\0\u4b00\0\u4b60\0\u4bc0\0\u4c20\0\u4c80\0\u0cc0\0\u0cc0\0\u0cc0"+
-    "\0\u0cc0\0\u4ce0\0\u0cc0\0\u0cc0\0\u0cc0\0\u4d40\0\u4da0\0\u0cc0"+
-    "\0\u28e0\0\u4e00\0\u0cc0\0\u4e60\0\u0cc0\0\u4ec0\0\u0cc0\0\u4f20"+
-    "\0\u4f80\0\u4fe0\0\u5040\0\u50a0\0\u0cc0\0\u0cc0\0\u5100\0\u5160"+
-    "\0\u51c0\0\u5220\0\u5280\0\u0cc0\0\u52e0\0\u5340\0\u53a0\0\u5400"+
-    "\0\u5460\0\u54c0\0\u5520\0\u5580\0\u55e0\0\u5640\0\u56a0\0\u5700"+
-    "\0\u5760\0\u57c0\0\u5820\0\u5880\0\u58e0\0\u5940\0\u59a0\0\u5a00"+
-    "\0\u5a60\0\u5ac0\0\u5b20\0\u5b80\0\u5be0\0\u5c40\0\u5ca0\0\u5d00"+
-    "\0\u5d60\0\u5dc0\0\u5e20\0\u5e80\0\u5ee0\0\u5f40\0\u5fa0\0\u6000"+
-    "\0\u6060\0\u60c0\0\u6120\0\u6180\0\u61e0\0\u6240\0\u62a0\0\u6300"+
-    "\0\u6360\0\u63c0\0\u6420\0\u6480\0\u64e0\0\u6540\0\u65a0\0\u6600"+
-    "\0\u6660\0\u66c0\0\u6720\0\u6780\0\u67e0\0\u6840\0\u68a0\0\u6900"+
-    "\0\u6960\0\u69c0\0\u6a20\0\u6a80\0\u6ae0\0\u6b40\0\u6ba0\0\u6c00"+
-    "\0\u6c60\0\u0cc0\0\u1da0\0\u6cc0\0\u6d20\0\u6d80\0\u6d80\0\u0cc0"+
-    "\0\u6de0\0\u6e40\0\u6ea0\0\u6f00\0\u6f60\0\u6fc0\0\u6fc0\0\u7020"+
-    "\0\u7080\0\u6fc0\0\u70e0\0\u7140\0\u71a0\0\u7200\0\u7260\0\u72c0"+
-    "\0\u7320\0\u7380\0\u73e0\0\u7440\0\u74a0\0\u7500\0\u7560\0\u75c0"+
-    "\0\u7620\0\u7680\0\u76e0\0\u7740\0\u77a0\0\u7800\0\u7860\0\u78c0"+
-    "\0\u7920\0\u7980\0\u79e0\0\u7a40\0\u7aa0\0\u7b00\0\u7b60\0\u7bc0"+
-    "\0\u7c20\0\u7c80\0\u7ce0\0\u7d40\0\u7da0\0\u7e00\0\u7e60\0\u7ec0"+
-    "\0\u7f20\0\u7f80\0\u7fe0\0\u8040\0\u1e60\0\u80a0\0\u8100\0\u8160"+
-    "\0\u81c0\0\u8220\0\u8280\0\u82e0\0\u8340\0\u83a0\0\u8400\0\u0cc0"+
-    "\0\u8460\0\u84c0\0\u8520\0\u8580\0\u85e0\0\u0cc0\0\u8640\0\u86a0"+
-    "\0\u8700\0\u8760\0\u87c0\0\u8820\0\u8880\0\u88e0\0\u8940\0\u89a0"+
-    "\0\u8a00\0\u8a60\0\u8ac0\0\u8b20\0\u0cc0\0\u8b80\0\u8be0\0\u0cc0"+
-    "\0\u8c40\0\u8ca0\0\u8d00\0\u8d60\0\u8dc0\0\u8e20\0\u8e80\0\u8ee0"+
-    "\0\u8f40\0\u8fa0\0\u9000\0\u9060\0\u90c0\0\u9120\0\u9180\0\u0cc0"+
-    "\0\u91e0\0\u9240\0\u92a0\0\u0cc0\0\u9300\0\u9360\0\u93c0\0\u9420"+
-    "\0\u9480\0\u94e0\0\u9540\0\u95a0\0\u9600\0\u9660\0\u96c0\0\u9720"+
-    "\0\u9780\0\u97e0\0\u9840\0\u98a0\0\u9900\0\u9960\0\u99c0\0\u9a20"+
-    "\0\u9a80\0\u9ae0\0\u9b40\0\u9ba0\0\u9c00\0\u9c60\0\u9cc0\0\u9d20"+
-    "\0\u9d80\0\u9de0\0\u9e40\0\u9ea0\0\u9f00\0\u9f60\0\u9fc0\0\ua020"+
-    "\0\ua080\0\ua0e0\0\ua140\0\ua1a0\0\ua200\0\ua260\0\u0cc0\0\ua2c0"+
-    "\0\ua2c0\0\ua320\0\ua380\0\ua2c0\0\ua3e0\0\ua440\0\ua4a0\0\ua500"+
-    "\0\ua560\0\ua5c0\0\ua620\0\ua680\0\ua6e0\0\ua740\0\ua7a0\0\ua800"+
-    "\0\ua860\0\ua8c0\0\ua920\0\ua980\0\ua9e0\0\uaa40\0\uaaa0\0\uab00"+
-    "\0\uab60\0\uabc0\0\uac20\0\uac80\0\uace0\0\uad40\0\uada0\0\uae00"+
-    "\0\uae60\0\uaec0\0\uaf20\0\uaf80\0\uafe0\0\ub040\0\ub0a0\0\ub100"+
-    "\0\ub160\0\ub1c0\0\ub220\0\ub280\0\ub2e0\0\ub340\0\ub3a0\0\ub400"+
-    "\0\ub460\0\ub4c0\0\ub520\0\ub580\0\ub5e0\0\ub640\0\u3660\0\ub6a0"+
-    "\0\ub700\0\ub760\0\ub7c0\0\ub820\0\ub880\0\ub8e0\0\ub940\0\ub9a0"+
-    "\0\uba00\0\uba60\0\ubac0\0\ubb20\0\ubb80\0\ubbe0\0\ubc40\0\ubca0"+
-    "\0\ubd00\0\ubd60\0\ubdc0\0\ube20\0\ube80\0\ubee0\0\ubf40\0\ubfa0"+
-    "\0\uc000\0\uc060\0\uc0c0\0\uc120\0\uc180\0\uc1e0\0\uc240\0\u0cc0"+
-    "\0\u0cc0\0\uc2a0\0\uc300\0\uc360\0\uc3c0\0\u0cc0\0\uc420\0\uc480"+
-    "\0\uc4e0\0\uc540\0\uc5a0\0\uc600\0\uc660\0\uc6c0\0\uc720\0\uc780"+
-    "\0\uc7e0\0\uc840\0\uc8a0\0\uc900\0\uc960\0\uc9c0\0\u0cc0\0\uca20"+
-    "\0\uca80\0\ucae0\0\ucb40\0\ucba0\0\u4c80\0\u0cc0\0\u0cc0\0\u0cc0"+
-    "\0\u0cc0\0\u4f20\0\ucc00\0\ucc60\0\u0cc0\0\uccc0\0\u0cc0\0\ucd20"+
-    "\0\u0cc0\0\ucd80\0\ucde0\0\uce40\0\ucea0\0\u1140\0\ucf00\0\ucf60"+
-    "\0\ucfc0\0\ud020\0\ud080\0\ud0e0\0\ud140\0\ud1a0\0\ud200\0\ud260"+
-    "\0\ud2c0\0\ud320\0\ud380\0\ud3e0\0\ud440\0\ud4a0\0\ud500\0\ud560"+
-    "\0\ud5c0\0\ud620\0\ud680\0\ud6e0\0\ud740\0\ud7a0\0\ud800\0\ud860"+
-    "\0\ud8c0\0\ud920\0\ud980\0\ud9e0\0\uda40\0\udaa0\0\udb00\0\udb60"+
-    "\0\udbc0\0\udc20\0\udc80\0\udce0\0\udd40\0\udda0\0\ude00\0\ude60"+
-    "\0\udec0\0\udf20\0\udf80\0\u5d60\0\udfe0\0\ue040\0\ue0a0\0\ue100"+
-    "\0\ue160\0\ue1c0\0\ue220\0\u1620\0\ue280\0\ue2e0\0\ue340\0\ue3a0"+
-    "\0\ue400\0\ue460\0\ue4c0\0\ue520\0\ue580\0\ue5e0\0\u0cc0\0\ue640"+
-    "\0\ue6a0\0\ue700\0\ue760\0\ue7c0\0\ue820\0\ue880\0\ue8e0\0\u6fc0"+
-    "\0\ue940\0\ue9a0\0\uea00\0\uea60\0\ueac0\0\ueb20\0\ueb80\0\uebe0"+
-    "\0\uec40\0\ueca0\0\ued00\0\ued60\0\uedc0\0\uee20\0\uee80\0\ueee0"+
-    "\0\uef40\0\uefa0\0\uf000\0\uf060\0\uf0c0\0\uf120\0\uf180\0\uf1e0"+
-    "\0\uf240\0\uf2a0\0\u1e60\0\uf300\0\uf360\0\uf3c0\0\uf420\0\uf480"+
-    "\0\uf4e0\0\uf540\0\uf5a0\0\uf600\0\uf660\0\uf6c0\0\uf720\0\uf780"+
-    "\0\uf7e0\0\uf840\0\uf8a0\0\uf900\0\uf960\0\uf9c0\0\ufa20\0\ufa80"+
-    "\0\ufae0\0\ufb40\0\ufba0\0\ufc00\0\ufc60\0\ufcc0\0\ufd20\0\ufd80"+
-    "\0\ufde0\0\ufe40\0\ufea0\0\uff00\0\uff60\0\uffc0\1\40\1\200"+
-    "\1\340\1\u0140\1\u01a0\1\u0200\1\u0260\1\u02c0\1\u0320\1\u0380"+
-    "\1\u03e0\1\u0440\1\u04a0\1\u0500\1\u0560\1\u05c0\1\u0620\1\u0680"+
-    "\1\u06e0\1\u0740\1\u07a0\1\u0800\1\u0860\1\u08c0\1\u0920\1\u0980"+
-    "\1\u09e0\1\u0a40\1\u0aa0\1\u0b00\1\u0b60\1\u0bc0\1\u0c20\1\u0c80"+
-    "\0\u0cc0\1\u0ce0\1\u0d40\1\u0da0\1\u0e00\1\u0e60\1\u0ec0\1\u0f20"+
-    "\1\u0f80\1\u0fe0\1\u1040\0\ue700\1\u10a0\1\u1100\1\u1160\1\u11c0"+
-    "\0\u3660\1\u1220\1\u1280\1\u12e0\1\u1340\1\u13a0\1\u1400\1\u1460"+
-    "\1\u14c0\1\u1520\1\u1580\1\u15e0\1\u1640\1\u16a0\1\u1700\1\u1760"+
-    "\1\u17c0\1\u1820\1\u1880\1\u18e0\1\u1940\1\u19a0\1\u1a00\1\u1a60"+
-    "\1\u1ac0\1\u1b20\1\u1b80\1\u1be0\1\u1c40\1\u1ca0\1\u1d00\1\u1d60"+
-    "\1\u1dc0\1\u1e20\1\u1e80\1\u1ee0\1\u1f40\1\u1fa0\1\u2000\1\u2060"+
-    "\1\u20c0\1\u2120\1\u2180\1\u21e0\1\u2240\1\u22a0\1\u2300\1\u2360"+
-    "\1\u23c0\1\u2420\1\u2480\1\u24e0\1\u2540\1\u25a0\1\u2600\1\u2660"+
-    "\0\ua2c0\1\u26c0\1\u2720\1\u2780\1\u27e0\1\u2840\1\u28a0\1\u2900"+
-    "\1\u2960\1\u29c0\1\u2a20\1\u2a80\1\u2ae0\1\u2b40\1\u2ba0\1\u2c00"+
-    "\1\u2c60\1\u2cc0\1\u2d20\1\u2d80\1\u2de0\1\u2e40\1\u2ea0\1\u2f00"+
-    "\1\u2f60\1\u2fc0\1\u3020\1\u3080\1\u30e0\1\u3140\1\u31a0\1\u3200"+
-    "\1\u3260\1\u32c0\1\u3320\1\u3380\1\u33e0\1\u3440\1\u34a0\1\u3500"+
-    "\1\u3560\1\u35c0\1\u3620\1\u3680\1\u36e0\1\u3740\1\u37a0\1\u3800"+
-    "\1\u3860\1\u38c0\1\u3920\1\u3980\1\u39e0\1\u3a40\1\u3aa0\1\u3b00"+
-    "\1\u3b60\1\u3bc0\1\u3c20\1\u3c80\1\u3ce0\1\u3d40\1\u3da0\1\u3e00"+
-    "\1\u3e60\1\u3ec0\1\u3f20\1\u3f80\1\u3fe0\1\u4040\1\u40a0\1\u4100"+
-    "\1\u4160\1\u41c0\1\u4220\1\u4280\1\u42e0\1\u4340\1\u43a0\1\u4400"+
-    "\1\u4460\1\u44c0\1\u4520\1\u4580\1\u45e0\1\u4640\1\u46a0\1\u4700"+
-    "\1\u4760\1\u47c0\1\u4820\1\u4880\1\u48e0\1\u4940\1\u49a0\1\u4a00"+
-    "\1\u4a60\1\u4ac0\1\u4b20\1\u4b80\1\u4be0\1\u4c40\1\u4ca0\1\u4d00"+
-    "\1\u4d60\1\u4dc0\1\u4e20\1\u4e80\1\u4ee0\1\u4f40\1\u4fa0\1\u5000"+
-    "\1\u5060\1\u50c0\1\u5120\1\u5180\1\u51e0\1\u5240\1\u52a0\1\u5300"+
-    "\0\u0cc0\0\u0cc0\1\u5360\1\u53c0\1\u5420\1\u5480\1\u54e0\1\u5540"+
-    "\1\u55a0\1\u5600\1\u5660\1\u56c0\1\u5720\1\u5780\1\u57e0\1\u5840"+
-    "\1\u58a0\1\u5900\1\u5960\1\u59c0\1\u5a20\1\u5a80\1\u5ae0\1\u5b40"+
-    "\0\u5e80\1\u5ba0\1\u5c00\1\u5c60\1\u5cc0\1\u5d20\1\u5d80\1\u5de0"+
-    "\1\u5e40\0\ud8c0\1\u5ea0\1\u5f00\1\u5f60\1\u5fc0\1\u6020\1\u6080"+
-    "\1\u60e0\0\u0cc0\1\u6140\1\u61a0\1\u6200\1\u6260\0\u1e60\1\u62c0"+
-    "\1\u6320\1\u6380\1\u63e0\1\u6440\1\u64a0\1\u6500\1\u6560\1\u65c0"+
-    "\0\u1e60\0\u1e60\1\u6620\1\u6680\1\u66e0\0\u1e60\1\u6740\1\u67a0"+
-    "\1\u6800\1\u6860\1\u68c0\1\u6920\1\u6980\1\u69e0\1\u6a40\1\u6aa0"+
-    "\1\u6b00\1\u6b60\1\u6bc0\1\u6c20\1\u6c80\1\u6ce0\1\u6d40\1\u6da0"+
-    "\1\u6e00\0\u84c0\0\u0cc0\1\u6e60\1\u6ec0\1\u6f20\1\u6f80\1\u6fe0"+
-    "\1\u7040\1\u70a0\1\u7100\0\u0cc0\1\u7160\1\u71c0\1\u7220\1\u7280"+
-    "\1\u72e0\1\u7340\1\u73a0\1\u7400\1\u7460\1\u74c0\1\u7520\1\u7580"+
-    "\0\u0cc0\1\u75e0\1\u7640\1\u76a0\1\u7700\1\u7760\1\u77c0\1\u7820"+
-    "\1\u7880\1\u78e0\1\u7940\1\u79a0\1\u7a00\1\u7a60\1\u7ac0\1\u7b20"+
-    "\1\u7b80\1\u7be0\1\u7c40\1\u7ca0\1\u7d00\1\u7d60\1\u7dc0\1\u7e20"+
-    "\1\u7e80\1\u7ee0\1\u7f40\1\u7fa0\1\u8000\1\u8060\1\u80c0\1\u8120"+
-    "\1\u8180\1\u81e0\1\u8240\1\u82a0\1\u8300\1\u8360\1\u83c0\1\u8420"+
-    "\1\u8480\1\u84e0\1\u8540\1\u85a0\1\u8600\1\u8660\1\u86c0\1\u8720"+
-    "\1\u8780\1\u87e0\1\u8840\1\u88a0\1\u8900\1\u8960\1\u89c0\1\u8a20"+
-    "\1\u8a80\1\u8ae0\1\u8b40\1\u8ba0\1\u8c00\1\u8c60\1\u8cc0\1\u8d20"+
-    "\1\u8d80\1\u8de0\1\u8e40\1\u8ea0\1\u8f00\1\u8f60\1\u8fc0\1\u9020"+
-    "\1\u9080\1\u90e0\1\u9140\1\u91a0\1\u9200\1\u9260\1\u92c0\1\u9320"+
-    "\1\u9380\1\u93e0\1\u9440\1\u94a0\1\u9500\1\u9560\1\u95c0\1\u9620"+
-    "\1\u9680\1\u2720\1\u96e0\1\u9740\1\u97a0\1\u9800\1\u9860\1\u98c0"+
-    "\1\u9920\1\u9980\0\u3660\1\u99e0\1\u9a40\1\u9aa0\1\u9b00\1\u9b60"+
-    "\1\u9bc0\1\u9c20\1\u9c80\1\u9ce0\1\u9d40\1\u9da0\1\u9e00\1\u9e60"+
-    "\0\u3660\1\u9ec0\1\u9f20\1\u9f80\1\u9fe0\1\ua040\1\ua0a0\1\ua100"+
-    "\1\ua160\1\ua1c0\1\ua220\1\ua280\1\ua2e0\1\ua340\1\ua3a0\1\ua400"+
-    "\1\ua460\1\ua4c0\1\ua520\1\ua580\1\ua5e0\1\ua640\1\ua6a0\1\ua700"+
-    "\1\ua760\1\ua7c0\1\ua820\1\ua880\1\ua8e0\1\ua940\1\ua9a0\1\uaa00"+
-    "\1\uaa60\1\uaac0\1\uab20\1\uab80\1\uabe0\1\uac40\1\uaca0\1\uad00"+
-    "\1\uad60\1\uadc0\1\uae20\1\uae80\1\uaee0\1\uaf40\1\uafa0\1\ub000"+
-    "\1\ub060\1\ub0c0\1\ub120\1\ub180\1\ub1e0\1\ub240\1\ub2a0\1\ub300"+
-    "\1\ub360\0\u44a0\1\ub3c0\1\ub420\1\ub480\1\ub4e0\1\ub540\1\ub5a0"+
-    "\1\ub600\1\ub660\1\ub6c0\1\ub720\1\ub780\1\ub7e0\1\ub840\1\ub8a0"+
-    "\1\ub900\1\ub960\1\ub9c0\1\uba20\1\uba80\1\ubae0\1\ubb40\1\ubba0"+
-    "\1\u5420\1\ubc00\1\ubc60\1\ubcc0\1\ubd20\1\ubd80\1\ubde0\1\ube40"+
-    "\1\ubea0\1\ubf00\1\ubf60\1\ubfc0\1\ubfc0\1\uc020\1\uc080\1\uc0e0"+
-    "\1\uc140\1\uc1a0\1\uc200\1\uc260\1\uc2c0\1\uc320\1\uc380\1\uc3e0"+
-    "\1\uc440\1\uc4a0\1\uc500\0\uec40\1\uc560\1\uc5c0\1\uc620\1\uc680"+
-    "\1\uc6e0\1\uc740\1\uc7a0\1\uc800\1\uc860\1\uc8c0\1\uc920\1\uc980"+
-    "\1\uc9e0\1\uca40\1\ucaa0\1\ucb00\1\ucb60\1\ucbc0\1\ucc20\1\ucc80"+
-    "\1\u6f80\1\ucce0\1\ucd40\1\u7100\1\ucda0\1\u7220\1\uce00\1\uce60"+
-    "\1\ucec0\1\ucf20\1\ucf80\1\ucfe0\1\ud040\1\ud0a0\1\ud100\1\ud160"+
-    "\1\ud1c0\1\ud220\1\ud280\1\ud2e0\1\ud340\1\ud3a0\1\ud400\1\ud460"+
-    "\1\u7940\1\ud4c0\1\ud520\1\ud580\1\ud5e0\1\ud640\1\ud6a0\1\ud700"+
-    "\1\ud760\1\ud7c0\1\ud820\1\ud880\1\ud8e0\1\ud940\1\ud9a0\1\uda00"+
-    "\1\uda60\1\udac0\1\udb20\1\udb80\1\udbe0\1\udc40\1\udca0\1\udd00"+
-    "\1\udd60\1\uddc0\1\ude20\1\ude80\1\udee0\1\udf40\1\udfa0\1\ue000"+
-    "\1\ue060\1\ue0c0\1\ue120\1\ue180\1\ue1e0\1\ue240\1\ue2a0\1\ue300"+
-    "\1\ue360\1\ue3c0\1\ue420\1\ue480\1\ue4e0\1\ue540\1\ue5a0\1\ue600"+
-    "\1\ue660\1\ue6c0\1\ue720\1\ue780\1\ue7e0\1\ue840\1\ue8a0\1\ue900"+
-    "\1\ue960\1\ue9c0\1\uea20\1\uea80\1\ueae0\1\ueb40\1\ueba0\1\uec00"+
-    "\1\uec60\1\uecc0\1\ued20\1\ued80\1\uede0\1\uee40\1\ueea0\1\uef00"+
-    "\1\uef60\1\uefc0\1\uf020\1\uf080\1\uf0e0\1\uf140\1\uf1a0\1\uf200"+
-    "\1\uf260\1\uf2c0\1\uf320\1\uf380\1\uf3e0\1\uf440\1\uf4a0\1\uf500"+
-    "\1\uf560\1\u2ba0\1\uf5c0\1\uf620\1\uf680\1\uf6e0\1\uf740\1\uf7a0"+
-    "\1\uf800\1\uf860\1\uf8c0\1\uf920\1\uf980\1\uf9e0\1\ufa40\1\ufaa0"+
-    "\1\ufb00\1\ufb60\1\ufbc0\1\ufc20\1\ufc80\1\ufce0\1\ufd40\1\ufda0"+
-    "\1\ufe00\1\ufe60\1\ufec0\1\uff20\1\uff80\1\uffe0\2\100\2\240"+
-    "\2\u0100\2\u0160\2\u01c0\2\u0220\2\u0280\2\u02e0\2\u0340\2\u03a0"+
-    "\2\u0400\2\u0460\2\u04c0\2\u0520\2\u0580\2\u05e0\2\u0640\2\u06a0"+
-    "\2\u0700\2\u0760\2\u07c0\2\u0820\2\u0880\2\u08e0\2\u0940\2\u09a0"+
-    "\2\u0a00\2\u0a60\2\u0ac0\2\u0b20\2\u0b80\2\u0be0\2\u0c40\2\u0ca0"+
-    "\2\u0d00\2\u0d60\2\u0dc0\2\u0e20\2\u0e80\2\u0ee0\2\u0f40\2\u0fa0"+
-    "\2\u1000\2\u1060\2\u10c0\2\u1120\2\u1180\2\u11e0\2\u1240\2\u12a0"+
-    "\2\u1300\0\u4fe0\2\u1360\2\u13c0\2\u1420\2\u1480\2\u14e0\2\u1540"+
-    "\2\u15a0\2\u1600\2\u1660\2\u16c0\2\u1720\2\u1780\2\u17e0\0\u1e60"+
-    "\2\u1840\2\u18a0\2\u1900\2\u1960\2\u19c0\2\u1a20\2\u1a80\2\u1ae0"+
-    "\2\u1b40\2\u1ba0\2\u1c00\2\u1c60\2\u1cc0\2\u1d20\2\u1d80\2\u1de0"+
-    "\2\u1e40\2\u1ea0\2\u1f00\2\u1f60\2\u1fc0\2\u2020\2\u2080\2\u20e0"+
-    "\2\u2140\2\u21a0\2\u2200\2\u2260\2\u22c0\2\u2320\2\u2380\2\u23e0"+
-    "\2\u2440\2\u24a0\2\u2500\2\u2560\2\u25c0\2\u2620\2\u2680\2\u26e0"+
-    "\2\u2740\2\u27a0\2\u2800\2\u2860\2\u28c0\2\u2920\2\u2980\2\u29e0"+
-    "\2\u2a40\2\u2aa0\2\u2b00\2\u2b60\2\u2bc0\2\u2c20\2\u2c80\2\u2ce0"+
-    "\2\u2d40\2\u2da0\2\u2e00\2\u2e60\2\u2ec0\2\u2f20\2\u2f80\2\u2fe0"+
-    "\2\u3040\2\u30a0\2\u3100\2\u3160\2\u31c0\2\u3220\2\u3280\2\u32e0"+
-    "\2\u3340\2\u33a0\2\u3400\2\u3460\2\u34c0\2\u3520\2\u3580\2\u35e0"+
-    "\2\u3640\2\u36a0\2\u3700\2\u3760\2\u37c0\2\u3820\2\u3880\2\u38e0"+
-    "\2\u3940\2\u39a0\2\u3a00\2\u3a60\2\u3ac0\2\u3b20\2\u3b80\2\u3be0"+
-    "\2\u3c40\2\u3ca0\2\u3d00\2\u3d60\2\u3dc0\2\u3e20\2\u3e80\2\u3ee0"+
-    "\2\u3f40\2\u3fa0\2\u4000\2\u4060\2\u40c0\2\u4120\2\u4180\2\u41e0"+
-    "\2\u4240\0\u3660\2\u42a0\2\u4300\2\u4360\2\u43c0\2\u4420\2\u4480"+
-    "\2\u44e0\2\u4540\2\u45a0\2\u4600\2\u4660\2\u46c0\2\u4720\2\u4780"+
-    "\2\u47e0\2\u4840\2\u48a0\2\u4900\2\u4960\2\u49c0\2\u4a20\2\u4a80"+
-    "\2\u4ae0\2\u4b40\2\u4ba0\2\u4c00\2\u4c60\2\u4cc0\2\u4d20\2\u4d80"+
-    "\2\u4de0\2\u4e40\2\u4ea0\2\u4f00\2\u4f60\2\u4fc0\2\u5020\2\u5080"+
-    "\2\u50e0\2\u5140\2\u51a0\2\u5200\2\u5260\2\u52c0\2\u5320\2\u5380"+
-    "\2\u53e0\2\u5440\2\u54a0\2\u5500\2\u5560\2\u55c0\2\u5620\2\u5680"+
-    "\2\u56e0\2\u5740\2\u57a0\2\u5800\2\u5860\2\u58c0\2\u5920\2\u5980"+
-    "\2\u59e0\2\u5a40\0\u4fe0\2\u5aa0\2\u5b00\2\u5b60\2\u5bc0\2\u5c20"+
-    "\2\u5c80\2\u5ce0\2\u5d40\2\u5da0\2\u5e00\2\u5e60\2\u5ec0\2\u5f20"+
-    "\2\u5f80\2\u5fe0\2\u6040\2\u60a0\2\u6100\2\u6160\2\u61c0\2\u6220"+
-    "\2\u6280\2\u62e0\2\u6340\2\u63a0\2\u6400\2\u6460\2\u64c0\2\u6520"+
-    "\2\u6580\2\u65e0\2\u6640\2\u66a0\2\u6700\2\u6760\2\u67c0\2\u6820"+
-    "\2\u6880\2\u68e0\2\u6940\2\u69a0\2\u6a00\2\u6a60\2\u6ac0\2\u6b20"+
-    "\2\u6b80\2\u6be0\2\u6c40\2\u6ca0\2\u6d00\2\u6d60\2\u6dc0\2\u6e20"+
-    "\2\u6e80\2\u6ee0\2\u6f40\2\u6fa0\2\u7000\2\u7060\2\u70c0\2\u7120"+
-    "\2\u7180\2\u71e0\2\u7240\2\u72a0\2\u7300\2\u7360\2\u73c0\2\u7420"+
-    "\2\u7480\2\u74e0\2\u7540\2\u75a0\2\u7600\2\u7660\2\u76c0\2\u7720"+
-    "\2\u7780\2\u77e0\2\u7840\2\u78a0\2\u7900\2\u7960\2\u79c0\2\u7a20"+
-    "\2\u7a80\2\u7ae0\2\u7b40\2\u7ba0\2\u7c00\2\u7c60\2\u7cc0\2\u7d20"+
-    "\2\u7d80\2\u7de0\2\u7e40\2\u7ea0\2\u7f00\2\u7f60\2\u7fc0\2\u8020"+
-    "\2\u8080\2\u80e0\2\u8140\2\u81a0\2\u8200\2\u8260\2\u82c0\2\u8320"+
-    "\2\u8380\2\u83e0\2\u8440\2\u84a0\2\u8500\2\u8560\2\u85c0\2\u8620"+
-    "\2\u8680\2\u86e0\2\u8740\2\u87a0\2\u8800\2\u8860\2\u88c0\2\u8920"+
-    "\2\u8980\2\u89e0\2\u8a40\2\u8aa0\2\u8b00\2\u8b60\2\u8bc0\2\u8c20"+
-    "\2\u8c80\2\u8ce0\2\u8d40\2\u8da0\2\u8e00\2\u8e60\2\u8ec0\2\u4fc0"+
-    "\2\u8f20\2\u8f80\2\u8fe0\2\u9040\2\u90a0\2\u9100\2\u9160\2\u91c0"+
-    "\2\u9220\2\u9280\2\u92e0\2\u9340\2\u93a0\2\u9400\2\u9460\2\u94c0"+
-    "\2\u9520\2\u9580\2\u95e0\2\u9640\2\u96a0\2\u9700\2\u9760\2\u97c0"+
-    "\2\u9820\2\u9880\2\u98e0\2\u9940\2\u99a0\2\u9a00\2\u9a60\2\u9ac0"+
-    "\2\u9b20\2\u9b80\2\u9be0\2\u9c40\2\u9ca0\2\u9d00\2\u9d60\2\u9dc0"+
-    "\2\u9e20\2\u9e80\2\u9ee0\2\u9f40\2\u9fa0\2\ua000\2\ua060\2\ua0c0"+
-    "\2\ua120\2\ua180\2\ua1e0\2\ua240\2\ua2a0\2\ua300\2\ua360\2\ua3c0"+
-    "\2\ua420\2\ua480\2\ua4e0\2\ua540\2\ua5a0\2\ua600\2\ua660\2\ua6c0"+
-    "\2\ua720\2\ua780\2\ua7e0\2\ua840\2\ua8a0\2\ua900\2\ua960\2\ua9c0"+
-    "\2\uaa20\2\uaa80\2\uaae0\2\uab40\2\uaba0\2\uac00\2\uac60\2\uacc0"+
-    "\2\uad20\2\uad80\2\uade0\2\uae40\2\uaea0\2\uaf00\2\uaf60\2\uafc0"+
-    "\2\ub020\2\ub080\2\ub0e0\2\ub140\2\ub1a0\2\ub200\2\ub260\2\ub2c0"+
-    "\2\ub320\2\ub380\2\ub3e0\2\ub440\2\ub4a0\2\ub500\2\ub560\2\ub5c0"+
-    "\2\ub620\2\ub680\2\ub6e0\2\ub740\2\ub7a0\2\ub800\2\ub860\2\ub8c0"+
-    "\2\ub920\2\ub980\2\ub9e0\2\uba40\2\ubaa0\2\ubb00\2\ubb60\2\ubbc0"+
-    "\2\ubc20\2\ubc80\2\ubce0\2\ubd40\2\ubda0\2\ube00\2\ube60\2\ubec0"+
-    "\2\ubf20\2\ubf80\2\ubfe0\2\uc040\2\uc0a0\2\uc100\2\uc160\2\uc1c0"+
-    "\2\uc220\2\uc280\2\uc2e0\2\uc340\2\uc3a0\2\uc400\2\uc460\2\uc4c0"+
-    "\2\uc520\2\uc580\2\uc5e0\2\uc640\2\uc6a0\2\uc700\2\uc760\2\uc7c0"+
-    "\2\uc820\0\u0cc0\2\uc880\2\uc8e0\2\uc940\2\uc9a0\2\uca00\0\u0cc0"+
-    "\2\uca60\0\u0cc0\0\u0cc0\2\ucac0\2\ucb20\2\ucb80\2\ucbe0\2\ucc40"+
-    "\2\ucca0\2\ucd00\2\ucd60\2\ucdc0\2\uce20\2\uce80\2\ucee0\2\ucf40"+
-    "\2\ucfa0\2\ud000\2\ud060\2\ud0c0\2\ud120\2\ud180\2\ud1e0\2\ud240"+
-    "\2\ud2a0\2\ud300\2\ud360\2\ud3c0\2\ud420\2\ud480\2\ud4e0\2\ud540"+
-    "\2\ud5a0\2\ud600\2\ud660\2\ud6c0\2\ud720\2\ud780\2\ud7e0\2\ud840"+
-    "\2\ud8a0\2\ud900\2\ud960\2\ud9c0\2\uda20\2\uda80\2\udae0\2\udb40"+
-    "\2\udba0\2\udc00\2\udc60\2\udcc0\2\udd20\2\udd80\2\udde0\2\ude40"+
-    "\2\udea0\2\udf00\2\udf60\2\udfc0\2\ue020\2\ue080\2\ue0e0\2\ue140"+
-    "\2\ue1a0\2\ue200\2\ue260\2\ue2c0\2\ue320\2\ue380\2\ue3e0\2\ue440"+
-    "\2\ue4a0\2\ue500\2\ue560\2\ue5c0\2\ue620\2\ue680\2\ue6e0\2\ue740"+
-    "\2\ue7a0\2\ue800\2\ue860\2\ue8c0\2\ue920\2\ue980\2\ue9e0\2\uea40"+
-    "\2\ueaa0\2\ueb00\2\ueb60\2\ue920\2\uebc0\2\uec20\2\uec80\2\uece0"+
-    "\2\ued40\2\ueda0\2\uee00\2\uee60\2\ueec0\2\uef20\2\uef80\2\uefe0"+
-    "\2\uf040\2\uf0a0\2\uf100\2\uf160\0\u0cc0\2\uf1c0\2\uf220\2\uf280"+
-    "\2\uf2e0\2\uf340\2\uf3a0\2\uf400\2\uf460\2\uf4c0\2\uf520\2\uf580"+
-    "\2\uf5e0\2\uf640\2\uf6a0\2\uf700\2\uf760\2\uf7c0\2\uf820\2\uf880"+
-    "\2\uf8e0\2\uf940\2\uf9a0\2\ufa00\2\ufa60\2\ufac0\2\ufb20\2\ufb80"+
-    "\2\ufbe0\2\ufc40\2\ufca0\2\ufd00\2\udd20\2\ufd60\2\ufdc0\2\ufe20"+
-    "\2\ufe80\2\ufee0\2\uff40\2\uffa0\3\0\3\140\3\300\3\u0120"+
-    "\3\u0180\3\u01e0\3\u0240\3\u02a0\3\u0300\3\u0360\3\u03c0\3\u0420"+
-    "\3\u0480\3\u04e0\3\u0540\3\u05a0\3\u0600\3\u0660\3\u06c0\3\u0720"+
-    "\3\u0780\3\u07e0\3\u0840\3\u08a0\3\u0900\3\u0960\3\u09c0\3\u0a20"+
-    "\3\u0a80\3\u0ae0\3\u0b40\3\u0ba0\3\u0c00\3\u0c60\3\u0cc0\3\u0d20"+
-    "\3\u0d80\3\u0de0\3\u0e40\3\u0ea0\3\u0f00\3\u0f60\3\u0fc0\3\u1020"+
-    "\3\u1080\3\u10e0\3\u1140\3\u11a0\3\u1200\3\u1260\3\u12c0\3\u1320"+
-    "\3\u1380\3\u13e0\3\u1440\3\u14a0\3\u1500\3\u1560\3\u15c0\3\u1620"+
-    "\3\u1680\3\u16e0\3\u1740\3\u17a0\3\u1800\3\u1860\3\u18c0\3\u1920"+
-    "\3\u1980\3\u19e0\3\u1a40\0\u0cc0\3\u1aa0\3\u1b00\3\u1b60\3\u1bc0"+
-    "\3\u1c20\3\u1c80\3\u1ce0\3\u1d40\3\u1da0\3\u1e00\3\u1e60\3\u1ec0"+
-    "\3\u1f20\3\u1f80\3\u1fe0\3\u2040\3\u20a0\3\u2100\3\u2160\3\u21c0"+
-    "\3\u2220\3\u2280\3\u22e0\3\u2340\3\u23a0\3\u2400\3\u2460\3\u24c0"+
-    "\3\u2520\3\u2580\3\u25e0\3\u2640\3\u26a0\3\u2700\3\u2760\3\u27c0"+
-    "\3\u2820\3\u2880\3\u28e0\3\u2940\3\u29a0\3\u2a00\3\u2a60\3\u2ac0"+
-    "\3\u2b20\3\u2b80\3\u2be0\3\u2c40\3\u2ca0\3\u2d00\3\u2d60\3\u2dc0"+
-    "\3\u2e20\3\u2e80\3\u2ee0\3\u2f40\3\u2fa0\3\u3000\3\u3060\3\u30c0"+
-    "\3\u3120\3\u3180\3\u31e0\3\u3240\3\u32a0\3\u3300\3\u3360\3\u33c0"+
-    "\3\u3420\3\u3480\3\u34e0\3\u3540\3\u35a0\3\u3600\3\u3660\2\u9ee0"+
-    "\3\u36c0\3\u3720\3\u3780\3\u37e0\3\u3840\3\u38a0\3\u3900\3\u3960"+
-    "\3\u39c0\3\u3a20\3\u3a80\3\u3ae0\3\u3b40\3\u3ba0\3\u3c00\3\u3c60"+
-    "\3\u3cc0\3\u3d20\3\u3d80\3\u3de0\3\u3e40\3\u3ea0\3\u3f00\3\u3f60"+
-    "\3\u3fc0\3\u4020\3\u4080\3\u40e0\3\u4140\3\u41a0\3\u4200\3\u4260"+
-    "\3\u42c0\3\u4320\3\u4380\3\u43e0\3\u4440\3\u44a0\3\u4500\3\u4560"+
-    "\3\u45c0\3\u4620\3\u4680\3\u46e0\3\u4740\3\u47a0\3\u4800\3\u4860"+
-    "\3\u48c0\3\u4920\3\u4980\3\u49e0\3\u4a40\3\u4aa0\3\u4b00\3\u4b60"+
-    "\3\u4bc0\3\u4c20\3\u4c80\3\u4ce0\3\u4d40\3\u4da0\3\u4e00\3\u4e60"+
-    "\3\u4ec0\3\u4f20\3\u4f80\3\u4fe0\3\u5040\3\u50a0\3\u5100\3\u5160"+
-    "\3\u51c0\3\u5220\3\u5280\3\u52e0\3\u5340\3\u53a0\3\u5400\3\u5460"+
-    "\3\u54c0\3\u5520\3\u5580\3\u55e0\3\u5640\3\u56a0\3\u5700\3\u5760"+
-    "\3\u57c0\3\u5820\3\u5880\3\u58e0\3\u5940\3\u59a0\3\u5a00\3\u5a60"+
-    "\3\u5ac0\3\u5b20\3\u5b80\3\u5be0\3\u5c40\3\u5ca0\3\u5d00\3\u5d60"+
-    "\3\u5dc0\3\u5e20\3\u5e80\3\u5ee0\3\u5f40\3\u5fa0\3\u6000\3\u6060"+
-    "\3\u60c0\3\u6120\3\u6180\3\u61e0\3\u6240\3\u62a0\3\u6300\3\u6360"+
-    "\3\u63c0\3\u6420\3\u6480\3\u64e0\3\u6540\3\u65a0\3\u6600\3\u6660"+
-    "\3\u66c0\3\u6720\3\u6780\3\u67e0\3\u6840\3\u68a0\3\u6900\3\u6960"+
-    "\3\u69c0\3\u6a20\3\u6a80\3\u6ae0\3\u6b40\3\u6ba0\3\u6c00\3\u6c60"+
-    "\3\u6cc0\3\u6d20\3\u6d80\3\u6de0\3\u6e40\3\u6ea0\3\u6f00\3\u6f60"+
-    "\3\u6fc0\3\u7020\3\u7080\3\u70e0\3\u7140\3\u71a0\3\u7200\3\u7260"+
-    "\3\u72c0\3\u7320\3\u7380\3\u73e0\3\u7440\3\u74a0\3\u7500\3\u7560"+
-    "\3\u75c0\3\u7620\3\u7680\3\u76e0\3\u7740\3\u77a0\3\u7800\3\u7860"+
-    "\3\u78c0\3\u7920\3\u7980\3\u79e0\3\u7a40\3\u7aa0\3\u7b00\3\u7b60"+
-    "\3\u7bc0\3\u7c20\3\u7c80\3\u7ce0\3\u7d40\3\u7da0\3\u7e00\3\u7e60"+
-    "\3\u7ec0\3\u7f20\3\u7f80\3\u7fe0\3\u8040\3\u80a0\3\u8100\3\u8160"+
-    "\3\u81c0\3\u8220\3\u8280\3\u82e0\3\u8340\3\u83a0\3\u8400\3\u8460"+
-    "\3\u84c0\3\u8520\3\u8580\3\u85e0\3\u8640\3\u86a0\3\u8700\3\u8760"+
-    "\3\u87c0\3\u8820\3\u8880\3\u88e0\3\u8940\3\u89a0\3\u8a00\3\u8a60"+
-    "\3\u8ac0\3\u8b20\3\u8b80\3\u8be0\3\u8c40\3\u8ca0\3\u8d00\3\u8d60"+
-    "\3\u8dc0\3\u8e20\3\u8e80\3\u8ee0\3\u8f40\3\u8fa0\3\u9000\3\u9060"+
-    "\3\u90c0\3\u9120\3\u9180\3\u91e0\3\u9240\3\u92a0\3\u9300\3\u9360"+
-    "\3\u93c0\3\u9420\3\u9480\3\u94e0\3\u9540\3\u95a0\3\u9600\3\u9660"+
-    "\3\u96c0\3\u9720\3\u9780\3\u97e0\3\u9840\3\u98a0\3\u9900\3\u9960"+
-    "\3\u99c0\3\u9a20\3\u9a80\3\u9ae0\3\u9b40\3\u9ba0\3\u9c00\3\u9c60"+
-    "\3\u9cc0\3\u9d20\3\u9d80\3\u9de0\3\u9e40\3\u9ea0\3\u9f00\3\u9f60"+
-    "\3\u9fc0\3\ua020\3\ua080\3\ua0e0\3\ua140\3\ua1a0\3\ua200\3\ua260"+
-    "\3\ua2c0\3\ua320\3\ua380\3\ua3e0\3\ua440\3\ua4a0\3\ua500\3\ua560"+
-    "\3\ua5c0\3\ua620\3\ua680\3\ua6e0\3\ua740\3\ua7a0\3\ua800\3\ua860"+
-    "\3\ua8c0\3\ua920\3\ua980\3\ua9e0\3\uaa40\3\uaaa0\3\uab00\3\uab60"+
-    "\3\uabc0\3\uac20\3\uac80\3\uace0\3\uad40\3\uada0\3\uae00\3\uae60"+
-    "\3\uaec0\3\uaf20\3\uaf80\3\uafe0\3\ub040\3\ub0a0\3\ub100\3\ub160"+
-    "\3\ub1c0\3\ub220\3\ub280\3\ub2e0\3\ub340\3\ub3a0\3\ub400\3\ub460"+
-    "\3\ub4c0\3\ub520\3\ub580\3\ub5e0\3\ub640\3\ub6a0\3\ub700\3\ub760"+
-    "\3\ub7c0\3\ub820\3\ub880\3\ub8e0\3\ub940\3\ub9a0\3\uba00\3\uba60"+
-    "\3\ubac0\3\ubb20\3\ubb80\3\ubbe0\3\ubc40\3\ubca0\3\ubd00\3\ubd60"+
-    "\3\ubdc0\3\ube20\3\ube80\3\ubee0\3\ubf40\3\ubfa0\3\uc000\3\uc060"+
-    "\3\uc0c0\3\uc120\3\uc180\3\uc1e0\3\uc240\3\uc2a0\3\uc300\3\uc360"+
-    "\3\uc3c0\3\uc420\3\uc480\3\uc4e0\3\uc540\3\uc5a0\3\uc600\3\uc660"+
-    "\3\uc6c0\3\uc720\3\uc780\3\uc7e0\3\uc840\3\uc8a0\3\uc900\3\uc960"+
-    "\3\uc9c0\3\uca20\3\uca80\3\ucae0\3\ucb40\3\ucba0\3\ucc00\3\ucc60"+
-    "\3\uccc0\3\ucd20\3\ucd80\3\ucde0";
-
-  private static int [] zzUnpackRowMap() {
-    int [] result = new int[2748];
-    int offset = 0;
-    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
-    return result;
-  }
+    /** Translates a state to a row index in the transition table */
+    static final int [] ZZ_ROWMAP = TABLES.getRowMap();
 
-  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
-    int i = 0;  /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int high = packed.charAt(i++) << 16;
-      result[j++] = high | packed.charAt(i++);
-    }
-    return j;
-  }
+    /** The transition table of the DFA */
+    static final short [] ZZ_TRANS = TABLES.getTrans();
 
-  /**
-   * The transition table of the DFA
-   */
-  private static final int [] ZZ_TRANS = zzUnpackTrans();
-
-  private static final String ZZ_TRANS_PACKED_0 =
-    "\1\41\1\42\1\43\1\44\1\45\1\46\132\41\2\47"+
-    "\1\50\33\47\1\51\5\47\1\52\33\47\1\53\7\47"+
-    "\1\54\27\47\2\55\1\56\64\55\1\57\50\55\2\60"+
-    "\1\61\16\60\1\62\116\60\2\63\1\0\1\64\1\65"+
-    "\2\63\1\66\1\67\1\70\1\71\6\63\1\72\116\63"+
-    "\2\73\1\0\1\73\1\74\2\73\4\74\1\75\1\76"+
-    "\1\77\1\100\1\101\1\102\1\74\1\73\1\103\1\104"+
-    "\6\73\1\105\4\73\1\106\1\77\1\102\1\107\1\110"+
-    "\5\73\2\111\1\73\1\110\2\73\1\104\1\105\1\103"+
-    "\1\75\11\73\1\112\1\73\1\76\1\113\1\114\1\100"+
-    "\1\73\1\101\1\73\1\115\1\114\1\73\1\116\1\117"+
-    "\4\73\1\112\1\107\1\115\1\106\1\73\1\117\1\120"+
-    "\1\116\1\113\3\73\1\120\4\73\3\121\1\122\4\121"+
-    "\1\123\127\121\3\124\1\122\5\124\1\123\126\124\1\63"+
-    "\1\125\1\0\1\64\1\45\2\63\1\66\1\126\1\127"+
-    "\1\130\6\63\1\131\116\63\3\121\1\122\4\121\1\132"+
-    "\127\121\3\124\1\122\5\124\1\132\126\124\2\63\1\0"+
-    "\1\63\1\65\2\63\1\66\1\133\1\134\1\130\6\63"+
-    "\1\135\116\63\10\136\1\137\127\136\11\140\1\137\126\140"+
-    "\1\141\1\45\1\142\1\143\1\45\1\144\1\145\1\146"+
-    "\1\147\1\150\1\151\3\152\1\153\2\152\1\154\3\152"+
-    "\2\146\1\152\1\155\1\156\1\155\1\152\1\155\1\152"+
-    "\1\157\1\141\1\160\1\161\1\162\1\163\1\164\1\155"+
-    "\1\165\1\141\1\152\1\146\1\152\1\166\2\152\1\167"+
-    "\1\170\1\171\1\172\1\173\1\174\1\175\1\145\1\146"+
-    "\3\66\1\176\1\177\1\141\2\152\1\200\1\152\1\201"+
-    "\1\202\1\203\1\204\3\152\1\205\1\206\1\152\4\175"+
-    "\1\152\1\207\7\152\1\155\5\152\2\155\2\210\1\211"+
-    "\5\210\1\212\26\210\1\213\100\210\2\214\1\215\6\214"+
-    "\1\216\25\214\1\217\100\214\2\220\1\221\1\222\40\220"+
-    "\1\223\4\220\1\224\26\220\1\225\7\220\1\226\27\220"+
-    "\2\227\1\230\1\231\40\227\1\232\33\227\1\233\7\227"+
-    "\1\234\27\227\2\47\1\235\33\47\1\236\5\47\1\237"+
-    "\33\47\1\240\7\47\1\241\27\47\2\242\1\243\1\244"+
-    "\40\242\1\245\4\242\1\246\22\242\1\247\3\242\1\250"+
-    "\7\242\1\251\4\242\1\252\22\242\1\253\1\45\1\254"+
-    "\1\255\1\45\1\144\1\145\1\146\1\256\1\257\1\260"+
-    "\1\261\1\262\1\263\1\264\1\265\1\266\1\154\1\267"+
-    "\1\270\1\271\1\272\1\146\1\267\1\273\1\274\1\273"+
-    "\1\275\1\273\1\267\1\157\1\253\1\267\1\276\1\277"+
-    "\1\300\1\301\1\273\1\165\1\253\1\267\1\146\1\302"+
-    "\1\303\1\267\1\304\1\167\1\170\1\305\1\306\1\307"+
-    "\1\310\1\175\1\145\1\146\3\66\1\176\1\253\1\311"+
-    "\2\267\1\312\1\267\1\313\1\314\1\315\1\316\2\267"+
-    "\1\317\1\320\1\321\1\267\4\175\1\322\1\323\1\324"+
-    "\1\325\1\326\1\267\1\327\1\330\1\331\1\273\4\267"+
-    "\1\332\2\273\2\333\1\334\41\333\1\223\4\333\1\335"+
-    "\26\333\1\225\7\333\1\226\27\333\1\336\1\337\1\0"+
-    "\1\336\1\45\2\336\1\66\1\340\1\341\1\342\6\336"+
-    "\1\343\3\336\1\344\14\336\1\345\37\336\1\346\1\336"+
-    "\1\347\33\336\1\350\1\65\1\351\1\352\1\65\1\350"+
-    "\1\175\1\66\1\353\1\354\1\355\6\356\1\66\3\356"+
-    "\2\350\1\356\3\350\1\356\1\350\2\356\1\350\5\356"+
-    "\2\350\1\357\1\66\5\356\1\66\5\356\1\350\1\145"+
-    "\1\66\1\350\1\360\2\66\1\350\1\361\16\356\2\175"+
-    "\1\362\1\175\11\356\1\350\5\356\2\350\1\363\1\65"+
-    "\1\364\1\365\1\65\5\363\1\366\6\367\1\363\3\367"+
-    "\2\363\1\367\3\363\1\367\1\363\2\367\1\363\5\367"+
-    "\4\363\1\370\4\367\2\363\4\367\1\371\3\363\1\372"+
-    "\4\363\16\367\2\363\1\373\1\363\11\367\1\363\5\367"+
-    "\2\363\1\374\1\65\1\375\1\376\1\65\1\374\1\377"+
-    "\1\374\1\353\1\354\1\u0100\6\u0101\1\374\3\u0101\1\374"+
-    "\1\u0102\1\u0101\3\u0103\1\u0101\1\u0103\1\u0101\1\u0104\6\u0101"+
-    "\1\u0103\1\374\1\u0105\2\374\4\u0101\1\374\1\145\4\u0101"+
-    "\1\371\1\145\7\374\16\u0101\1\374\1\u0106\1\374\1\u0107"+
-    "\11\u0101\1\u0103\5\u0101\2\u0103\2\210\1\u0108\5\210\1\u0109"+
-    "\26\210\1\u010a\100\210\2\214\1\u010b\6\214\1\u010c\25\214"+
-    "\1\u010a\100\214\2\333\1\u010d\41\333\1\223\4\333\1\u010e"+
-    "\26\333\1\225\7\333\1\226\27\333\2\u010f\1\u0110\34\u010f"+
-    "\1\u0111\10\u010f\1\u0112\22\u010f\1\u0113\44\u010f\2\u0114\1\u0115"+
-    "\45\u0114\1\u0116\13\u0114\1\u0117\53\u0114\2\41\4\0\133\41"+
-    "\1\42\2\0\1\45\1\0\132\41\152\0\1\u0118\1\u0119"+
-    "\5\u011a\1\0\3\u011a\1\u011b\1\u011c\6\u011a\3\0\6\u011a"+
-    "\4\0\4\u011a\2\0\3\u011a\1\u0119\3\0\1\u011d\5\0"+
-    "\16\u011a\4\0\21\u011a\1\0\1\45\2\0\1\45\133\0"+
-    "\4\46\1\0\1\46\1\u011e\131\46\2\47\1\0\33\47"+
-    "\1\0\5\47\1\0\33\47\1\0\7\47\1\0\27\47"+
-    "\36\0\1\u011f\143\0\1\u0120\37\0\1\u0121\77\0\1\u0122"+
-    "\205\0\1\u0123\27\0\2\55\1\0\64\55\1\0\50\55"+
-    "\21\0\1\u0124\116\0\2\60\1\0\16\60\1\0\116\60"+
-    "\2\63\1\0\1\63\1\0\2\63\4\0\6\63\1\0"+
-    "\120\63\1\0\1\63\1\0\2\63\4\0\6\63\1\0"+
-    "\3\63\1\u0125\112\63\21\0\1\72\116\0\2\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\120\73\1\0"+
-    "\1\73\1\0\2\73\4\0\1\73\1\u0126\2\73\1\u0127"+
-    "\1\u0128\1\0\2\73\1\u0129\6\73\1\u012a\4\73\1\u012b"+
-    "\1\73\1\u0128\15\73\1\u0129\1\u012a\13\73\1\u012c\1\73"+
-    "\1\u0126\4\73\1\u0127\1\73\1\u012d\10\73\1\u012c\1\73"+
-    "\1\u012d\1\u012b\17\73\1\0\1\73\1\0\2\73\4\0"+
-    "\3\73\1\u012e\2\73\1\0\2\73\1\u012f\6\73\1\u0130"+
-    "\24\73\1\u012f\1\u0130\13\73\1\u0131\4\73\1\u012e\14\73"+
-    "\1\u0131\22\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\16\73\1\u0132\61\73\1\u0132\17\73\1\0\1\73"+
-    "\1\0\2\73\4\0\1\u0133\5\73\1\0\1\73\1\u0134"+
-    "\17\73\1\u0135\1\u0136\10\73\1\u0136\4\73\1\u0134\1\u0133"+
-    "\22\73\1\u0137\11\73\1\u0135\1\u0137\20\73\1\0\1\73"+
-    "\1\0\2\73\4\0\2\73\1\u0138\3\73\1\0\1\73"+
-    "\1\u0139\7\73\1\u013a\5\73\1\u0138\17\73\1\u013a\1\u0139"+
-    "\57\73\1\0\1\73\1\0\2\73\4\0\2\73\1\120"+
-    "\1\u013b\1\73\1\120\1\0\2\73\1\u013c\6\73\1\u013d"+
-    "\5\73\2\120\1\73\1\u013e\5\73\2\u013f\1\73\1\u013e"+
-    "\2\73\1\u013c\1\u013d\16\73\1\u0140\1\120\1\u013b\4\73"+
-    "\1\120\17\73\1\u0140\12\73\1\0\1\73\1\0\2\73"+
-    "\4\0\3\73\1\u0141\2\73\1\0\2\73\1\u0142\6\73"+
-    "\1\u0143\24\73\1\u0142\1\u0143\20\73\1\u0141\37\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\64\73\1\u0144"+
-    "\2\73\1\u0145\7\73\1\u0144\4\73\1\u0145\13\73\1\0"+
-    "\1\73\1\0\2\73\4\0\1\u0146\1\u0147\1\u0148\1\73"+
-    "\1\u0149\1\73\1\0\16\73\1\u014a\1\u0148\10\73\2\u014b"+
-    "\7\73\1\u0146\13\73\1\u0147\1\73\1\u014c\2\73\1\u0149"+
-    "\2\73\1\u014c\12\73\1\u014a\17\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\1\73\1\120\36\73\1\120"+
-    "\57\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\2\73\1\u014d\6\73\1\u014e\24\73\1\u014d\1\u014e\13\73"+
-    "\1\u014f\21\73\1\u014f\22\73\1\0\1\73\1\0\2\73"+
-    "\4\0\2\73\1\u0150\1\u0151\2\73\1\0\17\73\1\u0150"+
-    "\33\73\1\u0152\4\73\1\u0151\14\73\1\u0152\22\73\1\0"+
-    "\1\73\1\0\2\73\4\0\2\73\1\120\1\u0137\2\73"+
-    "\1\0\1\73\1\u0153\7\73\1\u0154\4\73\1\u0155\1\120"+
-    "\17\73\1\u0154\1\u0153\12\73\1\u0156\3\73\1\u0157\1\u0137"+
-    "\1\u0158\3\73\1\u0157\7\73\1\u0156\2\73\1\u0155\1\u0158"+
-    "\16\73\1\0\1\73\1\0\2\73\4\0\4\73\1\u0159"+
-    "\1\73\1\0\1\73\1\120\14\73\1\u015a\11\73\2\u015b"+
-    "\6\73\1\120\21\73\1\u0159\15\73\1\u015a\17\73\1\0"+
-    "\1\73\1\0\2\73\4\0\2\73\1\120\2\73\1\u015c"+
-    "\1\0\2\73\1\u015d\5\73\1\120\6\73\1\120\1\u015c"+
-    "\2\73\1\120\12\73\1\u015d\47\73\1\120\5\73\2\120"+
-    "\2\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u015e"+
-    "\1\73\1\120\1\0\1\73\1\120\1\u015f\6\73\1\u0160"+
-    "\6\73\1\120\1\73\1\u0161\10\73\1\u0161\2\73\1\u015f"+
-    "\1\u0160\1\120\16\73\1\120\1\u015e\4\73\1\120\32\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73"+
-    "\1\u0162\6\73\1\u0163\4\73\1\u0164\17\73\1\u0162\1\u0163"+
-    "\40\73\1\u0164\17\73\1\0\1\73\1\0\2\73\4\0"+
-    "\3\73\1\u0165\2\73\1\0\11\73\1\u0166\25\73\1\u0166"+
-    "\20\73\1\u0165\37\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\2\73\1\u0167\25\73\2\u0168\4\73\1\u0167"+
-    "\57\73\3\121\1\0\4\121\1\0\127\121\25\0\1\u0169"+
-    "\112\0\3\124\1\0\5\124\1\0\126\124\1\63\1\125"+
-    "\1\0\1\63\1\45\2\63\4\0\6\63\1\0\116\63"+
-    "\21\0\1\u016a\116\0\10\136\1\0\127\136\11\140\1\0"+
-    "\126\140\1\141\12\0\6\141\1\0\3\141\2\0\7\141"+
-    "\1\0\7\141\1\0\2\141\1\0\4\141\2\0\4\141"+
-    "\10\0\17\141\4\0\21\141\3\0\1\u016b\3\0\1\66"+
-    "\2\0\1\u016c\12\0\1\u016d\117\0\1\66\1\0\1\66"+
-    "\137\0\1\66\130\0\7\u016e\1\u016f\2\u016e\1\u0170\24\u016e"+
-    "\1\u0171\11\u016e\1\u0172\66\u016e\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\3\152\1\u0174\2\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\7\0\1\66\11\0\1\u0175\116\0\1\u0176"+
-    "\12\0\6\u0176\1\0\1\u0176\1\u0177\1\u0178\2\0\1\u0176"+
-    "\3\155\1\u0176\1\155\1\u0179\1\0\5\u0176\1\u017a\1\155"+
-    "\1\0\2\u0176\1\0\3\u0176\1\u017a\1\0\1\u017b\1\u0178"+
-    "\1\u0176\1\u0177\1\u0176\10\0\5\u0176\1\u017a\5\u0176\1\u017a"+
-    "\3\u0176\4\0\11\u0176\1\155\5\u0176\2\155\1\u0176\12\0"+
-    "\6\u0176\1\0\1\u0176\1\u0177\1\u0178\2\0\1\u0176\1\u017c"+
-    "\2\u017d\1\u0176\1\u017d\1\u017e\1\0\5\u0176\1\u017a\1\u017d"+
-    "\1\0\2\u0176\1\0\2\u0176\1\u017f\1\u017a\1\0\1\u017b"+
-    "\1\u0178\1\u0176\1\u0177\1\u0176\10\0\5\u0176\1\u017a\3\u0176"+
-    "\1\u017f\1\u0176\1\u017a\3\u0176\4\0\11\u0176\1\u017d\5\u0176"+
-    "\2\u017d\7\0\1\66\26\0\1\66\101\0\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152"+
-    "\1\u0180\2\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\1\u0181\3\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\1\152\1\u0182"+
-    "\4\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\1\152\1\u0183\1\152\1\u0184\12\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\1\u0185\5\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\u0186\1\u0187\2\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\1\u0188\5\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\1\152\1\u0189\1\u018a\1\152\10\0"+
-    "\1\141\1\u018b\4\152\1\u018c\10\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\1\152\1\u018d\4\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\1\u018e\1\u018f\14\152\4\0"+
-    "\21\152\7\0\1\66\46\0\1\66\111\0\3\u017b\1\0"+
-    "\1\u017b\10\0\1\u017b\62\0\1\u017b\5\0\2\u017b\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\3\152\1\u0190\2\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\152\1\u0191\1\u0192\1\u0193\10\0\1\141\10\152"+
-    "\1\u0194\3\152\1\u0195\1\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\1\152\1\u0196\2\152\2\0"+
-    "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\1\u0197\3\152"+
-    "\10\0\1\141\1\u0198\15\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\1\u0199"+
-    "\1\152\1\u019a\3\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\1\152\1\u019b\1\152\1\u019c"+
-    "\7\152\1\u019d\2\152\4\0\21\152\7\0\1\66\62\0"+
-    "\1\66\45\0\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\152\1\u019e\1\u019f\1\152\10\0\1\141"+
-    "\1\u01a0\2\152\1\u01a1\12\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\1\u01a2\3\152"+
-    "\10\0\1\141\1\u01a3\15\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152"+
-    "\1\u01a4\1\u01a5\1\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\3\152\1\u01a6\10\0\1\141\11\152\1\u01a7\4\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\1\u01a8\15\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\1\u01a9\1\u01aa\4\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\1\152\1\u01ab\2\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\3\152\1\u01ac"+
-    "\1\152\1\u01ad\10\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\1\152\1\u018b\2\152"+
-    "\10\0\1\141\1\u01ae\15\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\1\152\1\u01af"+
-    "\2\152\10\0\1\141\16\152\4\0\21\152\2\210\1\0"+
-    "\5\210\1\0\26\210\1\0\100\210\2\u01b0\1\0\35\u01b0"+
-    "\1\u01b1\44\u01b0\1\u01b2\32\u01b0\2\214\1\0\6\214\1\0"+
-    "\25\214\1\0\100\214\2\220\2\0\40\220\1\0\4\220"+
-    "\1\0\26\220\1\0\7\220\1\0\27\220\12\0\1\u01b3"+
-    "\167\0\1\u01b4\37\0\1\u01b5\47\0\1\u01b6\167\0\1\u01b7"+
-    "\205\0\1\u01b8\27\0\2\227\2\0\40\227\1\0\33\227"+
-    "\1\0\7\227\1\0\27\227\12\0\1\u01b9\167\0\1\u01ba"+
-    "\37\0\1\u01bb\77\0\1\u01bc\205\0\1\u01bd\65\0\1\u01be"+
-    "\143\0\1\u01bf\37\0\1\u01c0\77\0\1\u01c1\205\0\1\u01c2"+
-    "\27\0\2\242\2\0\40\242\1\0\4\242\1\0\22\242"+
-    "\1\0\3\242\1\0\7\242\1\0\4\242\1\0\22\242"+
-    "\12\0\1\u01c3\6\u01c4\1\u01c5\3\u01c4\2\0\1\u01c4\3\0"+
-    "\1\u01c4\4\0\5\u01c4\5\0\4\u01c4\2\0\4\u01c4\11\0"+
-    "\16\u01c4\4\0\11\u01c4\1\0\5\u01c4\44\0\1\u01c6\37\0"+
-    "\1\u01c7\47\0\1\u01c8\166\0\1\u01c9\1\u01ca\15\0\1\u01cb"+
-    "\1\u01cc\1\0\1\u01cd\11\0\1\u01ce\1\0\1\u01cf\1\0"+
-    "\1\u01d0\1\u01d1\1\0\1\u01d2\4\0\1\u01d3\70\0\1\u01d4"+
-    "\205\0\1\u01d5\123\0\1\u01d6\43\0\1\253\12\0\6\253"+
-    "\1\0\3\253\2\0\7\253\1\0\7\253\1\0\2\253"+
-    "\1\0\4\253\2\0\4\253\7\0\20\253\4\0\21\253"+
-    "\3\0\1\u016b\3\0\1\66\130\0\2\256\1\u01d7\5\256"+
-    "\1\u01d8\26\256\1\u01d9\100\256\2\u01da\1\u01db\6\u01da\1\u01dc"+
-    "\25\u01da\1\u01dd\100\u01da\7\0\1\66\2\0\1\u01de\36\0"+
-    "\1\u01df\66\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u01e1\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u01e2\3\267\7\0\2\253"+
-    "\1\u01e3\1\u01e4\1\u01e5\1\u01e6\1\267\1\u01e7\1\267\1\u01e8"+
-    "\6\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u01e9\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u01ea\1\u01eb\1\267"+
-    "\7\0\2\253\1\u01ec\2\267\1\u01ed\12\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u01ee\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u01ef\1\u01f0\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u01f1\1\u01f2\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u01f3\1\267\7\0"+
-    "\2\253\4\267\1\u01f4\11\267\4\0\1\u01f5\20\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\u01f6\1\u01f7\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u01f8\2\267\7\0\2\253\5\267\1\u01f9"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u01fa\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u01fb\1\u01fc\1\267\1\u01fd\1\267\1\u01fe\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u01ff\4\267\1\u0200\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0201\1\267\1\u0202\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\10\267"+
-    "\1\u0203\1\u0204\2\267\1\u0205\1\267\4\0\1\u0206\20\267"+
-    "\7\0\1\66\11\0\1\u0207\116\0\1\u0208\12\0\6\u0208"+
-    "\1\0\1\u0208\1\u0209\1\u020a\2\0\1\u0208\3\273\1\u0208"+
-    "\1\273\1\u020b\1\0\5\u0208\1\u020c\1\273\1\0\2\u0208"+
-    "\1\0\3\u0208\1\u020c\1\0\1\u017b\1\u020a\1\u0208\1\u0209"+
-    "\1\u0208\7\0\1\253\5\u0208\1\u020c\5\u0208\1\u020c\3\u0208"+
-    "\4\0\11\u0208\1\273\5\u0208\2\273\1\u0208\12\0\6\u0208"+
-    "\1\0\1\u0208\1\u0209\1\u020a\2\0\1\u0208\1\u020d\2\u020e"+
-    "\1\u0208\1\u020e\1\u020f\1\0\5\u0208\1\u020c\1\u020e\1\0"+
-    "\2\u0208\1\0\2\u0210\1\u0211\1\u020c\1\0\1\u017b\1\u020a"+
-    "\1\u0208\1\u0209\1\u0208\7\0\1\253\5\u0208\1\u020c\3\u0208"+
-    "\1\u0211\1\u0208\1\u020c\3\u0208\4\0\11\u0208\1\u020e\5\u0208"+
-    "\2\u020e\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\u0212\1\u0213\4\267\1\0\1\253\1\267"+
-    "\1\0\1\267\1\u0214\2\267\2\0\3\267\1\u0215\7\0"+
-    "\2\253\7\267\1\u0216\6\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u0217\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u0218"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\3\267\1\u0219\12\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\u021a\5\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u021b\1\u021c\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u021d\1\u021e\1\267\7\0\2\253\1\u021f\4\267"+
-    "\1\u0220\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u0221\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u0222\2\267"+
-    "\7\0\2\253\1\u0223\1\u0224\3\267\1\u0225\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0226\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u0227\1\u0228"+
-    "\14\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u0229\1\267\7\0\2\253"+
-    "\1\u022a\4\267\1\u022b\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267"+
-    "\1\u022c\2\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\2\267\1\u022d\1\267\7\0\2\253\10\267\1\u022e\5\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\1\267\1\u022f\2\267\2\0\3\267\1\u0230\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u0231\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\u0232\1\267\1\u0233\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\267\1\u0234\1\267\1\u0235\7\267\1\u0236\2\267\4\0"+
-    "\21\267\1\253\12\0\6\u0237\1\0\3\u0237\2\0\1\u0237"+
-    "\3\253\1\u0237\1\253\1\u0237\1\0\1\253\5\u0237\1\253"+
-    "\1\0\1\253\1\u0237\1\0\4\u0237\2\0\4\u0237\7\0"+
-    "\2\253\16\u0237\4\0\11\u0237\1\253\5\u0237\3\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0238"+
-    "\1\u0239\1\267\7\0\2\253\1\u023a\2\267\1\u023b\12\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u023c\3\267\7\0\2\253\1\u023d\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u023e\1\u023f\1\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\11\267\1\u0240\4\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u0241\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u0242\1\u0243\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0244"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u0245"+
-    "\5\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0246"+
-    "\1\u0247\2\267\7\0\2\253\1\u0248\4\267\1\u0249\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\3\267\1\u024a\12\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u024b\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\u024c\5\267\1\0\1\253\1\267\1\0"+
-    "\1\267\1\u024d\2\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u024e\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u024f\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0250\1\u0251\2\267"+
-    "\7\0\2\253\1\u0252\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0253"+
-    "\2\267\7\0\2\253\5\267\1\u0254\10\267\4\0\21\267"+
-    "\1\253\12\0\5\267\1\u0255\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u0256\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\3\267\1\u0257\15\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0258\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u0259\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u025a\3\267\7\0\2\253\1\u025b\4\267"+
-    "\1\u025c\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u025d\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u025e\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u025f\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\2\333\1\0\41\333"+
-    "\1\0\4\333\1\0\26\333\1\0\7\333\1\0\27\333"+
-    "\12\0\1\u0260\125\0\2\336\1\0\1\336\1\0\2\336"+
-    "\4\0\6\336\1\0\117\336\1\337\1\0\1\336\1\45"+
-    "\2\336\4\0\6\336\1\0\116\336\10\340\1\u01d8\127\340"+
-    "\11\341\1\u0261\126\341\2\336\1\0\1\336\1\0\2\336"+
-    "\4\0\6\336\1\72\120\336\1\0\1\336\1\0\2\336"+
-    "\4\0\6\336\1\0\37\336\1\u0262\60\336\1\0\1\336"+
-    "\1\0\2\336\4\0\6\336\1\0\21\336\1\u0263\76\336"+
-    "\1\0\1\336\1\0\2\336\4\0\6\336\1\0\37\336"+
-    "\1\u0264\56\336\12\0\1\u0265\176\0\1\u0266\101\0\6\356"+
-    "\1\0\3\356\2\0\10\356\1\0\6\356\4\0\4\356"+
-    "\1\0\5\356\11\0\16\356\4\0\21\356\13\0\6\u0267"+
-    "\1\0\3\u0267\2\0\1\u0267\3\0\1\u0267\1\0\2\u0267"+
-    "\1\0\5\u0267\4\0\5\u0267\1\0\5\u0267\11\0\16\u0267"+
-    "\4\0\11\u0267\1\0\5\u0267\43\0\1\u0268\1\u0269\1\u026a"+
-    "\1\u026b\13\0\1\u026c\1\u026d\1\u026e\5\0\1\u026f\4\0"+
-    "\1\u0270\1\0\1\u0271\1\u0272\1\u0273\7\0\1\u0274\41\0"+
-    "\6\u0275\1\0\3\u0275\2\0\1\u0275\3\0\1\u0275\1\0"+
-    "\2\u0275\1\0\5\u0275\4\0\5\u0275\1\0\5\u0275\11\0"+
-    "\16\u0275\4\0\11\u0275\1\0\5\u0275\15\0\6\367\1\0"+
-    "\3\367\2\0\10\367\1\0\6\367\4\0\4\367\2\0"+
-    "\4\367\11\0\16\367\4\0\21\367\13\0\6\367\1\0"+
-    "\3\367\2\0\1\367\3\0\1\367\1\0\2\367\1\0"+
-    "\5\367\5\0\4\367\2\0\4\367\11\0\16\367\4\0"+
-    "\11\367\1\0\5\367\14\0\7\u0101\1\0\3\u0101\2\0"+
-    "\1\u0101\3\0\1\u0101\1\0\10\u0101\4\0\1\u0266\4\u0101"+
-    "\2\0\4\u0101\11\0\16\u0101\3\0\1\u0107\11\u0101\1\0"+
-    "\5\u0101\14\0\7\u0101\1\0\3\u0101\2\0\1\u0101\3\0"+
-    "\1\u0101\1\0\10\u0101\5\0\4\u0101\2\0\4\u0101\11\0"+
-    "\16\u0101\3\0\1\u0107\11\u0101\1\0\5\u0101\104\0\1\u0276"+
-    "\62\0\1\u0277\2\0\3\u0103\1\0\1\u0103\10\0\1\u0103"+
-    "\11\0\1\u0103\1\u0278\2\0\1\u0277\13\0\1\u0279\2\0"+
-    "\1\u027a\1\0\1\u027b\1\0\1\u027c\21\0\1\u0103\5\0"+
-    "\2\u0103\12\0\7\u0101\1\0\3\u0101\2\0\1\u0101\3\u0103"+
-    "\1\u0101\1\u0103\10\u0101\1\u0103\4\0\4\u0101\2\0\4\u0101"+
-    "\11\0\16\u0101\3\0\1\u0107\11\u0101\1\u0103\5\u0101\2\u0103"+
-    "\14\0\1\u027d\7\0\1\u027d\3\0\5\u027d\7\0\2\u027d"+
-    "\4\0\2\u027d\1\0\1\u027d\2\0\2\u027d\15\0\1\u027d"+
-    "\1\0\1\u027d\5\0\1\u027d\20\0\1\u027d\5\0\2\u027d"+
-    "\2\u027e\1\0\135\u027e\12\0\1\u027f\125\0\2\u010f\1\0"+
-    "\34\u010f\1\0\10\u010f\1\0\22\u010f\1\0\44\u010f\115\0"+
-    "\1\u0280\22\0\2\u0114\1\0\45\u0114\1\0\13\u0114\1\0"+
-    "\53\u0114\115\0\1\u0281\35\0\6\u0282\1\0\3\u0282\2\0"+
-    "\6\u0282\3\0\6\u0282\4\0\4\u0282\2\0\4\u0282\11\0"+
-    "\16\u0282\4\0\21\u0282\13\0\1\u011a\1\u0283\3\u011a\1\u0284"+
-    "\1\0\3\u011a\2\0\6\u011a\3\0\2\u011a\1\u0284\3\u011a"+
-    "\4\0\4\u011a\2\0\4\u011a\11\0\2\u011a\1\u0283\13\u011a"+
-    "\4\0\21\u011a\13\0\6\u011a\1\0\3\u011a\2\0\6\u011a"+
-    "\3\0\6\u011a\4\0\4\u011a\2\0\4\u011a\11\0\16\u011a"+
-    "\4\0\21\u011a\7\0\1\u0285\16\0\1\u0285\7\0\1\u0286"+
-    "\35\0\1\u0287\101\0\1\u0288\122\0\1\u0289\222\0\1\u028a"+
-    "\115\0\1\u028b\117\0\1\u028c\205\0\1\u028d\27\0\2\63"+
-    "\1\0\1\63\1\0\2\63\1\u0285\3\0\6\63\1\0"+
-    "\4\63\1\u028e\111\63\2\73\1\0\1\73\1\0\2\73"+
-    "\4\0\2\73\1\u028f\3\73\1\0\17\73\1\u028f\100\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\11\73"+
-    "\1\u0290\25\73\1\u0290\60\73\1\0\1\73\1\0\2\73"+
-    "\4\0\2\73\1\u0291\3\73\1\0\1\u0132\16\73\1\u0291"+
-    "\34\73\1\u0132\43\73\1\0\1\73\1\0\2\73\4\0"+
-    "\1\73\1\u0292\1\u0293\3\73\1\0\1\73\1\u0294\15\73"+
-    "\1\u0293\20\73\1\u0294\14\73\1\u0292\42\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\64\73\1\u0295\12\73"+
-    "\1\u0295\20\73\1\0\1\73\1\0\2\73\4\0\4\73"+
-    "\1\120\1\73\1\0\30\73\2\120\30\73\1\120\35\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\16\73"+
-    "\1\u0296\61\73\1\u0296\17\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\11\73\1\u0297\25\73\1\u0297\60\73"+
-    "\1\0\1\73\1\0\2\73\4\0\5\73\1\u0298\1\0"+
-    "\20\73\1\u0298\77\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\21\73\1\u0299\54\73\1\u0299\21\73\1\0"+
-    "\1\73\1\0\2\73\4\0\4\73\1\u0292\1\73\1\0"+
-    "\21\73\1\u029a\40\73\1\u0292\13\73\1\u029a\21\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\1\73\1\u029b"+
-    "\36\73\1\u029b\16\73\1\u0298\4\73\1\u029c\1\u0298\11\73"+
-    "\1\u029c\20\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\1\73\1\u0298\36\73\1\u0298\57\73\1\0\1\73"+
-    "\1\0\2\73\4\0\3\73\1\u029d\2\73\1\0\60\73"+
-    "\1\u029d\37\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\11\73\1\u029e\25\73\1\u029e\60\73\1\0\1\73"+
-    "\1\0\2\73\4\0\1\120\3\73\1\u029f\1\73\1\0"+
-    "\41\73\1\120\20\73\1\u029f\35\73\1\0\1\73\1\0"+
-    "\2\73\4\0\2\73\1\u02a0\3\73\1\0\17\73\1\u02a0"+
-    "\100\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\61\73\1\120\17\73\1\120\16\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\2\73\1\120\33\73\1\120"+
-    "\14\73\1\u02a1\21\73\1\u02a1\22\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\11\73\1\u02a2\25\73\1\u02a2"+
-    "\60\73\1\0\1\73\1\0\2\73\4\0\2\73\1\u02a3"+
-    "\3\73\1\0\17\73\1\u02a3\100\73\1\0\1\73\1\0"+
-    "\2\73\4\0\5\73\1\u0132\1\0\20\73\1\u0132\43\73"+
-    "\1\u0298\12\73\1\u0298\20\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\32\73\1\u02a4\30\73\1\u02a4\34\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\30\73"+
-    "\2\u0132\66\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\53\73\1\u02a5\21\73\1\u02a5\22\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\53\73\1\u0156\21\73"+
-    "\1\u0156\22\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\2\73\1\u02a6\33\73\1\u02a6\61\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\21\73\1\u02a7\54\73"+
-    "\1\u02a7\21\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\61\73\1\u02a8\17\73\1\u02a8\16\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\1\u02a9\27\73\2\u02aa"+
-    "\22\73\1\u02a9\43\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\30\73\2\u02ab\66\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\2\73\1\u02ac\33\73\1\u02ac"+
-    "\61\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u02ad"+
-    "\2\73\1\0\60\73\1\u02ad\37\73\1\0\1\73\1\0"+
-    "\2\73\4\0\2\73\1\u02ae\3\73\1\0\17\73\1\u02ae"+
-    "\100\73\1\0\1\73\1\0\2\73\4\0\5\73\1\u02af"+
-    "\1\0\2\73\1\u02b0\15\73\1\u02af\15\73\1\u02b0\61\73"+
-    "\1\0\1\73\1\0\2\73\4\0\4\73\1\u02b1\1\73"+
-    "\1\0\62\73\1\u02b1\35\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\57\73\1\u02b2\5\73\1\u02b2\32\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\30\73"+
-    "\2\u0166\66\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\57\73\1\u02b3\5\73\1\u02b3\32\73\1\0\1\73"+
-    "\1\0\2\73\4\0\1\u02b4\5\73\1\0\41\73\1\u02b4"+
-    "\56\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\67\73\1\120\14\73\1\120\13\73\1\0\1\73\1\0"+
-    "\2\73\4\0\1\u02b5\5\73\1\0\1\73\1\u0134\1\u02b6"+
-    "\17\73\1\u02b7\5\73\2\u0166\1\73\1\u02b7\2\73\1\u02b6"+
-    "\1\73\1\u0134\1\u02b5\56\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\11\73\1\u02b8\25\73\1\u02b8\60\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73"+
-    "\1\u02b9\33\73\1\u02b9\22\73\1\u02ba\17\73\1\u02ba\16\73"+
-    "\1\0\1\73\1\0\2\73\4\0\2\73\1\u02bb\3\73"+
-    "\1\0\17\73\1\u02bb\1\73\1\u02b4\31\73\1\u0299\21\73"+
-    "\1\u0299\1\u02b4\21\73\1\0\1\73\1\0\2\73\4\0"+
-    "\3\73\1\u02bc\2\73\1\0\53\73\1\u02bd\4\73\1\u02bc"+
-    "\14\73\1\u02bd\22\73\1\0\1\73\1\0\2\73\4\0"+
-    "\1\u02be\5\73\1\0\41\73\1\u02be\56\73\1\0\1\73"+
-    "\1\0\2\73\4\0\5\73\1\u02bf\1\0\20\73\1\u02bf"+
-    "\77\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\57\73\1\u02c0\5\73\1\u02c0\32\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\53\73\1\120\21\73\1\120"+
-    "\22\73\1\0\1\73\1\0\2\73\4\0\1\u02c1\5\73"+
-    "\1\0\41\73\1\u02c1\56\73\1\0\1\73\1\0\2\73"+
-    "\4\0\5\73\1\u02c2\1\0\20\73\1\u02c2\77\73\1\0"+
-    "\1\73\1\0\2\73\4\0\5\73\1\u02c3\1\0\20\73"+
-    "\1\u02c3\77\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\107\73\1\u0294\2\73\1\u0294\5\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\64\73\1\u02c4\12\73"+
-    "\1\u02c4\20\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\11\73\1\u02c5\25\73\1\u02c5\60\73\1\0\1\73"+
-    "\1\0\2\73\4\0\2\73\1\120\3\73\1\0\11\73"+
-    "\1\u02c6\5\73\1\120\17\73\1\u02c6\27\73\1\120\14\73"+
-    "\1\120\13\73\1\0\1\73\1\0\2\73\4\0\5\73"+
-    "\1\u02c7\1\0\1\73\1\120\16\73\1\u02c7\17\73\1\120"+
-    "\57\73\1\0\1\73\1\0\2\73\4\0\5\73\1\u02c8"+
-    "\1\0\20\73\1\u02c8\77\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\21\73\1\120\54\73\1\120\21\73"+
-    "\1\0\1\73\1\0\2\73\4\0\5\73\1\u02c9\1\0"+
-    "\20\73\1\u02c9\1\u02ca\54\73\1\u02ca\21\73\1\0\1\73"+
-    "\1\0\2\73\4\0\2\73\1\u02cb\1\73\1\120\1\73"+
-    "\1\0\17\73\1\u02cb\42\73\1\120\35\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\1\73\1\u02cc\36\73"+
-    "\1\u02cc\57\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\57\73\1\u02cd\5\73\1\u02cd\32\73\1\0\1\73"+
-    "\1\0\2\73\4\0\2\73\1\120\3\73\1\0\17\73"+
-    "\1\120\100\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\1\u02ce\53\73\1\u02ce\43\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\57\73\1\120\5\73\1\120"+
-    "\30\73\7\0\1\u02cf\16\0\1\u02cf\124\0\1\u02d0\47\0"+
-    "\1\u02d0\63\0\1\u0285\16\0\1\u0285\111\0\12\u016e\1\u02d1"+
-    "\24\u016e\1\u0171\102\u016e\1\0\135\u016e\51\0\1\u02d2\66\0"+
-    "\1\141\12\0\6\141\1\0\3\141\2\0\7\141\1\0"+
-    "\1\141\1\u02d3\5\141\1\0\2\141\1\0\4\141\2\0"+
-    "\4\141\10\0\17\141\4\0\22\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\4\152\1\u02d4\1\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\7\0\1\66\11\0\1\146"+
-    "\116\0\1\u0176\12\0\6\u0176\1\0\3\u0176\2\0\7\u0176"+
-    "\1\0\7\u0176\1\0\2\u0176\1\0\4\u0176\2\0\4\u0176"+
-    "\10\0\17\u0176\4\0\22\u0176\12\0\6\u0176\1\0\3\u0176"+
-    "\2\0\1\u0176\3\u02d5\1\u0176\1\u02d5\1\u0176\1\u02d6\6\u0176"+
-    "\1\u02d5\1\0\2\u0176\1\0\4\u0176\1\u02d6\1\0\4\u0176"+
-    "\10\0\17\u0176\4\0\11\u0176\1\u02d5\5\u0176\2\u02d5\1\u0176"+
-    "\12\0\6\u0176\1\0\3\u0176\2\0\1\u0176\3\u02d7\1\u0176"+
-    "\1\u02d7\1\u0179\1\0\6\u0176\1\u02d7\1\0\2\u0176\1\0"+
-    "\4\u0176\2\0\4\u0176\10\0\17\u0176\4\0\11\u0176\1\u02d7"+
-    "\5\u0176\2\u02d7\1\u0176\12\0\6\u0176\1\0\2\u0176\1\u0178"+
-    "\2\0\1\u0176\3\u017b\1\u0176\1\u017b\1\u0176\1\0\5\u0176"+
-    "\1\u017a\1\u017b\1\0\2\u0176\1\0\3\u0176\1\u017a\2\0"+
-    "\1\u0178\3\u0176\10\0\5\u0176\1\u017a\5\u0176\1\u017a\3\u0176"+
-    "\4\0\11\u0176\1\u017b\5\u0176\2\u017b\1\u0176\12\0\6\u0176"+
-    "\1\0\2\u0176\1\u0178\2\0\1\u0176\3\u017c\1\u0176\1\u017c"+
-    "\1\u0176\1\0\5\u0176\1\u017a\1\u017c\1\0\2\u0176\1\0"+
-    "\3\u0176\1\u017a\1\0\1\u017b\1\u0178\3\u0176\10\0\5\u0176"+
-    "\1\u017a\5\u0176\1\u017a\3\u0176\4\0\11\u0176\1\u017c\5\u0176"+
-    "\2\u017c\1\u0176\12\0\6\u0176\1\0\1\u0176\1\u02d8\1\u0178"+
-    "\2\0\1\u0176\1\u017c\2\u017d\1\u0176\1\u017d\1\u017e\1\0"+
-    "\5\u0176\1\u017a\1\u017d\1\0\2\u0176\1\0\3\u0176\1\u017a"+
-    "\1\0\1\u017b\1\u0178\1\u0176\1\u02d8\1\u0176\10\0\5\u0176"+
-    "\1\u017a\5\u0176\1\u017a\3\u0176\4\0\11\u0176\1\u017d\5\u0176"+
-    "\2\u017d\1\u0176\12\0\6\u0176\1\0\3\u0176\2\0\2\u0176"+
-    "\2\u02d9\1\u0176\1\u02d9\1\u017e\1\0\6\u0176\1\u02d9\1\0"+
-    "\2\u0176\1\0\4\u0176\2\0\4\u0176\10\0\17\u0176\4\0"+
-    "\11\u0176\1\u02d9\5\u0176\2\u02d9\1\u0176\12\0\1\u0176\1\u02da"+
-    "\4\u0176\1\0\2\u0176\1\u02da\2\0\1\u0176\5\u02da\1\u0176"+
-    "\1\0\5\u0176\2\u02da\1\0\2\u0176\1\0\2\u02da\1\u0176"+
-    "\1\u02da\2\0\2\u02da\2\u0176\10\0\3\u0176\1\u02da\1\u0176"+
-    "\1\u02da\5\u0176\1\u02da\3\u0176\4\0\11\u0176\1\u02da\5\u0176"+
-    "\2\u02da\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\u02db\3\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\2\152\1\u02dc\3\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\1\u02dd\5\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\152\1\u02de\2\152\10\0\1\141\1\152\1\u01a5"+
-    "\14\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\7\152\1\u02df"+
-    "\6\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\1\152\1\u02e0\4\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\5\152\1\u02e1\10\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\2\152\1\u02e2\1\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\13\152\1\u01a5\2\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u02e3"+
-    "\3\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152\1\u02e4"+
-    "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\2\152\1\u02e5\1\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\1\u02e6\15\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\1\152\1\u01a5\4\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\3\152\1\u02e7\2\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\1\u02e8\3\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\1\u02e9\15\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\2\152\1\u02ea\3\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\1\u02eb\5\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\2\152\1\u02ec\13\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\3\152\1\u02ed\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\2\152\1\u02ee\13\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\2\152\1\u02ef\3\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\7\152\1\u02f0\6\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\152\1\u02f1\2\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\3\152\1\u02f2\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\2\152\1\u02f3\3\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\3\152\1\u02f4\2\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\7\152\1\u02f5\6\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\152\1\u02f6\2\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\3\152\1\u02f7\2\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\1\u02f8\15\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\5\152\1\u02f9\10\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\2\152\1\u02fa\3\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\3\152\1\u02ed\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\152\1\u02fb\2\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\3\152\1\u02fc\2\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\152\1\u02fd\2\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\4\152\1\u02fe\1\152\1\0\1\141\1\152"+
-    "\1\0\1\152\1\u02ff\2\152\2\0\2\152\1\u0300\1\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\1\u0301\5\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u0302\3\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\3\152\1\u0303"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\3\152\1\u0304\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\1\152\1\u0305\17\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\7\152\1\u0306\6\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\2\152"+
-    "\1\u0307\3\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\1\152\1\u0308\2\152\2\0"+
-    "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\1\u0309\4\152\1\u030a\10\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\1\152\1\u030b\4\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\2\152\1\u030c\13\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\5\152\1\u030d\10\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\2\152\1\u030e\3\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\2\152\1\u030f\1\152\10\0\1\141\5\152\1\u0310"+
-    "\10\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\16\152\4\0"+
-    "\1\152\1\u01a5\17\152\14\0\1\u0311\7\0\1\u0311\3\0"+
-    "\5\u0311\7\0\2\u0311\4\0\2\u0311\1\0\1\u0311\2\0"+
-    "\2\u0311\15\0\1\u0311\1\0\1\u0311\5\0\1\u0311\20\0"+
-    "\1\u0311\5\0\2\u0311\14\0\1\u0312\7\0\1\u0312\3\0"+
-    "\5\u0312\7\0\2\u0312\4\0\2\u0312\1\0\1\u0312\2\0"+
-    "\2\u0312\15\0\1\u0312\1\0\1\u0312\5\0\1\u0312\20\0"+
-    "\1\u0312\5\0\2\u0312\13\0\1\u0313\47\0\1\u0313\160\0"+
-    "\1\u0314\115\0\1\u0315\117\0\1\u0316\205\0\1\u0317\42\0"+
-    "\1\u0318\47\0\1\u0318\160\0\1\u0319\115\0\1\u031a\117\0"+
-    "\1\u031b\205\0\1\u031c\54\0\1\u031d\216\0\1\u031e\115\0"+
-    "\1\u031f\117\0\1\u0320\205\0\1\u0321\42\0\6\u01c4\1\u01c5"+
-    "\3\u01c4\2\0\1\u01c4\3\0\1\u01c4\4\0\5\u01c4\5\0"+
-    "\4\u01c4\2\0\4\u01c4\11\0\16\u01c4\4\0\11\u01c4\1\0"+
-    "\5\u01c4\2\0\21\u01c4\1\u01c5\116\u01c4\104\0\1\u0322\115\0"+
-    "\1\u0323\135\0\1\u0324\117\0\1\u0325\34\0\1\u0326\2\0"+
-    "\1\u0327\144\0\1\u0328\72\0\1\u0329\157\0\1\u032a\21\0"+
-    "\1\u032b\110\0\1\u032c\145\0\1\u032d\136\0\1\u032e\122\0"+
-    "\1\u032f\155\0\1\u0330\136\0\1\u0331\121\0\1\u0332\205\0"+
-    "\1\u0333\111\0\1\u0334\14\0\1\u0335\1\0\1\u0336\1\u0337"+
-    "\6\0\1\u0338\26\0\10\u01d7\1\u0339\26\u01d7\1\u033a\102\u01d7"+
-    "\1\u033b\5\u01d7\1\u033c\1\256\17\u01d7\2\256\1\u01d7\1\256"+
-    "\2\u01d7\1\256\1\u033d\5\256\5\u01d7\1\256\54\u01d7\1\256"+
-    "\5\u01d7\2\256\2\u033e\1\u033f\6\u033e\1\u0261\126\u033e\11\u033f"+
-    "\1\u0261\126\u033f\2\u033e\1\u033f\5\u033e\1\u01da\1\u0340\17\u033e"+
-    "\2\u0341\1\u033e\1\u0342\2\u033e\1\u01da\1\u0343\4\u01da\1\u0341"+
-    "\5\u033e\1\u01da\54\u033e\1\u0342\5\u033e\2\u0342\2\u01de\1\0"+
-    "\135\u01de\51\0\1\u0344\66\0\1\253\12\0\6\253\1\0"+
-    "\3\253\2\0\7\253\1\0\1\253\1\u0345\5\253\1\0"+
-    "\2\253\1\0\4\253\2\0\4\253\7\0\20\253\4\0"+
-    "\22\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0346\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u0347\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u0348\1\u0349\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\2\267\1\u034a\13\267\4\0\14\267\1\u034b\4\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u034c\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u034d\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u034e\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u034f\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u0350\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u0351\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u0352\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0353\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u0354\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u0355\2\267\7\0\2\253\1\u0356\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u0357\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\2\267\1\u0358\1\267\7\0\2\253\11\267"+
-    "\1\u0359\4\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u035a\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u035b\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u035c\1\267\1\u035d"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u035e"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u035f\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0360\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u0361"+
-    "\7\0\2\253\2\267\1\u0362\1\u0363\1\u0364\2\267\1\u0365"+
-    "\4\267\1\u0366\1\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u0367\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0368\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\2\267\1\u0369\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\3\267\1\u036a\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u036b\4\267\1\u036c"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u036d"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\7\267\1\u036e"+
-    "\6\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u036f\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u0370\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\7\267\1\u0371\6\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0372\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u0373\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u0374\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u0375"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u0376\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u0377\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u0378\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u0379\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u037a\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\2\267\1\u037b\13\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\7\267\1\u037c\6\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u037d\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\3\267\1\u037e\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\u0208\12\0\6\u0208\1\0\3\u0208"+
-    "\2\0\7\u0208\1\0\7\u0208\1\0\2\u0208\1\0\4\u0208"+
-    "\2\0\4\u0208\7\0\1\253\17\u0208\4\0\22\u0208\12\0"+
-    "\6\u0208\1\0\3\u0208\2\0\1\u0208\3\u037f\1\u0208\1\u037f"+
-    "\1\u0208\1\u02d6\6\u0208\1\u037f\1\0\2\u0208\1\0\4\u0208"+
-    "\1\u02d6\1\0\4\u0208\7\0\1\253\17\u0208\4\0\11\u0208"+
-    "\1\u037f\5\u0208\2\u037f\1\u0208\12\0\6\u0208\1\0\3\u0208"+
-    "\2\0\1\u0208\3\u0380\1\u0208\1\u0380\1\u020b\1\0\6\u0208"+
-    "\1\u0380\1\0\2\u0208\1\0\4\u0208\2\0\4\u0208\7\0"+
-    "\1\253\17\u0208\4\0\11\u0208\1\u0380\5\u0208\2\u0380\1\u0208"+
-    "\12\0\6\u0208\1\0\2\u0208\1\u020a\2\0\1\u0208\3\u020d"+
-    "\1\u0208\1\u020d\1\u0208\1\0\5\u0208\1\u020c\1\u020d\1\0"+
-    "\2\u0208\1\0\3\u0208\1\u020c\1\0\1\u017b\1\u020a\3\u0208"+
-    "\7\0\1\253\5\u0208\1\u020c\5\u0208\1\u020c\3\u0208\4\0"+
-    "\11\u0208\1\u020d\5\u0208\2\u020d\1\u0208\12\0\6\u0208\1\0"+
-    "\1\u0208\1\u0381\1\u020a\2\0\1\u0208\1\u020d\2\u020e\1\u0208"+
-    "\1\u020e\1\u020f\1\0\5\u0208\1\u020c\1\u020e\1\0\2\u0208"+
-    "\1\0\3\u0208\1\u020c\1\0\1\u017b\1\u020a\1\u0208\1\u0381"+
-    "\1\u0208\7\0\1\253\5\u0208\1\u020c\5\u0208\1\u020c\3\u0208"+
-    "\4\0\11\u0208\1\u020e\5\u0208\2\u020e\1\u0208\12\0\6\u0208"+
-    "\1\0\3\u0208\2\0\2\u0208\2\u0382\1\u0208\1\u0382\1\u020f"+
-    "\1\0\6\u0208\1\u0382\1\0\2\u0208\1\0\4\u0208\2\0"+
-    "\4\u0208\7\0\1\253\17\u0208\4\0\11\u0208\1\u0382\5\u0208"+
-    "\2\u0382\1\u0208\12\0\6\u0208\1\0\3\u0208\2\0\2\u0208"+
-    "\2\u0383\3\u0208\1\0\7\u0208\1\0\2\u0208\1\0\4\u0208"+
-    "\2\0\4\u0208\7\0\1\253\17\u0208\4\0\22\u0208\12\0"+
-    "\1\u0208\1\u0384\4\u0208\1\0\2\u0208\1\u0384\2\0\1\u0208"+
-    "\5\u0384\1\u0208\1\0\5\u0208\2\u0384\1\0\2\u0208\1\0"+
-    "\2\u0384\1\u0208\1\u0384\2\0\2\u0384\2\u0208\7\0\1\253"+
-    "\3\u0208\1\u0384\1\u0208\1\u0384\5\u0208\1\u0384\3\u0208\4\0"+
-    "\11\u0208\1\u0384\5\u0208\2\u0384\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0385\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u0386\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u0387\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u0388"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u0389\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u038a\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u038b\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u038c\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u038d\2\267"+
-    "\7\0\2\253\1\267\1\u023f\14\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u038e\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u038f\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u0390\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\13\267\1\u023f\2\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u0391\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u0392\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u0393\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u023f\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u0394\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\4\267\1\u0395\1\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u0396\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u0397\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u0398\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u0399\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u039a\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u039b\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u039c\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u039d\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u039e\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u039f\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u03a0\1\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u03a1\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\3\267\1\u03a2\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u03a3\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u03a4\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u03a5\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u03a6\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\7\267\1\u03a7\6\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u03a8\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u03a9\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u03aa\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u03ab\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u03ac\10\267\4\0"+
-    "\21\267\1\253\12\0\6\u0237\1\0\3\u0237\2\0\7\u0237"+
-    "\1\0\1\u03ad\6\u0237\1\0\1\253\1\u0237\1\0\4\u0237"+
-    "\2\0\4\u0237\7\0\2\253\16\u0237\4\0\21\u0237\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u03ae\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u03a2\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u03af\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u03b0\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u03b1\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\4\267\1\u03b2\1\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u03b3\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u03b4\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u03b5\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\7\267\1\u03b6\6\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u03b7\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267\1\u03b8"+
-    "\2\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u03b9\4\267\1\u03ba\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u03bb\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\7\267\1\u03bc\6\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\14\267\1\u03bd"+
-    "\4\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u03be\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\u03bf\5\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u03c0\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u03c1\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\2\267\1\u03c2\1\267\7\0\2\253\5\267\1\u03c3\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u03c4\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u03c5\7\0\2\253\16\267\4\0"+
-    "\15\267\1\u03c6\3\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u03c7\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u03c8\1\267\7\0\2\253"+
-    "\11\267\1\u03c9\4\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\6\267\1\u03ca\7\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\14\267\1\u03cb\1\267\4\0\21\267\1\253\12\0\1\u03cc"+
-    "\1\u03cd\4\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u03ce\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u03cf\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\7\267\1\u03d0\6\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u03d1\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\3\267\1\u03d2"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u03d3\7\0\2\253\2\267\1\u03d4\12\267\1\u03d5\4\0"+
-    "\21\267\1\253\12\0\3\267\1\u03d6\2\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u03d7\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u03bd\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u03d8\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u03d9\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u03da\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u03db\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u03dc\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u03dd\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u03de\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\2\336\1\0\1\336\1\0\2\336\4\0\6\336\1\0"+
-    "\61\336\1\u03df\36\336\1\0\1\336\1\0\2\336\4\0"+
-    "\6\336\1\0\55\336\1\u03e0\42\336\1\0\1\336\1\0"+
-    "\2\336\4\0\6\336\1\0\61\336\1\u03e1\34\336\13\0"+
-    "\1\u03e2\47\0\1\u03e2\67\0\6\u0267\1\0\3\u0267\2\0"+
-    "\10\u0267\1\0\6\u0267\4\0\4\u0267\1\0\5\u0267\11\0"+
-    "\16\u0267\4\0\21\u0267\75\0\1\u03e3\123\0\1\u03e4\120\0"+
-    "\1\u03e5\32\0\1\u03e6\137\0\1\u03e7\4\0\1\u03e8\100\0"+
-    "\1\u03e9\42\0\1\u03ea\130\0\1\u03eb\121\0\1\u03ec\20\0"+
-    "\1\u03ed\101\0\1\u03ee\6\0\1\u03ef\5\0\1\u03f0\121\0"+
-    "\1\u03f1\174\0\1\u03f2\134\0\1\u03f3\144\0\1\u03f4\137\0"+
-    "\1\u03f5\50\0\6\u0275\1\0\3\u0275\2\0\10\u0275\1\0"+
-    "\6\u0275\4\0\4\u0275\1\0\5\u0275\11\0\16\u0275\4\0"+
-    "\21\u0275\106\0\1\u03f6\136\0\2\u0277\137\0\1\u0277\74\0"+
-    "\1\u0277\136\0\1\u0277\34\0\1\u0277\5\0\1\u0277\115\0"+
-    "\1\u0277\22\0\1\u0277\44\0\2\u011a\1\u03f7\3\u011a\1\0"+
-    "\3\u011a\2\0\6\u011a\3\0\1\u011a\1\u03f7\4\u011a\4\0"+
-    "\4\u011a\2\0\4\u011a\11\0\16\u011a\4\0\21\u011a\13\0"+
-    "\6\u011a\1\0\1\u03f8\2\u011a\2\0\6\u011a\3\0\6\u011a"+
-    "\4\0\4\u011a\2\0\4\u011a\11\0\1\u011a\1\u03f8\14\u011a"+
-    "\4\0\21\u011a\36\0\1\u03f9\137\0\1\u03fa\171\0\1\u03fb"+
-    "\127\0\1\u028a\163\0\1\u03fc\112\0\1\u03fd\60\0\2\73"+
-    "\1\0\1\73\1\0\2\73\4\0\3\73\1\u03fe\2\73"+
-    "\1\0\60\73\1\u03fe\37\73\1\0\1\73\1\0\2\73"+
-    "\4\0\1\73\1\u02a9\4\73\1\0\21\73\1\120\33\73"+
-    "\1\u02a9\20\73\1\120\21\73\1\0\1\73\1\0\2\73"+
-    "\4\0\3\73\1\u03ff\2\73\1\0\53\73\1\u0400\4\73"+
-    "\1\u03ff\14\73\1\u0400\22\73\1\0\1\73\1\0\2\73"+
-    "\4\0\5\73\1\u0401\1\0\20\73\1\u0401\77\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\67\73\1\u02a9"+
-    "\14\73\1\u02a9\13\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\2\73\1\u0402\33\73\1\u0402\61\73\1\0"+
-    "\1\73\1\0\2\73\4\0\4\73\1\120\1\73\1\0"+
-    "\62\73\1\120\35\73\1\0\1\73\1\0\2\73\4\0"+
-    "\2\73\1\u0403\3\73\1\0\17\73\1\u0403\100\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\1\73\1\u02c4"+
-    "\36\73\1\u02c4\57\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\2\73\1\120\33\73\1\120\61\73\1\0"+
-    "\1\73\1\0\2\73\4\0\5\73\1\u02a9\1\0\20\73"+
-    "\1\u02a9\77\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\67\73\1\u0404\14\73\1\u0404\13\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\61\73\1\u0405\17\73"+
-    "\1\u0405\16\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\64\73\1\u0406\12\73\1\u0406\20\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\21\73\1\u0407\54\73"+
-    "\1\u0407\21\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\1\u02a9\53\73\1\u02a9\43\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\16\73\1\u02b4\61\73\1\u02b4"+
-    "\17\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\11\73\1\u0408\25\73\1\u0408\60\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\61\73\1\u02b3\17\73\1\u02b3"+
-    "\16\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u0409"+
-    "\2\73\1\0\60\73\1\u0409\37\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\11\73\1\u02bb\25\73\1\u02bb"+
-    "\60\73\1\0\1\73\1\0\2\73\4\0\5\73\1\u040a"+
-    "\1\0\20\73\1\u040a\77\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\53\73\1\u02b4\21\73\1\u02b4\22\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\11\73"+
-    "\1\u0168\25\73\1\u0168\60\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\70\73\1\120\11\73\1\120\15\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73"+
-    "\1\u040b\33\73\1\u040b\61\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\2\73\1\u0166\33\73\1\u0166\61\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73"+
-    "\1\u02c4\33\73\1\u02c4\61\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\2\73\1\u0168\33\73\1\u0168\61\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\21\73"+
-    "\1\u040c\54\73\1\u040c\21\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\57\73\1\u0298\5\73\1\u0298\32\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\53\73"+
-    "\1\u040d\21\73\1\u040d\22\73\1\0\1\73\1\0\2\73"+
-    "\4\0\3\73\1\u040e\2\73\1\0\60\73\1\u040e\37\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\11\73"+
-    "\1\120\25\73\1\120\60\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\1\73\1\u040f\36\73\1\u040f\57\73"+
-    "\1\0\1\73\1\0\2\73\4\0\3\73\1\u0157\2\73"+
-    "\1\0\60\73\1\u0157\37\73\1\0\1\73\1\0\2\73"+
-    "\4\0\2\73\1\u0410\3\73\1\0\17\73\1\u0410\100\73"+
-    "\1\0\1\73\1\0\2\73\4\0\5\73\1\120\1\0"+
-    "\20\73\1\120\77\73\1\0\1\73\1\0\2\73\4\0"+
-    "\1\73\1\u0126\4\73\1\0\55\73\1\u0126\42\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\64\73\1\u0411"+
-    "\12\73\1\u0411\20\73\1\0\1\73\1\0\2\73\4\0"+
-    "\2\73\1\u0412\3\73\1\0\17\73\1\u0412\100\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\64\73\1\u0413"+
-    "\12\73\1\u0413\20\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\1\73\1\u0414\36\73\1\u0414\57\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\16\73\1\u0415"+
-    "\61\73\1\u0415\17\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\64\73\1\120\12\73\1\120\20\73\1\0"+
-    "\1\73\1\0\2\73\4\0\1\73\1\u0416\4\73\1\0"+
-    "\55\73\1\u0416\42\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\2\73\1\u0417\33\73\1\u0417\61\73\1\0"+
-    "\1\73\1\0\2\73\4\0\5\73\1\u0418\1\0\20\73"+
-    "\1\u0418\77\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\1\120\53\73\1\120\43\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\53\73\1\u0419\21\73\1\u0419"+
-    "\22\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u0418"+
-    "\2\73\1\0\60\73\1\u0418\1\u0405\17\73\1\u0405\16\73"+
-    "\1\0\1\73\1\0\2\73\4\0\4\73\1\u029f\1\73"+
-    "\1\0\62\73\1\u029f\35\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\57\73\1\u041a\5\73\1\u041a\32\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\1\73"+
-    "\1\u041b\36\73\1\u041b\57\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\11\73\1\u041c\25\73\1\u041c\60\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\11\73"+
-    "\1\u041d\25\73\1\u041d\60\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\2\73\1\u0166\6\73\1\120\24\73"+
-    "\1\u0166\1\120\60\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\16\73\1\120\61\73\1\120\17\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\70\73\1\120"+
-    "\11\73\1\120\1\u041e\5\73\1\u041e\6\73\1\0\1\73"+
-    "\1\0\2\73\4\0\5\73\1\u041f\1\0\20\73\1\u041f"+
-    "\77\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\2\73\1\u0157\33\73\1\u0157\61\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\61\73\1\u0420\17\73\1\u0420"+
-    "\14\73\14\0\1\u0421\62\0\1\u0421\142\0\2\u02d1\2\0"+
-    "\1\u02d1\43\0\1\u0422\125\0\1\141\12\0\1\141\1\u0423"+
-    "\4\141\1\0\2\141\1\u0423\2\0\1\141\5\u0423\1\141"+
-    "\1\0\5\141\2\u0423\1\0\2\141\1\0\2\u0423\1\141"+
-    "\1\u0423\2\0\2\u0423\2\141\10\0\3\141\1\u0423\1\141"+
-    "\1\u0423\5\141\1\u0423\3\141\4\0\11\141\1\u0423\5\141"+
-    "\2\u0423\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\5\152\1\u0424\10\152\4\0"+
-    "\21\152\1\u0176\12\0\6\u0176\1\0\3\u0176\2\0\1\u0176"+
-    "\3\u02d5\1\u0176\1\u02d5\1\u0176\1\0\5\u0176\1\u017a\1\u02d5"+
-    "\1\0\2\u0176\1\0\3\u0176\1\u017a\2\0\4\u0176\10\0"+
-    "\5\u0176\1\u017a\5\u0176\1\u017a\3\u0176\4\0\11\u0176\1\u02d5"+
-    "\5\u0176\2\u02d5\30\0\3\u02d5\1\0\1\u02d5\10\0\1\u02d5"+
-    "\62\0\1\u02d5\5\0\2\u02d5\1\u0176\12\0\6\u0176\1\0"+
-    "\1\u0176\1\u0177\1\u0176\2\0\1\u0176\3\u02d7\1\u0176\1\u02d7"+
-    "\1\u0179\1\0\6\u0176\1\u02d7\1\0\2\u0176\1\0\4\u0176"+
-    "\2\0\2\u0176\1\u0177\1\u0176\10\0\17\u0176\4\0\11\u0176"+
-    "\1\u02d7\5\u0176\2\u02d7\1\u0176\12\0\6\u0176\1\0\1\u0176"+
-    "\1\u02d8\1\u0176\2\0\2\u0176\2\u02d9\1\u0176\1\u02d9\1\u017e"+
-    "\1\0\6\u0176\1\u02d9\1\0\2\u0176\1\0\4\u0176\2\0"+
-    "\2\u0176\1\u02d8\1\u0176\10\0\17\u0176\4\0\11\u0176\1\u02d9"+
-    "\5\u0176\2\u02d9\1\u0176\12\0\1\u0176\1\u02da\4\u0176\1\0"+
-    "\1\u0176\1\u02d8\1\u02da\2\0\1\u0176\5\u02da\1\u0425\1\0"+
-    "\5\u0176\2\u02da\1\0\2\u0176\1\0\2\u02da\1\u0176\1\u02da"+
-    "\2\0\2\u02da\1\u02d8\1\u0176\10\0\3\u0176\1\u02da\1\u0176"+
-    "\1\u02da\5\u0176\1\u02da\3\u0176\4\0\11\u0176\1\u02da\5\u0176"+
-    "\2\u02da\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\3\152\1\u0193\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\1\u0426\5\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\u0427"+
-    "\3\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152"+
-    "\1\u0428\2\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\1\u0429\3\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\1\u042a\15\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\3\152\1\u01a5\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\2\152\1\u01a5\1\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\5\152\1\u042b"+
-    "\10\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\2\152\1\u042c"+
-    "\13\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\3\152\1\u02dd\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\152\1\u042d\2\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\152\1\u042e\2\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\152\1\u042f\2\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\2\152\1\u0430\1\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\u0431\3\152\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\11\152\1\u01a5\4\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\3\152\1\u0432\12\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\u01a5\3\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\1\152\1\u0433\2\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\1\u0434\3\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\1\u0435\15\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\2\152\1\u0436"+
-    "\1\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\2\152"+
-    "\1\u0437\3\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\6\152\1\u0431\7\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\1\u018b\3\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u0438"+
-    "\3\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\2\152\1\u0439\13\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\1\152\1\u042d"+
-    "\4\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u02fa"+
-    "\3\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\2\152\1\u030e\13\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\3\152\1\u02e1\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u043a\3\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\3\152\1\u043b"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\1\152\1\u0431"+
-    "\4\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\1\152\1\u043c\2\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\1\u043d\5\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\1\u043e\3\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\1\152\1\u043f\2\152\2\0\4\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\1\u0440\3\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\2\152\1\u0441\3\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\5\152\1\u0442\10\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\152\1\u0443\2\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\2\152\1\u0444\1\152\10\0\1\141\1\u0435"+
-    "\15\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\1\u01a5\15\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\2\152\1\u0438\1\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\2\152\1\u0445\3\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\14\152\1\u0446\1\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\3\152\1\u0447\10\0\1\141\16\152\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\15\152\1\u0448\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\2\152\1\u02ed\1\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\3\152\1\u01a5\12\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\1\152\1\u0449\2\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\4\152\1\u01a5\11\152\4\0\21\152"+
-    "\14\0\1\u044a\7\0\1\u044a\3\0\5\u044a\7\0\2\u044a"+
-    "\4\0\2\u044a\1\0\1\u044a\2\0\2\u044a\15\0\1\u044a"+
-    "\1\0\1\u044a\5\0\1\u044a\20\0\1\u044a\5\0\2\u044a"+
-    "\14\0\1\u044b\7\0\1\u044b\3\0\5\u044b\7\0\2\u044b"+
-    "\4\0\2\u044b\1\0\1\u044b\2\0\2\u044b\15\0\1\u044b"+
-    "\1\0\1\u044b\5\0\1\u044b\20\0\1\u044b\5\0\2\u044b"+
-    "\14\0\1\u044c\62\0\1\u044c\130\0\1\u044d\127\0\1\u0314"+
-    "\163\0\1\u044e\112\0\1\u044f\74\0\1\u0450\62\0\1\u0450"+
-    "\130\0\1\u0451\127\0\1\u0319\163\0\1\u0452\112\0\1\u0453"+
-    "\101\0\1\u0454\206\0\1\u0455\127\0\1\u031e\163\0\1\u0456"+
-    "\112\0\1\u0457\150\0\1\u0458\127\0\1\u0322\121\0\1\u0459"+
-    "\137\0\1\u045a\176\0\1\u045b\77\0\1\u045c\157\0\1\u045d"+
-    "\15\0\1\u045e\102\0\1\u045f\136\0\1\u0460\16\0\1\u0461"+
-    "\122\0\1\u0462\157\0\1\u0463\116\0\1\u0464\201\0\1\u0465"+
-    "\75\0\1\u0466\36\0\1\u0467\77\0\1\u0468\137\0\1\u0469"+
-    "\202\0\1\u046a\112\0\1\u046b\162\0\1\u046c\132\0\1\u046d"+
-    "\137\0\1\u046e\105\0\1\u046f\155\0\1\u0470\56\0\2\u01d7"+
-    "\1\u033b\5\u01d7\1\u0471\127\u01d7\10\u033b\1\u0339\127\u033b\2\u033c"+
-    "\1\u0471\5\u033c\1\u01d8\26\u033c\1\u0472\100\u033c\10\u01d7\1\u0339"+
-    "\3\u01d7\1\u0473\7\u01d7\1\u0473\3\u01d7\5\u0473\2\u01d7\1\u033a"+
-    "\4\u01d7\2\u0473\4\u01d7\2\u0473\1\u01d7\1\u0473\2\u01d7\2\u0473"+
-    "\15\u01d7\1\u0473\1\u01d7\1\u0473\5\u01d7\1\u0473\20\u01d7\1\u0473"+
-    "\5\u01d7\2\u0473\2\u033e\1\u033f\6\u033e\1\u01dc\126\u033e\11\u033f"+
-    "\1\u01dc\126\u033f\11\0\1\u0261\126\0\2\u033e\1\u033f\6\u033e"+
-    "\1\u0261\17\u033e\2\u0342\1\u033e\1\u0342\10\u033e\1\u0342\62\u033e"+
-    "\1\u0342\5\u033e\2\u0342\2\u033e\1\u033f\6\u033e\1\u0261\17\u033e"+
-    "\2\u01da\1\u033e\1\u01da\10\u033e\1\u01da\62\u033e\1\u01da\5\u033e"+
-    "\2\u01da\2\u033e\1\u033f\6\u033e\1\u01dc\2\u033e\1\u0474\7\u033e"+
-    "\1\u0474\3\u033e\5\u0474\7\u033e\2\u0474\4\u033e\2\u0474\1\u033e"+
-    "\1\u0474\2\u033e\2\u0474\15\u033e\1\u0474\1\u033e\1\u0474\5\u033e"+
-    "\1\u0474\20\u033e\1\u0474\5\u033e\2\u0474\1\253\12\0\1\253"+
-    "\1\u0475\4\253\1\0\2\253\1\u0475\2\0\1\253\5\u0475"+
-    "\1\253\1\0\5\253\2\u0475\1\0\2\253\1\0\2\u0475"+
-    "\1\253\1\u0475\2\0\2\u0475\2\253\7\0\4\253\1\u0475"+
-    "\1\253\1\u0475\5\253\1\u0475\3\253\4\0\11\253\1\u0475"+
-    "\5\253\2\u0475\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u0476\3\267\7\0\2\253\5\267\1\u0477"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u0478"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0479"+
-    "\6\267\1\u047a\1\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u047b\5\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u047c\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u047d\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u047e"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u047f\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u0480\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0481\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\7\267\1\u0482"+
-    "\6\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0483"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0484\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u0485\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u0486\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u0487\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\3\267\1\u0488\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u0489\7\0\2\253\2\267\1\u048a"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u048b\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\7\267\1\u048c"+
-    "\6\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u048d\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u048e\1\u048f\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\4\267"+
-    "\1\u0490\11\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\1\u0491"+
-    "\15\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\4\267\1\u0492"+
-    "\11\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0493\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\1\u0494\5\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0495\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u0496\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u0497\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u0498\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u0499\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u049a\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u049b\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\4\267\1\u049c\1\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u049d\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u049e\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0201\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\10\267\1\u049f\5\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\3\267\1\u04a0\12\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\2\267\1\u04a1\4\267"+
-    "\1\u04a2\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u04a3\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u04a4\10\267\1\u04a5\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\15\267\1\u04a6\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u04a7\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u04a8\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\2\267\1\u04a9\16\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u04aa\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u04ab\3\267\7\0\2\253\1\u04ac"+
-    "\15\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u04ad\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\6\267\1\u04ae\7\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u04af\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u04b0\3\267\7\0\2\253\15\267\1\u04b1"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u04b2\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u04b3\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u04b4\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u04b5\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u04b6\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u04b7\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u04b8\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\2\267\1\u04b9\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\u0208\12\0"+
-    "\6\u0208\1\0\3\u0208\2\0\1\u0208\3\u037f\1\u0208\1\u037f"+
-    "\1\u0208\1\0\5\u0208\1\u020c\1\u037f\1\0\2\u0208\1\0"+
-    "\3\u0208\1\u020c\2\0\4\u0208\7\0\1\253\5\u0208\1\u020c"+
-    "\5\u0208\1\u020c\3\u0208\4\0\11\u0208\1\u037f\5\u0208\2\u037f"+
-    "\1\u0208\12\0\6\u0208\1\0\1\u0208\1\u0209\1\u0208\2\0"+
-    "\1\u0208\3\u0380\1\u0208\1\u0380\1\u020b\1\0\6\u0208\1\u0380"+
-    "\1\0\2\u0208\1\0\4\u0208\2\0\2\u0208\1\u0209\1\u0208"+
-    "\7\0\1\253\17\u0208\4\0\11\u0208\1\u0380\5\u0208\2\u0380"+
-    "\1\u0208\12\0\6\u0208\1\0\1\u0208\1\u0381\1\u0208\2\0"+
-    "\2\u0208\2\u0382\1\u0208\1\u0382\1\u020f\1\0\6\u0208\1\u0382"+
-    "\1\0\2\u0208\1\0\4\u0208\2\0\2\u0208\1\u0381\1\u0208"+
-    "\7\0\1\253\17\u0208\4\0\11\u0208\1\u0382\5\u0208\2\u0382"+
-    "\1\u0208\12\0\6\u0208\1\0\3\u0208\2\0\2\u0208\2\u0383"+
-    "\2\u0208\1\u04ba\1\0\7\u0208\1\0\2\u0208\1\0\4\u0208"+
-    "\2\0\4\u0208\7\0\1\253\17\u0208\4\0\22\u0208\12\0"+
-    "\1\u0208\1\u0384\4\u0208\1\0\1\u0208\1\u0381\1\u0384\2\0"+
-    "\1\u0208\5\u0384\1\u04bb\1\0\5\u0208\2\u0384\1\0\2\u0208"+
-    "\1\0\2\u0384\1\u0208\1\u0384\2\0\2\u0384\1\u0381\1\u0208"+
-    "\7\0\1\253\3\u0208\1\u0384\1\u0208\1\u0384\5\u0208\1\u0384"+
-    "\3\u0208\4\0\11\u0208\1\u0384\5\u0208\2\u0384\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u04bc\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u04bd\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u04be"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u04bf"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u04c0\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u04c1\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u04c2\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u04c3\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u04c4\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u04c5\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u023f\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u023f\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u04c6\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u038c\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u04c7"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u04c8"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\4\267"+
-    "\1\u04c9\1\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u04ca\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u04cb"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u04cc\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u04cd"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\1\u04ce\5\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u04cf\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u04d0\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u04d1\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u04d2\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u0481\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\11\267\1\u04d3"+
-    "\4\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u04d4\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u04d5\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\11\267"+
-    "\1\u023f\4\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u023f\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u04d6\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u04d7\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u04d8\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\6\267\1\u04d1\7\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u021f\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u04d9\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u04da\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u04db\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u04c7\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u03ae\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\253\1\0\3\253\2\0\7\253\1\0"+
-    "\1\253\1\u04dc\5\253\1\0\2\253\1\0\4\253\2\0"+
-    "\4\253\7\0\20\253\4\0\22\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u04dd\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u038f\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u04de\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u04df\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u04d1\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u04e0\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\1\267\1\u04e1\2\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u04e2\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u04e3\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u04e4\1\267\7\0\2\253"+
-    "\1\u04d8\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\1\u023f"+
-    "\15\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u04da\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u04e5\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\14\267\1\u04e6"+
-    "\1\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\15\267\1\u04e7"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\2\267\1\u04e8\1\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\u04e9\5\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u0349\1\u04ea\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267"+
-    "\1\u04eb\2\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u04ec\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u03a2\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u04ed\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\4\267\1\u023f\11\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\7\267\1\u04ee\6\267\4\0"+
-    "\1\u04ef\20\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u04f0\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u04f1\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u04f2\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\2\267\1\u04f3\1\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267\1\u04f4"+
-    "\2\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u04f5\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u04f6\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u04f7\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u04f8\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\1\u04f9\5\267\1\0\3\267\2\0\4\267\1\u04fa"+
-    "\2\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\3\267\1\u0349\12\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\1\0"+
-    "\1\u04fb\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u04fc\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\12\267\1\u04fd\3\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u04fe"+
-    "\5\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u04ff\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\3\267\1\u0500\12\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u0501\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\12\267\1\u0349\3\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\6\267\1\u0502\7\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u0503\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0378\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u0349\11\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0504\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\3\267\1\u0505\12\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0506\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\15\267\1\u0507\4\0\21\267\2\336\1\0"+
-    "\1\336\1\0\2\336\4\0\6\336\1\0\40\336\1\u0508"+
-    "\57\336\1\0\1\336\1\0\2\336\4\0\6\336\1\0"+
-    "\40\336\1\u0509\57\336\1\0\1\336\1\0\2\336\4\0"+
-    "\6\336\1\0\36\336\1\u050a\57\336\20\0\1\u050b\21\0"+
-    "\1\u050b\172\0\1\u03e6\103\0\1\u050c\176\0\1\u050d\101\0"+
-    "\1\342\174\0\1\u050e\101\0\1\u050f\157\0\1\u0510\162\0"+
-    "\1\u0511\75\0\1\u0512\140\0\1\u0513\17\0\1\u0514\117\0"+
-    "\1\u0515\176\0\1\u0516\115\0\1\u0517\123\0\1\u0518\155\0"+
-    "\1\u0519\135\0\1\u051a\170\0\1\u051b\111\0\1\u03e9\137\0"+
-    "\1\u051c\160\0\1\u051d\46\0\3\u011a\1\u051e\2\u011a\1\0"+
-    "\3\u011a\2\0\6\u011a\3\0\6\u011a\4\0\4\u011a\2\0"+
-    "\4\u011a\11\0\5\u011a\1\u051e\10\u011a\4\0\21\u011a\13\0"+
-    "\6\u011a\1\0\1\u011a\1\u051f\1\u011a\2\0\6\u011a\3\0"+
-    "\6\u011a\4\0\4\u011a\2\0\2\u011a\1\u051f\1\u011a\11\0"+
-    "\16\u011a\4\0\21\u011a\12\0\1\u0520\210\0\1\u028a\4\0"+
-    "\1\u03fb\54\0\3\u0521\1\0\1\u0521\7\u03fd\1\0\3\u03fd"+
-    "\2\u0521\6\u03fd\2\u0521\1\0\6\u03fd\1\0\1\u0521\1\u03fd"+
-    "\1\u0521\4\u03fd\2\u0521\4\u03fd\1\0\1\u0521\1\0\3\u0521"+
-    "\2\0\1\u0521\16\u03fd\2\u0521\1\0\1\u0521\21\u03fd\2\73"+
-    "\1\0\1\73\1\0\2\73\4\0\4\73\1\u02b4\1\73"+
-    "\1\0\62\73\1\u02b4\35\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\70\73\1\u0298\11\73\1\u0298\15\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\21\73"+
-    "\1\u0137\54\73\1\u0137\21\73\1\0\1\73\1\0\2\73"+
-    "\4\0\3\73\1\u0418\2\73\1\0\60\73\1\u0418\37\73"+
-    "\1\0\1\73\1\0\2\73\4\0\1\73\1\u02b4\4\73"+
-    "\1\0\55\73\1\u02b4\42\73\1\0\1\73\1\0\2\73"+
-    "\4\0\1\73\1\u0298\4\73\1\0\55\73\1\u0298\42\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\11\73"+
-    "\1\u0522\25\73\1\u0522\60\73\1\0\1\73\1\0\2\73"+
-    "\4\0\2\73\1\u0523\3\73\1\0\17\73\1\u0523\100\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\2\73"+
-    "\1\u0524\6\73\1\u040b\24\73\1\u0524\1\u040b\60\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\57\73\1\u0525"+
-    "\5\73\1\u0525\32\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\64\73\1\u0298\12\73\1\u0298\20\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\21\73\1\u0526"+
-    "\54\73\1\u0526\21\73\1\0\1\73\1\0\2\73\4\0"+
-    "\6\73\1\0\11\73\1\u0527\25\73\1\u0527\60\73\1\0"+
-    "\1\73\1\0\2\73\4\0\6\73\1\0\21\73\1\u0168"+
-    "\54\73\1\u0168\21\73\1\0\1\73\1\0\2\73\4\0"+
-    "\5\73\1\u0528\1\0\20\73\1\u0528\77\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\21\73\1\u0529\54\73"+
-    "\1\u0529\21\73\1\0\1\73\1\0\2\73\4\0\1\73"+
-    "\1\u0132\4\73\1\0\55\73\1\u0132\42\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\2\73\1\u02b4\33\73"+
-    "\1\u02b4\61\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\2\73\1\u052a\33\73\1\u052a\61\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\11\73\1\u052b\25\73"+
-    "\1\u052b\60\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\2\73\1\u052c\33\73\1\u052c\61\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\57\73\1\u052d\5\73"+
-    "\1\u052d\32\73\1\0\1\73\1\0\2\73\4\0\2\73"+
-    "\1\u0298\3\73\1\0\17\73\1\u0298\100\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\70\73\1\u052e\11\73"+
-    "\1\u052e\15\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\22\73\1\u052f\10\73\1\u052f\64\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\53\73\1\u0161\21\73"+
-    "\1\u0161\22\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\16\73\1\u040b\61\73\1\u040b\17\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\53\73\1\u0137\21\73"+
-    "\1\u0137\22\73\1\0\1\73\1\0\2\73\4\0\3\73"+
-    "\1\u0530\2\73\1\0\60\73\1\u0530\37\73\1\0\1\73"+
-    "\1\0\2\73\4\0\5\73\1\u0531\1\0\1\73\1\u0532"+
-    "\16\73\1\u0531\17\73\1\u0532\20\73\1\u0533\17\73\1\u0533"+
-    "\16\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\16\73\1\u0534\61\73\1\u0534\17\73\1\0\1\73\1\0"+
-    "\2\73\4\0\3\73\1\u0535\2\73\1\0\60\73\1\u0535"+
-    "\37\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\2\73\1\u0161\33\73\1\u0161\57\73\15\0\1\u0536\23\0"+
-    "\1\u0536\76\0\1\141\12\0\1\141\1\u0537\4\141\1\0"+
-    "\2\141\1\u0537\2\0\1\141\5\u0537\1\141\1\0\5\141"+
-    "\2\u0537\1\0\2\141\1\0\2\u0537\1\141\1\u0537\2\0"+
-    "\2\u0537\2\141\10\0\3\141\1\u0537\1\141\1\u0537\5\141"+
-    "\1\u0537\3\141\4\0\11\141\1\u0537\5\141\2\u0537\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\3\152\1\u0538\2\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\u0176"+
-    "\12\0\1\u0176\1\u02da\4\u0176\1\0\2\u0176\1\u02da\2\0"+
-    "\1\u0176\5\u02da\1\u0425\1\0\5\u0176\2\u02da\1\0\2\u0176"+
-    "\1\0\2\u02da\1\u0176\1\u02da\2\0\2\u02da\2\u0176\10\0"+
-    "\3\u0176\1\u02da\1\u0176\1\u02da\5\u0176\1\u02da\3\u0176\4\0"+
-    "\11\u0176\1\u02da\5\u0176\2\u02da\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\1\152\1\u0539\4\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\3\152\1\u053a\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\1\u053b\15\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\13\152\1\u053c\2\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\14\152\1\u02ed\1\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\2\152\1\u053d\3\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\2\152\1\u0431\3\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\2\152\1\u053e\1\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\15\152\1\u01a5\4\0"+
-    "\21\152\1\141\12\0\6\152\1\0\3\152\2\0\7\152"+
-    "\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\1\u053f\3\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\7\152\1\u0540\6\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\3\152\1\u0541\2\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\1\152\1\u043b\4\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\1\152\1\u0542\4\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\5\152\1\u0543\10\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\3\152\1\u0544\12\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\6\152\1\0\1\141\1\152\1\0\4\152\2\0"+
-    "\4\152\10\0\1\141\5\152\1\u0545\10\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\2\152\1\u01a5\3\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\21\152"+
-    "\1\141\12\0\6\152\1\0\3\152\2\0\7\152\1\0"+
-    "\1\u0173\1\u0546\5\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\6\152\1\u0547\7\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\2\152\1\u02ed\3\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\2\152"+
-    "\1\u02ea\1\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\1\152\1\u0548\4\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\152"+
-    "\1\u0549\2\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\3\152\1\u054a\2\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\1\152\1\u0436\17\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\u054b"+
-    "\3\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\1\u054c\3\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\1\152\1\u043e\2\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\1\u054d\3\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\1\152\1\u054e\2\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u01ac\3\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\15\0\1\u054f\23\0\1\u054f"+
-    "\110\0\1\u0550\210\0\1\u0314\4\0\1\u044d\54\0\3\u0551"+
-    "\1\0\1\u0551\7\u044f\1\0\3\u044f\2\u0551\6\u044f\2\u0551"+
-    "\1\0\6\u044f\1\0\1\u0551\1\u044f\1\u0551\4\u044f\2\u0551"+
-    "\4\u044f\1\0\1\u0551\1\0\3\u0551\2\0\1\u0551\16\u044f"+
-    "\2\u0551\1\0\1\u0551\21\u044f\15\0\1\u0552\23\0\1\u0552"+
-    "\110\0\1\u0553\210\0\1\u0319\4\0\1\u0451\54\0\3\u0554"+
-    "\1\0\1\u0554\7\u0453\1\0\3\u0453\2\u0554\6\u0453\2\u0554"+
-    "\1\0\6\u0453\1\0\1\u0554\1\u0453\1\u0554\4\u0453\2\u0554"+
-    "\4\u0453\1\0\1\u0554\1\0\3\u0554\2\0\1\u0554\16\u0453"+
-    "\2\u0554\1\0\1\u0554\21\u0453\12\0\1\u0555\210\0\1\u031e"+
-    "\4\0\1\u0455\54\0\3\u0556\1\0\1\u0556\7\u0457\1\0"+
-    "\3\u0457\2\u0556\6\u0457\2\u0556\1\0\6\u0457\1\0\1\u0556"+
-    "\1\u0457\1\u0556\4\u0457\2\u0556\4\u0457\1\0\1\u0556\1\0"+
-    "\3\u0556\2\0\1\u0556\16\u0457\2\u0556\1\0\1\u0556\21\u0457"+
-    "\12\0\1\u0557\165\0\1\u0558\174\0\1\u0559\137\0\1\u0461"+
-    "\122\0\1\u055a\14\0\1\u055b\150\0\1\u055c\111\0\1\u055d"+
-    "\1\0\1\u055e\155\0\1\u055f\141\0\1\u0560\134\0\1\u0561"+
-    "\135\0\1\u0562\122\0\1\u0563\120\0\1\u0564\156\0\1\u0565"+
-    "\137\0\1\u0566\140\0\1\u0567\141\0\1\u0568\137\0\1\u0322"+
-    "\4\0\1\u0458\54\0\3\u0569\1\0\1\u0569\7\u046b\1\0"+
-    "\3\u046b\2\u0569\6\u046b\2\u0569\1\0\6\u046b\1\0\1\u0569"+
-    "\1\u046b\1\u0569\4\u046b\2\u0569\4\u046b\1\0\1\u0569\1\0"+
-    "\3\u0569\2\0\1\u0569\16\u046b\2\u0569\1\0\1\u0569\21\u046b"+
-    "\42\0\1\u056a\1\u056b\175\0\1\u056c\135\0\1\u056d\140\0"+
-    "\1\u056e\121\0\1\u056f\55\0\10\u0471\1\0\26\u0471\1\u0570"+
-    "\102\u0471\1\0\5\u0471\2\u033c\17\u0471\2\u033c\1\u0471\1\u033c"+
-    "\2\u0471\1\u033c\1\u0571\5\u033c\5\u0471\1\u033c\54\u0471\1\u033c"+
-    "\5\u0471\2\u033c\10\u01d7\1\u0339\3\u01d7\1\u0572\7\u01d7\1\u0572"+
-    "\3\u01d7\5\u0572\2\u01d7\1\u033a\4\u01d7\2\u0572\4\u01d7\2\u0572"+
-    "\1\u01d7\1\u0572\2\u01d7\2\u0572\15\u01d7\1\u0572\1\u01d7\1\u0572"+
-    "\5\u01d7\1\u0572\20\u01d7\1\u0572\5\u01d7\2\u0572\2\u033e\1\u033f"+
-    "\6\u033e\1\u01dc\2\u033e\1\u0573\7\u033e\1\u0573\3\u033e\5\u0573"+
-    "\7\u033e\2\u0573\4\u033e\2\u0573\1\u033e\1\u0573\2\u033e\2\u0573"+
-    "\15\u033e\1\u0573\1\u033e\1\u0573\5\u033e\1\u0573\20\u033e\1\u0573"+
-    "\5\u033e\2\u0573\1\253\12\0\1\253\1\u0574\4\253\1\0"+
-    "\2\253\1\u0574\2\0\1\253\5\u0574\1\253\1\0\5\253"+
-    "\2\u0574\1\0\2\253\1\0\2\u0574\1\253\1\u0574\2\0"+
-    "\2\u0574\2\253\7\0\4\253\1\u0574\1\253\1\u0574\5\253"+
-    "\1\u0574\3\253\4\0\11\253\1\u0574\5\253\2\u0574\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u0575\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u0576\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u0577\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\15\267\1\u0578\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u0579\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u057a\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u057b\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u057c\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u057d"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\3\267\1\u057e\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u057f\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0580\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0349\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u0581\1\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0582\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0583\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u0584\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\3\267\1\u0585\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u0586\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u048f\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u0587\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\u0588\5\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u0589\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u035f\2\267"+
-    "\7\0\2\253\5\267\1\u058a\10\267\4\0\21\267\1\253"+
-    "\12\0\1\u058b\1\u058c\4\267\1\0\3\267\2\0\4\267"+
-    "\1\u058d\2\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u058e\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u058f"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u0590\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u04b3\1\u0590\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u0591\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u0592\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u0593\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\u0594\5\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0595\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\6\267\1\u0580\7\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u0596\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\11\267\1\u0597\4\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u0598\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\10\267\1\u0599\5\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u059a\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\2\267\1\u059b\1\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u059c\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\6\267\1\u059d\7\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u059e\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u059f\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267"+
-    "\1\u05a0\2\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u05a1\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u05a2\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u05a3\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u05a4\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u05a5\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u05a6\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u05a7\11\267\4\0\21\267\1\253"+
-    "\12\0\1\u04ce\5\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\2\267\1\u05a8\16\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u05a9\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\1\267\1\u05aa\17\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u05ab\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\13\267\1\u048f\2\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\1\u05ac\6\267"+
-    "\1\0\1\u01e0\1\267\1\u05ad\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\1\u0494\5\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\2\267\1\u05ae\1\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\1\267\1\u05af\17\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u05b0\1\u05b1\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\2\267\1\u05b2\1\u05b3\2\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0349\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\1\u04ce\1\u05b4\4\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u05b5\3\267\7\0\2\253\16\267"+
-    "\4\0\2\267\1\u05a8\16\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u05b6\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u05b7\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\1\267"+
-    "\1\u05b8\14\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u05b9\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\10\267"+
-    "\1\u049f\5\267\4\0\21\267\1\u0208\12\0\1\u0208\1\u0384"+
-    "\4\u0208\1\0\2\u0208\1\u0384\2\0\1\u0208\5\u0384\1\u04bb"+
-    "\1\0\5\u0208\2\u0384\1\0\2\u0208\1\0\2\u0384\1\u0208"+
-    "\1\u0384\2\0\2\u0384\2\u0208\7\0\1\253\3\u0208\1\u0384"+
-    "\1\u0208\1\u0384\5\u0208\1\u0384\3\u0208\4\0\11\u0208\1\u0384"+
-    "\5\u0208\2\u0384\1\253\12\0\1\267\1\u05ba\4\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\267\1\u05bb\14\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\3\267\1\u05bc\12\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u05bd\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u05be\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u05bf\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u05c0\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u05c1\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\13\267\1\u05c2\2\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\14\267\1\u03a2\1\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u04d1\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u05c3\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u05c4\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\17\267\1\u05c5\1\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u05c6\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u05c7"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\4\267\1\u05c8\2\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u0481\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\15\267\1\u023f\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u05c9\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\3\267\1\u048f"+
-    "\12\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u05ca\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u05cb\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\2\267\1\u05cc\1\u05cd\1\u05ce"+
-    "\1\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267"+
-    "\1\u05cf\2\267\1\0\1\253\1\267\1\0\3\267\1\u05d0"+
-    "\2\0\4\267\7\0\2\253\12\267\1\u05d1\3\267\4\0"+
-    "\1\u05d2\1\u05d3\14\267\1\u05d4\2\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u05d5"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u05d6"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u04df"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\2\267\1\u05d7\13\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u05d8\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\3\267\1\u05d9\12\267\4\0\21\267\1\253\12\0\1\253"+
-    "\1\u05da\4\253\1\0\2\253\1\u05da\2\0\1\253\5\u05da"+
-    "\1\253\1\0\5\253\2\u05da\1\0\2\253\1\0\2\u05da"+
-    "\1\253\1\u05da\2\0\2\u05da\2\253\7\0\4\253\1\u05da"+
-    "\1\253\1\u05da\5\253\1\u05da\3\253\4\0\11\253\1\u05da"+
-    "\5\253\2\u05da\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\3\267\1\u023f\12\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u05db\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u023f\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\u05dc\5\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u039c\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u05dd\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u05de\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u05df\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u05e0\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u05e1\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u05e2\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u05e3\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0349"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\3\267\1\u05e4\2\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\1\u05e5\20\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u05e6\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u05e7\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u024a\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\u05e8\5\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\4\267"+
-    "\1\u05e9\1\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267"+
-    "\1\u05ea\4\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u05eb\13\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u05ec\15\267\4\0\21\267\1\253\12\0\4\267"+
-    "\1\u05ed\1\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u05ee\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u05ef\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\6\267"+
-    "\1\u05f0\7\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u05f1\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u05f2\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u05f3\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u05f4"+
-    "\13\267\4\0\21\267\24\0\1\u05f5\113\0\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u05f6\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u05f7"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\7\267\1\u05f8\6\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u05f9\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u05fa\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u05fb\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\1\u05fc"+
-    "\15\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\4\267\1\u05fd\1\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u05fe\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\1\u04ce\5\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u048f\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\2\267\1\u05a8\16\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u05ff\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\10\267\1\u0600\10\267\2\336\1\0\1\336\1\0"+
-    "\2\336\4\0\6\336\1\0\60\336\1\u0601\37\336\1\0"+
-    "\1\336\1\0\2\336\4\0\6\336\1\0\16\336\1\u0602"+
-    "\77\336\22\0\1\u0603\53\0\1\u0603\144\0\1\u0604\72\0"+
-    "\1\u0605\141\0\1\u0606\162\0\1\u0514\127\0\1\u0607\126\0"+
-    "\1\u0608\177\0\1\u0609\140\0\1\342\76\0\1\u060a\207\0"+
-    "\1\342\66\0\1\u060b\142\0\1\u060c\135\0\1\u051b\173\0"+
-    "\1\u060a\140\0\1\u060d\120\0\1\u060e\161\0\1\u060f\132\0"+
-    "\1\u0610\55\0\4\u011a\1\u0611\1\u011a\1\0\3\u011a\2\0"+
-    "\6\u011a\3\0\6\u011a\4\0\4\u011a\2\0\4\u011a\11\0"+
-    "\7\u011a\1\u0611\6\u011a\4\0\21\u011a\13\0\6\u011a\1\0"+
-    "\2\u011a\1\u0612\2\0\6\u011a\3\0\6\u011a\4\0\4\u011a"+
-    "\2\0\1\u0612\3\u011a\11\0\16\u011a\4\0\21\u011a\12\0"+
-    "\1\u03fd\125\0\2\73\1\0\1\73\1\0\2\73\4\0"+
-    "\1\120\5\73\1\0\41\73\1\120\56\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\53\73\1\u0613\21\73"+
-    "\1\u0613\22\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\21\73\1\u02b4\54\73\1\u02b4\21\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\2\73\1\u0614\33\73"+
-    "\1\u0614\61\73\1\0\1\73\1\0\2\73\4\0\5\73"+
-    "\1\u0615\1\0\20\73\1\u0615\77\73\1\0\1\73\1\0"+
-    "\2\73\4\0\2\73\1\u0616\3\73\1\0\17\73\1\u0616"+
-    "\100\73\1\0\1\73\1\0\2\73\4\0\1\u0617\5\73"+
-    "\1\0\41\73\1\u0617\56\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\1\u02bb\53\73\1\u02bb\43\73\1\0"+
-    "\1\73\1\0\2\73\4\0\1\u0522\5\73\1\0\41\73"+
-    "\1\u0522\56\73\1\0\1\73\1\0\2\73\4\0\6\73"+
-    "\1\0\64\73\1\u0618\12\73\1\u0618\20\73\1\0\1\73"+
-    "\1\0\2\73\4\0\1\u040f\5\73\1\0\41\73\1\u040f"+
-    "\56\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\103\73\1\u0619\5\73\1\u0619\6\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\53\73\1\u0524\21\73\1\u0524"+
-    "\22\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\1\73\1\u0522\36\73\1\u0522\57\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\2\73\1\u061a\33\73\1\u061a"+
-    "\61\73\1\0\1\73\1\0\2\73\4\0\3\73\1\u014d"+
-    "\2\73\1\0\60\73\1\u014d\37\73\1\0\1\73\1\0"+
-    "\2\73\4\0\2\73\1\u061b\3\73\1\0\17\73\1\u061b"+
-    "\100\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\2\73\1\u0298\33\73\1\u0298\61\73\1\0\1\73\1\0"+
-    "\2\73\4\0\1\73\1\u061c\4\73\1\0\55\73\1\u061c"+
-    "\40\73\16\0\1\u061d\63\0\1\u061d\35\0\1\141\12\0"+
-    "\1\141\1\u061e\4\141\1\0\2\141\1\u061e\2\0\1\141"+
-    "\5\u061e\1\141\1\0\5\141\2\u061e\1\0\2\141\1\0"+
-    "\2\u061e\1\141\1\u061e\2\0\2\u061e\2\141\10\0\3\141"+
-    "\1\u061e\1\141\1\u061e\5\141\1\u061e\3\141\4\0\11\141"+
-    "\1\u061e\5\141\2\u061e\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\5\152\1\u061f"+
-    "\10\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\3\152\1\u0620\2\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\5\152\1\u0621"+
-    "\10\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\4\152\1\u01a5\1\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\5\152\1\u0622"+
-    "\10\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\2\152\1\u0623\1\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\1\152\1\u0624\2\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\1\u0436\3\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\4\152\1\u02e1\11\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\1\152\1\u0625\2\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\2\152\1\u01a5\13\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\1\152\1\u0626\4\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\3\152\1\u0627\2\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\2\152\1\u043b\1\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\6\152\1\u02f5\7\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\4\152\1\u0628\1\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\3\152\1\u0629\2\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\5\152\1\u062a\10\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\11\152\1\u062b\4\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\2\152\1\u062c\13\152"+
-    "\4\0\21\152\1\141\12\0\3\152\1\u062d\2\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\3\152\1\u062e\2\0\4\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\6\152\1\u02ed"+
-    "\7\152\4\0\21\152\16\0\1\u062f\63\0\1\u062f\47\0"+
-    "\1\u044f\143\0\1\u0630\63\0\1\u0630\47\0\1\u0453\137\0"+
-    "\1\u0457\137\0\1\u046b\166\0\1\u0631\137\0\1\u0632\157\0"+
-    "\1\u0633\166\0\1\u0634\133\0\1\u0635\137\0\1\u0636\73\0"+
-    "\1\u0637\174\0\1\u0638\123\0\1\u0639\136\0\1\u0461\141\0"+
-    "\1\u063a\160\0\1\u063b\114\0\1\u063c\120\0\1\u063d\203\0"+
-    "\1\u0461\140\0\1\u0461\133\0\1\u063e\115\0\1\u063f\171\0"+
-    "\1\u0640\105\0\1\u0640\74\0\1\u0641\202\0\1\u0642\117\0"+
-    "\1\u056c\77\0\2\u0471\1\0\145\u0471\1\0\3\u0471\1\u0643"+
-    "\7\u0471\1\u0643\3\u0471\5\u0643\2\u0471\1\u0570\4\u0471\2\u0643"+
-    "\4\u0471\2\u0643\1\u0471\1\u0643\2\u0471\2\u0643\15\u0471\1\u0643"+
-    "\1\u0471\1\u0643\5\u0471\1\u0643\20\u0471\1\u0643\5\u0471\2\u0643"+
-    "\10\u01d7\1\u0339\3\u01d7\1\u0644\7\u01d7\1\u0644\3\u01d7\5\u0644"+
-    "\2\u01d7\1\u033a\4\u01d7\2\u0644\4\u01d7\2\u0644\1\u01d7\1\u0644"+
-    "\2\u01d7\2\u0644\15\u01d7\1\u0644\1\u01d7\1\u0644\5\u01d7\1\u0644"+
-    "\20\u01d7\1\u0644\5\u01d7\2\u0644\2\u033e\1\u033f\6\u033e\1\u01dc"+
-    "\2\u033e\1\u0645\7\u033e\1\u0645\3\u033e\5\u0645\7\u033e\2\u0645"+
-    "\4\u033e\2\u0645\1\u033e\1\u0645\2\u033e\2\u0645\15\u033e\1\u0645"+
-    "\1\u033e\1\u0645\5\u033e\1\u0645\20\u033e\1\u0645\5\u033e\2\u0645"+
-    "\1\253\12\0\1\253\1\u0646\4\253\1\0\2\253\1\u0646"+
-    "\2\0\1\253\5\u0646\1\253\1\0\5\253\2\u0646\1\0"+
-    "\2\253\1\0\2\u0646\1\253\1\u0646\2\0\2\u0646\2\253"+
-    "\7\0\4\253\1\u0646\1\253\1\u0646\5\253\1\u0646\3\253"+
-    "\4\0\11\253\1\u0646\5\253\2\u0646\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\11\267\1\u0647\4\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\6\267\1\u0648\7\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0649"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\5\267"+
-    "\1\u064a\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\1\u064b\20\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u064c\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\2\267\1\u064d\13\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u064e\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u064f"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\4\267\1\u04a8\11\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u0650\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\11\267\1\u0349\4\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u04b3\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0651\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u0652\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u0653\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\4\267\1\u0654\11\267"+
-    "\4\0\21\267\1\253\12\0\1\267\1\u0655\4\267\1\0"+
-    "\1\267\1\u0656\1\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\3\267\1\u0657\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\1\267\1\u05d3\5\267\1\u0658"+
-    "\11\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u0590\2\267\7\0\2\253\16\267\4\0"+
-    "\1\267\1\u0659\17\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u04e9\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u065a\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u065b"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u0580\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u065c\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u065d\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u065e\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u065f\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u0660\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267"+
-    "\1\u0587\2\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0661\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u0662\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u0378\3\267\1\0\1\253\1\267"+
-    "\1\0\1\267\1\u0587\2\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\11\267\1\u0663"+
-    "\4\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0664\1\267\1\u0665"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0666"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\7\267\1\u0667\6\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u0668\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\1\u0669\20\267\1\253\12\0\1\u066a\5\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\2\267\1\u066b\16\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u066c\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u066d"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u066e\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u066f\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0670\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u0671\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u0672\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0673\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\1\u0674\5\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\16\267\1\u05d4\2\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0";
-
-  private static final String ZZ_TRANS_PACKED_1 =
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u0675\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u0676\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\6\267\1\u04e9\7\267\4\0\21\267"+
-    "\1\253\12\0\2\267\1\u05cc\1\u05cd\2\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\1\u05d2\15\267\1\u05d4\2\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u0677\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0678\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\1\u0679"+
-    "\15\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\4\267\1\u067a"+
-    "\11\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u067b\15\267"+
-    "\4\0\21\267\1\253\12\0\5\267\1\u067c\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u067d\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u067e\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u067f\11\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\6\267\1\u0680\7\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0681"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u0682\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u0683\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u0684"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0685"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0686"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\1\u0687"+
-    "\5\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\1\267\1\u0688\1\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\1\u0689\20\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u068a\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\1\u068b"+
-    "\2\267\1\u068c\2\267\1\0\1\267\1\u068d\1\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u0349\7\0\2\253\12\267\1\u068e"+
-    "\3\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\11\267\1\u068f"+
-    "\4\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u0690\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u0691\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\4\267\1\u048f"+
-    "\11\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u0692\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0693"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u0694\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u036e\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\20\267\1\u0695\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u0696\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u0697\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u0698\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u0699\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u069a\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u05a7\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u069b\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u069c\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u069d\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u069e\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u069f\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u06a0\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\u06a1\5\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u06a2\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u06a3"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\4\267\1\u038f\11\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u06a4\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u06a5"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\2\267\1\u023f\13\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u06a6"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\1\253"+
-    "\1\u06a7\4\253\1\0\2\253\1\u06a7\2\0\1\253\5\u06a7"+
-    "\1\253\1\0\5\253\2\u06a7\1\0\2\253\1\0\2\u06a7"+
-    "\1\253\1\u06a7\2\0\2\u06a7\2\253\7\0\4\253\1\u06a7"+
-    "\1\253\1\u06a7\5\253\1\u06a7\3\253\4\0\11\253\1\u06a7"+
-    "\5\253\2\u06a7\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u06a8\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\2\267\1\u04df\1\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\4\267\1\u06a9\1\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u06aa\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\11\267\1\u06ab\4\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\2\267\1\u06ac\13\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u03a2\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\6\267\1\u03a2\7\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\2\267\1\u06ad\13\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u06ae\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\u06af\5\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u04ae\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u06b0\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u06b1\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\2\267\1\u06b2\16\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\14\267\1\u0490\1\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u06b3\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u06b4\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u06b5\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267"+
-    "\1\u06b6\4\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u06b7\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u06b8"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\3\267\1\u06b9\12\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u06ba"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u06bb"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u06bc"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\43\0\1\u06bd\74\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u06be\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u06bf\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\7\267\1\u06c0\6\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u06c1\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u06c2\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\13\267\1\u06c3\2\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u06c4\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\267\1\u06c5\14\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u06c6\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\4\267\1\u06c7"+
-    "\2\267\1\0\1\u01e0\1\267\1\u0349\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u06c8\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\2\336\1\0\1\336\1\0\2\336\4\0"+
-    "\6\336\1\0\31\336\1\u050a\66\336\1\0\1\336\1\0"+
-    "\2\336\4\0\6\336\1\0\57\336\1\u03e1\36\336\23\0"+
-    "\1\u06c9\36\0\1\u06c9\135\0\1\u03e6\141\0\1\u06ca\12\0"+
-    "\1\u06cb\1\0\1\u06cc\123\0\1\342\136\0\1\u06cd\153\0"+
-    "\1\342\152\0\1\u06ce\64\0\1\u06cf\164\0\1\u06d0\151\0"+
-    "\1\u06d1\154\0\1\u06cd\66\0\1\342\140\0\1\u06cd\136\0"+
-    "\1\u06d2\111\0\5\u011a\1\u06d3\1\0\3\u011a\2\0\6\u011a"+
-    "\3\0\2\u011a\1\u06d3\3\u011a\4\0\4\u011a\2\0\4\u011a"+
-    "\11\0\16\u011a\4\0\21\u011a\2\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\16\73\1\u0295\61\73\1\u0295"+
-    "\17\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\32\73\1\120\30\73\1\120\34\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\2\73\1\u06d4\33\73\1\u06d4"+
-    "\61\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\2\73\1\u02b0\33\73\1\u02b0\61\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\53\73\1\u012c\21\73\1\u012c"+
-    "\22\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\2\73\1\u0522\33\73\1\u0522\61\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\16\73\1\u06d5\61\73\1\u06d5"+
-    "\17\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\64\73\1\u06d6\12\73\1\u06d6\20\73\1\0\1\73\1\0"+
-    "\2\73\4\0\3\73\1\u0168\2\73\1\0\60\73\1\u0168"+
-    "\37\73\1\0\1\73\1\0\2\73\4\0\6\73\1\0"+
-    "\53\73\1\u02c4\21\73\1\u02c4\20\73\17\0\1\u06d7\64\0"+
-    "\1\u06d7\33\0\1\141\12\0\1\141\1\152\4\141\1\0"+
-    "\2\141\1\152\2\0\1\141\5\152\1\141\1\0\5\141"+
-    "\2\152\1\0\2\141\1\0\2\152\1\141\1\152\2\0"+
-    "\2\152\2\141\10\0\3\141\1\152\1\141\1\152\5\141"+
-    "\1\152\3\141\4\0\11\141\1\152\5\141\2\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\2\152\1\u0623\3\152\1\0\1\141\1\152\1\0\4\152"+
-    "\2\0\4\152\10\0\1\141\16\152\4\0\21\152\1\141"+
-    "\12\0\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173"+
-    "\6\152\1\0\1\141\1\152\1\0\4\152\2\0\1\u06d8"+
-    "\3\152\10\0\1\141\16\152\4\0\21\152\1\141\12\0"+
-    "\6\152\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\1\u06d9\15\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\1\152\1\u01a5\14\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152\1\u0431"+
-    "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\2\152\1\u043b\13\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\1\u06da\15\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\1\u02ed\5\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\1\152\1\u06db\2\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\4\152\10\0\1\141\2\152\1\u02df"+
-    "\13\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\2\152\1\u0540\3\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\16\152\4\0\21\152\1\141\12\0\6\152\1\0\3\152"+
-    "\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152"+
-    "\1\0\4\152\2\0\1\u06dc\3\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\2\152\1\u06dd\3\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\3\152\1\u06de\2\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\16\152"+
-    "\4\0\21\152\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\2\152\1\u06df\1\152\10\0\1\141\16\152"+
-    "\4\0\21\152\17\0\1\u06e0\64\0\1\u06e0\52\0\1\u06e1"+
-    "\64\0\1\u06e1\76\0\1\u0461\176\0\1\u06e2\136\0\1\u06e3"+
-    "\121\0\1\u0461\136\0\1\u0561\117\0\1\u0568\176\0\1\u0561"+
-    "\77\0\1\u0461\160\0\1\u06e4\135\0\1\u06e5\154\0\1\u06e6"+
-    "\141\0\1\u06e7\103\0\1\u06e2\171\0\1\u0631\103\0\1\u06e8"+
-    "\76\0\64\u0640\1\u0461\53\u0640\75\0\1\u06e9\103\0\1\u06ea"+
-    "\76\0\10\u0471\1\0\3\u0471\1\u06eb\7\u0471\1\u06eb\3\u0471"+
-    "\5\u06eb\2\u0471\1\u0570\4\u0471\2\u06eb\4\u0471\2\u06eb\1\u0471"+
-    "\1\u06eb\2\u0471\2\u06eb\15\u0471\1\u06eb\1\u0471\1\u06eb\5\u0471"+
-    "\1\u06eb\20\u0471\1\u06eb\5\u0471\2\u06eb\10\u01d7\1\u0339\3\u01d7"+
-    "\1\256\7\u01d7\1\256\3\u01d7\5\256\2\u01d7\1\u033a\4\u01d7"+
-    "\2\256\4\u01d7\2\256\1\u01d7\1\256\2\u01d7\2\256\15\u01d7"+
-    "\1\256\1\u01d7\1\256\5\u01d7\1\256\20\u01d7\1\256\5\u01d7"+
-    "\2\256\2\u033e\1\u033f\6\u033e\1\u01dc\2\u033e\1\u01da\7\u033e"+
-    "\1\u01da\3\u033e\5\u01da\7\u033e\2\u01da\4\u033e\2\u01da\1\u033e"+
-    "\1\u01da\2\u033e\2\u01da\15\u033e\1\u01da\1\u033e\1\u01da\5\u033e"+
-    "\1\u01da\20\u033e\1\u01da\5\u033e\2\u01da\1\253\12\0\1\253"+
-    "\1\267\4\253\1\0\2\253\1\267\2\0\1\253\5\267"+
-    "\1\253\1\0\5\253\2\267\1\0\2\253\1\0\2\267"+
-    "\1\253\1\267\2\0\2\267\2\253\7\0\4\253\1\267"+
-    "\1\253\1\267\5\253\1\267\3\253\4\0\11\253\1\267"+
-    "\5\253\2\267\1\253\12\0\1\267\1\u06ec\3\267\1\u06ed"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\2\267\1\u05cc\1\u068c"+
-    "\1\267\1\u06ed\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\1\u06ee\3\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\12\267\1\u06ef\3\267"+
-    "\1\u05d4\2\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\2\267"+
-    "\1\u06f0\16\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u06f1\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\14\267\1\u06f2\1\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u06f3\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u06f4\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u06f5\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u06f6\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u06f7\10\267\4\0"+
-    "\21\267\1\253\12\0\5\267\1\u06f8\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u06f9\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u06fa\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u06fb\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u06fc\2\267\7\0\2\253\5\267\1\u06fd\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u069b\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u06fe\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u06ff\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u0700\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0701\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0702\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\14\267\1\u0703\4\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u0704\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0705\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0706\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0707"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u0708\13\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\4\267\1\u0709\2\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\11\267\1\u070a\4\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u070b"+
-    "\5\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u070c\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u070d"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u070e\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u070f"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u0710\5\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0711\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u0712\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\4\267"+
-    "\1\u0713\11\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\11\267"+
-    "\1\u0714\4\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u0715\1\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0716\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u0717\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u0718\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u0719\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u071a\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u071b\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u071c\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u071d"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\7\267\1\u0349"+
-    "\6\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\267\1\u071e"+
-    "\14\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u071f\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\1\267"+
-    "\1\u0720\1\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\1\0\1\u0721\4\267\7\0"+
-    "\2\253\12\267\1\u0722\3\267\4\0\4\267\1\u0723\14\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u04e9\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u0724\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\1\0"+
-    "\1\u0725\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u0726\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\1\267\1\u068d\1\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\10\267\1\u0727"+
-    "\10\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u06c5\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u0728\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0729"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267"+
-    "\1\u072a\2\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0717"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u072b"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u072c\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u072d\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u072e\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\1\267\1\u072f\2\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u0730\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0731"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0732"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u0733\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0246\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0734\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u0735"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0736"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u0737\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\267\1\u023f\14\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\1\0\1\u0738\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0739\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u0349\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u073a\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u04d1\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u073b\3\267\1\0\1\253\1\267"+
-    "\1\0\3\267\1\u073c\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u073d\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\7\267\1\u073e\6\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u073f\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\11\267\1\u0740\4\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\2\267\1\u0741\1\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u0742\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u069c\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u0743\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u0741\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u04df\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\4\267\1\u0744\1\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u0745\15\267\4\0\21\267"+
-    "\1\253\12\0\1\253\1\u0746\4\253\1\0\2\253\1\u0746"+
-    "\2\0\1\253\5\u0746\1\253\1\0\5\253\2\u0746\1\0"+
-    "\2\253\1\0\2\u0746\1\253\1\u0746\2\0\2\u0746\2\253"+
-    "\7\0\4\253\1\u0746\1\253\1\u0746\5\253\1\u0746\3\253"+
-    "\4\0\11\253\1\u0746\5\253\2\u0746\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u03a2\5\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u0747\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u0748\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0749\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u074a\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u074b\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\7\267\1\u074c"+
-    "\6\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u06ae\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u074d\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\1\u074e\5\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u074f\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\1\u0750\2\267\1\u0751\2\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u0349\7\0\2\253"+
-    "\16\267\4\0\1\u0752\20\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u0753\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u0754\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\3\267\1\u0755\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\14\267\1\u0756"+
-    "\1\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\1\267\1\u0757\2\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\2\267"+
-    "\1\u0758\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\3\267\1\u0759\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\2\267\1\u075a\16\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u075b\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u075c\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u075d\10\267\4\0\21\267\42\0\1\u075e\75\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\6\267\1\u075f\7\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u0760\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u0761\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u0762"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\15\267\1\u0763\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0764\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u0765\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\2\267\1\u0766\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u0767\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\1\267\1\u0768\2\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\3\267\1\u0769\7\0\2\253\16\267"+
-    "\4\0\21\267\24\0\1\u076a\33\0\1\u076a\140\0\1\u050f"+
-    "\122\0\1\u076b\173\0\1\u076c\117\0\1\u076d\137\0\1\342"+
-    "\154\0\1\u06cb\1\0\1\u06cc\102\0\1\u076e\136\0\1\u06ce"+
-    "\140\0\1\u076f\75\0\2\73\1\0\1\73\1\0\2\73"+
-    "\4\0\6\73\1\0\32\73\1\u02b4\30\73\1\u02b4\34\73"+
-    "\1\0\1\73\1\0\2\73\4\0\6\73\1\0\53\73"+
-    "\1\u012e\21\73\1\u012e\22\73\1\0\1\73\1\0\2\73"+
-    "\4\0\4\73\1\u0770\1\73\1\0\62\73\1\u0770\33\73"+
-    "\20\0\1\u0771\21\0\1\u0771\75\0\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152\1\u043b"+
-    "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152\1\u01a5"+
-    "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152\1\u0772"+
-    "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\4\152\10\0\1\141"+
-    "\2\152\1\u02ed\13\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\3\152\1\u0773"+
-    "\2\152\1\0\1\141\1\152\1\0\4\152\2\0\4\152"+
-    "\10\0\1\141\16\152\4\0\21\152\1\141\12\0\6\152"+
-    "\1\0\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0"+
-    "\1\141\1\152\1\0\4\152\2\0\1\u0310\3\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u0436\3\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\1\u0774"+
-    "\15\152\4\0\21\152\20\0\1\u0775\21\0\1\u0775\115\0"+
-    "\1\u0776\21\0\1\u0776\156\0\1\u0777\141\0\1\u0778\131\0"+
-    "\1\u0779\31\0\1\u077a\72\0\1\u0561\136\0\1\u077b\157\0"+
-    "\1\u077c\137\0\1\u077d\153\0\1\u077e\144\0\1\u077f\35\0"+
-    "\10\u0471\1\0\3\u0471\1\u0780\7\u0471\1\u0780\3\u0471\5\u0780"+
-    "\2\u0471\1\u0570\4\u0471\2\u0780\4\u0471\2\u0780\1\u0471\1\u0780"+
-    "\2\u0471\2\u0780\15\u0471\1\u0780\1\u0471\1\u0780\5\u0471\1\u0780"+
-    "\20\u0471\1\u0780\5\u0471\2\u0780\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\1\u0781"+
-    "\15\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u0782\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\u0783\5\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u0784\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u0785\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u0786\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u0787\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\13\267\1\u0788\5\267\1\253"+
-    "\12\0\1\267\1\u0789\4\267\1\0\1\267\1\u0656\1\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\267\1\u078a\14\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u078b\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\2\267\1\u078c\1\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u078d\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u078e\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\267\1\u0349\14\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u078f\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u0790\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0791\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0792\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u03bd\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0793\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0794"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u0795\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u0796"+
-    "\5\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\14\267\1\u0797\1\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u0798\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0799\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\4\267\1\u05ce"+
-    "\1\267\1\0\2\267\1\u04b9\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u079a\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u079b\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u079c\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u079d\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u06c5\1\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u079e\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u079f\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u07a0\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u07a1\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u07a2\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u07a3\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\1\267\1\u07a4\2\267"+
-    "\1\u07a5\1\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\1\u07a6\20\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u07a7\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\1\u07a8"+
-    "\4\267\1\u07a9\1\0\3\267\2\0\4\267\1\u07aa\2\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\3\267"+
-    "\1\u07ab\2\0\4\267\7\0\2\253\16\267\4\0\2\267"+
-    "\1\u07ac\16\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\267\1\u0507\14\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u07ad\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\15\267\1\u07ae\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\u07af"+
-    "\3\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\267\1\u07b0\3\267\1\u07b1\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u07b2\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\267\1\u07b3\14\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\14\267\1\u07b4\1\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\1\267\1\u07b5"+
-    "\1\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\4\267\1\u07b6\1\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u07b7\15\267\4\0"+
-    "\21\267\13\0\1\u07b8\106\0\1\u07b9\15\0\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u06f0\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u07ba"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u07bb\7\0"+
-    "\2\253\16\267\4\0\21\267\14\0\1\u07bc\6\0\1\u07bd"+
-    "\26\0\1\u07be\2\0\1\u07bf\62\0\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\1\267\1\u07c0\2\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u07c1\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u07c2\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u07c3\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u07c4\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u07c5\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u07c6\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u07c7\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u07c8\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\15\267\1\u07c9"+
-    "\3\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u0488\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u07ca\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u0364\11\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u0481\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u07cb\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u07cc\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u07cd\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u04df"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\24\0\1\u07ce\62\0"+
-    "\1\u07cf\30\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u07d0\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u07d1\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u07d2\1\u07d3\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\2\267\1\u07d4\1\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\4\267\1\u0580\11\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\u07d5\5\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u07d6\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u07d7\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u0580\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u07d8\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\3\267\1\u07d9"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\7\267\1\u023f\6\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u07da\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\1\253\1\u0237\4\253\1\0\2\253\1\u0237\2\0"+
-    "\1\253\5\u0237\1\253\1\0\5\253\2\u0237\1\0\2\253"+
-    "\1\0\2\u0237\1\253\1\u0237\2\0\2\u0237\2\253\7\0"+
-    "\4\253\1\u0237\1\253\1\u0237\5\253\1\u0237\3\253\4\0"+
-    "\11\253\1\u0237\5\253\2\u0237\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u03a2\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u07db\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u07dc\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u03c3\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u07dd\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\u07de\5\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u07df\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u07e0\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u07e1\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u07e2\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u07e3\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\u07e4\5\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\2\267\1\u07e5\1\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u07e6\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u07e7\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u07e8"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\2\267\1\u036f"+
-    "\1\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\2\267\1\u07e9"+
-    "\1\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u07ea\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u07eb\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\12\267\1\u07ec\3\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u07ed\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\14\267\1\u07ee\1\267\4\0\21\267\41\0\1\u07ef\76\0"+
-    "\1\253\12\0\2\267\1\u07f0\3\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\3\267\1\u07f1\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u07f2\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\4\267\1\u07f3\1\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u07f4\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\2\267\1\u0766\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\3\267"+
-    "\1\u07f5\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u07f6\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0201\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\2\267\1\u07f7\16\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u07f8\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\3\267\1\u07f9\12\267\4\0\21\267\21\0"+
-    "\1\u07fa\154\0\1\u07fb\203\0\1\u07fc\136\0\1\342\74\0"+
-    "\1\u07fd\162\0\1\u07fe\56\0\2\73\1\0\1\73\1\0"+
-    "\2\73\4\0\6\73\1\0\1\73\1\u07ff\36\73\1\u07ff"+
-    "\55\73\21\0\1\u0800\116\0\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\4\152\10\0\1\141\5\152"+
-    "\1\u0801\10\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\2\152\1\u02e1\3\152"+
-    "\1\0\1\141\1\152\1\0\4\152\2\0\4\152\10\0"+
-    "\1\141\16\152\4\0\21\152\1\141\12\0\6\152\1\0"+
-    "\3\152\2\0\7\152\1\0\1\u0173\6\152\1\0\1\141"+
-    "\1\152\1\0\4\152\2\0\1\152\1\u06de\2\152\10\0"+
-    "\1\141\16\152\4\0\21\152\21\0\1\u0802\137\0\1\u0803"+
-    "\200\0\1\u0461\136\0\1\u0804\160\0\1\u0805\116\0\1\u0806"+
-    "\154\0\1\u0461\103\0\1\u0807\157\0\1\u0640\117\0\1\u0640"+
-    "\137\0\1\u0808\75\0\10\u0471\1\0\3\u0471\1\u033c\7\u0471"+
-    "\1\u033c\3\u0471\5\u033c\2\u0471\1\u0570\4\u0471\2\u033c\4\u0471"+
-    "\2\u033c\1\u0471\1\u033c\2\u0471\2\u033c\15\u0471\1\u033c\1\u0471"+
-    "\1\u033c\5\u0471\1\u033c\20\u0471\1\u033c\5\u0471\2\u033c\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0809\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\15\267\1\u080a\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\4\267"+
-    "\1\u080b\1\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u080c\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u0480\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u03cf\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u080d\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u080e\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u080f\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u0810\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\2\267\1\u04b9\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\2\267\1\u0811\16\267"+
-    "\1\253\12\0\3\267\1\u05cd\2\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u0812\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u0813\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0814\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\1\0\1\u0815"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u037e\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u0816\13\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\11\267\1\u0817\4\267\4\0\21\267\1\253\12\0"+
-    "\1\u0818\5\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0819"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u081a\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u081b\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u081c\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\267\1\u081d\14\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u081e\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\1\u081f\3\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u0820\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0821\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u0822\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u0823\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u0824\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267"+
-    "\1\u0825\2\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\1\u0826\20\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u0827\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u0828\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u0829\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u082a\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\1\267\1\u082b\2\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u082c\11\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u082d\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\3\267\1\u082e\12\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u082f\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u0830\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u0831\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u0832\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u0833\10\267\4\0\21\267\1\253"+
-    "\12\0\2\267\1\u05cc\1\u05cd\2\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u0834\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\2\267\1\u05b2\1\267\1\u05ce\1\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u0835\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u0836\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\6\267\1\327\12\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0837"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u0838\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267"+
-    "\1\u0839\4\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u083a\13\267\4\0\21\267\42\0\1\u083b"+
-    "\140\0\1\u083c\74\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u083d\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\15\267\1\u0349\4\0"+
-    "\21\267\61\0\1\u083e\137\0\1\u083f\116\0\1\u0840\201\0"+
-    "\1\u0841\35\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u0842\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u0843\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u0844\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u03d9\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0845\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u0846\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u0847\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\2\267\1\u0848\13\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0849\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u084a"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267"+
-    "\1\u07ee\4\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u084b\10\267\4\0\21\267\1\253\12\0"+
-    "\1\u084c\1\u084d\4\267\1\0\1\267\1\u068d\1\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\2\267"+
-    "\1\u084e\3\267\1\327\12\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u06c5\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\43\0\1\u084f\154\0\1\u084f"+
-    "\57\0\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\7\267\1\u0850\6\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\267\1\u0851\14\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0852\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267"+
-    "\1\u0853\2\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u0854\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u0855\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u0856\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\3\267"+
-    "\1\u05d0\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0857\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u0858\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u0859\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u085a\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u038f\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u085b\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u085c"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u06fa"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u085d"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u085e\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u085f\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u0860\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0861\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\3\267\1\u0862"+
-    "\2\267\1\0\1\267\1\u0863\1\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\12\267\1\u0864\3\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u0865\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0866\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\4\267\1\u0867"+
-    "\2\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u0868\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0869"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u086a\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u086b\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u086c\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u037e\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\76\0\1\u086d\41\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u086e"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u086f\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0870"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u0871\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\4\267\1\u0872\11\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u0873\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0874\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u0875\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u0876\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\2\267\1\u05a8\16\267\42\0\1\u0877\157\0\1\u076d"+
-    "\137\0\1\u0878\120\0\1\u0879\74\0\2\73\1\0\1\73"+
-    "\1\0\2\73\4\0\6\73\1\0\11\73\1\u012e\25\73"+
-    "\1\u012e\56\73\1\141\12\0\6\152\1\0\3\152\2\0"+
-    "\7\152\1\0\1\u0173\6\152\1\0\1\141\1\152\1\0"+
-    "\4\152\2\0\4\152\10\0\1\141\16\152\4\0\13\152"+
-    "\1\u06dd\5\152\44\0\1\u087a\153\0\1\u087b\121\0\1\u087c"+
-    "\155\0\1\u087d\166\0\1\u087e\30\0\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u087f"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0880\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\4\267\1\u0881\1\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u073d\1\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0882\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\4\267\1\u0883\1\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\1\267\1\u0884\2\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u0885\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u0886\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\4\267\1\u037e"+
-    "\11\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u0887\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u0888\15\267\4\0"+
-    "\21\267\52\0\1\u07be\65\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\u0889\5\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u088a\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u088b\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u088c\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u088d\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u088e\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u088f\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\2\267\1\u05cc\3\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\16\267\1\u05d4\2\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\1\0\1\u0890\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u0891\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u0892\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\267\1\u0893\14\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u0894\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u0895\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\1\267\1\u0896"+
-    "\2\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\2\267\1\u0897\1\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\4\267\1\u0898\1\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u0899\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u089a\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u089b\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\1\u089c\15\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\15\267\1\u089d\3\267\1\253"+
-    "\12\0\6\267\1\0\1\267\1\u089e\1\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u089f\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u08a0\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\6\267\1\u08a1\7\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\2\267\1\u08a2\13\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u08a3\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u08a4\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u0697\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u08a5\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u0349"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u057f\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\3\267"+
-    "\1\u08a6\2\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u08a7\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u08a8\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u08a9\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\61\0\1\u08aa\155\0\1\u08ab\40\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u0677\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\42\0"+
-    "\1\u08ac\140\0\1\u08ad\176\0\1\u08ae\117\0\1\u08af\55\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u07ae\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\3\267\1\u04a8\12\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u08b0\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u08b1\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\13\267\1\u048f\5\267"+
-    "\1\253\12\0\3\267\1\u08b2\2\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\15\267\1\u037e\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u08b3"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u0481\13\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u037e\13\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u08b4\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u08b5\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u08b6\1\u08b7\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\77\0\1\u08b8\40\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\2\267\1\u08b9\16\267\1\253"+
-    "\12\0\3\267\1\u05cd\2\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\1\u05d2\20\267"+
-    "\1\253\12\0\1\267\1\u08ba\4\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\1\0\1\u08bb\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u08bc\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\6\267\1\u08bd\7\267\4\0"+
-    "\21\267\1\253\12\0\1\u0674\5\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u08be\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u08bf\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\u08c0\5\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\13\267\1\u074a\5\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\4\267"+
-    "\1\u023f\1\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\3\267\1\u08c1\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u08c2\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u05fd\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u08c3\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u08c4\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\7\267\1\u08c5\6\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u0481\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u08c6\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u08c7\2\267\7\0\2\253\1\u08c8\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u08c9\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u08ca\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u08cb\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\11\267\1\u08cc\4\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u08cd\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\3\267\1\u08ce\12\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\4\267\1\u08cf\1\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u08d0\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u08d1\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u08d2\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u08d3\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u08d4"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\3\267\1\u08d5\2\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267"+
-    "\1\u08d6\4\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\1\267\1\u08d7\4\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u08d8\13\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u078c\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\76\0\1\u08d9"+
-    "\121\0\1\u08da\21\0\1\u08db\77\0\1\u08dc\155\0\1\u08dd"+
-    "\141\0\1\u087d\136\0\1\u0461\157\0\1\u0461\133\0\1\u08de"+
-    "\42\0\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\u08df\5\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u08e0\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u08e1\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\2\267\1\u08e2\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\2\267\1\u08e3"+
-    "\1\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\2\267\1\u08e4"+
-    "\1\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\4\267"+
-    "\1\u08e5\1\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267"+
-    "\1\u08e6\2\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\1\u05ac\6\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u08e7"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u08e8\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u06c5"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\7\267\1\u08e9\6\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\2\267\1\u08ea\16\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\2\267\1\u04e9\13\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u08eb\7\0"+
-    "\2\253\16\267\4\0\21\267\13\0\1\u08ec\106\0\1\u08ed"+
-    "\15\0\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u08ee\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u08ef\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\1\u08f0\5\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u08f1\11\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u08f2\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u08f3\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u08f4"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\1\u08f5\3\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\11\267\1\u08f6\4\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u08f7"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u08f8\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u08f9\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u08fa\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u08fb\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u07ee\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u08fc\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\u0868\5\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u08fd\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u08fe\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u08ff\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u0900\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0901\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0902\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u08cc\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\2\267\1\u0349"+
-    "\1\267\7\0\2\253\16\267\4\0\21\267\42\0\1\u0903"+
-    "\156\0\1\u0904\136\0\1\u0905\162\0\1\u0906\116\0\1\u0907"+
-    "\117\0\1\u0908\75\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\2\267\1\u0909"+
-    "\13\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u090a\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u090b\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u090c\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u0349\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\14\267\1\u090d\4\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u090e\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u090f"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\7\267\1\u0910\6\267\4\0\21\267\75\0\1\u0907\42\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u08b6\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u0911\1\267\7\0\2\253\16\267\4\0\21\267\52\0"+
-    "\1\u0912\65\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u0913\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\3\267\1\u0914\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u07ad\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\7\267\1\u03d9\6\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u0812\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u0915\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0916"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0917"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u0918\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u0919"+
-    "\5\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u091a"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u091b"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u0590\5\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u037e\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u0790\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u091c\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u091d\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\4\267\1\u01f5"+
-    "\11\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u08cd\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\3\267\1\u091e\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\13\267\1\u091f"+
-    "\5\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u0920\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\11\267\1\u0921\4\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\4\267\1\u0922\11\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\4\267\1\u0923\11\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\1\u037e\20\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u0924\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u0925\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\3\267\1\u0926\12\267\4\0\21\267\104\0"+
-    "\1\u06ce\75\0\1\u0518\140\0\1\u06ce\136\0\1\u077b\174\0"+
-    "\1\u0640\40\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\7\267\1\u0876\6\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u0927\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u0928\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\2\267\1\u0929\1\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u092a\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u092b\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\5\267\1\u092c\10\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u092d\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\2\267\1\u092e\3\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\1\0\1\u092f\3\267\1\u0930\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\267\1\u0931\2\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\7\267\1\u0768\6\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u0932\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u0933\10\267\4\0"+
-    "\21\267\40\0\1\u0934\142\0\1\u0935\74\0\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\4\267\1\u0936\11\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u0937"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u0938"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\3\267"+
-    "\1\u08d5\2\267\1\0\2\267\1\u04b9\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u0939\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u093a\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\5\267\1\u093b"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u093c\15\267"+
-    "\4\0\21\267\1\253\12\0\2\267\1\u05cc\3\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\2\267\1\u093d\13\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u037e\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u093e\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u0790\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\2\267\1\u093f\13\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u0940\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u0941\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u0942\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0943\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u0944\11\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\u0945"+
-    "\3\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u0946\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\60\0\1\u086d\117\0"+
-    "\1\u0947\202\0\1\u0948\74\0\1\u0949\200\0\1\u094a\116\0"+
-    "\1\u094b\57\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u094c\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u04aa\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\3\267\1\u094d\2\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u094e\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u094f\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\2\267"+
-    "\1\u0950\1\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\3\267\1\u0951\12\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\1\0\1\u0952"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u0953\15\267\4\0\21\267\102\0\1\u0954\35\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\3\267\1\u0955"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\1\267\1\u0956\4\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0957\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u0958\4\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\11\267\1\u0959\4\267\4\0\21\267\1\253"+
-    "\12\0\1\u095a\5\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\3\267\1\u095b"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\7\267\1\u095c"+
-    "\11\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\2\267\1\u095d\3\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\6\267\1\u0349\7\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u037e\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u095e\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u0790\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u095f\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u0960\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u0961\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u0962\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\1\267\1\u0963\4\267\1\0\2\267\1\u0964\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\1\u0965"+
-    "\20\267\1\253\12\0\6\267\1\0\1\267\1\u0966\1\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u0967\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u0968\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u0969\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\13\267\1\u0580"+
-    "\5\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\u096a\3\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\13\267\1\u06c5\2\267\4\0\21\267"+
-    "\1\253\12\0\4\267\1\u05ce\1\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\6\267\1\u096b\7\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\6\267\1\u0580\7\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u096c\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\117\0\1\u096d\20\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\1\0\1\u096e\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u096f\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\4\267\1\u0970\11\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u0971\15\267\4\0"+
-    "\21\267\53\0\1\u0972\166\0\1\u0973\35\0\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\2\267\1\u0974"+
-    "\1\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\3\267\1\u0975\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\267\1\u0976\2\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u01f5"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\1\267"+
-    "\1\u0977\4\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\3\267\1\u0978\12\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u0979\5\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\3\267"+
-    "\1\u037e\12\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u097a\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u097b\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\4\267"+
-    "\1\u097c\11\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\3\267\1\u01f5\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u097d\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\1\u097e\15\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u097f\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u0980\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u0981\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\103\0\1\u0982\131\0\1\u075e\123\0\1\u0983\136\0"+
-    "\1\u0984\120\0\1\u0985\76\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\1\u0986\3\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u0987\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0988\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u0989\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\1\u098a\3\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u098b\15\267\4\0\21\267"+
-    "\13\0\1\u098c\124\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\3\267\1\u078c\7\0\2\253\16\267"+
-    "\4\0\21\267\103\0\1\u098d\34\0\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u098e\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\u098f\15\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\11\267"+
-    "\1\u0990\4\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\16\267\1\u05d4\2\267\1\253\12\0\1\267\1\u0991"+
-    "\4\267\1\0\2\267\1\u04b9\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\3\267\1\u0992\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u0993\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\5\267\1\u0994\10\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0995"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\1\u0996\5\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\1\267\1\u0997\14\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\u0998\5\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\1\267\1\u097b\2\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u0999\4\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u099a\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u099b\1\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u099c\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\7\267"+
-    "\1\u099d\6\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u099e\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u099f\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u09a0\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u0680\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\11\267\1\u09a1"+
-    "\4\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\u09a2\5\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u09a3\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\44\0\1\u09a4\126\0\1\u09a5\104\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u09a6\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u09a7\10\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u037e\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\63\0"+
-    "\1\u09a8\153\0\1\u09a9\40\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u09aa\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0587"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u09ab\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u09ac\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u09ad\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\3\267\1\u09ae\2\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u09af\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u07ee\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\1\u07a8\5\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\1\267\1\u09b0\2\267\1\u09b1"+
-    "\1\267\1\0\2\267\1\u04b9\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\3\267\1\u09b2\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\16\267\1\u09b3\2\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u097c\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u09b4\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\267\1\u09b5\2\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u09b6\3\267\7\0\2\253\16\267\4\0\21\267\100\0"+
-    "\1\u09b7\142\0\1\u09b8\75\0\1\u086d\200\0\1\u09b9\35\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\u09ba\5\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\5\267\1\u09bb\10\267\4\0\21\267\1\253"+
-    "\12\0\4\267\1\u09bc\1\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u09bd\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\2\267\1\u0717\13\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u06c5\11\267\4\0\21\267\102\0"+
-    "\1\u09be\144\0\1\u09bf\30\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u09c0\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u09c1\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u09c2\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u09c3\1\267\7\0"+
-    "\2\253\1\u09c4\15\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\5\267\1\u09c5\10\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u09c6"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u09c7\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\2\267\1\u09c8\1\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u09c9"+
-    "\3\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\1\u09ca"+
-    "\5\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u098b\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u07ee\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\4\267\1\u09cb\2\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\16\267\1\u09b3\2\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u09cc"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\2\267\1\u09cd\13\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u09ce\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u09cf"+
-    "\2\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\1\267"+
-    "\1\u058c\4\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\3\267\1\u09b2\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\3\267"+
-    "\1\u09d0\2\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\u0862\3\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u09d1"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\4\267\1\u09d2\11\267\4\0\21\267\16\0\1\u09d3\1\u09d4"+
-    "\3\0\1\u09d5\63\0\1\u09d6\103\0\1\u09d7\64\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u05fd\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\4\267\1\u09d8\1\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\60\0"+
-    "\1\u09d9\154\0\1\u09da\42\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\1\0\1\u09db\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u09dc"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u09dd\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u09de\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\4\267\1\u08f8\11\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u09df\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\1\u09e0\15\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\1\267\1\u09e1\4\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\2\267\1\u09e2\1\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u09e3\10\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\1\0\1\u09e4\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\2\267\1\u09e5\3\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u08f8\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\42\0\1\u09e6\155\0\1\u09e7\122\0\1\u09e8\74\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\3\267\1\u09e9\2\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u09ea\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u09eb\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u09ec\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\106\0"+
-    "\1\u09ed\111\0\1\u09ee\57\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\6\267"+
-    "\1\u0835\7\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\14\267"+
-    "\1\u09ef\1\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u09f0\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u09f1\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u09f2\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u09f3\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u09f4\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\2\267\1\u09f5\3\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u09f6\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u09f7\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u09f8\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\1\267\1\u082f\4\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u09f9\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u09fa\15\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u09fb\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\15\267\1\u06c5\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\4\267\1\u09fc\11\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u05be\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u057f\15\267\4\0\21\267\43\0\1\u09d9"+
-    "\135\0\1\u09fd\173\0\1\u09fe\137\0\1\u09ff\125\0\1\u0a00"+
-    "\54\0\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\5\267\1\u0a01\10\267\4\0"+
-    "\21\267\42\0\1\u086d\176\0\1\u0a02\52\0\1\u0a03\123\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u0a04\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u0a05\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0a06"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267";
-
-  private static final String ZZ_TRANS_PACKED_2 =
-    "\1\0\4\267\2\0\1\u0a07\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u0704\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\4\267"+
-    "\1\u0a08\11\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0a09\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u0a0a\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\4\267\1\u0a0b"+
-    "\11\267\4\0\21\267\15\0\1\u0a0c\122\0\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\1\u0a0d\15\267\4\0\21\267\24\0\1\u0a0e\130\0"+
-    "\1\u0a0f\225\0\1\u0a10\34\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\4\267"+
-    "\1\u0587\11\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\5\267"+
-    "\1\u0a11\10\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\1\u0a12"+
-    "\15\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0a13"+
-    "\10\267\4\0\21\267\104\0\1\u0a14\132\0\1\u0a15\40\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\1\u0a16\3\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\3\267\1\u09b2\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u0835"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\3\267\1\u0a17\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\2\267\1\u03da\1\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\267\1\u0a18\2\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0a19\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\4\267\1\u0684"+
-    "\11\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\u0a1a\3\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\13\267"+
-    "\1\u07ee\5\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\3\267\1\u0a1b\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\4\267\1\u0a1c\11\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u0a1d\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\1\267\1\u04b3\2\267\7\0\2\253\16\267\4\0"+
-    "\21\267\102\0\1\u0a1e\100\0\1\u0a1f\134\0\1\u0a20\141\0"+
-    "\1\u0a21\75\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\2\267\1\u09fb\13\267"+
-    "\4\0\21\267\60\0\1\u0a22\154\0\1\u0a23\42\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\2\267\1\u0a24\3\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u0a25\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\4\267\1\u0a26\11\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\3\267\1\u0760"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0a27\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\2\267"+
-    "\1\u0a28\13\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\6\267"+
-    "\1\u08f8\7\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\2\267\1\u093d\3\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\60\0\1\u0a29\57\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\1\267\1\u0a2a\4\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\16\267\4\0\21\267\105\0"+
-    "\1\u0a2b\113\0\1\u0a2c\177\0\1\u0a2d\16\0\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0a2e"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\10\267\1\u06fa\5\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\1\267\1\u0a2f"+
-    "\2\267\7\0\2\253\16\267\4\0\21\267\62\0\1\u0a30"+
-    "\157\0\1\u0a31\35\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0a32\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u0a33\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\11\267\1\u0a34"+
-    "\4\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\1\267\1\u0a35\4\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u0a36\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\7\267\1\u0a37\11\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0a38"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\2\267\1\u08eb\3\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\106\0\1\u0a39\134\0\1\u086d\107\0"+
-    "\1\u0a3a\125\0\1\u0a3b\111\0\1\u0a3c\36\0\1\u0a3d\130\0"+
-    "\1\u0a3e\74\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u0a3f\10\267"+
-    "\4\0\21\267\1\253\12\0\1\267\1\u0a40\4\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\1\267\1\u0720"+
-    "\1\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\4\267\1\u0a41\1\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u088f\10\267"+
-    "\4\0\21\267\101\0\1\u0a42\36\0\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\1\0\1\u0a43\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\77\0\1\u0a44\103\0\1\u0a45"+
-    "\171\0\1\u0a46\42\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u0a47\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\2\267\1\u0a48\1\267\7\0\2\253"+
-    "\16\267\4\0\21\267\60\0\1\u0a49\165\0\1\u0a4a\31\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\3\267\1\u0a4b\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\1\267"+
-    "\1\u0a4c\2\267\7\0\2\253\16\267\4\0\21\267\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\1\0\1\u0a4d"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267"+
-    "\1\0\1\253\1\267\1\0\4\267\1\0\1\u0a4e\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\11\267\1\u0a4f\4\267\4\0\21\267\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\1\u0a50\3\267\7\0"+
-    "\2\253\16\267\4\0\21\267\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\3\267\1\u0a51\2\267"+
-    "\1\0\1\253\1\267\1\0\4\267\2\0\4\267\7\0"+
-    "\2\253\16\267\4\0\21\267\102\0\1\u0a52\117\0\1\u0903"+
-    "\136\0\1\u0a53\155\0\1\u0a54\122\0\1\u0a55\117\0\1\u0a56"+
-    "\75\0\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\2\267\1\u0835\13\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\3\267\1\u0a57\12\267\4\0"+
-    "\21\267\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\2\0\4\267\7\0\2\253\1\u0a58\15\267\4\0\21\267"+
-    "\102\0\1\u0a59\154\0\1\u0a5a\100\0\1\u0a5b\162\0\1\u0903"+
-    "\135\0\1\u0903\36\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u0a5c"+
-    "\10\267\4\0\21\267\1\253\12\0\6\267\1\0\1\267"+
-    "\1\u068d\1\267\2\0\7\267\1\0\1\u01e0\6\267\1\0"+
-    "\1\253\1\267\1\0\4\267\2\0\4\267\7\0\2\253"+
-    "\16\267\4\0\21\267\16\0\1\u0a5d\5\0\1\u05f5\174\0"+
-    "\1\u0a5e\56\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\5\267\1\u0a5f\10\267"+
-    "\4\0\21\267\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\3\267\1\u0a60\2\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\4\267\7\0\2\253\16\267"+
-    "\4\0\21\267\123\0\1\u0a61\30\0\1\u0a62\40\0\1\u0a63"+
-    "\62\0\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267"+
-    "\1\0\1\u0a64\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\1\267\1\u0a65\4\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\6\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\6\267\1\u037e\7\267\4\0\21\267"+
-    "\42\0\1\u0a66\174\0\1\u0a67\101\0\1\u0a68\173\0\1\u0a69"+
-    "\103\0\1\u0a6a\76\0\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\1\267\1\u0a6b\2\267\7\0\2\253"+
-    "\16\267\4\0\21\267\1\253\12\0\6\267\1\0\3\267"+
-    "\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\5\267\1\u091d"+
-    "\10\267\4\0\21\267\41\0\1\u0a6c\142\0\1\u0a6d\177\0"+
-    "\1\u0a6e\33\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\13\267"+
-    "\1\u0a6f\5\267\106\0\1\u0a70\113\0\1\u0a71\55\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\1\u0a72\15\267\4\0\21\267\1\253\12\0"+
-    "\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0\2\267"+
-    "\1\u0835\3\267\1\0\1\253\1\267\1\0\4\267\2\0"+
-    "\4\267\7\0\2\253\16\267\4\0\21\267\60\0\1\u0a73"+
-    "\154\0\1\u0a74\144\0\1\u0a75\54\0\1\u0a76\120\0\1\253"+
-    "\12\0\6\267\1\0\3\267\2\0\7\267\1\0\1\u01e0"+
-    "\6\267\1\0\1\253\1\267\1\0\4\267\2\0\3\267"+
-    "\1\u0691\7\0\2\253\16\267\4\0\21\267\102\0\1\u0a77"+
-    "\77\0\1\u0a78\177\0\1\u0a79\134\0\1\u0a7a\135\0\1\u0a7b"+
-    "\42\0\1\253\12\0\6\267\1\0\3\267\2\0\7\267"+
-    "\1\0\1\u01e0\3\267\1\u05b1\2\267\1\0\1\253\1\267"+
-    "\1\0\4\267\2\0\4\267\7\0\2\253\16\267\4\0"+
-    "\21\267\60\0\1\u0a7c\75\0\1\u09d3\4\0\1\u09d5\63\0"+
-    "\1\u09d6\72\0\1\u0a7d\75\0\1\253\12\0\6\267\1\0"+
-    "\3\267\2\0\7\267\1\0\1\u01e0\6\267\1\0\1\253"+
-    "\1\267\1\0\4\267\2\0\1\u0a7e\3\267\7\0\2\253"+
-    "\16\267\4\0\21\267\106\0\1\u0a7f\54\0\1\u0a80\114\0"+
-    "\1\253\12\0\6\267\1\0\3\267\2\0\7\267\1\0"+
-    "\1\u01e0\3\267\1\u0a81\2\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\21\267"+
-    "\42\0\1\u0a82\140\0\1\u0a83\156\0\1\u0a84\115\0\1\u0a73"+
-    "\210\0\1\u0903\41\0\1\u0a85\2\0\1\u0a86\4\0\1\u0a87"+
-    "\63\0\1\u0a88\134\0\1\u09d9\145\0\1\u086d\107\0\1\u086d"+
-    "\154\0\1\u0a89\142\0\1\u0a8a\35\0\1\253\12\0\6\267"+
-    "\1\0\3\267\2\0\7\267\1\0\1\u01e0\1\267\1\u06c5"+
-    "\4\267\1\0\1\253\1\267\1\0\4\267\2\0\4\267"+
-    "\7\0\2\253\16\267\4\0\21\267\40\0\1\u0a8b\160\0"+
-    "\1\u0a8c\56\0\1\253\12\0\6\267\1\0\3\267\2\0"+
-    "\7\267\1\0\1\u01e0\6\267\1\0\1\253\1\267\1\0"+
-    "\4\267\2\0\4\267\7\0\2\253\16\267\4\0\2\267"+
-    "\1\u066b\16\267\55\0\1\u0a8d\126\0\1\u0a8e\135\0\1\u0a8f"+
-    "\201\0\1\u0a90\76\0\1\u0a91\171\0\1\u0a92\137\0\1\u0a93"+
-    "\104\0\1\u0a94\172\0\1\u0a95\104\0\1\u0a96\173\0\1\u0a97"+
-    "\143\0\1\u0a98\137\0\1\u0a1f\115\0\1\u0a99\141\0\1\u0a9a"+
-    "\117\0\1\u0a9b\140\0\1\u0a9c\134\0\1\u0a9d\156\0\1\u0a9e"+
-    "\123\0\1\u0a9f\155\0\1\u0aa0\153\0\1\u0aa1\122\0\1\u0aa2"+
-    "\120\0\1\u0aa3\200\0\1\u0aa4\50\0\1\u0a85\227\0\1\u0a9b"+
-    "\107\0\1\u0aa5\104\0\1\u0aa6\246\0\1\u0aa7\63\0\1\u0aa8"+
-    "\124\0\1\u0aa9\161\0\1\u0aaa\73\0\1\u0aab\163\0\1\u0aac"+
-    "\157\0\1\u0aad\153\0\1\u0aae\122\0\1\u0aaf\140\0\1\u0ab0"+
-    "\117\0\1\u0ab1\176\0\1\u086d\101\0\1\u0ab2\154\0\1\u0ab3"+
-    "\137\0\1\u0a9b\163\0\1\u0903\76\0\1\u0ab4\154\0\1\u04fb"+
-    "\134\0\1\u0ab5\126\0\1\u0ab6\134\0\1\u0ab7\177\0\1\u0ab8"+
-    "\133\0\1\u0ab9\137\0\1\u086d\123\0\1\u0aba\140\0\1\u094a"+
-    "\116\0\1\u0abb\140\0\1\u0abc\203\0\1\u086d\126\0\1\u0984"+
-    "\42\0";
-
-  private static int [] zzUnpackTrans() {
-    int [] result = new int[249408];
-    int offset = 0;
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_1, offset, result);
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_2, offset, result);
-    return result;
-  }
+    /** ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code> */
+    static final int [] ZZ_ATTRIBUTE = TABLES.getAttribute();
 
-  private static int zzUnpackTrans(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      value--;
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
   }
 
-
   /* error codes */
   private static final int ZZ_UNKNOWN_ERROR = 0;
   private static final int ZZ_NO_MATCH = 1;
@@ -6467,75 +135,6 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
     "Error: pushback value was too large"
   };
 
-  /**
-   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
-   */
-  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
-
-  private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\6\0\2\1\1\0\2\1\1\0\2\1\14\0\1\1"+
-    "\5\0\2\1\1\11\4\1\1\11\5\1\1\11\2\1"+
-    "\2\11\2\1\4\11\1\1\1\11\1\1\1\11\26\1"+
-    "\1\11\2\1\2\11\1\1\5\11\1\1\1\11\2\1"+
-    "\1\11\2\1\1\11\1\1\2\11\14\1\1\11\7\1"+
-    "\1\11\1\1\1\11\11\1\2\11\2\1\2\11\2\1"+
-    "\1\11\6\1\1\11\4\1\1\11\5\1\1\11\10\1"+
-    "\1\11\57\1\1\11\5\1\2\11\4\1\2\11\1\1"+
-    "\2\11\5\1\3\11\4\1\5\11\1\1\1\11\6\1"+
-    "\4\11\1\1\3\11\2\1\1\11\2\1\1\11\1\1"+
-    "\1\11\1\1\1\11\5\1\2\11\5\0\1\11\105\1"+
-    "\1\11\2\0\1\1\1\0\1\1\1\11\1\0\76\1"+
-    "\1\11\2\1\3\0\1\11\16\0\1\11\2\0\1\11"+
-    "\16\0\1\1\1\11\2\1\1\0\1\11\52\1\1\11"+
-    "\130\1\2\11\3\1\1\0\1\11\1\1\15\0\1\1"+
-    "\1\0\1\11\5\0\1\1\4\11\3\1\1\11\1\0"+
-    "\1\11\1\0\1\11\4\0\101\1\1\11\1\0\1\1"+
-    "\1\0\3\1\1\0\72\1\50\0\1\11\1\1\1\0"+
-    "\3\1\1\0\242\1\25\0\2\1\2\11\2\0\44\1"+
-    "\1\0\1\11\47\1\1\0\1\11\3\0\1\1\3\0"+
-    "\1\1\1\11\2\0\1\1\11\0\1\11\11\0\1\1"+
-    "\5\0\212\1\1\0\17\1\23\0\2\1\2\0\24\1"+
-    "\1\0\30\1\41\0\205\1\1\0\15\1\16\0\14\1"+
-    "\1\0\21\1\24\0\172\1\1\0\13\1\12\0\4\1"+
-    "\1\0\10\1\4\0\1\1\6\0\66\1\1\0\3\1"+
-    "\1\0\22\1\1\0\45\1\1\0\13\1\6\0\1\1"+
-    "\1\0\3\1\13\0\70\1\2\0\2\1\4\0\16\1"+
-    "\2\0\37\1\1\0\12\1\1\11\4\0\1\1\1\11"+
-    "\1\1\2\11\5\0\14\1\1\0\45\1\2\0\1\1"+
-    "\4\0\15\1\1\0\35\1\1\11\11\1\10\0\21\1"+
-    "\1\0\31\1\6\0\10\1\1\0\2\1\1\0\35\1"+
-    "\3\0\1\11\2\0\15\1\2\0\25\1\6\0\11\1"+
-    "\1\0\34\1\1\0\4\1\2\0\21\1\5\0\6\1"+
-    "\1\0\1\1\1\0\30\1\2\0\3\1\2\0\16\1"+
-    "\4\0\6\1\2\0\26\1\2\0\2\1\2\0\15\1"+
-    "\3\0\4\1\2\0\23\1\5\0\1\1\3\0\10\1"+
-    "\1\0\1\1\3\0\4\1\2\0\16\1\4\0\1\1"+
-    "\2\0\10\1\1\0\1\1\3\0\3\1\2\0\10\1"+
-    "\6\0\5\1\1\0\1\1\3\0\2\1\2\0\7\1"+
-    "\6\0\3\1\5\0\2\1\2\0\2\1\2\0\3\1"+
-    "\5\0\2\1\3\0\1\1\2\0\2\1\4\0\1\1"+
-    "\5\0\1\1\3\0\1\1\2\0\1\1\13\0\1\1"+
-    "\2\0\1\1\22\0\1\1\50\0";
-
-  private static int [] zzUnpackAttribute() {
-    int [] result = new int[2748];
-    int offset = 0;
-    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
   /** the input device */
   private java.io.Reader zzReader;
 
@@ -6901,6 +500,18 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
 	}
 
 
+	/**
+	 * Overridden to return <code>false</code>, since identifying regular
+	 * expressions requires examining the tokens already found on the line.
+	 *
+	 * @return <code>false</code> always.
+	 */
+	@Override
+	protected boolean getSupportsStateOnlyScanning() {
+		return false;
+	}
+
+
 	/**
 	 * Returns the first token in the linked list of tokens generated
 	 * from <code>text</code>.  This method must be implemented by
@@ -7158,24 +769,6 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
     this(new java.io.InputStreamReader(in));
   }
 
-  /**
-   * Unpacks the compressed character translation table.
-   *
-   * @param packed   the packed character translation table
-   * @return         the unpacked character translation table
-   */
-  private static char [] zzUnpackCMap(String packed) {
-    char [] map = new char[0x10000];
-    int i = 0;  /* index in packed string  */
-    int j = 0;  /* index in unpacked array */
-    while (i < 202) {
-      int  count = packed.charAt(i++);
-      char value = packed.charAt(i++);
-      do map[j++] = value; while (--count > 0);
-    }
-    return map;
-  }
-
 
   /**
    * Closes the input stream.
@@ -7298,11 +891,11 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
     int zzMarkedPosL;
     int zzEndReadL = zzEndRead;
     char [] zzBufferL = zzBuffer;
-    char [] zzCMapL = ZZ_CMAP;
+    char [] zzCMapL = Tables.ZZ_CMAP;
 
-    int [] zzTransL = ZZ_TRANS;
-    int [] zzRowMapL = ZZ_ROWMAP;
-    int [] zzAttrL = ZZ_ATTRIBUTE;
+    short [] zzTransL = Tables.ZZ_TRANS;
+    int [] zzRowMapL = Tables.ZZ_ROWMAP;
+    int [] zzAttrL = Tables.ZZ_ATTRIBUTE;
 
     while (true) {
       zzMarkedPosL = zzMarkedPos;
@@ -7358,7 +951,7 @@ public class JSPTokenMaker extends AbstractMarkupTokenMaker {
       // store back cached position
       zzMarkedPos = zzMarkedPosL;
 
-      switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
+      switch (zzAction < 0 ? zzAction : Tables.ZZ_ACTION[zzAction]) {
         case 66:
           { addToken(TokenTypes.OPERATOR); yybegin(CSS_VALUE);
           }
@@ -1129,6 +1129,18 @@ public class JavaScriptTokenMaker extends AbstractJFlexCTokenMaker {
 
   /* user code: */
 
+	/**
+	 * Overridden to return <code>false</code>, since identifying regular
+	 * expressions requires examining the tokens already found on the line.
+	 *
+	 * @return <code>false</code> always.
+	 */
+	@Override
+	protected boolean getSupportsStateOnlyScanning() {
+		return false;
+	}
+
+
 	/**
      * Token type specifying we're in a JavaScript multiline comment.
      */
@@ -48,6 +48,12 @@ import org.fife.ui.rsyntaxtextarea.*;
  *   <li>You should NOT call <code>yylex()</code> on the generated scanner
  *       directly; rather, you should use <code>getTokenList</code> as you would
  *       with any other <code>TokenMaker</code> instance.</li>
+ *   <li>This class's DFA tables are loaded lazily from
+ *       <code>JavaTokenMaker.dfa</code> by its <code>Tables</code> holder class.
+ *       The build's <code>convertJFlexTables</code> task rewrites that
+ *       resource and replaces the generated tables with the
+ *       <code>Tables</code> class whenever the scanner is regenerated, so
+ *       the generated source doesn't need to be edited for this.</li>
  * </ul>
  *
  * @author Robert Futrell
@@ -68,4979 +74,32 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
   public static final int TEXT_BLOCK = 4;
 
   /**
-   * Translates characters to character classes
+   * The DFA tables, loaded from <code>JavaTokenMaker.dfa</code> the first time a
+   * line is scanned rather than when this class is loaded.
+   *
+   * @see DfaTables
    */
-  private static final String ZZ_CMAP_PACKED =
-    "\11\23\1\24\1\11\1\0\1\24\1\20\16\23\4\0\1\24\1\54"+
-    "\1\16\1\21\1\101\1\54\1\56\1\10\2\100\1\26\1\47\1\46"+
-    "\1\35\1\36\1\25\1\4\1\5\2\17\1\124\1\7\1\123\1\7"+
-    "\2\3\1\57\1\46\1\50\1\51\1\53\1\55\1\77\1\104\1\30"+
-    "\1\6\1\70\1\34\1\33\1\121\1\110\1\106\1\126\1\1\1\27"+
-    "\1\115\1\116\1\117\1\107\1\122\1\75\1\105\1\112\1\113\1\114"+
-    "\1\111\1\32\1\1\1\125\1\100\1\12\1\100\1\52\1\2\1\0"+
-    "\1\42\1\31\1\64\1\62\1\41\1\15\1\73\1\60\1\66\1\120"+
-    "\1\76\1\43\1\67\1\14\1\61\1\63\1\102\1\40\1\44\1\37"+
-    "\1\13\1\72\1\71\1\65\1\74\1\103\1\127\1\52\1\45\1\55"+
-    "\41\23\2\0\4\22\4\0\1\22\2\0\1\23\7\0\1\22\4\0"+
-    "\1\22\5\0\27\22\1\0\37\22\1\0\u01ca\22\4\0\14\22\16\0"+
-    "\5\22\7\0\1\22\1\0\1\22\21\0\160\23\5\22\1\0\2\22"+
-    "\2\0\4\22\10\0\1\22\1\0\3\22\1\0\1\22\1\0\24\22"+
-    "\1\0\123\22\1\0\213\22\1\0\5\23\2\0\236\22\11\0\46\22"+
-    "\2\0\1\22\7\0\47\22\7\0\1\22\1\0\55\23\1\0\1\23"+
-    "\1\0\2\23\1\0\2\23\1\0\1\23\10\0\33\22\5\0\3\22"+
-    "\15\0\5\23\6\0\1\22\4\0\13\23\5\0\53\22\37\23\4\0"+
-    "\2\22\1\23\143\22\1\0\1\22\10\23\1\0\6\23\2\22\2\23"+
-    "\1\0\4\23\2\22\12\23\3\22\2\0\1\22\17\0\1\23\1\22"+
-    "\1\23\36\22\33\23\2\0\131\22\13\23\1\22\16\0\12\23\41\22"+
-    "\11\23\2\22\4\0\1\22\5\0\26\22\4\23\1\22\11\23\1\22"+
-    "\3\23\1\22\5\23\22\0\31\22\3\23\104\0\1\22\1\0\13\22"+
-    "\67\0\33\23\1\0\4\23\66\22\3\23\1\22\22\23\1\22\7\23"+
-    "\12\22\2\23\2\0\12\23\1\0\7\22\1\0\7\22\1\0\3\23"+
-    "\1\0\10\22\2\0\2\22\2\0\26\22\1\0\7\22\1\0\1\22"+
-    "\3\0\4\22\2\0\1\23\1\22\7\23\2\0\2\23\2\0\3\23"+
-    "\1\22\10\0\1\23\4\0\2\22\1\0\3\22\2\23\2\0\12\23"+
-    "\4\22\7\0\1\22\5\0\3\23\1\0\6\22\4\0\2\22\2\0"+
-    "\26\22\1\0\7\22\1\0\2\22\1\0\2\22\1\0\2\22\2\0"+
-    "\1\23\1\0\5\23\4\0\2\23\2\0\3\23\3\0\1\23\7\0"+
-    "\4\22\1\0\1\22\7\0\14\23\3\22\1\23\13\0\3\23\1\0"+
-    "\11\22\1\0\3\22\1\0\26\22\1\0\7\22\1\0\2\22\1\0"+
-    "\5\22\2\0\1\23\1\22\10\23\1\0\3\23\1\0\3\23\2\0"+
-    "\1\22\17\0\2\22\2\23\2\0\12\23\1\0\1\22\17\0\3\23"+
-    "\1\0\10\22\2\0\2\22\2\0\26\22\1\0\7\22\1\0\2\22"+
-    "\1\0\5\22\2\0\1\23\1\22\7\23\2\0\2\23\2\0\3\23"+
-    "\10\0\2\23\4\0\2\22\1\0\3\22\2\23\2\0\12\23\1\0"+
-    "\1\22\20\0\1\23\1\22\1\0\6\22\3\0\3\22\1\0\4\22"+
-    "\3\0\2\22\1\0\1\22\1\0\2\22\3\0\2\22\3\0\3\22"+
-    "\3\0\14\22\4\0\5\23\3\0\3\23\1\0\4\23\2\0\1\22"+
-    "\6\0\1\23\16\0\12\23\11\0\1\22\7\0\3\23\1\0\10\22"+
-    "\1\0\3\22\1\0\27\22\1\0\12\22\1\0\5\22\3\0\1\22"+
-    "\7\23\1\0\3\23\1\0\4\23\7\0\2\23\1\0\2\22\6\0"+
-    "\2\22\2\23\2\0\12\23\22\0\2\23\1\0\10\22\1\0\3\22"+
-    "\1\0\27\22\1\0\12\22\1\0\5\22\2\0\1\23\1\22\7\23"+
-    "\1\0\3\23\1\0\4\23\7\0\2\23\7\0\1\22\1\0\2\22"+
-    "\2\23\2\0\12\23\1\0\2\22\17\0\2\23\1\0\10\22\1\0"+
-    "\3\22\1\0\51\22\2\0\1\22\7\23\1\0\3\23\1\0\4\23"+
-    "\1\22\10\0\1\23\10\0\2\22\2\23\2\0\12\23\12\0\6\22"+
-    "\2\0\2\23\1\0\22\22\3\0\30\22\1\0\11\22\1\0\1\22"+
-    "\2\0\7\22\3\0\1\23\4\0\6\23\1\0\1\23\1\0\10\23"+
-    "\22\0\2\23\15\0\60\22\1\23\2\22\7\23\4\0\10\22\10\23"+
-    "\1\0\12\23\47\0\2\22\1\0\1\22\2\0\2\22\1\0\1\22"+
-    "\2\0\1\22\6\0\4\22\1\0\7\22\1\0\3\22\1\0\1\22"+
-    "\1\0\1\22\2\0\2\22\1\0\4\22\1\23\2\22\6\23\1\0"+
-    "\2\23\1\22\2\0\5\22\1\0\1\22\1\0\6\23\2\0\12\23"+
-    "\2\0\4\22\40\0\1\22\27\0\2\23\6\0\12\23\13\0\1\23"+
-    "\1\0\1\23\1\0\1\23\4\0\2\23\10\22\1\0\44\22\4\0"+
-    "\24\23\1\0\2\23\5\22\13\23\1\0\44\23\11\0\1\23\71\0"+
-    "\53\22\24\23\1\22\12\23\6\0\6\22\4\23\4\22\3\23\1\22"+
-    "\3\23\2\22\7\23\3\22\4\23\15\22\14\23\1\22\17\23\2\0"+
-    "\46\22\1\0\1\22\5\0\1\22\2\0\53\22\1\0\u014d\22\1\0"+
-    "\4\22\2\0\7\22\1\0\1\22\1\0\4\22\2\0\51\22\1\0"+
-    "\4\22\2\0\41\22\1\0\4\22\2\0\7\22\1\0\1\22\1\0"+
-    "\4\22\2\0\17\22\1\0\71\22\1\0\4\22\2\0\103\22\2\0"+
-    "\3\23\40\0\20\22\20\0\125\22\14\0\u026c\22\2\0\21\22\1\0"+
-    "\32\22\5\0\113\22\3\0\3\22\17\0\15\22\1\0\4\22\3\23"+
-    "\13\0\22\22\3\23\13\0\22\22\2\23\14\0\15\22\1\0\3\22"+
-    "\1\0\2\23\14\0\64\22\40\23\3\0\1\22\3\0\2\22\1\23"+
-    "\2\0\12\23\41\0\3\23\2\0\12\23\6\0\130\22\10\0\51\22"+
-    "\1\23\1\22\5\0\106\22\12\0\35\22\3\0\14\23\4\0\14\23"+
-    "\12\0\12\23\36\22\2\0\5\22\13\0\54\22\4\0\21\23\7\22"+
-    "\2\23\6\0\12\23\46\0\27\22\5\23\4\0\65\22\12\23\1\0"+
-    "\35\23\2\0\13\23\6\0\12\23\15\0\1\22\130\0\5\23\57\22"+
-    "\21\23\7\22\4\0\12\23\21\0\11\23\14\0\3\23\36\22\15\23"+
-    "\2\22\12\23\54\22\16\23\14\0\44\22\24\23\10\0\12\23\3\0"+
-    "\3\22\12\23\44\22\122\0\3\23\1\0\25\23\4\22\1\23\4\22"+
-    "\3\23\2\22\11\0\300\22\47\23\25\0\4\23\u0116\22\2\0\6\22"+
-    "\2\0\46\22\2\0\6\22\2\0\10\22\1\0\1\22\1\0\1\22"+
-    "\1\0\1\22\1\0\37\22\2\0\65\22\1\0\7\22\1\0\1\22"+
-    "\3\0\3\22\1\0\7\22\3\0\4\22\2\0\6\22\4\0\15\22"+
-    "\5\0\3\22\1\0\7\22\16\0\5\23\32\0\5\23\20\0\2\22"+
-    "\23\0\1\22\13\0\5\23\5\0\6\23\1\0\1\22\15\0\1\22"+
-    "\20\0\15\22\3\0\33\22\25\0\15\23\4\0\1\23\3\0\14\23"+
-    "\21\0\1\22\4\0\1\22\2\0\12\22\1\0\1\22\3\0\5\22"+
-    "\6\0\1\22\1\0\1\22\1\0\1\22\1\0\4\22\1\0\13\22"+
-    "\2\0\4\22\5\0\5\22\4\0\1\22\21\0\51\22\u0a77\0\57\22"+
-    "\1\0\57\22\1\0\205\22\6\0\4\22\3\23\2\22\14\0\46\22"+
-    "\1\0\1\22\5\0\1\22\2\0\70\22\7\0\1\22\17\0\1\23"+
-    "\27\22\11\0\7\22\1\0\7\22\1\0\7\22\1\0\7\22\1\0"+
-    "\7\22\1\0\7\22\1\0\7\22\1\0\7\22\1\0\40\23\57\0"+
-    "\1\22\u01d5\0\3\22\31\0\11\22\6\23\1\0\5\22\2\0\5\22"+
-    "\4\0\126\22\2\0\2\23\2\0\3\22\1\0\132\22\1\0\4\22"+
-    "\5\0\51\22\3\0\136\22\21\0\33\22\65\0\20\22\u0200\0\u19b6\22"+
-    "\112\0\u51cd\22\63\0\u048d\22\103\0\56\22\2\0\u010d\22\3\0\20\22"+
-    "\12\23\2\22\24\0\57\22\1\23\4\0\12\23\1\0\31\22\7\0"+
-    "\1\23\120\22\2\23\45\0\11\22\2\0\147\22\2\0\4\22\1\0"+
-    "\4\22\14\0\13\22\115\0\12\22\1\23\3\22\1\23\4\22\1\23"+
-    "\27\22\5\23\20\0\1\22\7\0\64\22\14\0\2\23\62\22\21\23"+
-    "\13\0\12\23\6\0\22\23\6\22\3\0\1\22\4\0\12\23\34\22"+
-    "\10\23\2\0\27\22\15\23\14\0\35\22\3\0\4\23\57\22\16\23"+
-    "\16\0\1\22\12\23\46\0\51\22\16\23\11\0\3\22\1\23\10\22"+
-    "\2\23\2\0\12\23\6\0\27\22\3\0\1\22\1\23\4\0\60\22"+
-    "\1\23\1\22\3\23\2\22\2\23\5\22\2\23\1\22\1\23\1\22"+
-    "\30\0\3\22\2\0\13\22\5\23\2\0\3\22\2\23\12\0\6\22"+
-    "\2\0\6\22\2\0\6\22\11\0\7\22\1\0\7\22\221\0\43\22"+
-    "\10\23\1\0\2\23\2\0\12\23\6\0\u2ba4\22\14\0\27\22\4\0"+
-    "\61\22\u2104\0\u016e\22\2\0\152\22\46\0\7\22\14\0\5\22\5\0"+
-    "\1\22\1\23\12\22\1\0\15\22\1\0\5\22\1\0\1\22\1\0"+
-    "\2\22\1\0\2\22\1\0\154\22\41\0\u016b\22\22\0\100\22\2\0"+
-    "\66\22\50\0\15\22\3\0\20\23\20\0\7\23\14\0\2\22\30\0"+
-    "\3\22\31\0\1\22\6\0\5\22\1\0\207\22\2\0\1\23\4\0"+
-    "\1\22\13\0\12\23\7\0\32\22\4\0\1\22\1\0\32\22\13\0"+
-    "\131\22\3\0\6\22\2\0\6\22\2\0\6\22\2\0\3\22\3\0"+
-    "\2\22\3\0\2\22\22\0\3\23\4\0";
+  private static final class Tables {
 
-  /**
-   * Translates characters to character classes
-   */
-  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
+    private static final DfaTables TABLES = DfaTables.load(JavaTokenMaker.class);
 
-  /**
-   * Translates DFA states to action switch labels.
-   */
-  private static final int [] ZZ_ACTION = zzUnpackAction();
+    /** Translates characters to character classes */
+    static final char [] ZZ_CMAP = TABLES.getCMap();
 
-  private static final String ZZ_ACTION_PACKED_0 =
-    "\4\0\1\1\1\2\1\3\1\4\2\5\1\3\1\6"+
-    "\1\7\3\3\1\10\1\2\1\11\2\12\5\3\1\12"+
-    "\7\3\1\13\1\3\5\12\14\3\1\14\16\3\1\1"+
-    "\1\15\5\1\1\16\10\1\1\17\4\1\1\20\1\21"+
-    "\1\1\1\2\2\22\1\23\1\5\1\22\1\23\2\22"+
-    "\1\24\2\22\5\3\1\6\1\25\1\0\1\6\11\3"+
-    "\3\10\1\26\1\27\1\30\43\3\1\0\1\12\2\3"+
-    "\1\4\31\3\1\14\63\3\2\0\1\31\4\0\1\32"+
-    "\2\0\1\33\22\0\1\21\1\0\1\2\1\5\1\23"+
-    "\1\0\2\24\1\5\1\24\10\3\1\6\1\34\2\6"+
-    "\1\25\1\6\7\3\1\26\1\10\1\35\1\10\1\36"+
-    "\1\37\67\3\1\40\13\3\1\40\11\3\1\2\11\3"+
-    "\1\41\55\3\1\41\17\3\37\0\1\42\1\2\2\22"+
-    "\12\3\1\6\1\3\1\0\2\3\1\10\1\43\1\41"+
-    "\3\3\1\41\5\3\1\41\7\3\2\41\6\3\1\44"+
-    "\15\3\1\4\32\3\1\2\72\3\1\0\21\3\2\0"+
-    "\1\45\2\0\1\46\10\0\1\47\17\0\1\50\1\2"+
-    "\2\3\1\41\11\3\1\6\1\0\1\4\1\10\31\3"+
-    "\1\0\36\3\1\51\4\3\1\2\12\3\1\41\44\3"+
-    "\1\41\11\3\1\0\21\3\35\0\1\2\15\3\1\6"+
-    "\1\0\1\3\1\10\1\41\5\3\1\41\20\3\1\0"+
-    "\27\3\1\41\1\2\12\3\1\41\4\3\1\41\7\3"+
-    "\1\41\26\3\1\41\13\3\1\0\1\41\2\3\1\41"+
-    "\10\3\1\41\3\3\22\0\15\3\2\0\4\3\1\0"+
-    "\15\3\1\0\20\3\1\41\2\3\1\2\31\3\1\0"+
-    "\17\3\1\41\6\3\1\0\14\3\1\0\23\3\2\0"+
-    "\1\47\6\0\1\41\12\3\5\0\4\3\2\0\14\3"+
-    "\1\0\14\3\1\0\27\3\1\0\34\3\2\0\11\3"+
-    "\1\0\21\3\1\41\1\3\12\0\4\3\1\41\4\3"+
-    "\5\0\3\3\1\0\4\3\1\41\6\3\1\0\2\3"+
-    "\1\41\6\3\1\41\1\0\25\3\1\0\31\3\2\0"+
-    "\10\3\1\41\24\3\5\0\4\3\1\0\2\3\1\41"+
-    "\1\4\4\0\1\3\1\0\4\3\1\0\5\3\1\0"+
-    "\3\3\1\0\22\3\1\0\27\3\2\0\32\3\5\0"+
-    "\3\3\2\0\1\3\4\0\4\3\1\0\1\41\1\3"+
-    "\1\0\3\3\1\0\5\3\1\41\4\3\1\41\5\3"+
-    "\1\41\1\0\5\3\1\41\15\3\2\0\5\3\1\41"+
-    "\10\3\1\41\4\3\2\0\2\3\2\0\1\3\3\0"+
-    "\4\3\1\0\1\3\1\0\3\3\1\0\1\3\1\41"+
-    "\3\3\1\0\2\3\1\41\1\0\2\3\1\41\2\3"+
-    "\1\0\1\41\1\3\1\0\17\3\1\0\7\3\1\0"+
-    "\5\3\1\41\4\3\1\41\3\3\2\0\1\3\2\0"+
-    "\3\3\1\0\2\3\1\41\1\3\1\0\5\3\1\0"+
-    "\1\3\1\0\2\3\2\0\13\3\1\41\1\3\1\0"+
-    "\6\3\1\0\14\3\2\0\1\3\2\0\3\3\1\0"+
-    "\3\3\1\0\1\41\1\3\2\0\2\3\2\0\12\3"+
-    "\1\41\1\0\1\3\1\0\5\3\1\0\12\3\2\0"+
-    "\1\3\2\0\3\3\1\0\3\3\1\0\1\3\2\0"+
-    "\1\3\5\0\11\3\2\0\1\3\1\0\3\3\1\0"+
-    "\11\3\1\0\1\3\2\0\2\3\1\0\2\3\1\0"+
-    "\1\3\6\0\10\3\2\0\1\3\1\0\3\3\1\0"+
-    "\4\3\3\0\1\3\1\0\1\3\1\0\1\3\6\0"+
-    "\5\3\2\0\1\41\1\0\2\3\1\0\1\3\2\41"+
-    "\1\3\4\0\1\3\1\0\1\3\1\0\1\3\5\0"+
-    "\3\3\3\0\2\3\1\0\1\3\2\0\1\41\2\0"+
-    "\1\3\1\0\1\3\5\0\2\3\3\0\1\3\1\0"+
-    "\1\3\5\0\1\3\1\0\1\3\5\0\1\3\10\0"+
-    "\1\3\1\0\1\3\30\0\1\41\41\0";
+    /** Translates DFA states to action switch labels. */
+    static final int [] ZZ_ACTION = TABLES.getAction();
 
-  private static int [] zzUnpackAction() {
-    int [] result = new int[2055];
-    int offset = 0;
-    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAction(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
+    /** Translates a state to a row index in the transition table */
+    static final int [] ZZ_ROWMAP = TABLES.getRowMap();
 
+    /** The transition table of the DFA */
+    static final short [] ZZ_TRANS = TABLES.getTrans();
 
-  /**
-   * Translates a state to a row index in the transition table
-   */
-  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+    /** ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code> */
+    static final int [] ZZ_ATTRIBUTE = TABLES.getAttribute();
 
-  private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\130\0\260\0\u0108\0\u0160\0\u01b8\0\u0210\0\u0210"+
-    "\0\u0268\0\u02c0\0\u0318\0\u0370\0\u03c8\0\u0420\0\u0478\0\u04d0"+
-    "\0\u0528\0\u03c8\0\u0580\0\u05d8\0\u0630\0\u0688\0\u06e0\0\u0738"+
-    "\0\u0790\0\u07e8\0\u0840\0\u0898\0\u08f0\0\u0948\0\u09a0\0\u09f8"+
-    "\0\u0a50\0\u0aa8\0\u03c8\0\u03c8\0\u0b00\0\u0b58\0\u0bb0\0\u03c8"+
-    "\0\u0c08\0\u0c60\0\u0cb8\0\u0d10\0\u0d68\0\u0dc0\0\u0e18\0\u0e70"+
-    "\0\u0ec8\0\u0f20\0\u0f78\0\u0fd0\0\u1028\0\u1080\0\u10d8\0\u1130"+
-    "\0\u1188\0\u11e0\0\u1238\0\u1290\0\u12e8\0\u1340\0\u1398\0\u13f0"+
-    "\0\u1448\0\u14a0\0\u14f8\0\u1550\0\u15a8\0\u03c8\0\u1600\0\u1658"+
-    "\0\u16b0\0\u1708\0\u1760\0\u03c8\0\u17b8\0\u1810\0\u1868\0\u18c0"+
-    "\0\u1918\0\u1970\0\u19c8\0\u1a20\0\u03c8\0\u1a78\0\u1ad0\0\u1b28"+
-    "\0\u1b80\0\u03c8\0\u1bd8\0\u1c30\0\u1c88\0\u1ce0\0\u1d38\0\u1ce0"+
-    "\0\u1ce0\0\u1d90\0\u1de8\0\u1e40\0\u1e98\0\u1ef0\0\u1f48\0\u1fa0"+
-    "\0\u1ff8\0\u2050\0\u20a8\0\u2100\0\u2158\0\u21b0\0\u03c8\0\u2208"+
-    "\0\u2260\0\u22b8\0\u2310\0\u2368\0\u23c0\0\u2418\0\u2470\0\u24c8"+
-    "\0\u2520\0\u2578\0\u25d0\0\u2628\0\u2680\0\u26d8\0\u03c8\0\u2730"+
-    "\0\u2788\0\u27e0\0\u2838\0\u2890\0\u28e8\0\u2940\0\u2998\0\u29f0"+
-    "\0\u2a48\0\u2aa0\0\u2af8\0\u2b50\0\u2ba8\0\u2c00\0\u2c58\0\u2cb0"+
-    "\0\u2d08\0\u2d60\0\u2db8\0\u2e10\0\u2e68\0\u2ec0\0\u2f18\0\u2f70"+
-    "\0\u2fc8\0\u3020\0\u3078\0\u30d0\0\u3128\0\u3180\0\u31d8\0\u3230"+
-    "\0\u3288\0\u32e0\0\u3338\0\u0630\0\u3390\0\u33e8\0\u3440\0\u3498"+
-    "\0\u34f0\0\u3548\0\u35a0\0\u35f8\0\u3650\0\u36a8\0\u3700\0\u3758"+
-    "\0\u37b0\0\u3808\0\u3860\0\u38b8\0\u3910\0\u3968\0\u39c0\0\u3a18"+
-    "\0\u3a70\0\u3ac8\0\u3b20\0\u3b78\0\u3bd0\0\u3c28\0\u3c80\0\u3cd8"+
-    "\0\u3d30\0\u3d88\0\u3de0\0\u3e38\0\u3e90\0\u3ee8\0\u3f40\0\u3f98"+
-    "\0\u3ff0\0\u4048\0\u40a0\0\u40f8\0\u4150\0\u41a8\0\u4200\0\u4258"+
-    "\0\u42b0\0\u4308\0\u4360\0\u43b8\0\u4410\0\u4468\0\u44c0\0\u4518"+
-    "\0\u4570\0\u45c8\0\u4620\0\u4678\0\u46d0\0\u4728\0\u4780\0\u47d8"+
-    "\0\u4830\0\u4888\0\u48e0\0\u4938\0\u4990\0\u49e8\0\u4a40\0\u4a98"+
-    "\0\u4af0\0\u4b48\0\u4ba0\0\u4bf8\0\u4c50\0\u4ca8\0\u4d00\0\u4d58"+
-    "\0\u4db0\0\u4e08\0\u4e60\0\u4eb8\0\u4f10\0\u4f68\0\u4fc0\0\u03c8"+
-    "\0\u5018\0\u5070\0\u50c8\0\u5120\0\u03c8\0\u5178\0\u51d0\0\u03c8"+
-    "\0\u5228\0\u5280\0\u52d8\0\u5330\0\u5388\0\u53e0\0\u5438\0\u5490"+
-    "\0\u54e8\0\u5540\0\u5598\0\u55f0\0\u5648\0\u56a0\0\u56f8\0\u5750"+
-    "\0\u57a8\0\u5800\0\u03c8\0\u5858\0\u58b0\0\u5908\0\u5960\0\u59b8"+
-    "\0\u5a10\0\u1ce0\0\u5a68\0\u5ac0\0\u5b18\0\u5b70\0\u5bc8\0\u5c20"+
-    "\0\u5c78\0\u5cd0\0\u5d28\0\u5d80\0\u5dd8\0\u03c8\0\u5e30\0\u5e88"+
-    "\0\u2208\0\u5ee0\0\u5f38\0\u5f90\0\u5fe8\0\u6040\0\u6098\0\u60f0"+
-    "\0\u6148\0\u03c8\0\u61a0\0\u03c8\0\u61f8\0\u03c8\0\u6250\0\u62a8"+
-    "\0\u6300\0\u6358\0\u63b0\0\u6408\0\u6460\0\u64b8\0\u6510\0\u6568"+
-    "\0\u65c0\0\u6618\0\u6670\0\u66c8\0\u6720\0\u6778\0\u67d0\0\u6828"+
-    "\0\u6880\0\u68d8\0\u6930\0\u6988\0\u69e0\0\u6a38\0\u6a90\0\u6ae8"+
-    "\0\u6b40\0\u6b98\0\u6bf0\0\u6c48\0\u6ca0\0\u6cf8\0\u6d50\0\u6da8"+
-    "\0\u6e00\0\u6e58\0\u6eb0\0\u6f08\0\u6f60\0\u6fb8\0\u7010\0\u7068"+
-    "\0\u70c0\0\u7118\0\u7170\0\u71c8\0\u7220\0\u7278\0\u72d0\0\u7328"+
-    "\0\u7380\0\u73d8\0\u7430\0\u7488\0\u74e0\0\u7538\0\u7590\0\u75e8"+
-    "\0\u7640\0\u7698\0\u76f0\0\u7748\0\u77a0\0\u77f8\0\u7850\0\u78a8"+
-    "\0\u7900\0\u7958\0\u0210\0\u79b0\0\u7a08\0\u7a60\0\u7ab8\0\u7b10"+
-    "\0\u7b68\0\u7bc0\0\u7c18\0\u7c70\0\u7cc8\0\u7d20\0\u7d78\0\u7dd0"+
-    "\0\u7e28\0\u7e80\0\u7ed8\0\u7f30\0\u7f88\0\u7fe0\0\u0210\0\u8038"+
-    "\0\u8090\0\u80e8\0\u8140\0\u8198\0\u81f0\0\u8248\0\u82a0\0\u82f8"+
-    "\0\u8350\0\u83a8\0\u8400\0\u8458\0\u84b0\0\u8508\0\u8560\0\u85b8"+
-    "\0\u8610\0\u8668\0\u86c0\0\u8718\0\u8770\0\u87c8\0\u8820\0\u8878"+
-    "\0\u88d0\0\u8928\0\u8980\0\u89d8\0\u8a30\0\u8a88\0\u8ae0\0\u8b38"+
-    "\0\u8b90\0\u8be8\0\u8c40\0\u8c98\0\u8cf0\0\u8d48\0\u8da0\0\u8df8"+
-    "\0\u8e50\0\u8ea8\0\u8f00\0\u8f58\0\u8fb0\0\u9008\0\u9060\0\u90b8"+
-    "\0\u9110\0\u9168\0\u91c0\0\u9218\0\u9270\0\u92c8\0\u9320\0\u9378"+
-    "\0\u93d0\0\u9428\0\u9480\0\u94d8\0\u9530\0\u9588\0\u95e0\0\u9638"+
-    "\0\u9690\0\u96e8\0\u9740\0\u9798\0\u97f0\0\u9848\0\u98a0\0\u98f8"+
-    "\0\u9950\0\u99a8\0\u9a00\0\u9a58\0\u9ab0\0\u9b08\0\u9b60\0\u9bb8"+
-    "\0\u9c10\0\u9c68\0\u9cc0\0\u9d18\0\u9d70\0\u9dc8\0\u9e20\0\u9e78"+
-    "\0\u9ed0\0\u9f28\0\u9f80\0\u03c8\0\u9fd8\0\u5a68\0\ua030\0\ua088"+
-    "\0\ua0e0\0\ua138\0\ua190\0\ua1e8\0\ua240\0\ua298\0\ua2f0\0\ua348"+
-    "\0\ua3a0\0\ua3f8\0\ua450\0\ua4a8\0\ua500\0\ua558\0\ua5b0\0\u03c8"+
-    "\0\ua608\0\ua660\0\ua6b8\0\ua710\0\ua768\0\ua7c0\0\ua818\0\ua870"+
-    "\0\ua8c8\0\ua920\0\ua978\0\ua9d0\0\uaa28\0\uaa80\0\uaad8\0\uab30"+
-    "\0\uab88\0\uabe0\0\uac38\0\uac90\0\uace8\0\uad40\0\uad98\0\uadf0"+
-    "\0\uae48\0\uaea0\0\u0210\0\uaef8\0\uaf50\0\uafa8\0\ub000\0\ub058"+
-    "\0\ub0b0\0\ub108\0\ub160\0\ub1b8\0\ub210\0\ub268\0\ub2c0\0\ub318"+
-    "\0\u5f38\0\ub370\0\ub3c8\0\ub420\0\ub478\0\ub4d0\0\ub528\0\ub580"+
-    "\0\ub5d8\0\ub630\0\ub688\0\ub6e0\0\ub738\0\ub790\0\ub7e8\0\ub840"+
-    "\0\ub898\0\ub8f0\0\ub948\0\ub9a0\0\ub9f8\0\uba50\0\ubaa8\0\ubb00"+
-    "\0\ubb58\0\ubbb0\0\ubc08\0\ubc60\0\ubcb8\0\ubd10\0\ubd68\0\ubdc0"+
-    "\0\ube18\0\ube70\0\ubec8\0\ubf20\0\ubf78\0\ubfd0\0\uc028\0\uc080"+
-    "\0\uc0d8\0\uc130\0\uc188\0\uc1e0\0\uc238\0\uc290\0\uc2e8\0\uc340"+
-    "\0\uc398\0\uc3f0\0\uc448\0\uc4a0\0\uc4f8\0\uc550\0\uc5a8\0\uc600"+
-    "\0\uc658\0\uc6b0\0\uc708\0\uc760\0\uc7b8\0\uc810\0\uc868\0\uc8c0"+
-    "\0\uc918\0\uc970\0\uc9c8\0\uca20\0\uca78\0\ucad0\0\ucb28\0\ucb80"+
-    "\0\ucbd8\0\ucc30\0\ucc88\0\ucce0\0\ucd38\0\ucd90\0\ucde8\0\uce40"+
-    "\0\uce98\0\ucef0\0\ucf48\0\ucfa0\0\ucff8\0\ud050\0\ud0a8\0\ud100"+
-    "\0\ud158\0\ud1b0\0\ud208\0\ud260\0\ud2b8\0\ud310\0\ud368\0\ud3c0"+
-    "\0\ud418\0\ud470\0\ud4c8\0\ud520\0\ud578\0\ud5d0\0\ud628\0\ud680"+
-    "\0\ud6d8\0\ud730\0\ud788\0\ud7e0\0\ud838\0\ud890\0\ud8e8\0\ud940"+
-    "\0\ud998\0\ud9f0\0\uda48\0\udaa0\0\udaf8\0\udb50\0\u03c8\0\udba8"+
-    "\0\udc00\0\udc58\0\udcb0\0\udd08\0\udd60\0\uddb8\0\ude10\0\ude68"+
-    "\0\udec0\0\udf18\0\udf70\0\udfc8\0\ue020\0\ue078\0\ue0d0\0\ue128"+
-    "\0\ue180\0\ue1d8\0\ue230\0\ue288\0\ue2e0\0\ue338\0\ue390\0\ue3e8"+
-    "\0\ue440\0\ue498\0\ue4f0\0\ue548\0\ue5a0\0\ue5f8\0\ue650\0\ue6a8"+
-    "\0\ue700\0\ue758\0\ue7b0\0\ue808\0\ue860\0\ue8b8\0\ue910\0\ue968"+
-    "\0\ue9c0\0\uea18\0\uea70\0\ueac8\0\ueb20\0\ueb78\0\uebd0\0\uec28"+
-    "\0\uec80\0\uecd8\0\ued30\0\ued88\0\uede0\0\uee38\0\uee90\0\ueee8"+
-    "\0\uef40\0\uef98\0\ueff0\0\uf048\0\uf0a0\0\uf0f8\0\uf150\0\uf1a8"+
-    "\0\uf200\0\uf258\0\uf2b0\0\uf308\0\uf360\0\uf3b8\0\uf410\0\uf468"+
-    "\0\uf4c0\0\uf518\0\uf570\0\uf5c8\0\uf620\0\uf678\0\uf6d0\0\uf728"+
-    "\0\uf780\0\uf7d8\0\uf830\0\uf888\0\uf8e0\0\uf938\0\uf990\0\uf9e8"+
-    "\0\u0210\0\ufa40\0\ufa98\0\ufaf0\0\ufb48\0\ufba0\0\ufbf8\0\ufc50"+
-    "\0\ufca8\0\ufd00\0\ufd58\0\ufdb0\0\ufe08\0\ufe60\0\ufeb8\0\uff10"+
-    "\0\uff68\0\uffc0\1\30\1\160\1\310\1\u0120\1\u0178\1\u01d0"+
-    "\1\u0228\1\u0280\1\u02d8\1\u0330\1\u0388\1\u03e0\1\u0438\1\u0490"+
-    "\1\u04e8\1\u0540\1\u0598\1\u05f0\1\u0648\1\u06a0\1\u06f8\1\u0750"+
-    "\1\u07a8\1\u0800\1\u0858\1\u08b0\1\u0908\1\u0960\1\u09b8\1\u0a10"+
-    "\1\u0a68\1\u0ac0\1\u0b18\1\u0b70\1\u0bc8\1\u0c20\1\u0c78\1\u0cd0"+
-    "\1\u0d28\1\u0d80\1\u0dd8\1\u0e30\1\u0e88\1\u0ee0\1\u0f38\1\u0f90"+
-    "\1\u0fe8\1\u1040\1\u1098\1\u10f0\1\u1148\1\u11a0\1\u11f8\1\u1250"+
-    "\1\u12a8\1\u1300\1\u1358\1\u13b0\1\u1408\1\u1460\1\u14b8\1\u1510"+
-    "\1\u1568\1\u15c0\0\ud788\1\u1618\0\ud890\1\u1670\1\u16c8\1\u1720"+
-    "\1\u1778\1\u17d0\1\u1828\1\u1880\1\u18d8\1\u1930\1\u1988\1\u19e0"+
-    "\1\u1a38\1\u1a90\1\u1ae8\1\u1b40\1\u1b98\1\u1bf0\1\u1c48\1\u1ca0"+
-    "\1\u1cf8\1\u1d50\1\u1da8\1\u1e00\1\u1e58\0\ue0d0\1\u1eb0\1\u1f08"+
-    "\1\u1f60\1\u1fb8\1\u2010\1\u2068\1\u20c0\1\u2118\1\u2170\1\u21c8"+
-    "\1\u2220\1\u2278\1\u22d0\1\u2328\1\u2380\1\u23d8\1\u2430\1\u2488"+
-    "\1\u24e0\1\u2538\1\u2590\1\u25e8\1\u2640\1\u2698\1\u26f0\1\u2748"+
-    "\1\u27a0\1\u27f8\1\u2850\1\u28a8\1\u2900\1\u2958\1\u29b0\1\u2a08"+
-    "\1\u2a60\1\u2ab8\1\u2b10\1\u2b68\1\u2bc0\1\u2c18\1\u2c70\1\u2cc8"+
-    "\1\u2d20\1\u2d78\1\u2dd0\1\u2e28\1\u2e80\1\u2ed8\1\u2f30\1\u2f88"+
-    "\1\u2fe0\1\u3038\1\u3090\1\u30e8\1\u3140\1\u3198\1\u31f0\1\u3248"+
-    "\1\u32a0\1\u32f8\1\u3350\1\u33a8\1\u3400\1\u3458\1\u34b0\1\u3508"+
-    "\1\u3560\1\u35b8\1\u3610\1\u3668\1\u36c0\1\u3718\1\u3770\1\u37c8"+
-    "\1\u3820\1\u3878\1\u38d0\1\u3928\1\u3980\1\u39d8\1\u3a30\1\u3a88"+
-    "\1\u3ae0\1\u3b38\1\u3b90\1\u3be8\1\u3c40\1\u3c98\1\u3cf0\1\u3d48"+
-    "\1\u3da0\1\u3df8\1\u3e50\1\u3ea8\1\u3f00\1\u3f58\1\u3fb0\1\u4008"+
-    "\1\u4060\1\u40b8\1\u4110\1\u4168\1\u41c0\1\u4218\1\u4270\1\u42c8"+
-    "\1\u4320\1\u4378\1\u43d0\1\u4428\1\u4480\1\u44d8\1\u4530\1\u4588"+
-    "\1\u45e0\1\u4638\1\u4690\1\u46e8\1\u4740\1\u4798\1\u47f0\1\u4848"+
-    "\1\u48a0\1\u48f8\1\u4950\1\u49a8\1\u4a00\1\u4a58\1\u4ab0\1\u4b08"+
-    "\1\u4b60\1\u4bb8\1\u4c10\1\u4c68\1\u4cc0\1\u4d18\1\u4d70\1\u4dc8"+
-    "\1\u4e20\1\u4e78\1\u4ed0\1\u4f28\1\u4f80\1\u4fd8\1\u5030\1\u5088"+
-    "\1\u50e0\1\u5138\1\u5190\1\u51e8\1\u5240\1\u5298\1\u52f0\1\u5348"+
-    "\1\u53a0\1\u53f8\1\u5450\1\u54a8\1\u5500\1\u5558\1\u55b0\1\u5608"+
-    "\1\u5660\1\u56b8\1\u5710\1\u5768\1\u57c0\1\u5818\1\u5870\1\u58c8"+
-    "\1\u5920\1\u5978\1\u59d0\1\u5a28\1\u5a80\1\u5ad8\1\u5b30\1\u5b88"+
-    "\1\u5be0\1\u5c38\1\u5c90\1\u5ce8\1\u5d40\1\u5d98\1\u5df0\1\u5e48"+
-    "\1\u5ea0\1\u5ef8\1\u5f50\1\u5fa8\1\u6000\1\u6058\1\u60b0\1\u6108"+
-    "\1\u6160\1\u61b8\1\u6210\1\u6268\1\u62c0\1\u6318\1\u6370\1\u63c8"+
-    "\1\u6420\1\u6478\1\u64d0\1\u6528\1\u6580\1\u65d8\1\u6630\1\u6688"+
-    "\1\u66e0\1\u6738\1\u6790\1\u67e8\1\u6840\1\u6898\1\u68f0\1\u6948"+
-    "\1\u69a0\1\u69f8\1\u6a50\1\u6aa8\1\u6b00\1\u6b58\1\u6bb0\1\u6c08"+
-    "\1\u6c60\1\u6cb8\1\u6d10\1\u6d68\1\u6dc0\1\u6e18\1\u6e70\1\u6ec8"+
-    "\1\u6f20\1\u6f78\1\u6fd0\1\u7028\1\u7080\1\u70d8\1\u7130\1\u7188"+
-    "\1\u71e0\1\u7238\1\u7290\1\u72e8\1\u7340\1\u7398\1\u73f0\1\u7448"+
-    "\1\u74a0\1\u74f8\1\u7550\1\u75a8\1\u7600\1\u7658\1\u76b0\1\u7708"+
-    "\1\u7760\1\u77b8\1\u7810\1\u7868\1\u78c0\1\u7918\1\u7970\1\u79c8"+
-    "\1\u7a20\1\u7a78\1\u7ad0\1\u7b28\1\u7b80\1\u7bd8\1\u4b08\1\u7c30"+
-    "\1\u7c88\1\u7ce0\1\u7d38\1\u7d90\1\u7de8\1\u7e40\1\u7e98\1\u7ef0"+
-    "\1\u7f48\1\u7fa0\1\u7ff8\1\u8050\1\u80a8\1\u8100\1\u8158\1\u81b0"+
-    "\1\u8208\1\u8260\1\u82b8\1\u8310\1\u8368\1\u83c0\1\u8418\1\u8470"+
-    "\1\u84c8\1\u8520\1\u8578\1\u85d0\1\u8628\1\u8680\1\u86d8\1\u8730"+
-    "\1\u8788\1\u87e0\1\u8838\1\u8890\1\u88e8\1\u8940\1\u8998\1\u89f0"+
-    "\1\u8a48\1\u8aa0\1\u8af8\1\u8b50\1\u8ba8\1\u8c00\1\u8c58\1\u8cb0"+
-    "\1\u8d08\1\u8d60\1\u8db8\1\u8e10\1\u8e68\1\u8ec0\1\u8f18\1\u8f70"+
-    "\1\u8fc8\1\u9020\1\u9078\1\u90d0\1\u9128\1\u9180\1\u91d8\1\u9230"+
-    "\1\u9288\1\u92e0\1\u9338\1\u9390\1\u93e8\1\u9440\1\u9498\1\u94f0"+
-    "\1\u9548\1\u95a0\1\u95f8\1\u9650\1\u96a8\1\u9700\1\u9758\1\u97b0"+
-    "\1\u9808\1\u9860\1\u98b8\1\u9910\1\u9968\1\u99c0\1\u9a18\1\u9a70"+
-    "\1\u9ac8\1\u9b20\1\u9b78\1\u9bd0\1\u9c28\1\u9c80\1\u9cd8\1\u9d30"+
-    "\1\u9d88\1\u9de0\1\u9e38\1\u9e90\1\u9ee8\1\u9f40\1\u9f98\1\u9ff0"+
-    "\1\ua048\1\ua0a0\1\ua0f8\1\ua150\1\ua1a8\1\ua200\1\ua258\1\ua2b0"+
-    "\1\ua308\1\ua360\1\ua3b8\1\ua410\1\ua468\1\ua4c0\1\ua518\1\ua570"+
-    "\1\ua5c8\1\ua620\1\ua678\1\ua6d0\1\ua728\1\ua780\1\ua7d8\1\ua830"+
-    "\1\ua888\1\ua8e0\1\ua938\1\ua990\1\ua9e8\1\uaa40\1\uaa98\1\uaaf0"+
-    "\1\uab48\1\uaba0\1\uabf8\1\uac50\1\uaca8\1\uad00\1\uad58\1\uadb0"+
-    "\1\uae08\1\uae60\1\uaeb8\1\uaf10\1\uaf68\1\uafc0\1\ub018\1\ub070"+
-    "\1\ub0c8\1\ub120\1\ub178\1\ub1d0\1\ub228\1\ub280\1\ub2d8\1\ub330"+
-    "\1\ub388\1\ub3e0\1\ub438\1\ub490\1\ub4e8\1\ub540\1\ub598\1\ub5f0"+
-    "\1\ub648\1\ub6a0\1\ub6f8\1\ub750\1\ub7a8\1\ub800\1\ub858\1\ub8b0"+
-    "\1\ub908\1\ub960\1\ub9b8\1\uba10\1\uba68\1\ubac0\1\ubb18\1\ubb70"+
-    "\1\ubbc8\1\ubc20\1\ubc78\1\ubcd0\1\ubd28\1\ubd80\1\ubdd8\1\ube30"+
-    "\1\ube88\1\ubee0\1\ubf38\1\ubf90\1\ubfe8\1\uc040\1\uc098\1\uc0f0"+
-    "\1\uc148\1\uc1a0\1\uc1f8\1\uc250\1\uc2a8\1\uc300\1\uc358\1\uc3b0"+
-    "\1\uc408\1\uc460\1\ubfe8\1\uc4b8\1\uc510\1\uc568\1\uc5c0\1\uc618"+
-    "\1\uc670\1\uc6c8\1\uc720\1\uc778\1\uc7d0\1\uc828\1\uc880\1\uc8d8"+
-    "\1\uc930\1\uc988\1\uc9e0\1\uca38\1\uca90\1\ucae8\1\ucb40\1\ucb98"+
-    "\1\ucbf0\1\ucc48\1\ucca0\1\uccf8\1\ucd50\1\ucda8\1\uce00\1\uce58"+
-    "\1\uceb0\1\ucf08\1\ucf60\1\ucfb8\1\ud010\1\ud068\1\ud0c0\1\ud118"+
-    "\1\ud170\1\ud1c8\1\ud220\1\ud278\1\ud2d0\1\ud328\1\ud380\1\ud3d8"+
-    "\1\ud430\1\ud488\1\ud4e0\1\ud538\1\ud590\1\ud5e8\1\ud640\1\ud698"+
-    "\1\ud6f0\1\ud748\1\ud7a0\1\ud7f8\1\ud850\0\u03c8\1\ud8a8\1\ud900"+
-    "\1\ud958\1\ud9b0\1\uda08\1\uda60\1\udab8\1\udb10\1\udb68\1\udbc0"+
-    "\1\udc18\1\udc70\1\udcc8\1\udd20\1\udd78\1\uddd0\1\ude28\1\ude80"+
-    "\1\uded8\1\udf30\1\udf88\1\udfe0\1\ue038\1\ue090\1\ue0e8\1\ue140"+
-    "\1\ue198\1\ue1f0\1\ue248\1\ue2a0\1\ue2f8\1\ue350\1\ud2d0\0\u03c8"+
-    "\1\ue3a8\1\ue400\1\ue458\1\ue4b0\1\ue508\1\ue560\1\ue5b8\1\ue610"+
-    "\1\ue668\1\ue6c0\1\ue718\1\ue770\1\ue7c8\1\ue820\1\ue878\1\ue8d0"+
-    "\1\ue928\1\ue980\1\ue9d8\1\uea30\1\uea88\1\ueae0\1\ueb38\1\ueb90"+
-    "\1\uebe8\1\uec40\1\uec98\1\uecf0\1\ued48\1\ueda0\1\uedf8\1\uee50"+
-    "\1\ueea8\1\uef00\1\uef58\1\uefb0\1\uf008\1\uf060\1\uf0b8\1\uf110"+
-    "\1\uf168\1\uf1c0\1\uf218\1\uf270\1\uf2c8\1\uf320\1\uf378\1\uf3d0"+
-    "\1\uf428\1\uf480\1\uf4d8\1\uf530\1\uf588\1\uf5e0\1\uf638\1\uf690"+
-    "\1\uf6e8\1\uf740\1\uf798\1\uf7f0\1\uf848\1\uf8a0\1\uf8f8\1\uf950"+
-    "\1\uf9a8\1\ufa00\1\ufa58\1\ufab0\1\ufb08\1\ufb60\1\ufbb8\1\ufc10"+
-    "\1\ufc68\1\ufcc0\1\ufd18\1\ufd70\1\ufdc8\1\ufe20\1\ufe78\1\ufed0"+
-    "\1\uff28\1\uff80\1\uffd8\2\60\2\210\2\340\2\u0138\2\u0190"+
-    "\2\u01e8\2\u0240\2\u0298\2\u02f0\2\u0348\2\u03a0\2\u03f8\2\u0450"+
-    "\2\u04a8\2\u0500\2\u0558\2\u05b0\2\u0608\2\u0660\2\u06b8\2\u0710"+
-    "\2\u0768\2\u07c0\2\u0818\2\u0870\2\u08c8\2\u0920\2\u0978\2\u09d0"+
-    "\2\u0a28\2\u0a80\2\u0ad8\2\u0b30\2\u0b88\2\u0be0\2\u0c38\2\u0c90"+
-    "\2\u0ce8\2\u0d40\2\u0d98\2\u0df0\2\u0e48\2\u0ea0\2\u0ef8\2\u0f50"+
-    "\2\u0fa8\2\u1000\2\u1058\2\u10b0\2\u1108\2\u1160\2\u11b8\2\u1210"+
-    "\2\u1268\2\u12c0\2\u1318\2\u1370\2\u13c8\2\u1420\2\u1478\2\u14d0"+
-    "\2\u1528\2\u1580\2\u15d8\2\u1630\2\u1688\2\u16e0\2\u1738\2\u1790"+
-    "\2\u17e8\2\u1840\2\u1898\2\u18f0\2\u1948\2\u19a0\2\u19f8\2\u1a50"+
-    "\2\u1aa8\2\u1b00\2\u1b58\2\u1bb0\2\u1c08\2\u1c60\2\u1cb8\2\u1d10"+
-    "\2\u1d68\2\u1dc0\2\u1e18\2\u1e70\2\u1ec8\2\u1f20\2\u1f78\2\u1fd0"+
-    "\2\u2028\2\u2080\2\u20d8\2\u2130\2\u2188\2\u21e0\2\u2238\2\u2290"+
-    "\2\u22e8\2\u2340\2\u2398\2\u23f0\2\u2448\2\u24a0\2\u24f8\2\u2550"+
-    "\2\u25a8\2\u2600\2\u2658\2\u26b0\2\u2708\2\u2760\2\u27b8\2\u2810"+
-    "\2\u2868\2\u28c0\2\u2918\2\u2970\2\u29c8\1\u9d88\2\u2a20\2\u2a78"+
-    "\2\u2ad0\2\u2b28\2\u2b80\2\u2bd8\2\u2c30\2\u2c88\2\u2ce0\2\u2d38"+
-    "\2\u2d90\2\u2de8\2\u2e40\2\u2e98\2\u2ef0\2\u2f48\2\u2fa0\2\u2ff8"+
-    "\2\u3050\2\u30a8\2\u3100\2\u3158\2\u31b0\2\u3208\2\u3260\2\u32b8"+
-    "\2\u3310\2\u3368\2\u33c0\2\u3418\2\u3470\2\u34c8\2\u3520\2\u3578"+
-    "\2\u35d0\2\u3628\2\u3680\2\u36d8\2\u3730\2\u3788\2\u37e0\2\u3838"+
-    "\2\u3890\2\u38e8\2\u3940\2\u3998\2\u39f0\2\u3a48\2\u3aa0\2\u3af8"+
-    "\2\u3b50\2\u3ba8\2\u3c00\2\u3c58\2\u3cb0\2\u3d08\2\u3d60\2\u3db8"+
-    "\2\u3e10\2\u3e68\2\u3ec0\2\u3f18\2\u3f70\2\u3fc8\2\u4020\2\u4078"+
-    "\2\u40d0\2\u4128\2\u4180\2\u41d8\2\u4230\2\u4288\2\u42e0\2\u4338"+
-    "\2\u4390\2\u43e8\2\u4440\2\u4498\2\u44f0\2\u4548\2\u45a0\2\u45f8"+
-    "\2\u4650\2\u46a8\2\u4700\2\u4758\2\u47b0\2\u4808\2\u4860\2\u48b8"+
-    "\2\u4910\2\u4968\2\u49c0\2\u4a18\2\u4a70\2\u4ac8\2\u4b20\2\u4b78"+
-    "\2\u4bd0\2\u4c28\2\u4c80\2\u4cd8\2\u4d30\2\u4d88\2\u4de0\2\u4e38"+
-    "\2\u4e90\2\u4ee8\2\u4f40\2\u4f98\2\u4ff0\2\u5048\2\u50a0\2\u50f8"+
-    "\2\u5150\2\u51a8\2\u5200\2\u5258\2\u52b0\2\u5308\2\u5360\2\u53b8"+
-    "\2\u5410\2\u5468\2\u54c0\2\u5518\2\u5570\2\u55c8\2\u5620\2\u5678"+
-    "\2\u56d0\2\u5728\2\u5780\2\u57d8\2\u5830\2\u5888\2\u58e0\2\u5938"+
-    "\2\u5990\2\u59e8\2\u5a40\2\u5a98\2\u5af0\2\u5b48\2\u5ba0\2\u5bf8"+
-    "\2\u5c50\2\u5ca8\2\u5d00\2\u5d58\2\u5db0\2\u5e08\2\u5e60\2\u5eb8"+
-    "\2\u5f10\2\u5f68\2\u5fc0\2\u6018\2\u6070\2\u60c8\2\u6120\2\u6178"+
-    "\2\u61d0\2\u6228\2\u6280\2\u62d8\2\u6330\2\u6388\2\u63e0\2\u6438"+
-    "\2\u6490\2\u64e8\2\u6540\2\u6598\2\u65f0\2\u6648\2\u66a0\2\u66f8"+
-    "\2\u6750\2\u67a8\2\u6800\2\u6858\2\u68b0\2\u6908\2\u6960\2\u69b8"+
-    "\2\u6a10\2\u6a68\2\u6ac0\2\u6b18\2\u6b70\2\u6bc8\2\u6c20\2\u6c78"+
-    "\2\u6cd0\2\u6d28\2\u6d80\2\u6dd8\2\u6e30\2\u6e88\2\u6ee0\2\u6f38"+
-    "\2\u6f90\2\u6fe8\2\u7040\2\u7098\2\u70f0\2\u7148\2\u71a0\2\u71f8"+
-    "\2\u7250\2\u72a8\2\u7300\2\u7358\2\u73b0\2\u7408\2\u7460\2\u74b8"+
-    "\2\u7510\2\u7568\2\u75c0\2\u7618\2\u7670\2\u76c8\2\u7720\2\u7778"+
-    "\2\u77d0\2\u7828\2\u7880\2\u78d8\2\u7930\2\u7988\2\u79e0\2\u7a38"+
-    "\2\u7a90\2\u7ae8\2\u7b40\2\u7b98\2\u7bf0\2\u7c48\2\u7ca0\2\u7cf8"+
-    "\2\u7d50\2\u7da8\2\u7e00\2\u7e58\2\u7eb0\2\u7f08\2\u7f60\2\u7fb8"+
-    "\2\u8010\2\u8068\2\u80c0\2\u8118\2\u8170\2\u81c8\2\u8220\2\u8278"+
-    "\2\u82d0\2\u8328\2\u8380\2\u83d8\2\u8430\2\u8488\2\u84e0\2\u8538"+
-    "\2\u8590\2\u85e8\2\u8640\2\u8698\2\u86f0\2\u8748\2\u87a0\2\u87f8"+
-    "\2\u8850\2\u88a8\2\u8900\2\u8958\2\u89b0\2\u8a08\2\u8a60\2\u8ab8"+
-    "\2\u8b10\2\u8b68\2\u8bc0\2\u8c18\2\u8c70\2\u8cc8\2\u8d20\2\u8d78"+
-    "\2\u8dd0\2\u8e28\2\u8e80\2\u8ed8\2\u8f30\2\u8f88\2\u8fe0\2\u9038"+
-    "\2\u9090\2\u90e8\2\u9140\2\u9198\2\u91f0\2\u9248\2\u92a0\2\u92f8"+
-    "\2\u9350\2\u93a8\2\u9400\2\u9458\2\u94b0\2\u9508\2\u9560\2\u95b8"+
-    "\2\u9610\2\u9668\2\u96c0\2\u9718\2\u9770\2\u97c8\2\u9820\2\u9878"+
-    "\2\u98d0\2\u9928\2\u9980\2\u99d8\2\u9a30\2\u9a88\2\u9ae0\2\u9b38"+
-    "\2\u9b90\2\u9be8\2\u9c40\2\u9c98\2\u9cf0\2\u9d48\2\u9da0\2\u9df8"+
-    "\2\u9e50\2\u9ea8\2\u9f00\2\u9f58\2\u9fb0\2\ua008\2\ua060\2\ua0b8"+
-    "\2\ua110\2\ua168\2\ua1c0\2\ua218\2\ua270\2\ua2c8\2\ua320\2\ua378"+
-    "\2\ua3d0\2\ua428\2\ua480\2\ua4d8\2\ua530\2\ua588\2\ua5e0\2\ua638"+
-    "\2\ua690\2\ua6e8\2\ua740\2\ua798\2\ua7f0\2\ua848\2\ua8a0\2\ua8f8"+
-    "\2\ua950\2\ua9a8\2\uaa00\2\uaa58\2\uaab0\2\uab08\2\uab60\2\uabb8"+
-    "\2\uac10\2\uac68\2\uacc0\2\uad18\2\uad70\2\uadc8\2\uae20\2\uae78"+
-    "\2\uaed0\2\uaf28\2\uaf80\2\uafd8\2\ub030\2\ub088\2\ub0e0\2\ub138"+
-    "\2\ub190\2\ub1e8\2\ub240\2\ub298\2\ub2f0\2\ub348\2\ub3a0";
-
-  private static int [] zzUnpackRowMap() {
-    int [] result = new int[2055];
-    int offset = 0;
-    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
-    return result;
   }
 
-  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
-    int i = 0;  /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int high = packed.charAt(i++) << 16;
-      result[j++] = high | packed.charAt(i++);
-    }
-    return j;
-  }
-
-  /**
-   * The transition table of the DFA
-   */
-  private static final int [] ZZ_TRANS = zzUnpackTrans();
-
-  private static final String ZZ_TRANS_PACKED_0 =
-    "\1\6\1\7\1\10\1\11\1\12\1\11\1\13\1\11"+
-    "\1\14\1\15\1\6\1\16\1\17\1\20\1\21\1\11"+
-    "\1\22\1\6\1\7\1\6\1\23\1\24\1\25\1\26"+
-    "\1\27\1\30\1\7\1\31\1\32\1\33\1\34\1\35"+
-    "\1\36\1\37\1\40\1\41\1\42\1\43\1\44\1\45"+
-    "\1\46\2\25\1\47\1\25\1\50\1\51\1\50\1\7"+
-    "\1\52\1\53\1\54\1\55\1\7\1\56\1\57\1\60"+
-    "\1\61\1\62\1\63\1\64\1\65\1\7\1\66\1\43"+
-    "\3\7\1\67\1\70\1\71\1\72\1\73\1\74\1\75"+
-    "\1\76\1\77\1\100\1\101\1\102\1\7\1\103\1\104"+
-    "\2\11\2\7\1\43\11\105\1\106\3\105\1\107\10\105"+
-    "\1\110\31\105\1\111\10\105\1\112\36\105\11\113\1\114"+
-    "\3\113\1\115\10\113\1\116\21\113\1\117\7\113\1\120"+
-    "\10\113\1\121\5\113\1\122\27\113\1\123\11\124\1\125"+
-    "\3\124\1\126\42\124\1\127\10\124\1\130\36\124\11\131"+
-    "\1\132\1\133\3\131\1\134\111\131\10\6\2\0\4\6"+
-    "\1\0\1\6\1\0\3\6\3\0\6\6\2\0\6\6"+
-    "\13\0\20\6\1\0\26\6\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\2\136\1\137\3\11\1\136\1\11\2\0\3\136"+
-    "\1\140\1\0\1\11\1\0\3\136\3\0\1\141\3\136"+
-    "\1\140\1\142\1\0\1\143\2\136\1\142\1\136\1\141"+
-    "\1\136\13\0\2\136\1\140\5\136\1\140\7\136\1\0"+
-    "\22\136\2\11\2\136\1\0\2\136\1\144\1\145\2\146"+
-    "\1\136\1\146\2\0\3\136\1\140\1\0\1\146\1\0"+
-    "\3\136\3\0\1\141\2\147\1\150\1\140\1\142\1\0"+
-    "\1\143\2\136\1\142\1\136\1\141\1\136\13\0\2\136"+
-    "\1\140\2\136\1\150\2\136\1\140\7\136\1\0\22\136"+
-    "\2\146\2\136\1\0\1\6\7\7\2\0\1\135\1\151"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\152\1\153\1\7\13\0\1\154\1\155"+
-    "\15\7\1\6\1\0\26\7\1\0\10\156\1\157\1\160"+
-    "\1\161\115\156\130\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\5\7\1\162\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\163\2\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\164"+
-    "\1\165\2\7\13\0\1\7\1\166\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\167\1\170\1\7\13\0\1\7\1\171\4\7\1\172"+
-    "\10\7\1\6\1\0\26\7\1\0\11\173\1\174\1\175"+
-    "\3\173\1\176\111\173\24\0\1\23\130\0\1\177\1\200"+
-    "\22\0\1\50\127\0\1\50\56\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\201\4\7\1\202"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\203\2\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\204\2\7\13\0\1\7"+
-    "\1\205\4\7\1\206\5\7\1\207\2\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\210\4\7\13\0\1\7\1\211\12\7\1\212\2\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\213\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\214\1\7\13\0\1\7\1\215"+
-    "\4\7\1\216\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\217\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\220"+
-    "\4\7\13\0\5\7\1\221\1\7\1\222\2\7\1\223"+
-    "\4\7\1\6\1\0\16\7\1\224\7\7\36\0\1\50"+
-    "\13\0\1\50\61\0\3\143\1\0\1\143\7\0\1\143"+
-    "\103\0\2\143\3\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\225\4\7\13\0\1\226\1\10\15\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\227\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\230\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\231\1\7\13\0\5\7\1\232\11\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\2\7\1\233"+
-    "\3\7\2\0\5\7\1\234\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\235\15\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\236\2\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\237\1\7"+
-    "\1\240\3\7\13\0\1\241\10\7\1\242\2\7\1\243"+
-    "\2\7\1\6\1\0\26\7\50\0\1\50\1\0\1\50"+
-    "\126\0\1\244\1\50\127\0\1\50\1\0\1\245\125\0"+
-    "\1\50\4\0\1\50\51\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\3\7\1\246\13\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\247\3\7\13\0\1\7\1\250\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\251\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\252\1\253\1\254\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\255\1\256\1\7\13\0\1\257\1\260\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\261\1\10\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\7\7\1\262\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\263\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\264\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\265\1\266\2\7\13\0\1\7\1\267\4\7"+
-    "\1\270\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\271\5\7\1\272"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\273\2\7\13\0\1\7\1\274"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\275\15\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\276\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\277\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\300\1\301\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\2\302\3\6\1\302\1\6\2\0\1\6"+
-    "\3\302\1\0\1\6\1\0\1\6\1\302\1\6\3\0"+
-    "\6\302\2\0\6\302\13\0\17\302\1\6\1\0\22\302"+
-    "\2\6\2\302\1\0\1\6\7\7\2\0\1\135\1\303"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\2\7"+
-    "\1\304\3\7\2\0\1\7\1\305\3\7\1\306\13\0"+
-    "\3\7\1\307\13\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\310\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\311\1\7\1\312"+
-    "\1\313\2\7\13\0\1\314\1\315\1\7\1\316\1\317"+
-    "\1\7\1\320\5\7\1\321\2\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\322\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\323\3\7\1\324\1\7\13\0\2\7\1\325\14\7"+
-    "\1\6\1\0\16\7\1\326\7\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\327\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\330\1\7\1\331"+
-    "\2\7\13\0\6\7\1\332\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\333"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\334\1\335\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\336\4\7\13\0\1\337"+
-    "\1\340\4\7\1\341\5\7\1\342\2\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\343"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\11\7\1\344"+
-    "\1\345\13\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\346\3\7\13\0\1\7\1\347\4\7\1\350"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\351\2\7\13\0\1\7\1\352"+
-    "\4\7\1\353\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\354\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\355\1\356"+
-    "\2\7\13\0\1\7\1\357\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\360\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\2\7\1\361\3\7"+
-    "\2\0\6\7\13\0\3\7\1\362\6\7\1\363\4\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\364\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\365\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\11\105"+
-    "\1\0\3\105\1\0\10\105\1\0\31\105\1\0\10\105"+
-    "\1\0\36\105\37\0\1\366\26\0\1\367\66\0\1\370"+
-    "\141\0\1\371\161\0\1\372\36\0\11\113\1\0\3\113"+
-    "\1\0\10\113\1\0\21\113\1\0\7\113\1\0\10\113"+
-    "\1\0\5\113\1\0\27\113\40\0\1\373\26\0\1\374"+
-    "\66\0\1\375\103\0\1\376\4\0\1\376\4\0\3\376"+
-    "\7\0\1\377\1\0\6\376\2\0\6\376\6\0\1\u0100"+
-    "\4\0\17\376\3\0\21\376\2\0\2\376\40\0\1\u0101"+
-    "\161\0\1\u0102\75\0\1\u0103\1\u0104\1\u0105\1\u0106\1\0"+
-    "\1\u0107\14\0\1\u0108\1\u0109\1\u010a\1\u010b\1\0\1\u010c"+
-    "\3\0\1\u010d\134\0\1\u010e\30\0\11\124\1\0\3\124"+
-    "\1\0\42\124\1\0\10\124\1\0\36\124\37\0\1\u010f"+
-    "\26\0\1\u0110\100\0\1\u0111\161\0\1\u0112\36\0\11\131"+
-    "\2\0\3\131\1\0\111\131\11\u0113\1\0\116\u0113\16\0"+
-    "\1\u0114\111\0\10\6\2\0\1\6\1\u0115\2\6\1\0"+
-    "\1\6\1\0\3\6\3\0\6\6\2\0\6\6\13\0"+
-    "\20\6\1\0\26\6\1\0\10\136\2\0\4\136\1\0"+
-    "\1\136\1\0\3\136\3\0\6\136\2\0\6\136\13\0"+
-    "\20\136\1\0\26\136\1\0\2\136\1\137\3\u0116\1\136"+
-    "\1\u0116\2\0\4\136\1\0\1\u0116\1\0\3\136\3\0"+
-    "\6\136\2\0\6\136\13\0\20\136\1\0\22\136\2\u0116"+
-    "\2\136\1\0\3\136\3\u0117\1\136\1\u0117\2\0\4\136"+
-    "\1\0\1\u0117\1\0\3\136\3\0\6\136\1\u0118\1\0"+
-    "\6\136\2\0\1\u0118\10\0\20\136\1\0\22\136\2\u0117"+
-    "\2\136\1\0\3\136\3\143\1\136\1\143\2\0\3\136"+
-    "\1\140\1\0\1\143\1\0\3\136\3\0\4\136\1\140"+
-    "\1\142\2\0\2\136\1\142\3\136\13\0\2\136\1\140"+
-    "\5\136\1\140\7\136\1\0\22\136\2\143\2\136\1\0"+
-    "\2\136\1\144\1\136\2\u0119\1\136\1\u0119\2\0\4\136"+
-    "\1\0\1\u0119\1\0\3\136\3\0\6\136\2\0\6\136"+
-    "\13\0\20\136\1\0\22\136\2\u0119\2\136\1\0\3\136"+
-    "\3\145\1\136\1\145\2\0\3\136\1\140\1\0\1\145"+
-    "\1\0\3\136\3\0\4\136\1\140\1\142\1\0\1\143"+
-    "\2\136\1\142\3\136\13\0\2\136\1\140\5\136\1\140"+
-    "\7\136\1\0\22\136\2\145\2\136\1\0\2\136\1\144"+
-    "\1\145\2\146\1\136\1\146\2\0\3\136\1\140\1\0"+
-    "\1\146\1\0\3\136\3\0\1\u011a\3\136\1\140\1\142"+
-    "\1\0\1\143\2\136\1\142\1\136\1\u011a\1\136\13\0"+
-    "\2\136\1\140\5\136\1\140\7\136\1\0\22\136\2\146"+
-    "\2\136\1\0\4\136\2\u011b\2\136\2\0\4\136\1\0"+
-    "\1\136\1\0\3\136\3\0\6\136\2\0\6\136\13\0"+
-    "\20\136\1\0\26\136\1\0\3\136\5\u011c\2\0\3\136"+
-    "\1\u011c\1\0\1\u011c\1\0\3\136\3\0\1\136\2\u011c"+
-    "\1\136\2\u011c\2\0\2\136\2\u011c\2\136\13\0\2\136"+
-    "\1\u011c\1\136\1\u011c\3\136\1\u011c\7\136\1\0\3\136"+
-    "\1\u011c\16\136\2\u011c\2\136\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u011d\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u011e\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u011f"+
-    "\2\7\13\0\1\7\1\u0120\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u0121"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u0122\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u0123"+
-    "\1\7\13\0\7\7\1\u0124\7\7\1\6\1\0\26\7"+
-    "\1\0\10\u0125\1\u0126\1\0\116\u0125\10\0\1\u0126\117\0"+
-    "\4\u0125\2\u0127\1\u0125\1\u0128\1\u0129\1\0\1\156\1\u012a"+
-    "\3\156\1\u0127\11\u0125\1\156\5\u0125\2\156\3\u0125\1\156"+
-    "\56\u0125\2\u0128\3\u0125\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u012b\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u012c"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\11\7\1\10"+
-    "\5\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u012d\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u012e"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u012f\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u0130\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\10\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0131"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\11\173\1\174\1\175\3\173\1\u0132\111\173\12\174\1\u0133"+
-    "\3\174\1\u0134\115\174\2\173\1\174\2\173\1\0\1\173"+
-    "\1\u0135\4\173\11\174\1\173\5\174\2\173\3\174\1\173"+
-    "\56\174\2\173\3\174\16\0\1\u0136\137\0\1\u0137\101\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u0138\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u0139\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u013a\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u013b\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\2\7\1\u013c\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u013d\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u013e\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u013f\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0140\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u0141"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u0142"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u0143\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0144"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\u0145\2\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u0146\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u0147\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\u0148\1\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\u0149"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u014a\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u014b\5\7\13\0\4\7\1\u014c"+
-    "\12\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\3\7\1\u014d\13\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u014e\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\4\7\1\u014f\1\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\u0150\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0151\2\7"+
-    "\13\0\14\7\1\10\2\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u0152\4\7"+
-    "\13\0\6\7\1\u012b\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u0153\5\7\13\0"+
-    "\4\7\1\u0154\12\7\1\6\1\0\1\7\1\u0155\24\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u0156\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\5\7\1\u0157\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0158\5\7\13\0\3\7\1\u0159\13\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u015a\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u015b\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u015c\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\3\7\1\u015d\13\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u015e\1\7"+
-    "\1\u015f\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0160\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u0161\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u0162\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0163"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\52\0"+
-    "\1\50\1\0\1\25\54\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u0164\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\2\7\1\u0165"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\u0166\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\2\7"+
-    "\1\u0167\3\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\u0168\4\7\1\u0169\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u016a\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\4\7"+
-    "\1\u016b\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u016c\4\7\1\u0157\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u016d\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\273\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u016e\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u016f\4\7\1\u0170\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\3\7\1\u0171\13\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\2\7\1\u0172\14\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\3\7"+
-    "\1\u0173\13\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\3\7\1\u0174\13\7"+
-    "\1\6\1\0\1\7\1\u0175\24\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0176\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\u0177"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\4\7"+
-    "\1\u0178\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u0179\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u017a\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u017b"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u017c\1\7\13\0"+
-    "\6\7\1\u017d\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u017e\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u017f\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0180"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0181\1\7"+
-    "\1\u0182\13\0\4\7\1\u0183\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u0184\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\302\2\0\1\u0185\3\302\1\0\1\302\1\0\1\6"+
-    "\2\302\3\0\6\302\2\0\6\302\13\0\17\302\1\6"+
-    "\1\0\26\302\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0186\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u0187\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u0188\4\7\13\0\6\7\1\u0189"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u018a\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\3\7\1\u018b\13\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\3\7"+
-    "\1\u018c\13\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u018d\1\7\1\u018e\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u018f\1\u0190\4\7\13\0\4\7"+
-    "\1\u0191\12\7\1\6\1\0\1\7\1\u0192\24\7\1\0"+
-    "\1\6\7\7\2\0\1\135\2\7\1\u0193\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\u0194\15\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u0195\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u0196"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u0197\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\7\7\1\u0198\7\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u0199\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u019a\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u019b"+
-    "\4\7\1\u019c\13\0\1\u019d\1\7\1\u019e\1\u019f\1\u01a0"+
-    "\5\7\1\u01a1\4\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u01a2\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\u01a3\1\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u01a4\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\5\7\1\u01a5\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\5\7\1\u01a6\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u01a7\4\7\1\u01a8\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u01a9\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\3\7\1\u01aa\13\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u01ab\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u01ac\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u01ad\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u01ae\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u01af\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u01b0\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\7\7\1\u01b1\7\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\3\7"+
-    "\1\u01b2\13\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\5\7\1\u01b3\13\0\4\7\1\u01b4"+
-    "\11\7\1\u01b5\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\4\7\1\u01b6\1\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\5\7\1\u01b7"+
-    "\20\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u01b8\4\7\13\0\4\7\1\u01b9\12\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u01ba\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u01bb\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u01bc\5\7\13\0\3\7\1\u01bd"+
-    "\13\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\2\7\1\u01be\14\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\5\7\1\u01bf\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u01c0\1\7"+
-    "\13\0\7\7\1\u01c1\7\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\13\7"+
-    "\1\u01c2\3\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\12\7\1\u01c3\4\7"+
-    "\1\6\1\0\26\7\1\0\1\6\5\7\1\u01c4\1\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u01c5\5\7\13\0\17\7\1\6"+
-    "\1\0\4\7\1\u01c6\21\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u01c7\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u01c8\13\0\17\7\1\6\1\0\17\7\1\u01c9\6\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u01ca\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u01cb\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u01cc\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0175\3\7\13\0\17\7\1\6\1\0\26\7\64\0"+
-    "\1\u01cd\107\0\1\u01ce\123\0\1\u01cf\161\0\1\u01d0\121\0"+
-    "\1\u01d1\107\0\1\u01d2\64\0\53\376\1\u0100\54\376\1\0"+
-    "\1\376\4\0\1\376\4\0\3\376\11\0\6\376\2\0"+
-    "\6\376\6\0\1\u0100\4\0\17\376\3\0\21\376\2\0"+
-    "\2\376\40\0\1\u01d3\161\0\1\u01d4\51\0\1\u01d5\44\0"+
-    "\1\u01d6\1\u01d7\107\0\1\u01d8\153\0\1\u01d9\55\0\1\u01da"+
-    "\155\0\1\u01db\24\0\1\u01dc\72\0\1\u01dd\137\0\1\u01de"+
-    "\130\0\1\u01df\127\0\1\u01e0\101\0\1\u01e1\154\0\1\u01e2"+
-    "\131\0\1\u01e3\16\0\1\u01e4\1\0\1\u01e5\1\0\1\u01e6"+
-    "\3\0\1\u01e7\120\0\1\u01e8\107\0\1\u01e9\123\0\1\u01ea"+
-    "\161\0\1\u01eb\54\0\1\u01ec\111\0\3\6\5\u01ed\2\0"+
-    "\3\6\1\u01ed\1\0\1\u01ed\1\0\3\6\3\0\1\6"+
-    "\2\u01ed\1\6\2\u01ed\2\0\2\6\2\u01ed\2\6\13\0"+
-    "\2\6\1\u01ed\1\6\1\u01ed\3\6\1\u01ed\7\6\1\0"+
-    "\3\6\1\u01ed\16\6\2\u01ed\2\6\1\0\2\136\1\137"+
-    "\3\u0116\1\136\1\u0116\2\0\4\136\1\0\1\u0116\1\0"+
-    "\3\136\3\0\1\141\5\136\2\0\4\136\1\141\1\136"+
-    "\13\0\20\136\1\0\22\136\2\u0116\2\136\1\0\3\136"+
-    "\3\u0117\1\136\1\u0117\2\0\3\136\1\140\1\0\1\u0117"+
-    "\1\0\3\136\3\0\4\136\1\140\1\136\2\0\6\136"+
-    "\13\0\2\136\1\140\5\136\1\140\7\136\1\0\22\136"+
-    "\2\u0117\2\136\4\0\3\u0117\1\0\1\u0117\7\0\1\u0117"+
-    "\103\0\2\u0117\3\0\2\136\1\144\1\136\2\u0119\1\136"+
-    "\1\u0119\2\0\4\136\1\0\1\u0119\1\0\3\136\3\0"+
-    "\1\u011a\5\136\2\0\4\136\1\u011a\1\136\13\0\20\136"+
-    "\1\0\22\136\2\u0119\2\136\1\0\2\136\1\u01ee\1\136"+
-    "\2\u011b\2\136\2\0\4\136\1\0\1\136\1\0\3\136"+
-    "\3\0\6\136\2\0\6\136\13\0\20\136\1\0\26\136"+
-    "\1\0\2\136\1\u01ef\5\u011c\2\0\3\136\1\u011c\1\0"+
-    "\1\u011c\1\0\3\136\3\0\1\u011a\2\u011c\1\136\2\u011c"+
-    "\2\0\2\136\2\u011c\1\u011a\1\136\13\0\2\136\1\u011c"+
-    "\1\136\1\u011c\3\136\1\u011c\7\136\1\0\3\136\1\u011c"+
-    "\16\136\2\u011c\2\136\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u01f0\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u01f1\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u01f2\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u01f3\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u01f4\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u01f5\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u01f6\13\0\4\7\1\u01f7\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u01f8"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\3\7\1\u01f9"+
-    "\13\7\1\6\1\0\26\7\1\0\10\u0125\1\157\1\0"+
-    "\122\u0125\2\u0128\1\u0125\1\u0128\1\u0126\1\0\5\u0125\1\u0128"+
-    "\103\u0125\2\u0128\7\u0125\2\156\1\u0125\1\156\1\u0126\1\0"+
-    "\5\u0125\1\156\103\u0125\2\156\6\u0125\5\u01fa\1\157\1\0"+
-    "\3\u0125\1\u01fa\1\u0125\1\u01fa\10\u0125\2\u01fa\1\u0125\2\u01fa"+
-    "\4\u0125\2\u01fa\17\u0125\1\u01fa\1\u0125\1\u01fa\3\u0125\1\u01fa"+
-    "\13\u0125\1\u01fa\16\u0125\2\u01fa\3\u0125\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\10\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\4\7"+
-    "\1\10\1\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u01fb\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\1\u01fc\1\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\5\7\1\u0150\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u01fd\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u01fe\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\11\174\1\0\121\174\5\u01ff"+
-    "\2\174\1\u0133\2\174\1\u01ff\1\u0134\1\u01ff\10\174\2\u01ff"+
-    "\1\174\2\u01ff\4\174\2\u01ff\17\174\1\u01ff\1\174\1\u01ff"+
-    "\3\174\1\u01ff\13\174\1\u01ff\16\174\2\u01ff\3\174\25\0"+
-    "\1\u0200\102\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\13\7\1\u0201\3\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0202\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0203\3\7\13\0\16\7"+
-    "\1\u0204\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u0205\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\2\7\1\u0206"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0207\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u0208\3\7\1\u0209\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\4\7\1\u020a"+
-    "\21\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u020b\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u020c\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u020d\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u017b\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u020e\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u020f\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u0210\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\7\7\1\u0211\7\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0212\1\7"+
-    "\1\u0213\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u0214\7\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u0215\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u0216\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0217\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u0218\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u0219\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\5\7\1\u021a"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u021b\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\7\1\u021c\1\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u021d\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\u021e\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u021f"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\u0220\2\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\7\7\1\10\7\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\10\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0221\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u0222\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u0223"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0224\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\13\7\1\u017b\3\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\171\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u0225\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u0226\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u0227\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u01fd\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u016c\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u0228\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u0229\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u022a"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\2\7\1\u022b\3\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\u0226\1\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u022c\5\7\13\0\12\7\1\u022d\4\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\12\7\1\u022e\4\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u022f\7\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\16\7\1\u0230\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u017a\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\5\7\1\u012b"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0231\4\7\1\u0232\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u0233\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u0234"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u0235\1\7\13\0"+
-    "\1\7\1\u0224\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\u0179\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u0236\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u0237\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\u0238\2\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u018f\1\u0239\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\2\7"+
-    "\1\u023a\3\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u023b"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u0157\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\10\16\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u023c\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\2\7"+
-    "\1\10\14\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\10\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u023d\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u023e"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u023f\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\2\7\1\u0240\14\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u0241"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\u0242\15\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\2\7\1\u0243\14\7\1\6\1\0\26\7"+
-    "\1\0\10\6\2\0\1\6\1\u0244\2\6\1\0\1\6"+
-    "\1\0\3\6\3\0\6\6\2\0\6\6\13\0\20\6"+
-    "\1\0\26\6\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u0245\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0246\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0247\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0248\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u0249"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u024a\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\3\7\1\u024b\13\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u024c\3\7\13\0\6\7\1\u024d\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u024e\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u024f\3\7\1\u0250\4\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u0251\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\u0252\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u0253\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0210"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u0254\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u0255\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0256"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\3\7"+
-    "\1\u0257\13\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u0258\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0259\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u025a"+
-    "\3\7\13\0\17\7\1\6\1\0\4\7\1\u025b\21\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u025c\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u025d\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u025e\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\u025f\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u0260"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u0261\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u0262\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\2\7\1\u0263\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0264\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u0265\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\220\4\7\13\0\5\7"+
-    "\1\u0266\11\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\u0267\16\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\3\7\1\u0268\1\u0269\12\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u026a"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u026b\5\7\1\u026c\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\16\7\1\u026d\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u026e"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\u026f\16\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0270\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\16\7\1\u0271\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0272\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u0273\3\7\13\0\1\7\1\u0274\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\14\7\1\u0275"+
-    "\11\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0276\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u0277\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\u0278\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u0279\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\u027a\16\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u027b"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\10\7"+
-    "\1\u027c\6\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\10\7\1\u018f\6\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u027d\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u014a"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\2\7\1\u018f"+
-    "\14\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u027e\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\u018f\16\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\1\0\1\u027f\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\u0280\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\5\7\1\u0281"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u0282\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\2\7"+
-    "\1\u0283\3\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0284\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u0285\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u0286\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\3\7\1\u0287"+
-    "\1\u0288\21\7\1\0\1\6\7\7\2\0\1\135\1\u0289"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\3\7"+
-    "\1\u028a\13\7\1\6\1\0\16\7\1\u028b\7\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u028c\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u028d\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u028e\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u028f\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\13\7"+
-    "\1\u0290\3\7\1\6\1\0\26\7\60\0\1\u0291\111\0"+
-    "\1\u01cd\151\0\1\u0292\102\0\1\u0293\150\0\1\u0294\111\0"+
-    "\1\u01d1\151\0\1\u0295\102\0\1\u0296\130\0\1\u0297\130\0"+
-    "\1\u0298\151\0\1\u0299\104\0\1\u029a\132\0\1\u029b\21\0"+
-    "\1\u029c\102\0\1\u029d\130\0\1\u029e\1\u029f\102\0\1\u02a0"+
-    "\157\0\1\u02a1\146\0\1\u02a2\104\0\1\u02a3\126\0\1\u02a4"+
-    "\127\0\1\u02a5\22\0\1\u02a6\105\0\1\u02a7\155\0\1\u02a8"+
-    "\122\0\1\u02a9\127\0\1\u02aa\62\0\1\u02ab\155\0\1\u02ac"+
-    "\144\0\1\u02ad\111\0\1\u01e8\151\0\1\u02ae\102\0\1\u02af"+
-    "\71\0\3\6\5\u02b0\2\0\3\6\1\u02b0\1\0\1\u02b0"+
-    "\1\0\3\6\3\0\1\6\2\u02b0\1\6\2\u02b0\2\0"+
-    "\2\6\2\u02b0\2\6\13\0\2\6\1\u02b0\1\6\1\u02b0"+
-    "\3\6\1\u02b0\7\6\1\0\3\6\1\u02b0\16\6\2\u02b0"+
-    "\2\6\1\0\2\136\1\u01ef\5\u011c\2\0\3\136\1\u011c"+
-    "\1\0\1\u011c\1\0\3\136\3\0\1\136\2\u011c\1\136"+
-    "\2\u011c\2\0\2\136\2\u011c\2\136\13\0\2\136\1\u011c"+
-    "\1\136\1\u011c\3\136\1\u011c\7\136\1\0\3\136\1\u011c"+
-    "\16\136\2\u011c\2\136\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u02b1\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u02b2"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u02b3\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u02b4\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u023e\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\5\7\1\u02b5\1\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u02b6\2\7\13\0\17\7\1\6\1\0\3\7"+
-    "\1\u02b7\1\u02b8\21\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u02b9\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\u02ba\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u02bb\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u01a2\2\7\13\0\6\7\1\u02bc"+
-    "\10\7\1\6\1\0\26\7\1\0\3\u0125\5\u02bd\1\157"+
-    "\1\0\3\u0125\1\u02bd\1\u0125\1\u02bd\10\u0125\2\u02bd\1\u0125"+
-    "\2\u02bd\4\u0125\2\u02bd\17\u0125\1\u02bd\1\u0125\1\u02bd\3\u0125"+
-    "\1\u02bd\13\u0125\1\u02bd\16\u0125\2\u02bd\3\u0125\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\12\7\1\u0157\4\7"+
-    "\1\6\1\0\26\7\45\0\1\u02be\63\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u017b\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u02bf\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\3\174\5\u02c0\2\174\1\u0133\2\174\1\u02c0\1\u0134"+
-    "\1\u02c0\10\174\2\u02c0\1\174\2\u02c0\4\174\2\u02c0\17\174"+
-    "\1\u02c0\1\174\1\u02c0\3\174\1\u02c0\13\174\1\u02c0\16\174"+
-    "\2\u02c0\3\174\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\4\7\1\u025b\21\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u02c1\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\15\7\1\u02c2\10\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u02c3\1\u02c4\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\15\7\1\u02c5\1\7\1\6\1\0\5\7"+
-    "\1\u02c6\20\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u02c7\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\22\7\1\u02c8\3\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u02c9\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u02ca\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0210\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\3\7\1\u02cb\22\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\16\7\1\10\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u02cc\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u02cd\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\u023e\16\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u018f\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u02ce\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u02cf\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u02d0\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\4\7\1\u02d1\1\7\2\0\6\7\13\0\10\7"+
-    "\1\u02d2\4\7\1\u02d3\1\7\1\6\1\0\5\7\1\u02d4"+
-    "\1\u02d5\1\7\1\u02d6\4\7\1\u02d7\1\u02d8\7\7\1\0"+
-    "\1\6\5\7\1\u02d9\1\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\1\0\1\u02da"+
-    "\2\7\1\u02db\3\7\13\0\17\7\1\6\1\0\4\7"+
-    "\1\u020a\7\7\1\u02dc\11\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u018f\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u02dd\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\3\7\1\u02de\13\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\14\7\1\u02df"+
-    "\2\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u02e0\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\5\7\1\u0266\11\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u02e1\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\11\7\1\u0229\5\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u02e2\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u017d"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u02e3"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u02e4\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u02e5\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u02e6"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u0232\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u02e7\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u02e8\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u017d"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\u02e9\16\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\u02ea\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u0143"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u02eb\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u02ec\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u02ed\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u02e5\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u02ee\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u02ef\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\10\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u02f0\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u02f1\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u02f2\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u02f3\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u02f4\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u018f\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\5\7\1\u02f5"+
-    "\10\7\1\u02f6\7\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u02f7\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u02f8\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\271\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\2\7\1\u02f9\14\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u02fa\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u02fb\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0215\1\u02fa\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\u02fc\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u01ba\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u02fd\15\7\1\6\1\0\26\7\1\0\3\6"+
-    "\5\u02fe\2\0\3\6\1\u02fe\1\0\1\u02fe\1\0\3\6"+
-    "\3\0\1\6\2\u02fe\1\6\2\u02fe\2\0\2\6\2\u02fe"+
-    "\2\6\13\0\2\6\1\u02fe\1\6\1\u02fe\3\6\1\u02fe"+
-    "\7\6\1\0\3\6\1\u02fe\16\6\2\u02fe\2\6\1\0"+
-    "\1\6\5\7\1\u02ff\1\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u0300\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\14\7\1\u0301\2\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\u0302\16\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u0303\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u0304\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u0305\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u0306"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u0307\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\4\7\1\u0308\12\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\16\7\1\u0309"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u030a\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u030b\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u030c\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u030d\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\13\7\1\u030e"+
-    "\12\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u030f\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u0310\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u0311\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u0312\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\4\7\1\u0313\1\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0314\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u0315\4\7\13\0\13\7\1\u0311"+
-    "\3\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\u0316\2\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0317\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u0318\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\5\7\1\u0319\11\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u031a\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\7\7\1\u031b\7\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u031c\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u031d\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u031e\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\13\7\1\u031f\3\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u0320\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\4\7\1\u0321\12\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\2\7\1\u0322\3\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u0323\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0324\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0325\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0326"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u0327"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u0328\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\2\7\1\u0329\14\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u023e\5\7"+
-    "\13\0\17\7\1\6\1\0\4\7\1\u020a\7\7\1\u02dc"+
-    "\11\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u032a\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\7\7\1\u032b\16\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\4\7\1\u020a\7\7\1\u02dc\11\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u032c\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\11\7\1\u023e\5\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u032d\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u032e\4\7"+
-    "\13\0\17\7\1\6\1\0\24\7\1\u032f\1\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\15\7\1\u0330\10\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\3\7\1\u0331\13\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0332\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u0333"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u0334"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u0335\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\2\7"+
-    "\1\u0336\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\u0337\2\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\35\0\1\u0338\73\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u0339\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u033a\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\6\7\1\u033b\17\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u033c"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u033d\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\13\7\1\u033e\3\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u033f\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\4\7"+
-    "\1\u0340\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0341\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\4\7\1\u0342\12\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\u0343\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\2\7\1\u0344\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u0345\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u0346\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u0347\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u0348\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u0349\15\7\1\6\1\0"+
-    "\26\7\26\0\1\u034a\146\0\1\u01cd\12\0\1\u0291\51\0"+
-    "\1\u0293\1\u034b\5\u0293\1\u034b\2\0\3\u0293\1\0\1\u0293"+
-    "\1\0\1\u034b\3\0\1\u0293\1\u034b\6\u0293\2\u034b\6\u0293"+
-    "\1\0\2\u034b\1\0\1\u034b\2\0\4\u034b\17\u0293\2\u034b"+
-    "\26\u0293\26\0\1\u034c\146\0\1\u01d1\12\0\1\u0294\51\0"+
-    "\1\u0296\1\u034d\5\u0296\1\u034d\2\0\3\u0296\1\0\1\u0296"+
-    "\1\0\1\u034d\3\0\1\u0296\1\u034d\6\u0296\2\u034d\6\u0296"+
-    "\1\0\2\u034d\1\0\1\u034d\2\0\4\u034d\17\u0296\2\u034d"+
-    "\26\u0296\62\0\1\u034e\107\0\1\u034f\17\0\1\u0350\127\0"+
-    "\1\u029f\61\0\1\u0351\203\0\1\u0352\101\0\1\u0353\1\0"+
-    "\1\u0354\144\0\1\u0355\135\0\1\u0356\125\0\1\u0357\124\0"+
-    "\1\u0358\106\0\1\u0359\131\0\1\u035a\126\0\1\u035b\127\0"+
-    "\1\u035c\127\0\1\u035d\132\0\1\u035e\77\0\1\u035f\22\0"+
-    "\1\u0360\154\0\1\u0361\125\0\1\u0362\125\0\1\u0363\112\0"+
-    "\1\u0364\111\0\1\u0365\146\0\1\u01e8\12\0\1\u02ad\51\0"+
-    "\1\u02af\1\u0366\5\u02af\1\u0366\2\0\3\u02af\1\0\1\u02af"+
-    "\1\0\1\u0366\3\0\1\u02af\1\u0366\6\u02af\2\u0366\6\u02af"+
-    "\1\0\2\u0366\1\0\1\u0366\2\0\4\u0366\17\u02af\2\u0366"+
-    "\26\u02af\1\0\3\6\5\u0367\2\0\3\6\1\u0367\1\0"+
-    "\1\u0367\1\0\3\6\3\0\1\6\2\u0367\1\6\2\u0367"+
-    "\2\0\2\6\2\u0367\2\6\13\0\2\6\1\u0367\1\6"+
-    "\1\u0367\3\6\1\u0367\7\6\1\0\3\6\1\u0367\16\6"+
-    "\2\u0367\2\6\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u0368\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\2\7\1\u0369\14\7\1\6\1\0\26\7\1\0\1\6"+
-    "\5\7\1\u036a\1\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\1\u036b\3\7\1\u036c\1\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\13\7\1\u036d"+
-    "\1\7\1\u02d7\10\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u02fa\2\7\13\0\17\7\1\6\1\0"+
-    "\15\7\1\u036e\10\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u036f\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u0370\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u0371\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0372\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u0238\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u0373\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\4\7"+
-    "\1\u0374\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u0311\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\3\u0125\5\u0375\1\157\1\0"+
-    "\3\u0125\1\u0375\1\u0125\1\u0375\10\u0125\2\u0375\1\u0125\2\u0375"+
-    "\4\u0125\2\u0375\17\u0125\1\u0375\1\u0125\1\u0375\3\u0125\1\u0375"+
-    "\13\u0125\1\u0375\16\u0125\2\u0375\3\u0125\41\0\1\u0376\66\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u0377\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\3\174\5\u0378"+
-    "\2\174\1\u0133\2\174\1\u0378\1\u0134\1\u0378\10\174\2\u0378"+
-    "\1\174\2\u0378\4\174\2\u0378\17\174\1\u0378\1\174\1\u0378"+
-    "\3\174\1\u0378\13\174\1\u0378\16\174\2\u0378\3\174\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0379\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\u037a\2\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\2\7\1\u037b\14\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\13\7"+
-    "\1\u037c\3\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u037d\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u037e\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u01aa"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\23\7\1\u037f\2\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u0380\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0381\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u0382\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0383\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u0384\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u0385"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u0329\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u0386\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0387\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u0388"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0389\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u038a\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u038b\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u038c"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u038d"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\u038e\2\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\u038f\15\7\1\6\1\0\26\7\35\0"+
-    "\1\u0390\73\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u0391\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0392\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\7\1\u0393\1\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0394\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\4\7\1\u0395\21\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\1\u0396\5\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\16\7\1\u0397\7\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u0398\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u02f9\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\162\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\2\7"+
-    "\1\u012b\14\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u012b\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u0399\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u039a\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\10\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u039b\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\4\7"+
-    "\1\u0232\1\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\4\7"+
-    "\1\u039c\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\2\7\1\162\14\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0157\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\13\7\1\u0157\3\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u039d\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\2\7\1\u039e\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u039f"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u03a0\7\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u03a1\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\4\7\1\u03a2\12\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u03a3"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\u03a4\2\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u0201\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u03a5\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\2\7\1\u02b9\3\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\7\7\1\u03a6"+
-    "\7\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u03a7\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\7\7\1\u03a8\7\7\1\6\1\0\26\7"+
-    "\1\0\3\6\5\u03a9\2\0\3\6\1\u03a9\1\0\1\u03a9"+
-    "\1\0\3\6\3\0\1\6\2\u03a9\1\6\2\u03a9\2\0"+
-    "\2\6\2\u03a9\2\6\13\0\2\6\1\u03a9\1\6\1\u03a9"+
-    "\3\6\1\u03a9\7\6\1\0\3\6\1\u03a9\16\6\2\u03a9"+
-    "\2\6\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\4\7"+
-    "\1\u03aa\1\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u03ab\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\1\u03ac\5\7\2\0\5\7\1\u018f\13\0\10\7"+
-    "\1\u03ad\6\7\1\6\1\0\4\7\1\u03ae\1\u03af\20\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\7\7\1\u03b0\7\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u03b1\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\2\7\1\u023e\14\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u03b2\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u03b3\7\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\13\7\1\u03b4\3\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u03b5\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\10\7\1\u03b6\1\u03b7\4\7\1\u03b8"+
-    "\7\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\4\7"+
-    "\1\u03b9\1\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\4\7"+
-    "\1\u03ba\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u03bb\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u03bc\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u03bd\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\2\7"+
-    "\1\u0272\14\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u03be\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u0215\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u03bf\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u03c0\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\7\7\1\u03c1\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u03c2\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u03c3\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\7\7\1\u03c4\7\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u03c5"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u03c6\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\16\7\1\u03c7\7\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\4\7\1\u03c8"+
-    "\7\7\1\u03c9\11\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\3\7\1\u03ca\13\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u03cb\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\2\7\1\u02b9\3\7\2\0\1\u014a"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u03cc\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u03cd\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u03ce\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u03cf"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u03d0\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u03d1\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\5\7\1\u03d2\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\4\7\1\u03d3\3\7\1\u02d6\15\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u03d4\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u03d5\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\13\7\1\u0238\3\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\15\7\1\u02d3\1\7\1\6\1\0\5\7\1\u02d4\2\7"+
-    "\1\u02d6\5\7\1\u02d8\7\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u018f\4\7\13\0\17\7\1\6"+
-    "\1\0\3\7\1\u03d6\22\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u03d7\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\2\7\1\u03d8\14\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u03d9\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\11\7\1\u03da\14\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\u03db\15\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u03dc\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\3\7\1\u03dd\13\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u03de"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u03df\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\11\7\1\u03e0\5\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u03e1\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\14\7\1\u03e2\2\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u03e3\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\15\0\1\u03e4\113\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u03e5\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u03e6"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u03e7\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u03e8\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u03e9\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u03ea\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u03eb\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u03ec\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u03ed\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\u03ee"+
-    "\16\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u03ef\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\14\7\1\u03f0\11\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\12\7"+
-    "\1\u0240\4\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u03f1\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u03f2\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u03f3\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u03f4\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\26\0\1\u0293\127\0\1\u0296"+
-    "\142\0\1\u03f5\131\0\1\u03f6\156\0\1\u03f7\76\0\1\u03f8"+
-    "\152\0\1\u03f9\127\0\1\u03fa\57\0\1\u03fb\175\0\1\u03fc"+
-    "\110\0\1\u03fd\126\0\1\u029f\131\0\1\u03fe\125\0\1\u03ff"+
-    "\155\0\1\u029f\133\0\1\u0400\74\0\1\u0401\154\0\1\u029f"+
-    "\130\0\1\u0402\137\0\1\u0403\72\0\1\u0404\163\0\1\u0405"+
-    "\73\0\1\u0403\127\0\1\u0406\101\0\1\u0362\141\0\1\u02af"+
-    "\102\0\3\6\5\7\2\0\3\6\1\7\1\0\1\7"+
-    "\1\0\3\6\3\0\1\6\2\7\1\6\2\7\2\0"+
-    "\2\6\2\7\2\6\13\0\2\6\1\7\1\6\1\7"+
-    "\3\6\1\7\7\6\1\0\3\6\1\7\16\6\2\7"+
-    "\2\6\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u0407\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0408\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0409\2\7\13\0\6\7"+
-    "\1\u040a\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u0389\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u040b\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u040c\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u040d\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\7\1\u040e\1\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u040f\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0410"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\1\7\1\u0411\24\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u0412\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0413\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\3\u0125\5\156\1\157\1\0\3\u0125\1\156\1\u0125\1\156"+
-    "\10\u0125\2\156\1\u0125\2\156\4\u0125\2\156\17\u0125\1\156"+
-    "\1\u0125\1\156\3\u0125\1\156\13\u0125\1\156\16\u0125\2\156"+
-    "\3\u0125\42\0\1\u0414\65\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\14\7\1\10\2\7\1\6\1\0"+
-    "\26\7\1\0\3\174\5\173\2\174\1\u0133\2\174\1\173"+
-    "\1\u0134\1\173\10\174\2\173\1\174\2\173\4\174\2\173"+
-    "\17\174\1\173\1\174\1\173\3\174\1\173\13\174\1\173"+
-    "\16\174\2\173\3\174\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\1\0"+
-    "\1\u0415\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u0416\7\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\1\u03ac\5\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\7\7\1\u0417\16\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u03e2\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\5\7\1\u0418\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u0419\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\1\0\1\u041a\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u041b\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u018f\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u041c\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u017b\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u041d\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\4\7\1\u041e\1\7\2\0"+
-    "\1\u041f\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u0420\7\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u0421\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u0422\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u0423"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\3\7\1\u0424"+
-    "\13\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u0425\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0421\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0426\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u038a\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u0427\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\15\0\1\u0428\113\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u0429\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\3\7\1\u018f\13\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u042a\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u042b\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u042c\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u042d\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\2\7\1\u042e\3\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u012d\1\7\1\u042f\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u0232\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\2\7\1\u0430\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u0431\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0227\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u0157\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0432\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\4\7\1\u0433\12\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0434\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0435\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0436\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\3\7\1\u0437\13\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u03a3"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u0438\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u0439\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u043a\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\3\7\1\u043b\22\7\1\0\3\6"+
-    "\5\u043c\2\0\3\6\1\u043c\1\0\1\u043c\1\0\3\6"+
-    "\3\0\1\6\2\u043c\1\6\2\u043c\2\0\2\6\2\u043c"+
-    "\2\6\13\0\2\6\1\u043c\1\6\1\u043c\3\6\1\u043c"+
-    "\7\6\1\0\3\6\1\u043c\16\6\2\u043c\2\6\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u043d\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u043e\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u043f\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0440\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u0441\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u0442\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u0443\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u0444\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u0445\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\5\7\1\u0446\1\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\11\7\1\u0447\14\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\1\7"+
-    "\1\u0448\4\7\2\0\6\7\13\0\15\7\1\u02d3\1\7"+
-    "\1\6\1\0\5\7\1\u03af\2\7\1\u02d6\1\u0447\13\7"+
-    "\1\u0449\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\14\7\1\u044a\11\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u044b\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u044c\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\12\7\1\u044d\4\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u044e\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u044f\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0450\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u0451\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0452"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u0453\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\11\7"+
-    "\1\u0454\14\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0455\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\1\0\1\u0456\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0457\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\u0458\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\7\7\1\u0459\7\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u045a\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u045b\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u045c\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u045d\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u045e\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u045f"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\2\7\1\u0460"+
-    "\14\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\7\7\1\u0461\7\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u0462\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0463\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\3\7\1\u0429\13\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\4\7\1\u0464\12\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u0465"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u0466\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0467\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0468\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u0469\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\2\7"+
-    "\1\u046a\3\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u046b\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\1\u046c\5\7\1\0\1\u046d\6\7\13\0"+
-    "\10\7\1\u046e\6\7\1\6\1\0\20\7\1\u046f\5\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\14\7\1\u0470\2\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u0471\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u0238\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0472\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u0473\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\5\7\1\u0474\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\16\7\1\u0475\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u0476\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0477\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\5\7"+
-    "\1\u0478\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u0479"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\40\0\1\u047a"+
-    "\70\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\1\u047b\5\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\13\7\1\u047c\3\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u047d\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\4\7\1\u047e\1\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\12\7"+
-    "\1\u047f\4\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\2\7\1\u0480\3\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u0481\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u0482\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u0483"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\4\7\1\u0484\1\u0485\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\14\7\1\u0486\11\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\4\7"+
-    "\1\u0487\21\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u0488\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\5\7\1\u018f"+
-    "\13\0\17\7\1\6\1\0\4\7\1\u0489\1\u048a\10\7"+
-    "\1\u048b\7\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u048c\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\2\7\1\u0238\14\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u048d"+
-    "\10\7\1\6\1\0\26\7\67\0\1\u048e\123\0\1\u048f"+
-    "\111\0\1\u029f\77\0\1\u029f\156\0\1\u0357\123\0\1\u035e"+
-    "\152\0\1\u0357\105\0\1\u029f\132\0\1\u0490\125\0\1\u0491"+
-    "\152\0\1\u0492\124\0\1\u0493\62\0\1\u048e\174\0\1\u03f8"+
-    "\46\0\45\u0403\1\u029f\62\u0403\40\0\1\u0494\150\0\1\u0495"+
-    "\106\0\1\u0496\67\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\14\7\1\u018f\2\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0497"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u0498\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u0499\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u049a\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u0175\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u049b\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\12\7\1\u049c\4\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u049d"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u049e\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\u049f\2\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u04a0\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u04a1\10\7\1\6\1\0\26\7\44\0\1\u04a2\72\0"+
-    "\1\u04a3\20\0\1\u04a4\1\u04a5\2\0\1\u04a6\74\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\2\7\1\u04a7\3\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u04a8\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u04a9\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u04aa"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\35\0\1\u04ab"+
-    "\33\0\1\u04ac\37\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u04ad\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u04ae"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u04af\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\u04b0\1\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u04b1\1\u04b2\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u04b3\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u0311\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u04b4\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\2\7\1\u0311\14\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u04b5\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\7\7\1\u04b6\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\4\7"+
-    "\1\u04b7\1\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u04b8\13\0\17\7\1\6\1\0\26\7\14\0\1\u04b9"+
-    "\114\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u04ba\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u04bb\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u04bc\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u04bd\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u04be\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\17\7"+
-    "\1\u04bf\6\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u0232\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\3\7\1\10\13\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u04c0\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u0157\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u04c1\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u02e5\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u04c2\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u04c3\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u04c4\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u04c5\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\5\7"+
-    "\1\u021a\1\0\1\u04c6\6\7\13\0\17\7\1\6\1\0"+
-    "\6\7\1\u02d5\17\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u04c7\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u04c8\12\7\1\6\1\0\26\7\1\0"+
-    "\3\6\5\302\2\0\3\6\1\302\1\0\1\302\1\0"+
-    "\3\6\3\0\1\6\2\302\1\6\2\302\2\0\2\6"+
-    "\2\302\2\6\13\0\2\6\1\302\1\6\1\302\3\6"+
-    "\1\302\7\6\1\0\3\6\1\302\16\6\2\302\2\6"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\5\7\1\u01f4"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u04c9\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\5\7\1\u0210\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\1\7\1\u0175\24\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u04ca\15\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\2\7\1\u019e\14\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u04cb"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u04cc"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u04cd\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\u04ce\15\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u04cf\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\u04d0\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u04d1\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u04d2"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u04d3\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u04d4\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u04d5\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\2\7\1\u04d6\23\7\1\0\1\6"+
-    "\5\7\1\u04d7\1\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\1\u036b\5\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\14\7\1\u04d8\2\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u04d9\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u04da\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u04db\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u04dc\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u04dd\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\30\0\1\u04de\100\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u03e2\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\3\7\1\u04df\13\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u04e0\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u04e1\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u04e2\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u04e3"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u04e4\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u04e5\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u04e6"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\5\7\1\u04e7\1\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\6\7\1\u04e8\7\7\1\u04e9\7\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u04ea"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\4\7\1\u04eb\1\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\3\7\1\u04ec\1\u04ed\4\7\1\u04ee"+
-    "\2\7\1\u04ef\11\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\14\7\1\u0271\2\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\16\7\1\u04f0\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u04f1"+
-    "\5\7\1\u04f2\2\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\1\7\1\u04f3\4\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\7\7\1\u04f4\16\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u04f5\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\14\7\1\u04f6\2\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\12\7\1\u04f7\4\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u04f8\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\u04f9\16\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u04fa\15\7\1\6\1\0"+
-    "\26\7\106\0\1\u04fb\5\0\1\u04fc\14\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u044a\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u04fd\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\1\u04fe\5\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u04ff\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\6\7\1\u0500"+
-    "\17\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u0501\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\2\7\1\u0502\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u0503\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\4\7\1\u0504"+
-    "\1\u0478\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\220"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\14\7\1\u0505\11\7\41\0\1\u0506\67\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u0507\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\4\7\1\u0508\1\7\2\0\6\7\13\0\15\7\1\u0509"+
-    "\1\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u050a\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u050b\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u050c"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u01ae\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\10\7\1\u050d\6\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\12\7\1\u050e\4\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u050f"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u0510"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\u0511\1\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u0512\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0513\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\7\7\1\u0514\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0515\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u0516\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\u0517\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u0518\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0519\2\7\13\0\17\7\1\6\1\0\26\7\43\0"+
-    "\1\u051a\131\0\1\u051b\116\0\1\u051c\34\0\1\u051d\76\0"+
-    "\1\u0357\132\0\1\u051e\125\0\1\u051f\131\0\1\u0520\146\0"+
-    "\1\u0521\134\0\1\u0522\41\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\1\0\1\u0523\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u014f\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u0524\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\7\7\1\u0525\7\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\4\7\1\u0526\21\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u0527\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u0528\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\14\7\1\u0529\2\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u052a\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u052b\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u052c\15\7"+
-    "\1\6\1\0\26\7\42\0\1\u052d\130\0\1\u052e\127\0"+
-    "\1\u052f\100\0\1\u0530\202\0\1\u0531\41\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0532\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u0533\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u0534\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u01b9\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\15\0\1\u0535\154\0\1\u0535\66\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\3\7"+
-    "\1\u0536\13\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\14\7\1\u0537\2\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u0538\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0539\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u053a\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\2\7\1\u053b\3\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\4\7"+
-    "\1\u02d1\1\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u053c\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u053d\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u053e\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u053f\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0540\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\70\0\1\u0541\40\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u0542\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u0543\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u0544\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u0545\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u0546\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u0547\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0548\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u0549\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u054a\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u01ba\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u054b\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u0407\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\115\0\1\u054c\13\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\1\7\1\u054d\4\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u054e\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\5\7\1\u054f\1\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\1\u03ac\5\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\4\7\1\u0550\7\7\1\u0551\4\7\1\104\4\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u050e"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u0552"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u03e2\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\10\7\1\u0553\15\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0554"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\16\7\1\u0555"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\2\7\1\u0556\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u0557\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0256\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u01bc\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\16\7\1\u0558\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u0559\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u055a"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u055b\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\u055c\15\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\5\7\1\u021a"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\14\7\1\u055d"+
-    "\11\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\5\7\1\u02d4\20\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u055e\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u055f\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\7\7\1\u0560\7\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u0561"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\62\0\1\u0562"+
-    "\46\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0563\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u0564\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u0565\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\2\7\1\u0566\3\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\16\7\1\u0567\7\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0568\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\7\7\1\u0569\7\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u056a\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u056b\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u056c\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\2\7"+
-    "\1\u056d\3\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\2\7\1\u056e\14\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u056f\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u0570\4\7\13\0\4\7"+
-    "\1\u0571\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0572\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\u0573\16\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u0574\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\15\7\1\u02d3\1\7"+
-    "\1\6\1\0\5\7\1\u02d4\20\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0575\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\15\7\1\u02c5\1\7\1\6\1\0"+
-    "\6\7\1\u02d5\17\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\u0576\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u0577"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0578\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\21\7"+
-    "\1\104\4\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u0579\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u057a"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\14\7\1\u02dc\11\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u057b\12\7\1\6"+
-    "\1\0\26\7\40\0\1\u057c\104\0\1\u057d\113\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u057e"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u057f\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\16\7\1\u018f\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u0580\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0581\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0582\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\2\7\1\u0583\14\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u0584"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u0585\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\75\0\1\u0586\33\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\14\7\1\u0587\2\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\7\1\u0588\15\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u0589"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u058a\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u058b\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\3\7\1\u058c\22\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u058d\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u014f\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u058e\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u058f\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u0590\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0591\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u0592\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u0593\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u0594\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\3\7\1\u0595\13\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0596\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\1\u0597\5\7\2\0\6\7\13\0"+
-    "\10\7\1\u0598\6\7\1\6\1\0\5\7\1\u0599\20\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u059a\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\44\0\1\u029f"+
-    "\126\0\1\u059b\153\0\1\u059c\103\0\1\u059d\124\0\1\u059e"+
-    "\164\0\1\u029f\76\0\1\u0403\123\0\1\u0403\127\0\1\u059f"+
-    "\120\0\1\u04a5\77\0\1\6\7\7\2\0\1\135\1\u05a0"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u05a1\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\u05a2\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u05a3\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\1\0\1\u05a4\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\15\7\1\u02d3\1\7"+
-    "\1\6\1\0\10\7\1\u02d6\15\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\7\1\u05a5\1\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u05a6\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u05a7\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\63\0\1\u05a8"+
-    "\104\0\1\u05a9\104\0\1\u05aa\201\0\1\u05ab\104\0\1\u05ac"+
-    "\64\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u04f0"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\u0272\16\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u05ad\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\65\0\1\u05ae\43\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\14\7\1\u05af"+
-    "\11\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\5\7\1\u02d4\10\7\1\u02d8"+
-    "\7\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\4\7"+
-    "\1\u05b0\1\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\13\7"+
-    "\1\u05b1\3\7\1\6\1\0\26\7\1\0\1\6\5\7"+
-    "\1\u05b2\1\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\1\0\1\u05b3\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\u05b4\1\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u05b5\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\4\7\1\u03d3\21\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u05b6\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\u05b7\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u05b8"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\71\0\1\u05b9"+
-    "\37\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u0381\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\2\7\1\u023e\23\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\5\7"+
-    "\1\u05ba\20\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\16\7\1\u014f\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u05bb\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u0210\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\2\7\1\u0227"+
-    "\23\7\1\0\1\6\7\7\2\0\1\135\2\7\1\10"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\4\7\1\u05bc\1\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\42\0\1\u05bd\66\0\1\6"+
-    "\7\7\2\0\1\135\1\u05be\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u05bf\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\u05c0\15\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u05c1\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u05c2\1\u05c3\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u014f\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u05c4\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u05c5"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u05c6\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\2\7\1\u05c7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\4\7"+
-    "\1\u0423\1\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u05c8\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u05c9\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\2\7\1\u05ca\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\2\7\1\u05cb\3\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u05cc\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u05cd\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\13\7\1\u0575\3\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u05ce\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u05cf\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\2\7\1\u014f\14\7\1\6"+
-    "\1\0\26\7\74\0\1\u05d0\34\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u05d1\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\14\7\1\u05d2\2\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u05d3\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u05d4\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\2\7\1\u05d5\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u05d6"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u05d7\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\2\7\1\u05d8\3\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u05d9\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u05da\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\17\7\1\u05db\6\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\1\u05dc\5\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u05dd\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\13\7"+
-    "\1\u05de\3\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u05df\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u05e0\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u05e1\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u05e2\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\5\7\1\u018f\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u05e3\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u05e4\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u05e5\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\5\7"+
-    "\1\u05e6\20\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u04dd\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u05e7\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\43\0\1\u05e8\151\0"+
-    "\1\u05e9\43\0\1\6\7\7\2\0\1\135\1\u0392\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u05ea\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u05eb\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u05ec\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u05ed\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\5\7\1\u05ee\20\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u05ef\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u05f0\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u05f1\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u05f2\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u05f3\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u05f4"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\7\7\1\u05f5"+
-    "\7\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u05f6\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\2\7"+
-    "\1\u05f7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u05f8\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u05f9\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\7\7\1\u05fa\7\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\u05fb\16\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u05fc\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u0336\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u05fd\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u05fe\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\3\7\1\u05ff\13\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u0600\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0601\2\7\13\0\1\7\1\u0602\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0210"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\5\7\1\u0603\1\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\16\0\1\u0604\153\0"+
-    "\1\u0605\125\0\1\u0606\131\0\1\u0607\156\0\1\u0608\37\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u0609\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u03e2\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\3\7\1\u060a\13\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\5\7\1\u060b"+
-    "\13\0\17\7\1\6\1\0\26\7\106\0\1\u060c\5\0"+
-    "\1\u060d\14\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7";
-
-  private static final String ZZ_TRANS_PACKED_1 =
-    "\3\0\6\7\2\0\6\7\13\0\4\7\1\u0238\12\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\14\7\1\u060e"+
-    "\11\7\42\0\1\u060f\161\0\1\u0610\77\0\1\u0611\123\0"+
-    "\1\u0612\70\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u0613\12\7\1\6\1\0\26\7\62\0"+
-    "\1\u0611\46\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u05c2\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\5\7\1\u0614\20\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\5\7\1\u0615\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u0616\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\31\0\1\u0617\77\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u0618\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\3\7\1\u01b9\13\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u04ba\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u0561\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0619"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\42\0"+
-    "\1\u061a\66\0\1\6\7\7\2\0\1\135\1\7\1\u061b"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u061c\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u061d\15\7"+
-    "\1\6\1\0\26\7\41\0\1\u061e\67\0\1\6\7\7"+
-    "\2\0\1\135\1\7\1\u061f\1\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u0620\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u0621"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u018f\5\7\13\0\17\7"+
-    "\1\6\1\0\1\7\1\u0622\24\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0623\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\3\7\1\u0624\13\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0625"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\u0626\2\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u0627\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0628\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u0629\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\5\7\1\u062a\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u062b\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u062c"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\2\7\1\u062d\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u062e\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u062f\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\24\7\1\u032f\1\7\74\0\1\u0630\34\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\2\7"+
-    "\1\u0631\14\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\4\7\1\u0632\21\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u0633\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0634\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\1\7\1\u0635\4\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\7\7\1\u0636\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0637\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u0638"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u0639\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\3\7\1\u063a\13\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u063b\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u063c\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\7\7\1\u063d\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\u0590\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u063e"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u050e\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u063f\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u0640\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u0641\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\2\7\1\u0642\14\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\7\7\1\u018f\7\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u0643"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u018f\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\40\0\1\u0644\132\0\1\u0645"+
-    "\65\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0646\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\5\7\1\u05fa\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\2\7\1\u0647\14\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\2\7\1\u0648\14\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\16\7\1\u014f\7\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\7\7\1\u0649\7\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\1\u064a\16\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u064b\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\7\7\1\u064c\7\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u064d\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u014f\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0498\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u064e\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\4\7"+
-    "\1\u064f\1\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\2\7\1\u0650\23\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\2\7"+
-    "\1\326\14\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0651\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u05f9\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0652\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0653\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0654\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\u0655"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\7\1\u0656\1\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u0657\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\u02fa"+
-    "\2\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0658\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\42\0\1\u0659\131\0"+
-    "\1\u0607\126\0\1\u029f\147\0\1\u029f\126\0\1\u065a\46\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u065b\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\3\7\1\u046a\13\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u065c\10\7\1\6\1\0"+
-    "\26\7\14\0\1\u065d\130\0\1\u065e\113\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u065f\15\7"+
-    "\1\6\1\0\26\7\74\0\1\u0660\47\0\1\u0661\176\0"+
-    "\1\u0630\106\0\1\u0662\66\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u0663\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u0664"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\5\7\1\u0665\1\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u0666\15\7"+
-    "\1\6\1\0\26\7\67\0\1\u0667\41\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\4\7\1\u0668\1\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u0277\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\45\0\1\u0669\63\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\5\7\1\u066a\20\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u066b"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u066c\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\45\0\1\u066d\63\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\2\7\1\u066e"+
-    "\14\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u066f\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\4\7"+
-    "\1\u0670\1\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\1\u0671\2\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\u0672\16\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\1\0\1\u0673"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u0674\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\3\7\1\u057a\13\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0675\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u0676"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\1\0\1\u0677\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u0678\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\u0679\15\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u067a\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u067b\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u067c\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\1\0\1\u067d"+
-    "\5\7\1\u067e\13\0\15\7\1\u067f\1\7\1\6\1\0"+
-    "\26\7\42\0\1\u0680\66\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\5\7"+
-    "\1\u021a\2\0\6\7\13\0\17\7\1\6\1\0\5\7"+
-    "\1\u05ee\20\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0681\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u0682\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\11\7\1\u0683\14\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\1\7\1\u0684\15\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\15\7\1\u02d3\1\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\4\7"+
-    "\1\u0685\12\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u0686\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u014f\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u0687"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\4\7\1\u0498"+
-    "\12\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u0688\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u0689\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\5\7\1\u068a"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u068b\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\u068c\5\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\2\7\1\u068d\14\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u068e\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u068f\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\42\0\1\u0586\101\0\1\u0690\114\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0691\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\5\7\1\u0692"+
-    "\1\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\5\7\1\u0693\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\16\7\1\u0694\7\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\1\u0695\5\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u0696\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u0697\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\1\0\1\u0698\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u0699\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\u069a\2\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u069b\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\u069c\15\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u069d\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u0498\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\7\7\1\u069e"+
-    "\7\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\7\7\1\u069f\7\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\4\7\1\u06a0"+
-    "\1\7\2\0\6\7\13\0\17\7\1\6\1\0\4\7"+
-    "\1\u06a1\6\7\1\u06a2\12\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u06a3\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\13\7\1\u018f\3\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u014f\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\4\7\1\u06a4\1\7\13\0\17\7"+
-    "\1\6\1\0\26\7\40\0\1\u051f\154\0\1\u0403\43\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u06a5\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\1\7\1\u06a6\15\7"+
-    "\1\6\1\0\26\7\32\0\1\u06a7\164\0\1\u06a8\41\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\2\7"+
-    "\1\u06a9\14\7\1\6\1\0\26\7\62\0\1\u047a\110\0"+
-    "\1\u06aa\125\0\1\u06ab\67\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\1\7"+
-    "\1\u06ac\4\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u06ad"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u06ae"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u04dd\13\0\17\7\1\6\1\0"+
-    "\26\7\74\0\1\u06af\34\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u06b0\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\65\0\1\u0586\43\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u06b1\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u06b2\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u06b3\7\7\1\6\1\0\26\7\67\0\1\u06b4\41\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u06b5\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\4\7\1\u06b6\1\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u06b7\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u06b8\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u06b9\15\7\1\6\1\0\26\7\106\0\1\u06ba\22\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u06bb\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\2\7\1\u0311\23\7\106\0\1\u06bc\22\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u06bd\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\11\7\1\u03e2\5\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\6\7\1\u02d5\17\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\13\7"+
-    "\1\u06be\3\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\13\7\1\u0311\3\7"+
-    "\1\6\1\0\26\7\120\0\1\u06bf\10\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\1\0\1\u06c0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u06c1\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\41\0\1\u0586\67\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u06c2\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\326\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\u06c3\16\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\u06c4\2\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\u014f\16\7\1\6\1\0\26\7\1\0\1\6\5\7"+
-    "\1\u06c5\1\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u06c6\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u06c7\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u06c8\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\326\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\2\7\1\u06c9\14\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\7"+
-    "\1\u06ca\15\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u06cb\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u06cc\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u06cd\4\7\13\0\17\7\1\6\1\0\26\7\74\0"+
-    "\1\u06ce\34\0\1\6\7\7\2\0\1\135\1\7\1\u06cf"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\4\7\1\u06d0\1\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\7\1\u06d1\1\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\3\7\1\u06d2\13\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\6\7\1\u06d3\10\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u06d4\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u037c\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\7\0\1\u06d5\121\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u06d6\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u06d7\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\14\7"+
-    "\1\u06d8\2\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\1\u06d9\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\2\7\1\u06c7"+
-    "\3\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\10\7\1\u02d6\15\7\1\0\1\6"+
-    "\5\7\1\u06da\1\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\4\7\1\u06db\1\u021a\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u06dc"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u06dd\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u06de\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\17\7"+
-    "\1\6\1\0\4\7\1\u06df\21\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\2\7\1\u06e0\3\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u06e1\10\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\1\7\1\u014f"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\45\0"+
-    "\1\u06e2\147\0\1\u06e3\43\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u06e4\10\7\1\6\1\0"+
-    "\26\7\74\0\1\u06e5\122\0\1\u06e6\41\0\1\6\7\7"+
-    "\2\0\1\135\1\u06e7\2\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u06e8\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u06e9\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\71\0\1\u06ea"+
-    "\37\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u055e"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u06eb"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\6\7"+
-    "\1\u06ec\17\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u06ed\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\62\0\1\u06ee\46\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\2\7\1\u06ef\3\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u02b9\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\4\7\1\u0429"+
-    "\12\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u06f0\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\2\7\1\u03e2\14\7\1\6\1\0\26\7"+
-    "\67\0\1\u06f1\41\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u055e\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\40\0\1\u06f2\70\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\7\7\1\u06f3\7\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\u06f4\2\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\16\0\1\u06f5\216\0"+
-    "\1\u06f6\23\0\1\6\7\7\2\0\1\135\1\7\1\u06f7"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u06f8\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u06f9\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u06fa\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u06fb"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u06fc\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u050e\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\5\7\1\u06fd\1\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\4\7"+
-    "\1\u06fe\1\u021a\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\6\7\1\u06ff\1\7\1\u0700\15\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\4\7\1\u04ed\21\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u06c9\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u0701\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\1\0\1\u0702\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u0703\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\61\0\1\u0704\47\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u0705\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u0706\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\4\7\1\u0707\12\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u0708\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\1\7\1\u0709\1\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\5\7\1\u02b5\1\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\4\7\1\u06fe\1\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\62\0\1\u070a\46\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\3\7"+
-    "\1\u070b\4\7\1\u0700\15\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\4\7\1\u050e\12\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\4\7\1\u070c\21\7"+
-    "\1\0\1\6\7\7\2\0\1\135\1\7\1\u06b9\1\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u070d\1\7\13\0"+
-    "\1\7\1\u070e\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\6\7\1\u070f"+
-    "\10\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\4\7\1\u0710\1\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\7\1\u0711\4\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\4\7\1\u0712"+
-    "\1\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u0713\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u0714\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u0336"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\42\0\1\u0715"+
-    "\147\0\1\u0716\46\0\1\6\7\7\2\0\1\135\2\7"+
-    "\1\u0717\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\42\0"+
-    "\1\u0718\102\0\1\u0719\113\0\1\6\7\7\2\0\1\135"+
-    "\1\7\1\u071a\1\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u071b\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\12\7"+
-    "\1\u071c\4\7\1\6\1\0\26\7\42\0\1\u071d\66\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u071e\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u071f\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0720\5\7\13\0\17\7\1\6\1\0\26\7\15\0"+
-    "\1\u0586\113\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\1\0\1\u0721"+
-    "\6\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\u0722\5\7\13\0\17\7"+
-    "\1\6\1\0\26\7\70\0\1\u0723\102\0\1\u0724\65\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u0599\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\7\1\u0725\4\7\13\0\17\7"+
-    "\1\6\1\0\26\7\30\0\1\u0726\40\0\1\u0727\15\0"+
-    "\1\u0728\1\u0729\51\0\1\u072a\76\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\2\7\1\u072b\14\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u072c\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u072d"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\2\7\1\u0639"+
-    "\14\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\3\7\1\u072e\2\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u072f\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u0730\15\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\4\7\1\u0731\1\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u0732\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u0733\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\1\0\1\u0734\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\107\0\1\u0735\21\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\u0736\5\7\13\0"+
-    "\17\7\1\6\1\0\26\7\40\0\1\u0737\70\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\1\7\1\u0639\4\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u0738\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\u0739\15\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\1\7\1\u073a\4\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\16\7\1\u03e2\1\6"+
-    "\1\0\26\7\15\0\1\u073b\113\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\7\1\u0570\4\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\6\7\1\u073c\10\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\3\7\1\u073d"+
-    "\2\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u073e\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u073f\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0740\5\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\2\7\1\u0741\3\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\6\7\1\u0742\10\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u0743\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\2\7\1\u0744\14\7\1\6\1\0\26\7\40\0"+
-    "\1\u0586\152\0\1\u0745\45\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u0746\10\7\1\6\1\0"+
-    "\26\7\76\0\1\u0747\125\0\1\u0748\34\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\2\7\1\u02b9\14\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\2\7\1\u0749\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u074a"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\65\0\1\u074b"+
-    "\43\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u074c\10\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u074d"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\4\7\1\u06fe\1\7\2\0\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\7\0\1\u074e\121\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u074f\10\7\1\6"+
-    "\1\0\26\7\64\0\1\u0750\130\0\1\u0751\43\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\3\7\1\u0303\2\7\13\0"+
-    "\17\7\1\6\1\0\26\7\62\0\1\u0752\127\0\1\u0753"+
-    "\62\0\1\u0715\153\0\1\u0754\133\0\1\u0755\63\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\1\7\1\u05e5"+
-    "\15\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u0756\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0757\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\5\7\1\u0758\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u0759\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u040e\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\2\7\1\u075a\14\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u075b\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\2\7\1\u075c"+
-    "\3\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\2\7\1\u075d"+
-    "\14\7\1\6\1\0\26\7\76\0\1\u075e\46\0\1\u075f"+
-    "\113\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\1\7\1\u0760\15\7\1\6\1\0\26\7\35\0\1\u0761"+
-    "\73\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\5\7\1\u0762"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\2\7\1\u0763\14\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u0764\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\40\0\1\u0765\70\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\2\7\1\u050e"+
-    "\23\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u0575\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\5\7\1\u0766\13\0\17\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\4\7\1\u01ba\1\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u0767\3\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0768\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\2\7\1\u0391\14\7"+
-    "\1\6\1\0\26\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\2\7\1\u0769\3\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u0215\2\7\13\0\17\7\1\6\1\0\26\7\42\0"+
-    "\1\u076a\66\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u073a\12\7\1\6\1\0\26\7\43\0"+
-    "\1\u076b\202\0\1\u076c\12\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\3\7\1\u05a5\2\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u076d\4\7\13\0\17\7\1\6\1\0\26\7\67\0"+
-    "\1\u076e\41\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u076f\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\5\7"+
-    "\1\u0407\11\7\1\6\1\0\26\7\62\0\1\u0770\46\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\3\7\1\u0771\2\7"+
-    "\13\0\17\7\1\6\1\0\26\7\44\0\1\u0772\162\0"+
-    "\1\u0773\45\0\1\u0774\126\0\1\u0775\202\0\1\u0776\100\0"+
-    "\1\u0777\70\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\u0778"+
-    "\5\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\2\7\1\u0779"+
-    "\14\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\5\7\1\u077a\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\5\7"+
-    "\1\u0477\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\2\7\1\u077b\3\7\13\0"+
-    "\17\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\13\7\1\u0639\3\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\4\7\1\u077c\12\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\u0685\5\7"+
-    "\13\0\17\7\1\6\1\0\26\7\42\0\1\u077d\103\0"+
-    "\1\u077e\112\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u077f\4\7\13\0\17\7\1\6\1\0\26\7\66\0"+
-    "\1\u0780\42\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\13\7\1\u0781\12\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u0782\10\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\1\u060b\5\7\13\0\17\7\1\6"+
-    "\1\0\26\7\41\0\1\u0783\67\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\1\u0784\5\7\13\0\17\7\1\6\1\0"+
-    "\26\7\1\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\1\7"+
-    "\1\u0785\4\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\7\7"+
-    "\1\u0786\7\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\3\7\1\u0787\2\7\13\0\17\7"+
-    "\1\6\1\0\26\7\31\0\1\u0788\54\0\1\u0789\36\0"+
-    "\1\u078a\174\0\1\u078b\46\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u078c\13\0\17\7\1\6\1\0\26\7"+
-    "\70\0\1\u078d\40\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u078e\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\15\0\1\u078f\113\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\4\7\1\u0790\1\7\13\0\17\7\1\6\1\0\26\7"+
-    "\42\0\1\u0791\121\0\1\u0792\167\0\1\u0586\65\0\1\u0793"+
-    "\165\0\1\u0794\100\0\1\u0795\67\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\6\7\1\u0796\10\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\1\u046c\5\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\5\7\1\u0797\1\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\2\0\6\7\13\0\17\7\1\6\1\0"+
-    "\6\7\1\u0798\17\7\1\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\6\7\1\u05a3\10\7\1\6\1\0"+
-    "\26\7\63\0\1\u0799\126\0\1\u0586\46\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\1\0\1\u079a\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\65\0\1\u079b\43\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\2\7\1\u079c\3\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\1\7"+
-    "\1\u079d\1\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\17\7\1\6\1\0\26\7"+
-    "\62\0\1\u079e\46\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\3\7\1\u079f\2\7\13\0\17\7\1\6\1\0\26\7"+
-    "\1\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\1\0\1\u07a0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\1\0\1\6\7\7"+
-    "\2\0\1\135\3\7\1\0\1\7\1\0\1\6\2\7"+
-    "\3\0\6\7\1\0\1\u07a1\6\7\13\0\17\7\1\6"+
-    "\1\0\26\7\1\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\6\7\13\0\7\7\1\u07a2\7\7\1\6\1\0\26\7"+
-    "\44\0\1\u07a3\150\0\1\u07a4\136\0\1\u0644\116\0\1\u0644"+
-    "\45\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u07a5\10\7\1\6\1\0\26\7\43\0\1\u07a6"+
-    "\65\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\6\7\1\u07a7\10\7\1\6\1\0\26\7\40\0\1\u07a8"+
-    "\70\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\1\u03ac\5\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\35\0\1\u0338\51\0"+
-    "\1\u07a9\61\0\1\u07aa\132\0\1\u0644\152\0\1\u07ab\103\0"+
-    "\1\u07ac\65\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\4\7\1\u0575\12\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\1\u07ad"+
-    "\16\7\1\6\1\0\26\7\1\0\1\6\7\7\2\0"+
-    "\1\135\3\7\1\0\1\7\1\0\1\6\2\7\3\0"+
-    "\6\7\2\0\6\7\13\0\1\7\1\u07ae\15\7\1\6"+
-    "\1\0\26\7\67\0\1\u07af\160\0\1\u07b0\51\0\1\u07b1"+
-    "\66\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\1\7\1\u07b2"+
-    "\4\7\13\0\17\7\1\6\1\0\26\7\1\0\1\6"+
-    "\7\7\2\0\1\135\3\7\1\0\1\7\1\0\1\6"+
-    "\2\7\3\0\6\7\2\0\6\7\13\0\13\7\1\u014f"+
-    "\3\7\1\6\1\0\26\7\44\0\1\u07b3\64\0\1\6"+
-    "\7\7\2\0\1\135\1\7\1\u07b4\1\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\2\0\6\7\13\0"+
-    "\17\7\1\6\1\0\26\7\34\0\1\u07b5\215\0\1\u07b6"+
-    "\6\0\1\6\7\7\2\0\1\135\3\7\1\0\1\7"+
-    "\1\0\1\6\2\7\3\0\6\7\1\0\1\u07b7\6\7"+
-    "\13\0\17\7\1\6\1\0\26\7\62\0\1\u07b8\106\0"+
-    "\1\u07b9\67\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\1\7\1\u07ba\15\7\1\6\1\0\26\7\44\0"+
-    "\1\u07bb\64\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\6\7"+
-    "\13\0\17\7\1\6\1\0\2\7\1\u07bc\23\7\41\0"+
-    "\1\u07bd\156\0\1\u07be\102\0\1\u07bf\124\0\1\u07c0\154\0"+
-    "\1\u07c1\43\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\3\7"+
-    "\1\u07c2\2\7\13\0\17\7\1\6\1\0\26\7\1\0"+
-    "\1\6\7\7\2\0\1\135\3\7\1\0\1\7\1\0"+
-    "\1\6\2\7\3\0\6\7\2\0\6\7\13\0\6\7"+
-    "\1\u0651\10\7\1\6\1\0\26\7\41\0\1\u07c3\104\0"+
-    "\1\u07c4\175\0\1\u07c5\44\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\5\7\1\u03b1\13\0\17\7\1\6\1\0\26\7"+
-    "\44\0\1\u0630\64\0\1\6\7\7\2\0\1\135\3\7"+
-    "\1\0\1\7\1\0\1\6\2\7\3\0\6\7\2\0"+
-    "\1\u0575\5\7\13\0\17\7\1\6\1\0\26\7\67\0"+
-    "\1\u07c6\102\0\1\u07c7\175\0\1\u07c8\104\0\1\u07c9\131\0"+
-    "\1\u07ca\41\0\1\6\7\7\2\0\1\135\1\7\1\u07cb"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\30\0"+
-    "\1\u07cc\100\0\1\6\7\7\2\0\1\135\3\7\1\0"+
-    "\1\7\1\0\1\6\2\7\3\0\6\7\2\0\2\7"+
-    "\1\u07cd\3\7\13\0\17\7\1\6\1\0\26\7\62\0"+
-    "\1\u07ce\135\0\1\u07cf\127\0\1\u0644\126\0\1\u07d0\100\0"+
-    "\1\u07d1\70\0\1\6\7\7\2\0\1\135\1\7\1\u02c4"+
-    "\1\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\26\7\42\0"+
-    "\1\u07d2\115\0\1\u0726\40\0\1\u0727\15\0\1\u0728\60\0"+
-    "\1\u07d3\133\0\1\u07d4\123\0\1\u07d5\103\0\1\u07c7\212\0"+
-    "\1\u0586\114\0\1\u0715\44\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\6\7\13\0\17\7\1\6\1\0\14\7\1\u03c9"+
-    "\11\7\43\0\1\u07d6\65\0\1\6\7\7\2\0\1\135"+
-    "\3\7\1\0\1\7\1\0\1\6\2\7\3\0\6\7"+
-    "\2\0\1\7\1\u03e2\4\7\13\0\17\7\1\6\1\0"+
-    "\26\7\44\0\1\u0586\77\0\1\u07d7\206\0\1\u0644\64\0"+
-    "\1\u07d8\40\0\1\u07d9\14\0\1\u07da\1\u07db\105\0\1\u07dc"+
-    "\131\0\1\u07dd\100\0\1\u07de\123\0\1\u07df\170\0\1\u07e0"+
-    "\72\0\1\u07e1\151\0\1\u07e2\127\0\1\u07e3\131\0\1\u07e4"+
-    "\60\0\1\u07e5\152\0\1\u07e6\151\0\1\u07e7\107\0\1\u07e8"+
-    "\154\0\1\u07e9\122\0\1\u07ea\110\0\1\u07eb\101\0\1\u07ec"+
-    "\126\0\1\u07ed\157\0\1\u07ee\123\0\1\u07ef\126\0\1\u07f0"+
-    "\105\0\1\u07f1\153\0\1\u0702\130\0\1\u07f2\101\0\1\u07f3"+
-    "\145\0\1\u07f4\171\0\1\u07ef\65\0\1\u07f5\164\0\1\u07f6"+
-    "\146\0\1\u07da\134\0\1\u07f7\125\0\1\u07f8\62\0\1\u07f9"+
-    "\123\0\1\u07fa\133\0\1\u07fb\127\0\1\u07fc\123\0\1\u07fd"+
-    "\164\0\1\u07fe\75\0\1\u07ff\147\0\1\u0586\100\0\1\u0800"+
-    "\135\0\1\u027f\127\0\1\u07ef\127\0\1\u0801\151\0\1\u0644"+
-    "\60\0\1\u0802\174\0\1\u0803\106\0\1\u0804\151\0\1\u07b3"+
-    "\105\0\1\u0805\131\0\1\u0806\154\0\1\u0586\77\0\1\u0807"+
-    "\151\0\1\u0680\46\0";
-
-  private static int [] zzUnpackTrans() {
-    int [] result = new int[177144];
-    int offset = 0;
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_1, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackTrans(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      value--;
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-
   /* error codes */
   private static final int ZZ_UNKNOWN_ERROR = 0;
   private static final int ZZ_NO_MATCH = 1;
@@ -5053,70 +112,6 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
     "Error: pushback value was too large"
   };
 
-  /**
-   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
-   */
-  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
-
-  private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\4\0\10\1\1\11\4\1\1\11\20\1\2\11\3\1"+
-    "\1\11\35\1\1\11\5\1\1\11\10\1\1\11\4\1"+
-    "\1\11\24\1\1\11\1\0\16\1\1\11\44\1\1\0"+
-    "\121\1\2\0\1\11\4\0\1\11\2\0\1\11\22\0"+
-    "\1\11\1\0\3\1\1\0\15\1\1\11\13\1\1\11"+
-    "\1\1\1\11\1\1\1\11\226\1\37\0\1\11\17\1"+
-    "\1\0\3\1\1\11\176\1\1\0\21\1\2\0\1\1"+
-    "\2\0\1\1\10\0\1\11\17\0\17\1\1\0\33\1"+
-    "\1\0\135\1\1\0\21\1\35\0\17\1\1\0\31\1"+
-    "\1\0\123\1\1\0\20\1\22\0\15\1\2\0\4\1"+
-    "\1\0\15\1\1\0\55\1\1\0\26\1\1\0\14\1"+
-    "\1\0\23\1\2\0\1\1\6\0\13\1\5\0\4\1"+
-    "\2\0\14\1\1\0\14\1\1\0\27\1\1\0\34\1"+
-    "\2\0\11\1\1\0\23\1\12\0\11\1\5\0\3\1"+
-    "\1\0\13\1\1\0\12\1\1\0\25\1\1\0\31\1"+
-    "\2\0\10\1\1\11\24\1\5\0\4\1\1\0\3\1"+
-    "\1\11\4\0\1\1\1\0\4\1\1\0\5\1\1\0"+
-    "\3\1\1\0\22\1\1\0\27\1\2\0\32\1\5\0"+
-    "\3\1\2\0\1\1\4\0\4\1\1\0\2\1\1\0"+
-    "\3\1\1\0\21\1\1\0\23\1\2\0\23\1\2\0"+
-    "\2\1\2\0\1\1\3\0\4\1\1\0\1\1\1\0"+
-    "\3\1\1\0\5\1\1\0\3\1\1\0\5\1\1\0"+
-    "\2\1\1\0\17\1\1\0\7\1\1\0\16\1\2\0"+
-    "\1\1\2\0\3\1\1\0\4\1\1\0\5\1\1\0"+
-    "\1\1\1\0\2\1\2\0\15\1\1\0\6\1\1\0"+
-    "\14\1\2\0\1\1\2\0\3\1\1\0\3\1\1\0"+
-    "\2\1\2\0\2\1\2\0\13\1\1\0\1\1\1\0"+
-    "\5\1\1\0\12\1\2\0\1\1\2\0\3\1\1\0"+
-    "\3\1\1\0\1\1\2\0\1\1\5\0\11\1\2\0"+
-    "\1\1\1\0\3\1\1\0\11\1\1\0\1\1\2\0"+
-    "\2\1\1\0\2\1\1\0\1\1\6\0\10\1\2\0"+
-    "\1\1\1\0\3\1\1\0\4\1\3\0\1\1\1\0"+
-    "\1\1\1\0\1\1\6\0\5\1\2\0\1\1\1\0"+
-    "\2\1\1\0\4\1\4\0\1\1\1\0\1\1\1\0"+
-    "\1\1\5\0\3\1\3\0\2\1\1\0\1\1\2\0"+
-    "\1\1\2\0\1\1\1\0\1\1\5\0\2\1\3\0"+
-    "\1\1\1\0\1\1\5\0\1\1\1\0\1\1\5\0"+
-    "\1\1\10\0\1\1\1\0\1\1\30\0\1\1\41\0";
-
-  private static int [] zzUnpackAttribute() {
-    int [] result = new int[2055];
-    int offset = 0;
-    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
   /** the input device */
   private java.io.Reader zzReader;
 
@@ -5327,24 +322,6 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
     this(new java.io.InputStreamReader(in));
   }
 
-  /**
-   * Unpacks the compressed character translation table.
-   *
-   * @param packed   the packed character translation table
-   * @return         the unpacked character translation table
-   */
-  private static char [] zzUnpackCMap(String packed) {
-    char [] map = new char[0x10000];
-    int i = 0;  /* index in packed string  */
-    int j = 0;  /* index in unpacked array */
-    while (i < 2312) {
-      int  count = packed.charAt(i++);
-      char value = packed.charAt(i++);
-      do map[j++] = value; while (--count > 0);
-    }
-    return map;
-  }
-
 
   /**
    * Closes the input stream.
@@ -5467,11 +444,11 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
     int zzMarkedPosL;
     int zzEndReadL = zzEndRead;
     char [] zzBufferL = zzBuffer;
-    char [] zzCMapL = ZZ_CMAP;
+    char [] zzCMapL = Tables.ZZ_CMAP;
 
-    int [] zzTransL = ZZ_TRANS;
-    int [] zzRowMapL = ZZ_ROWMAP;
-    int [] zzAttrL = ZZ_ATTRIBUTE;
+    short [] zzTransL = Tables.ZZ_TRANS;
+    int [] zzRowMapL = Tables.ZZ_ROWMAP;
+    int [] zzAttrL = Tables.ZZ_ATTRIBUTE;
 
     while (true) {
       zzMarkedPosL = zzMarkedPos;
@@ -5527,7 +504,7 @@ public class JavaTokenMaker extends AbstractJFlexCTokenMaker {
       // store back cached position
       zzMarkedPos = zzMarkedPosL;
 
-      switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
+      switch (zzAction < 0 ? zzAction : Tables.ZZ_ACTION[zzAction]) {
         case 19:
           { addToken(TokenTypes.LITERAL_NUMBER_FLOAT);
           }
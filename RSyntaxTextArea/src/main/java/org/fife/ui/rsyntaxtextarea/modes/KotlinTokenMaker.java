@@ -44,6 +44,12 @@ import org.fife.ui.rsyntaxtextarea.*;
  *   <li>You should NOT call <code>yylex()</code> on the generated scanner
  *       directly; rather, you should use <code>getTokenList</code> as you would
  *       with any other <code>TokenMaker</code> instance.</li>
+ *   <li>This class's DFA tables are loaded lazily from
+ *       <code>KotlinTokenMaker.dfa</code> by its <code>Tables</code> holder class.
+ *       The build's <code>convertJFlexTables</code> task rewrites that
+ *       resource and replaces the generated tables with the
+ *       <code>Tables</code> class whenever the scanner is regenerated, so
+ *       the generated source doesn't need to be edited for this.</li>
  * </ul>
  *
  * @author Robert Futrell
@@ -63,4937 +69,32 @@ public class KotlinTokenMaker extends AbstractJFlexCTokenMaker {
   public static final int MLC = 1;
 
   /**
-   * Translates characters to character classes
+   * The DFA tables, loaded from <code>KotlinTokenMaker.dfa</code> the first time a
+   * line is scanned rather than when this class is loaded.
+   *
+   * @see DfaTables
    */
-  private static final String ZZ_CMAP_PACKED =
-    "\11\24\1\25\1\11\1\0\1\25\1\21\16\24\4\0\1\25\1\56"+
-    "\1\17\1\22\1\14\1\55\1\60\1\10\2\102\1\27\1\50\1\47"+
-    "\1\36\1\37\1\26\1\4\1\5\2\20\1\126\1\7\1\125\1\7"+
-    "\2\3\1\61\1\47\1\51\1\52\1\54\1\57\1\101\1\105\1\31"+
-    "\1\6\1\74\1\35\1\75\1\122\1\113\1\110\1\130\1\1\1\30"+
-    "\1\117\1\120\1\121\1\112\1\124\1\77\1\107\1\115\1\106\1\116"+
-    "\1\114\1\33\1\1\1\127\1\102\1\12\1\102\1\53\1\2\1\0"+
-    "\1\43\1\32\1\65\1\34\1\42\1\16\1\104\1\63\1\70\1\103"+
-    "\1\100\1\44\1\71\1\15\1\64\1\67\1\111\1\41\1\45\1\40"+
-    "\1\13\1\73\1\76\1\66\1\72\1\123\1\131\1\53\1\46\1\62"+
-    "\41\24\2\0\4\23\4\0\1\23\2\0\1\24\7\0\1\23\4\0"+
-    "\1\23\5\0\27\23\1\0\37\23\1\0\u01ca\23\4\0\14\23\16\0"+
-    "\5\23\7\0\1\23\1\0\1\23\21\0\160\24\5\23\1\0\2\23"+
-    "\2\0\4\23\10\0\1\23\1\0\3\23\1\0\1\23\1\0\24\23"+
-    "\1\0\123\23\1\0\213\23\1\0\5\24\2\0\236\23\11\0\46\23"+
-    "\2\0\1\23\7\0\47\23\7\0\1\23\1\0\55\24\1\0\1\24"+
-    "\1\0\2\24\1\0\2\24\1\0\1\24\10\0\33\23\5\0\3\23"+
-    "\15\0\5\24\6\0\1\23\4\0\13\24\5\0\53\23\37\24\4\0"+
-    "\2\23\1\24\143\23\1\0\1\23\10\24\1\0\6\24\2\23\2\24"+
-    "\1\0\4\24\2\23\12\24\3\23\2\0\1\23\17\0\1\24\1\23"+
-    "\1\24\36\23\33\24\2\0\131\23\13\24\1\23\16\0\12\24\41\23"+
-    "\11\24\2\23\4\0\1\23\5\0\26\23\4\24\1\23\11\24\1\23"+
-    "\3\24\1\23\5\24\22\0\31\23\3\24\104\0\1\23\1\0\13\23"+
-    "\67\0\33\24\1\0\4\24\66\23\3\24\1\23\22\24\1\23\7\24"+
-    "\12\23\2\24\2\0\12\24\1\0\7\23\1\0\7\23\1\0\3\24"+
-    "\1\0\10\23\2\0\2\23\2\0\26\23\1\0\7\23\1\0\1\23"+
-    "\3\0\4\23\2\0\1\24\1\23\7\24\2\0\2\24\2\0\3\24"+
-    "\1\23\10\0\1\24\4\0\2\23\1\0\3\23\2\24\2\0\12\24"+
-    "\4\23\7\0\1\23\5\0\3\24\1\0\6\23\4\0\2\23\2\0"+
-    "\26\23\1\0\7\23\1\0\2\23\1\0\2\23\1\0\2\23\2\0"+
-    "\1\24\1\0\5\24\4\0\2\24\2\0\3\24\3\0\1\24\7\0"+
-    "\4\23\1\0\1\23\7\0\14\24\3\23\1\24\13\0\3\24\1\0"+
-    "\11\23\1\0\3\23\1\0\26\23\1\0\7\23\1\0\2\23\1\0"+
-    "\5\23\2\0\1\24\1\23\10\24\1\0\3\24\1\0\3\24\2\0"+
-    "\1\23\17\0\2\23\2\24\2\0\12\24\1\0\1\23\17\0\3\24"+
-    "\1\0\10\23\2\0\2\23\2\0\26\23\1\0\7\23\1\0\2\23"+
-    "\1\0\5\23\2\0\1\24\1\23\7\24\2\0\2\24\2\0\3\24"+
-    "\10\0\2\24\4\0\2\23\1\0\3\23\2\24\2\0\12\24\1\0"+
-    "\1\23\20\0\1\24\1\23\1\0\6\23\3\0\3\23\1\0\4\23"+
-    "\3\0\2\23\1\0\1\23\1\0\2\23\3\0\2\23\3\0\3\23"+
-    "\3\0\14\23\4\0\5\24\3\0\3\24\1\0\4\24\2\0\1\23"+
-    "\6\0\1\24\16\0\12\24\11\0\1\23\7\0\3\24\1\0\10\23"+
-    "\1\0\3\23\1\0\27\23\1\0\12\23\1\0\5\23\3\0\1\23"+
-    "\7\24\1\0\3\24\1\0\4\24\7\0\2\24\1\0\2\23\6\0"+
-    "\2\23\2\24\2\0\12\24\22\0\2\24\1\0\10\23\1\0\3\23"+
-    "\1\0\27\23\1\0\12\23\1\0\5\23\2\0\1\24\1\23\7\24"+
-    "\1\0\3\24\1\0\4\24\7\0\2\24\7\0\1\23\1\0\2\23"+
-    "\2\24\2\0\12\24\1\0\2\23\17\0\2\24\1\0\10\23\1\0"+
-    "\3\23\1\0\51\23\2\0\1\23\7\24\1\0\3\24\1\0\4\24"+
-    "\1\23\10\0\1\24\10\0\2\23\2\24\2\0\12\24\12\0\6\23"+
-    "\2\0\2\24\1\0\22\23\3\0\30\23\1\0\11\23\1\0\1\23"+
-    "\2\0\7\23\3\0\1\24\4\0\6\24\1\0\1\24\1\0\10\24"+
-    "\22\0\2\24\15\0\60\23\1\24\2\23\7\24\4\0\10\23\10\24"+
-    "\1\0\12\24\47\0\2\23\1\0\1\23\2\0\2\23\1\0\1\23"+
-    "\2\0\1\23\6\0\4\23\1\0\7\23\1\0\3\23\1\0\1\23"+
-    "\1\0\1\23\2\0\2\23\1\0\4\23\1\24\2\23\6\24\1\0"+
-    "\2\24\1\23\2\0\5\23\1\0\1\23\1\0\6\24\2\0\12\24"+
-    "\2\0\4\23\40\0\1\23\27\0\2\24\6\0\12\24\13\0\1\24"+
-    "\1\0\1\24\1\0\1\24\4\0\2\24\10\23\1\0\44\23\4\0"+
-    "\24\24\1\0\2\24\5\23\13\24\1\0\44\24\11\0\1\24\71\0"+
-    "\53\23\24\24\1\23\12\24\6\0\6\23\4\24\4\23\3\24\1\23"+
-    "\3\24\2\23\7\24\3\23\4\24\15\23\14\24\1\23\17\24\2\0"+
-    "\46\23\1\0\1\23\5\0\1\23\2\0\53\23\1\0\u014d\23\1\0"+
-    "\4\23\2\0\7\23\1\0\1\23\1\0\4\23\2\0\51\23\1\0"+
-    "\4\23\2\0\41\23\1\0\4\23\2\0\7\23\1\0\1\23\1\0"+
-    "\4\23\2\0\17\23\1\0\71\23\1\0\4\23\2\0\103\23\2\0"+
-    "\3\24\40\0\20\23\20\0\125\23\14\0\u026c\23\2\0\21\23\1\0"+
-    "\32\23\5\0\113\23\3\0\3\23\17\0\15\23\1\0\4\23\3\24"+
-    "\13\0\22\23\3\24\13\0\22\23\2\24\14\0\15\23\1\0\3\23"+
-    "\1\0\2\24\14\0\64\23\40\24\3\0\1\23\3\0\2\23\1\24"+
-    "\2\0\12\24\41\0\3\24\2\0\12\24\6\0\130\23\10\0\51\23"+
-    "\1\24\1\23\5\0\106\23\12\0\35\23\3\0\14\24\4\0\14\24"+
-    "\12\0\12\24\36\23\2\0\5\23\13\0\54\23\4\0\21\24\7\23"+
-    "\2\24\6\0\12\24\46\0\27\23\5\24\4\0\65\23\12\24\1\0"+
-    "\35\24\2\0\13\24\6\0\12\24\15\0\1\23\130\0\5\24\57\23"+
-    "\21\24\7\23\4\0\12\24\21\0\11\24\14\0\3\24\36\23\15\24"+
-    "\2\23\12\24\54\23\16\24\14\0\44\23\24\24\10\0\12\24\3\0"+
-    "\3\23\12\24\44\23\122\0\3\24\1\0\25\24\4\23\1\24\4\23"+
-    "\3\24\2\23\11\0\300\23\47\24\25\0\4\24\u0116\23\2\0\6\23"+
-    "\2\0\46\23\2\0\6\23\2\0\10\23\1\0\1\23\1\0\1\23"+
-    "\1\0\1\23\1\0\37\23\2\0\65\23\1\0\7\23\1\0\1\23"+
-    "\3\0\3\23\1\0\7\23\3\0\4\23\2\0\6\23\4\0\15\23"+
-    "\5\0\3\23\1\0\7\23\16\0\5\24\32\0\5\24\20\0\2\23"+
-    "\23\0\1\23\13\0\5\24\5\0\6\24\1\0\1\23\15\0\1\23"+
-    "\20\0\15\23\3\0\33\23\25\0\15\24\4\0\1\24\3\0\14\24"+
-    "\21\0\1\23\4\0\1\23\2\0\12\23\1\0\1\23\3\0\5\23"+
-    "\6\0\1\23\1\0\1\23\1\0\1\23\1\0\4\23\1\0\13\23"+
-    "\2\0\4\23\5\0\5\23\4\0\1\23\21\0\51\23\u0a77\0\57\23"+
-    "\1\0\57\23\1\0\205\23\6\0\4\23\3\24\2\23\14\0\46\23"+
-    "\1\0\1\23\5\0\1\23\2\0\70\23\7\0\1\23\17\0\1\24"+
-    "\27\23\11\0\7\23\1\0\7\23\1\0\7\23\1\0\7\23\1\0"+
-    "\7\23\1\0\7\23\1\0\7\23\1\0\7\23\1\0\40\24\57\0"+
-    "\1\23\u01d5\0\3\23\31\0\11\23\6\24\1\0\5\23\2\0\5\23"+
-    "\4\0\126\23\2\0\2\24\2\0\3\23\1\0\132\23\1\0\4\23"+
-    "\5\0\51\23\3\0\136\23\21\0\33\23\65\0\20\23\u0200\0\u19b6\23"+
-    "\112\0\u51cd\23\63\0\u048d\23\103\0\56\23\2\0\u010d\23\3\0\20\23"+
-    "\12\24\2\23\24\0\57\23\1\24\4\0\12\24\1\0\31\23\7\0"+
-    "\1\24\120\23\2\24\45\0\11\23\2\0\147\23\2\0\4\23\1\0"+
-    "\4\23\14\0\13\23\115\0\12\23\1\24\3\23\1\24\4\23\1\24"+
-    "\27\23\5\24\20\0\1\23\7\0\64\23\14\0\2\24\62\23\21\24"+
-    "\13\0\12\24\6\0\22\24\6\23\3\0\1\23\4\0\12\24\34\23"+
-    "\10\24\2\0\27\23\15\24\14\0\35\23\3\0\4\24\57\23\16\24"+
-    "\16\0\1\23\12\24\46\0\51\23\16\24\11\0\3\23\1\24\10\23"+
-    "\2\24\2\0\12\24\6\0\27\23\3\0\1\23\1\24\4\0\60\23"+
-    "\1\24\1\23\3\24\2\23\2\24\5\23\2\24\1\23\1\24\1\23"+
-    "\30\0\3\23\2\0\13\23\5\24\2\0\3\23\2\24\12\0\6\23"+
-    "\2\0\6\23\2\0\6\23\11\0\7\23\1\0\7\23\221\0\43\23"+
-    "\10\24\1\0\2\24\2\0\12\24\6\0\u2ba4\23\14\0\27\23\4\0"+
-    "\61\23\u2104\0\u016e\23\2\0\152\23\46\0\7\23\14\0\5\23\5\0"+
-    "\1\23\1\24\12\23\1\0\15\23\1\0\5\23\1\0\1\23\1\0"+
-    "\2\23\1\0\2\23\1\0\154\23\41\0\u016b\23\22\0\100\23\2\0"+
-    "\66\23\50\0\15\23\3\0\20\24\20\0\7\24\14\0\2\23\30\0"+
-    "\3\23\31\0\1\23\6\0\5\23\1\0\207\23\2\0\1\24\4\0"+
-    "\1\23\13\0\12\24\7\0\32\23\4\0\1\23\1\0\32\23\13\0"+
-    "\131\23\3\0\6\23\2\0\6\23\2\0\6\23\2\0\3\23\3\0"+
-    "\2\23\3\0\2\23\22\0\3\24\4\0";
+  private static final class Tables {
 
-  /**
-   * Translates characters to character classes
-   */
-  private static final char [] ZZ_CMAP = zzUnpackCMap(ZZ_CMAP_PACKED);
+    private static final DfaTables TABLES = DfaTables.load(KotlinTokenMaker.class);
 
-  /**
-   * Translates DFA states to action switch labels.
-   */
-  private static final int [] ZZ_ACTION = zzUnpackAction();
+    /** Translates characters to character classes */
+    static final char [] ZZ_CMAP = TABLES.getCMap();
 
-  private static final String ZZ_ACTION_PACKED_0 =
-    "\4\0\1\1\1\2\2\3\1\2\1\4\1\5\2\2"+
-    "\1\6\1\1\1\7\2\10\5\2\1\10\7\2\1\11"+
-    "\1\2\6\10\11\2\1\12\17\2\1\13\1\14\5\13"+
-    "\1\15\10\13\1\16\3\13\1\1\2\17\1\20\1\3"+
-    "\1\17\1\20\2\17\1\21\2\17\5\2\1\4\1\22"+
-    "\1\0\1\4\6\2\2\6\1\23\1\24\1\25\10\2"+
-    "\1\26\23\2\1\26\4\2\1\0\1\10\1\0\13\2"+
-    "\1\26\17\2\1\12\64\2\2\0\1\27\4\0\1\30"+
-    "\2\0\1\31\17\0\1\1\1\3\1\20\1\0\2\21"+
-    "\1\3\1\21\10\2\1\4\1\32\2\4\1\22\1\4"+
-    "\6\2\1\6\1\33\1\6\1\34\41\2\1\26\4\2"+
-    "\1\26\20\2\1\26\22\2\1\1\1\2\1\35\16\2"+
-    "\1\36\14\2\1\35\33\2\1\36\17\2\35\0\1\1"+
-    "\2\17\5\2\1\35\4\2\1\4\3\2\1\6\1\37"+
-    "\1\35\3\2\1\36\5\2\1\35\3\2\1\36\6\2"+
-    "\1\40\51\2\1\36\6\2\1\1\72\2\1\0\21\2"+
-    "\2\0\1\41\2\0\1\42\7\0\1\43\15\0\1\44"+
-    "\1\1\2\2\1\36\11\2\1\4\1\26\1\6\15\2"+
-    "\1\0\23\2\1\26\35\2\1\1\2\2\1\35\14\2"+
-    "\1\36\44\2\1\36\4\2\1\0\21\2\31\0\1\1"+
-    "\15\2\1\4\1\2\1\6\1\36\5\2\1\36\4\2"+
-    "\1\0\10\2\1\45\34\2\1\36\1\1\17\2\1\35"+
-    "\4\2\1\36\7\2\1\36\26\2\1\36\6\2\1\0"+
-    "\1\36\2\2\1\36\10\2\1\36\3\2\16\0\15\2"+
-    "\1\0\4\2\1\0\3\2\1\0\30\2\1\36\2\2"+
-    "\1\1\36\2\1\0\16\2\1\36\7\2\1\0\7\2"+
-    "\1\0\23\2\2\0\1\43\5\0\1\36\12\2\4\0"+
-    "\4\2\2\0\3\2\1\0\23\2\1\0\33\2\1\0"+
-    "\34\2\2\0\5\2\1\0\21\2\1\36\1\2\10\0"+
-    "\4\2\1\36\4\2\4\0\3\2\1\0\3\2\1\0"+
-    "\2\2\1\36\4\2\1\36\1\2\1\36\6\2\1\0"+
-    "\31\2\1\0\31\2\2\0\4\2\1\36\24\2\4\0"+
-    "\4\2\1\0\2\2\1\36\4\0\1\2\1\0\2\2"+
-    "\1\0\6\2\1\0\5\2\1\0\26\2\1\0\27\2"+
-    "\2\0\26\2\3\0\3\2\2\0\1\2\4\0\2\2"+
-    "\1\0\5\2\1\0\1\36\1\2\1\0\5\2\1\36"+
-    "\7\2\1\36\5\2\1\36\1\0\6\2\1\36\14\2"+
-    "\2\0\2\2\1\36\10\2\1\36\4\2\2\0\2\2"+
-    "\2\0\1\2\3\0\1\2\1\0\5\2\1\0\2\2"+
-    "\1\0\1\2\1\36\3\2\1\0\7\2\1\36\1\0"+
-    "\2\2\1\36\2\2\1\0\1\36\1\2\1\0\17\2"+
-    "\1\0\2\2\1\0\5\2\1\36\4\2\1\36\3\2"+
-    "\2\0\1\2\2\0\2\2\1\36\2\2\1\0\2\2"+
-    "\1\0\5\2\1\0\6\2\1\0\2\2\2\0\13\2"+
-    "\1\36\1\2\1\0\1\2\1\0\14\2\2\0\1\2"+
-    "\2\0\5\2\1\0\1\2\1\0\1\36\1\2\1\0"+
-    "\5\2\1\0\2\2\2\0\11\2\1\36\1\0\1\2"+
-    "\1\0\1\2\1\0\12\2\2\0\1\2\2\0\5\2"+
-    "\1\0\1\2\1\0\1\2\1\0\4\2\1\0\1\2"+
-    "\5\0\10\2\2\0\1\2\2\0\11\2\1\0\1\2"+
-    "\2\0\3\2\1\0\1\2\1\0\1\2\1\0\4\2"+
-    "\5\0\7\2\2\0\1\2\2\0\4\2\3\0\1\2"+
-    "\1\0\1\2\1\0\1\2\1\0\2\2\5\0\5\2"+
-    "\2\0\1\36\2\0\1\2\2\36\1\2\4\0\1\2"+
-    "\1\0\1\2\1\0\1\2\1\0\2\2\4\0\3\2"+
-    "\4\0\1\2\2\0\1\36\2\0\1\2\1\0\1\2"+
-    "\2\0\1\2\3\0\2\2\4\0\1\2\5\0\1\2"+
-    "\1\0\1\2\5\0\1\2\10\0\1\2\1\0\1\2"+
-    "\30\0\1\36\41\0";
+    /** Translates DFA states to action switch labels. */
+    static final int [] ZZ_ACTION = TABLES.getAction();
 
-  private static int [] zzUnpackAction() {
-    int [] result = new int[2008];
-    int offset = 0;
-    offset = zzUnpackAction(ZZ_ACTION_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAction(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
+    /** Translates a state to a row index in the transition table */
+    static final int [] ZZ_ROWMAP = TABLES.getRowMap();
 
+    /** The transition table of the DFA */
+    static final short [] ZZ_TRANS = TABLES.getTrans();
 
-  /**
-   * Translates a state to a row index in the transition table
-   */
-  private static final int [] ZZ_ROWMAP = zzUnpackRowMap();
+    /** ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code> */
+    static final int [] ZZ_ATTRIBUTE = TABLES.getAttribute();
 
-  private static final String ZZ_ROWMAP_PACKED_0 =
-    "\0\0\0\132\0\264\0\u010e\0\u0168\0\u01c2\0\u021c\0\u0276"+
-    "\0\u02d0\0\u032a\0\u0384\0\u03de\0\u0438\0\u0492\0\u0384\0\u04ec"+
-    "\0\u0546\0\u05a0\0\u05fa\0\u0654\0\u06ae\0\u0708\0\u0762\0\u07bc"+
-    "\0\u0816\0\u0870\0\u08ca\0\u0924\0\u097e\0\u09d8\0\u0a32\0\u0384"+
-    "\0\u0384\0\u0a8c\0\u0ae6\0\u0b40\0\u0b9a\0\u0384\0\u0bf4\0\u0c4e"+
-    "\0\u0ca8\0\u0d02\0\u0d5c\0\u0db6\0\u0e10\0\u0e6a\0\u0ec4\0\u0f1e"+
-    "\0\u0f78\0\u0fd2\0\u102c\0\u1086\0\u10e0\0\u113a\0\u1194\0\u11ee"+
-    "\0\u1248\0\u12a2\0\u12fc\0\u1356\0\u13b0\0\u140a\0\u1464\0\u14be"+
-    "\0\u1518\0\u0384\0\u1572\0\u15cc\0\u1626\0\u1680\0\u16da\0\u0384"+
-    "\0\u1734\0\u178e\0\u17e8\0\u1842\0\u189c\0\u18f6\0\u1950\0\u19aa"+
-    "\0\u0384\0\u1a04\0\u1a5e\0\u1ab8\0\u1b12\0\u1b6c\0\u1bc6\0\u1b6c"+
-    "\0\u1b6c\0\u1c20\0\u1c7a\0\u1cd4\0\u1d2e\0\u1d88\0\u1de2\0\u1e3c"+
-    "\0\u1e96\0\u1ef0\0\u1f4a\0\u1fa4\0\u1ffe\0\u2058\0\u0384\0\u20b2"+
-    "\0\u210c\0\u2166\0\u21c0\0\u221a\0\u2274\0\u22ce\0\u2328\0\u2382"+
-    "\0\u23dc\0\u0384\0\u0384\0\u2436\0\u2490\0\u24ea\0\u2544\0\u259e"+
-    "\0\u25f8\0\u2652\0\u26ac\0\u2706\0\u01c2\0\u2760\0\u27ba\0\u2814"+
-    "\0\u286e\0\u28c8\0\u2922\0\u297c\0\u29d6\0\u2a30\0\u2a8a\0\u2ae4"+
-    "\0\u2b3e\0\u2b98\0\u2bf2\0\u2c4c\0\u2ca6\0\u2d00\0\u2d5a\0\u2db4"+
-    "\0\u2e0e\0\u2e68\0\u2ec2\0\u2f1c\0\u2f76\0\u05a0\0\u2fd0\0\u302a"+
-    "\0\u3084\0\u30de\0\u3138\0\u3192\0\u31ec\0\u3246\0\u32a0\0\u32fa"+
-    "\0\u3354\0\u33ae\0\u3408\0\u3462\0\u34bc\0\u3516\0\u3570\0\u35ca"+
-    "\0\u3624\0\u367e\0\u36d8\0\u3732\0\u378c\0\u37e6\0\u3840\0\u389a"+
-    "\0\u38f4\0\u394e\0\u39a8\0\u3a02\0\u3a5c\0\u3ab6\0\u3b10\0\u3b6a"+
-    "\0\u3bc4\0\u3c1e\0\u3c78\0\u3cd2\0\u3d2c\0\u3d86\0\u3de0\0\u3e3a"+
-    "\0\u3e94\0\u3eee\0\u3f48\0\u3fa2\0\u3ffc\0\u4056\0\u40b0\0\u410a"+
-    "\0\u4164\0\u41be\0\u4218\0\u4272\0\u42cc\0\u4326\0\u4380\0\u43da"+
-    "\0\u4434\0\u448e\0\u44e8\0\u4542\0\u459c\0\u45f6\0\u4650\0\u46aa"+
-    "\0\u4704\0\u475e\0\u47b8\0\u4812\0\u486c\0\u48c6\0\u4920\0\u497a"+
-    "\0\u49d4\0\u4a2e\0\u4a88\0\u4ae2\0\u4b3c\0\u4b96\0\u4bf0\0\u4c4a"+
-    "\0\u4ca4\0\u4cfe\0\u0384\0\u4d58\0\u4db2\0\u4e0c\0\u4e66\0\u0384"+
-    "\0\u4ec0\0\u4f1a\0\u0384\0\u4f74\0\u4fce\0\u5028\0\u5082\0\u50dc"+
-    "\0\u5136\0\u5190\0\u51ea\0\u5244\0\u529e\0\u52f8\0\u5352\0\u53ac"+
-    "\0\u5406\0\u5460\0\u54ba\0\u5514\0\u556e\0\u55c8\0\u5622\0\u1b6c"+
-    "\0\u567c\0\u56d6\0\u5730\0\u578a\0\u57e4\0\u583e\0\u5898\0\u58f2"+
-    "\0\u594c\0\u59a6\0\u5a00\0\u0384\0\u5a5a\0\u5ab4\0\u20b2\0\u5b0e"+
-    "\0\u5b68\0\u5bc2\0\u5c1c\0\u5c76\0\u5cd0\0\u5d2a\0\u5d84\0\u0384"+
-    "\0\u5dde\0\u5e38\0\u5e92\0\u5eec\0\u5f46\0\u5fa0\0\u5ffa\0\u6054"+
-    "\0\u60ae\0\u6108\0\u6162\0\u61bc\0\u6216\0\u6270\0\u62ca\0\u6324"+
-    "\0\u637e\0\u63d8\0\u6432\0\u648c\0\u64e6\0\u6540\0\u659a\0\u65f4"+
-    "\0\u664e\0\u66a8\0\u6702\0\u675c\0\u67b6\0\u6810\0\u686a\0\u68c4"+
-    "\0\u691e\0\u6978\0\u69d2\0\u0384\0\u6a2c\0\u6a86\0\u6ae0\0\u6b3a"+
-    "\0\u6b94\0\u6bee\0\u6c48\0\u6ca2\0\u6cfc\0\u6d56\0\u6db0\0\u6e0a"+
-    "\0\u6e64\0\u6ebe\0\u6f18\0\u6f72\0\u6fcc\0\u7026\0\u7080\0\u70da"+
-    "\0\u7134\0\u718e\0\u71e8\0\u7242\0\u729c\0\u72f6\0\u7350\0\u73aa"+
-    "\0\u7404\0\u745e\0\u74b8\0\u7512\0\u756c\0\u75c6\0\u7620\0\u767a"+
-    "\0\u76d4\0\u772e\0\u7788\0\u77e2\0\u783c\0\u7896\0\u01c2\0\u78f0"+
-    "\0\u794a\0\u79a4\0\u79fe\0\u7a58\0\u7ab2\0\u7b0c\0\u7b66\0\u7bc0"+
-    "\0\u7c1a\0\u7c74\0\u7cce\0\u7d28\0\u7d82\0\u01c2\0\u7ddc\0\u7e36"+
-    "\0\u7e90\0\u7eea\0\u7f44\0\u7f9e\0\u7ff8\0\u8052\0\u80ac\0\u8106"+
-    "\0\u8160\0\u81ba\0\u8214\0\u826e\0\u82c8\0\u8322\0\u837c\0\u83d6"+
-    "\0\u8430\0\u848a\0\u84e4\0\u853e\0\u8598\0\u85f2\0\u864c\0\u86a6"+
-    "\0\u8700\0\u875a\0\u87b4\0\u880e\0\u8868\0\u88c2\0\u891c\0\u8976"+
-    "\0\u89d0\0\u8a2a\0\u8a84\0\u8ade\0\u8b38\0\u8b92\0\u8bec\0\u8c46"+
-    "\0\u8ca0\0\u8cfa\0\u8d54\0\u8dae\0\u8e08\0\u8e62\0\u8ebc\0\u8f16"+
-    "\0\u8f70\0\u8fca\0\u9024\0\u907e\0\u90d8\0\u9132\0\u918c\0\u91e6"+
-    "\0\u9240\0\u929a\0\u92f4\0\u934e\0\u93a8\0\u9402\0\u945c\0\u94b6"+
-    "\0\u9510\0\u956a\0\u95c4\0\u961e\0\u9678\0\u96d2\0\u972c\0\u9786"+
-    "\0\u97e0\0\u983a\0\u9894\0\u98ee\0\u9948\0\u99a2\0\u99fc\0\u9a56"+
-    "\0\u9ab0\0\u9b0a\0\u9b64\0\u9bbe\0\u567c\0\u9c18\0\u9c72\0\u9ccc"+
-    "\0\u9d26\0\u9d80\0\u9dda\0\u9e34\0\u9e8e\0\u9ee8\0\u9f42\0\u9f9c"+
-    "\0\u9ff6\0\ua050\0\ua0aa\0\ua104\0\ua15e\0\u0384\0\ua1b8\0\ua212"+
-    "\0\ua26c\0\ua2c6\0\ua320\0\ua37a\0\ua3d4\0\ua42e\0\ua488\0\ua4e2"+
-    "\0\ua53c\0\ua596\0\ua5f0\0\ua64a\0\ua6a4\0\ua6fe\0\ua758\0\ua7b2"+
-    "\0\ua80c\0\ua866\0\ua8c0\0\u01c2\0\ua91a\0\ua974\0\ua9ce\0\uaa28"+
-    "\0\uaa82\0\uaadc\0\uab36\0\uab90\0\uabea\0\uac44\0\uac9e\0\uacf8"+
-    "\0\uad52\0\uadac\0\uae06\0\uae60\0\uaeba\0\uaf14\0\uaf6e\0\uafc8"+
-    "\0\ub022\0\ub07c\0\ub0d6\0\ub130\0\ub18a\0\ub1e4\0\ub23e\0\ub298"+
-    "\0\ub2f2\0\ub34c\0\ub3a6\0\ub400\0\ub45a\0\ub4b4\0\ub50e\0\ub568"+
-    "\0\ub5c2\0\ub61c\0\ub676\0\ub6d0\0\ub72a\0\ub784\0\ub7de\0\ub838"+
-    "\0\ub892\0\ub8ec\0\ub946\0\ub9a0\0\ub9fa\0\uba54\0\ubaae\0\ubb08"+
-    "\0\ubb62\0\ubbbc\0\ubc16\0\ubc70\0\ubcca\0\ubd24\0\ubd7e\0\ubdd8"+
-    "\0\ube32\0\ube8c\0\ubee6\0\ubf40\0\ubf9a\0\ubff4\0\uc04e\0\uc0a8"+
-    "\0\uc102\0\uc15c\0\uc1b6\0\uc210\0\uc26a\0\uc2c4\0\uc31e\0\uc378"+
-    "\0\uc3d2\0\uc42c\0\uc486\0\uc4e0\0\uc53a\0\uc594\0\uc5ee\0\uc648"+
-    "\0\uc6a2\0\uc6fc\0\uc756\0\uc7b0\0\uc80a\0\uc864\0\uc8be\0\uc918"+
-    "\0\uc972\0\uc9cc\0\uca26\0\uca80\0\ucada\0\ucb34\0\ucb8e\0\ucbe8"+
-    "\0\ucc42\0\ucc9c\0\uccf6\0\ucd50\0\ucdaa\0\uce04\0\uce5e\0\uceb8"+
-    "\0\ucf12\0\ucf6c\0\ucfc6\0\ud020\0\ud07a\0\ud0d4\0\ud12e\0\ud188"+
-    "\0\ud1e2\0\ud23c\0\ud296\0\ud2f0\0\ud34a\0\ud3a4\0\ud3fe\0\ud458"+
-    "\0\ud4b2\0\ud50c\0\ud566\0\ud5c0\0\ud61a\0\ud674\0\ud6ce\0\ud728"+
-    "\0\ud782\0\ud7dc\0\ud836\0\ud890\0\ud8ea\0\ud944\0\u0384\0\ud99e"+
-    "\0\ud9f8\0\uda52\0\udaac\0\udb06\0\udb60\0\udbba\0\udc14\0\udc6e"+
-    "\0\udcc8\0\udd22\0\udd7c\0\uddd6\0\ude30\0\ude8a\0\udee4\0\udf3e"+
-    "\0\udf98\0\udff2\0\ue04c\0\ue0a6\0\ue100\0\ue15a\0\ue1b4\0\ue20e"+
-    "\0\ue268\0\ue2c2\0\ue31c\0\ue376\0\ue3d0\0\ue42a\0\ue484\0\ue4de"+
-    "\0\ue538\0\ue592\0\ue5ec\0\ue646\0\ue6a0\0\ue6fa\0\ue754\0\ue7ae"+
-    "\0\ue808\0\ue862\0\ue8bc\0\ue916\0\ue970\0\ue9ca\0\uea24\0\uea7e"+
-    "\0\uead8\0\ueb32\0\ueb8c\0\uebe6\0\uec40\0\uec9a\0\uecf4\0\ued4e"+
-    "\0\ueda8\0\uee02\0\uee5c\0\ueeb6\0\uef10\0\uef6a\0\uefc4\0\uf01e"+
-    "\0\uf078\0\uf0d2\0\uf12c\0\uf186\0\uf1e0\0\uf23a\0\uf294\0\uf2ee"+
-    "\0\uf348\0\uf3a2\0\uf3fc\0\uf456\0\uf4b0\0\uf50a\0\uf564\0\uf5be"+
-    "\0\uf618\0\uf672\0\uf6cc\0\uf726\0\uf780\0\uf7da\0\uf834\0\uf88e"+
-    "\0\uf8e8\0\uf942\0\uf99c\0\uf9f6\0\ufa50\0\ufaaa\0\ufb04\0\ufb5e"+
-    "\0\ufbb8\0\ufc12\0\ufc6c\0\ufcc6\0\ufd20\0\ufd7a\0\ufdd4\0\ufe2e"+
-    "\0\ufe88\0\ufee2\0\uff3c\0\uff96\0\ufff0\1\112\1\244\1\376"+
-    "\1\u0158\1\u01b2\1\u020c\1\u0266\1\u02c0\1\u031a\1\u0374\1\u03ce"+
-    "\1\u0428\1\u0482\1\u04dc\1\u0536\1\u0590\1\u05ea\1\u0644\1\u069e"+
-    "\1\u06f8\1\u0752\1\u07ac\1\u0806\1\u0860\1\u08ba\1\u0914\1\u096e"+
-    "\1\u09c8\1\u0a22\1\u0a7c\1\u0ad6\1\u0b30\1\u0b8a\1\u0be4\1\u0c3e"+
-    "\1\u0c98\1\u0cf2\1\u0d4c\1\u0da6\1\u0e00\1\u0e5a\1\u0eb4\1\u0f0e"+
-    "\1\u0f68\1\u0fc2\1\u101c\1\u1076\1\u10d0\1\u112a\1\u1184\1\u11de"+
-    "\1\u1238\1\u1292\1\u12ec\1\u1346\1\u13a0\1\u13fa\1\u1454\1\u14ae"+
-    "\1\u1508\0\ud5c0\1\u1562\0\ud6ce\1\u15bc\1\u1616\1\u1670\1\u16ca"+
-    "\1\u1724\1\u177e\1\u17d8\1\u1832\1\u188c\1\u18e6\1\u1940\1\u199a"+
-    "\1\u19f4\1\u1a4e\1\u1aa8\1\u1b02\1\u1b5c\1\u1bb6\1\u1c10\1\u1c6a"+
-    "\0\ude30\1\u1cc4\1\u1d1e\1\u1d78\1\u1dd2\1\u1e2c\1\u1e86\1\u1ee0"+
-    "\1\u1f3a\1\u1f94\1\u1fee\1\u2048\1\u20a2\1\u20fc\1\u2156\1\u21b0"+
-    "\1\u220a\1\u2264\1\u22be\1\u2318\1\u2372\1\u23cc\1\u2426\1\u2480"+
-    "\1\u24da\1\u2534\1\u258e\1\u25e8\1\u2642\1\u269c\1\u26f6\1\u2750"+
-    "\1\u27aa\1\u2804\1\u285e\1\u28b8\1\u2912\1\u296c\0\u01c2\1\u29c6"+
-    "\1\u2a20\1\u2a7a\1\u2ad4\1\u2b2e\1\u2b88\1\u2be2\1\u2c3c\1\u2c96"+
-    "\1\u2cf0\1\u2d4a\1\u2da4\1\u2dfe\1\u2e58\1\u2eb2\1\u2f0c\1\u2f66"+
-    "\1\u2fc0\1\u301a\1\u3074\1\u30ce\1\u3128\1\u3182\1\u31dc\1\u3236"+
-    "\1\u3290\1\u32ea\1\u3344\1\u339e\1\u33f8\1\u3452\1\u34ac\1\u3506"+
-    "\1\u3560\1\u35ba\1\u3614\1\u366e\1\u36c8\1\u3722\1\u377c\1\u37d6"+
-    "\1\u3830\1\u388a\1\u38e4\1\u393e\1\u3998\1\u39f2\1\u3a4c\1\u3aa6"+
-    "\1\u3b00\1\u3b5a\1\u3bb4\1\u3c0e\1\u3c68\1\u3cc2\1\u3d1c\1\u3d76"+
-    "\1\u3dd0\1\u3e2a\1\u3e84\1\u3ede\1\u3f38\1\u3f92\1\u3fec\1\u4046"+
-    "\1\u40a0\1\u40fa\1\u4154\1\u41ae\1\u4208\1\u4262\1\u42bc\1\u4316"+
-    "\1\u4370\1\u43ca\1\u4424\1\u447e\1\u44d8\1\u4532\1\u458c\1\u45e6"+
-    "\1\u4640\1\u469a\1\u46f4\1\u474e\1\u47a8\1\u4802\1\u485c\1\u48b6"+
-    "\1\u4910\1\u496a\1\u49c4\1\u4a1e\1\u4a78\1\u4ad2\1\u4b2c\1\u4b86"+
-    "\1\u4be0\1\u4c3a\1\u4c94\1\u4cee\1\u4d48\1\u4da2\1\u4dfc\1\u4e56"+
-    "\1\u4eb0\1\u4f0a\1\u4f64\1\u4fbe\1\u5018\1\u5072\1\u50cc\1\u5126"+
-    "\1\u5180\1\u51da\1\u5234\1\u528e\1\u52e8\1\u5342\1\u539c\1\u53f6"+
-    "\1\u5450\1\u54aa\1\u5504\1\u555e\1\u55b8\1\u5612\1\u566c\1\u56c6"+
-    "\1\u5720\1\u577a\1\u57d4\1\u582e\1\u5888\1\u58e2\1\u593c\1\u5996"+
-    "\1\u59f0\1\u5a4a\1\u5aa4\1\u5afe\1\u5b58\1\u5bb2\1\u5c0c\1\u5c66"+
-    "\1\u5cc0\1\u5d1a\1\u5d74\1\u5dce\1\u5e28\1\u5e82\1\u5edc\1\u5f36"+
-    "\1\u5f90\1\u5fea\1\u6044\1\u609e\1\u60f8\1\u6152\1\u61ac\1\u6206"+
-    "\1\u6260\1\u62ba\1\u6314\1\u636e\1\u63c8\1\u6422\1\u647c\1\u64d6"+
-    "\1\u6530\1\u658a\1\u65e4\1\u663e\1\u6698\1\u66f2\1\u674c\1\u67a6"+
-    "\1\u6800\1\u685a\1\u68b4\1\u690e\1\u6968\1\u4a1e\1\u69c2\1\u6a1c"+
-    "\1\u6a76\1\u6ad0\1\u6b2a\1\u6b84\1\u6bde\1\u6c38\1\u6c92\1\u6cec"+
-    "\1\u6d46\1\u6da0\1\u6dfa\1\u6e54\1\u6eae\1\u6f08\1\u6f62\1\u6fbc"+
-    "\1\u7016\1\u7070\1\u70ca\1\u7124\1\u717e\1\u71d8\1\u7232\1\u728c"+
-    "\1\u72e6\1\u7340\1\u739a\1\u73f4\1\u744e\1\u74a8\1\u7502\1\u755c"+
-    "\1\u75b6\1\u7610\1\u766a\1\u76c4\1\u771e\1\u7778\1\u77d2\1\u782c"+
-    "\1\u7886\1\u78e0\1\u793a\1\u7994\1\u79ee\1\u7a48\1\u7aa2\1\u7afc"+
-    "\1\u7b56\1\u7bb0\1\u7c0a\1\u7c64\1\u7cbe\1\u7d18\1\u7d72\1\u7dcc"+
-    "\1\u7e26\1\u7e80\1\u7eda\1\u7f34\1\u7f8e\1\u7fe8\1\u8042\1\u809c"+
-    "\1\u80f6\1\u8150\1\u81aa\1\u8204\1\u825e\1\u82b8\1\u8312\1\u836c"+
-    "\1\u83c6\1\u8420\1\u847a\1\u84d4\1\u852e\1\u8588\1\u85e2\1\u863c"+
-    "\1\u8696\1\u86f0\1\u874a\1\u87a4\1\u87fe\1\u8858\1\u88b2\1\u890c"+
-    "\1\u8966\1\u89c0\1\u8a1a\1\u8a74\1\u8ace\1\u8b28\1\u8b82\1\u8bdc"+
-    "\1\u8c36\1\u8c90\1\u8cea\1\u8d44\1\u8d9e\1\u8df8\1\u8e52\1\u8eac"+
-    "\1\u8f06\1\u8f60\1\u8fba\1\u9014\1\u906e\1\u90c8\1\u9122\1\u917c"+
-    "\1\u91d6\1\u9230\1\u928a\1\u92e4\1\u933e\1\u9398\1\u93f2\1\u944c"+
-    "\1\u94a6\1\u9500\1\u955a\1\u95b4\1\u960e\1\u9668\1\u96c2\1\u971c"+
-    "\1\u9776\1\u97d0\1\u982a\1\u9884\1\u98de\1\u9938\1\u9992\1\u99ec"+
-    "\1\u9a46\1\u9aa0\1\u9afa\1\u9b54\1\u9bae\1\u9c08\1\u9c62\1\u9cbc"+
-    "\1\u9d16\1\u9d70\1\u9dca\1\u9e24\1\u9e7e\1\u9ed8\1\u9f32\1\u9f8c"+
-    "\1\u9fe6\1\ua040\1\ua09a\1\ua0f4\1\ua14e\1\ua1a8\1\ua202\1\ua25c"+
-    "\1\ua2b6\1\ua310\1\ua36a\1\ua3c4\1\ua41e\1\ua478\1\ua4d2\1\ua52c"+
-    "\1\ua586\1\ua5e0\1\ua63a\1\ua694\1\ua6ee\1\ua748\1\ua7a2\1\ua7fc"+
-    "\1\ua856\1\ua8b0\1\ua90a\1\ua964\1\ua9be\1\uaa18\1\uaa72\1\uaacc"+
-    "\1\uab26\1\uab80\1\uabda\1\uac34\1\uac8e\1\uace8\1\uad42\1\uad9c"+
-    "\1\uadf6\1\uae50\1\uaeaa\1\uaf04\1\uaf5e\1\uafb8\1\ub012\1\ub06c"+
-    "\1\ub0c6\1\ub120\1\ub17a\1\ub1d4\1\ub22e\1\ub288\1\ub2e2\1\ub33c"+
-    "\1\ub396\1\ub3f0\1\ub44a\1\ub4a4\1\ub4fe\1\ub558\1\ub5b2\1\ub60c"+
-    "\1\ub666\1\ub6c0\1\ub71a\1\ub774\1\ub7ce\1\ub828\1\ub882\1\ub8dc"+
-    "\1\ub936\1\ub990\1\ub9ea\1\uba44\1\uba9e\1\ubaf8\1\ubb52\1\ubbac"+
-    "\1\ubc06\1\ubc60\1\ubcba\1\ubd14\1\ubd6e\1\ubdc8\1\ube22\1\ube7c"+
-    "\1\ubed6\1\ubf30\1\ubf8a\1\ubfe4\1\ube22\1\uc03e\1\uc098\1\uc0f2"+
-    "\1\uc14c\1\uc1a6\1\uc200\1\uc25a\1\uc2b4\1\uc30e\1\uc368\1\uc3c2"+
-    "\1\uc41c\1\uc476\1\uc4d0\1\uc52a\1\uc584\1\uc5de\1\uc638\1\uc692"+
-    "\1\uc6ec\1\uc746\1\uc7a0\1\uc7fa\1\uc854\1\uc8ae\1\uc908\1\uc962"+
-    "\1\uc9bc\1\uca16\1\uca70\1\ucaca\1\ucb24\1\ucb7e\1\ucbd8\1\ucc32"+
-    "\1\ucc8c\1\ucce6\1\ucd40\1\ucd9a\1\ucdf4\1\uce4e\1\ucea8\1\ucf02"+
-    "\1\ucf5c\1\ucfb6\1\ud010\1\ud06a\1\ud0c4\1\ud11e\1\ud178\1\ud1d2"+
-    "\1\ud22c\1\ud286\1\ud2e0\1\ud33a\1\ud394\1\ud3ee\1\ud448\1\ud4a2"+
-    "\1\ud4fc\0\u0384\1\ud556\1\ud5b0\1\ud60a\1\ud664\1\ud6be\1\ud718"+
-    "\1\ud772\1\ud7cc\1\ud826\1\ud880\1\ud8da\1\ud934\1\ud98e\1\ud9e8"+
-    "\1\uda42\1\uda9c\1\udaf6\1\udb50\1\udbaa\1\udc04\1\udc5e\1\udcb8"+
-    "\1\udd12\1\udd6c\1\uddc6\1\ude20\1\ude7a\1\uded4\1\udf2e\1\udf88"+
-    "\1\udfe2\1\ud178\1\ue03c\1\ue096\1\ue0f0\1\ue14a\1\ue1a4\1\ue1fe"+
-    "\1\ue258\1\ue2b2\1\ue30c\1\ue366\1\ue3c0\1\ue41a\1\ue474\1\ue4ce"+
-    "\1\ue528\1\ue582\1\ue5dc\1\ue636\1\ue690\1\ue6ea\1\ue744\1\ue79e"+
-    "\1\ue7f8\1\ue852\1\ue8ac\1\ue906\1\ue960\1\ue9ba\1\uea14\1\uea6e"+
-    "\1\ueac8\1\ueb22\1\ueb7c\1\uebd6\1\uec30\1\uec8a\1\uece4\1\ued3e"+
-    "\1\ued98\1\uedf2\1\uee4c\1\ueea6\1\uef00\1\uef5a\1\uefb4\1\uf00e"+
-    "\1\uf068\1\uf0c2\1\uf11c\1\uf176\1\uf1d0\1\uf22a\1\uf284\1\uf2de"+
-    "\1\uf338\1\uf392\1\uf3ec\1\uf446\1\uf4a0\1\uf4fa\1\uf554\1\uf5ae"+
-    "\1\uf608\1\uf662\1\uf6bc\1\uf716\1\uf770\1\uf7ca\1\uf824\1\uf87e"+
-    "\1\uf8d8\1\uf932\1\uf98c\1\uf9e6\1\ufa40\1\ufa9a\1\ufaf4\1\ufb4e"+
-    "\1\ufba8\1\ufc02\1\ufc5c\1\ufcb6\1\ufd10\1\ufd6a\1\ufdc4\1\ufe1e"+
-    "\1\ufe78\1\ufed2\1\uff2c\1\uff86\1\uffe0\2\72\2\224\2\356"+
-    "\2\u0148\2\u01a2\2\u01fc\2\u0256\2\u02b0\2\u030a\2\u0364\2\u03be"+
-    "\2\u0418\2\u0472\2\u04cc\2\u0526\2\u0580\2\u05da\2\u0634\2\u068e"+
-    "\2\u06e8\2\u0742\2\u079c\2\u07f6\2\u0850\2\u08aa\2\u0904\2\u095e"+
-    "\2\u09b8\2\u0a12\2\u0a6c\2\u0ac6\2\u0b20\2\u0b7a\2\u0bd4\2\u0c2e"+
-    "\2\u0c88\2\u0ce2\2\u0d3c\2\u0d96\2\u0df0\2\u0e4a\2\u0ea4\2\u0efe"+
-    "\2\u0f58\2\u0fb2\2\u100c\2\u1066\2\u10c0\2\u111a\2\u1174\2\u11ce"+
-    "\2\u1228\2\u1282\2\u12dc\2\u1336\2\u1390\2\u13ea\2\u1444\2\u149e"+
-    "\2\u14f8\2\u1552\2\u15ac\2\u1606\2\u1660\2\u16ba\2\u1714\2\u176e"+
-    "\2\u17c8\2\u1822\2\u187c\2\u18d6\2\u1930\2\u198a\2\u19e4\2\u1a3e"+
-    "\2\u1a98\2\u1af2\2\u1b4c\2\u1ba6\2\u1c00\2\u1c5a\2\u1cb4\2\u1d0e"+
-    "\2\u1d68\2\u1dc2\2\u1e1c\2\u1e76\2\u1ed0\2\u1f2a\2\u1f84\2\u1fde"+
-    "\2\u2038\2\u2092\2\u20ec\2\u2146\2\u21a0\2\u21fa\2\u2254\2\u22ae"+
-    "\2\u2308\2\u2362\2\u23bc\2\u2416\2\u2470\2\u24ca\2\u2524\2\u257e"+
-    "\2\u25d8\2\u2632\2\u268c\2\u26e6\2\u2740\2\u279a\2\u27f4\2\u284e"+
-    "\2\u28a8\2\u2902\2\u295c\1\u9c08\2\u29b6\2\u2a10\2\u2a6a\2\u2ac4"+
-    "\2\u2b1e\2\u2b78\2\u2bd2\2\u2c2c\2\u2c86\2\u2ce0\2\u2d3a\2\u2d94"+
-    "\2\u2dee\2\u2e48\2\u2ea2\2\u2efc\2\u2f56\2\u2fb0\2\u300a\2\u3064"+
-    "\2\u30be\2\u3118\2\u3172\2\u31cc\2\u3226\2\u3280\2\u32da\2\u3334"+
-    "\2\u338e\2\u33e8\2\u3442\2\u349c\2\u34f6\2\u3550\2\u35aa\2\u3604"+
-    "\2\u365e\2\u36b8\2\u3712\2\u376c\2\u37c6\2\u3820\2\u387a\2\u38d4"+
-    "\2\u392e\2\u3988\2\u39e2\2\u3a3c\2\u3a96\2\u3af0\2\u3b4a\2\u3ba4"+
-    "\2\u3bfe\2\u3c58\2\u3cb2\2\u3d0c\2\u3d66\2\u3dc0\2\u3e1a\2\u3e74"+
-    "\2\u3ece\2\u3f28\2\u3f82\2\u3fdc\2\u4036\2\u4090\2\u40ea\2\u4144"+
-    "\2\u419e\2\u41f8\2\u4252\2\u42ac\2\u4306\2\u4360\2\u43ba\2\u4414"+
-    "\2\u446e\2\u44c8\2\u4522\2\u457c\2\u45d6\2\u4630\2\u468a\2\u46e4"+
-    "\2\u473e\2\u4798\2\u47f2\2\u484c\2\u48a6\2\u4900\2\u495a\2\u49b4"+
-    "\2\u4a0e\2\u4a68\2\u4ac2\2\u4b1c\2\u4b76\2\u4bd0\2\u4c2a\2\u4c84"+
-    "\2\u4cde\2\u4d38\2\u4d92\2\u4dec\2\u4e46\2\u4ea0\2\u4efa\2\u4f54"+
-    "\2\u4fae\2\u5008\2\u5062\2\u50bc\2\u5116\2\u5170\2\u51ca\2\u5224"+
-    "\2\u527e\2\u52d8\2\u5332\2\u538c\2\u53e6\2\u5440\2\u549a\2\u54f4"+
-    "\2\u554e\2\u55a8\2\u5602\2\u565c\2\u56b6\2\u5710\2\u576a\2\u57c4"+
-    "\2\u581e\2\u5878\2\u58d2\2\u592c\2\u5986\2\u59e0\2\u5a3a\2\u5a94"+
-    "\2\u5aee\2\u5b48\2\u5ba2\2\u5bfc\2\u5c56\2\u5cb0\2\u5d0a\2\u5d64"+
-    "\2\u5dbe\2\u5e18\2\u5e72\2\u5ecc\2\u5f26\2\u5f80\2\u5fda\2\u6034"+
-    "\2\u608e\2\u60e8\2\u6142\2\u619c\2\u61f6\2\u6250\2\u62aa\2\u6304"+
-    "\2\u635e\2\u63b8\2\u6412\2\u646c\2\u64c6\2\u6520\2\u657a\2\u65d4"+
-    "\2\u662e\2\u6688\2\u66e2\2\u673c\2\u6796\2\u67f0\2\u684a\2\u68a4"+
-    "\2\u68fe\2\u6958\2\u69b2\2\u6a0c\2\u6a66\2\u6ac0\2\u6b1a\2\u6b74"+
-    "\2\u6bce\2\u6c28\2\u6c82\2\u6cdc\2\u6d36\2\u6d90\2\u6dea\2\u6e44"+
-    "\2\u6e9e\2\u6ef8\2\u6f52\2\u6fac\2\u7006\2\u7060\2\u70ba\2\u7114"+
-    "\2\u716e\2\u71c8\2\u7222\2\u727c\2\u72d6\2\u7330\2\u738a\2\u73e4"+
-    "\2\u743e\2\u7498\2\u74f2\2\u754c\2\u75a6\2\u7600\2\u765a\2\u76b4"+
-    "\2\u770e\2\u7768\2\u77c2\2\u781c\2\u7876\2\u78d0\2\u792a\2\u7984"+
-    "\2\u79de\2\u7a38\2\u7a92\2\u7aec\2\u7b46\2\u7ba0\2\u7bfa\2\u7c54"+
-    "\2\u7cae\2\u7d08\2\u7d62\2\u7dbc\2\u7e16\2\u7e70\2\u7eca\2\u7f24"+
-    "\2\u7f7e\2\u7fd8\2\u8032\2\u808c\2\u80e6\2\u8140\2\u819a\2\u81f4"+
-    "\2\u824e\2\u82a8\2\u8302\2\u835c\2\u83b6\2\u8410\2\u846a\2\u84c4"+
-    "\2\u851e\2\u8578\2\u85d2\2\u862c\2\u8686\2\u86e0\2\u873a\2\u8794"+
-    "\2\u87ee\2\u8848\2\u88a2\2\u88fc\2\u8956\2\u89b0\2\u8a0a\2\u8a64"+
-    "\2\u8abe\2\u8b18\2\u8b72\2\u8bcc\2\u8c26\2\u8c80\2\u8cda\2\u8d34"+
-    "\2\u8d8e\2\u8de8\2\u8e42\2\u8e9c\2\u8ef6\2\u8f50\2\u8faa\2\u9004"+
-    "\2\u905e\2\u90b8\2\u9112\2\u916c\2\u91c6\2\u9220\2\u927a\2\u92d4"+
-    "\2\u932e\2\u9388\2\u93e2\2\u943c\2\u9496\2\u94f0\2\u954a\2\u95a4"+
-    "\2\u95fe\2\u9658\2\u96b2\2\u970c\2\u9766\2\u97c0\2\u981a\2\u9874"+
-    "\2\u98ce\2\u9928\2\u9982\2\u99dc\2\u9a36\2\u9a90\2\u9aea\2\u9b44"+
-    "\2\u9b9e\2\u9bf8\2\u9c52\2\u9cac\2\u9d06\2\u9d60\2\u9dba\2\u9e14"+
-    "\2\u9e6e\2\u9ec8\2\u9f22\2\u9f7c\2\u9fd6\2\ua030\2\ua08a\2\ua0e4"+
-    "\2\ua13e\2\ua198\2\ua1f2\2\ua24c\2\ua2a6\2\ua300\2\ua35a\2\ua3b4"+
-    "\2\ua40e\2\ua468\2\ua4c2\2\ua51c\2\ua576\2\ua5d0\2\ua62a\2\ua684"+
-    "\2\ua6de\2\ua738\2\ua792\2\ua7ec\2\ua846\2\ua8a0\2\ua8fa\2\ua954"+
-    "\2\ua9ae\2\uaa08\2\uaa62\2\uaabc\2\uab16\2\uab70\2\uabca\2\uac24"+
-    "\2\uac7e\2\uacd8\2\uad32\2\uad8c\2\uade6\2\uae40\2\uae9a\2\uaef4"+
-    "\2\uaf4e\2\uafa8\2\ub002\2\ub05c\2\ub0b6\2\ub110\2\ub16a\2\ub1c4"+
-    "\2\ub21e\2\ub278\2\ub2d2\2\ub32c\2\ub386\2\ub3e0\2\ub43a\2\ub494";
-
-  private static int [] zzUnpackRowMap() {
-    int [] result = new int[2008];
-    int offset = 0;
-    offset = zzUnpackRowMap(ZZ_ROWMAP_PACKED_0, offset, result);
-    return result;
   }
 
-  private static int zzUnpackRowMap(String packed, int offset, int [] result) {
-    int i = 0;  /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int high = packed.charAt(i++) << 16;
-      result[j++] = high | packed.charAt(i++);
-    }
-    return j;
-  }
-
-  /**
-   * The transition table of the DFA
-   */
-  private static final int [] ZZ_TRANS = zzUnpackTrans();
-
-  private static final String ZZ_TRANS_PACKED_0 =
-    "\1\5\2\6\1\7\1\10\1\7\1\11\1\7\1\12"+
-    "\1\13\1\5\2\6\1\14\1\15\1\16\1\7\1\17"+
-    "\1\5\1\6\1\5\1\20\1\21\1\22\1\23\1\24"+
-    "\1\25\1\6\1\26\1\27\1\30\1\31\1\32\1\33"+
-    "\1\34\1\35\1\36\1\37\1\40\1\41\1\42\1\43"+
-    "\2\22\1\44\1\22\1\45\1\46\1\47\2\46\1\6"+
-    "\1\50\1\51\1\6\1\52\1\53\2\6\1\54\1\55"+
-    "\1\56\1\57\1\60\1\6\1\61\1\40\1\6\1\62"+
-    "\1\63\1\64\1\65\1\66\1\6\1\67\1\70\1\71"+
-    "\1\72\1\73\1\74\1\75\1\76\1\77\1\6\1\100"+
-    "\2\7\2\6\1\40\11\101\1\102\4\101\1\103\10\101"+
-    "\1\104\33\101\1\105\12\101\1\106\33\101\11\107\1\110"+
-    "\4\107\1\111\10\107\1\112\21\107\1\113\11\107\1\114"+
-    "\12\107\1\115\2\107\1\116\27\107\1\117\11\120\1\121"+
-    "\4\120\1\122\44\120\1\123\12\120\1\124\33\120\10\5"+
-    "\2\0\5\5\1\0\1\5\1\0\3\5\3\0\6\5"+
-    "\2\0\6\5\15\0\17\5\1\0\26\5\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\2\126\1\127\3\7\1\126\1\7"+
-    "\2\0\4\126\1\130\1\0\1\7\1\0\3\126\3\0"+
-    "\1\131\3\126\1\130\1\132\1\0\1\133\2\126\1\132"+
-    "\1\126\1\131\1\126\15\0\11\126\2\130\4\126\1\0"+
-    "\22\126\2\7\2\126\1\0\2\126\1\134\1\135\2\136"+
-    "\1\126\1\136\2\0\4\126\1\130\1\0\1\136\1\0"+
-    "\3\126\3\0\1\131\2\137\1\140\1\130\1\132\1\0"+
-    "\1\133\2\126\1\132\1\126\1\131\1\126\15\0\3\126"+
-    "\1\140\5\126\2\130\4\126\1\0\22\126\2\136\2\126"+
-    "\1\0\1\5\7\6\2\0\1\125\1\141\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\142\1\143\1\6\15\0\1\144\1\145\14\6\1\5"+
-    "\1\0\26\6\1\0\10\146\1\147\1\150\1\151\117\146"+
-    "\132\0\1\5\7\6\2\0\1\125\1\152\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\153\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\154\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\155"+
-    "\2\6\15\0\1\6\1\156\3\6\1\157\10\6\1\5"+
-    "\1\0\26\6\1\0\11\16\1\160\1\161\4\16\1\162"+
-    "\112\16\25\0\1\20\132\0\1\163\1\164\22\0\1\46"+
-    "\131\0\1\46\57\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\165\3\6\1\166\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\167"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\170\2\6\15\0\1\6\1\171\3\6"+
-    "\1\172\1\6\1\173\6\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\174\4\6"+
-    "\15\0\7\6\1\175\6\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\176\1\177"+
-    "\2\6\15\0\1\6\1\175\5\6\1\200\6\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\201\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\202\4\6\15\0\3\6\1\203"+
-    "\2\6\1\204\1\6\1\205\5\6\1\5\1\0\16\6"+
-    "\1\206\7\6\37\0\1\46\13\0\1\46\62\0\3\133"+
-    "\1\0\1\133\10\0\1\133\104\0\2\133\3\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\207\1\6\1\210"+
-    "\2\6\15\0\1\211\6\6\1\212\6\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\213\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\214\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\215\1\6\15\0\3\6\1\216\12\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\217"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\2\6"+
-    "\1\220\3\6\2\0\5\6\1\221\15\0\2\6\1\222"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\223\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\224"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\225\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\51\0\1\46\1\0\1\46\130\0\1\226\1\46"+
-    "\131\0\1\46\1\0\1\227\127\0\1\46\15\0\1\230"+
-    "\113\0\1\46\5\0\1\46\51\0\1\5\7\6\2\0"+
-    "\1\125\1\231\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\2\6\1\232\3\6\2\0\6\6\15\0\4\6"+
-    "\1\233\3\6\1\234\5\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\235\1\6"+
-    "\1\236\1\237\1\6\15\0\1\6\1\240\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\241"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\242\1\6\1\243\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\244\1\175\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\175\15\0\6\6\1\245"+
-    "\7\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\246\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\247"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\250\1\251\2\6\15\0\1\6\1\252"+
-    "\3\6\1\253\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\1\254\3\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\255\1\6"+
-    "\15\0\1\6\1\256\3\6\1\257\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\260\15\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\1\261\3\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\262\1\263"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\2\264\3\5\1\264\1\5\2\0\1\5\4\264\1\0"+
-    "\1\5\1\0\1\5\1\264\1\5\3\0\6\264\2\0"+
-    "\6\264\15\0\16\264\1\5\1\0\22\264\2\5\2\264"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\231"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\1\265\1\6\1\266\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\2\6\1\267\3\6"+
-    "\2\0\1\6\1\270\3\6\1\271\15\0\4\6\1\272"+
-    "\11\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\273\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\3\6\1\274\6\6\1\275\13\6\1\0\1\5"+
-    "\7\6\2\0\1\125\1\276\3\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\277\1\6\1\300"+
-    "\1\301\2\6\15\0\1\302\1\303\1\304\1\6\1\305"+
-    "\1\306\1\6\1\307\6\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\310\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\311\1\6"+
-    "\2\0\1\312\3\6\1\313\1\6\15\0\16\6\1\5"+
-    "\1\0\16\6\1\314\7\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\315\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\316\1\6\1\317\2\6"+
-    "\15\0\5\6\1\320\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\321\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\322\1\323\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\324\4\6\15\0\1\325\1\326"+
-    "\3\6\1\327\1\6\1\330\6\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\331"+
-    "\3\6\15\0\1\6\1\332\3\6\1\333\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\334\2\6\15\0\1\6\1\335\3\6\1\336"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\337\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\340\1\341\2\6\15\0"+
-    "\1\6\1\342\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\1\343\3\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\2\6\1\344\3\6\2\0\6\6"+
-    "\15\0\4\6\1\345\3\6\1\346\5\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\347\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\350\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\11\101\1\0\4\101"+
-    "\1\0\10\101\1\0\33\101\1\0\12\101\1\0\33\101"+
-    "\40\0\1\351\27\0\1\352\67\0\1\353\143\0\1\354"+
-    "\167\0\1\355\33\0\11\107\1\0\4\107\1\0\10\107"+
-    "\1\0\21\107\1\0\11\107\1\0\12\107\1\0\2\107"+
-    "\1\0\27\107\41\0\1\356\27\0\1\357\67\0\1\360"+
-    "\104\0\1\361\4\0\1\361\4\0\1\361\1\0\2\361"+
-    "\7\0\1\362\1\0\6\361\2\0\6\361\6\0\1\363"+
-    "\6\0\16\361\2\0\22\361\2\0\2\361\41\0\1\364"+
-    "\167\0\1\365\73\0\1\366\1\367\1\370\1\371\1\0"+
-    "\1\372\17\0\1\373\1\0\1\374\3\0\1\375\137\0"+
-    "\1\376\30\0\11\120\1\0\4\120\1\0\44\120\1\0"+
-    "\12\120\1\0\33\120\40\0\1\377\27\0\1\u0100\101\0"+
-    "\1\u0101\167\0\1\u0102\33\0\10\5\2\0\1\5\1\u0103"+
-    "\3\5\1\0\1\5\1\0\3\5\3\0\6\5\2\0"+
-    "\6\5\15\0\17\5\1\0\26\5\1\0\10\126\2\0"+
-    "\5\126\1\0\1\126\1\0\3\126\3\0\6\126\2\0"+
-    "\6\126\15\0\17\126\1\0\26\126\1\0\2\126\1\127"+
-    "\3\u0104\1\126\1\u0104\2\0\5\126\1\0\1\u0104\1\0"+
-    "\3\126\3\0\6\126\2\0\6\126\15\0\17\126\1\0"+
-    "\22\126\2\u0104\2\126\1\0\3\126\3\u0105\1\126\1\u0105"+
-    "\2\0\5\126\1\0\1\u0105\1\0\3\126\3\0\6\126"+
-    "\1\u0106\1\0\6\126\2\0\1\u0106\12\0\17\126\1\0"+
-    "\22\126\2\u0105\2\126\1\0\3\126\3\133\1\126\1\133"+
-    "\2\0\4\126\1\130\1\0\1\133\1\0\3\126\3\0"+
-    "\4\126\1\130\1\132\2\0\2\126\1\132\3\126\15\0"+
-    "\11\126\2\130\4\126\1\0\22\126\2\133\2\126\1\0"+
-    "\2\126\1\134\1\126\2\u0107\1\126\1\u0107\2\0\5\126"+
-    "\1\0\1\u0107\1\0\3\126\3\0\6\126\2\0\6\126"+
-    "\15\0\17\126\1\0\22\126\2\u0107\2\126\1\0\3\126"+
-    "\3\135\1\126\1\135\2\0\4\126\1\130\1\0\1\135"+
-    "\1\0\3\126\3\0\4\126\1\130\1\132\1\0\1\133"+
-    "\2\126\1\132\3\126\15\0\11\126\2\130\4\126\1\0"+
-    "\22\126\2\135\2\126\1\0\2\126\1\134\1\135\2\136"+
-    "\1\126\1\136\2\0\4\126\1\130\1\0\1\136\1\0"+
-    "\3\126\3\0\1\u0108\3\126\1\130\1\132\1\0\1\133"+
-    "\2\126\1\132\1\126\1\u0108\1\126\15\0\11\126\2\130"+
-    "\4\126\1\0\22\126\2\136\2\126\1\0\4\126\2\u0109"+
-    "\2\126\2\0\5\126\1\0\1\126\1\0\3\126\3\0"+
-    "\6\126\2\0\6\126\15\0\17\126\1\0\26\126\1\0"+
-    "\3\126\5\u010a\2\0\4\126\1\u010a\1\0\1\u010a\1\0"+
-    "\3\126\3\0\1\126\2\u010a\1\126\2\u010a\2\0\2\126"+
-    "\2\u010a\2\126\15\0\2\126\1\u010a\6\126\2\u010a\4\126"+
-    "\1\0\2\126\1\u010a\17\126\2\u010a\2\126\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u010b\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u010c\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u010d\2\6\15\0\1\6\1\u010e\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u010f\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u0110\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u0111\1\6\15\0\6\6\1\u0112\7\6\1\5"+
-    "\1\0\26\6\1\0\10\u0113\1\u0114\1\0\120\u0113\10\0"+
-    "\1\u0114\121\0\4\u0113\2\u0115\1\u0113\1\u0116\1\u0117\1\0"+
-    "\1\146\1\u0118\4\146\1\u0115\11\u0113\1\146\5\u0113\2\146"+
-    "\63\u0113\2\u0116\3\u0113\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u0119\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u011a\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\175\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u011b\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\175\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u011c\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u011d\1\6\1\u011e\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\12\160\1\u011f\4\160\1\u0120\116\160"+
-    "\2\16\1\160\2\16\1\0\1\16\1\u0121\5\16\11\160"+
-    "\1\16\5\160\2\16\63\160\2\16\3\160\27\0\1\u0122"+
-    "\102\0\1\5\7\6\2\0\1\125\2\6\1\u0123\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u0124\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u0125\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u0126\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\3\6\1\u0127\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u0128\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u0129\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u012a\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u012b\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u012c\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u012d\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u012e\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u012f\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\1\u0130\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u0131\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u0132\5\6\15\0\2\6\1\u0133\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\4\6\1\u0134\11\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0135"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\12\6\1\u0136"+
-    "\3\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u0137\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\7\6\1\175\6\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u0138\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u0139\4\6\15\0\5\6\1\u013a\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\4\6\1\u013b\11\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u013c\5\6\15\0"+
-    "\2\6\1\u013d\2\6\1\u013e\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\1\u013f\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u011e\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0140\5\6\15\0\4\6\1\u0141\11\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\u0142"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u0143\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\11\0\1\u0144\3\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0145\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0146\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u0147\15\0\4\6\1\u0148\11\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u0149\2\6\1\u014a\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\53\0\1\46\1\0\1\22\72\0\1\u0144"+
-    "\27\0\1\u0144\64\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\175\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\1\u0141\25\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u014b\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u014c\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u014d\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u014e\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u014f\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\u0150"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\6\6\1\u0151\7\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\2\6\1\u0152\3\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u0153\3\6\1\u0154\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u0155\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u0148\1\u0156\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0157\3\6\1\u0158"+
-    "\1\6\15\0\5\6\1\231\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\4\6\1\u0159\11\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u015a\2\6\1\175"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\4\6\1\u015b"+
-    "\11\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\4\6\1\u015c\11\6\1\5"+
-    "\1\0\6\6\1\u015d\17\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u015e\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\1\u015f\3\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\2\6\1\u0160"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u0161\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u0162"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\u0163\14\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u0164\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u0165\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0166\3\6\15\0\5\6"+
-    "\1\u0167\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u0168\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0169\1\6\1\u016a\15\0\2\6\1\u016b"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u016c\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\264\2\0\1\u016d\4\264"+
-    "\1\0\1\264\1\0\1\5\2\264\3\0\6\264\2\0"+
-    "\6\264\15\0\16\264\1\5\1\0\26\264\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u016e\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\7\6\1\u016f\6\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u0170\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u0171\4\6\15\0"+
-    "\5\6\1\u0172\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\5\6\1\u0173\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\4\6\1\u0174\11\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u0175\15\0\2\6\1\u0176\2\6\1\u0177\7\6\1\u0178"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\5\6\1\u0179"+
-    "\20\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\12\6\1\u017a\3\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\4\6"+
-    "\1\u017b\11\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u017c\1\6\1\u017d\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u017e\1\u017f\4\6\15\0\2\6"+
-    "\1\u0180\13\6\1\5\1\0\6\6\1\u0181\17\6\1\0"+
-    "\1\5\7\6\2\0\1\125\3\6\1\u0182\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u0183\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0184\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u0185"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\4\6\1\u0186\1\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\6\6\1\u0187\7\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u0188\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u0189\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u018a\1\6"+
-    "\2\0\1\u018b\4\6\1\u018c\15\0\1\u018d\1\6\1\u018e"+
-    "\1\6\1\u018f\3\6\1\u0190\5\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0191"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0192\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u0193\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\5\6\1\u0194"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u0195\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u0196\3\6\1\u0197"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\2\6\1\u0198\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\4\6\1\u0199\11\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\5\6\1\u019a"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u019b\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u019c\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u019d\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u019e\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u019f\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\6\6\1\u01a0\7\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\4\6\1\u01a1\11\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u01a2\4\6"+
-    "\15\0\2\6\1\u01a3\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u01a4\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u01a5\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u01a6\5\6\15\0\4\6\1\u01a7\11\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\4\6\1\u01a8"+
-    "\1\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\5\6\1\u01a9"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u01aa\1\6\15\0\6\6"+
-    "\1\u01ab\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\1\6\1\u01ac\24\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\10\6\1\u01ad\5\6\1\5\1\0"+
-    "\26\6\1\0\1\5\5\6\1\u01ae\1\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u01af\5\6\15\0\16\6\1\5\1\0\4\6"+
-    "\1\u01b0\21\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u01b1\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u01b2\15\0"+
-    "\16\6\1\5\1\0\1\u01b3\25\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u01b4\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u01b5\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u01b6"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u015d\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\70\0\1\u01b7\106\0\1\u01b8"+
-    "\125\0\1\u01b9\167\0\1\u01ba\122\0\1\u01bb\106\0\1\u01bc"+
-    "\65\0\54\361\1\363\55\361\1\0\1\361\4\0\1\361"+
-    "\4\0\1\361\1\0\2\361\11\0\6\361\2\0\6\361"+
-    "\6\0\1\363\6\0\16\361\2\0\22\361\2\0\2\361"+
-    "\41\0\1\u01bd\167\0\1\u01be\116\0\1\u01bf\110\0\1\u01c0"+
-    "\155\0\1\u01c1\56\0\1\u01c2\131\0\1\u01c3\26\0\1\u01c4"+
-    "\1\u01c5\24\0\1\u01c6\125\0\1\u01c7\106\0\1\u01c8\1\0"+
-    "\1\u01c9\130\0\1\u01ca\123\0\1\u01cb\7\0\1\u01cc\20\0"+
-    "\1\u01cd\2\0\1\u01ce\2\0\1\u01cf\125\0\1\u01d0\106\0"+
-    "\1\u01d1\125\0\1\u01d2\167\0\1\u01d3\33\0\3\5\5\u01d4"+
-    "\2\0\4\5\1\u01d4\1\0\1\u01d4\1\0\3\5\3\0"+
-    "\1\5\2\u01d4\1\5\2\u01d4\2\0\2\5\2\u01d4\2\5"+
-    "\15\0\2\5\1\u01d4\6\5\2\u01d4\4\5\1\0\2\5"+
-    "\1\u01d4\17\5\2\u01d4\2\5\1\0\2\126\1\127\3\u0104"+
-    "\1\126\1\u0104\2\0\5\126\1\0\1\u0104\1\0\3\126"+
-    "\3\0\1\131\5\126\2\0\4\126\1\131\1\126\15\0"+
-    "\17\126\1\0\22\126\2\u0104\2\126\1\0\3\126\3\u0105"+
-    "\1\126\1\u0105\2\0\4\126\1\130\1\0\1\u0105\1\0"+
-    "\3\126\3\0\4\126\1\130\1\126\2\0\6\126\15\0"+
-    "\11\126\2\130\4\126\1\0\22\126\2\u0105\2\126\4\0"+
-    "\3\u0105\1\0\1\u0105\10\0\1\u0105\104\0\2\u0105\3\0"+
-    "\2\126\1\134\1\126\2\u0107\1\126\1\u0107\2\0\5\126"+
-    "\1\0\1\u0107\1\0\3\126\3\0\1\u0108\5\126\2\0"+
-    "\4\126\1\u0108\1\126\15\0\17\126\1\0\22\126\2\u0107"+
-    "\2\126\1\0\2\126\1\u01d5\1\126\2\u0109\2\126\2\0"+
-    "\5\126\1\0\1\126\1\0\3\126\3\0\6\126\2\0"+
-    "\6\126\15\0\17\126\1\0\26\126\1\0\2\126\1\u01d6"+
-    "\5\u010a\2\0\4\126\1\u010a\1\0\1\u010a\1\0\3\126"+
-    "\3\0\1\u0108\2\u010a\1\126\2\u010a\2\0\2\126\2\u010a"+
-    "\1\u0108\1\126\15\0\2\126\1\u010a\6\126\2\u010a\4\126"+
-    "\1\0\2\126\1\u010a\17\126\2\u010a\2\126\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u01d7\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u01d8\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u01d9\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u01da\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u01db\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u01dc\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u01dd\15\0\2\6\1\u01de\13\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\4\6\1\u01df\1\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\4\6\1\u01e0\11\6\1\5\1\0\26\6\1\0"+
-    "\10\u0113\1\147\1\0\124\u0113\2\u0116\1\u0113\1\u0116\1\u0114"+
-    "\1\0\6\u0113\1\u0116\104\u0113\2\u0116\7\u0113\2\146\1\u0113"+
-    "\1\146\1\u0114\1\0\6\u0113\1\146\104\u0113\2\146\6\u0113"+
-    "\5\u01e1\1\147\1\0\4\u0113\1\u01e1\1\u0113\1\u01e1\10\u0113"+
-    "\2\u01e1\1\u0113\2\u01e1\4\u0113\2\u01e1\21\u0113\1\u01e1\6\u0113"+
-    "\2\u01e1\7\u0113\1\u01e1\17\u0113\2\u01e1\3\u0113\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\175\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u01e2\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u0137\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u01e3\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u01e4\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\175\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\11\160\1\0\123\160\5\u01e5\2\160\1\u011f\3\160"+
-    "\1\u01e5\1\u0120\1\u01e5\10\160\2\u01e5\1\160\2\u01e5\4\160"+
-    "\2\u01e5\21\160\1\u01e5\6\160\2\u01e5\7\160\1\u01e5\17\160"+
-    "\2\u01e5\3\160\26\0\1\u01e6\103\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\1\6"+
-    "\1\u01e7\24\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u01e8\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u01e9"+
-    "\3\6\15\0\15\6\1\u01ea\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u01eb\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\3\6\1\u01ec\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u01ed\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u01ee\3\6\1\u01ef"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\4\6\1\u01f0\21\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u01f1\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u01f2\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u01f3"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\175\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\u01f4\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\6\6\1\u01f5\7\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u01f6\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u01f7\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u01f8\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u01f9\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u01fa\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\5\6\1\u01fb\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u01fc\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u01fd"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\6\1\u01fe"+
-    "\14\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\175\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u01ff\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\u0200\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u0201\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\3\6"+
-    "\1\u0202\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\6\6"+
-    "\1\175\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0203\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u0204\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u0205\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0206\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u0207\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0208\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\4\6"+
-    "\1\u0209\11\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\156\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\4\6\1\u020a\11\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u020b\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\175\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u020c\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u020d\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u020e\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u020f\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\5\6\1\u013a"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u0210\4\6\1\u0211\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\4\6\1\u0212\11\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u0213\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0214\5\6\15\0"+
-    "\4\6\1\u0215\11\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\10\6\1\u0216"+
-    "\5\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\u013f\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0217\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0218"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u0219"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u021a\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u021b\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u021c"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u021d\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u021e\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u017e\1\u021f\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\2\6\1\u0220\3\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u0221\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u0222\13\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u0223\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u0177\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\6\6\1\u0224\7\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0225\1\6\1\u0226\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\175"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u011e\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u011e\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u0227\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u0228"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\4\6\1\u0229\1\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u022a\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u022b\14\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\4\6\1\u022c\1\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\10\5"+
-    "\2\0\1\5\1\u022d\3\5\1\0\1\5\1\0\3\5"+
-    "\3\0\6\5\2\0\6\5\15\0\17\5\1\0\26\5"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u022e\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u022f\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0230\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u0231"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0232\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u0233\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u0234"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0235\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\u0236\15\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u016f\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0237\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\11\6\1\u017e\4\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\11\6"+
-    "\1\u0238\4\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\4\6\1\u0239\11\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u023a\3\6\15\0\5\6\1\u023b\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u023c\13\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u023d\2\6\1\u023e\5\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\1\u023f\3\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\1\u0240\3\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u0241\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u0177\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0242\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u0243\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0244\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\4\6\1\u0245\11\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\2\6\1\u0246"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0247\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0248\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0249\3\6"+
-    "\15\0\16\6\1\5\1\0\4\6\1\u024a\21\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u024b\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u024c\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u024d\14\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\1\u024e\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u024f\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0250\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u0251\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\3\6\1\u0252\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0253"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\202\4\6\15\0"+
-    "\3\6\1\u0254\12\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\u0255\15\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u0256\1\6\1\u0257\11\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0258\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u0259\4\6"+
-    "\1\u025a\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\15\6\1\u025b\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u025c\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\u025d\15\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u025e\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\15\6\1\u025f\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0260\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0261\3\6\15\0\1\6"+
-    "\1\u0262\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\14\6\1\u0263\11\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u0264\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0265\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u0266\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u0131\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\4\6\1\u017e"+
-    "\1\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0267\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\u017e\15\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\1\0"+
-    "\1\u0268\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\u0269\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u026a\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u026b\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\2\6\1\u026c\3\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u026d\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u026e\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u026f\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\2\6\1\u0270\1\6\1\u0271\21\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\u0272\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\4\6\1\u0273\11\6\1\5"+
-    "\1\0\16\6\1\u0274\7\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u0275\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u0276\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u0277\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u0278\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\1\6"+
-    "\1\u0279\24\6\62\0\1\u027a\112\0\1\u01b7\156\0\1\u027b"+
-    "\101\0\1\u027c\153\0\1\u027d\112\0\1\u01bb\156\0\1\u027e"+
-    "\101\0\1\u027f\133\0\1\u0280\130\0\1\u0281\24\0\1\u0282"+
-    "\131\0\1\u0283\104\0\1\u0284\160\0\1\u0285\103\0\1\u0286"+
-    "\1\u0287\160\0\1\u0288\55\0\1\u0289\131\0\1\u028a\200\0"+
-    "\1\u028b\106\0\1\u028c\131\0\1\u028d\154\0\1\u028e\135\0"+
-    "\1\u028f\125\0\1\u0290\62\0\1\u0291\157\0\1\u0292\147\0"+
-    "\1\u0293\112\0\1\u01d0\156\0\1\u0294\101\0\1\u0295\72\0"+
-    "\3\5\5\u0296\2\0\4\5\1\u0296\1\0\1\u0296\1\0"+
-    "\3\5\3\0\1\5\2\u0296\1\5\2\u0296\2\0\2\5"+
-    "\2\u0296\2\5\15\0\2\5\1\u0296\6\5\2\u0296\4\5"+
-    "\1\0\2\5\1\u0296\17\5\2\u0296\2\5\1\0\2\126"+
-    "\1\u01d6\5\u010a\2\0\4\126\1\u010a\1\0\1\u010a\1\0"+
-    "\3\126\3\0\1\126\2\u010a\1\126\2\u010a\2\0\2\126"+
-    "\2\u010a\2\126\15\0\2\126\1\u010a\6\126\2\u010a\4\126"+
-    "\1\0\2\126\1\u010a\17\126\2\u010a\2\126\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0297\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u0298\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u0299\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u029a\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0227\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\5\6\1\u029b\1\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u029c\2\6\15\0\16\6"+
-    "\1\5\1\0\2\6\1\u029d\1\6\1\u029e\21\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u029f\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\1\u02a0\3\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u02a1\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u0192"+
-    "\2\6\15\0\5\6\1\u02a2\10\6\1\5\1\0\26\6"+
-    "\1\0\3\u0113\5\u02a3\1\147\1\0\4\u0113\1\u02a3\1\u0113"+
-    "\1\u02a3\10\u0113\2\u02a3\1\u0113\2\u02a3\4\u0113\2\u02a3\21\u0113"+
-    "\1\u02a3\6\u0113\2\u02a3\7\u0113\1\u02a3\17\u0113\2\u02a3\3\u0113"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u0158\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u02a4\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\4\6"+
-    "\1\175\1\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\3\160\5\u02a5\2\160\1\u011f\3\160\1\u02a5"+
-    "\1\u0120\1\u02a5\10\160\2\u02a5\1\160\2\u02a5\4\160\2\u02a5"+
-    "\21\160\1\u02a5\6\160\2\u02a5\7\160\1\u02a5\17\160\2\u02a5"+
-    "\3\160\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\4\6\1\u024a\21\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\4\6\1\u02a6\1\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\15\6"+
-    "\1\u02a7\10\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u02a8\1\u02a9\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\14\6\1\u02aa\1\6\1\5\1\0\5\6\1\u02ab"+
-    "\20\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u02ac\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\22\6\1\u02ad\3\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u02ae\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u02af\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u02b0"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\2\6\1\u02b1\23\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\15\6\1\175\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\1\6\1\u0216\24\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\6\6"+
-    "\1\u0213\7\6\1\5\1\0\26\6\1\0\1\5\5\6"+
-    "\1\u02b2\1\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\1\0\1\u02b3\2\6\1\u02b4"+
-    "\3\6\15\0\16\6\1\5\1\0\4\6\1\u01f0\7\6"+
-    "\1\u02b5\11\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u017e\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u02b6"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\4\6\1\u02b7"+
-    "\11\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\7\6\1\u02b8\6\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u02b9\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\3\6"+
-    "\1\u0254\12\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u02ba\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\13\6\1\175\2\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u02bb\2\6\15\0\1\6\1\u02bc\14\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u02bd\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u02be\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u020b\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u02bf\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\231\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u02c0\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u02c1\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0119\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u02c2\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u02c3\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\243\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u01e4\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u02c4"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u02c5\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\153\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\175\15\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u02c6"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u02c7\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u02c8\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u02c9\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u02ca\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u02cb\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u02cc\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\3\6"+
-    "\1\175\12\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u02cd\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u011e\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\231\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u02ce\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u02cf\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u02d0\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u017e\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\5\6\1\u02d1\10\6\1\u02d2\7\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u02d3\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u02d4\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u02d5\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\u0227\15\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u02d6\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u02d7\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\u02d8"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\11\6\1\u02d9\1\u02da\1\6\1\u02db"+
-    "\1\6\1\5\1\0\5\6\1\u02dc\1\6\1\u02dd\1\6"+
-    "\1\u02de\3\6\1\u02df\1\u02e0\7\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u02e1\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u02e2\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u01f6\1\u02e1\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\1\u02e3\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u01a4\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\u02e4\14\6\1\5\1\0"+
-    "\26\6\1\0\3\5\5\u02e5\2\0\4\5\1\u02e5\1\0"+
-    "\1\u02e5\1\0\3\5\3\0\1\5\2\u02e5\1\5\2\u02e5"+
-    "\2\0\2\5\2\u02e5\2\5\15\0\2\5\1\u02e5\6\5"+
-    "\2\u02e5\4\5\1\0\2\5\1\u02e5\17\5\2\u02e5\2\5"+
-    "\1\0\1\5\5\6\1\u02e6\1\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u02e7\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\7\6\1\u02e8\6\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\u02e9\15\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u02ea\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u02eb\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\4\6\1\u02ec\11\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u02ed"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u02ee\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u02ef\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u02f0\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u02f1"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u02f2\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u02f3\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\2\6\1\u02f4"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\15\6\1\u02f5\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u02f6\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u02f7\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u02f8\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u02f9\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\13\6\1\u02fa\12\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u02fb\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u02fc\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u02fd\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u02fe"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\12\6\1\u02ff"+
-    "\3\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u0300\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\3\6\1\u0301\12\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0302"+
-    "\4\6\15\0\16\6\1\5\1\0\1\6\1\u02fc\24\6"+
-    "\1\0\1\5\7\6\2\0\1\125\1\u0303\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0304\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u0305\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\6\6\1\u0306\7\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0307\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u0308\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0309\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u030a\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u030b\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\1\6\1\u030c"+
-    "\24\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u030d\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\2\6\1\u030e\3\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u030f\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u0310\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u0311"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u0312\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0313\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0314\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\4\6\1\u0315\1\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u0227\5\6\15\0\16\6"+
-    "\1\5\1\0\4\6\1\u01f0\7\6\1\u02b5\11\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0316\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\10\6\1\u0317\15\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\4\6\1\u01f0"+
-    "\7\6\1\u02b5\11\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0318\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\13\6\1\u0227\2\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u0319\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u031a\4\6\15\0\16\6"+
-    "\1\5\1\0\24\6\1\u031b\1\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\15\6\1\u031c\10\6\1\0\1\5\7\6\2\0\1\125"+
-    "\3\6\1\u031d\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\1\u031e\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\36\0\1\u031f\74\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u0320\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u0321\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\7\6\1\u0322"+
-    "\16\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0323\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0324\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\1\6"+
-    "\1\u0325\24\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0326\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\2\6\1\u0327\13\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0328\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\2\6\1\u0329\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u032a"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\3\6\1\u032b\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u032c\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u032d\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u032e\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u032f\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u0330\14\6\1\5"+
-    "\1\0\26\6\27\0\1\u0331\150\0\1\u01b7\13\0\1\u027a"+
-    "\51\0\1\u027c\1\u0332\5\u027c\1\u0332\2\0\4\u027c\1\0"+
-    "\1\u027c\1\0\1\u0332\3\0\1\u027c\1\u0332\6\u027c\2\u0332"+
-    "\6\u027c\1\0\2\u0332\1\0\1\u0332\2\0\6\u0332\16\u027c"+
-    "\2\u0332\26\u027c\27\0\1\u0333\150\0\1\u01bb\13\0\1\u027d"+
-    "\51\0\1\u027f\1\u0334\5\u027f\1\u0334\2\0\4\u027f\1\0"+
-    "\1\u027f\1\0\1\u0334\3\0\1\u027f\1\u0334\6\u027f\2\u0334"+
-    "\6\u027f\1\0\2\u0334\1\0\1\u0334\2\0\6\u0334\16\u027f"+
-    "\2\u0334\26\u027f\65\0\1\u0335\60\0\1\u0336\160\0\1\u0337"+
-    "\131\0\1\u0338\152\0\1\u0339\135\0\1\u033a\132\0\1\u033b"+
-    "\130\0\1\u033c\127\0\1\u033d\111\0\1\u033e\153\0\1\u033f"+
-    "\105\0\1\u0340\133\0\1\u0341\151\0\1\u0342\61\0\1\u0343"+
-    "\22\0\1\u0344\125\0\1\u0345\160\0\1\u0346\112\0\1\u0347"+
-    "\113\0\1\u0348\150\0\1\u01d0\13\0\1\u0293\51\0\1\u0295"+
-    "\1\u0349\5\u0295\1\u0349\2\0\4\u0295\1\0\1\u0295\1\0"+
-    "\1\u0349\3\0\1\u0295\1\u0349\6\u0295\2\u0349\6\u0295\1\0"+
-    "\2\u0349\1\0\1\u0349\2\0\6\u0349\16\u0295\2\u0349\26\u0295"+
-    "\1\0\3\5\5\u034a\2\0\4\5\1\u034a\1\0\1\u034a"+
-    "\1\0\3\5\3\0\1\5\2\u034a\1\5\2\u034a\2\0"+
-    "\2\5\2\u034a\2\5\15\0\2\5\1\u034a\6\5\2\u034a"+
-    "\4\5\1\0\2\5\1\u034a\17\5\2\u034a\2\5\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u034b\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\4\6\1\u034c\1\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\5\6\1\u034d\1\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\1\u034e\5\6\2\0\6\6\15\0\12\6\1\u034f"+
-    "\3\6\1\5\1\0\13\6\1\u0350\1\6\1\u02df\10\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u02e1"+
-    "\2\6\15\0\16\6\1\5\1\0\15\6\1\u0351\10\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u0352\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\2\6\1\u0353"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u0354\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u0355\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u021e"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u0356\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\2\6\1\u0357\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u02fc\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\3\u0113\5\u0358\1\147\1\0\4\u0113\1\u0358\1\u0113"+
-    "\1\u0358\10\u0113\2\u0358\1\u0113\2\u0358\4\u0113\2\u0358\21\u0113"+
-    "\1\u0358\6\u0113\2\u0358\7\u0113\1\u0358\17\u0113\2\u0358\3\u0113"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u0359\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\3\160\5\u035a"+
-    "\2\160\1\u011f\3\160\1\u035a\1\u0120\1\u035a\10\160\2\u035a"+
-    "\1\160\2\u035a\4\160\2\u035a\21\160\1\u035a\6\160\2\u035a"+
-    "\7\160\1\u035a\17\160\2\u035a\3\160\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u035b\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u035c"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\4\6\1\u035d\1\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\1\6\1\u035e\24\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u035f\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u0360"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u0199\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\23\6"+
-    "\1\u0361\2\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0362\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u0363\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u017e\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0364\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u0365\14\6\1\5\1\0\26\6\36\0\1\u0366"+
-    "\74\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0367"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u0368\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u0369\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u036a\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\4\6\1\u036b\21\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\1\u036c\5\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\16\6\1\u036d\7\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u02c9\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u036e\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\3\6\1\175\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u036f\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\10\6\1\u0148\5\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\u0207"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u0370\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0204\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0371\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\u01e4"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0372\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0373\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u0374\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0375"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u0376\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\2\6\1\175\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u0377\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0378"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u011e\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0207\1\u0379\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\1\6\1\175\24\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\2\6"+
-    "\1\u037a\13\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\2\6\1\u037b\13\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u037c\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\1\u037d\3\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u01e7\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u037e\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u037f\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0380\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u0315\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0381\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0382\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u0383\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0384\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0385\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0386\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u0387\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u0388\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\1\u0389\3\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\2\6\1\u029f\3\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\6\6\1\u038a"+
-    "\7\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u038b\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\6\6\1\u038c\7\6\1\5\1\0\26\6"+
-    "\1\0\3\5\5\u038d\2\0\4\5\1\u038d\1\0\1\u038d"+
-    "\1\0\3\5\3\0\1\5\2\u038d\1\5\2\u038d\2\0"+
-    "\2\5\2\u038d\2\5\15\0\2\5\1\u038d\6\5\2\u038d"+
-    "\4\5\1\0\2\5\1\u038d\17\5\2\u038d\2\5\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u038e\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u038f\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\1\u0390"+
-    "\5\6\2\0\5\6\1\u017e\15\0\11\6\1\u0391\4\6"+
-    "\1\5\1\0\4\6\1\u0392\1\u0393\20\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\6\6\1\u0394"+
-    "\7\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0395\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u0227\1\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\4\6"+
-    "\1\u0396\11\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u0397\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u0398\13\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\13\6\1\u0399\2\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u039a\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u039b\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\6\6\1\u039c\7\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\1\6\1\u039d\24\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u039e\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\11\6\1\u039f"+
-    "\1\u03a0\3\6\1\u03a1\7\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u03a2\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u03a3\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u03a4\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u03a5\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\u03a6\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\4\6\1\u0260"+
-    "\1\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u01f6"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u03a7\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u03a8\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u03a9\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\6\6\1\u03aa\7\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\16\6\1\u03ab\7\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u03ac\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u03ad\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\6\6\1\u03ae\7\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u03af\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u03b0\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\4\6\1\u03b1"+
-    "\11\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\4\6"+
-    "\1\u03b2\7\6\1\u03b3\11\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u03b4\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u03b5\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\2\6\1\u029f\3\6\2\0"+
-    "\1\u0131\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u03b6\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u03b7\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u03b8\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u03b9\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u03ba\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u03bb\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\4\6\1\u03bc\4\6"+
-    "\1\u02de\14\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u03bd\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u03be\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\1\6\1\u021e\24\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\14\6\1\u02db\1\6\1\5\1\0"+
-    "\5\6\1\u02dc\3\6\1\u02de\4\6\1\u02e0\7\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u017e\4\6"+
-    "\15\0\16\6\1\5\1\0\2\6\1\u03bf\23\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u03c0\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\4\6\1\u03c1\1\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u03c2\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\12\6\1\u03c3\13\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u03c4\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u03c5\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\7\6\1\u03c6\6\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u03c7\2\6\15\0\16\6\1\5\1\0\26\6\16\0"+
-    "\1\u03c8\114\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u03c9\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u03ca\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u03cb\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u03cc\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u03cd\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u03ce\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u03cf\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u03d0\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u03d1\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\u03d2\15\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u03d3\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\14\6\1\u03d4\11\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\10\6\1\u0229\5\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u03d5\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u03d6\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u03d7"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u03d8\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\27\0\1\u027c\131\0\1\u027f\201\0\1\u03d9"+
-    "\74\0\1\u03da\160\0\1\u03db\130\0\1\u03dc\126\0\1\u03dd"+
-    "\106\0\1\u03de\133\0\1\u03df\132\0\1\u033d\127\0\1\u0287"+
-    "\127\0\1\u03e0\133\0\1\u03e1\160\0\1\u0287\130\0\1\u03e2"+
-    "\140\0\1\u03e3\132\0\1\u03e4\73\0\1\u03e5\131\0\1\u03e4"+
-    "\131\0\1\u03e6\102\0\1\u0345\144\0\1\u0295\103\0\3\5"+
-    "\5\6\2\0\4\5\1\6\1\0\1\6\1\0\3\5"+
-    "\3\0\1\5\2\6\1\5\2\6\2\0\2\5\2\6"+
-    "\2\5\15\0\2\5\1\6\6\5\2\6\4\5\1\0"+
-    "\2\5\1\6\17\5\2\6\2\5\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\2\6\1\u03e7\13\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u03e8\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u03e9\2\6\15\0\5\6\1\u03ea\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u0384\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u03eb\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u03ec\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\u03ed\14\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\u03ee"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u03ef\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u03f0\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\6\6\1\u03f1\17\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u03f2"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u03f3\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\3\u0113\5\146\1\147\1\0"+
-    "\4\u0113\1\146\1\u0113\1\146\10\u0113\2\146\1\u0113\2\146"+
-    "\4\u0113\2\146\21\u0113\1\146\6\u0113\2\146\7\u0113\1\146"+
-    "\17\u0113\2\146\3\u0113\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\7\6\1\175\6\6\1\5\1\0\26\6"+
-    "\1\0\3\160\5\16\2\160\1\u011f\3\160\1\16\1\u0120"+
-    "\1\16\10\160\2\16\1\160\2\16\4\160\2\16\21\160"+
-    "\1\16\6\160\2\16\7\160\1\16\17\160\2\16\3\160"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\1\0\1\u03f4\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\6\6\1\u03f5\7\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\1\u0390\5\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\10\6\1\u03f6"+
-    "\15\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u03c6\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u03f7\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u03f8\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\1\0"+
-    "\1\u03f9\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u03fa\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u016f\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u03fb\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\2\6\1\u03fc"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\16\0"+
-    "\1\u03fd\114\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u03fe\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\4\6"+
-    "\1\u017e\11\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u03ff\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u0400\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u0401"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u0402"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\2\6\1\u0403\3\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0404\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0376\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\231\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\156\14\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u011e\1\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\u011e\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u0405\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u0406\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u020b\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0359\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u0407\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u0408\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0409\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\4\6\1\u040a\11\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u037c"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u040b\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u040c\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u040d\5\6\15\0\12\6\1\u040e\3\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\6\6\1\u040f\7\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u0410\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u0411\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0412\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\4\6\1\u0413\11\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u0414\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0411\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0415\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0385\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u0416\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u0417\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\2\6\1\u0418\23\6\1\0\3\5"+
-    "\5\u0419\2\0\4\5\1\u0419\1\0\1\u0419\1\0\3\5"+
-    "\3\0\1\5\2\u0419\1\5\2\u0419\2\0\2\5\2\u0419"+
-    "\2\5\15\0\2\5\1\u0419\6\5\2\u0419\4\5\1\0"+
-    "\2\5\1\u0419\17\5\2\u0419\2\5\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u041a\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u041b\13\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u041c\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u041d\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u041e\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u041f\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0420"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u0421"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u0422\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u0423\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\15\6"+
-    "\1\u0424\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u0425\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0426\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\5\6\1\u0427"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\5\6"+
-    "\1\u0428\1\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\12\6\1\u0429\13\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\1\6\1\u042a\4\6\2\0\6\6\15\0\14\6"+
-    "\1\u02db\1\6\1\5\1\0\5\6\1\u0393\3\6\1\u02de"+
-    "\1\u0429\12\6\1\u042b\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\14\6\1\u042c"+
-    "\11\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u042d\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u042e\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\10\6\1\u042f\5\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u0430\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0431\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0432\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\2\6\1\u0433\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0434\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0435"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\12\6\1\u0436\13\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0437\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\1\0"+
-    "\1\u0438\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\u0439\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\u043a\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u043b"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\6\6"+
-    "\1\u043c\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u043d\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u043e\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u043f\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u0440\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0441\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\4\6\1\u0442\1\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u0443\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\6\6\1\u0444\7\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u0445\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\4\6"+
-    "\1\u03fe\11\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\2\6\1\u0446\13\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\5\6\1\u0447\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0448\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u0449\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u044a\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u044b\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\2\6\1\u044c\3\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\5\6\1\u044d\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\1\u044e\5\6\1\0\1\u044f"+
-    "\6\6\15\0\11\6\1\u0450\4\6\1\5\1\0\17\6"+
-    "\1\u0451\6\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\7\6\1\u0452\6\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u0453"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u021e\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0454\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\5\6\1\u0455\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\4\6\1\u0456\1\6\15\0"+
-    "\16\6\1\5\1\0\26\6\41\0\1\u0457\71\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\1\u0458\5\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\1\6\1\u0459"+
-    "\24\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u045a\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\12\6"+
-    "\1\u045b\3\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\10\6\1\u045c\5\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\2\6"+
-    "\1\u045d\3\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u045e\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u045f"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0460\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\5\6\1\u0461"+
-    "\2\0\6\6\15\0\12\6\1\u0462\3\6\1\5\1\0"+
-    "\14\6\1\u0463\11\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\4\6\1\u0464"+
-    "\21\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0465\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u017e\15\0"+
-    "\16\6\1\5\1\0\4\6\1\u0466\1\u0467\10\6\1\u0468"+
-    "\7\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u0469\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\4\6\1\u021e\1\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u046a\10\6"+
-    "\1\5\1\0\26\6\46\0\1\u0287\101\0\1\u0287\207\0"+
-    "\1\u046b\76\0\1\u0341\132\0\1\u0287\132\0\1\u046c\133\0"+
-    "\1\u046d\126\0\1\u046e\131\0\1\u046f\154\0\1\u03da\131\0"+
-    "\1\u0470\45\0\46\u03e4\1\u0287\63\u03e4\41\0\1\u0471\131\0"+
-    "\1\u0472\70\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\7\6\1\u017e\6\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u0473\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u0474\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0475\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0476"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\4\6\1\u015d\1\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0477\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\10\6\1\u0478\5\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0479\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u047a\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\1\u047b\3\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u047c"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u047d"+
-    "\10\6\1\5\1\0\26\6\7\0\1\u047e\21\0\1\u047f"+
-    "\1\u0480\43\0\1\u0481\34\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\2\6"+
-    "\1\u0482\3\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u0483\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u0484\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u0485\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\36\0\1\u0486\36\0\1\u0487\35\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u0488\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0489\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\5\6\1\u048a\15\0\16\6\1\5\1\0\26\6"+
-    "\14\0\1\u048b\116\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u048c\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u048d\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u048e\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u048f\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u0490\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\1\u0491\25\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u013a\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u02c4\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\154\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\2\6\1\u011e\13\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u0492\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0493\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\1\u0494\3\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0495\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u0496\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0497\1\u0498\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u0499\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u049a\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u049b\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u02fc\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\4\6\1\u02fc\1\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u049c"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\6\6"+
-    "\1\u049d\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\12\6\1\u049e\3\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\5\6"+
-    "\1\u01fb\1\0\1\u049f\6\6\15\0\16\6\1\5\1\0"+
-    "\7\6\1\u02dd\16\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u04a0\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u04a1\13\6\1\5\1\0\26\6\1\0"+
-    "\3\5\5\264\2\0\4\5\1\264\1\0\1\264\1\0"+
-    "\3\5\3\0\1\5\2\264\1\5\2\264\2\0\2\5"+
-    "\2\264\2\5\15\0\2\5\1\264\6\5\2\264\4\5"+
-    "\1\0\2\5\1\264\17\5\2\264\2\5\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\5\6\1\u01db\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u04a2\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\5\6\1\u02b0"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\6\6\1\u015d\17\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\u04a3\14\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u018a\1\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u04a4\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u04a5\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u04a6\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\3\6\1\u04a7\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u04a8\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\5\6"+
-    "\1\u0455\2\0\6\6\15\0\12\6\1\u04a9\3\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u04aa\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u04ab\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u04ac\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\1\u04ad\3\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u04ae\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u04af\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u04b0\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u04b1\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u04b2"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\20\6\1\u04b3\5\6\1\0\1\5\5\6\1\u04b4"+
-    "\1\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\1\u034e\5\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\7\6\1\u04b5\6\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u04b6\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u04b7\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u04b8\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u04b9\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u04ba\1\6\15\0\16\6\1\5\1\0\26\6\31\0"+
-    "\1\u04bb\101\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u04bc"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\4\6\1\u03c6\1\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\4\6\1\u04bd\11\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u04be\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u04bf\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u04c0\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u04c1\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u04c2\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u04c3\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\5\6\1\u04c4"+
-    "\1\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\7\6\1\u04c5\6\6\1\u04c6\7\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\7\6\1\u025f"+
-    "\6\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u04c7\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\12\6\1\u04c8\3\6\1\5\1\0\2\6"+
-    "\1\u04c9\1\6\1\u04ca\5\6\1\u04cb\1\6\1\u04cc\11\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\15\6\1\u04cd\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\1\6\1\u04ce\4\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\10\6\1\u04cf\15\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u04d0\1\6"+
-    "\1\u04d1\6\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u04d2\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\7\6\1\u04d3\6\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\10\6\1\u04d4\5\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u04d5\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\u04d6\15\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u04d7\14\6\1\5\1\0\26\6"+
-    "\107\0\1\u04d8\1\u04d9\22\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u042c\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u04da\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\1\u04db\5\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u04dc\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\7\6\1\u04dd\16\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\202\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\14\6\1\u04de\11\6\42\0\1\u04df\70\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u04e0\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\12\6\1\u04e1\1\6\1\u04e2\1\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u04e3\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u04e4\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u04e5\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u019d\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\11\6\1\u04e6\4\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\10\6\1\u04e7\5\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u04e8\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u04e9\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u04ea\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u04eb\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u04ec\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\6\6\1\u04ed\7\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u04ee\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u04ef\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\1\u04f0\3\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u04f1\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u04f2"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\43\0\1\u03dd"+
-    "\134\0\1\u03d9\160\0\1\u04f3\1\u04f4\47\0\1\u04f5\156\0"+
-    "\1\u04f6\155\0\1\u04f7\110\0\1\u04f8\156\0\1\u04f9\41\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\1\0\1\u04fa\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0136\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u04fb\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\6\6"+
-    "\1\u04fc\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\4\6\1\u04fd\21\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u04fe\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u04ff\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\7\6"+
-    "\1\u0500\6\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0501\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0502\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u0503\14\6\1\5\1\0\26\6\44\0"+
-    "\1\u0504\131\0\1\u0505\101\0\1\u0506\206\0\1\u0507\41\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0508\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u0509\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u050a"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u01a3\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\16\0\1\u050b\156\0"+
-    "\1\u050b\67\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\4\6\1\u050c\11\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\7\6"+
-    "\1\u050d\6\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u050e\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\72\0\1\u050f\40\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0510\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0511\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u0512\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\2\6\1\u0513"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0514\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0515\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0516\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u01a4\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u0517\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u03e7"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u0518\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u0519\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\2\6\1\u051a"+
-    "\3\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u051b"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\12\6\1\u02da"+
-    "\3\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u051c\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u051d\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u051e\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u051f\14\6"+
-    "\1\5\1\0\26\6\117\0\1\u0520\13\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\1\6\1\u0521\4\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u0522\13\6\1\5\1\0"+
-    "\26\6\1\0\1\5\5\6\1\u0523\1\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\1\u0390"+
-    "\5\6\2\0\6\6\15\0\16\6\1\5\1\0\4\6"+
-    "\1\u0524\7\6\1\u0525\4\6\1\100\4\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u04e7\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0526\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u03c6\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0527\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u0528\10\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\4\6"+
-    "\1\u0529\1\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u052a\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\11\6\1\u052b\14\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u052c\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\15\6\1\u052d\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\3\6\1\u052e\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u052f\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u0243\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u01a6\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\15\6\1\u0530\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\2\6"+
-    "\1\u0531\13\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u0532\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0533\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u0534\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\5\6\1\u01fb\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\14\6\1\u0535\11\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\5\6\1\u02dc\20\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u0536\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0537\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\6\6"+
-    "\1\u0538\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0539\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\65\0\1\u053a\45\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\16\6\1\u053b\7\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u053c\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u053d"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u053e\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\2\6\1\u053f\3\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0540\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0541"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\6\6\1\u0542"+
-    "\7\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u0543\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0544\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\2\6\1\u0545\3\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\4\6\1\u0546\1\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u0547\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0548\4\6\15\0\2\6\1\u0549\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u054a\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\u054b"+
-    "\15\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u054c\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\14\6\1\u02db\1\6\1\5\1\0\5\6"+
-    "\1\u02dc\20\6\1\0\1\5\7\6\2\0\1\125\1\u054d"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u054e\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u054f\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\14\6\1\u02aa\1\6\1\5\1\0"+
-    "\7\6\1\u02dd\16\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u0550\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\21\6\1\100\4\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0551\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u0552\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\14\6\1\u02b5"+
-    "\11\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u0553\13\6\1\5\1\0\26\6\16\0"+
-    "\1\u0554\154\0\1\u0555\71\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\u0556\14\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u0557\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\15\6"+
-    "\1\u017e\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u0558\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0559\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\73\0\1\u055a\37\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\7\6\1\u055b\6\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u055c\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u055d\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u055e\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u055f\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\2\6\1\u0560\23\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0561\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u0136\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u0562\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0563\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0564\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u0565\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0566"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\6\1\u0567"+
-    "\14\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u0568\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\4\6\1\u0569\11\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u056a\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\1\u056b\5\6\2\0\6\6\15\0\11\6\1\u056c"+
-    "\4\6\1\5\1\0\5\6\1\u056d\20\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u056e\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\44\0\1\u056f\156\0\1\u0570"+
-    "\126\0\1\u0571\136\0\1\u0287\77\0\1\u03e4\135\0\1\u03e4"+
-    "\125\0\1\u0572\122\0\1\u0480\100\0\1\5\7\6\2\0"+
-    "\1\125\1\u0573\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u0574\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\1\u0575\3\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u0576\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\1\0"+
-    "\1\u0577\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\14\6"+
-    "\1\u02db\1\6\1\5\1\0\11\6\1\u02de\14\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u0578\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u0579\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u057a\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\41\0\1\u057b\106\0\1\u057c\204\0\1\u057d\105\0\1\u057e"+
-    "\65\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u04cd"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\u0260\15\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u057f\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\66\0\1\u0580\44\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\14\6\1\u0581"+
-    "\11\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\5\6\1\u02dc\10\6\1\u02e0"+
-    "\7\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u0582\2\6\15\0\16\6\1\5\1\0\26\6\75\0"+
-    "\1\u0583\35\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\6\1\u0584\14\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\20\6\1\u0227\5\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\5\6\1\u0585\20\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\15\6\1\u0136\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0586"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\2\6\1\u02b0"+
-    "\13\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\12\6\1\u0587\3\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\4\6\1\u03bc\21\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u0588"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\5\6\1\u0589\1\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\1\0\1\u058a\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u058b\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\1\6\1\u058c"+
-    "\24\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u058d\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u058e\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u058f\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\43\0\1\u0590\67\0\1\5\7\6\2\0\1\125"+
-    "\1\u0591\3\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0592"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\6\1\u0593"+
-    "\14\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u0594\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u0595\1\u0596\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u0136\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0597\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0598\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\5\6\1\u0599"+
-    "\20\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u059a\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u059b\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u059c\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u059d\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\3\6\1\u059e"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\4\6\1\u0412\1\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u059f\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u05a0\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\3\6\1\u05a1\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\2\6\1\u05a2\3\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u05a3\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u05a4\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\1\6\1\u054f\24\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u05a5\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u05a6\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u0136\1\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\105\0"+
-    "\1\u05a7\25\0\1\5\7\6\2\0\1\125\3\6\1\u05a8"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u05a9\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\7\6\1\u05aa\6\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u05ab\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u05ac\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\2\6\1\u05ad\3\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u05ae\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u05af\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u05b0\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\6\1\u05b1\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\1\u05b2\25\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\1\u05b3\5\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u05b4\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\1\6\1\u05b5"+
-    "\24\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u05b6\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u05b7\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u05b8\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u05b9\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u05ba\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u05bb\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u017e\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u05bc\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\5\6\1\u05bd\20\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u04ba\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u05be\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\66\0\1\u05bf\107\0\1\u05c0\66\0\1\5\7\6"+
-    "\2\0\1\125\1\u0368\3\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u05c1\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u05c2\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\2\6\1\u05c3\13\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u05c4\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u05c5\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u05c6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u05c7\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\6\6\1\u05c8\7\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u05c9"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\3\6\1\u05ca\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u05cb\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\6\6\1\u05cc\7\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u05cd\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\1\u05ce\15\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u05cf\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u031d"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u05d0\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u05d1\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\4\6\1\u05d2\11\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u05d3\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u05d4\2\6\15\0\1\6"+
-    "\1\u05d5\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u02b0\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\5\6\1\u05d6\1\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\41\0\1\u05d7\133\0\1\u05d8\127\0\1\u0339\165\0"+
-    "\1\u05d9\35\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u05da\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u03c6\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\4\6\1\u05db\11\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u05dc\15\0\16\6\1\5\1\0\26\6\107\0"+
-    "\1\u05dd\1\u05de\22\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u021e\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\14\6\1\u05df\11\6\43\0\1\u05e0"+
-    "\173\0\1\u05e1\71\0\1\u05e2\125\0\1\u05e3\71\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\2\6\1\u05e4"+
-    "\13\6\1\5\1\0\26\6\65\0\1\u05e2\45\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0595\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u05e5\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\43\0\1\u05e6\67\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u017e\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u05e7\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u05e8\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\6\1\u05e9"+
-    "\14\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\5\6"+
-    "\1\u05ea\20\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u05eb\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\32\0\1\u05ec\100\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u05ed\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\5\6\1\u05ee"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\4\6\1\u01a3\11\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\5\6\1\u048c\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u0539\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5";
-
-  private static final String ZZ_TRANS_PACKED_1 =
-    "\1\0\26\6\42\0\1\u05ef\70\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u05f0\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u05f1\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u05f2\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u017e\5\6\15\0\16\6\1\5"+
-    "\1\0\6\6\1\u05f3\17\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u05f4\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\4\6\1\u05f5\11\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\4\6\1\u05f6\1\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\4\6\1\u05f7\1\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\16\6\1\u0136"+
-    "\7\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\6\6\1\u05f8\7\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u05f9\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\1\u05fa\3\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u05fb\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u05fc"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u05fd\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\5\6\1\u05fe\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u05ff\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u0600\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\3\6\1\u0601\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\2\6"+
-    "\1\u0602\1\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0603"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\24\6\1\u031b\1\6\105\0\1\u0604\25\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\1\6\1\u0605\4\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\4\6\1\u0606\1\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\4\6\1\u0607\21\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u0608\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0609\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u060a\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\6\6\1\u060b\7\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u060c\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u060d\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\4\6\1\u060e\11\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u060f"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\6\1\u0610"+
-    "\14\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\6\6\1\u0611\7\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u0563"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0612\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\u04e7\5\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u0613\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u0614\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\4\6\1\u0615\1\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\4\6\1\u0616\1\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\6\6\1\u017e\7\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0617\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u017e\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\44\0\1\u0618\126\0\1\u0619\71\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u061a\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u05cc\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\u061b\15\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u061c\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\6\6\1\u061d\7\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u061e\14\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0136"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u0474\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u061f\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\12\6\1\u0620\3\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\20\6\1\u0621\5\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0622\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\4\6\1\314\1\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u05cd\14\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u0623"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u0624\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0625\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\1\u0626\3\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u0627\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0628\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\1\u02e1\3\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u0629\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\44\0\1\u0287\132\0\1\u062a"+
-    "\151\0\1\u062b\45\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u062c\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\4\6\1\u044c\11\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u062d"+
-    "\10\6\1\5\1\0\26\6\16\0\1\u062e\127\0\1\u062f"+
-    "\116\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u0630\14\6\1\5\1\0\26\6\105\0\1\u0631"+
-    "\40\0\1\u0632\152\0\1\u0604\137\0\1\u0633\67\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0634\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\u0265\5\6\15\0\16\6\1\5\1\0"+
-    "\26\6\46\0\1\u0635\64\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\5\6\1\u0636"+
-    "\20\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u0637\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u0638\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u0639\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\u063a\14\6\1\5\1\0"+
-    "\26\6\71\0\1\u063b\41\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\12\6\1\u063c\3\6\1\5\1\0"+
-    "\26\6\1\0\1\5\5\6\1\u063d\1\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\46\0"+
-    "\1\u063e\64\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u063f\1\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u0640\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u0641\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\1\u0642"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\u0643"+
-    "\15\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\1\0\1\u0644\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\5\6\1\u0645\1\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\5\6"+
-    "\1\u0646\2\0\6\6\15\0\16\6\1\5\1\0\16\6"+
-    "\1\u0647\7\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\1\u0648\5\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u0649\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u064a\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\4\6\1\u0552\11\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u064b\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u064c\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\1\0\1\u064d\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u064e\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u064f\14\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0650\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0651\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0652\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\1\0\1\u0653\5\6"+
-    "\1\u0654\15\0\14\6\1\u0655\1\6\1\5\1\0\26\6"+
-    "\43\0\1\u0656\67\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u0657\14\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\5\6\1\u01fb\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\5\6\1\u0599\20\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0658\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\1\6\1\u0659\14\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\12\6\1\u065a\13\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u065b"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\14\6\1\u02db"+
-    "\1\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\2\6\1\u065c\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u0136\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u065d\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\2\6\1\u0474\13\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u065e\13\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u065f\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u0660\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\u0661\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0662\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\4\6\1\u0663\1\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u0664\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u0665\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\14\0\1\u0666\160\0\1\u055a\67\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0667\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u0668\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\1\0\1\u0669"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u066a\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u066b\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u066c\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u066d\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u066e\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u0474\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\6\6\1\u066f\7\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\6\6"+
-    "\1\u0670\7\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\12\6\1\u0671\3\6"+
-    "\1\5\1\0\4\6\1\u0672\6\6\1\u0673\12\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u0674\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\1\6"+
-    "\1\u017e\24\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0136\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u0675"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\35\0\1\u0287"+
-    "\162\0\1\u03e4\44\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0676\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\1\6\1\u0677\14\6\1\5\1\0\26\6\71\0\1\u0678"+
-    "\73\0\1\u0679\77\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\4\6\1\u067a"+
-    "\1\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\65\0\1\u0457\110\0\1\u067b\127\0\1\u067c\70\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\1\6\1\u067d\4\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\66\0\1\u055a\44\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u067e\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u067f\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\6\6\1\u0680\7\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0681\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\5\6\1\u04ba\15\0\16\6\1\5"+
-    "\1\0\26\6\105\0\1\u0682\25\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u0683\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u0684\14\6\1\5\1\0\26\6"+
-    "\71\0\1\u0685\41\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u0686\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\12\6\1\u0687\3\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u0688\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\2\6\1\u0689\3\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u068a\14\6\1\5\1\0\26\6"+
-    "\110\0\1\u068b\22\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\4\6\1\u068c\1\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u068d\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\4\6\1\u068e"+
-    "\11\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u068f\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0690\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u0691\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\20\6\1\u02fc\5\6\110\0\1\u0692\22\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0693\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\13\6\1\u03c6\2\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\7\6\1\u02dd\16\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\1\6\1\u0694\24\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\1\6\1\u02fc\24\6\122\0\1\u0695\10\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\1\0\1\u0696\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u0697\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\42\0\1\u055a\70\0\1\5\7\6\2\0\1\125\1\u0698"+
-    "\3\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u0699\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\314\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\u069a\15\6\1\5\1\0\26\6"+
-    "\1\0\1\5\5\6\1\u069b\1\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\u0136\15\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u069c\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u069d\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u069e\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\314\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u069f\1\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u06a0\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u06a1\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u06a2\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u06a3\4\6\15\0\16\6\1\5\1\0\26\6\105\0"+
-    "\1\u06a4\25\0\1\5\7\6\2\0\1\125\2\6\1\u06a5"+
-    "\1\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u035e\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\7\0\1\u06a6\123\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u06a7\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\1\6\1\u06a8\4\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\7\6\1\u06a9\6\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\1\u06aa\3\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\2\6\1\u069d\3\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\11\6\1\u02de"+
-    "\14\6\1\0\1\5\5\6\1\u06ab\1\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\5\6"+
-    "\1\u01fb\2\0\6\6\15\0\12\6\1\u06ac\3\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u06ad\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u06ae\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u06af\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\4\6\1\u06b0"+
-    "\21\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u06b1\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u06b2\10\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u0136\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\66\0\1\u06b3\111\0\1\u06b4\64\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\5\6"+
-    "\1\u06b5\10\6\1\5\1\0\26\6\105\0\1\u06b6\115\0"+
-    "\1\u06b7\41\0\1\5\7\6\2\0\1\125\1\u06b8\3\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u06b9"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\7\6"+
-    "\1\u06ba\16\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\3\6\1\u06bb\2\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u06bc"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\75\0\1\u06bd"+
-    "\35\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u0536"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u06be\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\65\0\1\u06bf\45\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\2\6\1\u06c0\3\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u029f\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\2\6\1\u03fe\13\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u06c1\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\4\6\1\u03c6\1\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\71\0\1\u06c2\41\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u06c3\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\2\6\1\u06c4\13\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u06c5\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u06c6\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\5\6\1\u029b\1\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\12\6\1\u06c7\3\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u0536\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\41\0\1\u06c8\71\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\6\6\1\u06c9"+
-    "\7\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\1\u06ca\3\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\17\0\1\u06cb\220\0\1\u06cc\24\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u06cd\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\2\6\1\u06ce\1\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u06cf"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u06d0\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\4\6\1\u06d1\1\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u06d2\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\4\6\1\u04e7\1\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\5\6"+
-    "\1\u06d3\1\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\5\6\1\u01fb\2\0\6\6\15\0"+
-    "\12\6\1\u06c7\3\6\1\5\1\0\7\6\1\u06d4\1\6"+
-    "\1\u06d5\14\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\4\6\1\u04ca\21\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u069f"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u06d6\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\1\0\1\u06d7\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u06d8\2\6\15\0\16\6\1\5\1\0\26\6\64\0"+
-    "\1\u06d9\46\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u06da\3\6\15\0\16\6\1\5\1\0\26\6\65\0"+
-    "\1\u06db\45\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\2\6\1\u06dc\6\6\1\u06d5"+
-    "\14\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u04e7\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\4\6\1\u06dd\21\6\1\0\1\5\7\6"+
-    "\2\0\1\125\2\6\1\u068a\1\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\4\6\1\u06de\1\6\15\0\1\6\1\u06df\14\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u06e0\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u06e1\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u06e2\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\4\6\1\u06e3\1\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u06e4\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\2\6\1\u06e5\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u031d\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\65\0\1\u06e6\107\0\1\u06e7\67\0"+
-    "\1\5\7\6\2\0\1\125\3\6\1\u06e8\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\43\0\1\u06e9\104\0\1\u06ea"+
-    "\114\0\1\5\7\6\2\0\1\125\2\6\1\u06eb\1\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u06ec\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\6\1\u06ed\4\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u06ee"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u06ef\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\43\0\1\u06f0\67\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\10\6\1\u06f1"+
-    "\5\6\1\5\1\0\26\6\16\0\1\u055a\114\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\1\0\1\u06f2\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u06f3\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\72\0\1\u06f4\40\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u06f5\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u06f6\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u06f7\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\15\6\1\u03c6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u06f8"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\44\0\1\u06f9"+
-    "\66\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u056d"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\6\1\u06fa\4\6\15\0"+
-    "\16\6\1\5\1\0\26\6\31\0\1\u06fb\43\0\1\u06fc"+
-    "\13\0\1\u06fd\1\0\1\u06fe\51\0\1\u06ff\77\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\4\6\1\u0700\1\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\4\6\1\u060d\1\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0701\10\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0702"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u0703\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\5\6\1\u0704\10\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\1\6\1\u0705\14\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0706"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u0707"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\1\0\1\u0708\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\111\0\1\u0709\21\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\1\u070a\5\6\15\0\16\6\1\5\1\0\26\6"+
-    "\41\0\1\u070b\71\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u060d\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\16\0\1\u070c\114\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\6\1\u0548\4\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\5\6\1\u070d\10\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u070e\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u070f\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u0710\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u0711\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\2\6\1\u0712\3\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u0713\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u0714\4\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\4\6\1\u0715\1\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\35\0\1\u0716\135\0"+
-    "\1\u055a\71\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u0717\10\6\1\5\1\0\26\6\100\0"+
-    "\1\u0718\136\0\1\u0719\25\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\4\6"+
-    "\1\u029f\1\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\5\6\1\u071a\10\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u071b\14\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\12\6\1\u06c7\3\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\3\6\1\u071c\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\66\0\1\u071d\44\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\2\6\1\u071e\3\6\15\0\16\6\1\5\1\0\26\6"+
-    "\7\0\1\u071f\123\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0720\10\6\1\5\1\0\26\6"+
-    "\70\0\1\u0721\42\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\5\6\1\u0722\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\4\6\1\u0723\1\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0724\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0725\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\66\0\1\u0726\44\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u02ea\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\65\0\1\u0727\131\0\1\u0728\62\0\1\u06e7\155\0"+
-    "\1\u0729\135\0\1\u072a\64\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\1\6\1\u05bc\14\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u072b\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\3\6\1\u072c\2\6\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u072d\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u072e\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u03ee\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\4\6\1\u072f\1\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0730\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\4\6\1\u0731\1\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\100\0\1\u0732\47\0\1\u0733\114\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u0734\14\6\1\5\1\0\26\6\36\0\1\u0735\134\0"+
-    "\1\u0736\71\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\20\6\1\u04e7\5\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\5\6\1\u054f\15\0"+
-    "\16\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\5\6\1\u0737\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u01a4\1\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u0738\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0739\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\4\6"+
-    "\1\u0367\1\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\2\6"+
-    "\1\u073a\3\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\3\6\1\u01f6\2\6"+
-    "\15\0\16\6\1\5\1\0\26\6\43\0\1\u073b\67\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\2\6"+
-    "\1\u06f7\13\6\1\5\1\0\26\6\44\0\1\u073c\205\0"+
-    "\1\u073d\12\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\3\6"+
-    "\1\u073e\2\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\3\6"+
-    "\1\u03e7\12\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0578\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\71\0\1\u073f\41\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\1\6\1\u0740\4\6\15\0\16\6"+
-    "\1\5\1\0\26\6\65\0\1\u0741\45\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\3\6\1\u0742\2\6\15\0\16\6"+
-    "\1\5\1\0\26\6\45\0\1\u0743\65\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\13\6\1\u0744\12\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\5\6\1\u0745\10\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\u05dc"+
-    "\5\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\1\6\1\u060d\24\6\101\0\1\u0746\46\0\1\u0747"+
-    "\127\0\1\u0748\206\0\1\u0749\101\0\1\u074a\71\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\1\u074b\5\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\4\6"+
-    "\1\u074c\1\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u074d\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\5\6\1\u0426\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\2\6\1\u074e\3\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\2\6\1\u074f\13\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\u065c\5\6\15\0"+
-    "\16\6\1\5\1\0\26\6\43\0\1\u0750\105\0\1\u0751"+
-    "\113\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\6\1\u0752"+
-    "\4\6\15\0\16\6\1\5\1\0\26\6\67\0\1\u0753"+
-    "\104\0\1\u0754\70\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\1\u0755\5\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u0756\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\6\6\1\u0757\7\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\3\6\1\u0758\2\6\15\0\16\6\1\5\1\0"+
-    "\26\6\32\0\1\u0759\55\0\1\u075a\37\0\1\u075b\200\0"+
-    "\1\u075c\45\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\4\6"+
-    "\1\u075d\1\6\15\0\16\6\1\5\1\0\26\6\72\0"+
-    "\1\u075e\40\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u075f\15\0\16\6\1\5\1\0\26\6\16\0\1\u0760"+
-    "\114\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\4\6\1\u0761"+
-    "\1\6\15\0\16\6\1\5\1\0\26\6\43\0\1\u0762"+
-    "\67\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\2\6\1\u0763"+
-    "\3\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\2\6\1\u0764\1\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\76\0\1\u0765\140\0\1\u055a"+
-    "\57\0\1\u0766\170\0\1\u0767\101\0\1\u0768\70\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u0769"+
-    "\10\6\1\5\1\0\26\6\1\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\1\u044e\5\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\26\6\1\0\1\5\5\6\1\u076a\1\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\16\6\1\5\1\0\26\6\1\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\7\6\1\u076b\16\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\5\6\1\u0576\10\6"+
-    "\1\5\1\0\26\6\35\0\1\u076c\161\0\1\u055a\45\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\1\0\1\u076d\6\6\15\0"+
-    "\16\6\1\5\1\0\26\6\66\0\1\u076e\130\0\1\u076f"+
-    "\45\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\3\6\1\u0770"+
-    "\2\6\15\0\16\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\1\0\1\u0771\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\1\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\1\0\1\u0772\6\6\15\0\16\6\1\5\1\0\26\6"+
-    "\1\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\6\6\15\0"+
-    "\6\6\1\u0773\7\6\1\5\1\0\26\6\45\0\1\u0774"+
-    "\152\0\1\u0775\150\0\1\u0619\61\0\1\u0619\75\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u0776"+
-    "\10\6\1\5\1\0\26\6\44\0\1\u0777\66\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\5\6\1\u0778"+
-    "\10\6\1\5\1\0\26\6\41\0\1\u0779\71\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\1\u0390\5\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\36\0\1\u031f\52\0\1\u077a\21\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\1\6\1\u077b\4\6"+
-    "\15\0\16\6\1\5\1\0\26\6\1\0\1\5\7\6"+
-    "\2\0\1\125\4\6\1\0\1\6\1\0\1\5\2\6"+
-    "\3\0\6\6\2\0\6\6\15\0\16\6\1\5\1\0"+
-    "\1\6\1\u0136\24\6\42\0\1\u077c\134\0\1\u0619\155\0"+
-    "\1\u077d\104\0\1\u077e\66\0\1\5\7\6\2\0\1\125"+
-    "\4\6\1\0\1\6\1\0\1\5\2\6\3\0\6\6"+
-    "\2\0\6\6\15\0\2\6\1\u054f\13\6\1\5\1\0"+
-    "\26\6\1\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\1\u077f\15\6\1\5\1\0\26\6\1\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\1\6\1\u0780"+
-    "\14\6\1\5\1\0\26\6\71\0\1\u0781\162\0\1\u0782"+
-    "\52\0\1\u0783\133\0\1\u0784\65\0\1\5\7\6\2\0"+
-    "\1\125\2\6\1\u0785\1\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\2\0\6\6\15\0\16\6\1\5"+
-    "\1\0\26\6\76\0\1\u0786\156\0\1\u0787\7\0\1\5"+
-    "\7\6\2\0\1\125\4\6\1\0\1\6\1\0\1\5"+
-    "\2\6\3\0\6\6\1\0\1\u0788\6\6\15\0\16\6"+
-    "\1\5\1\0\26\6\65\0\1\u0789\106\0\1\u078a\70\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\16\6"+
-    "\1\5\1\0\20\6\1\u078b\5\6\45\0\1\u078c\65\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\6\6\15\0\1\6"+
-    "\1\u078d\14\6\1\5\1\0\26\6\42\0\1\u078e\161\0"+
-    "\1\u078f\40\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\5\6"+
-    "\1\u0395\15\0\16\6\1\5\1\0\26\6\44\0\1\u0790"+
-    "\126\0\1\u0791\156\0\1\u0792\44\0\1\5\7\6\2\0"+
-    "\1\125\4\6\1\0\1\6\1\0\1\5\2\6\3\0"+
-    "\6\6\2\0\3\6\1\u0793\2\6\15\0\16\6\1\5"+
-    "\1\0\26\6\1\0\1\5\7\6\2\0\1\125\4\6"+
-    "\1\0\1\6\1\0\1\5\2\6\3\0\6\6\2\0"+
-    "\6\6\15\0\5\6\1\u0622\10\6\1\5\1\0\26\6"+
-    "\42\0\1\u0794\106\0\1\u0795\202\0\1\u0796\106\0\1\u0604"+
-    "\65\0\1\5\7\6\2\0\1\125\4\6\1\0\1\6"+
-    "\1\0\1\5\2\6\3\0\6\6\2\0\1\u054f\5\6"+
-    "\15\0\16\6\1\5\1\0\26\6\71\0\1\u0797\103\0"+
-    "\1\u0798\201\0\1\u0799\104\0\1\u079a\134\0\1\u079b\41\0"+
-    "\1\5\7\6\2\0\1\125\4\6\1\0\1\6\1\0"+
-    "\1\5\2\6\3\0\6\6\2\0\2\6\1\u079c\3\6"+
-    "\15\0\16\6\1\5\1\0\26\6\31\0\1\u079d\101\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u079e\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\65\0\1\u079f\136\0"+
-    "\1\u07a0\131\0\1\u0619\130\0\1\u07a1\101\0\1\u07a2\71\0"+
-    "\1\5\7\6\2\0\1\125\2\6\1\u02a9\1\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\26\6\43\0\1\u07a3\117\0"+
-    "\1\u06fb\43\0\1\u06fc\13\0\1\u06fd\61\0\1\u07a4\135\0"+
-    "\1\u07a5\125\0\1\u07a6\104\0\1\u0798\216\0\1\u055a\120\0"+
-    "\1\u06e7\42\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\1\6"+
-    "\1\u03c6\4\6\15\0\16\6\1\5\1\0\26\6\44\0"+
-    "\1\u07a7\66\0\1\5\7\6\2\0\1\125\4\6\1\0"+
-    "\1\6\1\0\1\5\2\6\3\0\6\6\2\0\6\6"+
-    "\15\0\16\6\1\5\1\0\14\6\1\u03b3\11\6\45\0"+
-    "\1\u055a\100\0\1\u07a8\211\0\1\u0619\66\0\1\u07a9\43\0"+
-    "\1\u07aa\12\0\1\u07ab\1\u07ac\106\0\1\u07ad\134\0\1\u07ae"+
-    "\101\0\1\u07af\166\0\1\u07b0\126\0\1\u07b1\77\0\1\u07b2"+
-    "\155\0\1\u07b3\131\0\1\u07b4\134\0\1\u07b5\57\0\1\u07b6"+
-    "\154\0\1\u07b7\155\0\1\u07b8\107\0\1\u07b9\157\0\1\u07ba"+
-    "\125\0\1\u07bb\110\0\1\u07bc\103\0\1\u07bd\127\0\1\u07be"+
-    "\162\0\1\u07bf\125\0\1\u07c0\130\0\1\u07c1\107\0\1\u07c2"+
-    "\155\0\1\u06d7\132\0\1\u07c3\102\0\1\u07c4\150\0\1\u07c5"+
-    "\203\0\1\u07c0\57\0\1\u07c6\167\0\1\u07c7\150\0\1\u07ab"+
-    "\137\0\1\u07c8\127\0\1\u07c9\62\0\1\u07ca\125\0\1\u07cb"+
-    "\135\0\1\u07cc\131\0\1\u07cd\125\0\1\u07ce\163\0\1\u07cf"+
-    "\102\0\1\u07d0\122\0\1\u055a\172\0\1\u07d1\76\0\1\u0268"+
-    "\131\0\1\u07c0\131\0\1\u07d2\156\0\1\u0619\57\0\1\u07d3"+
-    "\200\0\1\u07d4\106\0\1\u07d5\124\0\1\u0784\136\0\1\u07d6"+
-    "\133\0\1\u07d7\157\0\1\u055a\100\0\1\u07d8\155\0\1\u0656"+
-    "\45\0";
-
-  private static int [] zzUnpackTrans() {
-    int [] result = new int[177390];
-    int offset = 0;
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_0, offset, result);
-    offset = zzUnpackTrans(ZZ_TRANS_PACKED_1, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackTrans(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      value--;
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
-
   /* error codes */
   private static final int ZZ_UNKNOWN_ERROR = 0;
   private static final int ZZ_NO_MATCH = 1;
@@ -5006,69 +107,6 @@ public class KotlinTokenMaker extends AbstractJFlexCTokenMaker {
     "Error: pushback value was too large"
   };
 
-  /**
-   * ZZ_ATTRIBUTE[aState] contains the attributes of state <code>aState</code>
-   */
-  private static final int [] ZZ_ATTRIBUTE = zzUnpackAttribute();
-
-  private static final String ZZ_ATTRIBUTE_PACKED_0 =
-    "\4\0\6\1\1\11\3\1\1\11\20\1\2\11\4\1"+
-    "\1\11\33\1\1\11\5\1\1\11\10\1\1\11\25\1"+
-    "\1\11\1\0\11\1\2\11\42\1\1\0\1\1\1\0"+
-    "\120\1\2\0\1\11\4\0\1\11\2\0\1\11\17\0"+
-    "\3\1\1\0\15\1\1\11\13\1\1\11\43\1\1\11"+
-    "\162\1\35\0\22\1\1\11\201\1\1\0\21\1\2\0"+
-    "\1\1\2\0\1\1\7\0\1\11\15\0\36\1\1\0"+
-    "\153\1\1\0\21\1\31\0\34\1\1\0\141\1\1\0"+
-    "\20\1\16\0\15\1\1\0\4\1\1\0\3\1\1\0"+
-    "\72\1\1\0\26\1\1\0\7\1\1\0\23\1\2\0"+
-    "\1\1\5\0\13\1\4\0\4\1\2\0\3\1\1\0"+
-    "\23\1\1\0\33\1\1\0\34\1\2\0\5\1\1\0"+
-    "\23\1\10\0\11\1\4\0\3\1\1\0\3\1\1\0"+
-    "\20\1\1\0\31\1\1\0\31\1\2\0\4\1\1\11"+
-    "\24\1\4\0\4\1\1\0\3\1\4\0\1\1\1\0"+
-    "\2\1\1\0\6\1\1\0\5\1\1\0\26\1\1\0"+
-    "\27\1\2\0\26\1\3\0\3\1\2\0\1\1\4\0"+
-    "\2\1\1\0\5\1\1\0\2\1\1\0\24\1\1\0"+
-    "\23\1\2\0\20\1\2\0\2\1\2\0\1\1\3\0"+
-    "\1\1\1\0\5\1\1\0\2\1\1\0\5\1\1\0"+
-    "\10\1\1\0\5\1\1\0\2\1\1\0\17\1\1\0"+
-    "\2\1\1\0\16\1\2\0\1\1\2\0\5\1\1\0"+
-    "\2\1\1\0\5\1\1\0\6\1\1\0\2\1\2\0"+
-    "\15\1\1\0\1\1\1\0\14\1\2\0\1\1\2\0"+
-    "\5\1\1\0\1\1\1\0\2\1\1\0\5\1\1\0"+
-    "\2\1\2\0\12\1\1\0\1\1\1\0\1\1\1\0"+
-    "\12\1\2\0\1\1\2\0\5\1\1\0\1\1\1\0"+
-    "\1\1\1\0\4\1\1\0\1\1\5\0\10\1\2\0"+
-    "\1\1\2\0\11\1\1\0\1\1\2\0\3\1\1\0"+
-    "\1\1\1\0\1\1\1\0\4\1\5\0\7\1\2\0"+
-    "\1\1\2\0\4\1\3\0\1\1\1\0\1\1\1\0"+
-    "\1\1\1\0\2\1\5\0\5\1\2\0\1\1\2\0"+
-    "\4\1\4\0\1\1\1\0\1\1\1\0\1\1\1\0"+
-    "\2\1\4\0\3\1\4\0\1\1\2\0\1\1\2\0"+
-    "\1\1\1\0\1\1\2\0\1\1\3\0\2\1\4\0"+
-    "\1\1\5\0\1\1\1\0\1\1\5\0\1\1\10\0"+
-    "\1\1\1\0\1\1\30\0\1\1\41\0";
-
-  private static int [] zzUnpackAttribute() {
-    int [] result = new int[2008];
-    int offset = 0;
-    offset = zzUnpackAttribute(ZZ_ATTRIBUTE_PACKED_0, offset, result);
-    return result;
-  }
-
-  private static int zzUnpackAttribute(String packed, int offset, int [] result) {
-    int i = 0;       /* index in packed string  */
-    int j = offset;  /* index in unpacked array */
-    int l = packed.length();
-    while (i < l) {
-      int count = packed.charAt(i++);
-      int value = packed.charAt(i++);
-      do result[j++] = value; while (--count > 0);
-    }
-    return j;
-  }
-
   /** the input device */
   private java.io.Reader zzReader;
 
@@ -5275,24 +313,6 @@ public class KotlinTokenMaker extends AbstractJFlexCTokenMaker {
     this(new java.io.InputStreamReader(in));
   }
 
-  /**
-   * Unpacks the compressed character translation table.
-   *
-   * @param packed   the packed character translation table
-   * @return         the unpacked character translation table
-   */
-  private static char [] zzUnpackCMap(String packed) {
-    char [] map = new char[0x10000];
-    int i = 0;  /* index in packed string  */
-    int j = 0;  /* index in unpacked array */
-    while (i < 2312) {
-      int  count = packed.charAt(i++);
-      char value = packed.charAt(i++);
-      do map[j++] = value; while (--count > 0);
-    }
-    return map;
-  }
-
 
   /**
    * Closes the input stream.
@@ -5415,11 +435,11 @@ public class KotlinTokenMaker extends AbstractJFlexCTokenMaker {
     int zzMarkedPosL;
     int zzEndReadL = zzEndRead;
     char [] zzBufferL = zzBuffer;
-    char [] zzCMapL = ZZ_CMAP;
+    char [] zzCMapL = Tables.ZZ_CMAP;
 
-    int [] zzTransL = ZZ_TRANS;
-    int [] zzRowMapL = ZZ_ROWMAP;
-    int [] zzAttrL = ZZ_ATTRIBUTE;
+    short [] zzTransL = Tables.ZZ_TRANS;
+    int [] zzRowMapL = Tables.ZZ_ROWMAP;
+    int [] zzAttrL = Tables.ZZ_ATTRIBUTE;
 
     while (true) {
       zzMarkedPosL = zzMarkedPos;
@@ -5475,7 +495,7 @@ public class KotlinTokenMaker extends AbstractJFlexCTokenMaker {
       // store back cached position
       zzMarkedPos = zzMarkedPosL;
 
-      switch (zzAction < 0 ? zzAction : ZZ_ACTION[zzAction]) {
+      switch (zzAction < 0 ? zzAction : Tables.ZZ_ACTION[zzAction]) {
         case 2:
           { addToken(TokenTypes.IDENTIFIER);
           }
@@ -1091,6 +1091,19 @@ public class MarkdownTokenMaker extends AbstractMarkupTokenMaker {
 	}
 
 
+	/**
+	 * Overridden to return <code>false</code>, since some constructs are
+	 * only recognized when preceded by nothing but whitespace on the line,
+	 * which requires examining the tokens already found.
+	 *
+	 * @return <code>false</code> always.
+	 */
+	@Override
+	protected boolean getSupportsStateOnlyScanning() {
+		return false;
+	}
+
+
 	/**
 	 * Returns the first token in the linked list of tokens generated
 	 * from <code>text</code>.  This method must be implemented by
@@ -104,13 +104,11 @@ public class XmlParser extends AbstractParser {
 			return result;
 		}
 
-		try {
+		try (DocumentReader r = new DocumentReader(doc)) {
 			SAXParser sp = spf.newSAXParser();
 			Handler handler = new Handler(doc);
-			DocumentReader r = new DocumentReader(doc);
 			InputSource input = new InputSource(r);
 			sp.parse(input, handler);
-			r.close();
 		} catch (SAXParseException spe) {
 			// A fatal parse error - ignore; a ParserNotice was already created.
 		} catch (Exception e) {
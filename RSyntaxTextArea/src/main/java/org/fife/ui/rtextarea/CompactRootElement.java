@@ -0,0 +1,932 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.Segment;
+import javax.swing.tree.TreeNode;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.UndoableEdit;
+
+
+/**
+ * A root element for documents with many lines.  A <code>PlainDocument</code>
+ * creates an element, and two <code>Position</code>s, for every line of
+ * text, which adds up to a lot of memory for files with millions of lines.
+ * This root element instead stores the start offsets of its lines in an
+ * <code>int</code> array, and only creates line elements when they are
+ * asked for.<p>
+ *
+ * The line starts are stored in a gap buffer, and the offsets after the gap
+ * are stored relative to the end of the document.  Thus, inserting or
+ * removing text only has to update the lines between it and the previous
+ * edit, and lines are found with a binary search.<p>
+ *
+ * Line elements handed out remember where in the array their line is, so
+ * they stay up to date until their line is removed, just like those created
+ * by <code>PlainDocument</code>.  They are only weakly referenced by this
+ * class, so lines that are no longer used by anyone don't take up any memory
+ * beyond their start offsets.<p>
+ *
+ * The owning document calls {@link #inserted(int, int)} before, and
+ * {@link #removed(int, int)} after, updating the lines for an edit.  It
+ * updates the lines with {@link #updateLinesForInsert(int, int)} and
+ * {@link #updateLinesForRemove(int, int)}, which change the line starts
+ * directly and report an element change that only creates elements for the
+ * lines a listener asks for.  This class also extends
+ * <code>BranchElement</code>, so that <code>PlainDocument</code> can compute
+ * the element changes as usual for the rare edits that need it, such as
+ * input method composed text.<p>
+ *
+ * Instances aren't serialized; a deserialized document creates a new one
+ * from its content.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see RDocument#RDocument(RDocumentContent, boolean)
+ */
+final class CompactRootElement extends AbstractDocument.BranchElement {
+
+	private final transient AbstractDocument doc;
+
+	/**
+	 * The start offsets of all lines.  Values after the gap are relative
+	 * to <code>length</code>.
+	 */
+	private transient int[] starts;
+
+	/**
+	 * The elements handed out for each line, parallel to
+	 * <code>starts</code>.  Each value is either <code>null</code>, a
+	 * <code>SlotRef</code> to a <code>LineElement</code>, or, in rare cases
+	 * such as input method composed text, some other element.
+	 */
+	private transient Object[] elements;
+
+	private int gapStart;
+	private int gapEnd;
+
+	/**
+	 * The length of the document, as of the last edit this element was told
+	 * about.
+	 */
+	private int length;
+
+	/**
+	 * Receives references to line elements that were garbage collected.
+	 */
+	private final transient ReferenceQueue<LineElement> queue;
+
+
+	/**
+	 * Constructor.  The lines are initialized from the document's content,
+	 * or, if it is a {@link MappedFileContent}, the line starts it found.
+	 *
+	 * @param doc The document.
+	 * @param content The document's content.
+	 */
+	CompactRootElement(AbstractDocument doc, AbstractDocument.Content content) {
+
+		doc.super(null, null);
+		this.doc = doc;
+		queue = new ReferenceQueue<>();
+		length = content.length();
+
+		// A mapped file found its lines while it was scanned
+		if (content instanceof MappedFileContent) {
+			MappedFileContent mfc = (MappedFileContent)content;
+			int count = mfc.getLineCount();
+			int[] lineStarts = mfc.takeLineStarts();
+			if (lineStarts!=null) {
+				starts = lineStarts.length>count ? lineStarts :
+						Arrays.copyOf(lineStarts, count + 16);
+				elements = new Object[starts.length];
+				gapStart = count;
+				gapEnd = starts.length;
+				return;
+			}
+		}
+
+		starts = new int[16];
+		elements = new Object[16];
+		gapEnd = starts.length;
+
+		// The first line always starts at 0.  The trailing newline never
+		// starts a new line.
+		starts[gapStart++] = 0;
+		Segment s = new Segment();
+		s.setPartialReturn(true);
+		int offs = 0;
+		try {
+			while (offs<length - 1) {
+				content.getChars(offs, length - 1 - offs, s);
+				for (int i=0; i<s.count; i++) {
+					if (s.array[s.offset + i]=='\n') {
+						ensureGap(1);
+						starts[gapStart++] = offs + i + 1;
+					}
+				}
+				offs += s.count;
+			}
+		} catch (BadLocationException ble) { // Never happens
+			throw new InternalError(ble.toString());
+		}
+
+	}
+
+
+	/**
+	 * Attaches a line element to a slot in the arrays.
+	 *
+	 * @param slot The physical slot.
+	 * @param elem The element.
+	 */
+	private void attach(int slot, Element elem) {
+		if (elem instanceof LineElement) {
+			LineElement line = (LineElement)elem;
+			line.ref = new SlotRef(line, slot, queue);
+			elements[slot] = line.ref;
+		}
+		else {
+			elements[slot] = elem;
+		}
+	}
+
+
+	@Override
+	public Enumeration<TreeNode> children() {
+		int count = getElementCount();
+		List<TreeNode> nodes = new ArrayList<>(count);
+		for (int i=0; i<count; i++) {
+			nodes.add((TreeNode)getElement(i));
+		}
+		return Collections.enumeration(nodes);
+	}
+
+
+	/**
+	 * Creates a line element to add to this root.
+	 *
+	 * @param p0 The start offset of the line.
+	 * @param p1 The end offset of the line.
+	 * @return The line element.
+	 */
+	Element createLineElement(int p0, int p1) {
+		LineElement line = new LineElement(doc, this);
+		line.start = p0;
+		line.end = p1;
+		return line;
+	}
+
+
+	/**
+	 * Detaches the line element, if any, in a slot, freezing its offsets
+	 * at their current values.  This should be called before the line is
+	 * removed.
+	 *
+	 * @param slot The physical slot.
+	 */
+	private void detach(int slot) {
+		Object value = elements[slot];
+		if (value instanceof SlotRef) {
+			SlotRef ref = (SlotRef)value;
+			LineElement line = ref.get();
+			if (line!=null) {
+				int index = toIndex(slot);
+				line.start = getLineStart(index);
+				line.end = getLineEnd(index);
+				line.ref = null;
+			}
+			ref.clear();
+		}
+		elements[slot] = null;
+	}
+
+
+	/**
+	 * Ensures the gap is at least a certain size.
+	 *
+	 * @param size The minimum size of the gap.
+	 */
+	private void ensureGap(int size) {
+		if (gapEnd - gapStart<size) {
+			int afterGap = starts.length - gapEnd;
+			int newLength = Math.max(starts.length + (starts.length>>1),
+					gapStart + afterGap + size + 16);
+			int[] newStarts = new int[newLength];
+			Object[] newElements = new Object[newLength];
+			System.arraycopy(starts,0, newStarts,0, gapStart);
+			System.arraycopy(elements,0, newElements,0, gapStart);
+			int newGapEnd = newLength - afterGap;
+			System.arraycopy(starts,gapEnd, newStarts,newGapEnd, afterGap);
+			System.arraycopy(elements,gapEnd, newElements,newGapEnd, afterGap);
+			starts = newStarts;
+			elements = newElements;
+			updateSlots(newGapEnd, newLength, newGapEnd - gapEnd);
+			gapEnd = newGapEnd;
+		}
+	}
+
+
+	/**
+	 * Returns the element, if any, attached to a slot.
+	 *
+	 * @param slot The physical slot.
+	 * @return The element, or <code>null</code> if none has been handed out
+	 *         or it was garbage collected.
+	 */
+	private Element getAttached(int slot) {
+		Object value = elements[slot];
+		if (value instanceof SlotRef) {
+			return ((SlotRef)value).get();
+		}
+		return (Element)value;
+	}
+
+
+	/**
+	 * Returns the index of the first line starting at or after an offset.
+	 *
+	 * @param offset The offset.
+	 * @return The line index, which may be the line count if there is no
+	 *         such line.
+	 */
+	private int getFirstLineAtOrAfter(int offset) {
+		int low = 0;
+		int high = getElementCount();
+		while (low<high) {
+			int mid = (low + high) >>> 1;
+			if (getLineStart(mid)<offset) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	@Override
+	public Element getElement(int index) {
+
+		if (index<0 || index>=getElementCount()) {
+			return null;
+		}
+		removeUnusedRefs();
+
+		int slot = toSlot(index);
+		Object value = elements[slot];
+		if (value instanceof SlotRef) {
+			LineElement line = ((SlotRef)value).get();
+			if (line!=null) {
+				return line;
+			}
+		}
+		else if (value!=null) {
+			return (Element)value;
+		}
+
+		LineElement line = new LineElement(doc, this);
+		attach(slot, line);
+		return line;
+
+	}
+
+
+	@Override
+	public int getElementCount() {
+		return starts.length - (gapEnd - gapStart);
+	}
+
+
+	@Override
+	public int getElementIndex(int offset) {
+		int count = getElementCount();
+		if (offset>=length) {
+			return count - 1;
+		}
+		// The line before the first one starting after the offset
+		return Math.max(0, getFirstLineAtOrAfter(offset + 1) - 1);
+	}
+
+
+	@Override
+	public int getEndOffset() {
+		return length;
+	}
+
+
+	/**
+	 * Returns the end offset of a line.
+	 *
+	 * @param index The line index.
+	 * @return The end offset.
+	 */
+	private int getLineEnd(int index) {
+		return index<getElementCount() - 1 ? getLineStart(index + 1) : length;
+	}
+
+
+	/**
+	 * Returns the start offset of a line.
+	 *
+	 * @param index The line index.
+	 * @return The start offset.
+	 */
+	private int getLineStart(int index) {
+		return index<gapStart ? starts[index] :
+				starts[index + gapEnd - gapStart] + length;
+	}
+
+
+	@Override
+	public int getStartOffset() {
+		return 0;
+	}
+
+
+	/**
+	 * Updates this element for text being inserted.  This should be called
+	 * after the text is inserted, but before the lines are updated, and
+	 * moves lines just as <code>Position</code>s would.
+	 *
+	 * @param offset The offset of the inserted text.
+	 * @param len The length of the inserted text.
+	 * @return An edit that undoes this update.
+	 */
+	UndoableEdit inserted(int offset, int len) {
+		// Positions at offset 0 never move
+		ShiftEdit edit = new ShiftEdit(Math.max(offset, 1), len);
+		edit.shift(len);
+		return edit;
+	}
+
+
+	/**
+	 * Moves the gap so it starts at a line.
+	 *
+	 * @param index The line index.
+	 */
+	private void moveGap(int index) {
+		if (index<gapStart) {
+			int count = gapStart - index;
+			int newGapEnd = gapEnd - count;
+			for (int i=index; i<gapStart; i++) {
+				starts[i] -= length;
+			}
+			System.arraycopy(starts,index, starts,newGapEnd, count);
+			System.arraycopy(elements,index, elements,newGapEnd, count);
+			updateSlots(newGapEnd, gapEnd, newGapEnd - index);
+			Arrays.fill(elements, index, Math.min(gapStart, newGapEnd), null);
+			gapStart = index;
+			gapEnd = newGapEnd;
+		}
+		else if (index>gapStart) {
+			int count = index - gapStart;
+			int newGapEnd = gapEnd + count;
+			for (int i=gapEnd; i<newGapEnd; i++) {
+				starts[i] += length;
+			}
+			System.arraycopy(starts,gapEnd, starts,gapStart, count);
+			System.arraycopy(elements,gapEnd, elements,gapStart, count);
+			updateSlots(gapStart, index, gapStart - gapEnd);
+			Arrays.fill(elements, Math.max(index, gapEnd), newGapEnd, null);
+			gapStart = index;
+			gapEnd = newGapEnd;
+		}
+	}
+
+
+	@Override
+	public Element positionToElement(int pos) {
+		Element line = getElement(getElementIndex(pos));
+		return pos>=line.getStartOffset() && pos<line.getEndOffset() ?
+				line : null;
+	}
+
+
+	/**
+	 * Updates this element for text being removed.  This should be called
+	 * after the lines are updated, but before the text is removed, and moves
+	 * lines just as <code>Position</code>s would.
+	 *
+	 * @param offset The offset of the removed text.
+	 * @param len The length of the removed text.
+	 * @return An edit that undoes this update.
+	 */
+	UndoableEdit removed(int offset, int len) {
+		ShiftEdit edit = new ShiftEdit(offset + 1, -len);
+		edit.shift(-len);
+		return edit;
+	}
+
+
+	/**
+	 * Clears the slots of line elements that were garbage collected.
+	 */
+	private void removeUnusedRefs() {
+		SlotRef ref;
+		while ((ref = (SlotRef)queue.poll())!=null) {
+			if (ref.slot>-1 && elements[ref.slot]==ref) {
+				elements[ref.slot] = null;
+			}
+		}
+	}
+
+
+	@Override
+	public void replace(int index, int count, Element[] elems) {
+
+		removeUnusedRefs();
+		moveGap(index);
+
+		// Detach everything first, while line ends can still be computed
+		for (int i=0; i<count; i++) {
+			detach(gapEnd + i);
+		}
+		gapEnd += count;
+
+		ensureGap(elems.length);
+		for (Element elem : elems) {
+			starts[gapStart] = elem.getStartOffset();
+			attach(gapStart, elem);
+			gapStart++;
+		}
+
+	}
+
+
+	/**
+	 * Replaces lines with others.
+	 *
+	 * @param index The index of the first line to replace.
+	 * @param count The number of lines to replace.
+	 * @param newLines The lines to add.  Any elements they hold are attached,
+	 *        so they are kept up to date again.
+	 * @return The lines that were removed, holding any of their elements
+	 *         that were handed out.
+	 */
+	private Lines replaceLines(int index, int count, Lines newLines) {
+
+		removeUnusedRefs();
+		moveGap(index);
+
+		// Remember the lines while their offsets can still be computed
+		int[] oldStarts = new int[count];
+		int end = count>0 ? getLineEnd(index + count - 1) : 0;
+		Element[] held = null;
+		for (int i=0; i<count; i++) {
+			oldStarts[i] = starts[gapEnd + i] + length;
+			Element elem = getAttached(gapEnd + i);
+			if (elem!=null) {
+				if (held==null) {
+					held = new Element[count];
+				}
+				held[i] = elem;
+			}
+			detach(gapEnd + i);
+		}
+		gapEnd += count;
+
+		int newCount = newLines.starts.length;
+		ensureGap(newCount);
+		for (int i=0; i<newCount; i++) {
+			starts[gapStart] = newLines.starts[i];
+			Element elem = newLines.held!=null ? newLines.held[i] : null;
+			if (elem!=null) {
+				attach(gapStart, elem);
+			}
+			gapStart++;
+		}
+
+		return new Lines(oldStarts, end, held);
+
+	}
+
+
+	/**
+	 * Converts a physical slot into a line index.
+	 *
+	 * @param slot The slot.
+	 * @return The line index.
+	 */
+	private int toIndex(int slot) {
+		return slot<gapStart ? slot : slot - (gapEnd - gapStart);
+	}
+
+
+	/**
+	 * Converts a line index into a physical slot.
+	 *
+	 * @param index The line index.
+	 * @return The slot.
+	 */
+	private int toSlot(int index) {
+		return index<gapStart ? index : index + gapEnd - gapStart;
+	}
+
+
+	@Override
+	public String toString() {
+		return "BranchElement(" + getName() + ") " + getStartOffset() + "," +
+				getEndOffset() + "\n";
+	}
+
+
+	/**
+	 * Updates the lines for text being inserted, the way
+	 * <code>PlainDocument.insertUpdate()</code> does, but without creating
+	 * elements for the new lines.  This should be called after
+	 * {@link #inserted(int, int)}.
+	 *
+	 * @param offset The offset of the inserted text.
+	 * @param len The length of the inserted text.
+	 * @return The change to the lines, or <code>null</code> if no lines were
+	 *         added.
+	 * @throws BadLocationException If the text can't be read.
+	 */
+	UndoableEdit updateLinesForInsert(int offset, int len)
+			throws BadLocationException {
+
+		// A newline just before the text may end a line, too
+		if (offset>0) {
+			offset--;
+			len++;
+		}
+
+		int index = getElementIndex(offset);
+		int lineStart = getLineStart(index);
+		int lineEnd = getLineEnd(index);
+
+		// The new lines start at the line being split, then after each
+		// newline inserted
+		int[] newStarts = new int[16];
+		newStarts[0] = lineStart;
+		int newCount = 1;
+		Segment s = new Segment();
+		s.setPartialReturn(true);
+		for (int offs=offset; offs<offset+len; offs+=s.count) {
+			doc.getText(offs, offset + len - offs, s);
+			for (int i=0; i<s.count; i++) {
+				if (s.array[s.offset + i]=='\n') {
+					if (newCount==newStarts.length) {
+						newStarts = Arrays.copyOf(newStarts, newCount * 2);
+					}
+					newStarts[newCount++] = offs + i + 1;
+				}
+			}
+		}
+		if (newCount==1) {
+			return null;
+		}
+
+		// If the last newline ends the line, the line after it is merged
+		// into the new lines, as PlainDocument does
+		int lastBreak = newStarts[newCount - 1];
+		int removeCount = 1;
+		if (offset+len==lineEnd && lastBreak!=lineEnd &&
+				index+1<getElementCount()) {
+			removeCount = 2;
+			lineEnd = getLineEnd(index + 1);
+		}
+		if (lastBreak>=lineEnd) {
+			newCount--;
+		}
+
+		return new LineChange(index, removeCount,
+				Arrays.copyOf(newStarts, newCount));
+
+	}
+
+
+	/**
+	 * Updates the lines for text being removed, the way
+	 * <code>PlainDocument.removeUpdate()</code> does.  This should be called
+	 * before {@link #removed(int, int)}.
+	 *
+	 * @param offset The offset of the removed text.
+	 * @param len The length of the removed text.
+	 * @return The change to the lines, or <code>null</code> if no lines were
+	 *         removed.
+	 */
+	UndoableEdit updateLinesForRemove(int offset, int len) {
+		int line0 = getElementIndex(offset);
+		int line1 = getElementIndex(offset + len);
+		if (line0==line1) {
+			return null;
+		}
+		return new LineChange(line0, line1 - line0 + 1,
+				new int[] { getLineStart(line0) });
+	}
+
+
+	/**
+	 * Updates the slots remembered by line elements after they are moved
+	 * in the arrays.
+	 *
+	 * @param from The first new slot, inclusive.
+	 * @param to The last new slot, exclusive.
+	 * @param delta The amount the slots moved by.
+	 */
+	private void updateSlots(int from, int to, int delta) {
+		for (int i=from; i<to; i++) {
+			if (elements[i] instanceof SlotRef) {
+				((SlotRef)elements[i]).slot += delta;
+			}
+		}
+	}
+
+
+	/**
+	 * A line in the document.  While it's in the document, its offsets are
+	 * looked up in the root element; once it's removed, they are frozen.
+	 */
+	private static final class LineElement extends AbstractDocument.AbstractElement {
+
+		private final transient CompactRootElement root;
+		private transient SlotRef ref;
+		private int start;
+		private int end;
+
+		LineElement(AbstractDocument doc, CompactRootElement root) {
+			doc.super(root, null);
+			this.root = root;
+		}
+
+		@Override
+		public Enumeration<TreeNode> children() {
+			return Collections.emptyEnumeration();
+		}
+
+		@Override
+		public boolean getAllowsChildren() {
+			return false;
+		}
+
+		@Override
+		public Element getElement(int index) {
+			return null;
+		}
+
+		@Override
+		public int getElementCount() {
+			return 0;
+		}
+
+		@Override
+		public int getElementIndex(int pos) {
+			return -1;
+		}
+
+		@Override
+		public int getEndOffset() {
+			SlotRef r = ref;
+			return r!=null ? root.getLineEnd(root.toIndex(r.slot)) : end;
+		}
+
+		@Override
+		public String getName() {
+			String name = super.getName();
+			return name!=null ? name : AbstractDocument.ContentElementName;
+		}
+
+		@Override
+		public int getStartOffset() {
+			SlotRef r = ref;
+			return r!=null ? root.getLineStart(root.toIndex(r.slot)) : start;
+		}
+
+		@Override
+		public boolean isLeaf() {
+			return true;
+		}
+
+		@Override
+		public String toString() {
+			return "LeafElement(" + getName() + ") " + getStartOffset() + "," +
+					getEndOffset() + "\n";
+		}
+
+	}
+
+
+	/**
+	 * A change to the lines that only creates elements for the lines a
+	 * listener asks for.  Undoing or redoing it swaps the added and removed
+	 * lines, reattaching any elements handed out for the lines coming back,
+	 * just like <code>ElementEdit</code> does.
+	 */
+	final class LineChange extends AbstractUndoableEdit
+			implements DocumentEvent.ElementChange {
+
+		private final int index;
+		private int addedCount;
+
+		/**
+		 * The lines that were removed.  The added lines are in the root.
+		 */
+		private Lines removedLines;
+
+		private Element[] added;
+		private Element[] removed;
+
+		/**
+		 * Constructor.  This replaces the lines.
+		 *
+		 * @param index The index of the first line to replace.
+		 * @param removeCount The number of lines to replace.
+		 * @param newStarts The start offsets of the new lines.
+		 */
+		LineChange(int index, int removeCount, int[] newStarts) {
+			this.index = index;
+			addedCount = newStarts.length;
+			removedLines = replaceLines(index, removeCount,
+					new Lines(newStarts, 0, null));
+		}
+
+		/**
+		 * Returns the number of lines added, without creating elements for
+		 * them.
+		 *
+		 * @return The number of lines added.
+		 */
+		int getAddedCount() {
+			return addedCount;
+		}
+
+		@Override
+		public Element[] getChildrenAdded() {
+			if (added==null) {
+				added = new Element[addedCount];
+				for (int i=0; i<addedCount; i++) {
+					added[i] = CompactRootElement.this.getElement(index + i);
+				}
+			}
+			return added;
+		}
+
+		@Override
+		public Element[] getChildrenRemoved() {
+			if (removed==null) {
+				removed = removedLines.toElements();
+			}
+			return removed;
+		}
+
+		@Override
+		public Element getElement() {
+			return CompactRootElement.this;
+		}
+
+		@Override
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * Returns the number of lines removed, without creating elements for
+		 * them.
+		 *
+		 * @return The number of lines removed.
+		 */
+		int getRemovedCount() {
+			return removedLines.starts.length;
+		}
+
+		@Override
+		public void redo() {
+			super.redo();
+			swap();
+		}
+
+		/**
+		 * Puts the removed lines back in place of the added ones.
+		 */
+		private void swap() {
+			int count = removedLines.starts.length;
+			removedLines = replaceLines(index, addedCount, removedLines);
+			addedCount = count;
+			Element[] temp = added;
+			added = removed;
+			removed = temp;
+		}
+
+		@Override
+		public void undo() {
+			super.undo();
+			swap();
+		}
+
+	}
+
+
+	/**
+	 * Lines that aren't in the root, and the elements, if any, handed out for
+	 * them.
+	 */
+	private final class Lines {
+
+		private final int[] starts;
+		private final int end;
+		private Element[] held;
+
+		Lines(int[] starts, int end, Element[] held) {
+			this.starts = starts;
+			this.end = end;
+			this.held = held;
+		}
+
+		/**
+		 * Returns elements for these lines, creating any that haven't been
+		 * handed out yet.  They're held onto, so they are reattached if
+		 * these lines are put back in the root.
+		 *
+		 * @return The elements.
+		 */
+		Element[] toElements() {
+			if (held==null) {
+				held = new Element[starts.length];
+			}
+			for (int i=0; i<starts.length; i++) {
+				if (held[i]==null) {
+					int lineEnd = i<starts.length-1 ? starts[i+1] : end;
+					held[i] = createLineElement(starts[i], lineEnd);
+				}
+			}
+			return held.clone();
+		}
+
+	}
+
+
+	/**
+	 * Moves the lines after an offset by an amount.  It doesn't implement
+	 * <code>DocumentEvent.ElementChange</code> since the line structure
+	 * itself doesn't change.
+	 */
+	private final class ShiftEdit extends AbstractUndoableEdit {
+
+		private final int offset;
+		private final int delta;
+
+		/**
+		 * Constructor.
+		 *
+		 * @param offset Lines starting at or after this offset are moved.
+		 * @param delta The amount to move them by.
+		 */
+		ShiftEdit(int offset, int delta) {
+			this.offset = offset;
+			this.delta = delta;
+		}
+
+		@Override
+		public void redo() {
+			super.redo();
+			shift(delta);
+		}
+
+		void shift(int amount) {
+			moveGap(getFirstLineAtOrAfter(offset));
+			length += amount;
+		}
+
+		@Override
+		public void undo() {
+			super.undo();
+			shift(-delta);
+		}
+
+	}
+
+
+	/**
+	 * A weak reference to a line element that also remembers its slot in
+	 * the arrays, so it can be cleared once the element is collected.
+	 */
+	private static final class SlotRef extends WeakReference<LineElement> {
+
+		private int slot;
+
+		SlotRef(LineElement line, int slot, ReferenceQueue<LineElement> queue) {
+			super(line, queue);
+			this.slot = slot;
+		}
+
+	}
+
+
+}
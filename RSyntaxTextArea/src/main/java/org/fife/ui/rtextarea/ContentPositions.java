@@ -0,0 +1,374 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import javax.swing.text.Position;
+
+
+/**
+ * Tracks the {@link Position}s handed out by an {@link RDocumentContent}
+ * that doesn't store its text in a gap buffer, keeping them up to date as
+ * text is inserted and removed.  Positions behave exactly like those created
+ * by <code>GapContent</code>:
+ *
+ * <ul>
+ *    <li>A position moves forward when text is inserted at its offset,
+ *        unless it is at offset <code>0</code>.</li>
+ *    <li>A position in a range of removed text moves to the start of that
+ *        range.</li>
+ *    <li>Undoing a removal restores the positions that were in the removed
+ *        range, via {@link #getPositionsInRange(int, int)} and
+ *        {@link #updateUndoPositions(List, int, int)}.</li>
+ * </ul>
+ *
+ * Documents create a couple of positions per line, so there may be millions
+ * of them.  To keep edits cheap, positions are stored sorted, relative to a
+ * "virtual" gap that works just like the gap in <code>GapContent</code>, but
+ * takes up no memory: a position's index is its offset if it is before the
+ * gap, or its offset plus the length of the gap if it is after it.  Thus,
+ * an edit only has to update the positions between it and the previous
+ * edit.  Positions that are no longer referenced are garbage collected and
+ * periodically purged.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+final class ContentPositions {
+
+	/**
+	 * Sorts marks by index.
+	 */
+	private static final Comparator<Mark> INDEX_COMPARATOR =
+			Comparator.comparingLong(m -> m.index);
+
+	/**
+	 * All marks, sorted by index.
+	 */
+	private Mark[] marks;
+	private int size;
+
+	/**
+	 * The offset of the start of the virtual gap.
+	 */
+	private long gapStart;
+
+	/**
+	 * The length of the virtual gap.  This starts out larger than any
+	 * amount of text that could ever be inserted.
+	 */
+	private long gapLength;
+
+	/**
+	 * Receives marks whose positions were garbage collected.
+	 */
+	private ReferenceQueue<StickyPosition> queue;
+	private int unusedCount;
+
+
+	/**
+	 * Constructor.
+	 */
+	ContentPositions() {
+		marks = new Mark[16];
+		gapLength = Long.MAX_VALUE / 2;
+		queue = new ReferenceQueue<>();
+	}
+
+
+	/**
+	 * Creates a position at an offset.  If a position already exists at
+	 * that offset, it is returned instead.
+	 *
+	 * @param offset The offset.
+	 * @return The position.
+	 */
+	Position createPosition(int offset) {
+
+		removeUnusedMarks();
+
+		long index = toIndex(offset);
+		int i = findFirst(index);
+		for (int j=i; j<size && marks[j].index==index; j++) {
+			StickyPosition pos = marks[j].get();
+			if (pos!=null) {
+				return pos;
+			}
+		}
+
+		StickyPosition pos = new StickyPosition();
+		pos.mark = new Mark(pos, index, queue);
+		if (size==marks.length) {
+			marks = Arrays.copyOf(marks, size + (size>>1) + 1);
+		}
+		System.arraycopy(marks,i, marks,i+1, size-i);
+		marks[i] = pos.mark;
+		size++;
+		return pos;
+
+	}
+
+
+	/**
+	 * Returns the index of the first mark whose index is at least a value.
+	 *
+	 * @param index The index to search for.
+	 * @return The index of the mark in <code>marks</code>, which may be
+	 *         <code>size</code> if there is no such mark.
+	 */
+	private int findFirst(long index) {
+		int low = 0;
+		int high = size;
+		while (low<high) {
+			int mid = (low + high) >>> 1;
+			if (marks[mid].index<index) {
+				low = mid + 1;
+			}
+			else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+
+	/**
+	 * Returns the positions in a range, so they can be restored if the text
+	 * in that range is removed and the removal is later undone.
+	 *
+	 * @param offset The start of the range.
+	 * @param length The length of the range.
+	 * @return The positions in the range, inclusive of both ends.
+	 * @see #updateUndoPositions(List, int, int)
+	 */
+	List<UndoPosRef> getPositionsInRange(int offset, int length) {
+		List<UndoPosRef> refs = new ArrayList<>();
+		int end = findFirst(toIndex(offset + length) + 1);
+		for (int i=findFirst(toIndex(offset)); i<end; i++) {
+			Mark mark = marks[i];
+			if (mark.get()!=null) {
+				refs.add(new UndoPosRef(mark, toOffset(mark.index)));
+			}
+		}
+		return refs;
+	}
+
+
+	/**
+	 * Returns the number of marks being tracked, including those whose
+	 * positions were garbage collected but haven't been purged yet.
+	 *
+	 * @return The number of marks.
+	 */
+	int getSize() {
+		return size;
+	}
+
+
+	/**
+	 * Updates positions for text being inserted.  This should be called
+	 * after the text is inserted.
+	 *
+	 * @param offset The offset of the inserted text.
+	 * @param length The length of the inserted text.
+	 */
+	void inserted(int offset, int length) {
+
+		moveGap(offset);
+
+		// Marks at offset 0 never move (the root element depends on this)
+		if (offset==0) {
+			long gapEnd = gapStart + gapLength;
+			for (int i=findFirst(gapEnd); i<size && marks[i].index==gapEnd; i++) {
+				marks[i].index = 0;
+			}
+		}
+
+		gapStart += length;
+		gapLength -= length;
+
+	}
+
+
+	/**
+	 * Moves the virtual gap to a new offset, updating the indices of the
+	 * marks between its old and new locations.
+	 *
+	 * @param offset The new start of the gap.
+	 */
+	private void moveGap(int offset) {
+		if (offset<gapStart) {
+			int end = findFirst(gapStart);
+			for (int i=findFirst(offset); i<end; i++) {
+				marks[i].index += gapLength;
+			}
+		}
+		else if (offset>gapStart) {
+			long gapEnd = gapStart + gapLength;
+			int end = findFirst(offset + gapLength);
+			for (int i=findFirst(gapEnd); i<end; i++) {
+				marks[i].index -= gapLength;
+			}
+		}
+		gapStart = offset;
+	}
+
+
+	/**
+	 * Updates positions for text being removed.  This should be called
+	 * after the text is removed.
+	 *
+	 * @param offset The offset of the removed text.
+	 * @param length The length of the removed text.
+	 */
+	void removed(int offset, int length) {
+
+		moveGap(offset);
+
+		// Positions in the removed range collapse to its start, which is
+		// now the end of the (larger) gap.
+		long gapEnd = gapStart + gapLength;
+		long newGapEnd = gapEnd + length;
+		for (int i=findFirst(gapEnd); i<size && marks[i].index<newGapEnd; i++) {
+			marks[i].index = newGapEnd;
+		}
+
+		gapLength += length;
+
+	}
+
+
+	/**
+	 * Purges marks whose positions have been garbage collected, if there
+	 * are enough of them to be worth it.
+	 */
+	private void removeUnusedMarks() {
+
+		while (queue.poll()!=null) {
+			unusedCount++;
+		}
+
+		if (unusedCount>Math.max(5, size/10)) {
+			int newSize = 0;
+			for (int i=0; i<size; i++) {
+				if (marks[i].get()!=null) {
+					marks[newSize++] = marks[i];
+				}
+			}
+			Arrays.fill(marks, newSize, size, null);
+			size = newSize;
+			unusedCount = 0;
+		}
+
+	}
+
+
+	/**
+	 * Converts an offset into an index.
+	 *
+	 * @param offset The offset.
+	 * @return The index.
+	 */
+	private long toIndex(long offset) {
+		return offset<gapStart ? offset : offset + gapLength;
+	}
+
+
+	/**
+	 * Converts an index into an offset.
+	 *
+	 * @param index The index.
+	 * @return The offset.
+	 */
+	private int toOffset(long index) {
+		return (int)(index<gapStart ? index : index - gapLength);
+	}
+
+
+	/**
+	 * Restores positions that were in a range of text that was removed,
+	 * after that text is re-inserted, e.g. by an undo.
+	 *
+	 * @param refs The positions in the range before it was removed.
+	 * @param offset The offset of the re-inserted text.
+	 * @param length The length of the re-inserted text.
+	 * @see #getPositionsInRange(int, int)
+	 */
+	void updateUndoPositions(List<UndoPosRef> refs, int offset, int length) {
+
+		int endOffset = offset + length;
+		int start = findFirst(toIndex(offset));
+		int end = findFirst(toIndex(endOffset) + 1);
+
+		for (UndoPosRef ref : refs) {
+			ref.mark.index = toIndex(ref.undoLocation);
+		}
+
+		// Positions are restored within the range, so only it needs sorting
+		Arrays.sort(marks, start, end, INDEX_COMPARATOR);
+
+	}
+
+
+	/**
+	 * The internal representation of a position.
+	 */
+	private static final class Mark extends WeakReference<StickyPosition> {
+
+		private long index;
+
+		Mark(StickyPosition pos, long index,
+				ReferenceQueue<StickyPosition> queue) {
+			super(pos, queue);
+			this.index = index;
+		}
+
+	}
+
+
+	/**
+	 * A position handed out to the document.  This references its mark, but
+	 * not vice versa, so it can be garbage collected when the document no
+	 * longer needs it.
+	 */
+	private final class StickyPosition implements Position {
+
+		private Mark mark;
+
+		@Override
+		public int getOffset() {
+			return toOffset(mark.index);
+		}
+
+		@Override
+		public String toString() {
+			return Integer.toString(getOffset());
+		}
+
+	}
+
+
+	/**
+	 * Remembers where a position was before the text around it was removed.
+	 */
+	static final class UndoPosRef {
+
+		private final Mark mark;
+		private final int undoLocation;
+
+		private UndoPosRef(Mark mark, int undoLocation) {
+			this.mark = mark;
+			this.undoLocation = undoLocation;
+		}
+
+	}
+
+
+}
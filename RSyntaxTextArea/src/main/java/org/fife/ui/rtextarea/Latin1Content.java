@@ -0,0 +1,724 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.UndoableEdit;
+
+
+/**
+ * Document content that stores Latin-1 text in half the memory of
+ * <code>GapContent</code>.  To use it, pass an instance to
+ * {@link RDocument#RDocument(RDocumentContent)} (or the equivalent
+ * <code>RSyntaxDocument</code> constructor).<p>
+ *
+ * The text is split into chunks of at most {@link #CHUNK_SIZE} chars.  A
+ * chunk is stored as a <code>byte[]</code> as long as all of its chars are
+ * <code>&lt;= 0xFF</code>, and is transparently inflated to a
+ * <code>char[]</code> when a wider char is inserted into it.  Thus, a huge
+ * ASCII log file with a handful of non-Latin-1 chars still takes up about
+ * one byte per char.<p>
+ *
+ * Chars in inflated chunks are handed out to {@link Segment}s directly, but
+ * chars in Latin-1 chunks must be copied.  Only the requested range is
+ * copied, which for the usual request of a single line (e.g. when lexing
+ * it) is cheap.  Callers reading large ranges should ask for a
+ * {@link Segment#isPartialReturn() partial return} to get one chunk at a
+ * time.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public class Latin1Content implements RDocumentContent, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The maximum size of a chunk, in chars.
+	 */
+	static final int CHUNK_SIZE = 16 * 1024;
+
+	private static final char[] EMPTY = new char[0];
+
+	/**
+	 * The chunks, as parallel arrays.  Chunk <code>i</code> is the first
+	 * <code>chunkLengths[i]</code> elements of <code>chunks[i]</code>, which
+	 * is either a <code>byte[]</code> or a <code>char[]</code>, and starts
+	 * at offset <code>chunkStarts[i]</code> in the document.
+	 */
+	private transient Object[] chunks;
+	private transient int[] chunkLengths;
+	private transient int[] chunkStarts;
+	private transient int chunkCount;
+
+	/**
+	 * The total length of the text.
+	 */
+	private transient int length;
+
+	/**
+	 * The chunk most recently looked up.  This is only a hint, so it's okay
+	 * if concurrent readers race on it.
+	 */
+	private transient int lastChunk;
+
+	private transient ContentPositions positions;
+
+
+	/**
+	 * Constructor.  The content initially contains only the implied newline
+	 * all documents end with.
+	 */
+	public Latin1Content() {
+		init("\n");
+	}
+
+
+	@Override
+	public char charAt(int offset) throws BadLocationException {
+		if (offset<0 || offset>=length) {
+			throw new BadLocationException("Invalid offset", offset);
+		}
+		int i = findChunk(offset);
+		Object chunk = chunks[i];
+		int inChunk = offset - chunkStarts[i];
+		if (chunk instanceof byte[]) {
+			return (char)(((byte[])chunk)[inChunk] & 0xff);
+		}
+		return ((char[])chunk)[inChunk];
+	}
+
+
+	/**
+	 * Copies part of a chunk into an array.
+	 *
+	 * @param chunk The chunk.
+	 * @param offs The offset into the chunk.
+	 * @param len The number of chars to copy.
+	 * @param dest The array to copy into.
+	 * @param destOffs The offset into <code>dest</code> to copy to.
+	 */
+	private static void copyChunk(Object chunk, int offs, int len,
+								char[] dest, int destOffs) {
+		if (chunk instanceof byte[]) {
+			byte[] bytes = (byte[])chunk;
+			for (int i=0; i<len; i++) {
+				dest[destOffs + i] = (char)(bytes[offs + i] & 0xff);
+			}
+		}
+		else {
+			System.arraycopy(chunk,offs, dest,destOffs, len);
+		}
+	}
+
+
+	/**
+	 * Copies text into an array.  The range must be valid.
+	 *
+	 * @param where The offset of the text.
+	 * @param len The length of the text.
+	 * @param dest The array to copy into.
+	 * @param destOffs The offset into <code>dest</code> to copy to.
+	 */
+	private void copyChars(int where, int len, char[] dest, int destOffs) {
+		int i = len>0 ? findChunk(where) : chunkCount;
+		while (len>0) {
+			int inChunk = where - chunkStarts[i];
+			int count = Math.min(len, chunkLengths[i] - inChunk);
+			copyChunk(chunks[i], inChunk, count, dest, destOffs);
+			where += count;
+			destOffs += count;
+			len -= count;
+			i++;
+		}
+	}
+
+
+	@Override
+	public Position createPosition(int offset) throws BadLocationException {
+		if (offset<0 || offset>length) {
+			throw new BadLocationException("Invalid offset", offset);
+		}
+		return positions.createPosition(offset);
+	}
+
+
+	/**
+	 * Returns the index of the chunk containing an offset.
+	 *
+	 * @param offset The offset.  This must be valid and less than the
+	 *        length of the text.
+	 * @return The index of the chunk.
+	 */
+	private int findChunk(int offset) {
+
+		int i = lastChunk;
+		if (i<chunkCount && offset>=chunkStarts[i] &&
+				offset-chunkStarts[i]<chunkLengths[i]) {
+			return i;
+		}
+
+		int low = 0;
+		int high = chunkCount - 1;
+		while (low<high) {
+			int mid = (low + high + 1) >>> 1;
+			if (chunkStarts[mid]<=offset) {
+				low = mid;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+
+		lastChunk = low;
+		return low;
+
+	}
+
+
+	@Override
+	public void getChars(int where, int len, Segment txt)
+			throws BadLocationException {
+
+		if (where<0 || len<0 || where+len>length) {
+			throw new BadLocationException("Invalid location", length);
+		}
+
+		if (len==0) {
+			txt.array = EMPTY;
+			txt.offset = txt.count = 0;
+			return;
+		}
+
+		int i = findChunk(where);
+		int inChunk = where - chunkStarts[i];
+		int available = chunkLengths[i] - inChunk;
+		if (len>available && txt.isPartialReturn()) {
+			len = available;
+		}
+
+		if (len<=available && chunks[i] instanceof char[]) {
+			txt.array = (char[])chunks[i];
+			txt.offset = inChunk;
+		}
+		else {
+			txt.array = new char[len];
+			txt.offset = 0;
+			copyChars(where, len, txt.array, 0);
+		}
+		txt.count = len;
+
+	}
+
+
+	/**
+	 * Returns the number of chunks.  This is mainly useful for testing.
+	 *
+	 * @return The number of chunks.
+	 */
+	int getChunkCount() {
+		return chunkCount;
+	}
+
+
+	/**
+	 * Returns the number of chunks that have been inflated to hold chars
+	 * wider than Latin-1.  This is mainly useful for testing.
+	 *
+	 * @return The number of inflated chunks.
+	 */
+	int getInflatedChunkCount() {
+		int count = 0;
+		for (int i=0; i<chunkCount; i++) {
+			if (chunks[i] instanceof char[]) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+
+	@Override
+	public String getString(int where, int len) throws BadLocationException {
+		if (where<0 || len<0 || where+len>length) {
+			throw new BadLocationException("Invalid location", length);
+		}
+		char[] chars = new char[len];
+		copyChars(where, len, chars, 0);
+		return new String(chars);
+	}
+
+
+	/**
+	 * Initializes this content to contain some text.
+	 *
+	 * @param text The text.
+	 */
+	private void init(String text) {
+		chunks = new Object[16];
+		chunkLengths = new int[16];
+		chunkStarts = new int[16];
+		ChunkBuilder builder = new ChunkBuilder(CHUNK_SIZE);
+		builder.append(text);
+		replaceChunks(0, 0, builder.finish());
+		length = text.length();
+		updateChunkStarts(0);
+		positions = new ContentPositions();
+	}
+
+
+	/**
+	 * Inserts text.
+	 *
+	 * @param where The offset to insert at.  This must be valid.
+	 * @param str The text to insert.
+	 */
+	private void insertChars(int where, String str) {
+
+		int len = str.length();
+
+		// Insert at the end of the previous chunk, if possible, so typing at
+		// the start of a chunk doesn't immediately split it
+		int i;
+		if (where==length) {
+			i = chunkCount - 1;
+		}
+		else {
+			i = findChunk(where);
+			if (where==chunkStarts[i] && i>0 &&
+					chunkLengths[i-1]+len<=CHUNK_SIZE) {
+				i--;
+			}
+		}
+		int inChunk = where - chunkStarts[i];
+		int chunkLength = chunkLengths[i];
+
+		if (chunkLength+len<=CHUNK_SIZE) {
+			if (chunks[i] instanceof byte[] && !isLatin1(str)) {
+				chunks[i] = inflate((byte[])chunks[i], chunkLength);
+			}
+			Object chunk = chunks[i];
+			System.arraycopy(chunk,inChunk, chunk,inChunk+len,
+					chunkLength-inChunk);
+			if (chunk instanceof byte[]) {
+				byte[] bytes = (byte[])chunk;
+				for (int j=0; j<len; j++) {
+					bytes[inChunk + j] = (byte)str.charAt(j);
+				}
+			}
+			else {
+				str.getChars(0, len, (char[])chunk, inChunk);
+			}
+			chunkLengths[i] += len;
+		}
+
+		else {
+			// Leave room in the new chunks for further typing, unless a lot of
+			// text (e.g. a file) is being inserted
+			ChunkBuilder builder = new ChunkBuilder(len<CHUNK_SIZE ?
+					CHUNK_SIZE/2 : CHUNK_SIZE);
+			builder.append(chunks[i], 0, inChunk);
+			builder.append(str);
+			builder.append(chunks[i], inChunk, chunkLength - inChunk);
+			replaceChunks(i, i+1, builder.finish());
+		}
+
+		length += len;
+		updateChunkStarts(i);
+		positions.inserted(where, len);
+
+	}
+
+
+	/**
+	 * Returns a chunk's chars as a <code>char[]</code>.
+	 *
+	 * @param bytes The chunk's bytes.
+	 * @param len The length of the chunk.
+	 * @return The chars.
+	 */
+	private static char[] inflate(byte[] bytes, int len) {
+		char[] chars = new char[CHUNK_SIZE];
+		copyChunk(bytes, 0, len, chars, 0);
+		return chars;
+	}
+
+
+	@Override
+	public UndoableEdit insertString(int where, String str)
+			throws BadLocationException {
+		if (where<0 || where>length) {
+			throw new BadLocationException("Invalid insert", length);
+		}
+		if (!str.isEmpty()) {
+			insertChars(where, str);
+		}
+		return new InsertUndo(where, str.length());
+	}
+
+
+	/**
+	 * Returns whether all chars in a string are Latin-1.
+	 *
+	 * @param str The string.
+	 * @return Whether the string is Latin-1.
+	 */
+	private static boolean isLatin1(String str) {
+		for (int i=0; i<str.length(); i++) {
+			if (str.charAt(i)>0xff) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+
+	/**
+	 * Merges a chunk into the one before it, if they fit into one chunk.
+	 * This keeps repeated removals from leaving many tiny chunks behind.
+	 *
+	 * @param index The index of the chunk.
+	 */
+	private void mergeWithPrevious(int index) {
+		if (index>0 && index<chunkCount &&
+				chunkLengths[index-1]+chunkLengths[index]<=CHUNK_SIZE) {
+			int prevLength = chunkLengths[index-1];
+			if (chunks[index-1] instanceof byte[] &&
+					chunks[index] instanceof char[]) {
+				chunks[index-1] = inflate((byte[])chunks[index-1], prevLength);
+			}
+			Object prev = chunks[index-1];
+			if (prev instanceof char[]) {
+				copyChunk(chunks[index], 0, chunkLengths[index],
+						(char[])prev, prevLength);
+			}
+			else {
+				System.arraycopy(chunks[index],0, prev,prevLength,
+						chunkLengths[index]);
+			}
+			chunkLengths[index-1] += chunkLengths[index];
+			replaceChunks(index, index+1, null);
+		}
+	}
+
+
+	/**
+	 * Deserializes this content.
+	 *
+	 * @param in The stream to read from.
+	 * @throws ClassNotFoundException If an unexpected error occurs.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void readObject(ObjectInputStream in)
+						throws ClassNotFoundException, IOException {
+		in.defaultReadObject();
+		init(new String((char[])in.readObject()));
+	}
+
+
+	@Override
+	public UndoableEdit remove(int where, int nitems)
+			throws BadLocationException {
+		if (where<0 || nitems<0 || where+nitems>=length) {
+			throw new BadLocationException("Invalid remove", length + 1);
+		}
+		String removed = getString(where, nitems);
+		List<ContentPositions.UndoPosRef> posRefs =
+				positions.getPositionsInRange(where, nitems);
+		removeChars(where, nitems);
+		return new RemoveUndo(where, removed, posRefs);
+	}
+
+
+	/**
+	 * Removes a range of text.
+	 *
+	 * @param where The offset of the text.  The range must be valid.
+	 * @param len The length of the text.
+	 */
+	private void removeChars(int where, int len) {
+
+		if (len==0) {
+			return;
+		}
+
+		int first = findChunk(where);
+		int end = first;
+		int offs = where;
+		int remaining = len;
+		while (remaining>0) {
+			int inChunk = offs - chunkStarts[end]; // Starts not updated yet
+			int count = Math.min(remaining, chunkLengths[end] - inChunk);
+			int tail = chunkLengths[end] - inChunk - count;
+			System.arraycopy(chunks[end],inChunk+count, chunks[end],inChunk, tail);
+			chunkLengths[end] -= count;
+			offs += count;
+			remaining -= count;
+			end++;
+		}
+
+		// Drop chunks that are now empty.  The chunk holding the trailing
+		// newline is never removed, so there is always one after them.
+		int w = first;
+		for (int i=first; i<end; i++) {
+			if (chunkLengths[i]>0) {
+				chunks[w] = chunks[i];
+				chunkLengths[w] = chunkLengths[i];
+				w++;
+			}
+		}
+		replaceChunks(w, end, null);
+
+		mergeWithPrevious(first + 1);
+		mergeWithPrevious(first);
+		length -= len;
+		updateChunkStarts(Math.max(0, first - 1));
+		positions.removed(where, len);
+
+	}
+
+
+	/**
+	 * Replaces a range of chunks with other chunks.  This does not update
+	 * the start offsets of any chunks.
+	 *
+	 * @param start The index of the first chunk to replace.
+	 * @param end The index of the chunk to stop at, exclusive.
+	 * @param newChunks The new chunks.  This may be <code>null</code> to
+	 *        just remove chunks.
+	 */
+	private void replaceChunks(int start, int end, ChunkBuilder newChunks) {
+
+		int count = newChunks==null ? 0 : newChunks.chunks.size();
+		int newCount = chunkCount - (end - start) + count;
+		if (newCount>chunks.length) {
+			int newCapacity = Math.max(newCount, chunks.length*3/2 + 1);
+			chunks = Arrays.copyOf(chunks, newCapacity);
+			chunkLengths = Arrays.copyOf(chunkLengths, newCapacity);
+			chunkStarts = Arrays.copyOf(chunkStarts, newCapacity);
+		}
+
+		int tail = chunkCount - end;
+		System.arraycopy(chunks,end, chunks,start+count, tail);
+		System.arraycopy(chunkLengths,end, chunkLengths,start+count, tail);
+		System.arraycopy(chunkStarts,end, chunkStarts,start+count, tail);
+		for (int i=0; i<count; i++) {
+			chunks[start + i] = newChunks.chunks.get(i);
+			chunkLengths[start + i] = newChunks.lengths.get(i);
+		}
+
+		// Don't keep references to chunks that are no longer used
+		for (int i=newCount; i<chunkCount; i++) {
+			chunks[i] = null;
+		}
+		chunkCount = newCount;
+
+	}
+
+
+	/**
+	 * Recomputes the start offsets of chunks after an edit.
+	 *
+	 * @param from The index of the first chunk whose start may have
+	 *        changed.
+	 */
+	private void updateChunkStarts(int from) {
+		int start = from>0 ? chunkStarts[from-1] + chunkLengths[from-1] : 0;
+		for (int i=from; i<chunkCount; i++) {
+			chunkStarts[i] = start;
+			start += chunkLengths[i];
+		}
+	}
+
+
+	/**
+	 * Serializes this content.
+	 *
+	 * @param out The stream to write to.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		char[] text = new char[length];
+		copyChars(0, length, text, 0);
+		out.writeObject(text);
+	}
+
+
+	/**
+	 * Splits text into new chunks.  All chunks but the last one are filled
+	 * to the same size, and each is only inflated if it contains a char
+	 * wider than Latin-1.
+	 */
+	private static final class ChunkBuilder {
+
+		private final List<Object> chunks;
+		private final List<Integer> lengths;
+		private final char[] buf;
+		private final int fill;
+		private int count;
+
+		ChunkBuilder(int fill) {
+			chunks = new ArrayList<>(1);
+			lengths = new ArrayList<>(1);
+			buf = new char[fill];
+			this.fill = fill;
+		}
+
+		void append(String str) {
+			int offs = 0;
+			int len = str.length();
+			while (len>0) {
+				int n = Math.min(len, fill - count);
+				str.getChars(offs, offs + n, buf, count);
+				count += n;
+				offs += n;
+				len -= n;
+				flushIfFull();
+			}
+		}
+
+		void append(Object chunk, int offs, int len) {
+			while (len>0) {
+				int n = Math.min(len, fill - count);
+				copyChunk(chunk, offs, n, buf, count);
+				count += n;
+				offs += n;
+				len -= n;
+				flushIfFull();
+			}
+		}
+
+		ChunkBuilder finish() {
+			if (count>0 || chunks.isEmpty()) {
+				flush();
+			}
+			return this;
+		}
+
+		private void flush() {
+			boolean latin1 = true;
+			for (int i=0; i<count && latin1; i++) {
+				latin1 = buf[i]<=0xff;
+			}
+			if (latin1) {
+				byte[] bytes = new byte[CHUNK_SIZE];
+				for (int i=0; i<count; i++) {
+					bytes[i] = (byte)buf[i];
+				}
+				chunks.add(bytes);
+			}
+			else {
+				chunks.add(Arrays.copyOf(buf, CHUNK_SIZE));
+			}
+			lengths.add(count);
+			count = 0;
+		}
+
+		private void flushIfFull() {
+			if (count==fill) {
+				flush();
+			}
+		}
+
+	}
+
+
+	/**
+	 * Undoes and redoes an insertion.
+	 */
+	private final class InsertUndo extends AbstractUndoableEdit {
+
+		private int offset;
+		private int length;
+		private String string;
+		private List<ContentPositions.UndoPosRef> posRefs;
+
+		InsertUndo(int offset, int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			if (length>0) {
+				insertChars(offset, string);
+				positions.updateUndoPositions(posRefs, offset, length);
+			}
+			string = null;
+			posRefs = null;
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			try {
+				string = getString(offset, length);
+			} catch (BadLocationException ble) {
+				throw new CannotUndoException();
+			}
+			posRefs = positions.getPositionsInRange(offset, length);
+			removeChars(offset, length);
+		}
+
+	}
+
+
+	/**
+	 * Undoes and redoes a removal.
+	 */
+	private final class RemoveUndo extends AbstractUndoableEdit {
+
+		private int offset;
+		private String string;
+		private List<ContentPositions.UndoPosRef> posRefs;
+
+		RemoveUndo(int offset, String string,
+				List<ContentPositions.UndoPosRef> posRefs) {
+			this.offset = offset;
+			this.string = string;
+			this.posRefs = posRefs;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			posRefs = positions.getPositionsInRange(offset, string.length());
+			removeChars(offset, string.length());
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			if (!string.isEmpty()) {
+				insertChars(offset, string);
+				positions.updateUndoPositions(posRefs, offset, string.length());
+			}
+			posRefs = null;
+		}
+
+	}
+
+
+}
@@ -0,0 +1,909 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.UndoableEdit;
+
+import org.fife.io.UnicodeReader;
+
+
+/**
+ * Read-only document content backed by a memory-mapped file, for viewing
+ * files too large to load into memory.  The file is never copied onto the
+ * heap; instead, it is decoded in windows of about {@link #WINDOW_SIZE}
+ * chars when they are first accessed, and only a few recently used windows
+ * are kept around.  The decoded windows are handed out to
+ * {@link Segment}s directly.<p>
+ *
+ * When the content is created, the file is scanned once from start to end,
+ * to remember where in the file each window and line starts.  For UTF-8
+ * and single-byte encodings, this only examines the file's bytes; other
+ * encodings, and malformed UTF-8, are decoded.  Just like when a file is
+ * loaded normally, a BOM is skipped if one is found (and determines the
+ * encoding), and <code>"\r\n"</code> line endings are converted into
+ * <code>"\n"</code>; see {@link #getLineSeparator()}.<p>
+ *
+ * Since documents are indexed by <code>int</code>s, a file can contain at
+ * most <code>Integer.MAX_VALUE - 1</code> chars.  Documents using this
+ * content should track their lines with a compact line index (see
+ * {@link RDocument#RDocument(RDocumentContent, boolean)}), so heap use
+ * doesn't grow with the size of the file beyond a few bytes per line.  The
+ * compact index is built from the line starts found while scanning, rather
+ * than by decoding the file again.  Attempts to modify the content throw a
+ * <code>BadLocationException</code>.<p>
+ *
+ * The file stays mapped until {@link #close()} is called, or the content is
+ * garbage collected.  Whether a file is currently mapped can be checked
+ * with {@link #isMapped(File)}, e.g. to avoid replacing it when saving.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public class MappedFileContent implements RDocumentContent, Closeable {
+
+	/**
+	 * The number of chars decoded at a time.
+	 */
+	static final int WINDOW_SIZE = 64 * 1024;
+
+	/**
+	 * The size of each mapped region of the file.
+	 */
+	private static final int REGION_SIZE = 1 << 28;
+
+	/**
+	 * The maximum number of decoded windows to keep.
+	 */
+	private static final int CACHE_SIZE = 8;
+
+	/**
+	 * The number of bytes read at a time when scanning the file.
+	 */
+	private static final int SCAN_CHUNK_SIZE = 64 * 1024;
+
+	private static final char[] EMPTY = new char[0];
+
+	/**
+	 * The real path of the file each open content maps.  Content that is
+	 * garbage collected without being closed drops out by itself.
+	 */
+	private static final Map<MappedFileContent, Path> MAPPED_FILES =
+			new WeakHashMap<>();
+
+	private final String encoding;
+	private final Charset charset;
+	private final CharsetDecoder decoder;
+
+	/**
+	 * The mapped regions.  Each one overlaps the next by enough bytes that
+	 * a window starting in it can be decoded from it alone.
+	 */
+	private final MappedByteBuffer[] regions;
+	private final long fileSize;
+
+	/**
+	 * The number of bytes "\r" takes up in the encoding.
+	 */
+	private final int crBytes;
+
+	/**
+	 * The offset of the first char of each window, plus the length of the
+	 * content, and the offset in the file of each window, plus the size of
+	 * the file.
+	 */
+	private int[] windowStarts;
+	private long[] windowFileOffsets;
+	private int windowCount;
+
+	/**
+	 * The start offset of each line, found while scanning the file.  This
+	 * is handed off to the document's line index, if it uses a compact one.
+	 */
+	private int[] lineStarts;
+	private int lineCount;
+
+	private final int length;
+	private String lineSeparator;
+
+	/**
+	 * Whether {@link #close()} has been called.
+	 */
+	private boolean closed;
+
+	/**
+	 * Recently decoded windows, least recently used first.
+	 */
+	private final Map<Integer, char[]> cache;
+
+	/**
+	 * The window most recently looked up.
+	 */
+	private int lastWindow;
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param file The file to map.
+	 * @param defaultEncoding The encoding to use if the file does not start
+	 *        with a BOM.  If this is <code>null</code>, a system default is
+	 *        used.
+	 * @throws IOException If an IO error occurs, or the file has more chars
+	 *         than a document can hold.
+	 */
+	public MappedFileContent(File file, String defaultEncoding)
+			throws IOException {
+
+		try (UnicodeReader r = new UnicodeReader(file, defaultEncoding)) {
+			encoding = r.getEncoding();
+		}
+		charset = Charset.forName(encoding);
+		decoder = charset.newDecoder().
+				onMalformedInput(CodingErrorAction.REPLACE).
+				onUnmappableCharacter(CodingErrorAction.REPLACE);
+		crBytes = getEncodedLength("\r");
+
+		fileSize = file.length();
+		int overlap = (int)Math.ceil(WINDOW_SIZE * getMaxBytesPerChar()) + 16;
+		int regionCount = (int)Math.max(1, (fileSize + REGION_SIZE - 1) / REGION_SIZE);
+		regions = new MappedByteBuffer[regionCount];
+		try (FileChannel channel = FileChannel.open(file.toPath(),
+				StandardOpenOption.READ)) {
+			for (int i=0; i<regionCount; i++) {
+				long start = (long)i * REGION_SIZE;
+				long size = Math.min(fileSize - start, (long)REGION_SIZE + overlap);
+				regions[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+						start, size);
+			}
+		}
+
+		synchronized (MAPPED_FILES) {
+			MAPPED_FILES.put(this, file.toPath().toRealPath());
+		}
+
+		cache = new LinkedHashMap<>(CACHE_SIZE, 0.75f, true);
+		try {
+			length = scan(getBomLength());
+		} catch (IOException | RuntimeException e) {
+			close();
+			throw e;
+		}
+
+	}
+
+
+	/**
+	 * Remembers where a line starts.
+	 *
+	 * @param start The offset of the line's first char.
+	 */
+	private void addLineStart(int start) {
+		if (lineCount==lineStarts.length) {
+			lineStarts = Arrays.copyOf(lineStarts, lineCount * 2);
+		}
+		lineStarts[lineCount++] = start;
+	}
+
+
+	/**
+	 * Remembers where a window starts.
+	 *
+	 * @param start The offset of the window's first char.
+	 * @param fileOffset The offset of the window in the file.
+	 */
+	private void addWindow(int start, long fileOffset) {
+		if (windowCount + 1>=windowStarts.length) {
+			int newCapacity = windowStarts.length * 2;
+			windowStarts = Arrays.copyOf(windowStarts, newCapacity);
+			windowFileOffsets = Arrays.copyOf(windowFileOffsets, newCapacity);
+		}
+		windowStarts[windowCount] = start;
+		windowFileOffsets[windowCount] = fileOffset;
+		windowCount++;
+	}
+
+
+	@Override
+	public char charAt(int offset) throws BadLocationException {
+		if (offset<0 || offset>=length) {
+			throw new BadLocationException("Invalid offset", offset);
+		}
+		int i = findWindow(offset);
+		return getWindow(i)[offset - windowStarts[i]];
+	}
+
+
+	/**
+	 * Unmaps the file.  The content must not be used afterward; attempts to
+	 * read text that isn't already decoded throw an
+	 * <code>IllegalStateException</code>.  Calling this method again has no
+	 * effect.
+	 */
+	@Override
+	public synchronized void close() {
+		if (!closed) {
+			closed = true;
+			synchronized (MAPPED_FILES) {
+				MAPPED_FILES.remove(this);
+			}
+			cache.clear();
+			lineStarts = null;
+			for (int i=0; i<regions.length; i++) {
+				if (regions[i]!=null) {
+					unmap(regions[i]);
+					regions[i] = null;
+				}
+			}
+		}
+	}
+
+
+	/**
+	 * Converts <code>"\r\n"</code> line endings into <code>"\n"</code>,
+	 * remembering which was found first.
+	 *
+	 * @param chars The decoded chars.
+	 * @param count The number of decoded chars.
+	 * @return The number of chars after conversion.
+	 */
+	private int convertLineEndings(char[] chars, int count) {
+		int w = 0;
+		for (int i=0; i<count; i++) {
+			char ch = chars[i];
+			if (ch=='\r' && i+1<count && chars[i+1]=='\n') {
+				if (lineSeparator==null) {
+					lineSeparator = "\r\n";
+				}
+				continue;
+			}
+			if (ch=='\n' && lineSeparator==null) {
+				lineSeparator = "\n";
+			}
+			chars[w++] = ch;
+		}
+		return w;
+	}
+
+
+	/**
+	 * Copies text into an array.  The range must be valid.
+	 *
+	 * @param where The offset of the text.
+	 * @param len The length of the text.
+	 * @param dest The array to copy into.
+	 */
+	private void copyChars(int where, int len, char[] dest) {
+		int destOffs = 0;
+		int i = findWindow(where);
+		while (len>0) {
+			int inWindow = where - windowStarts[i];
+			int count = Math.min(len, windowStarts[i+1] - where);
+			System.arraycopy(getWindow(i),inWindow, dest,destOffs, count);
+			where += count;
+			destOffs += count;
+			len -= count;
+			i++;
+		}
+	}
+
+
+	@Override
+	public Position createPosition(int offset) throws BadLocationException {
+		if (offset<0 || offset>length) {
+			throw new BadLocationException("Invalid offset", offset);
+		}
+		// The text never changes, so neither do positions
+		return () -> offset;
+	}
+
+
+	/**
+	 * Decodes a window of the file.  This is called with this content's
+	 * lock held.
+	 *
+	 * @param index The index of the window.
+	 * @return The window's chars.
+	 * @throws IllegalStateException If this content has been closed.
+	 */
+	private char[] decodeWindow(int index) {
+
+		if (closed) {
+			throw new IllegalStateException("Content is closed");
+		}
+
+		long start = windowFileOffsets[index];
+		long end = windowFileOffsets[index + 1];
+		int region = (int)(start / REGION_SIZE);
+		long regionStart = (long)region * REGION_SIZE;
+		ByteBuffer in = regions[region].duplicate();
+		in.limit((int)(end - regionStart));
+		in.position((int)(start - regionStart));
+
+		// Windows end on char boundaries, and never between a "\r\n"
+		CharBuffer out = CharBuffer.allocate(
+				(int)Math.ceil((end - start) * decoder.maxCharsPerByte()) + 2);
+		decoder.reset();
+		decoder.decode(in, out, true);
+		decoder.flush(out);
+		char[] chars = out.array();
+		int count = convertLineEndings(chars, out.position());
+		if (end==fileSize) { // The document's implied trailing newline
+			chars[count++] = '\n';
+		}
+
+		// In case the file was modified since it was scanned
+		int windowLength = windowStarts[index + 1] - windowStarts[index];
+		return chars.length<windowLength ? Arrays.copyOf(chars, windowLength) : chars;
+
+	}
+
+
+	/**
+	 * Returns the index of the window containing an offset.
+	 *
+	 * @param offset The offset.  This must be valid.
+	 * @return The window.
+	 */
+	private int findWindow(int offset) {
+
+		int i = lastWindow;
+		if (offset>=windowStarts[i] && offset<windowStarts[i+1]) {
+			return i;
+		}
+
+		int low = 0;
+		int high = windowCount - 1;
+		while (low<high) {
+			int mid = (low + high + 1) >>> 1;
+			if (windowStarts[mid]<=offset) {
+				low = mid;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+
+		lastWindow = low;
+		return low;
+
+	}
+
+
+	/**
+	 * Returns the length of the BOM at the start of the file, if any.
+	 *
+	 * @return The length of the BOM, in bytes.
+	 */
+	private int getBomLength() {
+		if (!charset.canEncode()) {
+			return 0;
+		}
+		// Some encoders write a BOM of their own; the last one is ours
+		byte[] encoded = "\uFEFF".getBytes(charset);
+		int bomLength = getEncodedLength("\uFEFF");
+		if (bomLength>fileSize) {
+			return 0;
+		}
+		int start = encoded.length - bomLength;
+		for (int i=0; i<bomLength; i++) {
+			if (regions[0].get(i)!=encoded[start + i]) {
+				return 0;
+			}
+		}
+		return bomLength;
+	}
+
+
+	@Override
+	public void getChars(int where, int len, Segment txt)
+			throws BadLocationException {
+
+		if (where<0 || len<0 || where+len>length) {
+			throw new BadLocationException("Invalid location", length);
+		}
+
+		if (len==0) {
+			txt.array = EMPTY;
+			txt.offset = txt.count = 0;
+			return;
+		}
+
+		int i = findWindow(where);
+		int available = windowStarts[i+1] - where;
+		if (len<=available || txt.isPartialReturn()) {
+			txt.array = getWindow(i);
+			txt.offset = where - windowStarts[i];
+			txt.count = Math.min(len, available);
+		}
+		else {
+			txt.array = new char[len];
+			txt.offset = 0;
+			txt.count = len;
+			copyChars(where, len, txt.array);
+		}
+
+	}
+
+
+	/**
+	 * Returns the number of bytes a string takes up in the encoding,
+	 * ignoring any BOM the encoder might write.
+	 *
+	 * @param str The string.
+	 * @return The number of bytes.
+	 */
+	private int getEncodedLength(String str) {
+		if (!charset.canEncode()) {
+			return 1;
+		}
+		return (str + str).getBytes(charset).length - str.getBytes(charset).length;
+	}
+
+
+	/**
+	 * Returns the encoding of the file.  This is the encoding specified by
+	 * its BOM, if it has one, and the default encoding passed to the
+	 * constructor otherwise.
+	 *
+	 * @return The encoding.
+	 */
+	public String getEncoding() {
+		return encoding;
+	}
+
+
+	/**
+	 * Returns the number of lines found while scanning the file.
+	 *
+	 * @return The number of lines.
+	 * @see #takeLineStarts()
+	 */
+	int getLineCount() {
+		return lineCount;
+	}
+
+
+	/**
+	 * Returns the line separator used in the file.  This is based on the
+	 * first line ending found.
+	 *
+	 * @return The line separator, either <code>"\r\n"</code> or
+	 *         <code>"\n"</code>, or <code>null</code> if the file has no
+	 *         line endings.
+	 */
+	public String getLineSeparator() {
+		return lineSeparator;
+	}
+
+
+	/**
+	 * Returns the maximum number of bytes a char can take up in the
+	 * encoding.
+	 *
+	 * @return The maximum number of bytes per char.
+	 */
+	private float getMaxBytesPerChar() {
+		return charset.canEncode() ? charset.newEncoder().maxBytesPerChar() : 4;
+	}
+
+
+	@Override
+	public String getString(int where, int len) throws BadLocationException {
+		if (where<0 || len<0 || where+len>length) {
+			throw new BadLocationException("Invalid location", length);
+		}
+		char[] chars = new char[len];
+		copyChars(where, len, chars);
+		return new String(chars);
+	}
+
+
+	/**
+	 * Returns the chars of a window, decoding them if necessary.
+	 *
+	 * @param index The index of the window.
+	 * @return The window's chars.  These must not be modified.
+	 * @throws IllegalStateException If this content has been closed.
+	 */
+	private synchronized char[] getWindow(int index) {
+		char[] chars = cache.get(index);
+		if (chars==null) {
+			chars = decodeWindow(index);
+			cache.put(index, chars);
+			if (cache.size()>CACHE_SIZE) {
+				Integer eldest = cache.keySet().iterator().next();
+				cache.remove(eldest);
+			}
+		}
+		return chars;
+	}
+
+
+	/**
+	 * Returns the number of windows the file is decoded in.  This is mainly
+	 * useful for testing.
+	 *
+	 * @return The number of windows.
+	 */
+	int getWindowCount() {
+		return windowCount;
+	}
+
+
+	/**
+	 * Always throws an exception, since this content is read-only.
+	 *
+	 * @param where The offset to insert at.
+	 * @param str The text to insert.
+	 * @return Nothing.
+	 * @throws BadLocationException Always.
+	 */
+	@Override
+	public UndoableEdit insertString(int where, String str)
+			throws BadLocationException {
+		throw new BadLocationException("Content is read-only", where);
+	}
+
+
+	/**
+	 * Returns whether a file is mapped by content that hasn't been closed.
+	 *
+	 * @param file The file.
+	 * @return Whether the file is mapped.
+	 * @throws IOException If an IO error occurs.
+	 */
+	public static boolean isMapped(File file) throws IOException {
+		if (!file.exists()) {
+			return false;
+		}
+		Path path = file.toPath().toRealPath();
+		synchronized (MAPPED_FILES) {
+			return MAPPED_FILES.containsValue(path);
+		}
+	}
+
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+
+	/**
+	 * Always throws an exception, since this content is read-only.
+	 *
+	 * @param where The offset to remove at.
+	 * @param nitems The number of chars to remove.
+	 * @return Nothing.
+	 * @throws BadLocationException Always.
+	 */
+	@Override
+	public UndoableEdit remove(int where, int nitems)
+			throws BadLocationException {
+		throw new BadLocationException("Content is read-only", where);
+	}
+
+
+	/**
+	 * Scans the entire file, remembering where each window and line starts.
+	 *
+	 * @param bomLength The length of the BOM at the start of the file.
+	 * @return The length of the content.
+	 * @throws IOException If the file has too many chars.
+	 */
+	private int scan(int bomLength) throws IOException {
+
+		boolean utf8 = StandardCharsets.UTF_8.equals(charset);
+		if (utf8 || (decoder.maxCharsPerByte()==1 && getMaxBytesPerChar()==1)) {
+			int count = scanBytes(bomLength, utf8);
+			if (count>-1) {
+				return count;
+			}
+			lineSeparator = null; // Malformed UTF-8, so decode it
+		}
+		return scanDecoded(bomLength);
+
+	}
+
+
+	/**
+	 * Scans the file by examining its bytes, without decoding them.  This
+	 * can only be done for UTF-8 and single-byte encodings.
+	 *
+	 * @param bomLength The length of the BOM at the start of the file.
+	 * @param utf8 Whether the file is UTF-8, as opposed to being in a
+	 *        single-byte encoding.
+	 * @return The length of the content, or <code>-1</code> if the file is
+	 *         malformed UTF-8, which must be decoded to know how its
+	 *         malformed bytes are replaced.
+	 * @throws IOException If the file has too many chars.
+	 */
+	private int scanBytes(int bomLength, boolean utf8) throws IOException {
+
+		windowStarts = new int[16];
+		windowFileOffsets = new long[16];
+		windowCount = 0;
+		lineStarts = new int[16];
+		lineCount = 0;
+		addLineStart(0);
+		addWindow(0, bomLength);
+
+		int cr = "\r".getBytes(charset)[0] & 0xff;
+		int lf = "\n".getBytes(charset)[0] & 0xff;
+		byte[] chunk = new byte[SCAN_CHUNK_SIZE];
+		long count = 0;
+		int windowChars = 0; // Before "\r\n"s are converted
+		int prev = -1;
+
+		// The number of continuation bytes still expected, and their range
+		int needed = 0;
+		int lower = 0x80;
+		int upper = 0xbf;
+
+		long pos = bomLength;
+		while (pos<fileSize) {
+
+			int region = (int)(pos / REGION_SIZE);
+			long regionStart = (long)region * REGION_SIZE;
+			int n = (int)Math.min(chunk.length,
+					Math.min(fileSize, regionStart + REGION_SIZE) - pos);
+			ByteBuffer in = regions[region].duplicate();
+			in.position((int)(pos - regionStart));
+			in.get(chunk, 0, n);
+
+			for (int i=0; i<n; i++) {
+
+				int b = chunk[i] & 0xff;
+				if (needed>0) {
+					if (b<lower || b>upper) {
+						return -1;
+					}
+					lower = 0x80;
+					upper = 0xbf;
+					needed--;
+					prev = b;
+					continue;
+				}
+
+				// A char starts here, so a window can too.  A '\r' might be
+				// followed by a '\n', so it starts the next window instead.
+				int width = utf8 && b>=0xf0 ? 2 : 1;
+				if (windowChars + width>WINDOW_SIZE) {
+					long fileOffset = pos + i;
+					if (prev==cr) {
+						addWindow((int)count - 1, fileOffset - crBytes);
+						windowChars = 1;
+					}
+					else {
+						addWindow((int)count, fileOffset);
+						windowChars = 0;
+					}
+				}
+				windowChars += width;
+
+				if (b==lf) {
+					if (prev==cr) { // The '\r' already counted becomes '\n'
+						if (lineSeparator==null) {
+							lineSeparator = "\r\n";
+						}
+					}
+					else {
+						count++;
+						if (lineSeparator==null) {
+							lineSeparator = "\n";
+						}
+					}
+					if (count>=Integer.MAX_VALUE) {
+						throw new IOException("File is too large: " + count + " chars");
+					}
+					addLineStart((int)count);
+				}
+				else if (!utf8 || b<0x80) {
+					count++;
+				}
+				else if (b>=0xc2 && b<=0xdf) {
+					count++;
+					needed = 1;
+				}
+				else if (b>=0xe0 && b<=0xef) {
+					count++;
+					needed = 2;
+					if (b==0xe0) { // No overlong encodings
+						lower = 0xa0;
+					}
+					else if (b==0xed) { // No surrogates
+						upper = 0x9f;
+					}
+				}
+				else if (b>=0xf0 && b<=0xf4) { // A surrogate pair
+					count += 2;
+					needed = 3;
+					if (b==0xf0) { // No overlong encodings
+						lower = 0x90;
+					}
+					else if (b==0xf4) { // Nothing past U+10FFFF
+						upper = 0x8f;
+					}
+				}
+				else {
+					return -1;
+				}
+				prev = b;
+
+			}
+
+			pos += n;
+			if (count>=Integer.MAX_VALUE) {
+				throw new IOException("File is too large: " + count + " chars");
+			}
+
+		}
+
+		if (needed>0) { // A truncated char
+			return -1;
+		}
+
+		// The document's implied trailing newline
+		count++;
+		if (count>=Integer.MAX_VALUE) {
+			throw new IOException("File is too large: " + count + " chars");
+		}
+
+		// An extra entry to mark the end of the last window
+		windowStarts[windowCount] = (int)count;
+		windowFileOffsets[windowCount] = fileSize;
+		return (int)count;
+
+	}
+
+
+	/**
+	 * Scans the file by decoding it.
+	 *
+	 * @param bomLength The length of the BOM at the start of the file.
+	 * @return The length of the content.
+	 * @throws IOException If the file has too many chars.
+	 */
+	private int scanDecoded(int bomLength) throws IOException {
+
+		windowStarts = new int[16];
+		windowFileOffsets = new long[16];
+		windowCount = 0;
+		lineStarts = new int[16];
+		lineCount = 0;
+		addLineStart(0);
+		CharBuffer buf = CharBuffer.allocate(WINDOW_SIZE + 1);
+
+		long fileOffset = bomLength;
+		long count = 0;
+		do {
+			addWindow((int)count, fileOffset);
+			buf.clear();
+			fileOffset = scanWindow(fileOffset, buf);
+			// The trailing newline never starts a new line
+			int end = buf.remaining() - (fileOffset<fileSize ? 0 : 1);
+			for (int i=0; i<end; i++) {
+				if (buf.get(i)=='\n') {
+					addLineStart((int)count + i + 1);
+				}
+			}
+			count += buf.remaining();
+			if (count>=Integer.MAX_VALUE) {
+				throw new IOException("File is too large: " + count + " chars");
+			}
+		} while (fileOffset<fileSize);
+
+		// An extra entry to mark the end of the last window
+		windowStarts[windowCount] = (int)count;
+		windowFileOffsets[windowCount] = fileSize;
+		return (int)count;
+
+	}
+
+
+	/**
+	 * Decodes the next window of the file while scanning it.
+	 *
+	 * @param fileOffset The offset in the file to start decoding at.
+	 * @param out Receives the decoded chars.  This must have room for
+	 *        <code>WINDOW_SIZE + 1</code> chars, and is flipped when this
+	 *        method returns.
+	 * @return The offset in the file of the next window.
+	 */
+	private long scanWindow(long fileOffset, CharBuffer out) {
+
+		int region = (int)(fileOffset / REGION_SIZE);
+		long regionStart = (long)region * REGION_SIZE;
+		ByteBuffer in = regions[region].duplicate();
+		in.position((int)(fileOffset - regionStart));
+		boolean endOfInput = regionStart + in.limit()==fileSize;
+
+		out.limit(WINDOW_SIZE);
+		decoder.reset();
+		decoder.decode(in, out, endOfInput);
+		long next = regionStart + in.position();
+		if (next==fileSize) {
+			decoder.flush(out);
+		}
+		char[] chars = out.array();
+		int w = convertLineEndings(chars, out.position());
+
+		// A trailing '\r' might be followed by a '\n' in the next window
+		if (w>0 && chars[w-1]=='\r' && next<fileSize) {
+			w--;
+			next -= crBytes;
+		}
+
+		// The document's implied trailing newline
+		if (next>=fileSize) {
+			chars[w++] = '\n';
+		}
+
+		out.position(w);
+		out.flip();
+		return next;
+
+	}
+
+
+	/**
+	 * Returns the start offsets of the lines found while scanning the file,
+	 * and forgets them.  This lets a compact line index be built without
+	 * decoding the file again.
+	 *
+	 * @return The line starts.  Only the first {@link #getLineCount()}
+	 *         values are used.  This is <code>null</code> if they have
+	 *         already been taken.
+	 */
+	synchronized int[] takeLineStarts() {
+		int[] starts = lineStarts;
+		lineStarts = null;
+		return starts;
+	}
+
+
+	/**
+	 * Unmaps a buffer, if possible.  If not, it is unmapped when it is
+	 * garbage collected.
+	 *
+	 * @param buffer The buffer.
+	 */
+	private static void unmap(MappedByteBuffer buffer) {
+		try {
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+			theUnsafe.setAccessible(true);
+			Method invokeCleaner = unsafeClass.getMethod("invokeCleaner",
+					ByteBuffer.class);
+			invokeCleaner.invoke(theUnsafe.get(null), buffer);
+		} catch (ReflectiveOperationException | RuntimeException e) {
+			// Not supported by this JVM
+		}
+	}
+
+
+}
@@ -0,0 +1,641 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.AbstractUndoableEdit;
+import javax.swing.undo.CannotRedoException;
+import javax.swing.undo.CannotUndoException;
+import javax.swing.undo.UndoableEdit;
+
+
+/**
+ * Document content stored as a piece table, for very large documents.  To
+ * use it, pass an instance to {@link RDocument#RDocument(RDocumentContent)}
+ * (or the equivalent <code>RSyntaxDocument</code> constructor).<p>
+ *
+ * Inserted text is appended to fixed-size, append-only blocks of memory, and
+ * the document is described by a list of "pieces" referring to ranges of
+ * those blocks.  Compared to <code>GapContent</code>, which is the default:
+ *
+ * <ul>
+ *    <li>There is never one huge array, so growing the document never
+ *        needs twice its size in memory to copy it into a bigger one.</li>
+ *    <li>Edits never move text, so alternating between distant locations
+ *        doesn't shift large amounts of memory around.  An edit costs time
+ *        proportional to the number of pieces, which only grows with the
+ *        number of separate edit locations.  Typing at one location keeps
+ *        extending the same piece.</li>
+ *    <li>Removed text is never copied for undo, since blocks are never
+ *        modified; undo just re-inserts the pieces that were removed.</li>
+ * </ul>
+ *
+ * The tradeoffs are that removed text stays in memory, and that reading
+ * text spanning two pieces requires a copy, unless the caller asks for a
+ * {@link Segment#isPartialReturn() partial return}.  Character access is a
+ * binary search over the pieces, with the most recent piece cached, so
+ * sequential access is nearly as fast as with a gap buffer.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+public class PieceTableContent implements RDocumentContent, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The size of the blocks text is appended to, in chars.  Larger
+	 * insertions get a block of their own.
+	 */
+	static final int BLOCK_SIZE = 64 * 1024;
+
+	private static final char[] EMPTY = new char[0];
+
+	/**
+	 * The pieces, as parallel arrays.  Piece <code>i</code> is
+	 * <code>pieceLengths[i]</code> chars of <code>pieceArrays[i]</code>
+	 * starting at <code>pieceOffsets[i]</code>, and starts at offset
+	 * <code>pieceStarts[i]</code> in the document.
+	 */
+	private transient char[][] pieceArrays;
+	private transient int[] pieceOffsets;
+	private transient int[] pieceLengths;
+	private transient int[] pieceStarts;
+	private transient int pieceCount;
+
+	/**
+	 * The total length of the text.
+	 */
+	private transient int length;
+
+	/**
+	 * The block currently being appended to, and how much of it is used.
+	 */
+	private transient char[] block;
+	private transient int blockUsed;
+
+	/**
+	 * The piece most recently looked up.  This is only a hint, so it's okay
+	 * if concurrent readers race on it.
+	 */
+	private transient int lastPiece;
+
+	private transient ContentPositions positions;
+
+	/**
+	 * The text of the next insertion, if it was provided as an array.
+	 */
+	private transient char[] pendingInsert;
+
+
+	/**
+	 * Constructor.  The content initially contains only the implied newline
+	 * all documents end with.
+	 */
+	public PieceTableContent() {
+		init(new char[] { '\n' });
+	}
+
+
+	/**
+	 * Appends text to the current block, allocating a new block if there
+	 * isn't enough room.
+	 *
+	 * @param str The text to append.
+	 * @return The pieces referring to the appended text.
+	 */
+	private Pieces append(String str) {
+		int len = str.length();
+		if (block==null || blockUsed+len>block.length) {
+			block = new char[Math.max(BLOCK_SIZE, len)];
+			blockUsed = 0;
+		}
+		str.getChars(0, len, block, blockUsed);
+		Pieces pieces = new Pieces(1);
+		pieces.add(block, blockUsed, len);
+		blockUsed += len;
+		return pieces;
+	}
+
+
+	@Override
+	public char charAt(int offset) throws BadLocationException {
+		if (offset<0 || offset>=length) {
+			throw new BadLocationException("Invalid offset", offset);
+		}
+		int i = findPiece(offset);
+		return pieceArrays[i][pieceOffsets[i] + offset - pieceStarts[i]];
+	}
+
+
+	/**
+	 * Copies text into an array.  The range must be valid.
+	 *
+	 * @param where The offset of the text.
+	 * @param len The length of the text.
+	 * @param dest The array to copy into.
+	 * @param destOffs The offset into <code>dest</code> to copy to.
+	 */
+	private void copyChars(int where, int len, char[] dest, int destOffs) {
+		int i = len>0 ? findPiece(where) : pieceCount;
+		while (len>0) {
+			int inPiece = where - pieceStarts[i];
+			int count = Math.min(len, pieceLengths[i] - inPiece);
+			System.arraycopy(pieceArrays[i],pieceOffsets[i]+inPiece,
+					dest,destOffs, count);
+			where += count;
+			destOffs += count;
+			len -= count;
+			i++;
+		}
+	}
+
+
+	@Override
+	public Position createPosition(int offset) throws BadLocationException {
+		if (offset<0 || offset>length) {
+			throw new BadLocationException("Invalid offset", offset);
+		}
+		return positions.createPosition(offset);
+	}
+
+
+	/**
+	 * Makes sure the arrays describing the pieces can hold a number of
+	 * pieces.
+	 *
+	 * @param count The number of pieces.
+	 */
+	private void ensurePieceCapacity(int count) {
+		if (count>pieceArrays.length) {
+			int newCapacity = Math.max(count, pieceArrays.length*3/2 + 1);
+			pieceArrays = Arrays.copyOf(pieceArrays, newCapacity);
+			pieceOffsets = Arrays.copyOf(pieceOffsets, newCapacity);
+			pieceLengths = Arrays.copyOf(pieceLengths, newCapacity);
+			pieceStarts = Arrays.copyOf(pieceStarts, newCapacity);
+		}
+	}
+
+
+	/**
+	 * Returns the piece containing an offset.
+	 *
+	 * @param offset The offset.  This must be valid and less than the
+	 *        length of the text.
+	 * @return The index of the piece.
+	 */
+	private int findPiece(int offset) {
+
+		int i = lastPiece;
+		if (i<pieceCount && offset>=pieceStarts[i] &&
+				offset-pieceStarts[i]<pieceLengths[i]) {
+			return i;
+		}
+
+		int low = 0;
+		int high = pieceCount - 1;
+		while (low<high) {
+			int mid = (low + high + 1) >>> 1;
+			if (pieceStarts[mid]<=offset) {
+				low = mid;
+			}
+			else {
+				high = mid - 1;
+			}
+		}
+
+		lastPiece = low;
+		return low;
+
+	}
+
+
+	@Override
+	public void getChars(int where, int len, Segment txt)
+			throws BadLocationException {
+
+		if (where<0 || len<0 || where+len>length) {
+			throw new BadLocationException("Invalid location", length);
+		}
+
+		if (len==0) {
+			txt.array = EMPTY;
+			txt.offset = txt.count = 0;
+			return;
+		}
+
+		int i = findPiece(where);
+		int inPiece = where - pieceStarts[i];
+		int available = pieceLengths[i] - inPiece;
+		if (len<=available || txt.isPartialReturn()) {
+			txt.array = pieceArrays[i];
+			txt.offset = pieceOffsets[i] + inPiece;
+			txt.count = Math.min(len, available);
+		}
+		else {
+			txt.array = new char[len];
+			txt.offset = 0;
+			txt.count = len;
+			copyChars(where, len, txt.array, 0);
+		}
+
+	}
+
+
+	/**
+	 * Returns the number of pieces.  This is mainly useful for testing.
+	 *
+	 * @return The number of pieces.
+	 */
+	int getPieceCount() {
+		return pieceCount;
+	}
+
+
+	/**
+	 * Returns the pieces making up a range of text.  The range must be
+	 * valid.
+	 *
+	 * @param where The offset of the text.
+	 * @param len The length of the text.
+	 * @return The pieces.
+	 */
+	private Pieces getPieces(int where, int len) {
+		Pieces pieces = new Pieces(4);
+		int i = len>0 ? findPiece(where) : pieceCount;
+		while (len>0) {
+			int inPiece = where - pieceStarts[i];
+			int count = Math.min(len, pieceLengths[i] - inPiece);
+			pieces.add(pieceArrays[i], pieceOffsets[i] + inPiece, count);
+			where += count;
+			len -= count;
+			i++;
+		}
+		return pieces;
+	}
+
+
+	@Override
+	public String getString(int where, int len) throws BadLocationException {
+		if (where<0 || len<0 || where+len>length) {
+			throw new BadLocationException("Invalid location", length);
+		}
+		char[] chars = new char[len];
+		copyChars(where, len, chars, 0);
+		return new String(chars);
+	}
+
+
+	/**
+	 * Initializes this content to contain some text, as a single piece.
+	 *
+	 * @param text The text.  This is used directly, not copied.
+	 */
+	private void init(char[] text) {
+		pieceArrays = new char[16][];
+		pieceOffsets = new int[16];
+		pieceLengths = new int[16];
+		pieceStarts = new int[16];
+		pieceArrays[0] = text;
+		pieceLengths[0] = text.length;
+		pieceCount = 1;
+		length = text.length;
+		positions = new ContentPositions();
+	}
+
+
+	/**
+	 * Inserts pieces of text.
+	 *
+	 * @param where The offset to insert at.  This must be valid.
+	 * @param pieces The pieces to insert.
+	 */
+	private void insertPieces(int where, Pieces pieces) {
+		int index = split(where);
+		replacePieces(index, index, pieces);
+		length += pieces.length;
+		updatePieceStarts(index);
+		mergeWithPrevious(index + pieces.count);
+		mergeWithPrevious(index);
+		positions.inserted(where, pieces.length);
+	}
+
+
+	@Override
+	public UndoableEdit insertString(int where, String str)
+			throws BadLocationException {
+		if (where<0 || where>length) {
+			throw new BadLocationException("Invalid insert", length);
+		}
+		char[] chars = pendingInsert;
+		pendingInsert = null;
+		int len = str.length();
+		if (len>0) {
+			Pieces pieces;
+			if (chars!=null) {
+				// Blocks are never modified, so the array can be used as
+				// one, unless much of it is unused
+				pieces = new Pieces(1);
+				pieces.add(chars.length-len<=BLOCK_SIZE ? chars :
+						Arrays.copyOf(chars, len), 0, len);
+			}
+			else {
+				pieces = append(str);
+			}
+			insertPieces(where, pieces);
+		}
+		return new InsertUndo(where, len);
+	}
+
+
+	@Override
+	public int length() {
+		return length;
+	}
+
+
+	/**
+	 * Merges a piece into the one before it, if they refer to adjacent text
+	 * in the same block.  This keeps typing at one location from creating
+	 * a piece per character typed.
+	 *
+	 * @param index The index of the piece.
+	 */
+	private void mergeWithPrevious(int index) {
+		if (index>0 && index<pieceCount &&
+				pieceArrays[index-1]==pieceArrays[index] &&
+				pieceOffsets[index-1]+pieceLengths[index-1]==pieceOffsets[index]) {
+			pieceLengths[index-1] += pieceLengths[index];
+			replacePieces(index, index+1, null);
+		}
+	}
+
+
+	/**
+	 * Deserializes this content.
+	 *
+	 * @param in The stream to read from.
+	 * @throws ClassNotFoundException If an unexpected error occurs.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void readObject(ObjectInputStream in)
+						throws ClassNotFoundException, IOException {
+		in.defaultReadObject();
+		init((char[])in.readObject());
+	}
+
+
+	@Override
+	public UndoableEdit remove(int where, int nitems)
+			throws BadLocationException {
+		if (where<0 || nitems<0 || where+nitems>=length) {
+			throw new BadLocationException("Invalid remove", length + 1);
+		}
+		List<ContentPositions.UndoPosRef> posRefs =
+				positions.getPositionsInRange(where, nitems);
+		Pieces pieces = removePieces(where, nitems);
+		return new RemoveUndo(where, pieces, posRefs);
+	}
+
+
+	/**
+	 * Removes a range of text.
+	 *
+	 * @param where The offset of the text.  The range must be valid.
+	 * @param len The length of the text.
+	 * @return The pieces that were removed.
+	 */
+	private Pieces removePieces(int where, int len) {
+		Pieces removed = getPieces(where, len);
+		if (len>0) {
+			int start = split(where);
+			int end = split(where + len);
+			replacePieces(start, end, null);
+			length -= len;
+			updatePieceStarts(start);
+			mergeWithPrevious(start);
+			positions.removed(where, len);
+		}
+		return removed;
+	}
+
+
+	/**
+	 * Replaces a range of pieces with other pieces.  This does not update
+	 * the start offsets of any pieces.
+	 *
+	 * @param start The index of the first piece to replace.
+	 * @param end The index of the piece to stop at, exclusive.
+	 * @param pieces The new pieces.  This may be <code>null</code> to just
+	 *        remove pieces.
+	 */
+	private void replacePieces(int start, int end, Pieces pieces) {
+
+		int count = pieces==null ? 0 : pieces.count;
+		int newCount = pieceCount - (end - start) + count;
+		ensurePieceCapacity(newCount);
+
+		int tail = pieceCount - end;
+		System.arraycopy(pieceArrays,end, pieceArrays,start+count, tail);
+		System.arraycopy(pieceOffsets,end, pieceOffsets,start+count, tail);
+		System.arraycopy(pieceLengths,end, pieceLengths,start+count, tail);
+		System.arraycopy(pieceStarts,end, pieceStarts,start+count, tail);
+		if (count>0) {
+			System.arraycopy(pieces.arrays,0, pieceArrays,start, count);
+			System.arraycopy(pieces.offsets,0, pieceOffsets,start, count);
+			System.arraycopy(pieces.lengths,0, pieceLengths,start, count);
+		}
+
+		// Don't keep references to blocks that are no longer used
+		for (int i=newCount; i<pieceCount; i++) {
+			pieceArrays[i] = null;
+		}
+		pieceCount = newCount;
+
+	}
+
+
+	@Override
+	public void setPendingInsert(char[] chars) {
+		pendingInsert = chars;
+	}
+
+
+	/**
+	 * Makes sure a piece starts at an offset, splitting the piece containing
+	 * it if necessary.
+	 *
+	 * @param offset The offset.  This must be valid.
+	 * @return The index of the piece starting at <code>offset</code>, or
+	 *         the number of pieces if <code>offset</code> is the length of
+	 *         the text.
+	 */
+	private int split(int offset) {
+
+		if (offset==length) {
+			return pieceCount;
+		}
+		int i = findPiece(offset);
+		int inPiece = offset - pieceStarts[i];
+		if (inPiece==0) {
+			return i;
+		}
+
+		Pieces right = new Pieces(1);
+		right.add(pieceArrays[i], pieceOffsets[i] + inPiece,
+				pieceLengths[i] - inPiece);
+		replacePieces(i+1, i+1, right);
+		pieceLengths[i] = inPiece;
+		pieceStarts[i+1] = offset;
+		return i + 1;
+
+	}
+
+
+	/**
+	 * Recomputes the start offsets of pieces after an edit.
+	 *
+	 * @param from The index of the first piece whose start may have
+	 *        changed.
+	 */
+	private void updatePieceStarts(int from) {
+		int start = from>0 ? pieceStarts[from-1] + pieceLengths[from-1] : 0;
+		for (int i=from; i<pieceCount; i++) {
+			pieceStarts[i] = start;
+			start += pieceLengths[i];
+		}
+	}
+
+
+	/**
+	 * Serializes this content.
+	 *
+	 * @param out The stream to write to.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void writeObject(ObjectOutputStream out) throws IOException {
+		out.defaultWriteObject();
+		char[] text = new char[length];
+		copyChars(0, length, text, 0);
+		out.writeObject(text);
+	}
+
+
+	/**
+	 * A list of pieces, used to pass them around and to remember removed
+	 * text for undo.
+	 */
+	private static final class Pieces {
+
+		private char[][] arrays;
+		private int[] offsets;
+		private int[] lengths;
+		private int count;
+		private int length;
+
+		Pieces(int capacity) {
+			arrays = new char[capacity][];
+			offsets = new int[capacity];
+			lengths = new int[capacity];
+		}
+
+		void add(char[] array, int offset, int len) {
+			if (count==arrays.length) {
+				int newCapacity = count*2;
+				arrays = Arrays.copyOf(arrays, newCapacity);
+				offsets = Arrays.copyOf(offsets, newCapacity);
+				lengths = Arrays.copyOf(lengths, newCapacity);
+			}
+			arrays[count] = array;
+			offsets[count] = offset;
+			lengths[count] = len;
+			count++;
+			length += len;
+		}
+
+	}
+
+
+	/**
+	 * Undoes and redoes an insertion.
+	 */
+	private final class InsertUndo extends AbstractUndoableEdit {
+
+		private int offset;
+		private int length;
+		private Pieces pieces;
+		private List<ContentPositions.UndoPosRef> posRefs;
+
+		InsertUndo(int offset, int length) {
+			this.offset = offset;
+			this.length = length;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			if (length>0) {
+				insertPieces(offset, pieces);
+				positions.updateUndoPositions(posRefs, offset, length);
+			}
+			pieces = null;
+			posRefs = null;
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			posRefs = positions.getPositionsInRange(offset, length);
+			pieces = removePieces(offset, length);
+		}
+
+	}
+
+
+	/**
+	 * Undoes and redoes a removal.
+	 */
+	private final class RemoveUndo extends AbstractUndoableEdit {
+
+		private int offset;
+		private Pieces pieces;
+		private List<ContentPositions.UndoPosRef> posRefs;
+
+		RemoveUndo(int offset, Pieces pieces,
+				List<ContentPositions.UndoPosRef> posRefs) {
+			this.offset = offset;
+			this.pieces = pieces;
+			this.posRefs = posRefs;
+		}
+
+		@Override
+		public void redo() throws CannotRedoException {
+			super.redo();
+			posRefs = positions.getPositionsInRange(offset, pieces.length);
+			pieces = removePieces(offset, pieces.length);
+		}
+
+		@Override
+		public void undo() throws CannotUndoException {
+			super.undo();
+			if (pieces.length>0) {
+				insertPieces(offset, pieces);
+				positions.updateUndoPositions(posRefs, offset, pieces.length);
+			}
+			posRefs = null;
+		}
+
+	}
+
+
+}
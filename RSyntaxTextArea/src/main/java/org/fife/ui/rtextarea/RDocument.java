@@ -4,9 +4,17 @@
  */
 package org.fife.ui.rtextarea;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import javax.swing.event.DocumentEvent;
+import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
 import javax.swing.text.GapContent;
 import javax.swing.text.PlainDocument;
+import javax.swing.text.Segment;
+import javax.swing.text.StyleConstants;
+import javax.swing.undo.UndoableEdit;
 
 
 /**
@@ -17,12 +25,65 @@ import javax.swing.text.PlainDocument;
  */
 public class RDocument extends PlainDocument {
 
+	/**
+	 * Document properties <code>AbstractDocument</code> uses internally,
+	 * but doesn't make public.
+	 */
+	private static final String I18N_PROPERTY = "i18n";
+	private static final String MULTI_BYTE_PROPERTY = "multiByte";
 
 	/**
-	 * Constructor.
+	 * Whether lines are tracked by a <code>CompactRootElement</code>.
+	 */
+	private boolean compactLineIndex;
+
+	/**
+	 * The root element, if <code>compactLineIndex</code> is
+	 * <code>true</code>.
+	 */
+	private transient CompactRootElement compactRoot;
+
+
+	/**
+	 * Constructor.  The document's text is stored in a gap buffer.
 	 */
 	public RDocument() {
-		super(new RGapContent());
+		this(null);
+	}
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param content The storage for the document's text.  This must be
+	 *        empty, that is, only contain the implied trailing newline.  If
+	 *        this is <code>null</code>, the text is stored in a gap buffer.
+	 * @see PieceTableContent
+	 */
+	public RDocument(RDocumentContent content) {
+		this(content, false);
+	}
+
+
+	/**
+	 * Constructor.
+	 *
+	 * @param content The storage for the document's text.  This must be
+	 *        empty, that is, only contain the implied trailing newline.  If
+	 *        this is <code>null</code>, the text is stored in a gap buffer.
+	 * @param compactLineIndex Whether to track lines with a compact index
+	 *        of their start offsets, rather than an element and two
+	 *        <code>Position</code>s per line.  This saves a lot of memory for
+	 *        files with many lines.  Line elements are still created when
+	 *        asked for, and behave exactly as they otherwise would.
+	 * @see PieceTableContent
+	 */
+	public RDocument(RDocumentContent content, boolean compactLineIndex) {
+		super(content!=null ? content : new RGapContent());
+		this.compactLineIndex = compactLineIndex;
+		if (compactLineIndex) {
+			compactRoot = new CompactRootElement(this, getContent());
+		}
 	}
 
 
@@ -34,16 +95,232 @@ public class RDocument extends PlainDocument {
 	 * @throws BadLocationException If the offset is invalid.
 	 */
 	public char charAt(int offset) throws BadLocationException {
-		return ((RGapContent)getContent()).charAt(offset);
+		return ((RDocumentContent)getContent()).charAt(offset);
+	}
+
+
+	@Override
+	protected Element createLeafElement(Element parent, AttributeSet a,
+										int p0, int p1) {
+		if (compactRoot!=null && parent==compactRoot && a==null) {
+			return compactRoot.createLineElement(p0, p1);
+		}
+		return super.createLeafElement(parent, a, p0, p1);
+	}
+
+
+	/**
+	 * Returns the number of lines added by a change to the root element.
+	 * Unlike <code>change.getChildrenAdded().length</code>, this doesn't
+	 * create elements for the lines if a compact line index is used.
+	 *
+	 * @param change The change.
+	 * @return The number of lines added.
+	 * @see #getChildrenRemovedCount(DocumentEvent.ElementChange)
+	 */
+	protected static int getChildrenAddedCount(
+			DocumentEvent.ElementChange change) {
+		if (change instanceof CompactRootElement.LineChange) {
+			return ((CompactRootElement.LineChange)change).getAddedCount();
+		}
+		return change.getChildrenAdded().length;
+	}
+
+
+	/**
+	 * Returns the number of lines removed by a change to the root element.
+	 * Unlike <code>change.getChildrenRemoved().length</code>, this doesn't
+	 * create elements for the lines if a compact line index is used.
+	 *
+	 * @param change The change.
+	 * @return The number of lines removed.
+	 * @see #getChildrenAddedCount(DocumentEvent.ElementChange)
+	 */
+	protected static int getChildrenRemovedCount(
+			DocumentEvent.ElementChange change) {
+		if (change instanceof CompactRootElement.LineChange) {
+			return ((CompactRootElement.LineChange)change).getRemovedCount();
+		}
+		return change.getChildrenRemoved().length;
+	}
+
+
+	@Override
+	public Element getDefaultRootElement() {
+		return compactRoot!=null ? compactRoot : super.getDefaultRootElement();
+	}
+
+
+	/**
+	 * Inserts text from a <code>char</code> array.  This is like
+	 * {@link #insertString(int, String, AttributeSet)}, and listeners and
+	 * undo are handled just as they are for it, but for large amounts of
+	 * text, such as files being loaded, the content can use the array
+	 * rather than keeping its own copy of the text (see
+	 * {@link RDocumentContent#setPendingInsert(char[])}).  The text is only
+	 * copied into a temporary <code>String</code> for
+	 * <code>AbstractDocument</code>.<p>
+	 *
+	 * If this document has a <code>DocumentFilter</code>, the text is simply
+	 * inserted with <code>insertString()</code>, since the filter may
+	 * change it.
+	 *
+	 * @param offs The offset to insert at.
+	 * @param chars The text to insert is the first <code>len</code> chars
+	 *        of this array.  It must not be modified afterward.
+	 * @param len The number of chars to insert.
+	 * @throws BadLocationException If <code>offs</code> is invalid.
+	 */
+	protected void insertChars(int offs, char[] chars, int len)
+			throws BadLocationException {
+
+		if (len==0) {
+			return;
+		}
+		String str = new String(chars, 0, len);
+		if (getDocumentFilter()!=null) {
+			insertString(offs, str, null);
+			return;
+		}
+
+		// Hold the lock so the array is only used for this insertion
+		RDocumentContent content = (RDocumentContent)getContent();
+		writeLock();
+		try {
+			content.setPendingInsert(chars);
+			insertString(offs, str, null);
+		} finally {
+			content.setPendingInsert(null);
+			writeUnlock();
+		}
+
+	}
+
+
+	@Override
+	protected void insertUpdate(DefaultDocumentEvent chng, AttributeSet attr) {
+
+		if (compactRoot!=null) {
+
+			// Move the lines like Positions would, before they are updated
+			chng.addEdit(compactRoot.inserted(chng.getOffset(), chng.getLength()));
+
+			// Update the line index directly, rather than creating an
+			// element per new line.  Composed text and bidirectional text
+			// need PlainDocument's and AbstractDocument's handling.
+			if ((attr==null ||
+					!attr.isDefined(StyleConstants.ComposedTextAttribute)) &&
+					!Boolean.TRUE.equals(getProperty(I18N_PROPERTY))) {
+				try {
+					UndoableEdit lineChange = compactRoot.updateLinesForInsert(
+							chng.getOffset(), chng.getLength());
+					if (lineChange!=null) {
+						chng.addEdit(lineChange);
+					}
+					updateMultiByteProperty(chng.getOffset(), chng.getLength());
+				} catch (BadLocationException ble) { // Never happens
+					throw new InternalError(ble.toString());
+				}
+				return;
+			}
+
+		}
+
+		super.insertUpdate(chng, attr);
+
+	}
+
+
+	/**
+	 * Returns whether lines are tracked with a compact index of their start
+	 * offsets.
+	 *
+	 * @return Whether a compact line index is used.
+	 * @see #RDocument(RDocumentContent, boolean)
+	 */
+	public boolean isCompactLineIndex() {
+		return compactLineIndex;
+	}
+
+
+	/**
+	 * Deserializes a document.
+	 *
+	 * @param in The stream to read from.
+	 * @throws ClassNotFoundException If something bad happens.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private void readObject(ObjectInputStream in)
+			throws ClassNotFoundException, IOException {
+		in.defaultReadObject();
+		if (compactLineIndex) {
+			compactRoot = new CompactRootElement(this, getContent());
+		}
+	}
+
+
+	@Override
+	protected void removeUpdate(DefaultDocumentEvent chng) {
+
+		if (compactRoot==null) {
+			super.removeUpdate(chng);
+			return;
+		}
+
+		// Joining lines doesn't need elements for them.  Edits within a
+		// line may involve composed text, which PlainDocument handles.
+		UndoableEdit lineChange = compactRoot.updateLinesForRemove(
+				chng.getOffset(), chng.getLength());
+		if (lineChange!=null) {
+			chng.addEdit(lineChange);
+		}
+		else {
+			super.removeUpdate(chng);
+		}
+
+		// Move the lines like Positions would, after they are updated
+		chng.addEdit(compactRoot.removed(chng.getOffset(), chng.getLength()));
+
+	}
+
+
+	/**
+	 * Sets the property <code>AbstractDocument</code> uses to remember
+	 * whether the document contains chars outside of Latin-1, if inserted
+	 * text does.  <code>AbstractDocument.insertUpdate()</code> does this
+	 * when it isn't bypassed.
+	 *
+	 * @param offs The offset of the inserted text.
+	 * @param len The length of the inserted text.
+	 * @throws BadLocationException If the text can't be read.
+	 */
+	private void updateMultiByteProperty(int offs, int len)
+			throws BadLocationException {
+		if (Boolean.TRUE.equals(getProperty(MULTI_BYTE_PROPERTY))) {
+			return;
+		}
+		Segment s = new Segment();
+		s.setPartialReturn(true);
+		for (int end=offs+len; offs<end; offs+=s.count) {
+			getText(offs, end - offs, s);
+			for (int i=0; i<s.count; i++) {
+				if (s.array[s.offset + i]>255) {
+					putProperty(MULTI_BYTE_PROPERTY, Boolean.TRUE);
+					return;
+				}
+			}
+		}
 	}
 
 
 	/**
 	 * Document content that provides fast access to individual characters.
 	 */
-	private static final class RGapContent extends GapContent {
+	private static final class RGapContent extends GapContent
+			implements RDocumentContent {
 
-		protected char charAt(int offset) throws BadLocationException {
+		@Override
+		public char charAt(int offset) throws BadLocationException {
 			if (offset<0 || offset>=length()) {
 				throw new BadLocationException("Invalid offset", offset);
 			}
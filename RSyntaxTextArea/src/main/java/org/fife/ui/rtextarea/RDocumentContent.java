@@ -0,0 +1,56 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import javax.swing.text.AbstractDocument;
+import javax.swing.text.BadLocationException;
+
+
+/**
+ * The storage for the text of an {@link RDocument}.  In addition to the
+ * standard <code>Content</code> operations, implementations must provide
+ * fast access to individual characters, which is used heavily by things like
+ * bracket matching and searching.<p>
+ *
+ * Just like with <code>GapContent</code>, <code>getChars()</code> should
+ * honor {@link javax.swing.text.Segment#isPartialReturn()}, returning a
+ * view of as much of the requested text as can be provided without copying.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ * @see RDocument#RDocument(RDocumentContent)
+ */
+public interface RDocumentContent extends AbstractDocument.Content {
+
+
+	/**
+	 * Returns the character at the specified offset.
+	 *
+	 * @param offset The offset of the character.
+	 * @return The character.
+	 * @throws BadLocationException If the offset is invalid.
+	 */
+	char charAt(int offset) throws BadLocationException;
+
+
+	/**
+	 * Provides the text of the next call to <code>insertString()</code> as
+	 * a <code>char</code> array.  This is used when inserting large amounts
+	 * of text, such as files being loaded, so implementations that keep
+	 * references to inserted text can use the array itself rather than
+	 * copying the string.  The default implementation does nothing.
+	 *
+	 * @param chars The text of the next insertion is its first chars.
+	 *        Implementations may keep a reference to it, so it must not be
+	 *        modified afterward.  If this is <code>null</code>, a pending
+	 *        array is discarded.
+	 * @see RDocument#insertChars(int, char[], int)
+	 */
+	default void setPendingInsert(char[] chars) {
+		// Do nothing
+	}
+
+
+}
@@ -11,7 +11,15 @@ import java.util.Arrays;
 /**
  * Similar to a <code>java.util.ArrayList</code>, but specifically for
  * <code>int</code>s.  This is basically an array of integers that resizes
- * itself (if necessary) when adding new elements.
+ * itself (if necessary) when adding new elements.<p>
+ *
+ * The array is a gap buffer:  unused capacity is kept as a "gap" at the
+ * location of the most recent insertion or removal, so a series of edits at
+ * or near the same index costs <code>O(1)</code> amortized per value, rather
+ * than shifting the entire tail of the array each time.  Only moving the gap
+ * to a different index is proportional to the distance moved.  This is well
+ * suited for per-line data in documents, where typing or pasting causes many
+ * insertions and removals around a single line.
  *
  * @author Robert Futrell
  * @version 0.8
@@ -19,15 +27,19 @@ import java.util.Arrays;
 public class DynamicIntArray implements Serializable {
 
 	/**
-	 * The actual data.
+	 * The actual data, including the gap.
 	 */
 	private int[] data;
 
 	/**
-	 * The number of values in the array.  Note that this is NOT the
-	 * capacity of the array; rather, <code>size &lt;= capacity</code>.
+	 * The index of the first element in the gap.
 	 */
-	private int size;
+	private int gapStart;
+
+	/**
+	 * The index of the first element after the gap.
+	 */
+	private int gapEnd;
 
 
 	/**
@@ -51,7 +63,8 @@ public class DynamicIntArray implements Serializable {
 												initialCapacity);
 		}
 		data = new int[initialCapacity];
-		size = 0;
+		gapStart = 0;
+		gapEnd = initialCapacity;
 	}
 
 
@@ -65,10 +78,8 @@ public class DynamicIntArray implements Serializable {
 	 *         <code>null</code>.
 	 */
 	public DynamicIntArray(int[] intArray) {
-		size = intArray.length;
-		int capacity = (int)Math.min(size*110L/100, Integer.MAX_VALUE);
-		data = new int[capacity];
-		System.arraycopy(intArray,0, data,0, size); // source, dest, length.
+		this((int)Math.min(intArray.length*110L/100, Integer.MAX_VALUE));
+		insertRange(0, intArray);
 	}
 
 
@@ -78,8 +89,7 @@ public class DynamicIntArray implements Serializable {
 	 * @param value The <code>int</code> to be appended to this array.
 	 */
 	public void add(int value) {
-		ensureCapacity(size + 1);
-		data[size++] = value;
+		add(getSize(), value);
 	}
 
 
@@ -98,17 +108,7 @@ public class DynamicIntArray implements Serializable {
 	 *         <code>null</code>.
 	 */
 	public void add(int index, int[] intArray) {
-		if (index>size) {
-			throwException2(index);
-		}
-		int addCount = intArray.length;
-		ensureCapacity(size+addCount);
-		int moveCount = size - index;
-		if (moveCount>0) {
-			System.arraycopy(data,index, data,index+addCount, moveCount);
-		}
-		System.arraycopy(intArray,0, data,index, addCount);
-		size += addCount;
+		insertRange(index, intArray, 0, intArray.length);
 	}
 
 
@@ -125,13 +125,11 @@ public class DynamicIntArray implements Serializable {
 	 *         zero or greater than <code>getSize()</code>.
 	 */
 	public void add(int index, int value) {
-		if (index>size) {
+		if (index>getSize()) {
 			throwException2(index);
 		}
-		ensureCapacity(size+1);
-		System.arraycopy(data,index, data,index+1, size-index);
-		data[index] = value;
-		size++;
+		moveGap(index, 1);
+		data[gapStart++] = value;
 	}
 
 
@@ -140,7 +138,8 @@ public class DynamicIntArray implements Serializable {
 	 * same.
 	 */
 	public void clear() {
-		size = 0;
+		gapStart = 0;
+		gapEnd = data.length;
 	}
 
 
@@ -152,7 +151,12 @@ public class DynamicIntArray implements Serializable {
 	 * @return Whether the given integer is contained in this array.
 	 */
 	public boolean contains(int integer) {
-		for (int i=0; i<size; i++) {
+		for (int i=0; i<gapStart; i++) {
+			if (data[i]==integer) {
+				return true;
+			}
+		}
+		for (int i=gapEnd; i<data.length; i++) {
 			if (data[i]==integer) {
 				return true;
 			}
@@ -170,30 +174,7 @@ public class DynamicIntArray implements Serializable {
 	 */
 	public void decrement(int from, int to) {
 		for (int i=from; i<to; i++) {
-			data[i]--;
-		}
-	}
-
-
-	/**
-	 * Makes sure that this <code>DynamicIntArray</code> instance can hold
-	 * at least the number of elements specified.  If it can't, then the
-	 * capacity is increased.
-	 *
-	 * @param minCapacity The desired minimum capacity.
-	 */
-	private void ensureCapacity(int minCapacity) {
-		int oldCapacity = data.length;
-		if (minCapacity > oldCapacity) {
-			int[] oldData = data;
-			// Ensures we don't just keep increasing capacity by some small
-			// number like 1...
-			int newCapacity = (oldCapacity * 3)/2 + 1;
-			if (newCapacity < minCapacity) {
-				newCapacity = minCapacity;
-			}
-			data = new int[newCapacity];
-			System.arraycopy(oldData,0, data,0, size);
+			data[toPhysical(i)]--;
 		}
 	}
 
@@ -219,10 +200,10 @@ public class DynamicIntArray implements Serializable {
 	 */
 	public int get(int index) {
 		// Small enough to be inlined, and throwException() is rarely called.
-		if (index>=size) {
+		if (index>=getSize()) {
 			throwException(index);
 		}
-		return data[index];
+		return data[index<gapStart ? index : index+gapEnd-gapStart];
 	}
 
 
@@ -236,7 +217,7 @@ public class DynamicIntArray implements Serializable {
 	 */
 	public int getUnsafe(int index) {
 		// Small enough to be inlined.
-		return data[index];
+		return data[index<gapStart ? index : index+gapEnd-gapStart];
 	}
 
 
@@ -246,7 +227,7 @@ public class DynamicIntArray implements Serializable {
 	 * @return The number of <code>int</code>s in this array object.
 	 */
 	public int getSize() {
-		return size;
+		return data.length - (gapEnd-gapStart);
 	}
 
 
@@ -259,11 +240,27 @@ public class DynamicIntArray implements Serializable {
 	 */
 	public void increment(int from, int to) {
 		for (int i=from; i<to; i++) {
-			data[i]++;
+			data[toPhysical(i)]++;
 		}
 	}
 
 
+	/**
+	 * Inserts all <code>int</code>s in the specified array into this array
+	 * object at the specified location.  This is equivalent to
+	 * {@link #add(int, int[])}.
+	 *
+	 * @param index The index at which to insert the values.
+	 * @param values The values to insert.
+	 * @throws IndexOutOfBoundsException If <code>index</code> is less than
+	 *         zero or greater than <code>getSize()</code>.
+	 * @see #insertRange(int, int[], int, int)
+	 */
+	public void insertRange(int index, int[] values) {
+		insertRange(index, values, 0, values.length);
+	}
+
+
 	/**
 	 * Inserts a specific value multiple times into a specific
 	 * offset in this array.
@@ -273,13 +270,36 @@ public class DynamicIntArray implements Serializable {
 	 * @param value The value to insert.
 	 */
 	public void insertRange(int offs, int count, int value) {
-		if (offs>size) {
+		if (offs>getSize()) {
 			throwException2(offs);
 		}
-		ensureCapacity(size+count);
-		System.arraycopy(data,offs, data,offs+count, size-offs);
-		Arrays.fill(data, offs, offs+count, value);
-		size += count;
+		moveGap(offs, count);
+		Arrays.fill(data, gapStart, gapStart+count, value);
+		gapStart += count;
+	}
+
+
+	/**
+	 * Inserts a range of values from an array into this array object at the
+	 * specified location.  Shifts the <code>int</code> currently at that
+	 * position (if any) and any subsequent <code>int</code>s to the right.
+	 *
+	 * @param index The index at which to insert the values.
+	 * @param values The array containing the values to insert.
+	 * @param start The offset of the first value in <code>values</code> to
+	 *        insert.
+	 * @param count The number of values to insert.
+	 * @throws IndexOutOfBoundsException If <code>index</code> is less than
+	 *         zero or greater than <code>getSize()</code>.
+	 * @see #insertRange(int, int[])
+	 */
+	public void insertRange(int index, int[] values, int start, int count) {
+		if (index>getSize()) {
+			throwException2(index);
+		}
+		moveGap(index, count);
+		System.arraycopy(values,start, data,gapStart, count);
+		gapStart += count;
 	}
 
 
@@ -289,7 +309,63 @@ public class DynamicIntArray implements Serializable {
 	 * @return Whether this array object contains no elements.
 	 */
 	public boolean isEmpty() {
-		return size==0;
+		return getSize()==0;
+	}
+
+
+	/**
+	 * Moves the gap so that it starts at the specified index, and ensures it
+	 * can hold at least the specified number of values.
+	 *
+	 * @param index The new start of the gap.
+	 * @param minGapSize The minimum size of the gap.
+	 */
+	private void moveGap(int index, int minGapSize) {
+
+		int gapSize = gapEnd - gapStart;
+
+		if (gapSize<minGapSize) {
+			int size = data.length - gapSize;
+			// Ensures we don't just keep increasing capacity by some small
+			// number like 1...
+			int newCapacity = (data.length * 3)/2 + 1;
+			if (newCapacity<size+minGapSize) {
+				newCapacity = size + minGapSize;
+			}
+			int[] newData = new int[newCapacity];
+			int newGapEnd = newCapacity - (size-index);
+			if (index<=gapStart) {
+				System.arraycopy(data,0, newData,0, index);
+				System.arraycopy(data,index, newData,newGapEnd, gapStart-index);
+				System.arraycopy(data,gapEnd, newData,newGapEnd+gapStart-index,
+						data.length-gapEnd);
+			}
+			else {
+				int physicalIndex = index + gapSize;
+				System.arraycopy(data,0, newData,0, gapStart);
+				System.arraycopy(data,gapEnd, newData,gapStart, physicalIndex-gapEnd);
+				System.arraycopy(data,physicalIndex, newData,newGapEnd,
+						data.length-physicalIndex);
+			}
+			data = newData;
+			gapStart = index;
+			gapEnd = newGapEnd;
+			return;
+		}
+
+		if (index<gapStart) {
+			int count = gapStart - index;
+			System.arraycopy(data,index, data,gapEnd-count, count);
+			gapStart -= count;
+			gapEnd -= count;
+		}
+		else if (index>gapStart) {
+			int count = index - gapStart;
+			System.arraycopy(data,gapEnd, data,gapStart, count);
+			gapStart += count;
+			gapEnd += count;
+		}
+
 	}
 
 
@@ -302,14 +378,10 @@ public class DynamicIntArray implements Serializable {
 	 *         zero or greater than or equal to <code>getSize()</code>.
 	 */
 	public void remove(int index) {
-		if (index>=size) {
+		if (index>=getSize()) {
 			throwException(index);
 		}
-		int toMove = size - index - 1;
-		if (toMove>0) {
-			System.arraycopy(data,index+1, data,index, toMove);
-		}
-		--size;
+		removeRange(index, index+1);
 	}
 
 
@@ -324,12 +396,22 @@ public class DynamicIntArray implements Serializable {
 	 *         equal to <code>getSize()</code>.
 	 */
 	public void removeRange(int fromIndex, int toIndex) {
+		int size = getSize();
 		if (fromIndex>=size || toIndex>size) {
 			throwException3(fromIndex, toIndex);
 		}
-		int moveCount = size - toIndex;
-		System.arraycopy(data,toIndex, data,fromIndex, moveCount);
-		size -= (toIndex - fromIndex);
+		if (toIndex<=fromIndex) {
+			return;
+		}
+		// Expand the gap to cover the removed range, moving as little as
+		// possible.
+		if (toIndex==gapStart) {
+			gapStart = fromIndex;
+		}
+		else {
+			moveGap(fromIndex, 0);
+			gapEnd += toIndex - fromIndex;
+		}
 	}
 
 
@@ -344,10 +426,10 @@ public class DynamicIntArray implements Serializable {
 	 */
 	public void set(int index, int value) {
 		// Small enough to be inlined, and throwException() is rarely called.
-		if (index>=size) {
+		if (index>=getSize()) {
 			throwException(index);
 		}
-		data[index] = value;
+		data[index<gapStart ? index : index+gapEnd-gapStart] = value;
 	}
 
 
@@ -361,7 +443,7 @@ public class DynamicIntArray implements Serializable {
 	 */
 	public void setUnsafe(int index, int value) {
 		// Small enough to be inlined.
-		data[index] = value;
+		data[index<gapStart ? index : index+gapEnd-gapStart] = value;
 	}
 
 
@@ -380,7 +462,7 @@ public class DynamicIntArray implements Serializable {
 	 */
 	private void throwException(int index) {
 		throw new IndexOutOfBoundsException("Index " + index +
-						" not in valid range [0-" + (size-1) + "]");
+						" not in valid range [0-" + (getSize()-1) + "]");
 	}
 
 
@@ -398,7 +480,7 @@ public class DynamicIntArray implements Serializable {
 	 */
 	private void throwException2(int index) {
 		throw new IndexOutOfBoundsException("Index " + index +
-								", not in range [0-" + size + "]");
+								", not in range [0-" + getSize() + "]");
 	}
 
 
@@ -418,7 +500,18 @@ public class DynamicIntArray implements Serializable {
 	private void throwException3(int fromIndex, int toIndex) {
 		throw new IndexOutOfBoundsException("Index range [" +
 						fromIndex + ", " + toIndex +
-						"] not in valid range [0-" + (size-1) + "]");
+						"] not in valid range [0-" + (getSize()-1) + "]");
+	}
+
+
+	/**
+	 * Converts a logical index into an index into the backing array.
+	 *
+	 * @param index The logical index.
+	 * @return The physical index.
+	 */
+	private int toPhysical(int index) {
+		return index<gapStart ? index : index+gapEnd-gapStart;
 	}
 
 
@@ -19,6 +19,15 @@ import javax.swing.text.PlainDocument;
 class DocumentReaderTest {
 
 
+	private static String createLargeText() {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<5000; i++) {
+			sb.append("<element id=\"").append(i).append("\"/>\n");
+		}
+		return sb.toString();
+	}
+
+
 	@Test
 	void testClose() {
 		PlainDocument doc = new PlainDocument();
@@ -130,6 +139,88 @@ class DocumentReaderTest {
 	}
 
 
+	@Test
+	void testRead_intArg_documentModified() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		doc.insertString(0, "0123456789", null);
+		DocumentReader r = new DocumentReader(doc);
+
+		Assertions.assertEquals('0', r.read());
+		doc.insertString(1, "abc", null);
+		Assertions.assertEquals('a', r.read());
+
+		r.close();
+
+	}
+
+
+	@Test
+	void testRead_intArg_documentModifiedSameLength() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		doc.insertString(0, "0123456789", null);
+		DocumentReader r = new DocumentReader(doc);
+
+		Assertions.assertEquals('0', r.read());
+		doc.replace(1, 3, "abc", null);
+		Assertions.assertEquals('a', r.read());
+		doc.replace(2, 1, "x", null);
+		Assertions.assertEquals('x', r.read());
+
+		r.close();
+		Assertions.assertEquals(0, doc.getDocumentListeners().length);
+
+	}
+
+
+	@Test
+	void testRead_intArg_largeDocument() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		String text = createLargeText();
+		doc.insertString(0, text, null);
+		doc.insertString(text.length() / 2, "x", null); // Move the gap
+		text = doc.getText(0, doc.getLength());
+		DocumentReader r = new DocumentReader(doc);
+
+		StringBuilder sb = new StringBuilder();
+		int ch;
+		while ((ch = r.read())!=-1) {
+			sb.append((char)ch);
+		}
+		Assertions.assertEquals(text, sb.toString());
+
+		r.seek(5);
+		Assertions.assertEquals(text.charAt(5), r.read());
+		r.skip(3000);
+		Assertions.assertEquals(text.charAt(3006), r.read());
+
+		r.close();
+
+	}
+
+
+	@Test
+	void testRead_3Arg_acrossGap() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		String text = createLargeText();
+		doc.insertString(0, text, null);
+		doc.insertString(text.length() / 2, "x", null); // Move the gap
+		doc.remove(text.length() / 2, 1);
+		DocumentReader r = new DocumentReader(doc);
+
+		char[] array = new char[text.length()];
+		Assertions.assertEquals(text.length(), r.read(array, 0, array.length));
+		Assertions.assertEquals(text, new String(array));
+		Assertions.assertEquals(-1, r.read(array, 0, array.length));
+
+		r.close();
+
+	}
+
+
 	@Test
 	void testRead_3Arg_allAtOnce() throws Exception {
 
@@ -0,0 +1,280 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.swing.text.BadLocationException;
+import javax.swing.text.DefaultEditorKit;
+import javax.swing.text.Document;
+import javax.swing.text.PlainDocument;
+
+/**
+ * Unit tests for the {@code DocumentSaver} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class DocumentSaverTest {
+
+	@TempDir
+	Path dir;
+
+
+	private static Document createDocument(String text, String lineSeparator)
+			throws BadLocationException {
+		Document doc = new PlainDocument();
+		doc.insertString(0, text, null);
+		doc.putProperty(DefaultEditorKit.EndOfLineStringProperty, lineSeparator);
+		return doc;
+	}
+
+
+	/**
+	 * Returns the key identifying a file, e.g. its inode, aborting the test
+	 * if the file system doesn't provide one.
+	 */
+	private static Object getFileKey(Path file) throws IOException {
+		Object key = Files.readAttributes(file, BasicFileAttributes.class).fileKey();
+		Assumptions.assumeTrue(key!=null, "File keys not supported");
+		return key;
+	}
+
+
+	/**
+	 * Returns the names of the files in a directory.
+	 */
+	private static Set<String> listFiles(Path dir) throws IOException {
+		try (Stream<Path> files = Files.list(dir)) {
+			return files.map(p -> p.getFileName().toString()).
+					collect(Collectors.toSet());
+		}
+	}
+
+
+	/**
+	 * Returns what the previous save path, a <code>UnicodeWriter</code> and
+	 * <code>DefaultEditorKit.write()</code>, would write.
+	 */
+	private static byte[] writeWithUnicodeWriter(Document doc, String encoding)
+			throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (Writer w = new UnicodeWriter(baos, encoding)) {
+			new DefaultEditorKit().write(w, doc, 0, doc.getLength());
+		}
+		return baos.toByteArray();
+	}
+
+
+	@Test
+	void testSave() throws Exception {
+
+		Document doc = createDocument("Hello\nwörld\n", "\n");
+		File file = dir.resolve("test.txt").toFile();
+		DocumentSaver.save(doc, file, "UTF-8");
+
+		Assertions.assertArrayEquals("Hello\nwörld\n".getBytes(StandardCharsets.UTF_8),
+				Files.readAllBytes(file.toPath()));
+		try (Stream<Path> files = Files.list(dir)) {
+			Assertions.assertEquals(1, files.count(), "Temporary file left behind");
+		}
+
+	}
+
+
+	@Test
+	void testSave_atomic() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "a much longer original text");
+		Object key = getFileKey(file);
+		boolean posix = FileSystems.getDefault().supportedFileAttributeViews().
+				contains("posix");
+		Set<PosixFilePermission> perms = PosixFilePermissions.fromString("rw-r-----");
+		if (posix) {
+			Files.setPosixFilePermissions(file, perms);
+		}
+
+		DocumentSaver.save(createDocument("short", "\n"), file.toFile(), "UTF-8",
+				true);
+		Assertions.assertEquals("short", Files.readString(file));
+		Assertions.assertNotEquals(key, getFileKey(file));
+		Assertions.assertEquals(Set.of("test.txt"), listFiles(dir));
+		if (posix) {
+			Assertions.assertEquals(perms, Files.getPosixFilePermissions(file));
+		}
+
+	}
+
+
+	@Test
+	void testSave_atomic_hardLink() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		Path link = dir.resolve("link.txt");
+		try {
+			Files.createLink(link, file);
+		} catch (UnsupportedOperationException | IOException e) {
+			Assumptions.abort("Hard links not supported");
+		}
+		Object key = getFileKey(file);
+
+		// Replacing the file would break the link, so it's written in place
+		DocumentSaver.save(createDocument("new", "\n"), file.toFile(), "UTF-8",
+				true);
+		Assertions.assertEquals(key, getFileKey(file));
+		Assertions.assertEquals("new", Files.readString(link));
+
+	}
+
+
+	@Test
+	void testSave_defaultLineSeparator() throws Exception {
+		Document doc = new PlainDocument();
+		doc.insertString(0, "a\nb", null);
+		File file = dir.resolve("test.txt").toFile();
+		DocumentSaver.save(doc, file, "UTF-8");
+		Assertions.assertEquals("a" + System.lineSeparator() + "b",
+				Files.readString(file.toPath()));
+	}
+
+
+	@Test
+	void testSave_inPlaceByDefault() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "a much longer original text");
+		Object key = getFileKey(file);
+
+		DocumentSaver.save(createDocument("short", "\n"), file.toFile(), "UTF-8");
+		Assertions.assertEquals("short", Files.readString(file));
+		Assertions.assertEquals(key, getFileKey(file));
+		Assertions.assertEquals(Set.of("test.txt"), listFiles(dir));
+
+	}
+
+
+	@Test
+	void testSave_lineSeparators() throws Exception {
+
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<20000; i++) {
+			sb.append("line ").append(i).append(" €\n");
+		}
+		String text = sb.toString();
+
+		for (String separator : new String[] { "\n", "\r\n", "\r" }) {
+			for (String encoding : new String[] { "UTF-8", "UTF-16LE", "UTF-16BE",
+					"UTF-16", "UTF-32", "ISO-8859-1" }) {
+				Document doc = createDocument(text, separator);
+				File file = dir.resolve("test.txt").toFile();
+				DocumentSaver.save(doc, file, encoding);
+				Assertions.assertArrayEquals(writeWithUnicodeWriter(doc, encoding),
+						Files.readAllBytes(file.toPath()), encoding);
+			}
+		}
+
+	}
+
+
+	@Test
+	void testSave_readOnlyFile() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		Assumptions.assumeTrue(file.toFile().setWritable(false));
+		Assumptions.assumeFalse(Files.isWritable(file)); // e.g. running as root
+
+		Document doc = createDocument("new", "\n");
+		Assertions.assertThrows(AccessDeniedException.class, () ->
+			DocumentSaver.save(doc, file.toFile(), "UTF-8"));
+		Assertions.assertEquals("original", Files.readString(file));
+
+	}
+
+
+	@Test
+	void testSave_replacesExistingFile() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "a much longer original text");
+		boolean posix = FileSystems.getDefault().supportedFileAttributeViews().
+				contains("posix");
+		Set<PosixFilePermission> perms = PosixFilePermissions.fromString("rw-r-----");
+		if (posix) {
+			Files.setPosixFilePermissions(file, perms);
+		}
+
+		DocumentSaver.save(createDocument("short", "\n"), file.toFile(), "UTF-8");
+		Assertions.assertEquals("short", Files.readString(file));
+		if (posix) {
+			Assertions.assertEquals(perms, Files.getPosixFilePermissions(file));
+		}
+
+	}
+
+
+	@Test
+	void testSave_splitSurrogatePair() throws Exception {
+
+		// Move the gap between the halves of a surrogate pair
+		Document doc = createDocument("a😀b", "\n");
+		doc.insertString(2, "x", null);
+		doc.remove(2, 1);
+
+		File file = dir.resolve("test.txt").toFile();
+		DocumentSaver.save(doc, file, "UTF-8");
+		Assertions.assertEquals("a😀b", Files.readString(file.toPath()));
+
+	}
+
+
+	@Test
+	void testSave_symbolicLink() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		Path link = dir.resolve("link.txt");
+		try {
+			Files.createSymbolicLink(link, file);
+		} catch (UnsupportedOperationException | IOException e) {
+			Assumptions.abort("Symbolic links not supported");
+		}
+
+		DocumentSaver.save(createDocument("new", "\n"), link.toFile(), "UTF-8");
+		Assertions.assertTrue(Files.isSymbolicLink(link));
+		Assertions.assertEquals("new", Files.readString(file));
+
+	}
+
+
+	@Test
+	void testSave_unsupportedEncoding() throws Exception {
+		Document doc = createDocument("abc", "\n");
+		File file = dir.resolve("test.txt").toFile();
+		Assertions.assertThrows(UnsupportedEncodingException.class, () ->
+			DocumentSaver.save(doc, file, "xxx-unknown"));
+		Assertions.assertFalse(file.exists());
+	}
+
+
+}
@@ -0,0 +1,203 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.io;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.text.PlainDocument;
+
+import org.fife.ui.rtextarea.RTextAreaEditorKit;
+
+/**
+ * Unit tests for the {@code TextLoader} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class TextLoaderTest {
+
+
+	private static TextLoader load(String text, Charset charset) throws IOException {
+		return load(text.getBytes(charset), charset.name(), null);
+	}
+
+
+	private static TextLoader load(byte[] bytes, String defaultEncoding,
+			List<String> lines) throws IOException {
+		TextLoader.LineHandler handler = lines==null ? null :
+			(text, start, end) -> lines.add(new String(text, start, end - start));
+		return TextLoader.load(new ByteArrayInputStream(bytes), defaultEncoding,
+				handler);
+	}
+
+
+	/**
+	 * Returns the text and line separator the editor kit would have loaded.
+	 */
+	private static String[] readWithEditorKit(String text) throws Exception {
+		PlainDocument doc = new PlainDocument();
+		new RTextAreaEditorKit().read(new StringReader(text), doc, 0);
+		return new String[] { doc.getText(0, doc.getLength()),
+				(String)doc.getProperty(RTextAreaEditorKit.EndOfLineStringProperty) };
+	}
+
+
+	@Test
+	void testGetTextArray() throws IOException {
+
+		String text = "line\n".repeat(50000);
+		TextLoader loader = load(text, StandardCharsets.UTF_8);
+		char[] array = loader.getTextArray();
+		Assertions.assertEquals(text, new String(array, 0, loader.getLength()));
+
+		// The stream knows its size, so the array never had to grow
+		Assertions.assertEquals(text.length() + 1, array.length);
+
+	}
+
+
+	@Test
+	void testLoad_bom() throws IOException {
+
+		byte[] text = "héllo".getBytes(StandardCharsets.UTF_16LE);
+		byte[] bytes = new byte[text.length + 2];
+		bytes[0] = (byte)0xff;
+		bytes[1] = (byte)0xfe;
+		System.arraycopy(text, 0, bytes, 2, text.length);
+
+		TextLoader loader = load(bytes, "ISO-8859-1", null);
+		Assertions.assertEquals("UTF-16LE", loader.getEncoding());
+		Assertions.assertEquals("héllo", loader.getText());
+
+	}
+
+
+	@Test
+	void testLoad_defaultEncoding() throws IOException {
+		TextLoader loader = load("héllo".getBytes(StandardCharsets.ISO_8859_1),
+				"ISO-8859-1", null);
+		Assertions.assertEquals("ISO-8859-1", loader.getEncoding());
+		Assertions.assertEquals("héllo", loader.getText());
+	}
+
+
+	@Test
+	void testLoad_empty() throws IOException {
+		List<String> lines = new ArrayList<>();
+		TextLoader loader = load(new byte[0], "UTF-8", lines);
+		Assertions.assertEquals("", loader.getText());
+		Assertions.assertEquals(0, loader.getLength());
+		Assertions.assertEquals(1, loader.getLineCount());
+		Assertions.assertEquals("\n", loader.getLineSeparator());
+		Assertions.assertEquals(List.of(""), lines);
+	}
+
+
+	@Test
+	void testLoad_largeText() throws Exception {
+
+		// Spans many buffers, with multi-byte chars and "\r\n" split between them
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<40000; i++) {
+			sb.append("line ").append(i).append(" €").append(i%3==0 ? "\r" : "\r\n");
+		}
+		String text = sb.toString();
+
+		List<String> lines = new ArrayList<>();
+		TextLoader loader = load(text.getBytes(StandardCharsets.UTF_8), "UTF-8", lines);
+		String[] expected = readWithEditorKit(text);
+		Assertions.assertEquals(expected[0], loader.getText());
+		Assertions.assertEquals(expected[1], loader.getLineSeparator());
+		Assertions.assertEquals(40001, loader.getLineCount());
+		Assertions.assertEquals(loader.getLineCount(), lines.size());
+		Assertions.assertEquals("line 39999 €", lines.get(39999));
+		Assertions.assertEquals("", lines.get(40000));
+
+	}
+
+
+	@Test
+	void testLoad_lineEndings() throws Exception {
+
+		String[] texts = { "a\nb", "a\r\nb\r\n", "a\rb\r", "a\r\r\nb", "\r\r",
+				"a\nb\r\nc\rd" };
+
+		for (String text : texts) {
+			List<String> lines = new ArrayList<>();
+			TextLoader loader = load(text.getBytes(StandardCharsets.UTF_8),
+					"UTF-8", lines);
+			String[] expected = readWithEditorKit(text);
+			Assertions.assertEquals(expected[0], loader.getText(), text);
+			Assertions.assertEquals(expected[1], loader.getLineSeparator(), text);
+			Assertions.assertEquals(String.join("\n", lines), loader.getText(), text);
+			Assertions.assertEquals(lines.size(), loader.getLineCount(), text);
+		}
+
+	}
+
+
+	@Test
+	void testLoad_malformedInput() throws IOException {
+		byte[] bytes = { 'a', (byte)0xff, 'b' };
+		TextLoader loader = load(bytes, "UTF-8", null);
+		Assertions.assertEquals("a�b", loader.getText());
+	}
+
+
+	@Test
+	void testLoad_sameAsUnicodeReader() throws Exception {
+
+		String text = "Hello\r\nworld €";
+		for (Charset charset : new Charset[] { StandardCharsets.UTF_8,
+				StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE }) {
+
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (Writer w = new UnicodeWriter(baos, charset)) {
+				w.write(text);
+			}
+			byte[] bytes = baos.toByteArray();
+
+			String expected;
+			String expectedEncoding;
+			try (UnicodeReader r = new UnicodeReader(
+					new ByteArrayInputStream(bytes), "ISO-8859-1")) {
+				expectedEncoding = r.getEncoding();
+				StringWriter sw = new StringWriter();
+				r.transferTo(sw);
+				expected = sw.toString().replace("\r\n", "\n");
+			}
+
+			TextLoader loader = load(bytes, "ISO-8859-1", null);
+			Assertions.assertEquals(expectedEncoding, loader.getEncoding());
+			Assertions.assertEquals(expected, loader.getText());
+
+		}
+
+	}
+
+
+	@Test
+	void testLoad_unsupportedEncoding() {
+		Assertions.assertThrows(UnsupportedEncodingException.class, () ->
+			load("abc".getBytes(StandardCharsets.UTF_8), "xxx-unknown", null));
+	}
+
+
+	@Test
+	void testLoad_utf16() throws Exception {
+		TextLoader loader = load("a\r\nb€", StandardCharsets.UTF_16BE);
+		Assertions.assertEquals("a\nb€", loader.getText());
+		Assertions.assertEquals("\r\n", loader.getLineSeparator());
+	}
+
+
+}
@@ -229,4 +229,132 @@ class UnicodeReaderTest {
 			Assertions.assertEquals("UTF-8", actualEncoding);
 		}
 	}
+
+	private static String readAll(Reader r) throws IOException {
+		StringWriter sw = new StringWriter();
+		r.transferTo(sw);
+		return sw.toString();
+	}
+
+	@Test
+	void testGetEncoding_sniffsUtf8() throws IOException {
+		byte[] bytes = "héllo wörld".getBytes(StandardCharsets.UTF_8);
+		try (UnicodeReader r = new UnicodeReader(new ByteArrayInputStream(bytes))) {
+			Assertions.assertEquals("UTF-8", r.getEncoding());
+			Assertions.assertEquals("héllo wörld", readAll(r));
+		}
+	}
+
+	@Test
+	void testGetEncoding_sniffsUtf8_notUtf8() throws IOException {
+		byte[] bytes = "héllo wörld".getBytes(StandardCharsets.ISO_8859_1);
+		String systemDefault = new InputStreamReader(InputStream.nullInputStream()).
+				getEncoding();
+		try (UnicodeReader r = new UnicodeReader(new ByteArrayInputStream(bytes))) {
+			Assertions.assertEquals(systemDefault, r.getEncoding());
+		}
+	}
+
+	@Test
+	void testGetEncoding_sniffsUtf8_pureAscii() throws IOException {
+		byte[] bytes = "hello world".getBytes(StandardCharsets.US_ASCII);
+		String systemDefault = new InputStreamReader(InputStream.nullInputStream()).
+				getEncoding();
+		try (UnicodeReader r = new UnicodeReader(new ByteArrayInputStream(bytes))) {
+			Assertions.assertEquals(systemDefault, r.getEncoding());
+			Assertions.assertEquals("hello world", readAll(r));
+		}
+	}
+
+	@Test
+	void testGetEncoding_defaultEncodingNotOverridden() throws IOException {
+		byte[] bytes = "héllo".getBytes(StandardCharsets.UTF_8);
+		try (UnicodeReader r = new UnicodeReader(new ByteArrayInputStream(bytes),
+				"ISO-8859-1")) {
+			Assertions.assertEquals("ISO-8859-1", r.getEncoding());
+			Assertions.assertEquals("hÃ©llo", readAll(r));
+		}
+	}
+
+	@Test
+	void testInit_unsupportedEncoding() {
+		Assertions.assertThrows(UnsupportedEncodingException.class, () ->
+			new UnicodeReader(new ByteArrayInputStream(new byte[0]), "xxx-unknown"));
+	}
+
+	@Test
+	void testRead_emptyStream() throws IOException {
+		try (UnicodeReader r = new UnicodeReader(new ByteArrayInputStream(new byte[0]),
+				"UTF-8")) {
+			Assertions.assertEquals(-1, r.read());
+			Assertions.assertEquals(-1, r.read(new char[10], 0, 10));
+		}
+	}
+
+	@Test
+	void testRead_largeText() throws IOException {
+
+		// Multi-byte chars spanning many blocks
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<20000; i++) {
+			sb.append("line ").append(i).append(" €😀\n");
+		}
+		String text = sb.toString();
+		UnicodeWriter.setWriteUtf8BOM(true);
+
+		for (Charset charset : new Charset[] { StandardCharsets.UTF_8,
+				StandardCharsets.UTF_16BE, StandardCharsets.UTF_16LE }) {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			try (Writer w = new UnicodeWriter(baos, charset)) {
+				w.write(text);
+			}
+			try (UnicodeReader r = new UnicodeReader(
+					new ByteArrayInputStream(baos.toByteArray()), "ISO-8859-1")) {
+				Assertions.assertEquals(text, readAll(r), charset.name());
+			}
+		}
+
+	}
+
+	@Test
+	void testRead_oneByteAtATime() throws IOException {
+
+		byte[] bytes = "a€😀b".getBytes(StandardCharsets.UTF_8);
+		InputStream in = new ByteArrayInputStream(bytes) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 1));
+			}
+		};
+
+		try (UnicodeReader r = new UnicodeReader(in, "UTF-8")) {
+			Assertions.assertEquals("a€😀b", readAll(r));
+		}
+
+	}
+
+	@Test
+	void testRead_singleChars() throws IOException {
+
+		// Surrogate pairs must be returned one char at a time
+		String text = "a😀b😀";
+		byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+		try (UnicodeReader r = new UnicodeReader(new ByteArrayInputStream(bytes),
+				"UTF-8")) {
+			for (int i=0; i<text.length(); i++) {
+				Assertions.assertEquals(text.charAt(i), r.read());
+			}
+			Assertions.assertEquals(-1, r.read());
+		}
+
+	}
+
+	@Test
+	void testRead_malformedInput() throws IOException {
+		byte[] bytes = { 'a', (byte)0xff, 'b' };
+		try (UnicodeReader r = new UnicodeReader(new ByteArrayInputStream(bytes),
+				"UTF-8")) {
+			Assertions.assertEquals("a\ufffdb", readAll(r));
+		}
+	}
 }
@@ -0,0 +1,195 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.lang.ref.WeakReference;
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.modes.CTokenMaker;
+import org.fife.ui.rsyntaxtextarea.modes.JavaTokenMaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link AbstractTokenMakerFactory} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class AbstractTokenMakerFactoryTest {
+
+
+	private static void assertCollected(WeakReference<?> ref) throws Exception {
+		for (int i=0; i<100 && ref.get()!=null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assertions.assertNull(ref.get());
+	}
+
+
+	private static AbstractTokenMakerFactory createPoolingFactory() {
+		AbstractTokenMakerFactory tmf = new DefaultTokenMakerFactory();
+		tmf.setTokenMakerPoolingEnabled(true);
+		return tmf;
+	}
+
+
+	@Test
+	void testGetTokenMaker() {
+		TokenMakerFactory tmf = new DefaultTokenMakerFactory();
+		TokenMaker tm = tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertInstanceOf(JavaTokenMaker.class, tm);
+		Assertions.assertNotSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+	}
+
+
+	@Test
+	void testPreloadTokenMakers() {
+
+		AbstractTokenMakerFactory tmf = createPoolingFactory();
+		tmf.preloadTokenMakers(SyntaxConstants.SYNTAX_STYLE_JAVA, "unknown/style");
+
+		TokenMaker tm = tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertInstanceOf(JavaTokenMaker.class, tm);
+		// The pool only had one token maker
+		Assertions.assertNotSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+
+	}
+
+
+	@Test
+	void testPreloadTokenMakers_poolingDisabled() {
+		AbstractTokenMakerFactory tmf = new DefaultTokenMakerFactory();
+		tmf.preloadTokenMakers(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertInstanceOf(JavaTokenMaker.class,
+			tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+	}
+
+
+	@Test
+	void testReleaseTokenMaker() {
+
+		AbstractTokenMakerFactory tmf = createPoolingFactory();
+		TokenMaker tm = tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		tmf.releaseTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA, tm);
+		tmf.releaseTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA, tm); // Ignored
+
+		Assertions.assertSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+		Assertions.assertNotSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+		Assertions.assertNotSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_GROOVY));
+
+	}
+
+
+	@Test
+	void testReleaseTokenMaker_poolingDisabled() {
+		AbstractTokenMakerFactory tmf = new DefaultTokenMakerFactory();
+		TokenMaker tm = tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		tmf.releaseTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA, tm);
+		Assertions.assertNotSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+	}
+
+
+	@Test
+	void testReleaseTokenMaker_resetsTokens() {
+
+		AbstractTokenMakerFactory tmf = createPoolingFactory();
+		TokenMakerBase tm = (TokenMakerBase)tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		char[] text = "int x = 5;".toCharArray();
+		tm.getTokenList(new Segment(text, 0, text.length), TokenTypes.NULL, 0);
+		Assertions.assertNotNull(tm.firstToken);
+
+		tmf.releaseTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA, tm);
+		Assertions.assertNull(tm.firstToken);
+
+	}
+
+
+	@Test
+	void testReleaseTokenMaker_textNotRetained() throws Exception {
+
+		AbstractTokenMakerFactory tmf = createPoolingFactory();
+		String[] styles = { SyntaxConstants.SYNTAX_STYLE_JAVA,
+				SyntaxConstants.SYNTAX_STYLE_HTML, SyntaxConstants.SYNTAX_STYLE_INI,
+				SyntaxConstants.SYNTAX_STYLE_UNIX_SHELL };
+
+		for (String style : styles) {
+
+			char[] text = "int x = 5; /* comment */ [section]".toCharArray();
+			WeakReference<char[]> ref = new WeakReference<>(text);
+			TokenMaker tm = tmf.getTokenMaker(style);
+			tm.getTokenList(new Segment(text, 0, text.length), TokenTypes.NULL, 0);
+			tm.getLastTokenTypeOnLine(new Segment(text, 0, text.length), TokenTypes.NULL);
+			tmf.releaseTokenMaker(style, tm);
+
+			text = null;
+			assertCollected(ref);
+			Assertions.assertSame(tm, tmf.getTokenMaker(style));
+
+		}
+
+	}
+
+
+	@Test
+	void testReleaseTokenMaker_textNotRetainedByDocumentWorkers() throws Exception {
+
+		AbstractTokenMakerFactory tmf = createPoolingFactory();
+		RSyntaxDocument doc = new RSyntaxDocument(tmf, SyntaxConstants.SYNTAX_STYLE_JAVA);
+		doc.setParallelLexingEnabled(true);
+		doc.insertString(0, "int x; /* comment */\n".repeat(
+				RSyntaxDocument.PARALLEL_LEXING_MIN_LINES), null);
+
+		// Worker token makers were used to lex the text, and pooled
+		Segment s = new Segment();
+		doc.getText(0, doc.getLength(), s);
+		WeakReference<char[]> textRef = new WeakReference<>(s.array);
+		WeakReference<RSyntaxDocument> docRef = new WeakReference<>(doc);
+		doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_NONE);
+
+		s = null;
+		doc = null;
+		assertCollected(docRef);
+		assertCollected(textRef);
+
+	}
+
+
+	@Test
+	void testReleaseTokenMaker_wrongType() {
+
+		AbstractTokenMakerFactory tmf = createPoolingFactory();
+		TokenMaker tm = new CTokenMaker();
+		tmf.releaseTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA, tm);
+		tmf.releaseTokenMaker("unknown/style", tm);
+
+		Assertions.assertInstanceOf(JavaTokenMaker.class,
+			tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+		Assertions.assertNotSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_C));
+
+	}
+
+
+	@Test
+	void testSetTokenMakerPoolingEnabled() {
+
+		AbstractTokenMakerFactory tmf = new DefaultTokenMakerFactory();
+		Assertions.assertFalse(tmf.isTokenMakerPoolingEnabled());
+		tmf.setTokenMakerPoolingEnabled(true);
+		Assertions.assertTrue(tmf.isTokenMakerPoolingEnabled());
+
+		// Disabling discards pooled token makers
+		TokenMaker tm = tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		tmf.releaseTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA, tm);
+		tmf.setTokenMakerPoolingEnabled(false);
+		Assertions.assertFalse(tmf.isTokenMakerPoolingEnabled());
+		Assertions.assertNotSame(tm, tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+
+	}
+
+
+}
@@ -19,6 +19,16 @@ import javax.swing.text.Segment;
 class AbstractTokenMakerTest {
 
 
+	@Test
+	void testConstructor_wordsToHighlightFrozen() {
+		ConcreteTestTokenMaker tm = new ConcreteTestTokenMaker();
+		Assertions.assertTrue(tm.wordsToHighlight.isFrozen());
+		char[] text = "three".toCharArray();
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD,
+			tm.wordsToHighlight.get(text, 0, text.length - 1));
+	}
+
+
 	@Test
 	void testRemoveLastToken_noTokensFoundSoFar() {
 		ConcreteTestTokenMaker tm = new ConcreteTestTokenMaker();
@@ -0,0 +1,367 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
+import javax.swing.SwingWorker;
+
+import org.fife.ui.rtextarea.RTextAreaEditorKit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link AsyncFileLoader} class.  Unlike most UI tests,
+ * these don't run on the EDT, since they wait for work done on it.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class AsyncFileLoaderTest {
+
+
+	private static TextEditorPane createTextArea() throws Exception {
+		AtomicReference<TextEditorPane> textArea = new AtomicReference<>();
+		SwingUtilities.invokeAndWait(() -> textArea.set(new TextEditorPane()));
+		return textArea.get();
+	}
+
+
+	private static String createText(String lineSeparator) {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; sb.length()<AsyncFileLoader.BUFFER_SIZE * 3; i++) {
+			sb.append("int x").append(i).append(" = ").append(i).append("; // é").
+					append(lineSeparator);
+		}
+		return sb.toString();
+	}
+
+
+	private static AsyncFileLoader loadAsync(TextEditorPane textArea,
+			FileLocation loc, CountDownLatch done) throws Exception {
+
+		AtomicReference<AsyncFileLoader> loader = new AtomicReference<>();
+		SwingUtilities.invokeAndWait(() -> {
+			AsyncFileLoader l = textArea.loadAsync(loc, "UTF-8");
+			l.addPropertyChangeListener(e -> {
+				if ("state".equals(e.getPropertyName()) &&
+						e.getNewValue()==SwingWorker.StateValue.DONE) {
+					done.countDown();
+				}
+			});
+			loader.set(l);
+		});
+		return loader.get();
+
+	}
+
+
+	private static void onEdt(ThrowingRunnable r) throws Exception {
+		AtomicReference<Exception> error = new AtomicReference<>();
+		SwingUtilities.invokeAndWait(() -> {
+			try {
+				r.run();
+			} catch (Exception e) {
+				error.set(e);
+			}
+		});
+		if (error.get()!=null) {
+			throw error.get();
+		}
+	}
+
+
+	@Test
+	void testLoadAsync() throws Exception {
+
+		String text = createText("\r\n");
+		File file = File.createTempFile("unitTest", ".tmp");
+		file.deleteOnExit();
+		Files.write(file.toPath(), text.getBytes(StandardCharsets.UTF_8));
+
+		TextEditorPane textArea = createTextArea();
+		onEdt(() -> {
+			textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+			textArea.append("foo");
+		});
+
+		CountDownLatch done = new CountDownLatch(1);
+		AsyncFileLoader loader = loadAsync(textArea, FileLocation.create(file), done);
+		Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+		Assertions.assertNull(loader.get());
+		Assertions.assertEquals(100, loader.getProgress());
+
+		onEdt(() -> {
+			Assertions.assertEquals(text.replace("\r\n", "\n"), textArea.getText());
+			Assertions.assertEquals("\r\n", textArea.getLineSeparator());
+			Assertions.assertEquals("UTF-8", textArea.getEncoding());
+			Assertions.assertEquals(file.getAbsolutePath(), textArea.getFileFullPath());
+			Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_JAVA,
+					textArea.getSyntaxEditingStyle());
+			Assertions.assertTrue(textArea.getTokenListForLine(1000).is(
+					Token.DATA_TYPE, "int"));
+			Assertions.assertTrue(textArea.isEditable());
+			Assertions.assertFalse(textArea.isDirty());
+			Assertions.assertFalse(textArea.canUndo());
+			Assertions.assertEquals(0, textArea.getCaretPosition());
+		});
+
+	}
+
+
+	@Test
+	void testLoadAsync_afterReadOnlyView() throws Exception {
+
+		File file = File.createTempFile("unitTest", ".tmp");
+		file.deleteOnExit();
+		Files.write(file.toPath(), "int x;\n".getBytes(StandardCharsets.UTF_8));
+
+		TextEditorPane textArea = createTextArea();
+		onEdt(() -> {
+			textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+			textArea.loadReadOnlyView(FileLocation.create(file), "UTF-8");
+		});
+
+		// The text is highlighted in the same language as the view was
+		CountDownLatch done = new CountDownLatch(1);
+		loadAsync(textArea, FileLocation.create(file), done);
+		Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+
+		onEdt(() -> {
+			Assertions.assertEquals("int x;\n", textArea.getText());
+			Assertions.assertFalse(textArea.isReadOnlyView());
+			Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_JAVA,
+					textArea.getSyntaxEditingStyle());
+			Assertions.assertTrue(textArea.getTokenListForLine(0).is(
+					Token.DATA_TYPE, "int"));
+		});
+
+	}
+
+
+	@Test
+	void testLoadAsync_cancel() throws Exception {
+
+		CountDownLatch blocked = new CountDownLatch(1);
+		FileLocation loc = new TestFileLocation() {
+			@Override
+			protected InputStream getInputStream() {
+				return new BlockingInputStream("hello\r\nworld".getBytes(
+						StandardCharsets.UTF_8), blocked);
+			}
+		};
+
+		TextEditorPane textArea = createTextArea();
+		CountDownLatch done = new CountDownLatch(1);
+		AsyncFileLoader loader = loadAsync(textArea, loc, done);
+		Assertions.assertTrue(blocked.await(30, TimeUnit.SECONDS));
+
+		// Wait for what was read to be displayed
+		long end = System.currentTimeMillis() + 30000;
+		AtomicReference<String> text = new AtomicReference<>("");
+		while (!"hello\nworld".equals(text.get()) &&
+				System.currentTimeMillis()<end) {
+			Thread.sleep(10);
+			onEdt(() -> text.set(textArea.getText()));
+		}
+		Assertions.assertEquals("hello\nworld", text.get());
+		onEdt(() -> {
+			Assertions.assertFalse(textArea.isEditable());
+			Assertions.assertFalse(textArea.isDirty());
+		});
+
+		onEdt(() -> loader.cancel(true));
+		Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+		Assertions.assertTrue(loader.isCancelled());
+
+		onEdt(() -> {
+			Assertions.assertEquals("hello\nworld", textArea.getText());
+			Assertions.assertTrue(textArea.isEditable());
+			Assertions.assertTrue(textArea.isDirty());
+			Assertions.assertFalse(textArea.canUndo());
+		});
+
+	}
+
+
+	@Test
+	void testLoadAsync_error() throws Exception {
+
+		FileLocation loc = new TestFileLocation() {
+			@Override
+			protected InputStream getInputStream() throws IOException {
+				throw new IOException("Expected");
+			}
+		};
+
+		TextEditorPane textArea = createTextArea();
+		CountDownLatch done = new CountDownLatch(1);
+		AsyncFileLoader loader = loadAsync(textArea, loc, done);
+		Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+
+		ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+				loader::get);
+		Assertions.assertInstanceOf(IOException.class, e.getCause());
+		onEdt(() -> {
+			Assertions.assertTrue(textArea.isEditable());
+			Assertions.assertTrue(textArea.isDirty());
+		});
+
+	}
+
+
+	@Test
+	void testLoadAsync_fileDoesNotExist() throws Exception {
+
+		File file = File.createTempFile("unitTest", ".tmp");
+		Assertions.assertTrue(file.delete());
+
+		TextEditorPane textArea = createTextArea();
+		onEdt(() -> textArea.append("foo"));
+		CountDownLatch done = new CountDownLatch(1);
+		loadAsync(textArea, FileLocation.create(file), done);
+		Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+
+		onEdt(() -> {
+			Assertions.assertEquals("", textArea.getText());
+			Assertions.assertEquals("UTF-8", textArea.getEncoding());
+			Assertions.assertFalse(textArea.isDirty());
+			Assertions.assertFalse(textArea.canUndo());
+		});
+
+	}
+
+
+	@Test
+	void testLoadAsync_thenLoad() throws Exception {
+
+		CountDownLatch blocked = new CountDownLatch(1);
+		FileLocation loc = new TestFileLocation() {
+			@Override
+			protected InputStream getInputStream() {
+				return new BlockingInputStream("hello".getBytes(
+						StandardCharsets.UTF_8), blocked);
+			}
+		};
+
+		TextEditorPane textArea = createTextArea();
+		CountDownLatch done = new CountDownLatch(1);
+		AsyncFileLoader loader = loadAsync(textArea, loc, done);
+		Assertions.assertTrue(blocked.await(30, TimeUnit.SECONDS));
+
+		// A synchronous load cancels the background one
+		File file = File.createTempFile("unitTest", ".tmp");
+		file.deleteOnExit();
+		Files.write(file.toPath(), "lorem ipsum\n".getBytes(StandardCharsets.UTF_8));
+		onEdt(() -> textArea.load(FileLocation.create(file), "UTF-8"));
+		Assertions.assertTrue(done.await(30, TimeUnit.SECONDS));
+		Assertions.assertTrue(loader.isCancelled());
+
+		onEdt(() -> {
+			Assertions.assertEquals("lorem ipsum\n", textArea.getText());
+			Assertions.assertEquals("\n", textArea.getDocument().getProperty(
+					RTextAreaEditorKit.EndOfLineStringProperty));
+			Assertions.assertTrue(textArea.isEditable());
+			Assertions.assertFalse(textArea.isDirty());
+		});
+
+	}
+
+
+	/**
+	 * Returns some bytes, then blocks until interrupted.
+	 */
+	private static final class BlockingInputStream extends InputStream {
+
+		private final ByteArrayInputStream in;
+		private final CountDownLatch blocked;
+
+		BlockingInputStream(byte[] bytes, CountDownLatch blocked) {
+			this.in = new ByteArrayInputStream(bytes);
+			this.blocked = blocked;
+		}
+
+		@Override
+		public int read() throws IOException {
+			byte[] b = new byte[1];
+			return read(b, 0, 1)==-1 ? -1 : b[0] & 0xff;
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (in.available()>0) {
+				return in.read(b, off, len);
+			}
+			blocked.countDown();
+			try {
+				new CountDownLatch(1).await();
+			} catch (InterruptedException e) {
+				throw new InterruptedIOException();
+			}
+			return -1;
+		}
+
+	}
+
+
+	/**
+	 * A remote file location whose contents are supplied by subclasses.
+	 */
+	private abstract static class TestFileLocation extends FileLocation {
+
+		@Override
+		protected long getActualLastModified() {
+			return TextEditorPane.LAST_MODIFIED_UNKNOWN;
+		}
+
+		@Override
+		public String getFileFullPath() {
+			return "test://file.txt";
+		}
+
+		@Override
+		public String getFileName() {
+			return "file.txt";
+		}
+
+		@Override
+		protected OutputStream getOutputStream() throws IOException {
+			throw new IOException("Not supported");
+		}
+
+		@Override
+		public boolean isLocal() {
+			return false;
+		}
+
+		@Override
+		public boolean isLocalAndExists() {
+			return false;
+		}
+
+	}
+
+
+	/**
+	 * A runnable that can throw an exception.
+	 */
+	private interface ThrowingRunnable {
+		void run() throws Exception;
+	}
+
+
+}
@@ -0,0 +1,172 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import org.fife.ui.rsyntaxtextarea.modes.CTokenMaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link DocumentSnapshot} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class DocumentSnapshotTest {
+
+	private static final String TEXT = "int x;\n/* comment\nend */ x++;\n";
+
+	private DocumentSnapshot snapshot;
+
+
+	@BeforeEach
+	void setUp() throws Exception {
+		RSyntaxDocument doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		doc.insertString(0, TEXT, null);
+		snapshot = doc.getSnapshot();
+	}
+
+
+	@Test
+	void testGetLastTokenTypeOnLine() {
+		Assertions.assertEquals(TokenTypes.NULL, snapshot.getLastTokenTypeOnLine(0));
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, snapshot.getLastTokenTypeOnLine(1));
+		Assertions.assertEquals(TokenTypes.NULL, snapshot.getLastTokenTypeOnLine(2));
+		Assertions.assertEquals(TokenTypes.NULL, snapshot.getLastTokenTypeOnLine(3));
+	}
+
+
+	@Test
+	void testGetLastTokenTypeOnLine_invalidLine() {
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+			snapshot.getLastTokenTypeOnLine(4));
+	}
+
+
+	@Test
+	void testGetLength() {
+		Assertions.assertEquals(TEXT.length(), snapshot.getLength());
+	}
+
+
+	@Test
+	void testGetLine() {
+		Assertions.assertEquals("int x;", snapshot.getLine(0).toString());
+		Assertions.assertEquals("/* comment", snapshot.getLine(1).toString());
+		Assertions.assertEquals("end */ x++;", snapshot.getLine(2).toString());
+		Assertions.assertEquals("", snapshot.getLine(3).toString());
+	}
+
+
+	@Test
+	void testGetLineCount() {
+		Assertions.assertEquals(4, snapshot.getLineCount());
+	}
+
+
+	@Test
+	void testGetLineEndOffset() {
+		Assertions.assertEquals(7, snapshot.getLineEndOffset(0));
+		Assertions.assertEquals(TEXT.length() + 1, snapshot.getLineEndOffset(3));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+			snapshot.getLineEndOffset(-1));
+	}
+
+
+	@Test
+	void testGetLineOfOffset() {
+		Assertions.assertEquals(0, snapshot.getLineOfOffset(0));
+		Assertions.assertEquals(0, snapshot.getLineOfOffset(6));
+		Assertions.assertEquals(1, snapshot.getLineOfOffset(7));
+		Assertions.assertEquals(2, snapshot.getLineOfOffset(20));
+		Assertions.assertEquals(3, snapshot.getLineOfOffset(TEXT.length()));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+			snapshot.getLineOfOffset(TEXT.length() + 1));
+	}
+
+
+	@Test
+	void testGetLineStartOffset() {
+		Assertions.assertEquals(0, snapshot.getLineStartOffset(0));
+		Assertions.assertEquals(7, snapshot.getLineStartOffset(1));
+		Assertions.assertEquals(TEXT.length(), snapshot.getLineStartOffset(3));
+	}
+
+
+	@Test
+	void testGetText() {
+		CharSequence text = snapshot.getText();
+		Assertions.assertEquals(TEXT, text.toString());
+		Assertions.assertEquals(TEXT.length(), text.length());
+		Assertions.assertEquals('x', text.charAt(4));
+		Assertions.assertEquals("comment", text.subSequence(10, 17).toString());
+		Assertions.assertEquals('m', text.subSequence(10, 17).charAt(2));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+			text.charAt(TEXT.length()));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+			text.subSequence(5, 4));
+	}
+
+
+	@Test
+	void testGetText_range() {
+		Assertions.assertEquals("x;", snapshot.getText(4, 2));
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+			snapshot.getText(TEXT.length(), 1));
+	}
+
+
+	@Test
+	void testGetTokenListForLine() {
+
+		Token t = snapshot.getTokenListForLine(2, new CTokenMaker());
+		Assertions.assertTrue(t.isComment());
+		Assertions.assertEquals("end */", t.getLexeme());
+		Assertions.assertEquals(snapshot.getLineStartOffset(2), t.getOffset());
+
+		t = snapshot.getTokenListForLine(0, new CTokenMaker());
+		Assertions.assertTrue(t.is(TokenTypes.DATA_TYPE, "int"));
+
+	}
+
+
+	@Test
+	void testGetTokenListForLine_longLine() throws Exception {
+
+		RSyntaxDocument doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		doc.insertString(0, "int x; ".repeat(2000) + "\n/* comment", null);
+		doc.setLongLinePolicy(new LongLinePolicy(1000, 100000));
+		DocumentSnapshot snapshot2 = doc.getSnapshot();
+
+		// The entire line is tokenized
+		Token t = snapshot2.getTokenListForLine(0, new CTokenMaker());
+		int count = 0;
+		for (; t!=null && t.isPaintable(); t=t.getNextToken()) {
+			if (t.is(TokenTypes.DATA_TYPE, "int")) {
+				count++;
+			}
+		}
+		Assertions.assertEquals(2000, count);
+
+		// Unless it's too long to be highlighted
+		doc.setLongLinePolicy(new LongLinePolicy(1000, 5000));
+		snapshot2 = doc.getSnapshot();
+		t = snapshot2.getTokenListForLine(0, new CTokenMaker());
+		Assertions.assertEquals(TokenTypes.IDENTIFIER, t.getType());
+		Assertions.assertEquals(LongLineLexer.CHUNK_SIZE, t.length());
+
+	}
+
+
+	@Test
+	void testIsLineStateKnown() {
+		Assertions.assertTrue(snapshot.isLineStateKnown(0));
+		Assertions.assertTrue(snapshot.isLineStateKnown(3));
+	}
+
+
+}
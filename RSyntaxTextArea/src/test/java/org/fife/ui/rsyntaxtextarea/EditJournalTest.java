@@ -0,0 +1,260 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.text.Document;
+import javax.swing.text.PlainDocument;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * Unit tests for the {@link EditJournal} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class EditJournalTest {
+
+	@TempDir
+	Path dir;
+
+
+	private static Document createDocument(String text) throws Exception {
+		Document doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		doc.insertString(0, text, null);
+		return doc;
+	}
+
+
+	private static String getText(Document doc) throws Exception {
+		return doc.getText(0, doc.getLength());
+	}
+
+
+	private static String recover(File journal, String original) throws Exception {
+		Document doc = new PlainDocument();
+		doc.insertString(0, original, null);
+		EditJournal.recover(journal, doc);
+		return getText(doc);
+	}
+
+
+	@Test
+	void testClose() throws Exception {
+
+		File journalFile = dir.resolve("journal").toFile();
+		Document doc = createDocument("original");
+		EditJournal journal = new EditJournal(doc, journalFile);
+		doc.insertString(0, "foo", null);
+		journal.close();
+		Assertions.assertTrue(journal.awaitClose(10, TimeUnit.SECONDS));
+		Assertions.assertFalse(journalFile.exists());
+
+		// Edits after closing aren't journaled
+		doc.insertString(0, "bar", null);
+		Assertions.assertFalse(journalFile.exists());
+
+	}
+
+
+	@Test
+	void testAwaitClose_notClosed() throws Exception {
+		Document doc = createDocument("original");
+		EditJournal journal = new EditJournal(doc, dir.resolve("journal").toFile());
+		Assertions.assertThrows(IllegalStateException.class, () ->
+			journal.awaitClose(1, TimeUnit.SECONDS));
+		journal.close();
+	}
+
+
+	@Test
+	void testClose_calledTwice() throws Exception {
+		Document doc = createDocument("original");
+		EditJournal journal = new EditJournal(doc, dir.resolve("journal").toFile());
+		journal.close();
+		Assertions.assertTimeoutPreemptively(Duration.ofSeconds(10),
+				journal::close);
+	}
+
+
+	@Test
+	void testCompaction() throws Exception {
+
+		File journalFile = dir.resolve("journal").toFile();
+		Document doc = createDocument("original");
+		EditJournal journal = new EditJournal(doc, journalFile, 1024);
+
+		for (int i=0; i<2000; i++) {
+			doc.insertString(doc.getLength(), "x" + i, null);
+			if (i%3==0) {
+				doc.remove(i % doc.getLength(), 1);
+			}
+			if (i%100==0) {
+				journal.flush();
+			}
+		}
+		journal.flush();
+
+		// The journal is about one checkpoint, not thousands of edits
+		Assertions.assertTrue(journalFile.length()<2 * 1024 + 4 * doc.getLength(),
+				"Journal not compacted: " + journalFile.length());
+		Assertions.assertEquals(getText(doc), recover(journalFile, "original"));
+		journal.close();
+
+	}
+
+
+	@Test
+	void testFlush_afterClose() throws Exception {
+		Document doc = createDocument("original");
+		EditJournal journal = new EditJournal(doc, dir.resolve("journal").toFile());
+		journal.close();
+		Assertions.assertThrows(IllegalStateException.class, journal::flush);
+		Assertions.assertThrows(IllegalStateException.class, journal::markSaved);
+	}
+
+
+	@Test
+	void testMarkSaved() throws Exception {
+
+		File journalFile = dir.resolve("journal").toFile();
+		Document doc = createDocument("original");
+		EditJournal journal = new EditJournal(doc, journalFile);
+		doc.insertString(0, "foo", null);
+		journal.markSaved();
+		doc.remove(0, 1);
+		doc.insertString(doc.getLength(), "bar", null);
+		journal.flush();
+
+		Assertions.assertEquals("oooriginalbar", recover(journalFile, "foooriginal"));
+		journal.close();
+
+	}
+
+
+	@Test
+	void testMarkSaved_duringCompaction() throws Exception {
+
+		// Block the background thread when it starts compacting
+		CountDownLatch compacting = new CountDownLatch(1);
+		CountDownLatch proceed = new CountDownLatch(1);
+		Document doc = new PlainDocument() {
+			@Override
+			public void render(Runnable r) {
+				if (compacting.getCount()>0) {
+					compacting.countDown();
+					try {
+						proceed.await();
+					} catch (InterruptedException ie) {
+						Thread.currentThread().interrupt();
+					}
+				}
+				super.render(r);
+			}
+		};
+		doc.insertString(0, "original", null);
+
+		File journalFile = dir.resolve("journal").toFile();
+		EditJournal journal = new EditJournal(doc, journalFile, 0);
+		for (int i=0; i<10; i++) {
+			doc.remove(0, 1);
+			doc.insertString(0, "x", null);
+		}
+		Assertions.assertTrue(compacting.await(10, TimeUnit.SECONDS));
+
+		// The checkpoint covers both the save and the edit after it
+		journal.markSaved();
+		String saved = getText(doc);
+		doc.insertString(0, "after", null);
+		proceed.countDown();
+		journal.flush();
+
+		Assertions.assertEquals(getText(doc), recover(journalFile, saved));
+		journal.close();
+
+	}
+
+
+	@Test
+	void testRecover() throws Exception {
+
+		File journalFile = dir.resolve("journal").toFile();
+		Document doc = createDocument("public class Foo {\n}\n");
+		EditJournal journal = new EditJournal(doc, journalFile);
+
+		doc.insertString(18, "\tint x = 5;\n", null);
+		doc.remove(13, 3);
+		doc.insertString(13, "Bar", null);
+		doc.insertString(0, "// Comment 😀\n", null);
+		journal.flush();
+		Assertions.assertNull(journal.getError());
+
+		Assertions.assertEquals(getText(doc),
+				recover(journalFile, "public class Foo {\n}\n"));
+		journal.close();
+
+	}
+
+
+	@Test
+	void testRecover_documentDoesNotMatch() throws Exception {
+
+		File journalFile = dir.resolve("journal").toFile();
+		Document doc = createDocument("original text");
+		EditJournal journal = new EditJournal(doc, journalFile);
+		doc.remove(5, 8);
+		journal.flush();
+
+		Assertions.assertThrows(IOException.class, () ->
+			recover(journalFile, "short"));
+		journal.close();
+
+	}
+
+
+	@Test
+	void testRecover_notAJournal() throws Exception {
+		File file = dir.resolve("journal").toFile();
+		Files.writeString(file.toPath(), "Hello world");
+		Assertions.assertThrows(IOException.class, () -> recover(file, "text"));
+	}
+
+
+	@Test
+	void testRecover_partialEdit() throws Exception {
+
+		File journalFile = dir.resolve("journal").toFile();
+		Document doc = createDocument("original");
+		EditJournal journal = new EditJournal(doc, journalFile);
+		doc.insertString(0, "foo", null);
+		journal.flush();
+		long goodLength = journalFile.length();
+		doc.insertString(0, "bar", null);
+		journal.flush();
+
+		// Simulate dying while writing the last edit
+		try (FileChannel channel = FileChannel.open(journalFile.toPath(),
+				StandardOpenOption.WRITE)) {
+			channel.truncate(goodLength + 5);
+		}
+		Assertions.assertEquals("foooriginal", recover(journalFile, "original"));
+		journal.close();
+
+	}
+
+
+}
@@ -0,0 +1,255 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.swing.SwingUtilities;
+
+import org.fife.ui.rtextarea.TextMode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * Unit tests for the {@link FileModificationWatcher} class.  Like
+ * {@code AsyncFileLoaderTest}, these don't run on the EDT, since they wait
+ * for events fired on it.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class FileModificationWatcherTest {
+
+	@TempDir
+	Path dir;
+
+	private FileModificationWatcher watcher;
+
+
+	@BeforeEach
+	void setUp() throws Exception {
+		watcher = new FileModificationWatcher(50);
+	}
+
+
+	@AfterEach
+	void tearDown() throws Exception {
+		SwingUtilities.invokeAndWait(() -> {
+			try {
+				watcher.close();
+			} catch (Exception e) {
+				Assertions.fail(e);
+			}
+		});
+	}
+
+
+	/**
+	 * Creates an editor for a file, watched by {@link #watcher}.
+	 *
+	 * @param file The file.
+	 * @param fired Counted down each time the editor fires a
+	 *        {@code MODIFIED_OUTSIDE_EDITOR_PROPERTY} event.
+	 * @return The editor.
+	 */
+	private TextEditorPane createWatchedTextArea(Path file, CountDownLatch fired)
+			throws Exception {
+		AtomicReference<TextEditorPane> textArea = new AtomicReference<>();
+		SwingUtilities.invokeAndWait(() -> {
+			try {
+				TextEditorPane ta = new TextEditorPane(TextMode.INSERT,
+						false, FileLocation.create(file.toFile()), "UTF-8");
+				ta.addPropertyChangeListener(
+						TextEditorPane.MODIFIED_OUTSIDE_EDITOR_PROPERTY,
+						e -> fired.countDown());
+				watcher.addTextEditorPane(ta);
+				textArea.set(ta);
+			} catch (Exception e) {
+				Assertions.fail(e);
+			}
+		});
+		return textArea.get();
+	}
+
+
+	/**
+	 * Modifies a file, ensuring its modification time changes.
+	 */
+	private static void modify(Path file, String text) throws Exception {
+		FileTime time = Files.getLastModifiedTime(file);
+		Files.writeString(file, text);
+		Files.setLastModifiedTime(file, FileTime.fromMillis(time.toMillis() + 10000));
+	}
+
+
+	@Test
+	void testAddTextEditorPane() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		CountDownLatch fired = new CountDownLatch(1);
+		TextEditorPane textArea = createWatchedTextArea(file, fired);
+		SwingUtilities.invokeAndWait(() ->
+			Assertions.assertTrue(watcher.isWatching(textArea)));
+
+		modify(file, "changed");
+		Assertions.assertTrue(fired.await(30, TimeUnit.SECONDS));
+		SwingUtilities.invokeAndWait(() ->
+			Assertions.assertTrue(textArea.isModifiedOutsideEditor()));
+
+	}
+
+
+	@Test
+	void testAddTextEditorPane_directoryDoesNotExist() throws Exception {
+		Path file = dir.resolve("missing").resolve("test.txt");
+		TextEditorPane textArea = createWatchedTextArea(file, new CountDownLatch(1));
+		SwingUtilities.invokeAndWait(() ->
+			Assertions.assertFalse(watcher.isWatching(textArea)));
+	}
+
+
+	@Test
+	void testAddTextEditorPane_modifiedContinuously() throws Exception {
+
+		watcher.close();
+		watcher = new FileModificationWatcher(500, 1000);
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		CountDownLatch fired = new CountDownLatch(1);
+		createWatchedTextArea(file, fired);
+
+		// Changes never stop for the debounce period, but are still reported
+		long start = System.currentTimeMillis();
+		for (int i=0; fired.getCount()>0 && i<200; i++) {
+			modify(file, "changed " + i);
+			Thread.sleep(100);
+		}
+		Assertions.assertEquals(0, fired.getCount());
+		Assertions.assertTrue(System.currentTimeMillis() - start<15000);
+
+	}
+
+
+	@Test
+	void testAddTextEditorPane_otherFileModified() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		CountDownLatch fired = new CountDownLatch(1);
+		createWatchedTextArea(file, fired);
+
+		Path other = dir.resolve("other.txt");
+		Files.writeString(other, "other");
+		modify(other, "changed");
+		Assertions.assertFalse(fired.await(500, TimeUnit.MILLISECONDS));
+
+	}
+
+
+	@Test
+	void testAddTextEditorPane_symbolicLink() throws Exception {
+
+		Path target = Files.createDirectory(dir.resolve("target")).resolve("test.txt");
+		Files.writeString(target, "original");
+		Path link = dir.resolve("link.txt");
+		try {
+			Files.createSymbolicLink(link, target);
+		} catch (UnsupportedOperationException | IOException e) {
+			Assumptions.abort("Symbolic links not supported: " + e);
+		}
+		CountDownLatch fired = new CountDownLatch(1);
+		createWatchedTextArea(link, fired);
+
+		modify(target, "changed");
+		Assertions.assertTrue(fired.await(30, TimeUnit.SECONDS));
+
+	}
+
+
+	@Test
+	void testConstructor_maxDelayLessThanDebounce() {
+		Assertions.assertThrows(IllegalArgumentException.class, () ->
+			new FileModificationWatcher(500, 100));
+	}
+
+
+	@Test
+	void testRemoveTextEditorPane() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		CountDownLatch fired = new CountDownLatch(1);
+		TextEditorPane textArea = createWatchedTextArea(file, fired);
+		SwingUtilities.invokeAndWait(() -> {
+			watcher.removeTextEditorPane(textArea);
+			Assertions.assertFalse(watcher.isWatching(textArea));
+		});
+
+		modify(file, "changed");
+		Assertions.assertFalse(fired.await(500, TimeUnit.MILLISECONDS));
+
+	}
+
+
+	@Test
+	void testSave_notReported() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		CountDownLatch fired = new CountDownLatch(1);
+		TextEditorPane textArea = createWatchedTextArea(file, fired);
+
+		SwingUtilities.invokeAndWait(() -> {
+			textArea.setText("saved by the editor");
+			try {
+				textArea.save();
+			} catch (Exception e) {
+				Assertions.fail(e);
+			}
+		});
+		Assertions.assertFalse(fired.await(500, TimeUnit.MILLISECONDS));
+
+	}
+
+
+	@Test
+	void testSaveAs_newLocationWatched() throws Exception {
+
+		Path file = dir.resolve("test.txt");
+		Files.writeString(file, "original");
+		CountDownLatch fired = new CountDownLatch(1);
+		TextEditorPane textArea = createWatchedTextArea(file, fired);
+
+		Path subdir = Files.createDirectory(dir.resolve("subdir"));
+		Path newFile = subdir.resolve("new.txt");
+		SwingUtilities.invokeAndWait(() -> {
+			try {
+				textArea.saveAs(FileLocation.create(newFile.toFile()));
+			} catch (Exception e) {
+				Assertions.fail(e);
+			}
+			Assertions.assertTrue(watcher.isWatching(textArea));
+		});
+
+		modify(file, "old file changed");
+		Assertions.assertFalse(fired.await(500, TimeUnit.MILLISECONDS));
+		modify(newFile, "new file changed");
+		Assertions.assertTrue(fired.await(30, TimeUnit.SECONDS));
+
+	}
+
+
+}
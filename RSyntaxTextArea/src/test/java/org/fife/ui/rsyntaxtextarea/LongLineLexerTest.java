@@ -0,0 +1,250 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.Arrays;
+import java.util.Random;
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.modes.JavaTokenMaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link LongLineLexer} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class LongLineLexerTest {
+
+	private static final LongLinePolicy POLICY = new LongLinePolicy(1000, 1000000);
+
+
+	/**
+	 * Returns a long line of Java code, with strings and comments spanning
+	 * chunk boundaries and a comment longer than an entire chunk.
+	 *
+	 * @param end Text to append to the end of the line.
+	 * @return The line.
+	 */
+	private static Segment createLine(String end) {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<2000; i++) {
+			sb.append("int x").append(i).append(" = \"str\" + 0x1F; ");
+			if (i%300==7) {
+				sb.append("/* ").append("comment ".repeat(i+10)).append("*/ ");
+			}
+		}
+		sb.append(end);
+		// Use an offset into the array, like a document's text would
+		char[] text = ("xx" + sb).toCharArray();
+		return new Segment(text, 2, text.length - 2);
+	}
+
+
+	/**
+	 * Returns the type of the token each character of a line is in.
+	 *
+	 * @param t The token list for the line.
+	 * @param startOffset The offset of the line.
+	 * @param length The length of the line.
+	 * @return The token types.
+	 */
+	private static int[] getCharTypes(Token t, int startOffset, int length) {
+		int[] types = new int[length];
+		Arrays.fill(types, -1);
+		for (; t!=null && t.isPaintable(); t=t.getNextToken()) {
+			for (int i=t.getOffset(); i<t.getEndOffset(); i++) {
+				types[i - startOffset] = t.getType();
+			}
+		}
+		return types;
+	}
+
+
+	private static int[] getCharTypes(Segment line, int initialTokenType,
+			int startOffset) {
+		Token t = new JavaTokenMaker().getTokenList(line, initialTokenType,
+				startOffset);
+		return getCharTypes(t, startOffset, line.count);
+	}
+
+
+	@Test
+	void testGetLastTokenTypeOnLine() {
+
+		JavaTokenMaker tm = new JavaTokenMaker();
+		LongLineLexer lexer = new LongLineLexer(tm, POLICY);
+
+		Segment line = createLine("int y; /* unterminated");
+		Assertions.assertTrue(line.count>LongLineLexer.CHUNK_SIZE * 10);
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE,
+			lexer.getLastTokenTypeOnLine(line, TokenTypes.NULL));
+
+		line = createLine("int y;");
+		Assertions.assertEquals(TokenTypes.NULL,
+			lexer.getLastTokenTypeOnLine(line, TokenTypes.NULL));
+
+		// Starting in a comment that's closed at the very end of the line
+		char[] text = ("x".repeat(LongLineLexer.CHUNK_SIZE * 3) + " */ int y;").toCharArray();
+		line = new Segment(text, 0, text.length);
+		Assertions.assertEquals(TokenTypes.NULL,
+			lexer.getLastTokenTypeOnLine(line, TokenTypes.COMMENT_MULTILINE));
+
+	}
+
+
+	@Test
+	void testGetTokenList_entireLine() {
+
+		Segment line = createLine("int y; /* unterminated");
+		LongLineLexer lexer = new LongLineLexer(new JavaTokenMaker(), POLICY);
+		Token t = lexer.getTokenList(line, TokenTypes.NULL, 100, 100,
+				100 + line.count);
+
+		Assertions.assertArrayEquals(getCharTypes(line, TokenTypes.NULL, 100),
+			getCharTypes(t, 100, line.count));
+
+		// The list ends in the line's state, just like a token maker's
+		while (t.getNextToken()!=null) {
+			t = t.getNextToken();
+		}
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, t.getType());
+
+	}
+
+
+	@Test
+	void testGetTokenList_plainLine() {
+
+		Segment line = createLine("int y; /* unterminated");
+		LongLinePolicy policy = new LongLinePolicy(1000, 10000);
+		LongLineLexer lexer = new LongLineLexer(new JavaTokenMaker(), policy);
+
+		Token t = lexer.getTokenList(line, TokenTypes.NULL, 0, 0, line.count);
+		int offs = 0;
+		for (; t!=null; t=t.getNextToken()) {
+			Assertions.assertEquals(TokenTypes.IDENTIFIER, t.getType());
+			Assertions.assertEquals(offs, t.getOffset());
+			Assertions.assertTrue(t.length()<=LongLineLexer.CHUNK_SIZE);
+			offs = t.getEndOffset();
+		}
+		Assertions.assertEquals(line.count, offs);
+
+	}
+
+
+	@Test
+	void testGetTokenList_sameWindow() {
+
+		Segment line = createLine("");
+		LongLineLexer lexer = new LongLineLexer(new JavaTokenMaker(), POLICY);
+
+		Token t = lexer.getTokenList(line, TokenTypes.NULL, 0, 20000, 20010);
+		Assertions.assertSame(t, lexer.getTokenList(line, TokenTypes.NULL, 0,
+				20005, 20001));
+		Assertions.assertSame(t, lexer.getTokenList(line, TokenTypes.NULL, 0));
+
+		// A different line, or a different window, is tokenized again
+		Assertions.assertNotSame(t, lexer.getTokenList(line, TokenTypes.NULL, 0,
+				0, 0));
+		Assertions.assertNotSame(t, lexer.getTokenList(line,
+				TokenTypes.COMMENT_MULTILINE, 0, 20000, 20010));
+
+	}
+
+
+	@Test
+	void testGetTokenList_window() {
+
+		Segment line = createLine("");
+		int[] expected = getCharTypes(line, TokenTypes.NULL, 0);
+		LongLineLexer lexer = new LongLineLexer(new JavaTokenMaker(), POLICY);
+
+		// Windows both before and after the previous one
+		int[][] windows = { { 30000, 30500 }, { 20000, 20000 }, { 50000, 45000 } };
+		for (int[] window : windows) {
+
+			Token t = lexer.getTokenList(line, TokenTypes.NULL, 0, window[0],
+					window[1]);
+			int[] actual = getCharTypes(t, 0, line.count);
+
+			int start = Math.min(window[0], window[1]);
+			int end = Math.max(window[0], window[1]);
+			Assertions.assertArrayEquals(Arrays.copyOfRange(expected, start, end + 1),
+				Arrays.copyOfRange(actual, start, end + 1));
+
+			// Text away from the window is plain; "int" is a keyword
+			Assertions.assertEquals(TokenTypes.DATA_TYPE, expected[0]);
+			Assertions.assertEquals(TokenTypes.IDENTIFIER, actual[0]);
+			Assertions.assertEquals(TokenTypes.IDENTIFIER, actual[line.count - 1]);
+			for (Token t2=t; t2!=null; t2=t2.getNextToken()) {
+				Assertions.assertTrue(t2.length()<=LongLineLexer.CHUNK_SIZE);
+			}
+
+		}
+
+	}
+
+
+	@Test
+	void testTextChanged() {
+
+		// Quotes are kept balanced, since strings longer than a chunk can't
+		// be lexed correctly
+		String[] inserts = { "x", "/*", "*/", "\"a\"", " ", "int y; " };
+		Random random = new Random(42);
+		LongLineLexer lexer = new LongLineLexer(new JavaTokenMaker(), POLICY);
+		StringBuilder sb = new StringBuilder(createLine("").toString());
+		int startOffset = 100;
+		Segment line = new Segment(sb.toString().toCharArray(), 0, sb.length());
+		lexer.getLastTokenTypeOnLine(line, TokenTypes.NULL, startOffset);
+
+		for (int i=0; i<100; i++) {
+
+			int offs = random.nextInt(sb.length());
+			if (i%10==9) { // An edit in a line above this one
+				startOffset += 5;
+				lexer.textChanged(startOffset - 10, 5);
+			}
+			else if (random.nextBoolean()) {
+				String text = inserts[random.nextInt(inserts.length)];
+				sb.insert(offs, text);
+				lexer.textChanged(startOffset + offs, text.length());
+			}
+			else {
+				int len = Math.min(random.nextInt(20), sb.length() - offs);
+				int quote = sb.indexOf("\"", offs);
+				if (quote>-1) {
+					len = Math.min(len, quote - offs);
+				}
+				sb.delete(offs, offs + len);
+				lexer.textChanged(startOffset + offs, -len);
+			}
+			line = new Segment(sb.toString().toCharArray(), 0, sb.length());
+
+			int[] expected = getCharTypes(line, TokenTypes.NULL, startOffset);
+			Token t = new JavaTokenMaker().getTokenList(line, TokenTypes.NULL, 0);
+			while (t.getNextToken()!=null) {
+				t = t.getNextToken();
+			}
+			Assertions.assertEquals(t.getType(), lexer.getLastTokenTypeOnLine(line,
+					TokenTypes.NULL, startOffset));
+
+			int windowStart = startOffset + offs;
+			t = lexer.getTokenList(line, TokenTypes.NULL, startOffset,
+					windowStart, windowStart + 10);
+			int[] actual = getCharTypes(t, startOffset, line.count);
+			int end = Math.min(offs + 10, line.count - 1);
+			Assertions.assertArrayEquals(Arrays.copyOfRange(expected, offs, end + 1),
+				Arrays.copyOfRange(actual, offs, end + 1));
+
+		}
+
+	}
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.modes.JavaTokenMaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link LongLinePolicy} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class LongLinePolicyTest {
+
+
+	@Test
+	void testConstructor_invalidLengths() {
+		Assertions.assertThrows(IllegalArgumentException.class, () ->
+			new LongLinePolicy(0, 100));
+		Assertions.assertThrows(IllegalArgumentException.class, () ->
+			new LongLinePolicy(100, -1));
+	}
+
+
+	@Test
+	void testEqualsAndHashCode() {
+		LongLinePolicy policy = new LongLinePolicy(100, 1000);
+		Assertions.assertEquals(policy, new LongLinePolicy(100, 1000));
+		Assertions.assertEquals(policy.hashCode(), new LongLinePolicy(100, 1000).hashCode());
+		Assertions.assertNotEquals(policy, new LongLinePolicy(100, 1001));
+		Assertions.assertNotEquals(policy, LongLinePolicy.NONE);
+		Assertions.assertNotEquals(policy, "foo");
+	}
+
+
+	@Test
+	void testGetLastTokenTypeOnLine() {
+
+		char[] text = ("int x; /* " + "y".repeat(300)).toCharArray();
+		Segment line = new Segment(text, 0, text.length);
+		JavaTokenMaker tm = new JavaTokenMaker();
+
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE,
+			LongLinePolicy.NONE.getLastTokenTypeOnLine(tm, line, TokenTypes.NULL));
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE,
+			new LongLinePolicy(100, 1000).getLastTokenTypeOnLine(tm, line, TokenTypes.NULL));
+		Assertions.assertEquals(TokenTypes.NULL,
+			new LongLinePolicy(100, 200).getLastTokenTypeOnLine(tm, line, TokenTypes.NULL));
+
+	}
+
+
+	@Test
+	void testGetters() {
+		LongLinePolicy policy = new LongLinePolicy(100, 1000);
+		Assertions.assertEquals(100, policy.getChunkedLineLength());
+		Assertions.assertEquals(1000, policy.getPlainLineLength());
+	}
+
+
+	@Test
+	void testIsLexedInChunks() {
+		LongLinePolicy policy = new LongLinePolicy(100, 1000);
+		Assertions.assertFalse(policy.isLexedInChunks(100));
+		Assertions.assertTrue(policy.isLexedInChunks(101));
+		Assertions.assertTrue(policy.isLexedInChunks(1000));
+		Assertions.assertFalse(policy.isLexedInChunks(1001));
+		Assertions.assertFalse(LongLinePolicy.NONE.isLexedInChunks(Integer.MAX_VALUE));
+	}
+
+
+	@Test
+	void testIsLongLine() {
+		LongLinePolicy policy = new LongLinePolicy(100, 1000);
+		Assertions.assertFalse(policy.isLongLine(0));
+		Assertions.assertFalse(policy.isLongLine(100));
+		Assertions.assertTrue(policy.isLongLine(101));
+		Assertions.assertTrue(policy.isLongLine(1001));
+		Assertions.assertFalse(LongLinePolicy.NONE.isLongLine(Integer.MAX_VALUE));
+
+		// Lines can be rendered as plain text without ever being chunked
+		policy = new LongLinePolicy(1000, 100);
+		Assertions.assertTrue(policy.isLongLine(101));
+		Assertions.assertFalse(policy.isLexedInChunks(1001));
+	}
+
+
+	@Test
+	void testIsPlain() {
+		LongLinePolicy policy = new LongLinePolicy(100, 1000);
+		Assertions.assertFalse(policy.isPlain(101));
+		Assertions.assertFalse(policy.isPlain(1000));
+		Assertions.assertTrue(policy.isPlain(1001));
+		Assertions.assertFalse(LongLinePolicy.NONE.isPlain(Integer.MAX_VALUE));
+	}
+
+
+	@Test
+	void testToString() {
+		Assertions.assertEquals("[LongLinePolicy: chunkedLineLength=100, plainLineLength=1000]",
+			new LongLinePolicy(100, 1000).toString());
+	}
+
+
+}
@@ -0,0 +1,165 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.modes.HTMLTokenMaker;
+import org.fife.ui.rsyntaxtextarea.modes.JavaTokenMaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link PackedTokenList} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class PackedTokenListTest {
+
+
+	/**
+	 * Verifies that a packed list matches the token list it was created from.
+	 *
+	 * @param expected The original token list.
+	 * @param packed The packed list.
+	 */
+	private static void assertMatches(Token expected, PackedTokenList packed) {
+		int i = 0;
+		for (Token t=expected; t!=null; t=t.getNextToken()) {
+			Assertions.assertEquals(t.getType(), packed.getType(i));
+			Assertions.assertEquals(t.getOffset(), packed.getOffset(i));
+			Assertions.assertEquals(t.getLanguageIndex(), packed.getLanguageIndex(i));
+			Assertions.assertEquals(t.isHyperlink(), packed.isHyperlink(i));
+			if (t.getTextArray()!=null) {
+				Assertions.assertEquals(t.length(), packed.getLength(i));
+				Assertions.assertEquals(
+					new String(t.getTextArray(), t.getTextOffset(), t.length()),
+					new String(packed.getTextArray(), packed.getTextOffset(i),
+						packed.getLength(i)));
+			}
+			i++;
+		}
+		Assertions.assertEquals(i, packed.getTokenCount());
+	}
+
+
+	/**
+	 * Verifies that a token list matches another one.
+	 *
+	 * @param expected The expected token list.
+	 * @param actual The actual token list.
+	 */
+	private static void assertMatches(Token expected, Token actual) {
+		while (expected!=null) {
+			Assertions.assertEquals(expected.getType(), actual.getType());
+			Assertions.assertEquals(expected.getOffset(), actual.getOffset());
+			Assertions.assertEquals(expected.getLanguageIndex(), actual.getLanguageIndex());
+			Assertions.assertEquals(expected.isHyperlink(), actual.isHyperlink());
+			if (expected.getTextArray()!=null) {
+				Assertions.assertEquals(expected.getLexeme(), actual.getLexeme());
+			}
+			else {
+				Assertions.assertNull(actual.getTextArray());
+			}
+			expected = expected.getNextToken();
+			actual = actual.getNextToken();
+		}
+		Assertions.assertNull(actual);
+	}
+
+
+	@Test
+	void testCreate_java() {
+
+		String code = "xx  public int foo = 5; // see https://example.com";
+		Segment s = new Segment(code.toCharArray(), 4, code.length() - 4);
+		Token tokens = new JavaTokenMaker().getTokenList(s, TokenTypes.NULL, 100);
+
+		PackedTokenList packed = PackedTokenList.create(s, 100, tokens);
+		Assertions.assertEquals(100, packed.getStartOffset());
+		Assertions.assertEquals(code.length() - 4, packed.getLineLength());
+		assertMatches(tokens, packed);
+		Assertions.assertTrue(packed.getByteCount() > 0);
+
+		// Ends in a null token
+		int last = packed.getTokenCount() - 1;
+		Assertions.assertEquals(TokenTypes.NULL, packed.getType(last));
+		Assertions.assertEquals(-1, packed.getOffset(last));
+
+		// Some token is a hyperlink
+		boolean foundHyperlink = false;
+		for (int i=0; i<packed.getTokenCount(); i++) {
+			foundHyperlink |= packed.isHyperlink(i);
+		}
+		Assertions.assertTrue(foundHyperlink);
+
+	}
+
+
+	@Test
+	void testCreate_internalTypesAndLanguageIndices() {
+
+		// The last token includes the newline at the end of the line
+		String code = "<script>var x = 5; /* unterminated";
+		Segment s = new Segment((code + "\n").toCharArray(), 0, code.length());
+		Token tokens = new HTMLTokenMaker().getTokenList(s, TokenTypes.NULL, 0);
+		Token last = tokens;
+		while (last.getNextToken()!=null) {
+			last = last.getNextToken();
+		}
+		Assertions.assertTrue(last.getType()<0); // Sanity check
+
+		PackedTokenList packed = PackedTokenList.create(s, 0, tokens);
+		assertMatches(tokens, packed);
+		Assertions.assertEquals(code.length(), packed.getLineLength());
+
+	}
+
+
+	@Test
+	void testCreate_tokenNotFromLine() {
+		Segment s = new Segment("foo".toCharArray(), 0, 3);
+		Token t = new TokenImpl("foo".toCharArray(), 0, 2, 0, TokenTypes.IDENTIFIER, 0);
+		Assertions.assertNull(PackedTokenList.create(s, 0, t));
+	}
+
+
+	@Test
+	void testCreate_languageIndexTooLarge() {
+		Segment s = new Segment("foo".toCharArray(), 0, 3);
+		Token t = new TokenImpl(s, 0, 2, 0, TokenTypes.IDENTIFIER, 1000);
+		Assertions.assertNull(PackedTokenList.create(s, 0, t));
+	}
+
+
+	@Test
+	void testSetStartOffset() {
+		Segment s = new Segment("int x;".toCharArray(), 0, 6);
+		Token tokens = new JavaTokenMaker().getTokenList(s, TokenTypes.NULL, 0);
+		PackedTokenList packed = PackedTokenList.create(s, 0, tokens);
+		packed.setStartOffset(50);
+		Assertions.assertEquals(50, packed.getStartOffset());
+		Assertions.assertEquals(50, packed.getOffset(0));
+		Assertions.assertEquals(54, packed.getOffset(2));
+	}
+
+
+	@Test
+	void testToTokenList() {
+
+		String code = "<div class=\"foo\"><script>var x = 'a'; // http://x.com";
+		Segment s = new Segment((code + "\n").toCharArray(), 0, code.length());
+		Token tokens = new HTMLTokenMaker().getTokenList(s, TokenTypes.NULL, 20);
+		PackedTokenList packed = PackedTokenList.create(s, 20, tokens);
+
+		Token inflated = packed.toTokenList(new DefaultTokenFactory());
+		assertMatches(tokens, inflated);
+
+	}
+
+
+}
@@ -0,0 +1,123 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.modes.CTokenMaker;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link ParallelLineLexer} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class ParallelLineLexerTest {
+
+
+	/**
+	 * Returns C code with multi-line comments that start and end at various
+	 * places, including some spanning chunk boundaries and entire chunks.
+	 *
+	 * @param lineCount The number of lines to create.
+	 * @return The code.
+	 */
+	private static String createCode(int lineCount) {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<lineCount; i++) {
+			if (i>0) {
+				sb.append('\n');
+			}
+			if (i==ParallelLineLexer.MIN_LINES_PER_CHUNK - 1 || i%5000==17) {
+				sb.append("int x; /* start of a comment");
+			}
+			else if (i==ParallelLineLexer.MIN_LINES_PER_CHUNK * 3 + 5 ||
+					i%5000==1030) {
+				sb.append("end of a comment */ x++;");
+			}
+			else {
+				sb.append("int foo = ").append(i).append("; // comment");
+			}
+		}
+		return sb.toString();
+	}
+
+
+	private static int[] lexSequentially(Segment text, int lineCount,
+										int initialTokenType) {
+		int[] tokenTypes = new int[lineCount];
+		TokenMaker tm = new CTokenMaker();
+		Segment s = new Segment();
+		s.array = text.array;
+		s.offset = text.offset;
+		int end = text.offset + text.count;
+		int lastTokenType = initialTokenType;
+		for (int line=0; line<lineCount; line++) {
+			int lineEnd = s.offset;
+			while (lineEnd<end && text.array[lineEnd]!='\n') {
+				lineEnd++;
+			}
+			s.count = lineEnd - s.offset;
+			lastTokenType = tm.getLastTokenTypeOnLine(s, lastTokenType);
+			tokenTypes[line] = lastTokenType;
+			s.offset = lineEnd + 1;
+		}
+		return tokenTypes;
+	}
+
+
+	@Test
+	void testLex_sameAsSequential() {
+
+		int lineCount = 20000;
+		String code = createCode(lineCount);
+		// Pad the array so we verify offsets are handled correctly
+		Segment text = new Segment(("xx" + code + "yy").toCharArray(), 2,
+				code.length());
+
+		int[] expected = lexSequentially(text, lineCount, TokenTypes.NULL);
+		int[] actual = new int[lineCount];
+		int last = ParallelLineLexer.lex(text, actual, TokenTypes.NULL,
+				new CTokenMaker(), LongLinePolicy.NONE, CTokenMaker::new);
+		Assertions.assertArrayEquals(expected, actual);
+		Assertions.assertEquals(expected[lineCount - 1], last);
+
+		// Start in the middle of a comment
+		expected = lexSequentially(text, lineCount, TokenTypes.COMMENT_MULTILINE);
+		last = ParallelLineLexer.lex(text, actual,
+				TokenTypes.COMMENT_MULTILINE, new CTokenMaker(), LongLinePolicy.NONE,
+				CTokenMaker::new);
+		Assertions.assertArrayEquals(expected, actual);
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, expected[100]);
+		Assertions.assertEquals(expected[lineCount - 1], last);
+
+	}
+
+
+	@Test
+	void testLex_noLines() {
+		Segment text = new Segment(new char[0], 0, 0);
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE,
+			ParallelLineLexer.lex(text, new int[0], TokenTypes.COMMENT_MULTILINE,
+				new CTokenMaker(), LongLinePolicy.NONE, CTokenMaker::new));
+	}
+
+
+	@Test
+	void testLex_wrongLineCount() {
+		Segment text = new Segment("a\nb\nc".toCharArray(), 0, 5);
+		Assertions.assertThrows(IllegalArgumentException.class, () ->
+			ParallelLineLexer.lex(text, new int[2], TokenTypes.NULL,
+				new CTokenMaker(), LongLinePolicy.NONE, CTokenMaker::new));
+		Assertions.assertThrows(IllegalArgumentException.class, () ->
+			ParallelLineLexer.lex(text, new int[4], TokenTypes.NULL,
+				new CTokenMaker(), LongLinePolicy.NONE, CTokenMaker::new));
+	}
+
+
+}
@@ -4,17 +4,35 @@
  */
 package org.fife.ui.rsyntaxtextarea;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.lang.ref.WeakReference;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 import javax.swing.event.DocumentEvent;
 import javax.swing.event.DocumentListener;
+import javax.swing.text.Element;
+import javax.swing.text.Segment;
+import javax.swing.undo.UndoManager;
 
 import org.fife.ui.rsyntaxtextarea.modes.CTokenMaker;
 import org.fife.ui.rsyntaxtextarea.modes.HTMLTokenMaker;
 import org.fife.ui.rsyntaxtextarea.modes.JavaScriptTokenMaker;
+import org.fife.ui.rsyntaxtextarea.modes.JavaTokenMaker;
 import org.fife.ui.rsyntaxtextarea.modes.XMLTokenMaker;
+import org.fife.ui.SwingRunnerExtension;
+import org.fife.ui.rtextarea.PieceTableContent;
+import org.fife.ui.rtextarea.RTextAreaEditorKit;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
 
 
 /**
@@ -78,6 +96,42 @@ class RSyntaxDocumentTest {
 	}
 
 
+	@Test
+	void test3ArgConstructor() throws Exception {
+
+		doc = new RSyntaxDocument(null, SyntaxConstants.SYNTAX_STYLE_C,
+				new PieceTableContent());
+		insertHelloWorldC(doc);
+		doc.insertString(0, "int x;\n", null);
+
+		assertSameLastTokenTypes(doc);
+		Assertions.assertEquals('i', doc.charAt(0));
+		Assertions.assertTrue(doc.getTokenListForLine(3).isComment());
+
+	}
+
+
+	@Test
+	void test4ArgConstructor() throws Exception {
+
+		doc = new RSyntaxDocument(null, SyntaxConstants.SYNTAX_STYLE_C,
+				new PieceTableContent(), true);
+		Assertions.assertTrue(doc.isCompactLineIndex());
+		insertHelloWorldC(doc);
+		doc.insertString(0, "int x;\n", null);
+		assertSameLastTokenTypes(doc);
+		Assertions.assertTrue(doc.getTokenListForLine(3).isComment());
+
+		// Joining lines updates line states just as it normally would
+		Element root = doc.getDefaultRootElement();
+		int lineCount = root.getElementCount();
+		doc.remove(root.getElement(1).getEndOffset() - 1, 1);
+		Assertions.assertEquals(lineCount - 1, root.getElementCount());
+		assertSameLastTokenTypes(doc);
+
+	}
+
+
 	@Test
 	void testFireDocumentEvent_InsertWithNoNewLines() throws Exception {
 
@@ -165,6 +219,44 @@ class RSyntaxDocumentTest {
 	}
 
 
+	@Test
+	void testFireDocumentEvent_InsertManyLines() throws Exception {
+
+		String syntaxStyle = SyntaxConstants.SYNTAX_STYLE_C;
+		doc = new RSyntaxDocument(syntaxStyle);
+		insertHelloWorldC(doc);
+
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<2000; i++) {
+			sb.append(i%97==0 ? "/* start" : "int x;").append('\n');
+			if (i%97==50) {
+				sb.append("end */");
+			}
+		}
+		String text = sb.toString();
+
+		TestDocumentListener l = new TestDocumentListener();
+		doc.addDocumentListener(l);
+
+		// Middle of a line, so the last added line extends past the
+		// inserted text
+		doc.insertString(25, text, null);
+		Assertions.assertEquals(2, l.events.size());
+		Assertions.assertEquals(DocumentEvent.EventType.CHANGE, l.events.get(0).getType());
+		assertDocumentEvent(l.events.get(1), DocumentEvent.EventType.INSERT,
+				25, text.length());
+		assertSameLastTokenTypes(doc);
+
+		// Start of a line, and end of the document
+		doc.insertString(doc.getDefaultRootElement().getElement(1000).
+				getStartOffset(), text, null);
+		assertSameLastTokenTypes(doc);
+		doc.insertString(doc.getLength(), text, null);
+		assertSameLastTokenTypes(doc);
+
+	}
+
+
 	@Test
 	void testFireDocumentEvent_RemoveWithinOneLine() throws Exception {
 
@@ -346,6 +438,38 @@ class RSyntaxDocumentTest {
 	}
 
 
+	@Test
+	void testGetPackedTokenListForLine() throws Exception {
+
+		String syntaxStyle = SyntaxConstants.SYNTAX_STYLE_C;
+		doc = new RSyntaxDocument(syntaxStyle);
+		insertHelloWorldC(doc);
+
+		// #include <stdio.h>
+		PackedTokenList tokens = doc.getPackedTokenListForLine(0);
+		PackedTokenList line3 = doc.getPackedTokenListForLine(3);
+		Assertions.assertEquals(4, tokens.getTokenCount());
+		Assertions.assertEquals(TokenTypes.PREPROCESSOR, tokens.getType(0));
+		Assertions.assertEquals(0, tokens.getOffset(0));
+		Assertions.assertEquals(8, tokens.getLength(0));
+		Assertions.assertEquals(TokenTypes.LITERAL_STRING_DOUBLE_QUOTE, tokens.getType(2));
+		Assertions.assertEquals(9, tokens.getOffset(2));
+		Assertions.assertEquals(TokenTypes.NULL, tokens.getType(3));
+
+		// Still valid after other lines are fetched
+		doc.getTokenListForLine(1);
+		Assertions.assertEquals(TokenTypes.DATA_TYPE, line3.getType(0));
+		Assertions.assertEquals(47, line3.getOffset(0));
+
+		// Cached lists are reused, and follow edits above them
+		Assertions.assertSame(tokens, doc.getPackedTokenListForLine(0));
+		doc.insertString(0, "\n", null);
+		Assertions.assertSame(line3, doc.getPackedTokenListForLine(4));
+		Assertions.assertEquals(48, line3.getOffset(0));
+
+	}
+
+
 	@Test
 	void testGetShouldIndentNextLine() throws Exception {
 
@@ -362,6 +486,177 @@ class RSyntaxDocumentTest {
 	}
 
 
+	@Test
+	void testGetSnapshot() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		insertHelloWorldC(doc);
+
+		DocumentSnapshot snapshot = doc.getSnapshot();
+		Assertions.assertEquals(doc.getVersion(), snapshot.getVersion());
+		Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_C, snapshot.getSyntaxStyle());
+		Assertions.assertEquals(doc.getText(0, doc.getLength()), snapshot.getText().toString());
+		Element root = doc.getDefaultRootElement();
+		Assertions.assertEquals(root.getElementCount(), snapshot.getLineCount());
+		for (int i=0; i<root.getElementCount(); i++) {
+			Assertions.assertEquals(root.getElement(i).getStartOffset(), snapshot.getLineStartOffset(i));
+			Assertions.assertEquals(root.getElement(i).getEndOffset(), snapshot.getLineEndOffset(i));
+			Assertions.assertEquals(doc.getLastTokenTypeOnLine(i), snapshot.getLastTokenTypeOnLine(i));
+		}
+
+		// Unchanged documents return the same snapshot
+		Assertions.assertSame(snapshot, doc.getSnapshot());
+
+		// Snapshots aren't affected by later edits
+		String text = snapshot.getText().toString();
+		doc.insertString(0, "/*", null);
+		doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertNotSame(snapshot, doc.getSnapshot());
+		Assertions.assertEquals(text, snapshot.getText().toString());
+		Assertions.assertEquals(TokenTypes.NULL, snapshot.getLastTokenTypeOnLine(0));
+		Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_C, snapshot.getSyntaxStyle());
+
+		snapshot = doc.getSnapshot();
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, snapshot.getLastTokenTypeOnLine(0));
+		Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_JAVA, snapshot.getSyntaxStyle());
+
+	}
+
+
+	@Test
+	void testGetSnapshot_afterEditsAndUndo() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		insertHelloWorldC(doc);
+		UndoManager undoManager = new UndoManager();
+		doc.addUndoableEditListener(undoManager);
+		List<String> texts = new ArrayList<>();
+
+		for (int i=0; i<20; i++) {
+			DocumentSnapshot snapshot = doc.getSnapshot();
+			Assertions.assertEquals(doc.getText(0, doc.getLength()), snapshot.getText().toString());
+			Element root = doc.getDefaultRootElement();
+			Assertions.assertEquals(root.getElementCount(), snapshot.getLineCount());
+			for (int line=0; line<root.getElementCount(); line++) {
+				Assertions.assertEquals(root.getElement(line).getStartOffset(),
+					snapshot.getLineStartOffset(line));
+			}
+			texts.add(snapshot.getText().toString());
+
+			int offs = (i * 7) % (doc.getLength() + 1);
+			if (i%3==2) {
+				doc.remove(offs, Math.min(5, doc.getLength() - offs));
+			}
+			else {
+				doc.insertString(offs, "x\ny", null);
+			}
+		}
+
+		for (int i=19; i>=0; i--) {
+			undoManager.undo();
+			Assertions.assertEquals(texts.get(i), doc.getSnapshot().getText().toString());
+		}
+
+	}
+
+
+	@Test
+	void testGetSnapshot_buffersReleasedWhenUnused() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		insertHelloWorldC(doc);
+		Assertions.assertFalse(doc.hasSnapshotBuffers());
+
+		DocumentSnapshot snapshot = doc.getSnapshot();
+		doc.insertString(0, "x", null);
+		Assertions.assertTrue(doc.hasSnapshotBuffers());
+		Assertions.assertNotSame(snapshot, doc.getSnapshot());
+
+		// Once no snapshot is referenced, the next edit releases the copies
+		WeakReference<DocumentSnapshot> ref = new WeakReference<>(doc.getSnapshot());
+		snapshot = null;
+		for (int i=0; i<100 && ref.get()!=null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		Assumptions.assumeTrue(ref.get()==null, "Snapshot not garbage collected");
+		doc.insertString(0, "y", null);
+		Assertions.assertFalse(doc.hasSnapshotBuffers());
+
+		snapshot = doc.getSnapshot();
+		Assertions.assertTrue(doc.hasSnapshotBuffers());
+		Assertions.assertEquals(doc.getText(0, doc.getLength()), snapshot.getText().toString());
+
+	}
+
+
+	@Test
+	void testGetSnapshot_fromAnotherThread() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		insertHelloWorldC(doc);
+		long version = doc.getVersion();
+
+		DocumentSnapshot[] snapshot = new DocumentSnapshot[1];
+		Thread t = new Thread(() -> snapshot[0] = doc.getSnapshot());
+		t.start();
+		t.join();
+
+		Assertions.assertEquals(version, snapshot[0].getVersion());
+		Assertions.assertEquals(doc.getText(0, doc.getLength()), snapshot[0].getText().toString());
+
+	}
+
+
+	@Test
+	void testGetSnapshot_lineStatesTrackEdits() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<SnapshotStates.CHUNK_SIZE * 3; i++) {
+			sb.append(i%100==0 ? "/* comment\n" : i%100==3 ? "*/\n" : "int x;\n");
+		}
+		doc.insertString(0, sb.toString(), null);
+
+		Random random = new Random(42);
+		String[] edits = { "/*", "*/", "\n", "x\ny\nz", "/* a\nb */" };
+		List<DocumentSnapshot> snapshots = new ArrayList<>();
+		List<int[]> expected = new ArrayList<>();
+		for (int i=0; i<200; i++) {
+
+			int offs = random.nextInt(doc.getLength() + 1);
+			if (random.nextInt(3)==0) {
+				doc.remove(offs, Math.min(random.nextInt(200), doc.getLength() - offs));
+			}
+			else {
+				doc.insertString(offs, edits[random.nextInt(edits.length)], null);
+			}
+
+			if (i%5==0) {
+				DocumentSnapshot snapshot = doc.getSnapshot();
+				int[] states = new int[doc.getDefaultRootElement().getElementCount()];
+				Assertions.assertEquals(states.length, snapshot.getLineCount());
+				for (int line=0; line<states.length; line++) {
+					states[line] = doc.getLastTokenTypeOnLine(line);
+					Assertions.assertEquals(states[line], snapshot.getLastTokenTypeOnLine(line));
+				}
+				snapshots.add(snapshot);
+				expected.add(states);
+			}
+
+		}
+
+		// Older snapshots are unaffected by later edits
+		for (int i=0; i<snapshots.size(); i++) {
+			int[] states = expected.get(i);
+			for (int line=0; line<states.length; line++) {
+				Assertions.assertEquals(states[line], snapshots.get(i).getLastTokenTypeOnLine(line));
+			}
+		}
+
+	}
+
+
 	@Test
 	void testGetSyntaxStyle() {
 
@@ -401,6 +696,145 @@ class RSyntaxDocumentTest {
 	}
 
 
+	@Test
+	void testGetTokenListForLine_cachedListsTrackEdits() throws Exception {
+
+		String syntaxStyle = SyntaxConstants.SYNTAX_STYLE_C;
+		doc = new RSyntaxDocument(syntaxStyle);
+		insertHelloWorldC(doc);
+		RSyntaxDocument uncached = new RSyntaxDocument(syntaxStyle);
+		uncached.setTokenListCacheMaxBytes(0);
+		insertHelloWorldC(uncached);
+		assertSameTokenLists(uncached, doc);
+
+		// Text inserted on a single line moves the lines below it
+		doc.insertString(4, "foo", null);
+		uncached.insertString(4, "foo", null);
+		assertSameTokenLists(uncached, doc);
+
+		// Starting an MLC changes the state of every line below it
+		doc.insertString(0, "/*", null);
+		uncached.insertString(0, "/*", null);
+		assertSameTokenLists(uncached, doc);
+
+		// Lines added
+		doc.insertString(doc.getLength() - 3, "\n*/int i;\nint j;\n", null);
+		uncached.insertString(uncached.getLength() - 3, "\n*/int i;\nint j;\n", null);
+		assertSameTokenLists(uncached, doc);
+
+		// Lines removed
+		doc.remove(0, 30);
+		uncached.remove(0, 30);
+		assertSameTokenLists(uncached, doc);
+
+		doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		uncached.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		assertSameTokenLists(uncached, doc);
+
+	}
+
+
+	@Test
+	void testGetTokenListForLine_cachedListsTrackUndo() throws Exception {
+
+		String syntaxStyle = SyntaxConstants.SYNTAX_STYLE_C;
+		doc = new RSyntaxDocument(syntaxStyle);
+		insertHelloWorldC(doc);
+		String orig = doc.getText(0, doc.getLength());
+		UndoManager undoManager = new UndoManager();
+		doc.addUndoableEditListener(undoManager);
+		assertSameTokenLists(orig, doc);
+
+		doc.insertString(21, "*/\nint x;\n/*", null);
+		doc.remove(40, 10);
+		String modified = doc.getText(0, doc.getLength());
+		assertSameTokenLists(modified, doc);
+
+		undoManager.undo();
+		undoManager.undo();
+		assertSameTokenLists(orig, doc);
+
+		undoManager.redo();
+		undoManager.redo();
+		assertSameTokenLists(modified, doc);
+
+	}
+
+
+	@Test
+	void testGetTokenListForLine_longLine() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		doc.insertString(0, "int x; ".repeat(2000) + "\nint y;", null);
+		doc.setLongLinePolicy(new LongLinePolicy(1000, 100000));
+
+		// Only the chunks containing the requested range are tokenized
+		Token t = doc.getTokenListForLine(0, 10000, 10000);
+		Assertions.assertEquals(TokenTypes.IDENTIFIER, t.getType());
+		Assertions.assertEquals(LongLineLexer.CHUNK_SIZE, t.length());
+		Token t2 = RSyntaxUtilities.getTokenAtOffset(t, 10003);
+		Assertions.assertTrue(t2.is(TokenTypes.DATA_TYPE, "int"));
+		Assertions.assertSame(t, doc.getTokenListForLine(0));
+
+		// The start of the line by default
+		doc.insertString(0, "x", null);
+		t = doc.getTokenListForLine(0);
+		Assertions.assertEquals(TokenTypes.IDENTIFIER, t.getType());
+		Assertions.assertEquals("xint", t.getLexeme());
+		t = RSyntaxUtilities.getTokenAtOffset(t, 10003);
+		Assertions.assertEquals(TokenTypes.IDENTIFIER, t.getType());
+		Assertions.assertTrue(t.length()>1);
+
+		// Short lines aren't affected
+		t = doc.getTokenListForLine(1, 0, 0);
+		Assertions.assertTrue(t.is(TokenTypes.DATA_TYPE, "int"));
+
+		// Edits in the middle of the line update its state
+		doc.insertString(10001, "/*", null);
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(0));
+		Assertions.assertTrue(doc.getTokenListForLine(1).isComment());
+		t = RSyntaxUtilities.getTokenAtOffset(doc.getTokenListForLine(0, 13000, 13000), 13000);
+		Assertions.assertTrue(t.isComment());
+		doc.remove(10001, 2);
+		Assertions.assertEquals(TokenTypes.NULL, doc.getLastTokenTypeOnLine(0));
+		t = RSyntaxUtilities.getTokenAtOffset(doc.getTokenListForLine(0, 13000, 13000), 13001);
+		Assertions.assertTrue(t.is(TokenTypes.DATA_TYPE, "int"));
+
+	}
+
+
+	@Test
+	void testGetSetTokenListCacheMaxBytes() {
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		Assertions.assertEquals(RSyntaxDocument.DEFAULT_TOKEN_LIST_CACHE_MAX_BYTES,
+			doc.getTokenListCacheMaxBytes());
+		doc.setTokenListCacheMaxBytes(0);
+		Assertions.assertEquals(0, doc.getTokenListCacheMaxBytes());
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> doc.setTokenListCacheMaxBytes(-1));
+	}
+
+
+	@Test
+	void testGetVersion() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		long version = doc.getVersion();
+
+		doc.insertString(0, "int x;", null);
+		Assertions.assertTrue(doc.getVersion()>version);
+		version = doc.getVersion();
+
+		doc.remove(0, 1);
+		Assertions.assertTrue(doc.getVersion()>version);
+		version = doc.getVersion();
+
+		doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertTrue(doc.getVersion()>version);
+
+	}
+
+
 	@Test
 	void testInsertBreakSpecialHandling() {
 
@@ -436,6 +870,284 @@ class RSyntaxDocumentTest {
 	}
 
 
+	@Test
+	void testLoad() throws Exception {
+
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<5000; i++) {
+			sb.append(i%7==0 ? "/* start\r\n" : "int x; // ").append(i).
+					append(i%7==3 ? " */\r\n" : "\r\n");
+		}
+		String text = sb.toString();
+
+		RSyntaxDocument expected = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		expected.insertString(0, text.replace("\r\n", "\n"), null);
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		doc.insertString(0, "old text", null);
+		doc.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), "UTF-8");
+
+		Assertions.assertEquals(expected.getText(0, expected.getLength()),
+				doc.getText(0, doc.getLength()));
+		Assertions.assertEquals("\r\n", doc.getProperty(
+				RTextAreaEditorKit.EndOfLineStringProperty));
+		int lineCount = expected.getDefaultRootElement().getElementCount();
+		Assertions.assertEquals(lineCount, doc.getDefaultRootElement().getElementCount());
+		for (int i=0; i<lineCount; i++) {
+			Assertions.assertEquals(expected.getLastTokenTypeOnLine(i),
+					doc.getLastTokenTypeOnLine(i), "line " + i);
+		}
+
+		// The document is still updated correctly after an edit
+		doc.insertString(0, "/*", null);
+		expected.insertString(0, "/*", null);
+		for (int i=0; i<lineCount; i++) {
+			Assertions.assertEquals(expected.getLastTokenTypeOnLine(i),
+					doc.getLastTokenTypeOnLine(i), "line " + i);
+		}
+
+	}
+
+
+	@Test
+	void testLoad_ioError() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		doc.insertString(0, "old text", null);
+		InputStream in = new InputStream() {
+			@Override
+			public int read() throws IOException {
+				throw new IOException("Expected");
+			}
+		};
+
+		Assertions.assertThrows(IOException.class, () -> doc.load(in, "UTF-8"));
+		Assertions.assertEquals("old text", doc.getText(0, doc.getLength()));
+
+	}
+
+
+	@Test
+	void testLoad_parallelLexing() throws Exception {
+
+		CountingTokenMakerFactory tmf = new CountingTokenMakerFactory();
+		doc = new RSyntaxDocument(tmf, SyntaxConstants.SYNTAX_STYLE_C);
+		doc.setParallelLexingEnabled(true);
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<RSyntaxDocument.PARALLEL_LEXING_MIN_LINES; i++) {
+			sb.append(i%3001==0 ? "/* start" : "int x;").append(
+					i%3001==2000 ? " */\n" : "\n");
+		}
+		String text = sb.toString();
+
+		// The text is lexed by workers once it's inserted
+		int count = tmf.count;
+		doc.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), "UTF-8");
+		Assertions.assertTrue(tmf.count - count>1);
+		Assertions.assertEquals(text, doc.getText(0, doc.getLength()));
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(1500));
+		assertSameLastTokenTypes(doc);
+
+	}
+
+
+	@Test
+	@ExtendWith(SwingRunnerExtension.class) // Keeps the lexing timer from firing
+	void testLoad_progressiveLexing() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		doc.setProgressiveLexingEnabled(true);
+		String text = "/* start\n" + "int x;\n".repeat(1000) + "end */\n";
+		doc.load(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)), "UTF-8");
+
+		// The lines are lexed in the background, not while loading
+		Assertions.assertEquals(text, doc.getText(0, doc.getLength()));
+		Assertions.assertFalse(doc.isLineStateKnown(0));
+		doc.completePendingLexing();
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(500));
+		assertSameLastTokenTypes(doc);
+
+	}
+
+
+	@Test
+	void testSerialization() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		insertHelloWorldC(doc);
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(bout)) {
+			out.writeObject(doc);
+		}
+		RSyntaxDocument doc2;
+		try (ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(bout.toByteArray()))) {
+			doc2 = (RSyntaxDocument)in.readObject();
+		}
+
+		Assertions.assertEquals(doc.getText(0, doc.getLength()),
+			doc2.getText(0, doc2.getLength()));
+		int lineCount = doc.getDefaultRootElement().getElementCount();
+		for (int i=0; i<lineCount; i++) {
+			Assertions.assertEquals(doc.getLastTokenTypeOnLine(i),
+				doc2.getLastTokenTypeOnLine(i));
+		}
+		assertSameTokenLists(doc, doc2);
+
+	}
+
+
+	@Test
+	void testSetLongLinePolicy() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertEquals(LongLinePolicy.NONE, doc.getLongLinePolicy());
+		doc.insertString(0, "int x; ".repeat(2000) + "/* comment\nend */ int y;", null);
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(0));
+		Assertions.assertNotNull(doc.getPackedTokenListForLine(0));
+
+		// Long lines lexed in chunks end in the same state
+		LongLinePolicy policy = new LongLinePolicy(1000, 100000);
+		doc.setLongLinePolicy(policy);
+		Assertions.assertSame(policy, doc.getLongLinePolicy());
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(0));
+		Assertions.assertTrue(doc.getTokenListForLine(1).isComment());
+		Assertions.assertNull(doc.getPackedTokenListForLine(0));
+		Assertions.assertNotNull(doc.getPackedTokenListForLine(1));
+
+		// Lines too long to lex are plain text
+		doc.setLongLinePolicy(new LongLinePolicy(1000, 10000));
+		Assertions.assertEquals(TokenTypes.NULL, doc.getLastTokenTypeOnLine(0));
+		Assertions.assertFalse(doc.getTokenListForLine(1).isComment());
+		Assertions.assertEquals(TokenTypes.IDENTIFIER, doc.getTokenListForLine(0).getType());
+
+		// Edits honor the policy too
+		doc.remove(0, 7 * 1000);
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(0));
+		Assertions.assertTrue(doc.getTokenListForLine(1).isComment());
+
+		Assertions.assertThrows(IllegalArgumentException.class, () ->
+			doc.setLongLinePolicy(null));
+
+	}
+
+
+	@Test
+	void testSetParallelLexingEnabled() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_NONE);
+		Assertions.assertFalse(doc.isParallelLexingEnabled());
+		doc.setParallelLexingEnabled(true);
+		Assertions.assertTrue(doc.isParallelLexingEnabled());
+
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<RSyntaxDocument.PARALLEL_LEXING_MIN_LINES*2; i++) {
+			sb.append(i%3001==0 ? "/* start" : "int x;").append('\n');
+			if (i%3001==2000) {
+				sb.append("end */");
+			}
+		}
+		doc.insertString(0, sb.toString(), null);
+
+		// Style change
+		doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_C);
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(1500));
+		assertSameLastTokenTypes(doc);
+
+		// Large insert
+		doc.insertString(10, sb.toString(), null);
+		assertSameLastTokenTypes(doc);
+
+		// Custom TokenMakers are lexed sequentially
+		doc.setSyntaxStyle(new CTokenMaker());
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(1500));
+
+	}
+
+
+	@Test
+	void testSetParallelLexingEnabled_tokenMakerCreatedOncePerStyle() throws Exception {
+
+		CountingTokenMakerFactory tmf = new CountingTokenMakerFactory();
+		doc = new RSyntaxDocument(tmf, SyntaxConstants.SYNTAX_STYLE_C);
+		doc.setParallelLexingEnabled(true);
+		String text = "int x;\n".repeat(RSyntaxDocument.PARALLEL_LEXING_MIN_LINES);
+
+		// Only the first large insert checks whether workers can be created
+		int count = tmf.count;
+		doc.insertString(0, text, null);
+		int firstInsertCount = tmf.count - count;
+		count = tmf.count;
+		doc.insertString(0, text, null);
+		Assertions.assertEquals(firstInsertCount - 1, tmf.count - count);
+
+	}
+
+
+	@Test
+	@ExtendWith(SwingRunnerExtension.class) // Keeps the lexing timer from firing
+	void testSetProgressiveLexingEnabled() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		Assertions.assertFalse(doc.isProgressiveLexingEnabled());
+		doc.setProgressiveLexingEnabled(true);
+		Assertions.assertTrue(doc.isProgressiveLexingEnabled());
+
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<2000; i++) {
+			if (i==0 || i==1450) {
+				sb.append("/* start");
+			}
+			else if (i==1000 || i==1460) {
+				sb.append("end */");
+			}
+			else {
+				sb.append("int x;");
+			}
+			sb.append('\n');
+		}
+
+		// Many lines added at once are lexed in the background
+		doc.insertString(0, sb.toString(), null);
+		Assertions.assertFalse(doc.isLineStateKnown(0));
+		Assertions.assertEquals(TokenTypes.NULL, doc.getLastTokenTypeOnLine(500));
+
+		TestDocumentListener l = new TestDocumentListener();
+		doc.addDocumentListener(l);
+
+		// Lines being painted are provisionally lexed first
+		doc.getTokenListForLine(1455);
+		Assertions.assertTrue(doc.lexPendingLines(0));
+		Assertions.assertFalse(doc.isLineStateKnown(1455));
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(1455));
+		Assertions.assertEquals(1, l.events.size());
+		Assertions.assertEquals(DocumentEvent.EventType.CHANGE, l.events.get(0).getType());
+
+		doc.completePendingLexing();
+		Assertions.assertTrue(doc.isLineStateKnown(doc.getDefaultRootElement().getElementCount() - 1));
+		Assertions.assertEquals(TokenTypes.COMMENT_MULTILINE, doc.getLastTokenTypeOnLine(500));
+		Assertions.assertFalse(doc.lexPendingLines(0));
+		assertSameLastTokenTypes(doc);
+
+		// Edits only update a limited number of lines synchronously
+		doc.insertString(doc.getDefaultRootElement().getElement(1100).getStartOffset(),
+			"/*", null);
+		Assertions.assertTrue(doc.isLineStateKnown(1100));
+		Assertions.assertFalse(doc.isLineStateKnown(1500));
+		doc.completePendingLexing();
+		assertSameLastTokenTypes(doc);
+
+		// Style changes, and disabling completes lexing
+		doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertFalse(doc.isLineStateKnown(0));
+		doc.setProgressiveLexingEnabled(false);
+		Assertions.assertTrue(doc.isLineStateKnown(0));
+		assertSameLastTokenTypes(doc);
+
+	}
+
+
 	@Test
 	void testSetSyntaxStyle() {
 
@@ -468,6 +1180,64 @@ class RSyntaxDocumentTest {
 	}
 
 
+	@Test
+	void testSetSyntaxStyle_releasesTokenMaker() throws Exception {
+
+		List<TokenMaker> released = new ArrayList<>();
+		AbstractTokenMakerFactory tmf = new DefaultTokenMakerFactory() {
+			@Override
+			public void releaseTokenMaker(String key, TokenMaker tokenMaker) {
+				released.add(tokenMaker);
+				super.releaseTokenMaker(key, tokenMaker);
+			}
+		};
+		tmf.setTokenMakerPoolingEnabled(true);
+
+		doc = new RSyntaxDocument(tmf, SyntaxConstants.SYNTAX_STYLE_JAVA);
+		doc.insertString(0, "int x = 5;", null);
+		Assertions.assertTrue(released.isEmpty());
+
+		doc.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_NONE);
+		Assertions.assertEquals(1, released.size());
+		Assertions.assertInstanceOf(JavaTokenMaker.class, released.get(0));
+
+		// The next document using the style reuses it
+		RSyntaxDocument doc2 = new RSyntaxDocument(tmf, SyntaxConstants.SYNTAX_STYLE_JAVA);
+		Assertions.assertNotSame(released.get(0),
+			tmf.getTokenMaker(SyntaxConstants.SYNTAX_STYLE_JAVA));
+		doc2.setSyntaxStyle(SyntaxConstants.SYNTAX_STYLE_NONE);
+		Assertions.assertSame(released.get(0), released.get(released.size() - 1));
+
+	}
+
+
+	@Test
+	void testSetSyntaxStyle_snapshotWhileLexing() throws Exception {
+
+		doc = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_C);
+		insertHelloWorldC(doc);
+
+		// Until the new states are installed, the old style is reported
+		List<String> styles = new ArrayList<>();
+		doc.setSyntaxStyle(new CTokenMaker() {
+			@Override
+			public int getLastTokenTypeOnLine(Segment text,
+					int initialTokenType) {
+				styles.add(doc.getSyntaxStyle());
+				styles.add(doc.getSnapshot().getSyntaxStyle());
+				return super.getLastTokenTypeOnLine(text, initialTokenType);
+			}
+		});
+		Assertions.assertFalse(styles.isEmpty());
+		for (String style : styles) {
+			Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_C, style);
+		}
+		Assertions.assertNotEquals(SyntaxConstants.SYNTAX_STYLE_C,
+				doc.getSnapshot().getSyntaxStyle());
+
+	}
+
+
 	@Test
 	void testSetTokenMakerFactory() {
 
@@ -492,6 +1262,76 @@ class RSyntaxDocumentTest {
 	}
 
 
+	/**
+	 * Verifies that a document's last token types for each line match
+	 * those computed line by line when its syntax style is installed.
+	 *
+	 * @param actual The document to check.
+	 * @throws Exception If something goes wrong (which should not happen).
+	 */
+	private static void assertSameLastTokenTypes(RSyntaxDocument actual)
+			throws Exception {
+		RSyntaxDocument expected = new RSyntaxDocument(SyntaxConstants.SYNTAX_STYLE_NONE);
+		expected.insertString(0, actual.getText(0, actual.getLength()), null);
+		expected.setSyntaxStyle(actual.getSyntaxStyle());
+		int lineCount = expected.getDefaultRootElement().getElementCount();
+		Assertions.assertEquals(lineCount,
+			actual.getDefaultRootElement().getElementCount());
+		for (int i=0; i<lineCount; i++) {
+			Assertions.assertEquals(expected.getLastTokenTypeOnLine(i),
+				actual.getLastTokenTypeOnLine(i), "Line " + i);
+		}
+	}
+
+
+	/**
+	 * Verifies that a document returns the same token lists as a new
+	 * document containing the specified text.
+	 *
+	 * @param expectedText The expected text of the document.
+	 * @param actual The document to check.
+	 * @throws Exception If something goes wrong (which should not happen).
+	 */
+	private static void assertSameTokenLists(String expectedText,
+			RSyntaxDocument actual) throws Exception {
+		RSyntaxDocument expected = new RSyntaxDocument(actual.getSyntaxStyle());
+		expected.setTokenListCacheMaxBytes(0);
+		expected.insertString(0, expectedText, null);
+		assertSameTokenLists(expected, actual);
+	}
+
+
+	/**
+	 * Verifies that two documents return the same token lists for each line.
+	 * Each line is fetched twice from <code>actual</code> so both fresh and
+	 * cached token lists are checked.
+	 *
+	 * @param expected The document with the expected token lists.
+	 * @param actual The document to check.
+	 */
+	private static void assertSameTokenLists(RSyntaxDocument expected,
+			RSyntaxDocument actual) {
+		int lineCount = expected.getDefaultRootElement().getElementCount();
+		Assertions.assertEquals(lineCount,
+			actual.getDefaultRootElement().getElementCount());
+		for (int pass=0; pass<2; pass++) {
+			for (int line=0; line<lineCount; line++) {
+				Token e = expected.getTokenListForLine(line);
+				Token a = actual.getTokenListForLine(line);
+				while (e!=null && e.isPaintable()) {
+					Assertions.assertNotNull(a, "Line " + line);
+					Assertions.assertEquals(e.getType(), a.getType(), "Line " + line);
+					Assertions.assertEquals(e.getOffset(), a.getOffset(), "Line " + line);
+					Assertions.assertEquals(e.getLexeme(), a.getLexeme(), "Line " + line);
+					e = e.getNextToken();
+					a = a.getNextToken();
+				}
+				Assertions.assertTrue(a==null || !a.isPaintable(), "Line " + line);
+			}
+		}
+	}
+
+
 	/**
 	 * Verifies that the type, offset, and length of a
 	 * <code>DocumentEvent</code> have expected values.
@@ -510,6 +1350,28 @@ class RSyntaxDocumentTest {
 	}
 
 
+	/**
+	 * A token maker factory that counts the token makers it creates.
+	 */
+	private static final class CountingTokenMakerFactory
+			extends AbstractTokenMakerFactory {
+
+		private int count;
+
+		@Override
+		protected TokenMaker getTokenMakerImpl(String key) {
+			count++;
+			return super.getTokenMakerImpl(key);
+		}
+
+		@Override
+		protected void initTokenMakerMap() {
+			putMapping(SyntaxConstants.SYNTAX_STYLE_C, CTokenMaker.class.getName());
+		}
+
+	}
+
+
 	/**
 	 * A token maker factory with no mappings to languages.
 	 */
@@ -0,0 +1,160 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.fife.util.DynamicIntArray;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link SnapshotStateBuffer} and {@link SnapshotStates}
+ * classes.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class SnapshotStateBufferTest {
+
+
+	private static void assertStates(DynamicIntArray expected,
+			SnapshotStates states) {
+		Assertions.assertEquals(expected.getSize(), states.getSize());
+		for (int i=0; i<expected.getSize(); i++) {
+			Assertions.assertEquals(expected.get(i), states.get(i), "line " + i);
+		}
+	}
+
+
+	private static DynamicIntArray createStates(int count) {
+		DynamicIntArray states = new DynamicIntArray(count);
+		for (int i=0; i<count; i++) {
+			states.add(i);
+		}
+		return states;
+	}
+
+
+	@Test
+	void testCreateSnapshot() {
+		DynamicIntArray states = createStates(SnapshotStates.CHUNK_SIZE * 2 + 100);
+		SnapshotStates snapshot = new SnapshotStateBuffer().createSnapshot(states);
+		assertStates(states, snapshot);
+		Assertions.assertEquals(3, snapshot.getChunkCount());
+	}
+
+
+	@Test
+	void testCreateSnapshot_noChanges() {
+		SnapshotStateBuffer buffer = new SnapshotStateBuffer();
+		DynamicIntArray states = createStates(100);
+		SnapshotStates snapshot = buffer.createSnapshot(states);
+		Assertions.assertSame(snapshot, buffer.createSnapshot(states));
+	}
+
+
+	@Test
+	void testCreateSnapshot_sharesUnchangedStates() {
+
+		int chunkSize = SnapshotStates.CHUNK_SIZE;
+		SnapshotStateBuffer buffer = new SnapshotStateBuffer();
+		DynamicIntArray states = createStates(chunkSize * 4);
+		SnapshotStates before = buffer.createSnapshot(states);
+
+		states.set(chunkSize + 5, -1);
+		buffer.changed(chunkSize + 5);
+		states.insertRange(chunkSize + 10, 3, -2);
+		buffer.linesInserted(chunkSize + 10, 3);
+		SnapshotStates after = buffer.createSnapshot(states);
+		assertStates(states, after);
+
+		// Only the chunk that changed is copied
+		Assertions.assertSame(before.getChunk(0), after.getChunk(0));
+		Assertions.assertNotSame(before.getChunk(chunkSize), after.getChunk(chunkSize));
+		Assertions.assertSame(before.getChunk(chunkSize * 3), after.getChunk(chunkSize * 3 + 3));
+
+	}
+
+
+	@Test
+	void testEdits_random() {
+
+		Random random = new Random(42);
+		SnapshotStateBuffer buffer = new SnapshotStateBuffer();
+		DynamicIntArray states = createStates(SnapshotStates.CHUNK_SIZE * 3);
+		buffer.createSnapshot(states);
+
+		List<SnapshotStates> snapshots = new ArrayList<>();
+		List<int[]> expected = new ArrayList<>();
+		for (int i=0; i<2000; i++) {
+
+			int size = states.getSize();
+			int line = random.nextInt(size);
+			switch (random.nextInt(6)) {
+				case 0:
+				case 1:
+					int count = random.nextInt(10)==0 ?
+							random.nextInt(SnapshotStates.CHUNK_SIZE * 2) :
+							random.nextInt(5) + 1;
+					states.insertRange(line, count, -i);
+					buffer.linesInserted(line, count);
+					break;
+				case 2:
+					int end = Math.min(size, line + (random.nextInt(10)==0 ?
+							random.nextInt(SnapshotStates.CHUNK_SIZE * 2) :
+							random.nextInt(5) + 1));
+					if (end-line<size) {
+						states.removeRange(line, end);
+						buffer.linesRemoved(line, end - line);
+					}
+					break;
+				case 3:
+					if (random.nextInt(20)==0) {
+						for (int j=line; j<size; j++) {
+							states.set(j, i);
+						}
+						buffer.changedFrom(line);
+					}
+					break;
+				default:
+					states.set(line, i);
+					buffer.changed(line);
+					break;
+			}
+
+			if (random.nextInt(10)==0) {
+				SnapshotStates snapshot = buffer.createSnapshot(states);
+				assertStates(states, snapshot);
+				Assertions.assertTrue(snapshot.getChunkCount()<=
+						states.getSize() / (SnapshotStates.CHUNK_SIZE / 4) + 2,
+						"Too many chunks: " + snapshot.getChunkCount());
+				snapshots.add(snapshot);
+				int[] values = new int[states.getSize()];
+				for (int j=0; j<values.length; j++) {
+					values[j] = states.get(j);
+				}
+				expected.add(values);
+			}
+
+		}
+
+		// Older snapshots are unaffected by later edits
+		for (int i=0; i<snapshots.size(); i++) {
+			SnapshotStates snapshot = snapshots.get(i);
+			int[] values = expected.get(i);
+			Assertions.assertEquals(values.length, snapshot.getSize());
+			for (int j=0; j<values.length; j++) {
+				Assertions.assertEquals(values[j], snapshot.get(j));
+			}
+		}
+
+	}
+
+
+}
@@ -0,0 +1,211 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.PlainDocument;
+import javax.swing.text.Segment;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link SnapshotTextBuffer} and {@link SnapshotText}
+ * classes.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class SnapshotTextBufferTest {
+
+
+	private static void assertSnapshot(PlainDocument doc, SnapshotText text)
+			throws BadLocationException {
+
+		String expected = doc.getText(0, doc.getLength());
+		Assertions.assertEquals(expected.length(), text.getLength());
+		Assertions.assertEquals(expected, text.getString(0, text.getLength()));
+
+		Element root = doc.getDefaultRootElement();
+		Assertions.assertEquals(root.getElementCount(), text.getLineCount());
+		for (int i=0; i<root.getElementCount(); i++) {
+			Assertions.assertEquals(root.getElement(i).getStartOffset(),
+					text.getLineStartOffset(i));
+		}
+		for (int offs=0; offs<=expected.length(); offs+=7) {
+			Assertions.assertEquals(root.getElementIndex(offs),
+					text.getLineOfOffset(offs));
+		}
+		Assertions.assertEquals(root.getElementIndex(expected.length()),
+				text.getLineOfOffset(expected.length()));
+
+	}
+
+
+	private static String createText(int length) {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; sb.length()<length; i++) {
+			sb.append("line ").append(i).append('\n');
+		}
+		sb.setLength(length);
+		return sb.toString();
+	}
+
+
+	private static void insert(PlainDocument doc, SnapshotTextBuffer buffer,
+			int offs, String text) throws BadLocationException {
+		doc.insertString(offs, text, null);
+		buffer.inserted(doc, offs, text.length());
+	}
+
+
+	private static void remove(PlainDocument doc, SnapshotTextBuffer buffer,
+			int offs, int len) throws BadLocationException {
+		doc.remove(offs, len);
+		buffer.removed(offs, len);
+	}
+
+
+	@Test
+	void testConstructor() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		assertSnapshot(doc, new SnapshotTextBuffer(doc).createSnapshot());
+
+		doc.insertString(0, createText(SnapshotTextBuffer.CHUNK_SIZE * 2 + 100), null);
+		SnapshotTextBuffer buffer = new SnapshotTextBuffer(doc);
+		Assertions.assertEquals(3, buffer.getPieceCount());
+		assertSnapshot(doc, buffer.createSnapshot());
+
+	}
+
+
+	@Test
+	void testCreateSnapshot_sharesUnchangedText() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		doc.insertString(0, createText(SnapshotTextBuffer.CHUNK_SIZE * 3), null);
+		SnapshotTextBuffer buffer = new SnapshotTextBuffer(doc);
+		SnapshotText before = buffer.createSnapshot();
+
+		insert(doc, buffer, 10, "inserted\n");
+		remove(doc, buffer, SnapshotTextBuffer.CHUNK_SIZE + 5, 3);
+		SnapshotText after = buffer.createSnapshot();
+		assertSnapshot(doc, after);
+
+		// Text away from the edits isn't copied
+		int offs = SnapshotTextBuffer.CHUNK_SIZE * 2 + 100;
+		Assertions.assertSame(before.getArray(offs - 6), after.getArray(offs));
+		Assertions.assertSame(before.getArray(100), after.getArray(109));
+
+		// And the text in the segments of short ranges isn't either
+		Segment s = new Segment();
+		after.getSegment(offs, 10, s);
+		Assertions.assertSame(after.getArray(offs), s.array);
+
+	}
+
+
+	@Test
+	void testEdits_random() throws Exception {
+
+		Random random = new Random(42);
+		PlainDocument doc = new PlainDocument();
+		doc.insertString(0, createText(SnapshotTextBuffer.CHUNK_SIZE + 500), null);
+		SnapshotTextBuffer buffer = new SnapshotTextBuffer(doc);
+
+		List<SnapshotText> snapshots = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		for (int i=0; i<500; i++) {
+
+			int offs = random.nextInt(doc.getLength() + 1);
+			if (random.nextInt(3)>0) {
+				int len = random.nextInt(10)==0 ? SnapshotTextBuffer.MERGE_SIZE +
+						random.nextInt(3000) : random.nextInt(20) + 1;
+				insert(doc, buffer, offs, createText(len));
+			}
+			else {
+				int len = Math.min(random.nextInt(random.nextInt(10)==0 ? 5000 : 20),
+						doc.getLength() - offs);
+				remove(doc, buffer, offs, len);
+			}
+
+			if (i%25==0) {
+				SnapshotText text = buffer.createSnapshot();
+				assertSnapshot(doc, text);
+				snapshots.add(text);
+				expected.add(doc.getText(0, doc.getLength()));
+			}
+
+		}
+
+		// Older snapshots are unaffected by later edits
+		for (int i=0; i<snapshots.size(); i++) {
+			SnapshotText text = snapshots.get(i);
+			Assertions.assertEquals(expected.get(i),
+					text.getString(0, text.getLength()));
+		}
+
+	}
+
+
+	@Test
+	void testEdits_removeAll() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		doc.insertString(0, createText(1000), null);
+		SnapshotTextBuffer buffer = new SnapshotTextBuffer(doc);
+
+		remove(doc, buffer, 0, doc.getLength());
+		Assertions.assertEquals(0, buffer.getPieceCount());
+		assertSnapshot(doc, buffer.createSnapshot());
+
+		insert(doc, buffer, 0, "a\nb");
+		assertSnapshot(doc, buffer.createSnapshot());
+
+	}
+
+
+	@Test
+	void testInserted_typingMergesPieces() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		doc.insertString(0, createText(SnapshotTextBuffer.CHUNK_SIZE), null);
+		SnapshotTextBuffer buffer = new SnapshotTextBuffer(doc);
+
+		for (int i=0; i<100; i++) {
+			insert(doc, buffer, 1000 + i, i%10==0 ? "\n" : "x");
+		}
+		remove(doc, buffer, 1050, 1);
+		Assertions.assertEquals(3, buffer.getPieceCount());
+		assertSnapshot(doc, buffer.createSnapshot());
+
+	}
+
+
+	@Test
+	void testInserted_manyEditsAreCompacted() throws Exception {
+
+		PlainDocument doc = new PlainDocument();
+		doc.insertString(0, createText(SnapshotTextBuffer.CHUNK_SIZE * 2), null);
+		SnapshotTextBuffer buffer = new SnapshotTextBuffer(doc);
+
+		// Edits far apart can't be merged
+		for (int i=0; i<2000; i++) {
+			insert(doc, buffer, i * 60, "x");
+		}
+		Assertions.assertTrue(buffer.getPieceCount()<=
+				doc.getLength() / (SnapshotTextBuffer.MERGE_SIZE / 4) + 1);
+		assertSnapshot(doc, buffer.createSnapshot());
+
+	}
+
+
+}
@@ -7,10 +7,19 @@ package org.fife.ui.rsyntaxtextarea;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.charset.UnsupportedCharsetException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.Document;
 
 import org.fife.ui.SwingRunnerExtension;
 import org.fife.ui.rtextarea.TextMode;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mockito;
@@ -163,6 +172,15 @@ class TextEditorPaneTest {
 	}
 
 
+	@Test
+	void testIsSetAtomicSave() {
+		TextEditorPane textArea = new TextEditorPane();
+		Assertions.assertFalse(textArea.isAtomicSave());
+		textArea.setAtomicSave(true);
+		Assertions.assertTrue(textArea.isAtomicSave());
+	}
+
+
 	@Test
 	void testIsSetReadOnly() {
 		boolean[] called = { false };
@@ -274,6 +292,128 @@ class TextEditorPaneTest {
 	}
 
 
+	@Test
+	void testLoad_documentDetachedWhileLoading() throws IOException {
+
+		TextEditorPane textArea = new TextEditorPane();
+		textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		textArea.append("foo");
+		RSyntaxDocument doc = (RSyntaxDocument)textArea.getDocument();
+		File file = createTempFile();
+		try (PrintWriter w = new PrintWriter(file)) {
+			w.println("lorem ipsum");
+		}
+
+		// The text area's own listeners never see the edits loading the file
+		List<Document> attached = new ArrayList<>();
+		doc.addDocumentListener(new DocumentListener() {
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+			}
+
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				attached.add(textArea.getDocument());
+			}
+
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				attached.add(textArea.getDocument());
+			}
+		});
+		List<Object> styles = new ArrayList<>();
+		textArea.addPropertyChangeListener(RSyntaxTextArea.SYNTAX_STYLE_PROPERTY,
+				e -> styles.add(e.getNewValue()));
+
+		textArea.load(FileLocation.create(file), "utf-8");
+		Assertions.assertSame(doc, textArea.getDocument());
+		Assertions.assertEquals("lorem ipsum\n", textArea.getText());
+		Assertions.assertEquals(2, attached.size());
+		Assertions.assertFalse(attached.contains(doc));
+		Assertions.assertEquals(Collections.emptyList(), styles);
+
+		textArea.reload();
+		Assertions.assertSame(doc, textArea.getDocument());
+		Assertions.assertEquals(4, attached.size());
+		Assertions.assertFalse(attached.contains(doc));
+		Assertions.assertFalse(textArea.isDirty());
+
+	}
+
+
+	@Test
+	void testLoad_afterReadOnlyView() throws IOException {
+
+		TextEditorPane textArea = new TextEditorPane();
+		File file = createTempFile();
+		try (PrintWriter w = new PrintWriter(file)) {
+			w.println("lorem ipsum");
+		}
+		FileLocation loc = FileLocation.create(file);
+		textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		textArea.loadReadOnlyView(loc, "utf-8");
+
+		// Loading a new file goes back to being editable, in the same language
+		textArea.load(FileLocation.create(file.getAbsolutePath() + ".new"), "utf-8");
+		Assertions.assertFalse(textArea.isReadOnlyView());
+		Assertions.assertTrue(textArea.isEditable());
+		Assertions.assertFalse(textArea.isReadOnly());
+		Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_JAVA,
+				textArea.getSyntaxEditingStyle());
+		Assertions.assertEquals("", textArea.getText());
+		textArea.append("foo");
+		Assertions.assertEquals("foo", textArea.getText());
+	}
+
+
+	@Test
+	void testLoadReadOnlyView() throws IOException {
+
+		TextEditorPane textArea = new TextEditorPane();
+		textArea.setSyntaxEditingStyle(SyntaxConstants.SYNTAX_STYLE_JAVA);
+		textArea.append("foo"); // Just to add to the undo stack
+
+		File file = createTempFile();
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(file),
+				StandardCharsets.UTF_8)) {
+			w.write("int x;\r\n// café\r\n");
+		}
+		FileLocation loc = FileLocation.create(file);
+		textArea.loadReadOnlyView(loc, "utf-8");
+
+		Assertions.assertTrue(textArea.isReadOnlyView());
+		Assertions.assertFalse(textArea.isEditable());
+		Assertions.assertTrue(textArea.isReadOnly());
+		Assertions.assertEquals("int x;\n// café\n", textArea.getText());
+		Assertions.assertEquals(3, textArea.getLineCount());
+		Assertions.assertEquals("\r\n", textArea.getLineSeparator());
+		Assertions.assertEquals(SyntaxConstants.SYNTAX_STYLE_JAVA,
+				textArea.getSyntaxEditingStyle());
+		Assertions.assertTrue(textArea.getTokenListForLine(0).is(
+				Token.DATA_TYPE, "int"));
+		Assertions.assertFalse(textArea.canUndo());
+		Assertions.assertFalse(textArea.isDirty());
+		Assertions.assertEquals(0, textArea.getCaretPosition());
+		Assertions.assertEquals(loc.getActualLastModified(), textArea.getLastSaveOrLoadTime());
+
+		textArea.reload();
+		Assertions.assertTrue(textArea.isReadOnlyView());
+		Assertions.assertEquals("int x;\n// café\n", textArea.getText());
+	}
+
+
+	@Test
+	void testLoadReadOnlyView_fileDoesNotExist() throws IOException {
+		TextEditorPane textArea = new TextEditorPane();
+		File file = createTempFile();
+		file.delete();
+		FileLocation loc = FileLocation.create(file);
+		Assertions.assertThrows(IOException.class, () ->
+			textArea.loadReadOnlyView(loc, "utf-8"));
+		Assertions.assertFalse(textArea.isReadOnlyView());
+	}
+
+
 	@Test
 	void testReload_localFile_exists() throws IOException {
 
@@ -368,6 +508,37 @@ class TextEditorPaneTest {
 	}
 
 
+	@Test
+	void testSave_atomicSave() throws IOException {
+
+		File file = createTempFile();
+		Files.writeString(file.toPath(), "original");
+		Object key = Files.readAttributes(file.toPath(),
+				BasicFileAttributes.class).fileKey();
+		Assumptions.assumeTrue(key!=null, "File keys not supported");
+
+		TextEditorPane textArea = new TextEditorPane();
+		textArea.load(FileLocation.create(file), "UTF-8");
+		textArea.setText("lorem ipsum");
+		textArea.setAtomicSave(true);
+		textArea.save();
+		Assertions.assertEquals("lorem ipsum", Files.readString(file.toPath()));
+		Object newKey = Files.readAttributes(file.toPath(),
+				BasicFileAttributes.class).fileKey();
+		Assertions.assertNotEquals(key, newKey);
+
+		// A file that is mapped by a read-only view is overwritten in place
+		TextEditorPane viewer = new TextEditorPane();
+		viewer.loadReadOnlyView(FileLocation.create(file), "UTF-8");
+		textArea.setText("lorem ipsum dolor");
+		textArea.save();
+		Assertions.assertEquals("lorem ipsum dolor", Files.readString(file.toPath()));
+		Assertions.assertEquals(newKey, Files.readAttributes(file.toPath(),
+				BasicFileAttributes.class).fileKey());
+
+	}
+
+
 	@Test
 	void testSave_loadNonExistentFile() throws IOException {
 
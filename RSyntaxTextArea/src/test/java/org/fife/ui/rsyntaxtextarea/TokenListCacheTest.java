@@ -0,0 +1,338 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.swing.text.Segment;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link TokenListCache} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class TokenListCacheTest {
+
+
+	/**
+	 * Creates a simple token list for a line of text, one token per word.
+	 *
+	 * @param s The line's text.
+	 * @param startOffset The offset of the line in the document.
+	 * @return The token list.
+	 */
+	private static Token createTokenList(Segment s, int startOffset) {
+		TokenImpl first = null;
+		TokenImpl last = null;
+		int start = s.offset;
+		int end = s.offset + s.count;
+		for (int i=start; i<=end; i++) {
+			if (i==end || s.array[i]==' ') {
+				if (i>start) {
+					TokenImpl t = new TokenImpl(s, start, i-1,
+						startOffset + start - s.offset,
+						TokenTypes.IDENTIFIER, 0);
+					if (first==null) {
+						first = t;
+					}
+					else {
+						last.setNextToken(t);
+					}
+					last = t;
+				}
+				start = i + 1;
+			}
+		}
+		last.setNextToken(new TokenImpl());
+		return first;
+	}
+
+
+	private static Segment createSegment(String text) {
+		// Pad the array so we verify offsets are copied correctly
+		char[] array = ("xx" + text + "yy").toCharArray();
+		return new Segment(array, 2, text.length());
+	}
+
+
+	@Test
+	void testGet_emptyCache() {
+		TokenListCache cache = new TokenListCache(10000);
+		Assertions.assertNull(cache.get(0, 0, 5));
+	}
+
+
+	@Test
+	void testPut_copiesTokensAndText() {
+
+		TokenListCache cache = new TokenListCache(10000);
+		Segment s = createSegment("one two");
+		Token tokens = createTokenList(s, 10);
+
+		Assertions.assertTrue(cache.put(3, s, 10, tokens));
+		Assertions.assertEquals(1, cache.getSize());
+
+		// Modifying the original text should not affect the cached copy
+		s.array[2] = 'X';
+		Token cached = cache.get(3, 10, 7);
+		Assertions.assertNotSame(tokens, cached);
+		Assertions.assertTrue(cached.is(TokenTypes.IDENTIFIER, "one"));
+		Assertions.assertEquals(10, cached.getOffset());
+		Token t = cached.getNextToken();
+		Assertions.assertTrue(t.is(TokenTypes.IDENTIFIER, "two"));
+		Assertions.assertEquals(14, t.getOffset());
+		Assertions.assertFalse(t.getNextToken().isPaintable());
+
+	}
+
+
+	@Test
+	void testPut_tooLarge() {
+		TokenListCache cache = new TokenListCache(10);
+		Segment s = createSegment("one two");
+		Assertions.assertFalse(cache.put(0, s, 0, createTokenList(s, 0)));
+		Assertions.assertEquals(0, cache.getSize());
+		Assertions.assertEquals(0, cache.getByteCount());
+	}
+
+
+	@Test
+	void testPut_cannotPack() {
+		TokenListCache cache = new TokenListCache(10000);
+		Segment s = createSegment("one two");
+		Token tokens = createTokenList(s, 0);
+		tokens.setType(1<<24);
+		Assertions.assertFalse(cache.put(0, s, 0, tokens));
+		Assertions.assertEquals(0, cache.getSize());
+	}
+
+
+	@Test
+	void testGetPacked() {
+		TokenListCache cache = new TokenListCache(10000);
+		Segment s = createSegment("one two");
+		cache.put(3, s, 10, createTokenList(s, 10));
+		PackedTokenList packed = cache.getPacked(3, 12, 7);
+		Assertions.assertEquals(3, packed.getTokenCount());
+		Assertions.assertEquals(16, packed.getOffset(1));
+		Assertions.assertNull(cache.getPacked(4, 12, 7));
+	}
+
+
+	@Test
+	void testGet_lineMoved() {
+
+		TokenListCache cache = new TokenListCache(10000);
+		Segment s = createSegment("one two");
+		cache.put(3, s, 10, createTokenList(s, 10));
+
+		Token t = cache.get(3, 25, 7);
+		Assertions.assertEquals(25, t.getOffset());
+		Assertions.assertEquals(29, t.getNextToken().getOffset());
+		Assertions.assertEquals(-1, t.getNextToken().getNextToken().getOffset());
+
+	}
+
+
+	@Test
+	void testGet_lengthChanged() {
+		TokenListCache cache = new TokenListCache(10000);
+		Segment s = createSegment("one two");
+		cache.put(3, s, 10, createTokenList(s, 10));
+		Assertions.assertNull(cache.get(3, 10, 8));
+		Assertions.assertEquals(0, cache.getSize());
+	}
+
+
+	@Test
+	void testEviction() {
+
+		Segment s = createSegment("one two");
+		TokenListCache cache = new TokenListCache(Integer.MAX_VALUE);
+		cache.put(0, s, 0, createTokenList(s, 0));
+		long entrySize = cache.getByteCount();
+
+		cache.setMaxBytes((int)(entrySize * 3));
+		cache.put(1, s, 8, createTokenList(s, 8));
+		cache.put(2, s, 16, createTokenList(s, 16));
+		Assertions.assertEquals(3, cache.getSize());
+
+		// Touch line 0 so line 1 is the least recently used
+		Assertions.assertNotNull(cache.get(0, 0, 7));
+		cache.put(3, s, 24, createTokenList(s, 24));
+		Assertions.assertEquals(3, cache.getSize());
+		Assertions.assertNotNull(cache.get(0, 0, 7));
+		Assertions.assertNull(cache.get(1, 8, 7));
+		Assertions.assertNotNull(cache.get(2, 16, 7));
+		Assertions.assertNotNull(cache.get(3, 24, 7));
+
+		cache.setMaxBytes(0);
+		Assertions.assertEquals(0, cache.getSize());
+		Assertions.assertEquals(0, cache.getByteCount());
+
+	}
+
+
+	@Test
+	void testInvalidate() {
+
+		TokenListCache cache = new TokenListCache(100000);
+		Segment s = createSegment("one two");
+		for (int i=0; i<10; i++) {
+			cache.put(i, s, i*8, createTokenList(s, i*8));
+		}
+
+		cache.invalidate(2, 4);
+		Assertions.assertEquals(7, cache.getSize());
+		Assertions.assertNull(cache.get(2, 16, 7));
+		Assertions.assertNull(cache.get(4, 32, 7));
+		Assertions.assertNotNull(cache.get(5, 40, 7));
+
+		// Range larger than the cache itself
+		cache.invalidate(6, 1000);
+		Assertions.assertEquals(3, cache.getSize());
+
+	}
+
+
+	@Test
+	void testSetMaxBytes_negative() {
+		TokenListCache cache = new TokenListCache(100);
+		Assertions.assertThrows(IllegalArgumentException.class,
+			() -> cache.setMaxBytes(-1));
+	}
+
+
+	@Test
+	void testReplaceLines() {
+
+		TokenListCache cache = new TokenListCache(100000);
+		Segment s = createSegment("one two");
+		for (int i=0; i<5; i++) {
+			cache.put(i, s, i*8, createTokenList(s, i*8));
+		}
+		long entrySize = cache.getByteCount() / 5;
+
+		// Lines 1 and 2 replaced by 4 new lines
+		cache.replaceLines(1, 2, 4);
+		Assertions.assertEquals(3, cache.getSize());
+		Assertions.assertEquals(entrySize*3, cache.getByteCount());
+		Assertions.assertNotNull(cache.get(0, 0, 7));
+		Assertions.assertNull(cache.get(1, 8, 7));
+		Assertions.assertNull(cache.get(3, 24, 7));
+		Assertions.assertNotNull(cache.get(5, 24, 7));
+		Assertions.assertNotNull(cache.get(6, 32, 7));
+
+	}
+
+
+	@Test
+	void testReplaceLines_keepsLruOrder() {
+
+		Segment s = createSegment("one two");
+		TokenListCache cache = new TokenListCache(Integer.MAX_VALUE);
+		cache.put(0, s, 0, createTokenList(s, 0));
+		cache.setMaxBytes((int)(cache.getByteCount() * 3));
+		cache.put(1, s, 8, createTokenList(s, 8));
+		cache.put(2, s, 16, createTokenList(s, 16));
+		Assertions.assertNotNull(cache.get(0, 0, 7));
+
+		// Lines 1 and 2 move to 3 and 4, and line 3 is still the least
+		// recently used
+		cache.replaceLines(1, 0, 2);
+		cache.put(1, s, 8, createTokenList(s, 8));
+		Assertions.assertEquals(3, cache.getSize());
+		Assertions.assertNotNull(cache.get(0, 0, 7));
+		Assertions.assertNotNull(cache.get(1, 8, 7));
+		Assertions.assertNull(cache.get(3, 24, 7));
+		Assertions.assertNotNull(cache.get(4, 32, 7));
+
+	}
+
+
+	@Test
+	void testReplaceLines_random() {
+
+		Random random = new Random(42);
+		TokenListCache cache = new TokenListCache(Integer.MAX_VALUE);
+		Segment s = createSegment("one two");
+		List<PackedTokenList> expected = new ArrayList<>();
+		for (int i=0; i<200; i++) {
+			expected.add(null);
+		}
+
+		for (int i=0; i<5000; i++) {
+
+			int line = random.nextInt(expected.size());
+			switch (random.nextInt(4)) {
+				case 0:
+					PackedTokenList packed = PackedTokenList.create(s, 0,
+							createTokenList(s, 0));
+					cache.put(line, packed);
+					expected.set(line, packed);
+					break;
+				case 1:
+					int to = Math.min(expected.size(), line + random.nextInt(5)) - 1;
+					cache.invalidate(line, to);
+					for (int j=line; j<=to; j++) {
+						expected.set(j, null);
+					}
+					break;
+				default:
+					int removed = Math.min(expected.size() - line - 1,
+							random.nextInt(5));
+					int added = random.nextInt(5);
+					cache.replaceLines(line, removed, added);
+					for (int j=0; j<removed; j++) {
+						expected.remove(line);
+					}
+					for (int j=0; j<added; j++) {
+						expected.add(line, null);
+					}
+					break;
+			}
+
+			int size = 0;
+			for (int j=0; j<expected.size(); j++) {
+				Assertions.assertSame(expected.get(j), cache.getPacked(j, 0, 7),
+						"line " + j);
+				if (expected.get(j)!=null) {
+					size++;
+				}
+			}
+			Assertions.assertEquals(size, cache.getSize());
+
+		}
+
+	}
+
+
+	@Test
+	void testReplaceLines_sameLineCount() {
+
+		TokenListCache cache = new TokenListCache(100000);
+		Segment s = createSegment("one two");
+		for (int i=0; i<5; i++) {
+			cache.put(i, s, i*8, createTokenList(s, i*8));
+		}
+
+		cache.replaceLines(1, 2, 2);
+		Assertions.assertEquals(3, cache.getSize());
+		Assertions.assertNotNull(cache.get(0, 0, 7));
+		Assertions.assertNull(cache.get(1, 8, 7));
+		Assertions.assertNull(cache.get(2, 16, 7));
+		Assertions.assertNotNull(cache.get(3, 24, 7));
+		Assertions.assertNotNull(cache.get(4, 32, 7));
+
+	}
+
+
+}
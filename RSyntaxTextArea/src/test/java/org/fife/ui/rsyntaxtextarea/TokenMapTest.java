@@ -0,0 +1,154 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import javax.swing.text.Segment;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link TokenMap} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class TokenMapTest {
+
+
+	private static int get(TokenMap map, String text) {
+		// Surround the text to verify offsets are honored
+		char[] array = ("  " + text + "  ").toCharArray();
+		return map.get(array, 2, 2 + text.length() - 1);
+	}
+
+
+	@Test
+	void testFreeze() {
+
+		TokenMap map = new TokenMap();
+		map.put("if", TokenTypes.RESERVED_WORD);
+		map.put("echo", TokenTypes.FUNCTION);
+		map.put("else", TokenTypes.RESERVED_WORD);
+		Assertions.assertFalse(map.isFrozen());
+
+		map.freeze();
+		Assertions.assertTrue(map.isFrozen());
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, get(map, "if"));
+		Assertions.assertEquals(TokenTypes.FUNCTION, get(map, "echo"));
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, get(map, "else"));
+		Assertions.assertEquals(-1, get(map, "IF"));
+		Assertions.assertEquals(-1, get(map, "ese"));
+		Assertions.assertEquals(-1, get(map, "elsewhere"));
+		Assertions.assertEquals(-1, get(map, "x"));
+
+	}
+
+
+	@Test
+	void testFreeze_duplicateWords() {
+		TokenMap map = new TokenMap();
+		map.put("foo", TokenTypes.RESERVED_WORD);
+		map.put("foo", TokenTypes.FUNCTION);
+		Assertions.assertEquals(TokenTypes.FUNCTION, get(map, "foo"));
+		map.freeze();
+		Assertions.assertTrue(map.isFrozen());
+		Assertions.assertEquals(TokenTypes.FUNCTION, get(map, "foo"));
+	}
+
+
+	@Test
+	void testFreeze_empty() {
+		TokenMap map = new TokenMap();
+		map.freeze();
+		Assertions.assertTrue(map.isFrozen());
+		Assertions.assertEquals(-1, get(map, "foo"));
+	}
+
+
+	@Test
+	void testFreeze_ignoreCase() {
+
+		TokenMap map = new TokenMap(true);
+		map.put("ECHO", TokenTypes.FUNCTION);
+		map.put("goto", TokenTypes.RESERVED_WORD);
+		map.freeze();
+
+		Assertions.assertEquals(TokenTypes.FUNCTION, get(map, "echo"));
+		Assertions.assertEquals(TokenTypes.FUNCTION, get(map, "Echo"));
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, get(map, "GOTO"));
+		Assertions.assertEquals(-1, get(map, "got"));
+
+	}
+
+
+	@Test
+	void testFreeze_manyWords() {
+
+		TokenMap map = new TokenMap();
+		for (int i = 0; i < 5000; i++) {
+			map.put("word" + i, i % 3==0 ? TokenTypes.FUNCTION : TokenTypes.RESERVED_WORD);
+		}
+		map.freeze();
+		Assertions.assertTrue(map.isFrozen());
+
+		for (int i = 0; i < 5000; i++) {
+			int expected = i % 3==0 ? TokenTypes.FUNCTION : TokenTypes.RESERVED_WORD;
+			Assertions.assertEquals(expected, get(map, "word" + i));
+		}
+		Assertions.assertEquals(-1, get(map, "word5000"));
+		Assertions.assertEquals(-1, get(map, "word"));
+
+	}
+
+
+	@Test
+	void testGet_segment() {
+
+		TokenMap map = new TokenMap();
+		map.put("while", TokenTypes.RESERVED_WORD);
+		Segment segment = new Segment("do while true".toCharArray(), 0, 13);
+
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, map.get(segment, 3, 7));
+		map.freeze();
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, map.get(segment, 3, 7));
+		Assertions.assertEquals(-1, map.get(segment, 0, 1));
+
+	}
+
+
+	@Test
+	void testGet_unfrozen() {
+
+		TokenMap map = new TokenMap(true);
+		map.put("Echo", TokenTypes.FUNCTION);
+
+		Assertions.assertFalse(map.isFrozen());
+		Assertions.assertEquals(TokenTypes.FUNCTION, get(map, "ECHO"));
+		Assertions.assertEquals(-1, get(map, "ech"));
+
+	}
+
+
+	@Test
+	void testPut_afterFreeze() {
+
+		TokenMap map = new TokenMap();
+		map.put("if", TokenTypes.RESERVED_WORD);
+		map.freeze();
+
+		map.put("fi", TokenTypes.RESERVED_WORD);
+		Assertions.assertFalse(map.isFrozen());
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, get(map, "if"));
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, get(map, "fi"));
+
+		map.freeze();
+		Assertions.assertEquals(TokenTypes.RESERVED_WORD, get(map, "fi"));
+
+	}
+
+
+}
@@ -0,0 +1,294 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+
+/**
+ * Unit tests for the {@link URLContentCache} class, run against a local
+ * HTTP server.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class URLContentCacheTest {
+
+	@TempDir
+	Path dir;
+
+	private HttpServer server;
+
+	/**
+	 * The content served for each path.
+	 */
+	private Map<String, String> content;
+
+	/**
+	 * Headers added to every response.
+	 */
+	private Map<String, String> extraHeaders;
+
+	/**
+	 * The status code of each response, in order.
+	 */
+	private List<Integer> responses;
+
+
+	@BeforeEach
+	void setUp() throws IOException {
+
+		content = new ConcurrentHashMap<>();
+		extraHeaders = new ConcurrentHashMap<>();
+		responses = new ArrayList<>();
+
+		server = HttpServer.create(new InetSocketAddress(
+				InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", this::handle);
+		server.start();
+
+	}
+
+
+	@AfterEach
+	void tearDown() {
+		server.stop(0);
+	}
+
+
+	private URL createUrl(String path) throws IOException {
+		return URI.create("http://127.0.0.1:" + server.getAddress().getPort() + path).toURL();
+	}
+
+
+	/**
+	 * Serves {@link #content}, using a hash of it as its ETag.
+	 */
+	private void handle(HttpExchange exchange) throws IOException {
+
+		String text = content.get(exchange.getRequestURI().getPath());
+		int status;
+		byte[] body = new byte[0];
+		if (text==null) {
+			status = 404;
+		}
+		else {
+			String etag = "\"" + Integer.toHexString(text.hashCode()) + "\"";
+			exchange.getResponseHeaders().set("ETag", etag);
+			extraHeaders.forEach((k, v) -> exchange.getResponseHeaders().set(k, v));
+			if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+				status = 304;
+			}
+			else {
+				status = 200;
+				body = text.getBytes(StandardCharsets.UTF_8);
+			}
+		}
+
+		synchronized (responses) {
+			responses.add(status);
+		}
+		exchange.sendResponseHeaders(status, status==200 ? body.length : -1);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+
+	}
+
+
+	private static String read(URLContentCache cache, URL url) throws IOException {
+		try (InputStream in = cache.openStream(url)) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+
+	@Test
+	void testConstructor_orphanedFilesDeleted() throws Exception {
+
+		content.put("/foo.txt", "Hello world");
+		URL url = createUrl("/foo.txt");
+		read(new URLContentCache(dir.toFile(), 1024), url);
+
+		// As if the application died partway through adding entries
+		Path orphanedData = dir.resolve("0123.data");
+		Path orphanedMeta = dir.resolve("4567.meta");
+		Files.writeString(orphanedData, "orphan");
+		Files.writeString(orphanedMeta, "url=http://127.0.0.1/missing.txt");
+
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		Assertions.assertTrue(cache.contains(url));
+		Assertions.assertEquals(11, cache.getSize());
+		Assertions.assertFalse(Files.exists(orphanedData));
+		Assertions.assertFalse(Files.exists(orphanedMeta));
+
+	}
+
+
+	@Test
+	void testOpenStream() throws Exception {
+
+		content.put("/foo.txt", "Hello world");
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		URL url = createUrl("/foo.txt");
+
+		Assertions.assertEquals("Hello world", read(cache, url));
+		Assertions.assertTrue(cache.contains(url));
+		Assertions.assertEquals(11, cache.getSize());
+
+		// Unchanged, so a single 304 round trip
+		Assertions.assertEquals("Hello world", read(cache, url));
+		Assertions.assertEquals(List.of(200, 304), responses);
+
+	}
+
+
+	@Test
+	void testOpenStream_changed() throws Exception {
+
+		content.put("/foo.txt", "Hello world");
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		URL url = createUrl("/foo.txt");
+		read(cache, url);
+
+		content.put("/foo.txt", "Goodbye");
+		Assertions.assertEquals("Goodbye", read(cache, url));
+		Assertions.assertEquals(7, cache.getSize());
+		Assertions.assertEquals("Goodbye", read(cache, url));
+		Assertions.assertEquals(List.of(200, 200, 304), responses);
+
+	}
+
+
+	@Test
+	void testOpenStream_evictsLeastRecentlyUsed() throws Exception {
+
+		content.put("/a", "aaaaa");
+		content.put("/b", "bbbbb");
+		content.put("/c", "ccccc");
+		URLContentCache cache = new URLContentCache(dir.toFile(), 10);
+
+		read(cache, createUrl("/a"));
+		read(cache, createUrl("/b"));
+		read(cache, createUrl("/a")); // "b" is now least recently used
+		read(cache, createUrl("/c"));
+
+		Assertions.assertTrue(cache.contains(createUrl("/a")));
+		Assertions.assertFalse(cache.contains(createUrl("/b")));
+		Assertions.assertTrue(cache.contains(createUrl("/c")));
+		Assertions.assertEquals(10, cache.getSize());
+
+	}
+
+
+	@Test
+	void testOpenStream_noStore() throws Exception {
+		content.put("/foo.txt", "Hello world");
+		extraHeaders.put("Cache-Control", "no-store");
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		URL url = createUrl("/foo.txt");
+		Assertions.assertEquals("Hello world", read(cache, url));
+		Assertions.assertFalse(cache.contains(url));
+	}
+
+
+	@Test
+	void testOpenStream_notFound() throws Exception {
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		Assertions.assertThrows(IOException.class, () ->
+			read(cache, createUrl("/missing.txt")));
+	}
+
+
+	@Test
+	void testOpenStream_partiallyRead() throws Exception {
+
+		content.put("/foo.txt", "Hello world");
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		URL url = createUrl("/foo.txt");
+		try (InputStream in = cache.openStream(url)) {
+			Assertions.assertEquals('H', in.read());
+		}
+
+		Assertions.assertFalse(cache.contains(url));
+		Assertions.assertEquals(0, cache.getSize());
+
+	}
+
+
+	@Test
+	void testOpenStream_reusedByNewInstance() throws Exception {
+
+		content.put("/foo.txt", "Hello world");
+		URL url = createUrl("/foo.txt");
+		read(new URLContentCache(dir.toFile(), 1024), url);
+
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		Assertions.assertTrue(cache.contains(url));
+		Assertions.assertEquals("Hello world", read(cache, url));
+		Assertions.assertEquals(List.of(200, 304), responses);
+
+	}
+
+
+	@Test
+	void testRemove() throws Exception {
+
+		content.put("/foo.txt", "Hello world");
+		URLContentCache cache = new URLContentCache(dir.toFile(), 1024);
+		URL url = createUrl("/foo.txt");
+		read(cache, url);
+
+		cache.remove(url);
+		Assertions.assertFalse(cache.contains(url));
+		Assertions.assertEquals(0, cache.getSize());
+		read(cache, url);
+		Assertions.assertEquals(List.of(200, 200), responses);
+
+	}
+
+
+	@Test
+	void testTextEditorPaneLoad() throws Exception {
+
+		content.put("/Foo.java", "public class Foo {\r\n}\r\n");
+		URL url = createUrl("/Foo.java");
+		URLContentCache.setDefault(new URLContentCache(dir.toFile(), 1024));
+		try {
+			TextEditorPane textArea = new TextEditorPane();
+			textArea.load(FileLocation.create(url), "UTF-8");
+			textArea.load(FileLocation.create(url), "UTF-8");
+			Assertions.assertEquals("public class Foo {\n}\n", textArea.getText());
+			Assertions.assertEquals("\r\n", textArea.getLineSeparator());
+			Assertions.assertEquals(List.of(200, 304), responses);
+		} finally {
+			URLContentCache.setDefault(null);
+		}
+
+	}
+
+
+}
@@ -51,6 +51,40 @@ abstract class AbstractJFlexTokenMakerTest extends AbstractTokenMakerTest {
 	}
 
 
+	@Test
+	void testCommon_getLastTokenTypeOnLine_sameAsLastTokenInList() {
+
+		String[] lines = {
+			"int x = 5; /* start of a comment",
+			"still in the comment */ foo(\"unterminated",
+			"<!-- markup comment",
+			"--> <a href=\"x\">text <script>var r = /a*b/;",
+			"var s = 'abc' + \"def\" // trailing",
+			"\"\"\"multi-line string",
+			"end\"\"\" x = `template ${ y",
+			"} done` ``` code # comment",
+			"",
+			"    <?php echo $x; /** doc",
+			"*/ ?> </script> <style> a { color: red; /* css",
+			"*/ }",
+		};
+
+		TokenMaker tm = createTokenMaker();
+		int expected = TokenTypes.NULL;
+		for (String line : lines) {
+			Segment segment = createSegment(line);
+			int actual = tm.getLastTokenTypeOnLine(segment, expected);
+			Token t = tm.getTokenList(segment, expected, 0);
+			while (t.getNextToken()!=null) {
+				t = t.getNextToken();
+			}
+			expected = t.getType();
+			Assertions.assertEquals(expected, actual, "Line: " + line);
+		}
+
+	}
+
+
 	@Test
 	public void testCommon_yycharat() {
 		TokenMaker tm = createTokenMaker();
@@ -0,0 +1,109 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.modes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link DfaTableConverter} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class DfaTableConverterTest {
+
+
+	private String loadScanner() throws IOException {
+		try (InputStream in = getClass().getResourceAsStream(
+				"DfaTableConverterTest_scanner.txt")) {
+			return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+	}
+
+
+	@Test
+	void testConvert() throws IOException {
+
+		String source = loadScanner();
+		Assertions.assertFalse(DfaTableConverter.isConverted(source));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		String converted = DfaTableConverter.convert("TestTokenMaker", source, out);
+		Assertions.assertTrue(DfaTableConverter.isConverted(converted));
+
+		// The tables and the code unpacking them are gone
+		Assertions.assertFalse(converted.contains("PACKED"));
+		Assertions.assertFalse(converted.contains("zzUnpack"));
+		Assertions.assertTrue(converted.contains("DfaTables.load(TestTokenMaker.class);"));
+		Assertions.assertTrue(converted.contains("    short [] zzTransL = Tables.ZZ_TRANS;\n"));
+		Assertions.assertTrue(converted.contains(
+			"    return Tables.ZZ_ACTION[zzTransL[zzRowMapL[zzState] + zzCMapL['a']]];\n"));
+
+		// Everything else is untouched
+		Assertions.assertTrue(converted.contains("  public static final int YYINITIAL = 0;\n"));
+		Assertions.assertTrue(converted.contains("  private static final int ZZ_UNKNOWN_ERROR = 0;\n"));
+		Assertions.assertTrue(converted.contains("  /** the current state of the DFA */\n"));
+
+		DfaTables tables = DfaTables.read(new ByteArrayInputStream(out.toByteArray()));
+		char[] cmap = new char[0x10000];
+		Arrays.fill(cmap, 'a', 'z' + 1, (char)1);
+		Assertions.assertArrayEquals(cmap, tables.getCMap());
+		Assertions.assertArrayEquals(new int[] { 0, 1, 1 }, tables.getAction());
+		Assertions.assertArrayEquals(new int[] { 0, 2, 0x10004 }, tables.getRowMap());
+		Assertions.assertArrayEquals(new short[] { -1, 2, 33, -1, -1, -1 }, tables.getTrans());
+		Assertions.assertArrayEquals(new int[] { 1, 9, 9 }, tables.getAttribute());
+
+	}
+
+
+	@Test
+	void testConvert_notGeneratedScanner() {
+		Assertions.assertThrows(IOException.class, () -> DfaTableConverter.convert(
+			"TestTokenMaker", "public class TestTokenMaker {}", new ByteArrayOutputStream()));
+	}
+
+
+	@Test
+	void testIsConverted() throws IOException {
+		Assertions.assertTrue(DfaTableConverter.isConverted(
+			"private static final DfaTables TABLES = DfaTables.load(JavaTokenMaker.class);"));
+		Assertions.assertFalse(DfaTableConverter.isConverted(loadScanner()));
+	}
+
+
+	@Test
+	void testWrite() throws IOException {
+
+		char[] cmap = new char[0x10000];
+		Arrays.fill(cmap, 'a', 'z' + 1, (char)1);
+		cmap[0xffff] = 300;
+		int[] action = { 0, 1, 1, 1, 2, 70000 };
+		int[] rowMap = { 0, 5, 10, 15, 20, 25 };
+		short[] trans = { -1, -1, -1, 3, 4, Short.MAX_VALUE, Short.MIN_VALUE };
+		int[] attribute = { 0, 1, 9, 9, 9, 1 };
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		DfaTableConverter.write(out, cmap, action, rowMap, trans, attribute);
+		DfaTables tables = DfaTables.read(new ByteArrayInputStream(out.toByteArray()));
+
+		Assertions.assertArrayEquals(cmap, tables.getCMap());
+		Assertions.assertArrayEquals(action, tables.getAction());
+		Assertions.assertArrayEquals(rowMap, tables.getRowMap());
+		Assertions.assertArrayEquals(trans, tables.getTrans());
+		Assertions.assertArrayEquals(attribute, tables.getAttribute());
+
+	}
+
+
+}
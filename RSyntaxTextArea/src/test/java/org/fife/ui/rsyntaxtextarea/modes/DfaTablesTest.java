@@ -0,0 +1,55 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.modes;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.DeflaterOutputStream;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link DfaTables} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class DfaTablesTest {
+
+
+	@Test
+	void testLoad() {
+		DfaTables tables = DfaTables.load(JavaTokenMaker.class);
+		Assertions.assertEquals(0x10000, tables.getCMap().length);
+		Assertions.assertEquals(tables.getAction().length, tables.getRowMap().length);
+		Assertions.assertEquals(tables.getAction().length, tables.getAttribute().length);
+		Assertions.assertTrue(tables.getTrans().length > 0);
+	}
+
+
+	@Test
+	void testLoad_missingResource() {
+		Assertions.assertThrows(InternalError.class, () -> DfaTables.load(DfaTablesTest.class));
+	}
+
+
+	@Test
+	void testRead_invalidMagic() throws IOException {
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		try (DeflaterOutputStream out = new DeflaterOutputStream(bout)) {
+			out.write(new byte[] { 1, 2, 3, 4 });
+		}
+
+		ByteArrayInputStream in = new ByteArrayInputStream(bout.toByteArray());
+		Assertions.assertThrows(IOException.class, () -> DfaTables.read(in));
+
+	}
+
+
+}
@@ -0,0 +1,390 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.undo.UndoManager;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link CompactRootElement} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class CompactRootElementTest {
+
+
+	private static void assertSameLines(RDocument expected, RDocument actual)
+			throws BadLocationException {
+
+		Assertions.assertEquals(expected.getText(0, expected.getLength()),
+				actual.getText(0, actual.getLength()));
+
+		Element expectedRoot = expected.getDefaultRootElement();
+		Element actualRoot = actual.getDefaultRootElement();
+		Assertions.assertEquals(expectedRoot.getEndOffset(), actualRoot.getEndOffset());
+		Assertions.assertEquals(expectedRoot.getElementCount(), actualRoot.getElementCount());
+		for (int i=0; i<expectedRoot.getElementCount(); i++) {
+			Element e = expectedRoot.getElement(i);
+			Element a = actualRoot.getElement(i);
+			Assertions.assertEquals(e.getStartOffset(), a.getStartOffset(), "line " + i);
+			Assertions.assertEquals(e.getEndOffset(), a.getEndOffset(), "line " + i);
+		}
+
+		for (int offs=0; offs<=expected.getLength() + 1; offs++) {
+			Assertions.assertEquals(expectedRoot.getElementIndex(offs),
+					actualRoot.getElementIndex(offs), "offset " + offs);
+		}
+
+	}
+
+
+	private static RDocument createDocument(String text) throws BadLocationException {
+		RDocument doc = new RDocument(null, true);
+		doc.insertString(0, text, null);
+		return doc;
+	}
+
+
+	@Test
+	void testConstructor() {
+		RDocument doc = new RDocument(null, true);
+		Assertions.assertTrue(doc.isCompactLineIndex());
+		Element root = doc.getDefaultRootElement();
+		Assertions.assertInstanceOf(CompactRootElement.class, root);
+		Assertions.assertEquals(1, root.getElementCount());
+		Assertions.assertEquals(0, root.getElement(0).getStartOffset());
+		Assertions.assertEquals(1, root.getElement(0).getEndOffset());
+		Assertions.assertFalse(new RDocument().isCompactLineIndex());
+	}
+
+
+	@Test
+	void testGetElement() throws Exception {
+
+		RDocument doc = createDocument("one\ntwo\nthree");
+		Element root = doc.getDefaultRootElement();
+		Assertions.assertNull(root.getElement(-1));
+		Assertions.assertNull(root.getElement(3));
+
+		Element line = root.getElement(1);
+		Assertions.assertSame(line, root.getElement(1));
+		Assertions.assertSame(root, line.getParentElement());
+		Assertions.assertSame(doc, line.getDocument());
+		Assertions.assertTrue(line.isLeaf());
+		Assertions.assertEquals(0, line.getElementCount());
+		Assertions.assertEquals("content", line.getName());
+		Assertions.assertEquals("paragraph", root.getName());
+
+		// Lines handed out stay up to date
+		doc.insertString(0, "zero\n", null);
+		Assertions.assertSame(line, root.getElement(2));
+		Assertions.assertEquals(9, line.getStartOffset());
+		Assertions.assertEquals(13, line.getEndOffset());
+
+	}
+
+
+	@Test
+	void testGetElementIndex() throws Exception {
+		RDocument doc = createDocument("one\ntwo\nthree");
+		Element root = doc.getDefaultRootElement();
+		Assertions.assertEquals(0, root.getElementIndex(-1));
+		Assertions.assertEquals(0, root.getElementIndex(3));
+		Assertions.assertEquals(1, root.getElementIndex(4));
+		Assertions.assertEquals(2, root.getElementIndex(8));
+		Assertions.assertEquals(2, root.getElementIndex(100));
+	}
+
+
+	@Test
+	void testInsert_lineChange() throws Exception {
+
+		RDocument doc = createDocument("one\ntwo\nthree");
+		Element root = doc.getDefaultRootElement();
+		Element two = root.getElement(1);
+		UndoManager undoManager = new UndoManager();
+		doc.addUndoableEditListener(undoManager);
+
+		List<DocumentEvent.ElementChange> changes = new ArrayList<>();
+		DocumentListener listener = new DocumentListener() {
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+			}
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				DocumentEvent.ElementChange change = e.getChange(root);
+				Assertions.assertEquals(1, change.getIndex());
+				Assertions.assertEquals(1001, RDocument.getChildrenAddedCount(change));
+				Assertions.assertEquals(1, RDocument.getChildrenRemovedCount(change));
+				Element[] added = change.getChildrenAdded();
+				Assertions.assertEquals(1001, added.length);
+				for (int i=0; i<added.length; i++) {
+					Assertions.assertSame(root.getElement(1 + i), added[i]);
+				}
+				Assertions.assertSame(two, change.getChildrenRemoved()[0]);
+				changes.add(change);
+			}
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+			}
+		};
+		doc.addDocumentListener(listener);
+
+		doc.insertString(5, "x\n".repeat(1000), null);
+		doc.removeDocumentListener(listener);
+		Assertions.assertEquals(1, changes.size());
+		Assertions.assertEquals(1003, root.getElementCount());
+		Assertions.assertEquals(4, two.getStartOffset()); // Frozen once removed
+
+		// Undoing puts the removed line back, still up to date
+		undoManager.undo();
+		Assertions.assertSame(two, root.getElement(1));
+		doc.insertString(0, "zero\n", null);
+		Assertions.assertEquals(9, two.getStartOffset());
+		Assertions.assertEquals(13, two.getEndOffset());
+
+	}
+
+
+	@Test
+	void testRandomEdits_sameAsPlainDocument() throws Exception {
+
+		RDocument expected = new RDocument();
+		RDocument actual = new RDocument(new PieceTableContent(), true);
+		UndoManager expectedUndo = new UndoManager();
+		UndoManager actualUndo = new UndoManager();
+		expectedUndo.setLimit(-1);
+		actualUndo.setLimit(-1);
+		expected.addUndoableEditListener(expectedUndo);
+		actual.addUndoableEditListener(actualUndo);
+		List<String> expectedEvents = new ArrayList<>();
+		List<String> actualEvents = new ArrayList<>();
+		expected.addDocumentListener(new EventRecorder(expectedEvents));
+		actual.addDocumentListener(new EventRecorder(actualEvents));
+
+		// Hold onto some lines to verify they're kept up to date
+		List<Element> expectedLines = new ArrayList<>();
+		List<Element> actualLines = new ArrayList<>();
+
+		String[] strings = { "a", "bc", "\n", "line\nline\n", "\n\nxyz" };
+		Random random = new Random(11);
+
+		for (int i=0; i<3000; i++) {
+			int len = expected.getLength();
+			int op = random.nextInt(10);
+			if (op<5) {
+				int offs = random.nextInt(len + 1);
+				String str = strings[random.nextInt(strings.length)];
+				expected.insertString(offs, str, null);
+				actual.insertString(offs, str, null);
+			}
+			else if (op<8) {
+				if (len>0) {
+					int offs = random.nextInt(len);
+					int count = 1 + random.nextInt(Math.min(20, len - offs));
+					expected.remove(offs, count);
+					actual.remove(offs, count);
+				}
+			}
+			else if (op<9) {
+				if (expectedUndo.canUndo()) {
+					expectedUndo.undo();
+					actualUndo.undo();
+				}
+			}
+			else if (expectedUndo.canRedo()) {
+				expectedUndo.redo();
+				actualUndo.redo();
+			}
+			if (i%50==0) {
+				int line = random.nextInt(expected.getDefaultRootElement().getElementCount());
+				expectedLines.add(expected.getDefaultRootElement().getElement(line));
+				actualLines.add(actual.getDefaultRootElement().getElement(line));
+			}
+			if (i%100==0) {
+				assertSameLines(expected, actual);
+			}
+		}
+		assertSameLines(expected, actual);
+		Assertions.assertEquals(expectedEvents, actualEvents);
+
+		while (expectedUndo.canUndo()) {
+			expectedUndo.undo();
+			actualUndo.undo();
+		}
+		assertSameLines(expected, actual);
+		Assertions.assertEquals(expectedEvents, actualEvents);
+		Assertions.assertEquals(0, actual.getLength());
+
+		// Lines still in the document are in the same place
+		Element root = actual.getDefaultRootElement();
+		for (int i=0; i<actualLines.size(); i++) {
+			Element line = actualLines.get(i);
+			int index = root.getElementIndex(line.getStartOffset());
+			if (root.getElement(index)==line) {
+				Assertions.assertEquals(expectedLines.get(i).getStartOffset(),
+						line.getStartOffset());
+				Assertions.assertEquals(expectedLines.get(i).getEndOffset(),
+						line.getEndOffset());
+			}
+		}
+
+	}
+
+
+	@Test
+	void testRemove_joinsLines() throws Exception {
+
+		RDocument doc = createDocument("one\ntwo\nthree\nfour");
+		List<String> events = new ArrayList<>();
+		doc.addDocumentListener(new EventRecorder(events));
+		Element removedLine = doc.getDefaultRootElement().getElement(1);
+
+		doc.remove(2, 8);
+		Assertions.assertEquals("onree\nfour", doc.getText(0, doc.getLength()));
+		Assertions.assertEquals(2, doc.getDefaultRootElement().getElementCount());
+		Assertions.assertEquals("remove 2,8 [0: -3 +0/6]", events.get(0));
+
+		// Removed lines keep the offsets they had when removed
+		Assertions.assertEquals(4, removedLine.getStartOffset());
+		Assertions.assertEquals(8, removedLine.getEndOffset());
+
+	}
+
+
+	@Test
+	void testRemove_manyLines() throws Exception {
+
+		RDocument doc = createDocument("line\n".repeat(1000));
+		Element root = doc.getDefaultRootElement();
+		Element line = root.getElement(500);
+		UndoManager undoManager = new UndoManager();
+		doc.addUndoableEditListener(undoManager);
+		List<DocumentEvent.ElementChange> changes = new ArrayList<>();
+		doc.addDocumentListener(new DocumentListener() {
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+			}
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+			}
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+				changes.add(e.getChange(root));
+			}
+		});
+
+		doc.remove(2, 4990);
+		Assertions.assertEquals("line\nline\n", doc.getText(0, doc.getLength()));
+		DocumentEvent.ElementChange change = changes.get(0);
+		Assertions.assertEquals(999, RDocument.getChildrenRemovedCount(change));
+		Assertions.assertEquals(1, RDocument.getChildrenAddedCount(change));
+
+		// Lines that were handed out are reported as removed
+		Element[] removed = change.getChildrenRemoved();
+		Assertions.assertSame(line, removed[500]);
+		Assertions.assertEquals(2500, removed[500].getStartOffset());
+		Assertions.assertEquals(2505, removed[500].getEndOffset());
+		Assertions.assertEquals(3000, removed[600].getStartOffset());
+		Assertions.assertEquals(3005, removed[600].getEndOffset());
+
+		// And come back when undone
+		undoManager.undo();
+		Assertions.assertEquals(1001, root.getElementCount());
+		Assertions.assertSame(line, root.getElement(500));
+		Assertions.assertSame(removed[600], root.getElement(600));
+		Assertions.assertEquals(3000, root.getElement(600).getStartOffset());
+
+	}
+
+
+	@Test
+	void testSerialization() throws Exception {
+
+		RDocument doc = createDocument("one\ntwo\nthree");
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+			out.writeObject(doc);
+		}
+		RDocument doc2;
+		try (ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(baos.toByteArray()))) {
+			doc2 = (RDocument)in.readObject();
+		}
+
+		Assertions.assertTrue(doc2.isCompactLineIndex());
+		Element root = doc2.getDefaultRootElement();
+		Assertions.assertEquals(3, root.getElementCount());
+		Assertions.assertEquals(8, root.getElement(2).getStartOffset());
+		doc2.insertString(0, "\n", null);
+		Assertions.assertEquals(4, root.getElementCount());
+
+	}
+
+
+	/**
+	 * Records the line changes in document events.
+	 */
+	private static final class EventRecorder implements DocumentListener {
+
+		private final List<String> events;
+
+		EventRecorder(List<String> events) {
+			this.events = events;
+		}
+
+		@Override
+		public void changedUpdate(DocumentEvent e) {
+		}
+
+		@Override
+		public void insertUpdate(DocumentEvent e) {
+			record("insert", e);
+		}
+
+		@Override
+		public void removeUpdate(DocumentEvent e) {
+			record("remove", e);
+		}
+
+		private void record(String type, DocumentEvent e) {
+			StringBuilder sb = new StringBuilder(type).append(' ').
+					append(e.getOffset()).append(',').append(e.getLength());
+			DocumentEvent.ElementChange change = e.getChange(
+					e.getDocument().getDefaultRootElement());
+			if (change!=null) {
+				// Removed lines' offsets aren't compared, since PlainDocument's
+				// have collapsed by the time a removal is reported
+				sb.append(" [").append(change.getIndex()).append(": -").
+						append(change.getChildrenRemoved().length);
+				for (Element added : change.getChildrenAdded()) {
+					sb.append(" +").append(added.getStartOffset()).append('/').
+							append(added.getEndOffset());
+				}
+				sb.append(']');
+			}
+			events.add(sb.toString());
+		}
+
+	}
+
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.util.List;
+import javax.swing.text.Position;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link ContentPositions} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class ContentPositionsTest {
+
+
+	@Test
+	void testCreatePosition_reusesExisting() {
+		ContentPositions positions = new ContentPositions();
+		Position pos = positions.createPosition(3);
+		Assertions.assertSame(pos, positions.createPosition(3));
+		Assertions.assertNotSame(pos, positions.createPosition(4));
+		Assertions.assertEquals(2, positions.getSize());
+	}
+
+
+	@Test
+	void testInserted() {
+
+		ContentPositions positions = new ContentPositions();
+		Position zero = positions.createPosition(0);
+		Position three = positions.createPosition(3);
+		Position ten = positions.createPosition(10);
+
+		positions.inserted(3, 2);
+		Assertions.assertEquals(0, zero.getOffset());
+		Assertions.assertEquals(5, three.getOffset());
+		Assertions.assertEquals(12, ten.getOffset());
+
+		// Move backward, then forward again
+		positions.inserted(0, 1);
+		Assertions.assertEquals(0, zero.getOffset());
+		Assertions.assertEquals(6, three.getOffset());
+		positions.inserted(13, 1);
+		Assertions.assertEquals(6, three.getOffset());
+		Assertions.assertEquals(14, ten.getOffset());
+
+	}
+
+
+	@Test
+	void testRemoved() {
+
+		ContentPositions positions = new ContentPositions();
+		Position two = positions.createPosition(2);
+		Position four = positions.createPosition(4);
+		Position six = positions.createPosition(6);
+		Position ten = positions.createPosition(10);
+
+		positions.removed(3, 3);
+		Assertions.assertEquals(2, two.getOffset());
+		Assertions.assertEquals(3, four.getOffset());
+		Assertions.assertEquals(3, six.getOffset());
+		Assertions.assertEquals(7, ten.getOffset());
+
+	}
+
+
+	@Test
+	void testUpdateUndoPositions() {
+
+		ContentPositions positions = new ContentPositions();
+		Position two = positions.createPosition(2);
+		Position four = positions.createPosition(4);
+		Position six = positions.createPosition(6);
+
+		List<ContentPositions.UndoPosRef> refs = positions.getPositionsInRange(3, 3);
+		Assertions.assertEquals(2, refs.size());
+		positions.removed(3, 3);
+		positions.inserted(3, 3);
+		Assertions.assertEquals(6, four.getOffset());
+
+		positions.updateUndoPositions(refs, 3, 3);
+		Assertions.assertEquals(2, two.getOffset());
+		Assertions.assertEquals(4, four.getOffset());
+		Assertions.assertEquals(6, six.getOffset());
+
+	}
+
+
+}
@@ -0,0 +1,348 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.UndoManager;
+import javax.swing.undo.UndoableEdit;
+
+import org.fife.ui.rsyntaxtextarea.RSyntaxDocument;
+import org.fife.ui.rsyntaxtextarea.SyntaxConstants;
+import org.fife.ui.rsyntaxtextarea.Token;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link Latin1Content} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class Latin1ContentTest {
+
+
+	private static void assertSameDocuments(RDocument expected, RDocument actual)
+			throws BadLocationException {
+
+		Assertions.assertEquals(expected.getLength(), actual.getLength());
+		Assertions.assertEquals(expected.getText(0, expected.getLength()),
+				actual.getText(0, actual.getLength()));
+
+		Element expectedRoot = expected.getDefaultRootElement();
+		Element actualRoot = actual.getDefaultRootElement();
+		Assertions.assertEquals(expectedRoot.getElementCount(), actualRoot.getElementCount());
+		for (int i=0; i<expectedRoot.getElementCount(); i++) {
+			Element e = expectedRoot.getElement(i);
+			Element a = actualRoot.getElement(i);
+			Assertions.assertEquals(e.getStartOffset(), a.getStartOffset(), "line " + i);
+			Assertions.assertEquals(e.getEndOffset(), a.getEndOffset(), "line " + i);
+		}
+
+	}
+
+
+	private static Latin1Content createContent(String text)
+			throws BadLocationException {
+		Latin1Content content = new Latin1Content();
+		content.insertString(0, text);
+		return content;
+	}
+
+
+	private static String createText(int length) {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<length; i++) {
+			sb.append((char)('a' + i%26));
+		}
+		return sb.toString();
+	}
+
+
+	@Test
+	void testConstructor() throws Exception {
+		Latin1Content content = new Latin1Content();
+		Assertions.assertEquals(1, content.length());
+		Assertions.assertEquals("\n", content.getString(0, 1));
+		Assertions.assertEquals(0, content.getInflatedChunkCount());
+	}
+
+
+	@Test
+	void testCharAt() throws Exception {
+
+		Latin1Content content = createContent("wörld");
+		content.insertString(0, "hello ");
+		String expected = "hello wörld\n";
+
+		for (int i=0; i<expected.length(); i++) {
+			Assertions.assertEquals(expected.charAt(i), content.charAt(i));
+		}
+		Assertions.assertThrows(BadLocationException.class, () -> content.charAt(-1));
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.charAt(expected.length()));
+
+	}
+
+
+	@Test
+	void testCreatePosition() throws Exception {
+
+		Latin1Content content = createContent("0123456789");
+		Position zero = content.createPosition(0);
+		Position five = content.createPosition(5);
+
+		content.insertString(5, "ab");
+		content.insertString(0, "cd");
+		Assertions.assertEquals(0, zero.getOffset());
+		Assertions.assertEquals(9, five.getOffset());
+
+		UndoableEdit edit = content.remove(7, 3);
+		Assertions.assertEquals(7, five.getOffset());
+		edit.undo();
+		Assertions.assertEquals(9, five.getOffset());
+
+		Assertions.assertThrows(BadLocationException.class, () -> content.createPosition(-1));
+
+	}
+
+
+	@Test
+	void testGetChars() throws Exception {
+
+		String text = createText(Latin1Content.CHUNK_SIZE * 3);
+		Latin1Content content = createContent(text);
+		Assertions.assertEquals(4, content.getChunkCount());
+
+		// Latin-1 text is copied, but only the requested range
+		Segment s = new Segment();
+		content.getChars(5, 10, s);
+		Assertions.assertEquals(text.substring(5, 15), s.toString());
+		Assertions.assertEquals(10, s.array.length);
+
+		// Spanning chunks
+		int offs = Latin1Content.CHUNK_SIZE - 3;
+		content.getChars(offs, 6, s);
+		Assertions.assertEquals(text.substring(offs, offs + 6), s.toString());
+
+		// Unless a partial return is requested
+		s.setPartialReturn(true);
+		content.getChars(offs, 6, s);
+		Assertions.assertEquals(text.substring(offs, offs + 3), s.toString());
+
+		// Inflated chunks are handed out directly
+		content.insertString(0, "€");
+		s.setPartialReturn(false);
+		content.getChars(0, 3, s);
+		Assertions.assertEquals("€ab", s.toString());
+		Assertions.assertTrue(s.array.length>3);
+
+		content.getChars(3, 0, s);
+		Assertions.assertEquals(0, s.count);
+
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.getChars(content.length(), 1, new Segment()));
+
+	}
+
+
+	@Test
+	void testGetString() throws Exception {
+		Latin1Content content = createContent("world");
+		content.insertString(0, "hello ");
+		Assertions.assertEquals("hello world\n", content.getString(0, content.length()));
+		Assertions.assertEquals("o w", content.getString(4, 3));
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.getString(0, content.length() + 1));
+	}
+
+
+	@Test
+	void testInsertString_inflatesOnlyOneChunk() throws Exception {
+
+		String text = createText(Latin1Content.CHUNK_SIZE * 4);
+		Latin1Content content = createContent(text);
+		Assertions.assertEquals(0, content.getInflatedChunkCount());
+
+		int offs = Latin1Content.CHUNK_SIZE * 2 + 10;
+		content.insertString(offs, "λ");
+		Assertions.assertEquals(1, content.getInflatedChunkCount());
+		Assertions.assertEquals('λ', content.charAt(offs));
+		Assertions.assertEquals(text.substring(0, offs) + "λ" +
+				text.substring(offs) + "\n", content.getString(0, content.length()));
+
+	}
+
+
+	@Test
+	void testInsertString_invalidOffset() {
+		Latin1Content content = new Latin1Content();
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.insertString(2, "x"));
+	}
+
+
+	@Test
+	void testInsertString_largerThanChunk() throws Exception {
+		String text = createText(Latin1Content.CHUNK_SIZE + 10);
+		Latin1Content content = createContent("xy");
+		content.insertString(1, text);
+		Assertions.assertEquals("x" + text + "y\n", content.getString(0, content.length()));
+	}
+
+
+	@Test
+	void testLexing() throws Exception {
+
+		RSyntaxDocument doc = new RSyntaxDocument(null,
+				SyntaxConstants.SYNTAX_STYLE_JAVA, new Latin1Content());
+		doc.insertString(0, "int x = 5; // café\n/* λ */\n", null);
+
+		Token t = doc.getTokenListForLine(0);
+		Assertions.assertTrue(t.is(Token.DATA_TYPE, "int"));
+		Token t2 = doc.getTokenListForLine(1);
+		Assertions.assertTrue(t2.is(Token.COMMENT_MULTILINE, "/* λ */"));
+
+	}
+
+
+	@Test
+	void testRemove() throws Exception {
+
+		Latin1Content content = createContent("0123456789");
+		content.insertString(5, "abc");
+		content.remove(3, 7);
+		Assertions.assertEquals("012789\n", content.getString(0, content.length()));
+
+		UndoableEdit edit = content.remove(0, 2);
+		Assertions.assertEquals("2789\n", content.getString(0, content.length()));
+		edit.undo();
+		Assertions.assertEquals("012789\n", content.getString(0, content.length()));
+		edit.redo();
+		Assertions.assertEquals("2789\n", content.getString(0, content.length()));
+
+	}
+
+
+	@Test
+	void testRemove_mergesChunks() throws Exception {
+
+		String text = createText(Latin1Content.CHUNK_SIZE * 4);
+		Latin1Content content = createContent(text);
+		Assertions.assertEquals(5, content.getChunkCount());
+
+		// What's left of the first and fourth chunks fits into one
+		content.remove(100, Latin1Content.CHUNK_SIZE * 3);
+		Assertions.assertEquals(2, content.getChunkCount());
+		Assertions.assertEquals(text.substring(0, 100) +
+				text.substring(100 + Latin1Content.CHUNK_SIZE * 3) + "\n",
+				content.getString(0, content.length()));
+
+	}
+
+
+	@Test
+	void testRemove_trailingNewline() throws Exception {
+		Latin1Content content = createContent("abc");
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.remove(2, 2));
+	}
+
+
+	@Test
+	void testRandomEdits_sameAsGapContent() throws Exception {
+
+		RDocument expected = new RDocument();
+		RDocument actual = new RDocument(new Latin1Content());
+		UndoManager expectedUndo = new UndoManager();
+		UndoManager actualUndo = new UndoManager();
+		expectedUndo.setLimit(-1);
+		actualUndo.setLimit(-1);
+		expected.addUndoableEditListener(expectedUndo);
+		actual.addUndoableEditListener(actualUndo);
+
+		String big = createText(Latin1Content.CHUNK_SIZE / 3);
+		String[] strings = { "a", "bc", "\n", "line\nline\n", "\n\néxyz",
+				"λ", big };
+		Random random = new Random(13);
+
+		for (int i=0; i<3000; i++) {
+			int len = expected.getLength();
+			int op = random.nextInt(10);
+			if (op<5) {
+				int offs = random.nextInt(len + 1);
+				String str = strings[random.nextInt(strings.length)];
+				expected.insertString(offs, str, null);
+				actual.insertString(offs, str, null);
+			}
+			else if (op<8) {
+				if (len>0) {
+					int offs = random.nextInt(len);
+					int max = random.nextBoolean() ? 20 : Latin1Content.CHUNK_SIZE;
+					int count = 1 + random.nextInt(Math.min(max, len - offs));
+					expected.remove(offs, count);
+					actual.remove(offs, count);
+				}
+			}
+			else if (op<9) {
+				if (expectedUndo.canUndo()) {
+					expectedUndo.undo();
+					actualUndo.undo();
+				}
+			}
+			else if (expectedUndo.canRedo()) {
+				expectedUndo.redo();
+				actualUndo.redo();
+			}
+			if (i%100==0) {
+				assertSameDocuments(expected, actual);
+			}
+		}
+		assertSameDocuments(expected, actual);
+
+		while (expectedUndo.canUndo()) {
+			expectedUndo.undo();
+			actualUndo.undo();
+		}
+		assertSameDocuments(expected, actual);
+		Assertions.assertEquals(0, actual.getLength());
+
+	}
+
+
+	@Test
+	void testSerialization() throws Exception {
+
+		Latin1Content content = createContent("wörld");
+		content.insertString(0, "hello λ ");
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+			out.writeObject(content);
+		}
+		Latin1Content content2;
+		try (ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(baos.toByteArray()))) {
+			content2 = (Latin1Content)in.readObject();
+		}
+
+		Assertions.assertEquals("hello λ wörld\n",
+				content2.getString(0, content2.length()));
+		content2.insertString(5, ",");
+		Assertions.assertEquals("hello, λ wörld\n",
+				content2.getString(0, content2.length()));
+
+	}
+
+
+}
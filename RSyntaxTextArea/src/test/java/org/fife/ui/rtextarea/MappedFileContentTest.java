@@ -0,0 +1,372 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link MappedFileContent} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class MappedFileContentTest {
+
+
+	/**
+	 * Checks that a document using a content has the expected text and
+	 * lines.
+	 *
+	 * @param expected The expected text, without the trailing newline.
+	 * @param content The content.
+	 */
+	private static void assertDocument(String expected, MappedFileContent content)
+			throws BadLocationException {
+
+		RDocument doc = new RDocument(content, true);
+		Assertions.assertEquals(expected, doc.getText(0, doc.getLength()));
+
+		Element root = doc.getDefaultRootElement();
+		int offs = 0;
+		int line = 0;
+		for (int newline; (newline=expected.indexOf('\n', offs))>-1; line++) {
+			Assertions.assertEquals(offs, root.getElement(line).getStartOffset(),
+					"line " + line);
+			offs = newline + 1;
+		}
+		Assertions.assertEquals(offs, root.getElement(line).getStartOffset());
+		Assertions.assertEquals(line + 1, root.getElementCount());
+
+	}
+
+
+	private static MappedFileContent createContent(String text, Charset charset)
+			throws IOException {
+		return createContent(text.getBytes(charset), charset.name());
+	}
+
+
+	private static MappedFileContent createContent(byte[] bytes, String encoding)
+			throws IOException {
+		File file = File.createTempFile("unitTest", ".tmp");
+		file.deleteOnExit();
+		Files.write(file.toPath(), bytes);
+		return new MappedFileContent(file, encoding);
+	}
+
+
+	/**
+	 * Returns text spanning several windows, with lines of different lengths
+	 * and non-ASCII chars.
+	 *
+	 * @param lineSeparator The line separator to use.
+	 * @return The text.
+	 */
+	private static String createText(String lineSeparator) {
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; sb.length()<MappedFileContent.WINDOW_SIZE * 3; i++) {
+			sb.append("line ").append(i).append(" é€");
+			for (int j=0; j<i%50; j++) {
+				sb.append((char)('a' + j%26));
+			}
+			sb.append(lineSeparator);
+		}
+		return sb.toString();
+	}
+
+
+	@Test
+	void testCharAt() throws Exception {
+
+		String text = createText("\n");
+		MappedFileContent content = createContent(text, StandardCharsets.UTF_8);
+		Assertions.assertTrue(content.getWindowCount()>1);
+		Assertions.assertEquals(text.length() + 1, content.length());
+
+		// Jump around to make sure windows are re-decoded properly
+		for (int i=text.length()-1; i>=0; i-=997) {
+			Assertions.assertEquals(text.charAt(i), content.charAt(i), "offset " + i);
+		}
+		for (int i=0; i<text.length(); i++) {
+			Assertions.assertEquals(text.charAt(i), content.charAt(i), "offset " + i);
+		}
+		Assertions.assertEquals('\n', content.charAt(text.length()));
+
+		Assertions.assertThrows(BadLocationException.class, () -> content.charAt(-1));
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.charAt(content.length()));
+
+	}
+
+
+	@Test
+	void testClose() throws Exception {
+
+		String text = createText("\n");
+		MappedFileContent content = createContent(text, StandardCharsets.UTF_8);
+		Assertions.assertEquals(text.charAt(0), content.charAt(0));
+		content.close();
+		content.close(); // Does nothing
+
+		Assertions.assertEquals(text.length() + 1, content.length());
+		Assertions.assertThrows(IllegalStateException.class, () ->
+			content.charAt(text.length() - 1));
+
+	}
+
+
+	@Test
+	void testConstructor_bom() throws Exception {
+
+		byte[] bom = { (byte)0xef, (byte)0xbb, (byte)0xbf };
+		byte[] text = "héllo".getBytes(StandardCharsets.UTF_8);
+		byte[] bytes = new byte[bom.length + text.length];
+		System.arraycopy(bom, 0, bytes, 0, bom.length);
+		System.arraycopy(text, 0, bytes, bom.length, text.length);
+
+		// The BOM overrides the default encoding, and is skipped
+		MappedFileContent content = createContent(bytes, "ISO-8859-1");
+		Assertions.assertEquals("UTF-8", content.getEncoding());
+		Assertions.assertEquals("héllo\n", content.getString(0, content.length()));
+
+	}
+
+
+	@Test
+	void testConstructor_emptyFile() throws Exception {
+		MappedFileContent content = createContent(new byte[0], "UTF-8");
+		Assertions.assertEquals(1, content.length());
+		Assertions.assertEquals("\n", content.getString(0, 1));
+		Assertions.assertNull(content.getLineSeparator());
+	}
+
+
+	@Test
+	void testConstructor_carriageReturns() throws Exception {
+
+		// Windows can't end with a '\r' that might be part of a "\r\n"
+		String text = "\r".repeat(MappedFileContent.WINDOW_SIZE * 2) + "\r\nx\r";
+		for (Charset charset : new Charset[] { StandardCharsets.UTF_8,
+				StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16BE }) {
+			MappedFileContent content = createContent(text, charset);
+			Assertions.assertTrue(content.getWindowCount()>2);
+			Assertions.assertEquals(text.replace("\r\n", "\n") + "\n",
+					content.getString(0, content.length()), charset.name());
+		}
+
+	}
+
+
+	@Test
+	void testConstructor_malformedUtf8() throws Exception {
+
+		// Malformed bytes are replaced, just like when the file is loaded
+		byte[] text = createText("\r\n").getBytes(StandardCharsets.UTF_8);
+		byte[] bytes = new byte[text.length + 4];
+		System.arraycopy(text, 0, bytes, 0, text.length);
+		bytes[100] = (byte)0xff;
+		bytes[bytes.length - 4] = (byte)0xed; // A surrogate
+		bytes[bytes.length - 3] = (byte)0xa0;
+		bytes[bytes.length - 2] = (byte)0x80;
+		bytes[bytes.length - 1] = (byte)0xe2; // Truncated
+
+		MappedFileContent content = createContent(bytes, "UTF-8");
+		String expected = new String(bytes, StandardCharsets.UTF_8).
+				replace("\r\n", "\n");
+		Assertions.assertEquals("\r\n", content.getLineSeparator());
+		assertDocument(expected, content);
+
+	}
+
+
+	@Test
+	void testConstructor_singleByteEncoding() throws Exception {
+
+		String text = createText("\r\n").replace('€', '¤');
+		MappedFileContent content = createContent(text, StandardCharsets.ISO_8859_1);
+		Assertions.assertTrue(content.getWindowCount()>1);
+		Assertions.assertEquals("\r\n", content.getLineSeparator());
+		assertDocument(text.replace("\r\n", "\n"), content);
+
+	}
+
+
+	@Test
+	void testConstructor_supplementaryChars() throws Exception {
+
+		// Surrogate pairs are never split between windows
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; sb.length()<MappedFileContent.WINDOW_SIZE * 3; i++) {
+			sb.append("\uD83D\uDE00".repeat(i%20)).append('x').append('\n');
+		}
+		String text = sb.toString();
+		MappedFileContent content = createContent(text, StandardCharsets.UTF_8);
+		Assertions.assertTrue(content.getWindowCount()>2);
+		assertDocument(text, content);
+
+	}
+
+
+	@Test
+	void testConstructor_utf16() throws Exception {
+		String text = createText("\r\n");
+		MappedFileContent content = createContent(text, StandardCharsets.UTF_16LE);
+		Assertions.assertEquals(text.replace("\r\n", "\n") + "\n",
+				content.getString(0, content.length()));
+	}
+
+
+	@Test
+	void testCreatePosition() throws Exception {
+		MappedFileContent content = createContent("hello", StandardCharsets.UTF_8);
+		Position pos = content.createPosition(3);
+		Assertions.assertEquals(3, pos.getOffset());
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.createPosition(content.length() + 1));
+	}
+
+
+	@Test
+	void testDocument() throws Exception {
+
+		String text = createText("\r\n");
+		MappedFileContent content = createContent(text, StandardCharsets.UTF_8);
+		RDocument doc = new RDocument(content, true);
+
+		String expected = text.replace("\r\n", "\n");
+		Assertions.assertEquals(expected.length(), doc.getLength());
+		Assertions.assertEquals(expected, doc.getText(0, doc.getLength()));
+
+		Element root = doc.getDefaultRootElement();
+		String[] lines = expected.split("\n");
+		Assertions.assertEquals(lines.length + 1, root.getElementCount());
+		int offs = 0;
+		for (int i=0; i<lines.length; i++) {
+			Element line = root.getElement(i);
+			Assertions.assertEquals(offs, line.getStartOffset(), "line " + i);
+			offs += lines[i].length() + 1;
+			Assertions.assertEquals(offs, line.getEndOffset(), "line " + i);
+		}
+
+		Assertions.assertThrows(BadLocationException.class, () ->
+			doc.insertString(0, "x", null));
+		Assertions.assertThrows(BadLocationException.class, () ->
+			doc.remove(0, 1));
+		Assertions.assertEquals(expected, doc.getText(0, doc.getLength()));
+
+	}
+
+
+	@Test
+	void testGetChars() throws Exception {
+
+		String text = createText("\n");
+		MappedFileContent content = createContent(text, StandardCharsets.UTF_8);
+
+		// Text in a single window is handed out directly
+		Segment s = new Segment();
+		content.getChars(5, 10, s);
+		Assertions.assertEquals(text.substring(5, 15), s.toString());
+		Assertions.assertTrue(s.array.length>10);
+
+		// Spanning windows
+		int offs = MappedFileContent.WINDOW_SIZE - 3;
+		content.getChars(offs, 6, s);
+		Assertions.assertEquals(text.substring(offs, offs + 6), s.toString());
+
+		// Unless a partial return is requested
+		s.setPartialReturn(true);
+		content.getChars(offs, 6, s);
+		Assertions.assertEquals(text.substring(offs, offs + 3), s.toString());
+
+		content.getChars(3, 0, s);
+		Assertions.assertEquals(0, s.count);
+
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.getChars(content.length(), 1, new Segment()));
+
+	}
+
+
+	@Test
+	void testGetLineSeparator() throws Exception {
+		Assertions.assertEquals("\r\n", createContent("a\r\nb\nc",
+				StandardCharsets.UTF_8).getLineSeparator());
+		Assertions.assertEquals("\n", createContent("a\nb\r\nc",
+				StandardCharsets.UTF_8).getLineSeparator());
+		Assertions.assertNull(createContent("abc",
+				StandardCharsets.UTF_8).getLineSeparator());
+	}
+
+
+	@Test
+	void testGetString() throws Exception {
+
+		String text = createText("\r\n");
+		MappedFileContent content = createContent(text, StandardCharsets.UTF_8);
+		String expected = text.replace("\r\n", "\n") + "\n";
+
+		Assertions.assertEquals(expected, content.getString(0, content.length()));
+		int offs = MappedFileContent.WINDOW_SIZE * 2 - 7;
+		Assertions.assertEquals(expected.substring(offs, offs + 20),
+				content.getString(offs, 20));
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.getString(0, content.length() + 1));
+
+	}
+
+
+	@Test
+	void testInsertString() throws Exception {
+		MappedFileContent content = createContent("hello", StandardCharsets.UTF_8);
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.insertString(0, "x"));
+		Assertions.assertEquals("hello\n", content.getString(0, content.length()));
+	}
+
+
+	@Test
+	void testIsMapped() throws Exception {
+
+		File file = File.createTempFile("unitTest", ".tmp");
+		file.deleteOnExit();
+		Files.writeString(file.toPath(), "lorem ipsum");
+		Assertions.assertFalse(MappedFileContent.isMapped(file));
+
+		MappedFileContent content = new MappedFileContent(file, "UTF-8");
+		Assertions.assertTrue(MappedFileContent.isMapped(file));
+		Assertions.assertTrue(MappedFileContent.isMapped(
+				new File(file.getParentFile(), "./" + file.getName())));
+		content.close();
+		Assertions.assertFalse(MappedFileContent.isMapped(file));
+
+		Assertions.assertFalse(MappedFileContent.isMapped(
+				new File(file.getParentFile(), "doesNotExist.txt")));
+
+	}
+
+
+	@Test
+	void testRemove() throws Exception {
+		MappedFileContent content = createContent("hello", StandardCharsets.UTF_8);
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.remove(0, 1));
+		Assertions.assertEquals("hello\n", content.getString(0, content.length()));
+	}
+
+
+}
@@ -0,0 +1,327 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rtextarea;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Random;
+import javax.swing.text.BadLocationException;
+import javax.swing.text.Element;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.UndoManager;
+import javax.swing.undo.UndoableEdit;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+
+/**
+ * Unit tests for the {@link PieceTableContent} class.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+class PieceTableContentTest {
+
+
+	private static void assertSameDocuments(RDocument expected, RDocument actual)
+			throws BadLocationException {
+
+		Assertions.assertEquals(expected.getLength(), actual.getLength());
+		Assertions.assertEquals(expected.getText(0, expected.getLength()),
+				actual.getText(0, actual.getLength()));
+
+		Element expectedRoot = expected.getDefaultRootElement();
+		Element actualRoot = actual.getDefaultRootElement();
+		Assertions.assertEquals(expectedRoot.getElementCount(), actualRoot.getElementCount());
+		for (int i=0; i<expectedRoot.getElementCount(); i++) {
+			Element e = expectedRoot.getElement(i);
+			Element a = actualRoot.getElement(i);
+			Assertions.assertEquals(e.getStartOffset(), a.getStartOffset(), "line " + i);
+			Assertions.assertEquals(e.getEndOffset(), a.getEndOffset(), "line " + i);
+		}
+
+	}
+
+
+	private static PieceTableContent createContent(String text)
+			throws BadLocationException {
+		PieceTableContent content = new PieceTableContent();
+		content.insertString(0, text);
+		return content;
+	}
+
+
+	@Test
+	void testConstructor() throws Exception {
+		PieceTableContent content = new PieceTableContent();
+		Assertions.assertEquals(1, content.length());
+		Assertions.assertEquals("\n", content.getString(0, 1));
+	}
+
+
+	@Test
+	void testCharAt() throws Exception {
+
+		PieceTableContent content = createContent("world");
+		content.insertString(0, "hello ");
+		String expected = "hello world\n";
+
+		for (int i=0; i<expected.length(); i++) {
+			Assertions.assertEquals(expected.charAt(i), content.charAt(i));
+		}
+		Assertions.assertThrows(BadLocationException.class, () -> content.charAt(-1));
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.charAt(expected.length()));
+
+	}
+
+
+	@Test
+	void testCreatePosition() throws Exception {
+
+		PieceTableContent content = createContent("0123456789");
+		Position zero = content.createPosition(0);
+		Position five = content.createPosition(5);
+		Assertions.assertSame(five, content.createPosition(5));
+
+		// Positions at the insertion point move, except at offset 0
+		content.insertString(5, "ab");
+		content.insertString(0, "cd");
+		Assertions.assertEquals(0, zero.getOffset());
+		Assertions.assertEquals(9, five.getOffset());
+
+		// Positions in removed text move to the start of the removal
+		content.remove(8, 2);
+		Assertions.assertEquals(8, five.getOffset());
+
+		// ... and are restored on undo
+		content.insertString(9, "x");
+		UndoableEdit edit = content.remove(7, 3);
+		Assertions.assertEquals(7, five.getOffset());
+		edit.undo();
+		Assertions.assertEquals(8, five.getOffset());
+
+		Assertions.assertThrows(BadLocationException.class, () -> content.createPosition(-1));
+
+	}
+
+
+	@Test
+	void testGetChars() throws Exception {
+
+		PieceTableContent content = createContent("world");
+		content.insertString(0, "hello ");
+
+		// Within a single piece, no copy is made
+		Segment s = new Segment();
+		content.getChars(6, 5, s);
+		Assertions.assertEquals("world", s.toString());
+
+		// Spanning pieces, a copy is made
+		content.getChars(3, 6, s);
+		Assertions.assertEquals("lo wor", s.toString());
+		Assertions.assertEquals(0, s.offset);
+
+		// Unless a partial return is requested
+		s.setPartialReturn(true);
+		content.getChars(3, 6, s);
+		Assertions.assertEquals("lo ", s.toString());
+
+		content.getChars(3, 0, s);
+		Assertions.assertEquals(0, s.count);
+
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.getChars(10, 5, new Segment()));
+
+	}
+
+
+	@Test
+	void testGetString() throws Exception {
+		PieceTableContent content = createContent("world");
+		content.insertString(0, "hello ");
+		Assertions.assertEquals("hello world\n", content.getString(0, content.length()));
+		Assertions.assertEquals("o w", content.getString(4, 3));
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.getString(0, content.length() + 1));
+	}
+
+
+	@Test
+	void testInsertString_largerThanBlock() throws Exception {
+
+		StringBuilder sb = new StringBuilder();
+		for (int i=0; i<PieceTableContent.BLOCK_SIZE + 10; i++) {
+			sb.append((char)('a' + i%26));
+		}
+		String text = sb.toString();
+
+		PieceTableContent content = createContent("xy");
+		content.insertString(1, text);
+		Assertions.assertEquals("x" + text + "y\n", content.getString(0, content.length()));
+
+	}
+
+
+	@Test
+	void testInsertString_invalidOffset() {
+		PieceTableContent content = new PieceTableContent();
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.insertString(2, "x"));
+	}
+
+
+	@Test
+	void testInsertString_typingReusesPiece() throws Exception {
+
+		PieceTableContent content = createContent("0123456789");
+		int pieceCount = content.getPieceCount();
+
+		for (int i=0; i<100; i++) {
+			content.insertString(5 + i, "x");
+		}
+		Assertions.assertEquals(pieceCount + 2, content.getPieceCount());
+
+	}
+
+
+	@Test
+	void testRemove() throws Exception {
+
+		PieceTableContent content = createContent("0123456789");
+		content.insertString(5, "abc");
+		content.remove(3, 7);
+		Assertions.assertEquals("012789\n", content.getString(0, content.length()));
+
+		UndoableEdit edit = content.remove(0, 2);
+		Assertions.assertEquals("2789\n", content.getString(0, content.length()));
+		edit.undo();
+		Assertions.assertEquals("012789\n", content.getString(0, content.length()));
+		edit.redo();
+		Assertions.assertEquals("2789\n", content.getString(0, content.length()));
+
+	}
+
+
+	@Test
+	void testRemove_trailingNewline() throws Exception {
+		PieceTableContent content = createContent("abc");
+		Assertions.assertThrows(BadLocationException.class, () ->
+			content.remove(2, 2));
+	}
+
+
+	@Test
+	void testRandomEdits_sameAsGapContent() throws Exception {
+
+		RDocument expected = new RDocument();
+		RDocument actual = new RDocument(new PieceTableContent());
+		UndoManager expectedUndo = new UndoManager();
+		UndoManager actualUndo = new UndoManager();
+		expectedUndo.setLimit(-1);
+		actualUndo.setLimit(-1);
+		expected.addUndoableEditListener(expectedUndo);
+		actual.addUndoableEditListener(actualUndo);
+
+		String[] strings = { "a", "bc", "\n", "line\nline\n", "\n\nxyz" };
+		Random random = new Random(7);
+
+		for (int i=0; i<3000; i++) {
+			int len = expected.getLength();
+			int op = random.nextInt(10);
+			if (op<5) {
+				int offs = random.nextInt(len + 1);
+				String str = strings[random.nextInt(strings.length)];
+				expected.insertString(offs, str, null);
+				actual.insertString(offs, str, null);
+			}
+			else if (op<8) {
+				if (len>0) {
+					int offs = random.nextInt(len);
+					int count = 1 + random.nextInt(Math.min(20, len - offs));
+					expected.remove(offs, count);
+					actual.remove(offs, count);
+				}
+			}
+			else if (op<9) {
+				if (expectedUndo.canUndo()) {
+					expectedUndo.undo();
+					actualUndo.undo();
+				}
+			}
+			else if (expectedUndo.canRedo()) {
+				expectedUndo.redo();
+				actualUndo.redo();
+			}
+			if (i%100==0) {
+				assertSameDocuments(expected, actual);
+			}
+		}
+		assertSameDocuments(expected, actual);
+
+		while (expectedUndo.canUndo()) {
+			expectedUndo.undo();
+			actualUndo.undo();
+		}
+		assertSameDocuments(expected, actual);
+		Assertions.assertEquals(0, actual.getLength());
+
+	}
+
+
+	@Test
+	void testSerialization() throws Exception {
+
+		PieceTableContent content = createContent("world");
+		content.insertString(0, "hello ");
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(baos)) {
+			out.writeObject(content);
+		}
+		PieceTableContent content2;
+		try (ObjectInputStream in = new ObjectInputStream(
+				new ByteArrayInputStream(baos.toByteArray()))) {
+			content2 = (PieceTableContent)in.readObject();
+		}
+
+		Assertions.assertEquals("hello world\n", content2.getString(0, content2.length()));
+		content2.insertString(5, ",");
+		Assertions.assertEquals("hello, world\n", content2.getString(0, content2.length()));
+
+	}
+
+
+	@Test
+	void testSetPendingInsert() throws Exception {
+
+		PieceTableContent content = createContent("xy");
+		char[] chars = "abc".toCharArray();
+		content.setPendingInsert(chars);
+		UndoableEdit edit = content.insertString(1, "abc");
+		Assertions.assertEquals("xabcy\n", content.getString(0, content.length()));
+
+		// The array itself is used, and only for that insertion
+		Segment s = new Segment();
+		content.getChars(1, 3, s);
+		Assertions.assertSame(chars, s.array);
+		content.insertString(0, "z");
+		content.getChars(0, 1, s);
+		Assertions.assertNotSame(chars, s.array);
+
+		content.remove(0, 1);
+		edit.undo();
+		Assertions.assertEquals("xy\n", content.getString(0, content.length()));
+		edit.redo();
+		Assertions.assertEquals("xabcy\n", content.getString(0, content.length()));
+
+	}
+
+
+}
@@ -4,7 +4,16 @@
  */
 package org.fife.ui.rtextarea;
 
+import java.util.ArrayList;
+import java.util.List;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
+import javax.swing.text.AttributeSet;
 import javax.swing.text.BadLocationException;
+import javax.swing.text.DocumentFilter;
+import javax.swing.text.Position;
+import javax.swing.text.Segment;
+import javax.swing.undo.UndoManager;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -49,6 +58,21 @@ class RDocumentTest {
 	}
 
 
+	@Test
+	void testCharAt_PieceTableContent() throws Exception {
+
+		RDocument doc = new RDocument(new PieceTableContent());
+		doc.insertString(0, "Hello world", null);
+		doc.insertString(6, "there ", null);
+
+		String expected = "Hello there world";
+		Assertions.assertEquals(expected, doc.getText(0, doc.getLength()));
+		for (int i=0; i<expected.length(); i++) {
+			Assertions.assertEquals(expected.charAt(i), doc.charAt(i));
+		}
+	}
+
+
 	@Test
 	void testCharAt_Invalid_NegativeOffset() {
 
@@ -79,4 +103,84 @@ class RDocumentTest {
 	}
 
 
+	@Test
+	void testInsertChars() throws Exception {
+
+		RDocument doc = new RDocument();
+		doc.insertString(0, "Hello world", null);
+		Position pos = doc.createPosition(6);
+		UndoManager undoManager = new UndoManager();
+		doc.addUndoableEditListener(undoManager);
+		List<DocumentEvent> events = new ArrayList<>();
+		doc.addDocumentListener(new DocumentListener() {
+			@Override
+			public void changedUpdate(DocumentEvent e) {
+			}
+			@Override
+			public void insertUpdate(DocumentEvent e) {
+				events.add(e);
+			}
+			@Override
+			public void removeUpdate(DocumentEvent e) {
+			}
+		});
+
+		char[] chars = "there\nyou xxx".toCharArray();
+		doc.insertChars(6, chars, 10);
+		Assertions.assertEquals("Hello there\nyou world", doc.getText(0, doc.getLength()));
+		Assertions.assertEquals(16, pos.getOffset());
+		Assertions.assertEquals(2, doc.getDefaultRootElement().getElementCount());
+		Assertions.assertEquals(1, events.size());
+		Assertions.assertEquals(6, events.get(0).getOffset());
+		Assertions.assertEquals(10, events.get(0).getLength());
+
+		undoManager.undo();
+		Assertions.assertEquals("Hello world", doc.getText(0, doc.getLength()));
+		Assertions.assertEquals(6, pos.getOffset());
+		undoManager.redo();
+		Assertions.assertEquals("Hello there\nyou world", doc.getText(0, doc.getLength()));
+		Assertions.assertEquals(16, pos.getOffset());
+
+		Assertions.assertThrows(BadLocationException.class, () ->
+			doc.insertChars(100, chars, 1));
+
+	}
+
+
+	@Test
+	void testInsertChars_documentFilter() throws Exception {
+
+		RDocument doc = new RDocument();
+		doc.setDocumentFilter(new DocumentFilter() {
+			@Override
+			public void insertString(FilterBypass fb, int offset, String string,
+					AttributeSet attr) throws BadLocationException {
+				super.insertString(fb, offset, string.toUpperCase(), attr);
+			}
+		});
+
+		doc.insertChars(0, "hello".toCharArray(), 5);
+		Assertions.assertEquals("HELLO", doc.getText(0, doc.getLength()));
+
+	}
+
+
+	@Test
+	void testInsertChars_pieceTableContent() throws Exception {
+
+		PieceTableContent content = new PieceTableContent();
+		RDocument doc = new RDocument(content, true);
+		char[] chars = "Hello\nworld".toCharArray();
+		doc.insertChars(0, chars, chars.length);
+		Assertions.assertEquals("Hello\nworld", doc.getText(0, doc.getLength()));
+		Assertions.assertEquals(2, doc.getDefaultRootElement().getElementCount());
+
+		// The array itself is used, rather than a copy of it
+		Segment s = new Segment();
+		doc.getText(0, 5, s);
+		Assertions.assertSame(chars, s.array);
+
+	}
+
+
 }
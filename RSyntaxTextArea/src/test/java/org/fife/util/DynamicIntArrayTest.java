@@ -4,6 +4,10 @@
  */
 package org.fife.util;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +33,14 @@ class DynamicIntArrayTest {
 	}
 
 
+	@Test
+	void testIntArgConstructor_zeroCapacity() {
+		DynamicIntArray array = new DynamicIntArray(0);
+		array.add(4);
+		Assertions.assertArrayEquals(new int[] { 4 }, toArray(array));
+	}
+
+
 	@Test
 	void testIntArgConstructor_invalidCapacity() {
 		Assertions.assertThrows(IllegalArgumentException.class, () -> new DynamicIntArray(-1));
@@ -129,6 +141,17 @@ class DynamicIntArrayTest {
 	}
 
 
+	@Test
+	void testContains_gapInMiddle() {
+		DynamicIntArray array = new DynamicIntArray(new int[] { 1, 2, 3, 4 });
+		array.remove(1); // Move the gap into the middle
+		Assertions.assertTrue(array.contains(1));
+		Assertions.assertFalse(array.contains(2));
+		Assertions.assertTrue(array.contains(3));
+		Assertions.assertTrue(array.contains(4));
+	}
+
+
 	@Test
 	void testDecrement() {
 		DynamicIntArray array = new DynamicIntArray(new int[] { 7, 7, 7, 7, 7 });
@@ -241,6 +264,31 @@ class DynamicIntArrayTest {
 	}
 
 
+	@Test
+	void testInsertRange_intArray() {
+		DynamicIntArray array = new DynamicIntArray(new int[] { 7, 7 });
+		array.insertRange(1, new int[] { 1, 2, 3 });
+		Assertions.assertArrayEquals(new int[] { 7, 1, 2, 3, 7 }, toArray(array));
+	}
+
+
+	@Test
+	void testInsertRange_intArraySubrange() {
+		DynamicIntArray array = new DynamicIntArray(new int[] { 7, 7 });
+		array.insertRange(2, new int[] { 1, 2, 3, 4 }, 1, 2);
+		Assertions.assertArrayEquals(new int[] { 7, 7, 2, 3 }, toArray(array));
+	}
+
+
+	@Test
+	void testInsertRange_intArray_error_offsetTooLarge() {
+		DynamicIntArray array = new DynamicIntArray(new int[] { 7, 7, 7, 7, 7 });
+		Assertions.assertThrows(IndexOutOfBoundsException.class, () ->
+			array.insertRange(9999, new int[] { 1 })
+		);
+	}
+
+
 	@Test
 	void testIsEmpty() {
 		DynamicIntArray array = new DynamicIntArray();
@@ -345,6 +393,68 @@ class DynamicIntArrayTest {
 	}
 
 
+	@Test
+	void testRandomEdits() {
+
+		Random random = new Random(42);
+		DynamicIntArray array = new DynamicIntArray(4);
+		List<Integer> expected = new ArrayList<>();
+
+		for (int i=0; i<5000; i++) {
+			int size = expected.size();
+			int index = random.nextInt(size + 1);
+			switch (random.nextInt(6)) {
+				case 0:
+					array.add(index, i);
+					expected.add(index, i);
+					break;
+				case 1:
+					int count = random.nextInt(20);
+					array.insertRange(index, count, i);
+					for (int j=0; j<count; j++) {
+						expected.add(index, i);
+					}
+					break;
+				case 2:
+					int[] values = { i, i+1, i+2 };
+					array.insertRange(index, values, 1, 2);
+					expected.add(index, i+2);
+					expected.add(index, i+1);
+					break;
+				case 3:
+					if (index<size) {
+						int end = Math.min(size, index + random.nextInt(20));
+						array.removeRange(index, end);
+						expected.subList(index, end).clear();
+					}
+					break;
+				case 4:
+					if (index<size) {
+						int end = Math.min(size, index + random.nextInt(20));
+						array.increment(index, end);
+						for (int j=index; j<end; j++) {
+							expected.set(j, expected.get(j) + 1);
+						}
+					}
+					break;
+				default:
+					if (index<size) {
+						array.set(index, -i);
+						expected.set(index, -i);
+					}
+					break;
+			}
+		}
+
+		Assertions.assertEquals(expected.size(), array.getSize());
+		for (int i=0; i<expected.size(); i++) {
+			Assertions.assertEquals(expected.get(i), array.get(i));
+			Assertions.assertEquals(expected.get(i), array.getUnsafe(i));
+		}
+
+	}
+
+
 	@Test
 	void testSetUnsafe_happyPath() {
 		DynamicIntArray array = new DynamicIntArray(new int[] { 1, 2, 3 });
@@ -361,4 +471,15 @@ class DynamicIntArrayTest {
 			array.setUnsafe(9, 2)
 		);
 	}
+
+
+	private static int[] toArray(DynamicIntArray array) {
+		int[] result = new int[array.getSize()];
+		for (int i=0; i<result.length; i++) {
+			result[i] = array.get(i);
+		}
+		return result;
+	}
+
+
 }
@@ -0,0 +1,295 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.SyntaxConstants;
+import org.fife.ui.rsyntaxtextarea.Token;
+import org.fife.ui.rsyntaxtextarea.TokenMaker;
+import org.fife.ui.rsyntaxtextarea.TokenMakerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Benchmarks every {@code TokenMaker} registered with the default
+ * {@link TokenMakerFactory}.<p>
+ *
+ * Each benchmark operation tokenizes a single line of a corpus, cycling
+ * through its lines, so the primary score is lines per second.  When run
+ * with the GC profiler (the default in this module's build), the
+ * {@code gc.alloc.rate.norm} secondary score is the bytes allocated per
+ * line.<p>
+ *
+ * Java, PHP, JSP, HTML, SQL, JSON and (minified) JavaScript are measured
+ * against realistic corpora bundled with this module.  Other languages use
+ * the example files from the demo application, or the Java corpus if there
+ * isn't one.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TokenMakerBenchmark {
+
+	private static final String CORPORA = "corpora/";
+
+	private static final String DEMO_EXAMPLES = "/org/fife/ui/rsyntaxtextarea/demo/";
+
+	/**
+	 * Maps syntax styles to the resource to tokenize for them.  Styles not
+	 * in this map use the Java corpus.
+	 */
+	private static final Map<String, String> CORPUS_RESOURCES = new HashMap<>();
+
+	@Param({
+		SyntaxConstants.SYNTAX_STYLE_NONE,
+		SyntaxConstants.SYNTAX_STYLE_ACTIONSCRIPT,
+		SyntaxConstants.SYNTAX_STYLE_ASSEMBLER_X86,
+		SyntaxConstants.SYNTAX_STYLE_ASSEMBLER_6502,
+		SyntaxConstants.SYNTAX_STYLE_BBCODE,
+		SyntaxConstants.SYNTAX_STYLE_C,
+		SyntaxConstants.SYNTAX_STYLE_CLOJURE,
+		SyntaxConstants.SYNTAX_STYLE_CPLUSPLUS,
+		SyntaxConstants.SYNTAX_STYLE_CSHARP,
+		SyntaxConstants.SYNTAX_STYLE_CSS,
+		SyntaxConstants.SYNTAX_STYLE_CSV,
+		SyntaxConstants.SYNTAX_STYLE_D,
+		SyntaxConstants.SYNTAX_STYLE_DOCKERFILE,
+		SyntaxConstants.SYNTAX_STYLE_DART,
+		SyntaxConstants.SYNTAX_STYLE_DELPHI,
+		SyntaxConstants.SYNTAX_STYLE_DTD,
+		SyntaxConstants.SYNTAX_STYLE_ENV,
+		SyntaxConstants.SYNTAX_STYLE_FORTRAN,
+		SyntaxConstants.SYNTAX_STYLE_GO,
+		SyntaxConstants.SYNTAX_STYLE_GROOVY,
+		SyntaxConstants.SYNTAX_STYLE_HANDLEBARS,
+		SyntaxConstants.SYNTAX_STYLE_HOSTS,
+		SyntaxConstants.SYNTAX_STYLE_HTACCESS,
+		SyntaxConstants.SYNTAX_STYLE_HTML,
+		SyntaxConstants.SYNTAX_STYLE_INI,
+		SyntaxConstants.SYNTAX_STYLE_JAVA,
+		SyntaxConstants.SYNTAX_STYLE_JAVASCRIPT,
+		SyntaxConstants.SYNTAX_STYLE_JSON,
+		SyntaxConstants.SYNTAX_STYLE_JSON_WITH_COMMENTS,
+		SyntaxConstants.SYNTAX_STYLE_JSP,
+		SyntaxConstants.SYNTAX_STYLE_KOTLIN,
+		SyntaxConstants.SYNTAX_STYLE_LATEX,
+		SyntaxConstants.SYNTAX_STYLE_LESS,
+		SyntaxConstants.SYNTAX_STYLE_LISP,
+		SyntaxConstants.SYNTAX_STYLE_LUA,
+		SyntaxConstants.SYNTAX_STYLE_MAKEFILE,
+		SyntaxConstants.SYNTAX_STYLE_MARKDOWN,
+		SyntaxConstants.SYNTAX_STYLE_MXML,
+		SyntaxConstants.SYNTAX_STYLE_NSIS,
+		SyntaxConstants.SYNTAX_STYLE_PERL,
+		SyntaxConstants.SYNTAX_STYLE_PHP,
+		SyntaxConstants.SYNTAX_STYLE_POWERSHELL,
+		SyntaxConstants.SYNTAX_STYLE_PROTO,
+		SyntaxConstants.SYNTAX_STYLE_PROPERTIES_FILE,
+		SyntaxConstants.SYNTAX_STYLE_PYTHON,
+		SyntaxConstants.SYNTAX_STYLE_RUBY,
+		SyntaxConstants.SYNTAX_STYLE_RUST,
+		SyntaxConstants.SYNTAX_STYLE_SAS,
+		SyntaxConstants.SYNTAX_STYLE_SCALA,
+		SyntaxConstants.SYNTAX_STYLE_SQL,
+		SyntaxConstants.SYNTAX_STYLE_TCL,
+		SyntaxConstants.SYNTAX_STYLE_TYPESCRIPT,
+		SyntaxConstants.SYNTAX_STYLE_UNIX_SHELL,
+		SyntaxConstants.SYNTAX_STYLE_VISUAL_BASIC,
+		SyntaxConstants.SYNTAX_STYLE_VHDL,
+		SyntaxConstants.SYNTAX_STYLE_WINDOWS_BATCH,
+		SyntaxConstants.SYNTAX_STYLE_XML,
+		SyntaxConstants.SYNTAX_STYLE_YAML
+	})
+	private String syntaxStyle;
+
+	private TokenMaker tokenMaker;
+
+	/**
+	 * The lines of the corpus, all sharing a single backing array.
+	 */
+	private Segment[] lines;
+
+	/**
+	 * The token type at the start of each line, i.e. the last token type
+	 * of the line before it.
+	 */
+	private int[] initialTokenTypes;
+
+	private int line;
+
+	static {
+
+		// Bundled corpora
+		CORPUS_RESOURCES.put(SyntaxConstants.SYNTAX_STYLE_HTML, CORPORA + "html.txt");
+		CORPUS_RESOURCES.put(SyntaxConstants.SYNTAX_STYLE_JAVASCRIPT, CORPORA + "minified-js.txt");
+		CORPUS_RESOURCES.put(SyntaxConstants.SYNTAX_STYLE_JSON, CORPORA + "json.txt");
+		CORPUS_RESOURCES.put(SyntaxConstants.SYNTAX_STYLE_JSON_WITH_COMMENTS, CORPORA + "json.txt");
+		CORPUS_RESOURCES.put(SyntaxConstants.SYNTAX_STYLE_JSP, CORPORA + "jsp.txt");
+		CORPUS_RESOURCES.put(SyntaxConstants.SYNTAX_STYLE_PHP, CORPORA + "php.txt");
+		CORPUS_RESOURCES.put(SyntaxConstants.SYNTAX_STYLE_SQL, CORPORA + "sql.txt");
+
+		// The demo application's examples
+		String[][] examples = {
+			{ SyntaxConstants.SYNTAX_STYLE_NONE, "NoneExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_ACTIONSCRIPT, "ActionScriptExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_ASSEMBLER_6502, "Assembler6502.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_C, "CExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_CLOJURE, "ClojureExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_CSHARP, "CSharpExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_CSS, "CssExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_DOCKERFILE, "DockerfileExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_DTD, "XMLExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_ENV, "EnvExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_GO, "GoExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_HANDLEBARS, "HandlebarsExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_HOSTS, "HostsExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_INI, "IniExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_KOTLIN, "KotlinExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_LATEX, "LatexExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_LESS, "LessExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_MARKDOWN, "MarkdownExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_MXML, "XMLExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_PERL, "PerlExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_POWERSHELL, "PowerShellExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_PROPERTIES_FILE, "IniExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_PROTO, "ProtoExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_PYTHON, "PythonExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_RUBY, "RubyExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_RUST, "RustExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_TYPESCRIPT, "TypeScriptExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_VHDL, "VhdlExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_XML, "XMLExample.txt" },
+			{ SyntaxConstants.SYNTAX_STYLE_YAML, "YamlExample.txt" },
+		};
+		for (String[] example : examples) {
+			CORPUS_RESOURCES.put(example[0], DEMO_EXAMPLES + example[1]);
+		}
+
+	}
+
+
+	/**
+	 * Tokenizes the next line of the corpus, returning the type of its last
+	 * token.
+	 *
+	 * @return The last token type on the line.
+	 */
+	@Benchmark
+	public int getLastTokenTypeOnLine() {
+		int i = nextLine();
+		return tokenMaker.getLastTokenTypeOnLine(lines[i], initialTokenTypes[i]);
+	}
+
+
+	/**
+	 * Tokenizes the next line of the corpus.
+	 *
+	 * @return The tokens on the line.
+	 */
+	@Benchmark
+	public Token getTokenList() {
+		int i = nextLine();
+		return tokenMaker.getTokenList(lines[i], initialTokenTypes[i], 0);
+	}
+
+
+	/**
+	 * Returns the text of the corpus for {@link #syntaxStyle}.
+	 *
+	 * @return The corpus.
+	 * @throws IOException If an IO error occurs.
+	 */
+	private String loadCorpus() throws IOException {
+
+		String resource = CORPUS_RESOURCES.getOrDefault(syntaxStyle,
+				CORPORA + "java.txt");
+
+		try (InputStream in = TokenMakerBenchmark.class.getResourceAsStream(resource)) {
+			if (in == null) {
+				throw new IOException("Corpus not found: " + resource);
+			}
+			String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+			return text.replace("\r\n", "\n").replace('\r', '\n');
+		}
+
+	}
+
+
+	/**
+	 * Returns the index of the line to tokenize next.
+	 *
+	 * @return The line index.
+	 */
+	private int nextLine() {
+		int i = line;
+		line = i + 1 == lines.length ? 0 : i + 1;
+		return i;
+	}
+
+
+	/**
+	 * Creates the token maker and splits its corpus into lines.
+	 *
+	 * @throws IOException If the corpus cannot be loaded.
+	 */
+	@Setup
+	public void setUp() throws IOException {
+
+		tokenMaker = TokenMakerFactory.getDefaultInstance().getTokenMaker(syntaxStyle);
+
+		char[] text = loadCorpus().toCharArray();
+		List<Segment> segments = new ArrayList<>();
+		int start = 0;
+		for (int i = 0; i < text.length; i++) {
+			if (text[i] == '\n') {
+				segments.add(new Segment(text, start, i - start));
+				start = i + 1;
+			}
+		}
+		if (start < text.length) {
+			segments.add(new Segment(text, start, text.length - start));
+		}
+		lines = segments.toArray(new Segment[0]);
+
+		// Computed once up front, so each line is tokenized in the state the
+		// editor would see it in
+		initialTokenTypes = new int[lines.length];
+		int type = Token.NULL;
+		for (int i = 0; i < lines.length; i++) {
+			initialTokenTypes[i] = type;
+			type = tokenMaker.getLastTokenTypeOnLine(lines[i], type);
+		}
+
+		line = 0;
+
+	}
+
+
+}
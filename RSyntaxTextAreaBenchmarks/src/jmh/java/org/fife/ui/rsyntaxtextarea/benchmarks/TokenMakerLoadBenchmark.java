@@ -0,0 +1,112 @@
+/*
+ * This library is distributed under a modified BSD license.  See the included
+ * LICENSE file for details.
+ */
+package org.fife.ui.rsyntaxtextarea.benchmarks;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+import javax.swing.text.Segment;
+
+import org.fife.ui.rsyntaxtextarea.TokenMaker;
+import org.fife.ui.rsyntaxtextarea.TokenTypes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+
+/**
+ * Measures the cost of loading the largest JFlex-generated token makers,
+ * i.e. the time it takes to load and initialize one and tokenize its first
+ * line, which is what a user waits for when first opening a file of that
+ * type.<p>
+ *
+ * Each operation loads the token maker in a fresh class loader, so it pays
+ * for class loading and static initialization every time.  With the GC
+ * profiler (the default in this module's build), the
+ * {@code gc.alloc.rate.norm} secondary score is the bytes allocated per
+ * operation, an upper bound on the heap retained by the token maker's DFA
+ * tables.
+ *
+ * @author Robert Futrell
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 20)
+@Fork(5)
+@State(Scope.Thread)
+public class TokenMakerLoadBenchmark {
+
+	private static final String MODES_PACKAGE = "org.fife.ui.rsyntaxtextarea.modes.";
+
+	private static final char[] FIRST_LINE = "int x = 5; // A comment".toCharArray();
+
+	@Param({
+		"PHPTokenMaker",
+		"JSPTokenMaker",
+		"JavaTokenMaker",
+		"KotlinTokenMaker",
+		"GroovyTokenMaker"
+	})
+	private String tokenMakerClass;
+
+	private URLClassLoader loader;
+
+
+	/**
+	 * Closes the class loader used by the last operation.
+	 *
+	 * @throws IOException If an IO error occurs.
+	 */
+	@TearDown(Level.Iteration)
+	public void closeClassLoader() throws IOException {
+		loader.close();
+		loader = null;
+	}
+
+
+	/**
+	 * Creates a class loader that loads RSyntaxTextArea's classes anew.
+	 */
+	@Setup(Level.Iteration)
+	public void createClassLoader() {
+		URL library = TokenMaker.class.getProtectionDomain().getCodeSource().getLocation();
+		loader = new URLClassLoader(new URL[] { library },
+				ClassLoader.getPlatformClassLoader());
+	}
+
+
+	/**
+	 * Loads and creates the token maker, and tokenizes a line with it.
+	 *
+	 * @return The tokens on the line.
+	 * @throws ReflectiveOperationException If the token maker cannot be
+	 *         created.
+	 */
+	@Benchmark
+	public Object loadAndTokenizeFirstLine() throws ReflectiveOperationException {
+		Class<?> clazz = Class.forName(MODES_PACKAGE + tokenMakerClass, true, loader);
+		Object tokenMaker = clazz.getDeclaredConstructor().newInstance();
+		Method getTokenList = clazz.getMethod("getTokenList", Segment.class,
+				int.class, int.class);
+		Segment line = new Segment(FIRST_LINE, 0, FIRST_LINE.length);
+		return getTokenList.invoke(tokenMaker, line, TokenTypes.NULL, 0);
+	}
+
+
+}